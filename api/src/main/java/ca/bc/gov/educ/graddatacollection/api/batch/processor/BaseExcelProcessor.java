@@ -5,6 +5,8 @@ import ca.bc.gov.educ.graddatacollection.api.batch.constants.Headers;
 import ca.bc.gov.educ.graddatacollection.api.batch.exception.FileError;
 import ca.bc.gov.educ.graddatacollection.api.batch.exception.FileUnProcessableException;
 import ca.bc.gov.educ.graddatacollection.api.batch.struct.GradFileExcelProcessor;
+import ca.bc.gov.educ.graddatacollection.api.batch.struct.SpreadsheetRow;
+import ca.bc.gov.educ.graddatacollection.api.batch.struct.SpreadsheetRowReader;
 import ca.bc.gov.educ.graddatacollection.api.batch.validation.GradFileValidator;
 import ca.bc.gov.educ.graddatacollection.api.constants.v1.GradCollectionStatus;
 import ca.bc.gov.educ.graddatacollection.api.model.v1.ReportingPeriodEntity;
@@ -16,9 +18,6 @@ import ca.bc.gov.educ.graddatacollection.api.util.PenUtil;
 import lombok.extern.slf4j.Slf4j;
 import lombok.val;
 import org.apache.commons.lang3.StringUtils;
-import org.apache.poi.ss.usermodel.Cell;
-import org.apache.poi.ss.usermodel.DateUtil;
-import org.apache.poi.ss.usermodel.Row;
 import org.apache.poi.ss.usermodel.Sheet;
 
 import java.io.File;
@@ -26,7 +25,6 @@ import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
-import java.text.SimpleDateFormat;
 import java.time.LocalDate;
 import java.time.YearMonth;
 import java.time.format.DateTimeFormatter;
@@ -38,9 +36,6 @@ import java.util.*;
 public abstract class BaseExcelProcessor implements GradFileExcelProcessor {
     protected final ApplicationProperties applicationProperties;
     private static final List<String> MANDATORY_HEADERS = Arrays.stream(Headers.values()).map(Headers::getCode).toList();
-    private static final String STRING_TYPE = "String type :: {}";
-    private static final String DATE_TYPE = "Date type :: {}";
-    private static final String NUMBER_TYPE = "Number type :: {}";
     private final GradFileValidator gradFileValidator;
     private final ReportingPeriodService reportingPeriodService;
 
@@ -59,21 +54,19 @@ public abstract class BaseExcelProcessor implements GradFileExcelProcessor {
     }
 
     protected SummerStudentDataResponse processSheet(final Sheet sheet, final String schoolID, final String districtID, final String guid) throws FileUnProcessableException {
+        return this.processRows(new PoiSheetRowReader(sheet), schoolID, districtID, guid);
+    }
+
+    protected SummerStudentDataResponse processRows(final SpreadsheetRowReader rows, final String schoolID, final String districtID, final String guid) throws FileUnProcessableException {
         final Map<Integer, String> headersMap = new HashMap<>();
-        final int rowEnd = sheet.getLastRowNum();
         final List<SummerStudentData> summerStudents = new ArrayList<>();
         var reportingPeriod = reportingPeriodService.getActiveReportingPeriod();
-        if(sheet.getRow(0) == null) {
+        SpreadsheetRow r = rows.nextRow();
+        if (r == null || r.getRowNum() != 0) {
             throw new FileUnProcessableException(FileError.EMPTY_EXCEL_NOT_ALLOWED, guid, GradCollectionStatus.LOAD_FAIL);
         }
-        for (int rowNum = 0; rowNum <= rowEnd; rowNum++) {
-            final Row r = sheet.getRow(rowNum);
-            if (rowNum == 0 && r == null) {
-                throw new FileUnProcessableException(FileError.FILE_NOT_ALLOWED, guid, GradCollectionStatus.LOAD_FAIL);
-            } else if (r == null) {
-                log.warn("empty row at :: {}", rowNum);
-                continue;
-            }
+        for (; r != null; r = rows.nextRow()) {
+            final int rowNum = r.getRowNum();
             final SummerStudentData summerStudent = SummerStudentData.builder().build();
             final int lastColumn = r.getLastCellNum();
             for (int cn = 0; cn < lastColumn; cn++) {
@@ -105,7 +98,7 @@ public abstract class BaseExcelProcessor implements GradFileExcelProcessor {
         }
     }
 
-    private void processEachColumn(final String guid, final Map<Integer, String> headersMap, final int rowNum, final Row r, SummerStudentData summerStudent, final int cn, final String schoolID, final String districtID, final ReportingPeriodEntity reportingPeriod) throws FileUnProcessableException {
+    private void processEachColumn(final String guid, final Map<Integer, String> headersMap, final int rowNum, final SpreadsheetRow r, SummerStudentData summerStudent, final int cn, final String schoolID, final String districtID, final ReportingPeriodEntity reportingPeriod) throws FileUnProcessableException {
         if (rowNum == 0) {
             this.handleHeaderRow(r, cn, guid, headersMap);
         } else if (StringUtils.isNotBlank(headersMap.get(cn))) {
@@ -113,58 +106,58 @@ public abstract class BaseExcelProcessor implements GradFileExcelProcessor {
         }
     }
 
-    private void handleHeaderRow(final Row r, final int cn, final String guid, final Map<Integer, String> headersMap) throws FileUnProcessableException {
-        final Cell cell = r.getCell(cn, Row.MissingCellPolicy.RETURN_BLANK_AS_NULL);
-        if (cell == null) {
+    private void handleHeaderRow(final SpreadsheetRow r, final int cn, final String guid, final Map<Integer, String> headersMap) throws FileUnProcessableException {
+        final String headerValue = r.getCellValue(cn, ColumnType.STRING);
+        if (headerValue == null) {
             throw new FileUnProcessableException(FileError.BLANK_CELL_IN_HEADING_ROW, guid, GradCollectionStatus.LOAD_FAIL, String.valueOf(cn));
         }
         // BOM encoding adds uFEFF character in the beginning of the file, which needs to be removed before processing the header names.
-        val headerNameFromFile = StringUtils.trimToEmpty(cell.getStringCellValue()).replace("\uFEFF", "");
+        val headerNameFromFile = StringUtils.trimToEmpty(headerValue).replace("\uFEFF", "");
         val headerOptional = Headers.fromString(headerNameFromFile);
         headerOptional.ifPresent(header -> headersMap.put(cn, StringUtils.trim(header.getCode())));
     }
 
-    private void handleEachCell(final Row r, final int cn, final int rowNum, final Map<Integer, String> headersMap, final SummerStudentData summerStudent, final String schoolID, final String districtID, final String guid, final ReportingPeriodEntity reportingPeriod) throws FileUnProcessableException {
-        final Cell cell = r.getCell(cn, Row.MissingCellPolicy.RETURN_BLANK_AS_NULL);
+    private void handleEachCell(final SpreadsheetRow r, final int cn, final int rowNum, final Map<Integer, String> headersMap, final SummerStudentData summerStudent, final String schoolID, final String districtID, final String guid, final ReportingPeriodEntity reportingPeriod) throws FileUnProcessableException {
         val headerNamesOptional = Headers.fromString(headersMap.get(cn));
         if (headerNamesOptional.isPresent()) {
             final Headers header = headerNamesOptional.get();
+            final String fieldValue = r.getCellValue(cn, header.getType());
             switch (header) {
                 case SCHOOL_CODE:
-                    this.setSchoolCode(summerStudent, cell, header.getType(), schoolID, districtID, guid);
+                    this.setSchoolCode(summerStudent, fieldValue, schoolID, districtID, guid);
                     break;
                 case PEN:
-                    this.setPen(summerStudent, rowNum, cell, header.getType(), guid);
+                    this.setPen(summerStudent, rowNum, fieldValue, guid);
                     break;
                 case LEGAL_SURNAME:
-                    this.setLegalSurname(summerStudent, rowNum, cell, header.getType(), guid);
+                    this.setLegalSurname(summerStudent, rowNum, fieldValue, guid);
                     break;
                 case LEGAL_MIDDLE_NAME:
-                    this.setMiddleName(summerStudent, rowNum, cell, header.getType(), guid);
+                    this.setMiddleName(summerStudent, rowNum, fieldValue, guid);
                     break;
                 case LEGAL_FIRST_NAME:
-                    this.setFirstName(summerStudent, rowNum, cell, header.getType(), guid);
+                    this.setFirstName(summerStudent, rowNum, fieldValue, guid);
                     break;
                 case DOB:
-                    this.setDOB(summerStudent, rowNum, cell, header.getType(), guid);
+                    this.setDOB(summerStudent, rowNum, fieldValue, guid);
                     break;
                 case COURSE_CODE:
-                    this.setCourseCode(summerStudent, rowNum, cell, header.getType(), guid);
+                    this.setCourseCode(summerStudent, rowNum, fieldValue, guid);
                     break;
                 case COURSE_LEVEL:
-                    this.setCourseLevel(summerStudent, rowNum, cell, header.getType(), guid);
+                    this.setCourseLevel(summerStudent, rowNum, fieldValue, guid);
                     break;
                 case SESSION_DATE:
-                    this.setSessionDate(summerStudent, rowNum, cell, header.getType(), guid, reportingPeriod);
+                    this.setSessionDate(summerStudent, rowNum, fieldValue, guid, reportingPeriod);
                     break;
                 case FINAL_PERCENT:
-                    this.setFinalPercent(summerStudent, rowNum, cell, header.getType(), guid);
+                    this.setFinalPercent(summerStudent, rowNum, fieldValue, guid);
                     break;
                 case FINAL_LETTER_GRADE:
-                    this.setFinalLetterGrade(summerStudent, rowNum, cell, header.getType(), guid);
+                    this.setFinalLetterGrade(summerStudent, rowNum, fieldValue, guid);
                     break;
                 case NO_OF_CREDITS:
-                    this.setNoOfCredits(summerStudent, rowNum, cell, header.getType(), guid);
+                    this.setNoOfCredits(summerStudent, rowNum, fieldValue, guid);
                     break;
             }
         } else {
@@ -172,14 +165,12 @@ public abstract class BaseExcelProcessor implements GradFileExcelProcessor {
         }
     }
 
-    private void setSchoolCode(final SummerStudentData summerStudent, final Cell cell, final ColumnType columnType, final String schoolID, final String districtID, final String guid) throws FileUnProcessableException {
-        val fieldValue = this.getCellValueString(cell, columnType);
+    private void setSchoolCode(final SummerStudentData summerStudent, final String fieldValue, final String schoolID, final String districtID, final String guid) throws FileUnProcessableException {
         validateSchoolCode(schoolID, districtID, fieldValue, guid);
         summerStudent.setSchoolCode(fieldValue);
     }
 
-    private void setPen(final SummerStudentData summerStudent, final int rowNum, final Cell cell, final ColumnType columnType, final String guid) throws FileUnProcessableException {
-        val fieldValue = this.getCellValueString(cell, columnType);
+    private void setPen(final SummerStudentData summerStudent, final int rowNum, final String fieldValue, final String guid) throws FileUnProcessableException {
         if(StringUtils.isNotBlank(fieldValue)) {
             if(fieldValue.length() != 9) {
                 throw new FileUnProcessableException(FileError.PEN_LENGTH_IN_EXCEL, guid, GradCollectionStatus.LOAD_FAIL, String.valueOf(rowNum));
@@ -190,24 +181,21 @@ public abstract class BaseExcelProcessor implements GradFileExcelProcessor {
         summerStudent.setPen(fieldValue);
     }
 
-    private void setLegalSurname(final SummerStudentData summerStudent, final int rowNum, final Cell cell,  final ColumnType columnType, final String guid) throws FileUnProcessableException {
-        val fieldValue = this.getCellValueString(cell, columnType);
+    private void setLegalSurname(final SummerStudentData summerStudent, final int rowNum, final String fieldValue, final String guid) throws FileUnProcessableException {
         if(StringUtils.isNotBlank(fieldValue) && fieldValue.length() > 25) {
             throw new FileUnProcessableException(FileError.LEGAL_SURNAME_IN_EXCEL, guid, GradCollectionStatus.LOAD_FAIL, String.valueOf(rowNum));
         }
         summerStudent.setLegalSurname(fieldValue);
     }
 
-    private void setFirstName(final SummerStudentData summerStudent, final int rowNum, final Cell cell,  final ColumnType columnType, final String guid) throws FileUnProcessableException {
-        val fieldValue = this.getCellValueString(cell, columnType);
+    private void setFirstName(final SummerStudentData summerStudent, final int rowNum, final String fieldValue, final String guid) throws FileUnProcessableException {
         if(StringUtils.isNotBlank(fieldValue) && fieldValue.length() > 25) {
             throw new FileUnProcessableException(FileError.LEGAL_FIRST_NAME_IN_EXCEL, guid, GradCollectionStatus.LOAD_FAIL, String.valueOf(rowNum));
         }
         summerStudent.setLegalFirstName(fieldValue);
     }
 
-    private void setCourseCode(final SummerStudentData summerStudent, final int rowNum, final Cell cell, final ColumnType columnType, final String guid) throws FileUnProcessableException {
-        val fieldValue = this.getCellValueString(cell, columnType);
+    private void setCourseCode(final SummerStudentData summerStudent, final int rowNum, final String fieldValue, final String guid) throws FileUnProcessableException {
         if(StringUtils.isNotBlank(fieldValue)) {
             String trimmedValue = fieldValue.trim();
             if(trimmedValue.length() > 5) {
@@ -217,8 +205,7 @@ public abstract class BaseExcelProcessor implements GradFileExcelProcessor {
         }
     }
 
-    private void setCourseLevel(final SummerStudentData summerStudent, final int rowNum, final Cell cell, final ColumnType columnType, final String guid) throws FileUnProcessableException {
-        val fieldValue = this.getCellValueString(cell, columnType);
+    private void setCourseLevel(final SummerStudentData summerStudent, final int rowNum, final String fieldValue, final String guid) throws FileUnProcessableException {
         if(StringUtils.isNotBlank(fieldValue)) {
             String trimmedValue = fieldValue.trim();
             if(trimmedValue.length() > 3) {
@@ -228,8 +215,7 @@ public abstract class BaseExcelProcessor implements GradFileExcelProcessor {
         }
     }
 
-    private void setSessionDate(final SummerStudentData summerStudent, final int rowNum, final Cell cell, final ColumnType columnType, final String guid, final ReportingPeriodEntity reportingPeriod) throws FileUnProcessableException {
-        val fieldValue = this.getCellValueString(cell, columnType);
+    private void setSessionDate(final SummerStudentData summerStudent, final int rowNum, final String fieldValue, final String guid, final ReportingPeriodEntity reportingPeriod) throws FileUnProcessableException {
         if(StringUtils.isNotBlank(fieldValue)) {
             try {
                 var sessionDate = YearMonth.parse(fieldValue, DateTimeFormatter.ofPattern("yyyyMM"));
@@ -256,38 +242,33 @@ public abstract class BaseExcelProcessor implements GradFileExcelProcessor {
                 && (sessionLocalDate.isEqual(startReportingPeriod.toLocalDate()) || sessionLocalDate.isAfter(startReportingPeriod.toLocalDate()));
     }
 
-    private void setFinalPercent(final SummerStudentData summerStudent, final int rowNum, final Cell cell, final ColumnType columnType, final String guid) throws FileUnProcessableException {
-        val fieldValue = this.getCellValueString(cell, columnType);
+    private void setFinalPercent(final SummerStudentData summerStudent, final int rowNum, final String fieldValue, final String guid) throws FileUnProcessableException {
         if(StringUtils.isNotBlank(fieldValue) && fieldValue.length() > 3) {
             throw new FileUnProcessableException(FileError.FINAL_SCH_PERCENT_EXCEL, guid, GradCollectionStatus.LOAD_FAIL, String.valueOf(rowNum));
         }
         summerStudent.setFinalPercent(fieldValue);
     }
-    private void setFinalLetterGrade(final SummerStudentData summerStudent, final int rowNum, final Cell cell, final ColumnType columnType, final String guid) throws FileUnProcessableException {
-        val fieldValue = this.getCellValueString(cell, columnType);
+    private void setFinalLetterGrade(final SummerStudentData summerStudent, final int rowNum, final String fieldValue, final String guid) throws FileUnProcessableException {
         if(StringUtils.isNotBlank(fieldValue) && fieldValue.length() > 2) {
             throw new FileUnProcessableException(FileError.FINAL_LETTER_GRADE_EXCEL, guid, GradCollectionStatus.LOAD_FAIL, String.valueOf(rowNum));
         }
         summerStudent.setFinalLetterGrade(fieldValue);
     }
-    private void setNoOfCredits(final SummerStudentData summerStudent, final int rowNum, final Cell cell, final ColumnType columnType, final String guid) throws FileUnProcessableException {
-        val fieldValue = this.getCellValueString(cell, columnType);
+    private void setNoOfCredits(final SummerStudentData summerStudent, final int rowNum, final String fieldValue, final String guid) throws FileUnProcessableException {
         if(StringUtils.isNotBlank(fieldValue) && fieldValue.length() > 1) {
             throw new FileUnProcessableException(FileError.NO_OF_CREDITS_EXCEL, guid, GradCollectionStatus.LOAD_FAIL, String.valueOf(rowNum));
         }
         summerStudent.setNoOfCredits(fieldValue);
     }
-    private void setMiddleName(final SummerStudentData summerStudent, final int rowNum, final Cell cell, final ColumnType columnType, final String guid) throws FileUnProcessableException {
-        val fieldValue = this.getCellValueString(cell, columnType);
+    private void setMiddleName(final SummerStudentData summerStudent, final int rowNum, final String fieldValue, final String guid) throws FileUnProcessableException {
         if(StringUtils.isNotBlank(fieldValue) && fieldValue.length() > 25) {
             throw new FileUnProcessableException(FileError.LEGAL_MIDDLE_NAME_IN_EXCEL, guid, GradCollectionStatus.LOAD_FAIL, String.valueOf(rowNum));
         }
         summerStudent.setLegalMiddleName(fieldValue);
     }
 
-    private void setDOB(final SummerStudentData summerStudent, final int rowNum, final Cell cell, final ColumnType columnType, final String guid) throws FileUnProcessableException {
+    private void setDOB(final SummerStudentData summerStudent, final int rowNum, final String fieldValue, final String guid) throws FileUnProcessableException {
         DateTimeFormatter format = DateTimeFormatter.ofPattern("uuuuMMdd").withResolverStyle(ResolverStyle.STRICT);
-        val fieldValue = this.getCellValueString(cell, columnType);
         if(StringUtils.isNotBlank(fieldValue)) {
             try {
                 LocalDate.parse(fieldValue, format);
@@ -320,32 +301,4 @@ public abstract class BaseExcelProcessor implements GradFileExcelProcessor {
             gradFileValidator.validateSchoolIsTranscriptEligibleAndOpen(guid, schoolTombstone, schoolID);
         }
     }
-
-    private String getCellValueString(final Cell cell,final ColumnType columnType) {
-        if (cell == null) {
-            return null;
-        }
-        switch (cell.getCellType()) {
-            case STRING:
-                log.debug(STRING_TYPE, cell.getRichStringCellValue().getString());
-                return cell.getRichStringCellValue().getString();
-            case NUMERIC:
-                if (DateUtil.isCellDateFormatted(cell)) {
-                    val dateValue = cell.getDateCellValue();
-                    log.debug(DATE_TYPE, dateValue);
-                    return new SimpleDateFormat("yyyy-MM-dd").format(dateValue);
-                }
-                log.debug(NUMBER_TYPE, cell.getNumericCellValue());
-
-                if(columnType.equals(ColumnType.DOUBLE)) {
-                    return String.valueOf(cell.getNumericCellValue());
-                }else{
-                    Double value = cell.getNumericCellValue();
-                    return String.valueOf(value.intValue());
-                }
-            default:
-                log.debug("Default");
-                return "";
-        }
-    }
 }
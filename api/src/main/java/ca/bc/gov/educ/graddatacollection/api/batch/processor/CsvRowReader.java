@@ -0,0 +1,60 @@
+package ca.bc.gov.educ.graddatacollection.api.batch.processor;
+
+import ca.bc.gov.educ.graddatacollection.api.batch.constants.ColumnType;
+import ca.bc.gov.educ.graddatacollection.api.batch.struct.SpreadsheetRow;
+import ca.bc.gov.educ.graddatacollection.api.batch.struct.SpreadsheetRowReader;
+import org.apache.commons.csv.CSVFormat;
+import org.apache.commons.csv.CSVParser;
+import org.apache.commons.csv.CSVRecord;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.Iterator;
+
+/**
+ * Row reader over a CSV upload. Records are parsed one at a time and every value is read as text.
+ */
+public class CsvRowReader implements SpreadsheetRowReader {
+    private final CSVParser csvParser;
+    private final Iterator<CSVRecord> records;
+    private int nextRowNum;
+
+    public CsvRowReader(final byte[] fileContents) throws IOException {
+        this.csvParser = CSVFormat.DEFAULT.parse(new InputStreamReader(new ByteArrayInputStream(fileContents), StandardCharsets.UTF_8));
+        this.records = csvParser.iterator();
+    }
+
+    @Override
+    public SpreadsheetRow nextRow() {
+        return records.hasNext() ? new CsvRow(nextRowNum++, records.next()) : null;
+    }
+
+    @Override
+    public void close() throws IOException {
+        csvParser.close();
+    }
+
+    private record CsvRow(int rowNum, CSVRecord csvRecord) implements SpreadsheetRow {
+
+        @Override
+        public int getRowNum() {
+            return rowNum;
+        }
+
+        @Override
+        public int getLastCellNum() {
+            return csvRecord.size();
+        }
+
+        @Override
+        public String getCellValue(final int columnIndex, final ColumnType columnType) {
+            if (columnIndex >= csvRecord.size()) {
+                return null;
+            }
+            final String value = csvRecord.get(columnIndex);
+            return value != null ? value : "";
+        }
+    }
+}
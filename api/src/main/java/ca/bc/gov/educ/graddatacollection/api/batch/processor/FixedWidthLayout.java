@@ -0,0 +1,79 @@
+package ca.bc.gov.educ.graddatacollection.api.batch.processor;
+
+import ca.bc.gov.educ.graddatacollection.api.exception.GradDataCollectionAPIRuntimeException;
+import org.w3c.dom.Element;
+import org.w3c.dom.NodeList;
+
+import javax.xml.parsers.DocumentBuilderFactory;
+import java.io.InputStream;
+import java.util.Map;
+import java.util.Objects;
+import java.util.TreeMap;
+
+/**
+ * Column layout of a fixed width upload, read from its flatpack style mapper file (a PZMAP of COLUMN name/length
+ * entries laid out back to back).
+ */
+public final class FixedWidthLayout {
+  private final String[] columnNames;
+  private final int[] columnStarts;
+  private final int[] columnEnds;
+  private final Map<String, Integer> columnIndexes = new TreeMap<>(String.CASE_INSENSITIVE_ORDER);
+
+  private FixedWidthLayout(String[] columnNames, int[] columnLengths) {
+    this.columnNames = columnNames;
+    this.columnStarts = new int[columnNames.length];
+    this.columnEnds = new int[columnNames.length];
+    int position = 0;
+    for (int i = 0; i < columnNames.length; i++) {
+      columnStarts[i] = position;
+      position += columnLengths[i];
+      columnEnds[i] = position;
+      columnIndexes.put(columnNames[i], i);
+    }
+  }
+
+  public static FixedWidthLayout fromMapperResource(String mapperFileName) {
+    try (InputStream mapper = Objects.requireNonNull(FixedWidthLayout.class.getClassLoader().getResourceAsStream(mapperFileName), mapperFileName)) {
+      var factory = DocumentBuilderFactory.newInstance();
+      factory.setFeature("http://apache.org/xml/features/nonvalidating/load-external-dtd", false);
+      factory.setExpandEntityReferences(false);
+      NodeList columns = factory.newDocumentBuilder().parse(mapper).getElementsByTagName("COLUMN");
+      String[] names = new String[columns.getLength()];
+      int[] lengths = new int[columns.getLength()];
+      for (int i = 0; i < columns.getLength(); i++) {
+        var column = (Element) columns.item(i);
+        names[i] = column.getAttribute("name");
+        lengths[i] = Integer.parseInt(column.getAttribute("length"));
+      }
+      return new FixedWidthLayout(names, lengths);
+    } catch (Exception e) {
+      throw new GradDataCollectionAPIRuntimeException("Unable to read fixed width mapper " + mapperFileName + " :: " + e.getMessage());
+    }
+  }
+
+  int getColumnCount() {
+    return columnNames.length;
+  }
+
+  int getColumnIndex(String columnName) {
+    Integer index = columnIndexes.get(columnName);
+    if (index == null) {
+      throw new IllegalArgumentException("Column " + columnName + " is not part of the file layout");
+    }
+    return index;
+  }
+
+  /**
+   * Splits a line already padded or truncated to the record length. Trailing whitespace is trimmed, leading
+   * whitespace is kept, and empty values are returned as null, matching how the flatpack parser read these files.
+   */
+  String[] split(String line) {
+    String[] values = new String[columnNames.length];
+    for (int i = 0; i < columnNames.length; i++) {
+      String value = line.substring(Math.min(columnStarts[i], line.length()), Math.min(columnEnds[i], line.length())).stripTrailing();
+      values[i] = value.isEmpty() ? null : value;
+    }
+    return values;
+  }
+}
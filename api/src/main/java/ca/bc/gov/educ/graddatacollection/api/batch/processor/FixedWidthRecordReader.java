@@ -0,0 +1,171 @@
+package ca.bc.gov.educ.graddatacollection.api.batch.processor;
+
+import ca.bc.gov.educ.graddatacollection.api.batch.exception.FileError;
+import ca.bc.gov.educ.graddatacollection.api.batch.exception.FileUnProcessableException;
+import ca.bc.gov.educ.graddatacollection.api.constants.v1.GradCollectionStatus;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.commons.lang3.StringUtils;
+
+import java.io.*;
+import java.nio.charset.Charset;
+import java.util.Base64;
+
+/**
+ * Forward-only reader over a Base64 encoded fixed width upload.
+ * <p>
+ * The upload is decoded incrementally and read one line at a time, so only the current line and record are held
+ * besides the encoded payload itself. Lines are split on \n or \r\n, short lines are padded and over-long lines
+ * whose overflow is blank are truncated to the record length, and blank lines are skipped. The first record is
+ * read ahead so callers can look at it, for example for the school mincode, before iterating.
+ */
+@Slf4j
+public class FixedWidthRecordReader implements Closeable {
+  private final FixedWidthLayout layout;
+  private final int recordLength;
+  private final Reader reader;
+  private final StringBuilder lineBuffer;
+  private final String[] firstRecord;
+  private boolean firstRecordReturned;
+  private String[] currentRecord;
+  private int lineNumber;
+
+  private FixedWidthRecordReader(String base64Contents, FixedWidthLayout layout, int recordLength) {
+    this.layout = layout;
+    this.recordLength = recordLength;
+    this.reader = openDecodedReader(base64Contents);
+    this.lineBuffer = new StringBuilder(recordLength + 2);
+    this.firstRecord = readRecord();
+  }
+
+  public static FixedWidthRecordReader open(String base64Contents, FixedWidthLayout layout, int recordLength) {
+    return new FixedWidthRecordReader(base64Contents, layout, recordLength);
+  }
+
+  /**
+   * Streams through the upload once without keeping any of it, rejecting lines with non-blank characters past the
+   * record length. When {@code rejectEmptyFile} is set, a file without any non-blank line is rejected as well.
+   */
+  public static void validateLineLengths(String base64Contents, int recordLength, String guid, boolean rejectEmptyFile) throws FileUnProcessableException {
+    int lineNumber = 0;
+    boolean hasContent = false;
+    try (Reader reader = openDecodedReader(base64Contents)) {
+      var lineBuffer = new StringBuilder(recordLength + 2);
+      String line;
+      while ((line = readLine(reader, lineBuffer)) != null) {
+        lineNumber++;
+        hasContent |= !line.isBlank();
+        if (line.length() > recordLength && StringUtils.isNotBlank(line.substring(recordLength))) {
+          throw new FileUnProcessableException(FileError.INVALID_ROW_LENGTH, guid, GradCollectionStatus.LOAD_FAIL, "Line " + lineNumber + " has too many characters.");
+        }
+      }
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+    if (rejectEmptyFile && !hasContent) {
+      throw new FileUnProcessableException(FileError.EMPTY_FILE, guid, GradCollectionStatus.LOAD_FAIL);
+    }
+  }
+
+  public boolean isEmpty() {
+    return firstRecord == null;
+  }
+
+  /**
+   * @return the value of a column in the first record without advancing the reader, or null for an empty file
+   */
+  public String getFirstRecordString(String column) {
+    return firstRecord == null ? null : firstRecord[layout.getColumnIndex(column)];
+  }
+
+  public boolean next() {
+    if (!firstRecordReturned) {
+      firstRecordReturned = true;
+      currentRecord = firstRecord;
+    } else {
+      currentRecord = currentRecord == null ? null : readRecord();
+    }
+    return currentRecord != null;
+  }
+
+  public String getString(String column) {
+    if (currentRecord == null) {
+      throw new IllegalStateException("No current record, call next() first");
+    }
+    return currentRecord[layout.getColumnIndex(column)];
+  }
+
+  @Override
+  public void close() throws IOException {
+    reader.close();
+  }
+
+  private String[] readRecord() {
+    try {
+      String line;
+      while ((line = readLine(reader, lineBuffer)) != null) {
+        lineNumber++;
+        if (line.length() != recordLength) {
+          log.debug("Line {} corrected: {} chars -> {} chars", lineNumber, line.length(), recordLength);
+          line = line.length() < recordLength ? line + " ".repeat(recordLength - line.length()) : line.substring(0, recordLength);
+        }
+        if (!line.trim().isEmpty()) {
+          return layout.split(line);
+        }
+      }
+      return null;
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+  }
+
+  /**
+   * Reads up to the next \n, dropping one trailing \r. Returns null at the end of the input, so a trailing
+   * line separator does not produce an extra empty line.
+   */
+  private static String readLine(Reader reader, StringBuilder lineBuffer) throws IOException {
+    lineBuffer.setLength(0);
+    int c;
+    while ((c = reader.read()) != -1) {
+      if (c == '\n') {
+        return stripCarriageReturn(lineBuffer);
+      }
+      lineBuffer.append((char) c);
+    }
+    return lineBuffer.isEmpty() ? null : lineBuffer.toString();
+  }
+
+  private static String stripCarriageReturn(StringBuilder lineBuffer) {
+    int length = lineBuffer.length();
+    if (length > 0 && lineBuffer.charAt(length - 1) == '\r') {
+      length--;
+    }
+    return lineBuffer.substring(0, length);
+  }
+
+  private static Reader openDecodedReader(String base64Contents) {
+    InputStream encoded = new InputStream() {
+      private int position;
+
+      @Override
+      public int read() {
+        return position < base64Contents.length() ? base64Contents.charAt(position++) & 0xFF : -1;
+      }
+
+      @Override
+      public int read(byte[] buffer, int offset, int length) {
+        if (length == 0) {
+          return 0;
+        }
+        if (position >= base64Contents.length()) {
+          return -1;
+        }
+        int count = Math.min(length, base64Contents.length() - position);
+        for (int i = 0; i < count; i++) {
+          buffer[offset + i] = (byte) base64Contents.charAt(position++);
+        }
+        return count;
+      }
+    };
+    return new BufferedReader(new InputStreamReader(Base64.getDecoder().wrap(encoded), Charset.defaultCharset()));
+  }
+}
@@ -16,15 +16,12 @@ import com.google.common.base.Stopwatch;
 import lombok.Getter;
 import lombok.extern.slf4j.Slf4j;
 import lombok.val;
-import net.sf.flatpack.DataSet;
-import net.sf.flatpack.DefaultParserFactory;
-import org.apache.commons.lang3.StringUtils;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.validation.FieldError;
 
-import java.io.*;
+import java.io.IOException;
 import java.time.LocalDateTime;
 import java.util.*;
 import java.util.concurrent.TimeUnit;
@@ -40,12 +37,14 @@ public class GradBatchFileProcessor {
     private final Map<String, GradFileBatchProcessor> studentDetailsMap;
     @Getter(PRIVATE)
     private final GradFileValidator gradFileValidator;
+    private final Map<FileType, FixedWidthLayout> fileLayouts = new EnumMap<>(FileType.class);
     public static final String INVALID_PAYLOAD_MSG = "Payload contains invalid data.";
     public static final String GRAD_FILE_UPLOAD = "gradFileUpload";
 
     public GradBatchFileProcessor(Map<String, GradFileBatchProcessor> studentDetailsMap, GradFileValidator gradFileValidator) {
         this.studentDetailsMap = studentDetailsMap;
         this.gradFileValidator = gradFileValidator;
+        Arrays.stream(FileType.values()).forEach(fileType -> fileLayouts.put(fileType, FixedWidthLayout.fromMapperResource(fileType.getMapperFileName())));
     }
 
     @Transactional(propagation = Propagation.REQUIRES_NEW)
@@ -61,18 +60,14 @@ public class GradBatchFileProcessor {
     public IncomingFilesetEntity processFile(GradFileUpload fileUpload, String schoolID, String districtID) {
         val stopwatch = Stopwatch.createStarted();
         final var guid = UUID.randomUUID().toString();
-        Optional<Reader> batchFileReaderOptional = Optional.empty();
+        Optional<FixedWidthRecordReader> batchFileReaderOptional = Optional.empty();
         try {
             FileType fileDetails = FileType.findByCode(fileUpload.getFileType()).orElseThrow(() -> new FileUnProcessableException(FileError.FILE_NOT_ALLOWED, guid, GradCollectionStatus.LOAD_FAIL));
-            final Reader mapperReader = new FileReader(Objects.requireNonNull(this.getClass().getClassLoader().getResource(fileDetails.getMapperFileName())).getFile());
-            var fileContent = checkAndFixLineLengths(fileUpload.getFileContents(), fileDetails.getActualFileSize(), guid);
-            var byteArrayOutputStream = new ByteArrayInputStream(gradFileValidator.getUploadedFileBytes(guid, fileContent, fileDetails.getCode()));
-            batchFileReaderOptional = Optional.of(new InputStreamReader(byteArrayOutputStream));
-            final DataSet ds = DefaultParserFactory.getInstance().newFixedLengthParser(mapperReader, batchFileReaderOptional.get()).setStoreRawDataToDataError(true).setStoreRawDataToDataSet(true).setNullEmptyStrings(true).parse();
+            FixedWidthRecordReader.validateLineLengths(fileUpload.getFileContents(), fileDetails.getActualFileSize(), guid, fileDetails == FileType.DEM);
+            batchFileReaderOptional = Optional.of(FixedWidthRecordReader.open(fileUpload.getFileContents(), fileLayouts.get(fileDetails), fileDetails.getActualFileSize()));
             //Run validation
             gradFileValidator.validateFileHasCorrectExtension(guid, fileUpload, fileDetails.getAllowedExtensions());
-            gradFileValidator.validateFileForFormatAndLength(guid, ds, fileDetails.getDetailedRecordSizeError());
-            return studentDetailsMap.get(fileDetails.getCode()).populateBatchFileAndLoadData(guid, ds, fileUpload, schoolID, districtID);
+            return studentDetailsMap.get(fileDetails.getCode()).populateBatchFileAndLoadData(guid, batchFileReaderOptional.get(), fileUpload, schoolID, districtID);
         } catch (final FileUnProcessableException fileUnProcessableException) {
             log.error("File could not be processed exception :: {}", fileUnProcessableException);
             ApiError error = ApiError.builder().timestamp(LocalDateTime.now()).message(INVALID_PAYLOAD_MSG).status(BAD_REQUEST).build();
@@ -99,51 +94,7 @@ public class GradBatchFileProcessor {
         }
     }
 
-    private String checkAndFixLineLengths(String fileContentInBytes, int expectedLineLength, String guid) throws FileUnProcessableException {
-        var bytes = Base64.getDecoder().decode(fileContentInBytes);
-        var fileContent = new String(bytes);
-        StringBuilder correctedContent = new StringBuilder();
-
-        // Split the string into lines
-        String[] lines = fileContent.split("\\r?\\n");
-
-        for (int i = 0; i < lines.length; i++) {
-            String line = lines[i];
-            int lineNumber = i + 1;
-            int actualLength = line.length();
-            String correctedLine = line;
-
-            if (actualLength != expectedLineLength) {
-                if (actualLength < expectedLineLength) {
-                    // Pad with spaces
-                    correctedLine = line + " ".repeat(expectedLineLength - actualLength);
-                } else {
-                    if(StringUtils.isNotBlank(line.substring(expectedLineLength, actualLength))) {
-                        var message = "Line " + lineNumber + " has too many characters.";
-                        throw new FileUnProcessableException(
-                                FileError.INVALID_ROW_LENGTH,
-                                guid,
-                                GradCollectionStatus.LOAD_FAIL,
-                                message);
-                    }else{
-                        // Truncate
-                        correctedLine = line.substring(0, expectedLineLength);
-                    }
-                }
-                log.info("Line {} corrected: {} chars -> {} chars", lineNumber, actualLength, correctedLine.length());
-            }
-
-            // Add the corrected line to the StringBuilder
-            correctedContent.append(correctedLine);
-
-            // Add line separator (except for the last line if you prefer)
-            correctedContent.append(System.lineSeparator());
-        }
-
-        return correctedContent.toString();
-    }
-
-    private void closeBatchFileReader(final Reader reader) {
+    private void closeBatchFileReader(final FixedWidthRecordReader reader) {
         try {
             if (reader != null) {
                 reader.close();
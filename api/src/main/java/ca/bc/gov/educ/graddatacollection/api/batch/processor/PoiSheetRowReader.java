@@ -0,0 +1,74 @@
+package ca.bc.gov.educ.graddatacollection.api.batch.processor;
+
+import ca.bc.gov.educ.graddatacollection.api.batch.constants.ColumnType;
+import ca.bc.gov.educ.graddatacollection.api.batch.struct.SpreadsheetRow;
+import ca.bc.gov.educ.graddatacollection.api.batch.struct.SpreadsheetRowReader;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.poi.ss.usermodel.Cell;
+import org.apache.poi.ss.usermodel.DateUtil;
+import org.apache.poi.ss.usermodel.Row;
+import org.apache.poi.ss.usermodel.Sheet;
+
+/**
+ * Row reader over a sheet that is already loaded into the POI user model.
+ */
+@Slf4j
+public class PoiSheetRowReader implements SpreadsheetRowReader {
+    private final Sheet sheet;
+    private final int rowEnd;
+    private int nextRowNum;
+
+    public PoiSheetRowReader(final Sheet sheet) {
+        this.sheet = sheet;
+        this.rowEnd = sheet.getLastRowNum();
+    }
+
+    @Override
+    public SpreadsheetRow nextRow() {
+        while (nextRowNum <= rowEnd) {
+            final Row row = sheet.getRow(nextRowNum++);
+            if (row != null) {
+                return new PoiRow(row);
+            }
+            log.warn("empty row at :: {}", nextRowNum - 1);
+        }
+        return null;
+    }
+
+    @Override
+    public void close() {
+        // the sheet is owned by the caller
+    }
+
+    private record PoiRow(Row row) implements SpreadsheetRow {
+
+        @Override
+        public int getRowNum() {
+            return row.getRowNum();
+        }
+
+        @Override
+        public int getLastCellNum() {
+            return Math.max(row.getLastCellNum(), 0);
+        }
+
+        @Override
+        public String getCellValue(final int columnIndex, final ColumnType columnType) {
+            final Cell cell = row.getCell(columnIndex, Row.MissingCellPolicy.RETURN_BLANK_AS_NULL);
+            if (cell == null) {
+                return null;
+            }
+            switch (cell.getCellType()) {
+                case STRING:
+                    return cell.getRichStringCellValue().getString();
+                case NUMERIC:
+                    if (DateUtil.isCellDateFormatted(cell)) {
+                        return SpreadsheetCellFormatter.formatDate(cell.getDateCellValue());
+                    }
+                    return SpreadsheetCellFormatter.formatNumber(cell.getNumericCellValue(), columnType);
+                default:
+                    return "";
+            }
+        }
+    }
+}
@@ -0,0 +1,27 @@
+package ca.bc.gov.educ.graddatacollection.api.batch.processor;
+
+import ca.bc.gov.educ.graddatacollection.api.batch.constants.ColumnType;
+
+import java.text.SimpleDateFormat;
+import java.util.Date;
+
+/**
+ * Turns numeric cell values into the text the summer student validations expect, shared by the Excel row readers.
+ */
+final class SpreadsheetCellFormatter {
+
+    private SpreadsheetCellFormatter() {
+    }
+
+    static String formatDate(final Date dateValue) {
+        return new SimpleDateFormat("yyyy-MM-dd").format(dateValue);
+    }
+
+    static String formatNumber(final double numericValue, final ColumnType columnType) {
+        if (columnType.equals(ColumnType.DOUBLE)) {
+            return String.valueOf(numericValue);
+        }
+        Double value = numericValue;
+        return String.valueOf(value.intValue());
+    }
+}
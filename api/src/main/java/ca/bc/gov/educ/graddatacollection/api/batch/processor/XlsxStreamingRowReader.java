@@ -0,0 +1,209 @@
+package ca.bc.gov.educ.graddatacollection.api.batch.processor;
+
+import ca.bc.gov.educ.graddatacollection.api.batch.constants.ColumnType;
+import ca.bc.gov.educ.graddatacollection.api.batch.struct.SpreadsheetRow;
+import ca.bc.gov.educ.graddatacollection.api.batch.struct.SpreadsheetRowReader;
+import ca.bc.gov.educ.graddatacollection.api.exception.GradDataCollectionAPIRuntimeException;
+import org.apache.poi.openxml4j.exceptions.OpenXML4JException;
+import org.apache.poi.openxml4j.opc.OPCPackage;
+import org.apache.poi.openxml4j.opc.PackageAccess;
+import org.apache.poi.ss.usermodel.DateUtil;
+import org.apache.poi.ss.util.CellReference;
+import org.apache.poi.util.XMLHelper;
+import org.apache.poi.xssf.eventusermodel.ReadOnlySharedStringsTable;
+import org.apache.poi.xssf.eventusermodel.XSSFReader;
+import org.apache.poi.xssf.model.StylesTable;
+import org.apache.poi.xssf.usermodel.XSSFCellStyle;
+import org.xml.sax.SAXException;
+
+import javax.xml.stream.XMLStreamConstants;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Streaming row reader over the first sheet of an xlsx upload.
+ * <p>
+ * The sheet XML is pulled one row at a time through {@link XSSFReader}, so only the shared strings, the styles and
+ * the current row are kept in memory instead of the full {@code XSSFWorkbook} object graph. Cells are interpreted
+ * the way the POI user model reads them: formula, boolean and error cells read as empty text, blank cells as null,
+ * and numeric cells with a date format as dates.
+ */
+public class XlsxStreamingRowReader implements SpreadsheetRowReader {
+    private static final String ROW = "row";
+    private static final String CELL = "c";
+    private final OPCPackage pkg;
+    private final ReadOnlySharedStringsTable sharedStrings;
+    private final StylesTable styles;
+    private final InputStream sheetStream;
+    private final XMLStreamReader sheetReader;
+    private int nextRowNum;
+
+    private XlsxStreamingRowReader(final OPCPackage pkg) throws IOException, OpenXML4JException, SAXException, XMLStreamException {
+        this.pkg = pkg;
+        final var xssfReader = new XSSFReader(pkg);
+        this.sharedStrings = new ReadOnlySharedStringsTable(pkg);
+        this.styles = xssfReader.getStylesTable();
+        this.sheetStream = xssfReader.getSheetsData().next();
+        this.sheetReader = XMLHelper.newXMLInputFactory().createXMLStreamReader(sheetStream);
+    }
+
+    public static XlsxStreamingRowReader open(final File file) throws IOException, OpenXML4JException, SAXException, XMLStreamException {
+        final OPCPackage pkg = OPCPackage.open(file, PackageAccess.READ);
+        try {
+            return new XlsxStreamingRowReader(pkg);
+        } catch (final IOException | OpenXML4JException | SAXException | XMLStreamException | RuntimeException e) {
+            pkg.revert();
+            throw e;
+        }
+    }
+
+    @Override
+    public SpreadsheetRow nextRow() {
+        try {
+            while (sheetReader.hasNext()) {
+                if (sheetReader.next() == XMLStreamConstants.START_ELEMENT && ROW.equals(sheetReader.getLocalName())) {
+                    return readRow();
+                }
+            }
+            return null;
+        } catch (final XMLStreamException e) {
+            throw new GradDataCollectionAPIRuntimeException("Unable to read the xlsx sheet :: " + e.getMessage());
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        try {
+            sheetReader.close();
+        } catch (final XMLStreamException e) {
+            throw new IOException(e);
+        } finally {
+            sheetStream.close();
+            pkg.revert();
+        }
+    }
+
+    private XlsxRow readRow() throws XMLStreamException {
+        final String rowRef = sheetReader.getAttributeValue(null, "r");
+        final int rowNum = rowRef != null ? Integer.parseInt(rowRef) - 1 : nextRowNum;
+        nextRowNum = rowNum + 1;
+        final List<XlsxCell> cells = new ArrayList<>();
+        while (sheetReader.hasNext()) {
+            final int event = sheetReader.next();
+            if (event == XMLStreamConstants.START_ELEMENT && CELL.equals(sheetReader.getLocalName())) {
+                final String cellRef = sheetReader.getAttributeValue(null, "r");
+                final int columnIndex = cellRef != null ? new CellReference(cellRef).getCol() : cells.size();
+                final XlsxCell cell = readCell();
+                while (cells.size() <= columnIndex) {
+                    cells.add(null);
+                }
+                cells.set(columnIndex, cell);
+            } else if (event == XMLStreamConstants.END_ELEMENT && ROW.equals(sheetReader.getLocalName())) {
+                break;
+            }
+        }
+        return new XlsxRow(rowNum, cells);
+    }
+
+    private XlsxCell readCell() throws XMLStreamException {
+        final String type = sheetReader.getAttributeValue(null, "t");
+        final String styleIndex = sheetReader.getAttributeValue(null, "s");
+        String value = null;
+        final StringBuilder inlineText = new StringBuilder();
+        boolean formula = false;
+        int phoneticDepth = 0;
+        while (sheetReader.hasNext()) {
+            final int event = sheetReader.next();
+            if (event == XMLStreamConstants.START_ELEMENT) {
+                switch (sheetReader.getLocalName()) {
+                    case "v" -> value = sheetReader.getElementText();
+                    case "f" -> {
+                        formula = true;
+                        sheetReader.getElementText();
+                    }
+                    case "rPh" -> phoneticDepth++;
+                    case "t" -> {
+                        final String text = sheetReader.getElementText();
+                        if (phoneticDepth == 0) {
+                            inlineText.append(text);
+                        }
+                    }
+                    default -> {
+                        // other cell children do not carry a value
+                    }
+                }
+            } else if (event == XMLStreamConstants.END_ELEMENT) {
+                if ("rPh".equals(sheetReader.getLocalName())) {
+                    phoneticDepth--;
+                } else if (CELL.equals(sheetReader.getLocalName())) {
+                    break;
+                }
+            }
+        }
+        return toCell(type, styleIndex, value, inlineText.toString(), formula);
+    }
+
+    private XlsxCell toCell(final String type, final String styleIndex, final String value, final String inlineText, final boolean formula) {
+        if (formula) {
+            return XlsxCell.OTHER;
+        }
+        if (type == null || "n".equals(type)) {
+            if (value == null || value.isEmpty()) {
+                return null;
+            }
+            final double numericValue = Double.parseDouble(value);
+            final XSSFCellStyle style = styles.getStyleAt(styleIndex != null ? Integer.parseInt(styleIndex) : 0);
+            final boolean dateFormatted = style != null && DateUtil.isADateFormat(style.getDataFormat(), style.getDataFormatString()) && DateUtil.isValidExcelDate(numericValue);
+            return new XlsxCell(dateFormatted ? CellKind.DATE : CellKind.NUMERIC, null, numericValue);
+        }
+        return switch (type) {
+            case "s" -> new XlsxCell(CellKind.STRING, value != null ? sharedStrings.getItemAt(Integer.parseInt(value)).getString() : "", 0);
+            case "inlineStr" -> new XlsxCell(CellKind.STRING, inlineText, 0);
+            case "str" -> new XlsxCell(CellKind.STRING, value != null ? value : "", 0);
+            default -> XlsxCell.OTHER;
+        };
+    }
+
+    private enum CellKind {
+        STRING,
+        NUMERIC,
+        DATE,
+        OTHER
+    }
+
+    private record XlsxCell(CellKind kind, String text, double numericValue) {
+        private static final XlsxCell OTHER = new XlsxCell(CellKind.OTHER, "", 0);
+    }
+
+    private record XlsxRow(int rowNum, List<XlsxCell> cells) implements SpreadsheetRow {
+
+        @Override
+        public int getRowNum() {
+            return rowNum;
+        }
+
+        @Override
+        public int getLastCellNum() {
+            return cells.size();
+        }
+
+        @Override
+        public String getCellValue(final int columnIndex, final ColumnType columnType) {
+            final XlsxCell cell = columnIndex < cells.size() ? cells.get(columnIndex) : null;
+            if (cell == null) {
+                return null;
+            }
+            return switch (cell.kind()) {
+                case STRING -> cell.text();
+                case DATE -> SpreadsheetCellFormatter.formatDate(DateUtil.getJavaDate(cell.numericValue()));
+                case NUMERIC -> SpreadsheetCellFormatter.formatNumber(cell.numericValue(), columnType);
+                case OTHER -> "";
+            };
+        }
+    }
+}
@@ -1,6 +1,7 @@
 package ca.bc.gov.educ.graddatacollection.api.batch.service;
 
 import ca.bc.gov.educ.graddatacollection.api.batch.exception.FileUnProcessableException;
+import ca.bc.gov.educ.graddatacollection.api.batch.processor.FixedWidthRecordReader;
 import ca.bc.gov.educ.graddatacollection.api.batch.mappers.BatchFileMapper;
 import ca.bc.gov.educ.graddatacollection.api.batch.struct.GradFileBatchProcessor;
 import ca.bc.gov.educ.graddatacollection.api.batch.struct.GradStudentCourseDetails;
@@ -20,6 +21,7 @@ import ca.bc.gov.educ.graddatacollection.api.model.v1.ReportingPeriodEntity;
 import ca.bc.gov.educ.graddatacollection.api.repository.v1.IncomingFilesetRepository;
 import ca.bc.gov.educ.graddatacollection.api.repository.v1.ReportingPeriodRepository;
 import ca.bc.gov.educ.graddatacollection.api.rest.RestUtils;
+import ca.bc.gov.educ.graddatacollection.api.service.v1.FilesetDuplicateIndexService;
 import ca.bc.gov.educ.graddatacollection.api.service.v1.IncomingFilesetService;
 import ca.bc.gov.educ.graddatacollection.api.struct.external.grad.v1.LetterGrade;
 import ca.bc.gov.educ.graddatacollection.api.struct.external.institute.v1.SchoolTombstone;
@@ -30,7 +32,6 @@ import lombok.NonNull;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import lombok.val;
-import net.sf.flatpack.DataSet;
 import org.apache.commons.lang3.StringUtils;
 import org.springframework.retry.annotation.Backoff;
 import org.springframework.retry.annotation.Retryable;
@@ -63,10 +64,11 @@ public class GradCourseFileService implements GradFileBatchProcessor {
     @Getter(PRIVATE)
     private final GradFileValidator gradFileValidator;
     private final RestUtils restUtils;
+    private final FilesetDuplicateIndexService filesetDuplicateIndexService;
 
     @Override
     @Transactional(propagation = Propagation.MANDATORY)
-    public IncomingFilesetEntity populateBatchFileAndLoadData(String guid, DataSet ds, final GradFileUpload fileUpload, final String schoolID, final String districtID) throws FileUnProcessableException {
+    public IncomingFilesetEntity populateBatchFileAndLoadData(String guid, FixedWidthRecordReader records, final GradFileUpload fileUpload, final String schoolID, final String districtID) throws FileUnProcessableException {
         val batchFile = new GradStudentCourseFile();
         String incomingSchoolID = schoolID;
         String incomingDistrictID = districtID;
@@ -76,27 +78,27 @@ public class GradCourseFileService implements GradFileBatchProcessor {
                 incomingDistrictID = schoolTombstone.getDistrictId();
             }
             gradFileValidator.validateFileUploadIsNotInProgress(guid, schoolID);
-            this.populateSchoolBatchFile(guid, ds, batchFile, schoolTombstone, schoolID);
+            this.populateSchoolBatchFile(guid, records, batchFile, schoolTombstone, schoolID);
         } else {
-            var schoolTombstone =  ds.getRowCount() == 0 ? gradFileValidator.getSchoolFromFileName(guid, fileUpload.getFileName()) : gradFileValidator.getSchoolFromFileMincodeField(guid, ds);
+            var schoolTombstone =  records.isEmpty() ? gradFileValidator.getSchoolFromFileName(guid, fileUpload.getFileName()) : gradFileValidator.getSchoolFromFileMincodeField(guid, records);
             incomingSchoolID = schoolTombstone.getSchoolId();
             gradFileValidator.validateSchoolIsOpenAndBelongsToDistrict(guid, schoolTombstone, districtID);
             gradFileValidator.validateFileUploadIsNotInProgress(guid, incomingSchoolID);
-            this.populateDistrictBatchFile(guid, ds, batchFile, schoolTombstone, districtID);
+            this.populateDistrictBatchFile(guid, records, batchFile, schoolTombstone, districtID);
         }
         return this.processLoadedRecordsInBatchFile(guid, batchFile, fileUpload, incomingSchoolID, incomingDistrictID);
     }
 
-    public void populateSchoolBatchFile(final String guid, final DataSet ds, final GradStudentCourseFile batchFile, SchoolTombstone schoolTombstone, final String schoolID) throws FileUnProcessableException {
+    public void populateSchoolBatchFile(final String guid, final FixedWidthRecordReader records, final GradStudentCourseFile batchFile, SchoolTombstone schoolTombstone, final String schoolID) throws FileUnProcessableException {
         long index = 0;
         gradFileValidator.validateSchoolIsTranscriptEligibleAndOpen(guid, schoolTombstone, schoolID);
         var studentSet = new HashSet<>();
-        while (ds.next()) {
-            final var mincode = ds.getString(DEMBatchFile.MINCODE.getName());
+        while (records.next()) {
+            final var mincode = records.getString(DEMBatchFile.MINCODE.getName());
             gradFileValidator.validateMincode(guid, schoolID, mincode);
-            var courseRecord = this.getStudentCourseDetailRecordFromFile(ds, guid, index);
+            var courseRecord = this.getStudentCourseDetailRecordFromFile(records, guid, index);
             if(!studentSet.contains(courseRecord.hashCode())) {
-                batchFile.getCourseData().add(this.getStudentCourseDetailRecordFromFile(ds, guid, index));
+                batchFile.getCourseData().add(this.getStudentCourseDetailRecordFromFile(records, guid, index));
                 studentSet.add(courseRecord.hashCode());
             }
             index++;
@@ -105,12 +107,12 @@ public class GradCourseFileService implements GradFileBatchProcessor {
         batchFile.setCourseData(scrubInterimLetterGrades(batchFile.getCourseData()));
     }
 
-    public void populateDistrictBatchFile(final String guid, final DataSet ds, final GradStudentCourseFile batchFile, SchoolTombstone schoolTombstone, final String districtID) throws FileUnProcessableException {
+    public void populateDistrictBatchFile(final String guid, final FixedWidthRecordReader records, final GradStudentCourseFile batchFile, SchoolTombstone schoolTombstone, final String districtID) throws FileUnProcessableException {
         long index = 0;
         gradFileValidator.validateSchoolIsOpenAndBelongsToDistrict(guid, schoolTombstone, districtID);
         var studentSet = new HashSet<>();
-        while (ds.next()) {
-            var courseRecord = this.getStudentCourseDetailRecordFromFile(ds, guid, index);
+        while (records.next()) {
+            var courseRecord = this.getStudentCourseDetailRecordFromFile(records, guid, index);
             if(!studentSet.contains(courseRecord.hashCode())) {
                 batchFile.getCourseData().add(courseRecord);
                 studentSet.add(courseRecord.hashCode());
@@ -264,16 +266,19 @@ public class GradCourseFileService implements GradFileBatchProcessor {
             currentFileset.setNumberOfMissingPENs(incomingFilesetEntity.getNumberOfMissingPENs());
             currentFileset.setFilesetStatusCode(String.valueOf(FilesetStatus.LOADED.getCode()));
             currentFileset.getCourseStudentEntities().clear();
-            currentFileset.getCourseStudentEntities().addAll(pairStudentList);
 
-            return incomingFilesetService.saveIncomingFilesetRecord(currentFileset);
+            var savedFileset = incomingFilesetService.saveIncomingFilesetRecord(currentFileset, CourseStudentEntity.class, pairStudentList);
+            filesetDuplicateIndexService.invalidateCourseDuplicates(savedFileset.getIncomingFilesetID());
+            return savedFileset;
         } else {
             incomingFilesetEntity.setFilesetStatusCode(String.valueOf(FilesetStatus.LOADED.getCode()));
 
             ReportingPeriodEntity reportingPeriodEntity = reportingPeriodRepository.findActiveReportingPeriod().orElseThrow(() -> new EntityNotFoundException(ReportingPeriodEntity.class, "currentDate", String.valueOf(LocalDateTime.now())));
             incomingFilesetEntity.setReportingPeriod(reportingPeriodEntity);
+            var students = List.copyOf(incomingFilesetEntity.getCourseStudentEntities());
+            incomingFilesetEntity.getCourseStudentEntities().clear();
 
-            return incomingFilesetService.saveIncomingFilesetRecord(incomingFilesetEntity);
+            return incomingFilesetService.saveIncomingFilesetRecord(incomingFilesetEntity, CourseStudentEntity.class, students);
         }
     }
 
@@ -283,35 +288,35 @@ public class GradCourseFileService implements GradFileBatchProcessor {
         return incomingFileset.getCourseStudentEntities().stream().toList();
     }
 
-    private GradStudentCourseDetails getStudentCourseDetailRecordFromFile(final DataSet ds, final String guid, final long index) throws FileUnProcessableException {
-        final var transactionCode = ds.getString(TRANSACTION_CODE.getName());
+    private GradStudentCourseDetails getStudentCourseDetailRecordFromFile(final FixedWidthRecordReader records, final String guid, final long index) throws FileUnProcessableException {
+        final var transactionCode = records.getString(TRANSACTION_CODE.getName());
         if (!TRANSACTION_CODE_STUDENT_COURSE_RECORDS.contains(transactionCode)) {
-            throw new FileUnProcessableException(INVALID_TRANSACTION_CODE_STUDENT_DETAILS_CRS, guid, GradCollectionStatus.LOAD_FAIL, String.valueOf(index + 1), ValidationUtil.getValueOrBlank(ds.getString(LOCAL_STUDENT_ID.getName())));
+            throw new FileUnProcessableException(INVALID_TRANSACTION_CODE_STUDENT_DETAILS_CRS, guid, GradCollectionStatus.LOAD_FAIL, String.valueOf(index + 1), ValidationUtil.getValueOrBlank(records.getString(LOCAL_STUDENT_ID.getName())));
         }
 
         return GradStudentCourseDetails.builder()
                 .transactionCode(transactionCode)
-                .vendorID(ds.getString(VENDOR_ID.getName()))
-                .verificationFlag(ds.getString(VERIFICATION_FLAG.getName()))
-                .mincode(ds.getString(MINCODE.getName()))
-                .localId(StringMapper.trimAndUppercase(ds.getString(LOCAL_STUDENT_ID.getName())))
-                .pen(StringMapper.trimAndUppercase(ds.getString(PEN.getName())))
-                .courseCode(StringMapper.trimAndUppercase(ds.getString(COURSE_CODE.getName())))
-                .courseLevel(StringMapper.trimAndUppercase(ds.getString(COURSE_LEVEL.getName())))
-                .courseYear(StringMapper.trimAndUppercase(ds.getString(COURSE_YEAR.getName())))
-                .courseMonth(StringMapper.trimAndUppercase(ds.getString(COURSE_MONTH.getName())))
-                .interimPercentage(StringMapper.trimAndUppercase(ds.getString(INTERIM_PERCENTAGE.getName())))
-                .interimLetterGrade(StringMapper.trimAndUppercase(ds.getString(INTERIM_LETTER_GRADE.getName())))
-                .finalPercentage(StringMapper.trimAndUppercase(ds.getString(FINAL_PERCENTAGE.getName())))
-                .finalLetterGrade(StringMapper.trimAndUppercase(ds.getString(FINAL_LETTER_GRADE.getName())))
-                .courseStatus(StringMapper.trimAndUppercase(ds.getString(COURSE_STATUS.getName())))
-                .legalSurname(StringMapper.trimAndUppercase(ds.getString(LEGAL_SURNAME.getName())))
-                .numCredits(StringMapper.trimAndUppercase(ds.getString(NUM_CREDITS.getName())))
-                .relatedCourse(StringMapper.trimAndUppercase(ds.getString(RELATED_COURSE.getName())))
-                .relatedCourseLevel(StringMapper.trimAndUppercase(ds.getString(RELATED_COURSE_LEVEL.getName())))
-                .courseDesc(StringMapper.trimAndUppercase(ds.getString(COURSE_DESC.getName())))
-                .courseType(StringMapper.trimAndUppercase(ds.getString(COURSE_TYPE.getName())))
-                .courseGradReqt(StringMapper.trimAndUppercase(ds.getString(COURSE_GRAD_REQT.getName())))
+                .vendorID(records.getString(VENDOR_ID.getName()))
+                .verificationFlag(records.getString(VERIFICATION_FLAG.getName()))
+                .mincode(records.getString(MINCODE.getName()))
+                .localId(StringMapper.trimAndUppercase(records.getString(LOCAL_STUDENT_ID.getName())))
+                .pen(StringMapper.trimAndUppercase(records.getString(PEN.getName())))
+                .courseCode(StringMapper.trimAndUppercase(records.getString(COURSE_CODE.getName())))
+                .courseLevel(StringMapper.trimAndUppercase(records.getString(COURSE_LEVEL.getName())))
+                .courseYear(StringMapper.trimAndUppercase(records.getString(COURSE_YEAR.getName())))
+                .courseMonth(StringMapper.trimAndUppercase(records.getString(COURSE_MONTH.getName())))
+                .interimPercentage(StringMapper.trimAndUppercase(records.getString(INTERIM_PERCENTAGE.getName())))
+                .interimLetterGrade(StringMapper.trimAndUppercase(records.getString(INTERIM_LETTER_GRADE.getName())))
+                .finalPercentage(StringMapper.trimAndUppercase(records.getString(FINAL_PERCENTAGE.getName())))
+                .finalLetterGrade(StringMapper.trimAndUppercase(records.getString(FINAL_LETTER_GRADE.getName())))
+                .courseStatus(StringMapper.trimAndUppercase(records.getString(COURSE_STATUS.getName())))
+                .legalSurname(StringMapper.trimAndUppercase(records.getString(LEGAL_SURNAME.getName())))
+                .numCredits(StringMapper.trimAndUppercase(records.getString(NUM_CREDITS.getName())))
+                .relatedCourse(StringMapper.trimAndUppercase(records.getString(RELATED_COURSE.getName())))
+                .relatedCourseLevel(StringMapper.trimAndUppercase(records.getString(RELATED_COURSE_LEVEL.getName())))
+                .courseDesc(StringMapper.trimAndUppercase(records.getString(COURSE_DESC.getName())))
+                .courseType(StringMapper.trimAndUppercase(records.getString(COURSE_TYPE.getName())))
+                .courseGradReqt(StringMapper.trimAndUppercase(records.getString(COURSE_GRAD_REQT.getName())))
                 .lineNumber(Long.toString(index + 1))
                 .build();
     }
@@ -1,6 +1,7 @@
 package ca.bc.gov.educ.graddatacollection.api.batch.service;
 
 import ca.bc.gov.educ.graddatacollection.api.batch.exception.FileUnProcessableException;
+import ca.bc.gov.educ.graddatacollection.api.batch.processor.FixedWidthRecordReader;
 import ca.bc.gov.educ.graddatacollection.api.batch.mappers.BatchFileMapper;
 import ca.bc.gov.educ.graddatacollection.api.batch.struct.GradFileBatchProcessor;
 import ca.bc.gov.educ.graddatacollection.api.batch.struct.GradStudentDemogDetails;
@@ -25,7 +26,6 @@ import lombok.NonNull;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import lombok.val;
-import net.sf.flatpack.DataSet;
 import org.apache.commons.lang3.StringUtils;
 import org.springframework.retry.annotation.Backoff;
 import org.springframework.retry.annotation.Retryable;
@@ -61,43 +61,43 @@ public class GradDemFileService implements GradFileBatchProcessor {
 
     @Override
     @Transactional(propagation = Propagation.MANDATORY)
-    public IncomingFilesetEntity populateBatchFileAndLoadData(String guid, final DataSet ds, final GradFileUpload fileUpload, final String schoolID, final String districtID) throws FileUnProcessableException {
+    public IncomingFilesetEntity populateBatchFileAndLoadData(String guid, final FixedWidthRecordReader records, final GradFileUpload fileUpload, final String schoolID, final String districtID) throws FileUnProcessableException {
         val batchFile = new GradStudentDemogFile();
         String incomingSchoolID = schoolID;
         String incomingDistrictID = districtID;
         if(districtID != null) {
-          var schoolTombstone = gradFileValidator.getSchoolFromFileMincodeField(guid, ds);
+          var schoolTombstone = gradFileValidator.getSchoolFromFileMincodeField(guid, records);
           incomingSchoolID = schoolTombstone.getSchoolId();
           gradFileValidator.validateFileUploadIsNotInProgress(guid, incomingSchoolID);
-          this.populateDistrictBatchFile(guid, ds, batchFile, schoolTombstone, districtID);
+          this.populateDistrictBatchFile(guid, records, batchFile, schoolTombstone, districtID);
         } else {
            var schoolTombstone =  gradFileValidator.getSchoolByID(guid, schoolID);
             if(!SchoolCategoryCodes.INDEPENDENTS_AND_OFFSHORE.contains(schoolTombstone.getSchoolCategoryCode())) {
                 incomingDistrictID = schoolTombstone.getDistrictId();
             }
            gradFileValidator.validateFileUploadIsNotInProgress(guid, incomingSchoolID);
-           this.populateSchoolBatchFile(guid, ds, batchFile, incomingSchoolID);
+           this.populateSchoolBatchFile(guid, records, batchFile, incomingSchoolID);
         }
         return this.processLoadedRecordsInBatchFile(guid, batchFile, fileUpload, incomingSchoolID, incomingDistrictID);
     }
 
-    public void populateSchoolBatchFile(final String guid, final DataSet ds, final GradStudentDemogFile batchFile, final String schoolID) throws FileUnProcessableException {
+    public void populateSchoolBatchFile(final String guid, final FixedWidthRecordReader records, final GradStudentDemogFile batchFile, final String schoolID) throws FileUnProcessableException {
         long index = 0;
-        while (ds.next()) {
-            final var mincode = ds.getString(MINCODE.getName());
+        while (records.next()) {
+            final var mincode = records.getString(MINCODE.getName());
             gradFileValidator.validateMincode(guid, schoolID, mincode);
             var schoolTombstone =  gradFileValidator.getSchoolByID(guid, schoolID);
             gradFileValidator.validateSchoolIsTranscriptEligibleAndOpen(guid, schoolTombstone, schoolID);
-            batchFile.getDemogData().add(this.getStudentDemogDetailRecordFromFile(ds, guid, index));
+            batchFile.getDemogData().add(this.getStudentDemogDetailRecordFromFile(records, guid, index));
             index++;
         }
     }
 
-    public void populateDistrictBatchFile(final String guid, final DataSet ds, final GradStudentDemogFile batchFile, SchoolTombstone schoolTombstone, final String districtID) throws FileUnProcessableException {
+    public void populateDistrictBatchFile(final String guid, final FixedWidthRecordReader records, final GradStudentDemogFile batchFile, SchoolTombstone schoolTombstone, final String districtID) throws FileUnProcessableException {
         long index = 0;
-        while (ds.next()) {
+        while (records.next()) {
             gradFileValidator.validateSchoolIsOpenAndBelongsToDistrict(guid, schoolTombstone, districtID);
-            batchFile.getDemogData().add(this.getStudentDemogDetailRecordFromFile(ds, guid, index));
+            batchFile.getDemogData().add(this.getStudentDemogDetailRecordFromFile(records, guid, index));
             index++;
         }
     }
@@ -161,14 +161,15 @@ public class GradDemFileService implements GradFileBatchProcessor {
             currentFileset.setNumberOfMissingPENs(incomingFilesetEntity.getNumberOfMissingPENs());
             currentFileset.setFilesetStatusCode(String.valueOf(FilesetStatus.LOADED.getCode()));
             currentFileset.getDemographicStudentEntities().clear();
-            currentFileset.getDemographicStudentEntities().addAll(pairStudentList );
-            return incomingFilesetService.saveIncomingFilesetRecord(currentFileset);
+            return incomingFilesetService.saveIncomingFilesetRecord(currentFileset, DemographicStudentEntity.class, pairStudentList);
         } else {
             incomingFilesetEntity.setFilesetStatusCode(String.valueOf(FilesetStatus.LOADED.getCode()));
 
             ReportingPeriodEntity reportingPeriodEntity = reportingPeriodRepository.findActiveReportingPeriod().orElseThrow(() -> new EntityNotFoundException(ReportingPeriodEntity.class, "currentDate", String.valueOf(LocalDateTime.now())));
             incomingFilesetEntity.setReportingPeriod(reportingPeriodEntity);
-            return incomingFilesetService.saveIncomingFilesetRecord(incomingFilesetEntity);
+            var students = List.copyOf(incomingFilesetEntity.getDemographicStudentEntities());
+            incomingFilesetEntity.getDemographicStudentEntities().clear();
+            return incomingFilesetService.saveIncomingFilesetRecord(incomingFilesetEntity, DemographicStudentEntity.class, students);
         }
     }
 
@@ -178,41 +179,41 @@ public class GradDemFileService implements GradFileBatchProcessor {
         return incomingFileset.getDemographicStudentEntities().stream().toList();
     }
 
-    private GradStudentDemogDetails getStudentDemogDetailRecordFromFile(final DataSet ds, final String guid, final long index) throws FileUnProcessableException {
-        final var transactionCode = ds.getString(TRANSACTION_CODE.getName());
+    private GradStudentDemogDetails getStudentDemogDetailRecordFromFile(final FixedWidthRecordReader records, final String guid, final long index) throws FileUnProcessableException {
+        final var transactionCode = records.getString(TRANSACTION_CODE.getName());
         if (!TRANSACTION_CODE_STUDENT_DEMOG_RECORDS.contains(transactionCode)) {
-            throw new FileUnProcessableException(INVALID_TRANSACTION_CODE_STUDENT_DETAILS_DEM, guid, GradCollectionStatus.LOAD_FAIL, String.valueOf(index + 1), ValidationUtil.getValueOrBlank(ds.getString(LOCAL_STUDENT_ID.getName())));
+            throw new FileUnProcessableException(INVALID_TRANSACTION_CODE_STUDENT_DETAILS_DEM, guid, GradCollectionStatus.LOAD_FAIL, String.valueOf(index + 1), ValidationUtil.getValueOrBlank(records.getString(LOCAL_STUDENT_ID.getName())));
         }
 
         return GradStudentDemogDetails.builder()
                 .transactionCode(transactionCode)
-                .vendorID(ds.getString(VENDOR_ID.getName()))
-                .verificationFlag(ds.getString(VERIFICATION_FLAG.getName()))
-                .mincode(ds.getString(MINCODE.getName()))
-                .localId(StringMapper.trimAndUppercase(ds.getString(LOCAL_STUDENT_ID.getName())))
-                .pen(ds.getString(PEN.getName()))
-                .legalSurname(StringMapper.trimAndUppercase(ds.getString(LEGAL_SURNAME.getName())))
-                .legalGivenName(StringMapper.processGivenName(ds.getString(LEGAL_GIVEN_NAME.getName())))
-                .legalMiddleName(StringMapper.trimAndUppercase(ds.getString(LEGAL_MIDDLE_NAME.getName())))
-                .addressLine1(StringMapper.trimAndUppercase(ds.getString(ADDRESS_LINE_1.getName())))
-                .addressLine2(StringMapper.trimAndUppercase(ds.getString(ADDRESS_LINE_2.getName())))
-                .city(StringMapper.trimAndUppercase(ds.getString(CITY.getName())))
-                .provinceCode(StringMapper.trimAndUppercase(ds.getString(PROVINCE_CODE.getName())))
-                .countryCode(StringMapper.trimAndUppercase(ds.getString(COUNTRY_CODE.getName())))
-                .postalCode(StringMapper.trimAndUppercase(ds.getString(POSTAL_CODE.getName())))
-                .dob(StringMapper.trimAndUppercase(ds.getString(DOB.getName())))
-                .gender(StringMapper.trimAndUppercase(ds.getString(GENDER.getName())))
-                .citizenshipStatus(StringMapper.trimAndUppercase(ds.getString(CITIZENSHIP_STATUS.getName())))
-                .grade(StringMapper.trimAndUppercase(ds.getString(GRADE.getName())))
-                .programCode1(StringMapper.trimAndUppercase(ds.getString(PROGRAM_CODE1.getName())))
-                .programCode2(StringMapper.trimAndUppercase(ds.getString(PROGRAM_CODE2.getName())))
-                .programCode3(StringMapper.trimAndUppercase(ds.getString(PROGRAM_CODE3.getName())))
-                .programCode4(StringMapper.trimAndUppercase(ds.getString(PROGRAM_CODE4.getName())))
-                .programCode5(StringMapper.trimAndUppercase(ds.getString(PROGRAM_CODE5.getName())))
-                .programCadreFlag(StringMapper.trimAndUppercase(ds.getString(PROGRAM_CADRE_FLAG.getName())))
-                .studentStatus(StringMapper.trimAndUppercase(ds.getString(STUDENT_STATUS.getName())))
-                .gradRequirementYear(StringMapper.trimAndUppercase(ds.getString(GRAD_YEAR.getName())))
-                .sscpCompletionDate(StringMapper.trimAndUppercase(ds.getString(SSCP_COMPLETION_DATE.getName())))
+                .vendorID(records.getString(VENDOR_ID.getName()))
+                .verificationFlag(records.getString(VERIFICATION_FLAG.getName()))
+                .mincode(records.getString(MINCODE.getName()))
+                .localId(StringMapper.trimAndUppercase(records.getString(LOCAL_STUDENT_ID.getName())))
+                .pen(records.getString(PEN.getName()))
+                .legalSurname(StringMapper.trimAndUppercase(records.getString(LEGAL_SURNAME.getName())))
+                .legalGivenName(StringMapper.processGivenName(records.getString(LEGAL_GIVEN_NAME.getName())))
+                .legalMiddleName(StringMapper.trimAndUppercase(records.getString(LEGAL_MIDDLE_NAME.getName())))
+                .addressLine1(StringMapper.trimAndUppercase(records.getString(ADDRESS_LINE_1.getName())))
+                .addressLine2(StringMapper.trimAndUppercase(records.getString(ADDRESS_LINE_2.getName())))
+                .city(StringMapper.trimAndUppercase(records.getString(CITY.getName())))
+                .provinceCode(StringMapper.trimAndUppercase(records.getString(PROVINCE_CODE.getName())))
+                .countryCode(StringMapper.trimAndUppercase(records.getString(COUNTRY_CODE.getName())))
+                .postalCode(StringMapper.trimAndUppercase(records.getString(POSTAL_CODE.getName())))
+                .dob(StringMapper.trimAndUppercase(records.getString(DOB.getName())))
+                .gender(StringMapper.trimAndUppercase(records.getString(GENDER.getName())))
+                .citizenshipStatus(StringMapper.trimAndUppercase(records.getString(CITIZENSHIP_STATUS.getName())))
+                .grade(StringMapper.trimAndUppercase(records.getString(GRADE.getName())))
+                .programCode1(StringMapper.trimAndUppercase(records.getString(PROGRAM_CODE1.getName())))
+                .programCode2(StringMapper.trimAndUppercase(records.getString(PROGRAM_CODE2.getName())))
+                .programCode3(StringMapper.trimAndUppercase(records.getString(PROGRAM_CODE3.getName())))
+                .programCode4(StringMapper.trimAndUppercase(records.getString(PROGRAM_CODE4.getName())))
+                .programCode5(StringMapper.trimAndUppercase(records.getString(PROGRAM_CODE5.getName())))
+                .programCadreFlag(StringMapper.trimAndUppercase(records.getString(PROGRAM_CADRE_FLAG.getName())))
+                .studentStatus(StringMapper.trimAndUppercase(records.getString(STUDENT_STATUS.getName())))
+                .gradRequirementYear(StringMapper.trimAndUppercase(records.getString(GRAD_YEAR.getName())))
+                .sscpCompletionDate(StringMapper.trimAndUppercase(records.getString(SSCP_COMPLETION_DATE.getName())))
                 .lineNumber(Long.toString(index + 1))
                 .build();
     }
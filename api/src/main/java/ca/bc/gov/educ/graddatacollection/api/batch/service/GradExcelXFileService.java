@@ -3,17 +3,18 @@ package ca.bc.gov.educ.graddatacollection.api.batch.service;
 import ca.bc.gov.educ.graddatacollection.api.batch.constants.ExcelFileType;
 import ca.bc.gov.educ.graddatacollection.api.batch.exception.FileUnProcessableException;
 import ca.bc.gov.educ.graddatacollection.api.batch.processor.BaseExcelProcessor;
+import ca.bc.gov.educ.graddatacollection.api.batch.processor.XlsxStreamingRowReader;
 import ca.bc.gov.educ.graddatacollection.api.batch.validation.GradFileValidator;
 import ca.bc.gov.educ.graddatacollection.api.exception.GradDataCollectionAPIRuntimeException;
 import ca.bc.gov.educ.graddatacollection.api.properties.ApplicationProperties;
 import ca.bc.gov.educ.graddatacollection.api.service.v1.ReportingPeriodService;
 import ca.bc.gov.educ.graddatacollection.api.struct.v1.SummerStudentDataResponse;
 import lombok.extern.slf4j.Slf4j;
-import org.apache.poi.openxml4j.exceptions.InvalidFormatException;
-import org.apache.poi.openxml4j.opc.OPCPackage;
-import org.apache.poi.xssf.usermodel.XSSFWorkbook;
+import org.apache.poi.openxml4j.exceptions.OpenXML4JException;
 import org.springframework.stereotype.Service;
+import org.xml.sax.SAXException;
 
+import javax.xml.stream.XMLStreamException;
 import java.io.File;
 import java.io.IOException;
 
@@ -29,12 +30,10 @@ public class GradExcelXFileService extends BaseExcelProcessor {
     public SummerStudentDataResponse extractData(String guid, byte[] fileContents, String schoolID, String districtID) throws FileUnProcessableException {
         try {
             final File outputFile = this.getFile(fileContents, ExcelFileType.XLSX.getAllowedExtensions());
-            try (final OPCPackage pkg = OPCPackage.open(outputFile)) {
-                try (final XSSFWorkbook wb = new XSSFWorkbook(pkg)) {
-                    return this.processSheet(wb.getSheetAt(0), schoolID, districtID, guid);
-                }
+            try (final var rows = XlsxStreamingRowReader.open(outputFile)) {
+                return this.processRows(rows, schoolID, districtID, guid);
             }
-        } catch (final IOException | InvalidFormatException e) {
+        } catch (final IOException | OpenXML4JException | SAXException | XMLStreamException e) {
             log.error("exception", e);
             throw new GradDataCollectionAPIRuntimeException(e.getMessage());
         }
@@ -1,6 +1,7 @@
 package ca.bc.gov.educ.graddatacollection.api.batch.service;
 
 import ca.bc.gov.educ.graddatacollection.api.batch.exception.FileUnProcessableException;
+import ca.bc.gov.educ.graddatacollection.api.batch.processor.FixedWidthRecordReader;
 import ca.bc.gov.educ.graddatacollection.api.batch.mappers.BatchFileMapper;
 import ca.bc.gov.educ.graddatacollection.api.batch.struct.GradFileBatchProcessor;
 import ca.bc.gov.educ.graddatacollection.api.batch.struct.GradStudentAssessmentDetails;
@@ -18,6 +19,7 @@ import ca.bc.gov.educ.graddatacollection.api.repository.v1.IncomingFilesetReposi
 import ca.bc.gov.educ.graddatacollection.api.repository.v1.ReportingPeriodRepository;
 import ca.bc.gov.educ.graddatacollection.api.rest.RestUtils;
 import ca.bc.gov.educ.graddatacollection.api.service.v1.AssessmentRulesService;
+import ca.bc.gov.educ.graddatacollection.api.service.v1.FilesetDuplicateIndexService;
 import ca.bc.gov.educ.graddatacollection.api.service.v1.IncomingFilesetService;
 import ca.bc.gov.educ.graddatacollection.api.service.v1.ReportingPeriodService;
 import ca.bc.gov.educ.graddatacollection.api.struct.external.institute.v1.SchoolTombstone;
@@ -28,7 +30,6 @@ import lombok.NonNull;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import lombok.val;
-import net.sf.flatpack.DataSet;
 import org.apache.commons.lang3.StringUtils;
 import org.springframework.retry.annotation.Backoff;
 import org.springframework.retry.annotation.Retryable;
@@ -61,9 +62,10 @@ public class GradXamFileService implements GradFileBatchProcessor {
     @Getter(PRIVATE)
     private final RestUtils restUtils;
     private final AssessmentRulesService assessmentRulesService;
+    private final FilesetDuplicateIndexService filesetDuplicateIndexService;
 
     @Override
-    public IncomingFilesetEntity populateBatchFileAndLoadData(String guid, DataSet ds, final GradFileUpload fileUpload, final String schoolID, final String districtID) throws FileUnProcessableException {
+    public IncomingFilesetEntity populateBatchFileAndLoadData(String guid, FixedWidthRecordReader records, final GradFileUpload fileUpload, final String schoolID, final String districtID) throws FileUnProcessableException {
         val batchFile = new GradStudentXamFile();
         String incomingSchoolID = schoolID;
         String incomingDistrictID = districtID;
@@ -73,34 +75,34 @@ public class GradXamFileService implements GradFileBatchProcessor {
                 incomingDistrictID = schoolTombstone.getDistrictId();
             }
             gradFileValidator.validateFileUploadIsNotInProgress(guid, schoolID);
-            this.populateSchoolBatchFile(guid, ds, batchFile, schoolID);
+            this.populateSchoolBatchFile(guid, records, batchFile, schoolID);
         } else {
-            var schoolTombstone =  ds.getRowCount() == 0 ? gradFileValidator.getSchoolFromFileName(guid, fileUpload.getFileName()) : gradFileValidator.getSchoolFromFileMincodeField(guid, ds);
+            var schoolTombstone =  records.isEmpty() ? gradFileValidator.getSchoolFromFileName(guid, fileUpload.getFileName()) : gradFileValidator.getSchoolFromFileMincodeField(guid, records);
             incomingSchoolID = schoolTombstone.getSchoolId();
             gradFileValidator.validateSchoolIsOpenAndBelongsToDistrict(guid, schoolTombstone, districtID);
             gradFileValidator.validateFileUploadIsNotInProgress(guid, schoolTombstone.getSchoolId());
-            this.populateDistrictBatchFile(guid, ds, batchFile, schoolTombstone, districtID);
+            this.populateDistrictBatchFile(guid, records, batchFile, schoolTombstone, districtID);
         }
         return this.processLoadedRecordsInBatchFile(guid, batchFile, fileUpload, incomingSchoolID, incomingDistrictID);
     }
 
-    public void populateSchoolBatchFile(final String guid, final DataSet ds, final GradStudentXamFile batchFile, final String schoolID) throws FileUnProcessableException {
+    public void populateSchoolBatchFile(final String guid, final FixedWidthRecordReader records, final GradStudentXamFile batchFile, final String schoolID) throws FileUnProcessableException {
         long index = 0;
-        while (ds.next()) {
-            final var mincode = ds.getString(MINCODE.getName());
+        while (records.next()) {
+            final var mincode = records.getString(MINCODE.getName());
             gradFileValidator.validateMincode(guid, schoolID, mincode);
             var schoolTombstone =  gradFileValidator.getSchoolByID(guid, schoolID);
             gradFileValidator.validateSchoolIsTranscriptEligibleAndOpen(guid, schoolTombstone, schoolID);
-            batchFile.getAssessmentData().add(this.getStudentCourseDetailRecordFromFile(ds, guid, index));
+            batchFile.getAssessmentData().add(this.getStudentCourseDetailRecordFromFile(records, guid, index));
             index++;
         }
     }
 
-    public void populateDistrictBatchFile(final String guid, final DataSet ds, final GradStudentXamFile batchFile, SchoolTombstone schoolTombstone, final String districtID) throws FileUnProcessableException {
+    public void populateDistrictBatchFile(final String guid, final FixedWidthRecordReader records, final GradStudentXamFile batchFile, SchoolTombstone schoolTombstone, final String districtID) throws FileUnProcessableException {
         long index = 0;
-        while (ds.next()) {
+        while (records.next()) {
             gradFileValidator.validateSchoolIsOpenAndBelongsToDistrict(guid, schoolTombstone, districtID);
-            batchFile.getAssessmentData().add(this.getStudentCourseDetailRecordFromFile(ds, guid, index));
+            batchFile.getAssessmentData().add(this.getStudentCourseDetailRecordFromFile(records, guid, index));
             index++;
         }
     }
@@ -163,15 +165,18 @@ public class GradXamFileService implements GradFileBatchProcessor {
             currentFileset.setNumberOfMissingPENs(incomingFilesetEntity.getNumberOfMissingPENs());
             currentFileset.setFilesetStatusCode(String.valueOf(FilesetStatus.LOADED.getCode()));
             currentFileset.getAssessmentStudentEntities().clear();
-            currentFileset.getAssessmentStudentEntities().addAll(pairStudentList);
-            return incomingFilesetService.saveIncomingFilesetRecord(currentFileset);
+            var savedFileset = incomingFilesetService.saveIncomingFilesetRecord(currentFileset, AssessmentStudentEntity.class, pairStudentList);
+            filesetDuplicateIndexService.invalidateAssessmentDuplicates(savedFileset.getIncomingFilesetID());
+            return savedFileset;
         } else {
             incomingFilesetEntity.setFilesetStatusCode(String.valueOf(FilesetStatus.LOADED.getCode()));
 
             ReportingPeriodEntity reportingPeriodEntity = reportingPeriodRepository.findActiveReportingPeriod().orElseThrow(() -> new EntityNotFoundException(ReportingPeriodEntity.class, "currentDate", String.valueOf(LocalDateTime.now())));
             incomingFilesetEntity.setReportingPeriod(reportingPeriodEntity);
+            var students = List.copyOf(incomingFilesetEntity.getAssessmentStudentEntities());
+            incomingFilesetEntity.getAssessmentStudentEntities().clear();
 
-            return incomingFilesetService.saveIncomingFilesetRecord(incomingFilesetEntity);
+            return incomingFilesetService.saveIncomingFilesetRecord(incomingFilesetEntity, AssessmentStudentEntity.class, students);
         }
     }
 
@@ -181,38 +186,38 @@ public class GradXamFileService implements GradFileBatchProcessor {
         return incomingFileset.getAssessmentStudentEntities().stream().toList();
     }
 
-    private GradStudentAssessmentDetails getStudentCourseDetailRecordFromFile(final DataSet ds, final String guid, final long index) throws FileUnProcessableException {
-        final var transactionCode = ds.getString(TRANSACTION_CODE.getName());
+    private GradStudentAssessmentDetails getStudentCourseDetailRecordFromFile(final FixedWidthRecordReader records, final String guid, final long index) throws FileUnProcessableException {
+        final var transactionCode = records.getString(TRANSACTION_CODE.getName());
         if (!TRANSACTION_CODE_STUDENT_XAM_RECORDS.contains(transactionCode)) {
-            throw new FileUnProcessableException(INVALID_TRANSACTION_CODE_STUDENT_DETAILS_XAM, guid, GradCollectionStatus.LOAD_FAIL, String.valueOf(index + 1), ValidationUtil.getValueOrBlank(ds.getString(LOCAL_STUDENT_ID.getName())));
+            throw new FileUnProcessableException(INVALID_TRANSACTION_CODE_STUDENT_DETAILS_XAM, guid, GradCollectionStatus.LOAD_FAIL, String.valueOf(index + 1), ValidationUtil.getValueOrBlank(records.getString(LOCAL_STUDENT_ID.getName())));
         }
 
         return GradStudentAssessmentDetails.builder()
                 .transactionCode(transactionCode)
-                .vendorID(ds.getString(VENDOR_ID.getName()))
-                .verificationFlag(ds.getString(VERIFICATION_FLAG.getName()))
-                .mincode(ds.getString(MINCODE.getName()))
-                .localId(StringMapper.trimAndUppercase(ds.getString(LOCAL_STUDENT_ID.getName())))
-                .pen(ds.getString(PEN.getName()))
-                .courseCode(StringMapper.trimAndUppercase(ds.getString(COURSE_CODE.getName())))
-                .courseLevel(StringMapper.processGivenName(ds.getString(COURSE_LEVEL.getName())))
-                .courseYear(StringMapper.trimAndUppercase(ds.getString(COURSE_YEAR.getName())))
-                .courseMonth(StringMapper.trimAndUppercase(ds.getString(COURSE_MONTH.getName())))
-                .interimLetterGrade(StringMapper.trimAndUppercase(ds.getString(INTERIM_LETTER_GRADE.getName())))
-                .interimSchoolPercentage(StringMapper.trimAndUppercase(ds.getString(INTERIM_SCHOOL_PERCENTAGE.getName())))
-                .finalSchoolPercentage(StringMapper.trimAndUppercase(ds.getString(FINAL_SCHOOL_PERCENTAGE.getName())))
-                .examPercentage(StringMapper.trimAndUppercase(ds.getString(EXAM_PERCENTAGE.getName())))
-                .finalPercentage(StringMapper.trimAndUppercase(ds.getString(FINAL_PERCENTAGE.getName())))
-                .finalLetterGrade(StringMapper.trimAndUppercase(ds.getString(FINAL_LETTER_GRADE.getName())))
-                .eExamFlag(StringMapper.trimAndUppercase(ds.getString(E_EXAM_FLAG.getName())))
-                .provSpecCase(StringMapper.trimAndUppercase(ds.getString(PROV_SPEC_CASE.getName())))
-                .localCourseId(StringMapper.trimAndUppercase(ds.getString(LOCAL_COURSE_ID.getName())))
-                .courseStatus(StringMapper.trimAndUppercase(ds.getString(COURSE_STATUS.getName())))
-                .legalSurname(StringMapper.trimAndUppercase(ds.getString(LEGAL_SURNAME.getName())))
-                .numCredits(StringMapper.trimAndUppercase(ds.getString(NUM_CREDITS.getName())))
-                .courseType(StringMapper.trimAndUppercase(ds.getString(COURSE_TYPE.getName())))
-                .writeFlag(StringMapper.trimAndUppercase(ds.getString(WRITE_FLAG.getName())))
-                .examMincode(StringMapper.trimAndUppercase(ds.getString(EXAM_MINCODE.getName())))
+                .vendorID(records.getString(VENDOR_ID.getName()))
+                .verificationFlag(records.getString(VERIFICATION_FLAG.getName()))
+                .mincode(records.getString(MINCODE.getName()))
+                .localId(StringMapper.trimAndUppercase(records.getString(LOCAL_STUDENT_ID.getName())))
+                .pen(records.getString(PEN.getName()))
+                .courseCode(StringMapper.trimAndUppercase(records.getString(COURSE_CODE.getName())))
+                .courseLevel(StringMapper.processGivenName(records.getString(COURSE_LEVEL.getName())))
+                .courseYear(StringMapper.trimAndUppercase(records.getString(COURSE_YEAR.getName())))
+                .courseMonth(StringMapper.trimAndUppercase(records.getString(COURSE_MONTH.getName())))
+                .interimLetterGrade(StringMapper.trimAndUppercase(records.getString(INTERIM_LETTER_GRADE.getName())))
+                .interimSchoolPercentage(StringMapper.trimAndUppercase(records.getString(INTERIM_SCHOOL_PERCENTAGE.getName())))
+                .finalSchoolPercentage(StringMapper.trimAndUppercase(records.getString(FINAL_SCHOOL_PERCENTAGE.getName())))
+                .examPercentage(StringMapper.trimAndUppercase(records.getString(EXAM_PERCENTAGE.getName())))
+                .finalPercentage(StringMapper.trimAndUppercase(records.getString(FINAL_PERCENTAGE.getName())))
+                .finalLetterGrade(StringMapper.trimAndUppercase(records.getString(FINAL_LETTER_GRADE.getName())))
+                .eExamFlag(StringMapper.trimAndUppercase(records.getString(E_EXAM_FLAG.getName())))
+                .provSpecCase(StringMapper.trimAndUppercase(records.getString(PROV_SPEC_CASE.getName())))
+                .localCourseId(StringMapper.trimAndUppercase(records.getString(LOCAL_COURSE_ID.getName())))
+                .courseStatus(StringMapper.trimAndUppercase(records.getString(COURSE_STATUS.getName())))
+                .legalSurname(StringMapper.trimAndUppercase(records.getString(LEGAL_SURNAME.getName())))
+                .numCredits(StringMapper.trimAndUppercase(records.getString(NUM_CREDITS.getName())))
+                .courseType(StringMapper.trimAndUppercase(records.getString(COURSE_TYPE.getName())))
+                .writeFlag(StringMapper.trimAndUppercase(records.getString(WRITE_FLAG.getName())))
+                .examMincode(StringMapper.trimAndUppercase(records.getString(EXAM_MINCODE.getName())))
                 .lineNumber(Long.toString(index + 1))
                 .build();
     }
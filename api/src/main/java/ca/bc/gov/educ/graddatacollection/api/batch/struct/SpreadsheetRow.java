@@ -0,0 +1,24 @@
+package ca.bc.gov.educ.graddatacollection.api.batch.struct;
+
+import ca.bc.gov.educ.graddatacollection.api.batch.constants.ColumnType;
+
+/**
+ * A single row of a summer student upload, independent of whether it came from a CSV or an Excel file.
+ */
+public interface SpreadsheetRow {
+
+    /**
+     * @return the zero based row number, the heading row being row 0
+     */
+    int getRowNum();
+
+    /**
+     * @return one more than the index of the last cell in the row, or 0 for a row without cells
+     */
+    int getLastCellNum();
+
+    /**
+     * @return the cell value as text, or null when the cell is missing or blank
+     */
+    String getCellValue(int columnIndex, ColumnType columnType);
+}
@@ -0,0 +1,14 @@
+package ca.bc.gov.educ.graddatacollection.api.batch.struct;
+
+import java.io.Closeable;
+
+/**
+ * Forward-only source of the rows of the first sheet of a summer student upload. Missing rows are skipped.
+ */
+public interface SpreadsheetRowReader extends Closeable {
+
+    /**
+     * @return the next row, or null once the sheet is exhausted
+     */
+    SpreadsheetRow nextRow();
+}
@@ -2,6 +2,7 @@ package ca.bc.gov.educ.graddatacollection.api.batch.validation;
 
 import ca.bc.gov.educ.graddatacollection.api.batch.exception.FileError;
 import ca.bc.gov.educ.graddatacollection.api.batch.exception.FileUnProcessableException;
+import ca.bc.gov.educ.graddatacollection.api.batch.processor.FixedWidthRecordReader;
 import ca.bc.gov.educ.graddatacollection.api.constants.v1.GradCollectionStatus;
 import ca.bc.gov.educ.graddatacollection.api.constants.v1.SchoolCategoryCodes;
 import ca.bc.gov.educ.graddatacollection.api.constants.v1.SchoolStudentStatus;
@@ -11,9 +12,6 @@ import ca.bc.gov.educ.graddatacollection.api.rest.RestUtils;
 import ca.bc.gov.educ.graddatacollection.api.struct.external.institute.v1.SchoolTombstone;
 import ca.bc.gov.educ.graddatacollection.api.struct.v1.GradFileUpload;
 import lombok.extern.slf4j.Slf4j;
-import net.sf.flatpack.DataError;
-import net.sf.flatpack.DataSet;
-import net.sf.flatpack.Record;
 import org.apache.commons.lang3.StringUtils;
 import org.springframework.lang.NonNull;
 import org.springframework.stereotype.Component;
@@ -30,8 +28,6 @@ import static ca.bc.gov.educ.graddatacollection.api.batch.exception.FileError.MI
 @Component
 @Slf4j
 public class GradFileValidator {
-    public static final String TOO_LONG = "TOO LONG";
-    public static final String FILE_TYPE = "dem";
     public static final String MINCODE = "mincode";
     private final IncomingFilesetRepository incomingFilesetRepository;
     private final RestUtils restUtils;
@@ -41,63 +37,6 @@ public class GradFileValidator {
         this.restUtils = restUtils;
     }
 
-    public byte[] getUploadedFileBytes(@NonNull final String guid, final String fileUpload, String fileType) throws FileUnProcessableException {
-        byte[] bytes = fileUpload.getBytes();
-        if (fileType.equalsIgnoreCase(FILE_TYPE) && bytes.length == 0) {
-            throw new FileUnProcessableException(FileError.EMPTY_FILE, guid, GradCollectionStatus.LOAD_FAIL);
-        }
-        return bytes;
-    }
-    public void validateFileForFormatAndLength(@NonNull final String guid, @NonNull final DataSet ds, @NonNull final String lengthError) throws FileUnProcessableException {
-        this.processDataSetForRowLengthErrors(guid, ds, lengthError);
-    }
-    private static boolean isMalformedRowError(DataError error, String lengthError) {
-        String description = error.getErrorDesc();
-        return description.contains(lengthError);
-    }
-    private String getMalformedRowMessage(String errorDescription, DataError error, String lengthError) {
-        if (errorDescription.contains(lengthError)) {
-            return this.getDetailRowLengthIncorrectMessage(error, errorDescription);
-        }
-        return "The uploaded file contains a malformed row that could not be identified.";
-    }
-
-    public void processDataSetForRowLengthErrors(@NonNull final String guid, @NonNull final DataSet ds, @NonNull final String lengthError) throws FileUnProcessableException {
-        Optional<DataError> maybeError = ds
-                .getErrors()
-                .stream()
-                .filter(error -> isMalformedRowError(error, lengthError))
-                .findFirst();
-        
-        if (maybeError.isPresent()) {
-            DataError error = maybeError.get();
-            String message = this.getMalformedRowMessage(error.getErrorDesc(), error, lengthError);
-            throw new FileUnProcessableException(
-                    FileError.INVALID_ROW_LENGTH,
-                    guid,
-                    GradCollectionStatus.LOAD_FAIL,
-                    message
-            );
-        }
-    }
-
-    /**
-     * Gets detail row length incorrect message.
-     * here 1 is subtracted from the line number as line number starts from header record and here header record
-     * needs to
-     * be  discarded
-     *
-     * @param errorDescription the {@link DataError} description
-     * @param error the error
-     * @return the detail row length incorrect message
-     */
-    public String getDetailRowLengthIncorrectMessage(final DataError error, String errorDescription) {
-        if (errorDescription.contains(TOO_LONG)) {
-            return "Line " + (error.getLineNo()) + " has too many characters.";
-        }
-        return "Line " + (error.getLineNo()) + " is missing characters.";
-    }
-
     public void validateFileHasCorrectExtension(@NonNull final String guid, final GradFileUpload fileUpload, String allowedExtension) throws FileUnProcessableException {
         String fileName = fileUpload.getFileName();
         int lastIndex = fileName.lastIndexOf('.');
@@ -134,8 +73,8 @@ public class GradFileValidator {
         return school.getMincode();
     }
 
-    public SchoolTombstone getSchoolFromFileMincodeField(final String guid, final DataSet ds) throws FileUnProcessableException {
-        var mincode = getSchoolMincode(guid, ds);
+    public SchoolTombstone getSchoolFromFileMincodeField(final String guid, final FixedWidthRecordReader records) throws FileUnProcessableException {
+        var mincode = getSchoolMincode(guid, records);
         var school = getSchoolUsingMincode(mincode);
         return school.orElseThrow(() -> new FileUnProcessableException(FileError.INVALID_SCHOOL, guid, GradCollectionStatus.LOAD_FAIL, mincode));
     }
@@ -146,17 +85,12 @@ public class GradFileValidator {
         return school.orElseThrow(() -> new FileUnProcessableException(FileError.INVALID_FILENAME, guid, GradCollectionStatus.LOAD_FAIL));
     }
 
-    public String getSchoolMincode(final String guid, @NonNull final DataSet ds) throws FileUnProcessableException{
-        ds.goTop();
-        ds.next();
-
-        Optional<Record> firstRow = ds.getRecord();
-        String mincode = firstRow.map(row -> row.getString(MINCODE)).orElse(null);
+    public String getSchoolMincode(final String guid, @NonNull final FixedWidthRecordReader records) throws FileUnProcessableException{
+        String mincode = records.getFirstRecordString(MINCODE);
 
         if(StringUtils.isBlank(mincode)){
             throw new FileUnProcessableException(FileError.MISSING_MINCODE, guid, GradCollectionStatus.LOAD_FAIL);
         }
-        ds.goTop();
         return mincode;
     }
 
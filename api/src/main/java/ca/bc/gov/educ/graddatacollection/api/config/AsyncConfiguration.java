@@ -1,9 +1,11 @@
 package ca.bc.gov.educ.graddatacollection.api.config;
 
+import ca.bc.gov.educ.graddatacollection.api.orchestrator.base.SagaCompletionPacer;
 import ca.bc.gov.educ.graddatacollection.api.properties.ApplicationProperties;
 import ca.bc.gov.educ.graddatacollection.api.util.ThreadFactoryBuilder;
 import org.jboss.threads.EnhancedQueueExecutor;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.context.annotation.Profile;
@@ -29,6 +31,16 @@ public class AsyncConfiguration {
       .setCorePoolSize(applicationProperties.getMinSubscriberThreads()).setMaximumPoolSize(applicationProperties.getMaxSubscriberThreads()).setKeepAliveTime(Duration.ofSeconds(60)).build();
   }
 
+  /**
+   * Runs saga events on the subscriber threads, pacing each event before its transaction is opened.
+   *
+   * @return the executor
+   */
+  @Bean(name = "sagaEventExecutor")
+  public Executor sagaEventExecutor(@Qualifier("subscriberExecutor") final Executor subscriberExecutor, final SagaCompletionPacer sagaCompletionPacer) {
+    return sagaCompletionPacer.pacedExecutor(subscriberExecutor);
+  }
+
   @Bean(name = "sagaRetryTaskExecutor")
   public Executor sagaRetryTaskExecutor() {
     return new EnhancedQueueExecutor.Builder()
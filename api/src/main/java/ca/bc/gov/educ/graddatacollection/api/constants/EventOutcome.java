@@ -9,6 +9,9 @@ public enum EventOutcome {
   READ_DEM_STUDENTS_FOR_PROCESSING_SUCCESS,
   READ_ASSESSMENT_STUDENTS_FOR_PROCESSING_SUCCESS,
   READ_COURSE_STUDENTS_FOR_PROCESSING_SUCCESS,
+  READ_DEM_STUDENT_BATCH_FOR_PROCESSING_SUCCESS,
+  READ_ASSESSMENT_STUDENT_BATCH_FOR_PROCESSING_SUCCESS,
+  READ_COURSE_STUDENT_BATCH_FOR_PROCESSING_SUCCESS,
   VALIDATE_DEM_STUDENT_SUCCESS_WITH_NO_ERROR,
   VALIDATE_DEM_STUDENT_SUCCESS_WITH_CRITICAL_ERROR,
   VALIDATE_DEM_STUDENT_SUCCESS_WITH_NON_CRITICAL_ERROR,
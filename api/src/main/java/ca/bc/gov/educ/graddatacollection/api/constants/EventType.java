@@ -8,6 +8,7 @@ public enum EventType {
   MARK_SAGA_COMPLETE,
   GET_PAGINATED_SCHOOLS,
   GET_STUDENT,
+  GET_PAGINATED_STUDENT_BY_CRITERIA,
   GET_GRAD_STUDENT_RECORD,
   GET_GRAD_STUDENT_COURSE_RECORDS,
   GET_STUDENT_ASSESSMENT_DETAILS,
@@ -15,6 +16,9 @@ public enum EventType {
   READ_DEM_STUDENTS_FOR_PROCESSING,
   READ_ASSESSMENT_STUDENTS_FOR_PROCESSING,
   READ_COURSE_STUDENTS_FOR_PROCESSING,
+  READ_DEM_STUDENT_BATCH_FOR_PROCESSING,
+  READ_ASSESSMENT_STUDENT_BATCH_FOR_PROCESSING,
+  READ_COURSE_STUDENT_BATCH_FOR_PROCESSING,
   VALIDATE_DEM_STUDENT,
   CREATE_OR_UPDATE_DEM_STUDENT_IN_GRAD,
   UPDATE_DEM_STUDENT_SOR_AND_STATUS_IN_GRAD,
@@ -6,6 +6,7 @@ import lombok.Getter;
 public enum FilesetStatus {
     DELETED("DELETED"),
     COMPLETED("COMPLETED"),
+    COPYING("COPYING"),
     LOADED("LOADED"),
     NOT_LOADED("NOTLOADED")
     ;
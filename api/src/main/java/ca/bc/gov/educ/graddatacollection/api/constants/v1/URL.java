@@ -9,6 +9,7 @@ public final class URL {
   public static final String BASE_URL_ERROR_FILESET = BASE_URL + "/error-fileset";
   public static final String BASE_URL_FILESET = BASE_URL + "/fileset";
   public static final String PAGINATED = "/paginated";
+  public static final String KEYSET = "/keyset";
   public static final String GET_STUDENT_FILESETS = "/get-student";
   public static final String VALIDATION_ISSUE_TYPE_CODES = "/validation-issue-type-codes";
   public static final String GRADUATION_PROGRAM_CODES = "/graduation-program-codes";
@@ -8,6 +8,7 @@ import ca.bc.gov.educ.graddatacollection.api.mappers.v1.ErrorFilesetStudentMappe
 import ca.bc.gov.educ.graddatacollection.api.model.v1.FinalErrorFilesetStudentEntity;
 import ca.bc.gov.educ.graddatacollection.api.service.v1.FinalErrorFilesetStudentSearchService;
 import ca.bc.gov.educ.graddatacollection.api.struct.v1.ErrorFilesetStudent;
+import ca.bc.gov.educ.graddatacollection.api.struct.v1.ErrorFilesetStudentKeysetPage;
 import ca.bc.gov.educ.graddatacollection.api.struct.v1.Search;
 import ca.bc.gov.educ.graddatacollection.api.struct.v1.SearchCriteria;
 import ca.bc.gov.educ.graddatacollection.api.util.JsonUtil;
@@ -39,7 +40,6 @@ public class ErrorFilesetStudentController implements ErrorFilesetStudentEndpoin
     @Override
     public CompletableFuture<Page<ErrorFilesetStudent>> findAll(Integer pageNumber, Integer pageSize, String sortCriteriaJson, String searchCriteriaListJson) {
         final List<Sort.Order> sorts = new ArrayList<>();
-        List<String> mapFilter = new ArrayList<>();
         Specification<FinalErrorFilesetStudentEntity> studentSpecs = errorFilesetStudentSearchService
                 .setSpecificationAndSortCriteria(
                         sortCriteriaJson,
@@ -47,6 +47,26 @@ public class ErrorFilesetStudentController implements ErrorFilesetStudentEndpoin
                         JsonUtil.mapper,
                         sorts
                 );
+        List<String> mapFilter = getValidationFilter(searchCriteriaListJson);
+        return this.errorFilesetStudentSearchService
+                    .findAll(studentSpecs, pageNumber, pageSize, sorts)
+                    .thenApplyAsync(student -> student.map(stu -> mapper.toStructureWithFilter(stu, mapFilter)));
+    }
+
+    @Override
+    public CompletableFuture<ErrorFilesetStudentKeysetPage> findAllAfter(String cursor, Integer pageSize, String searchCriteriaListJson) {
+        Specification<FinalErrorFilesetStudentEntity> studentSpecs = errorFilesetStudentSearchService
+                .setSpecificationAndSortCriteria(
+                        null,
+                        searchCriteriaListJson,
+                        JsonUtil.mapper,
+                        new ArrayList<>()
+                );
+        return this.errorFilesetStudentSearchService.findAllAfter(studentSpecs, cursor, pageSize, getValidationFilter(searchCriteriaListJson));
+    }
+
+    private List<String> getValidationFilter(String searchCriteriaListJson) {
+        List<String> mapFilter = new ArrayList<>();
         try {
             if (StringUtils.isNotBlank(searchCriteriaListJson)) {
                 List<Search> searches = JsonUtil.mapper.readValue(searchCriteriaListJson, new TypeReference<>() {
@@ -65,13 +85,9 @@ public class ErrorFilesetStudentController implements ErrorFilesetStudentEndpoin
                     mapFilter.addAll(customSearch.stream().map(Search::getSearchCriteriaList).flatMap(searchCriteria -> searchCriteria.stream().map(SearchCriteria::getValue).distinct()).toList());
                 }
             }
-            return this.errorFilesetStudentSearchService
-                        .findAll(studentSpecs, pageNumber, pageSize, sorts)
-                        .thenApplyAsync(student -> student.map(stu -> mapper.toStructureWithFilter(stu, mapFilter)));
-
-
         } catch (JsonProcessingException e) {
             throw new GradDataCollectionAPIRuntimeException(e.getMessage());
         }
+        return mapFilter;
     }
 }
@@ -18,6 +18,7 @@ import java.util.ArrayList;
 import java.util.List;
 import java.util.UUID;
 import java.util.concurrent.CompletableFuture;
+import java.util.stream.Collectors;
 
 @RestController
 @Slf4j
@@ -33,16 +34,19 @@ public class IncomingFilesetStudentController implements IncomingFilesetEndpoint
 
     private final CourseStudentService courseStudentService;
 
+    private final IncomingFilesetProgressService incomingFilesetProgressService;
+
     private static final IncomingFilesetMapper mapper = IncomingFilesetMapper.mapper;
 
     private static final IncomingFilesetStudentMapper extendedMapper  = IncomingFilesetStudentMapper.mapper;
 
-    public IncomingFilesetStudentController(FinalIncomingFilesetSearchService finalIncomingFilesetSearchService, IncomingFilesetSearchService incomingFilesetSearchService, DemographicStudentService demographicStudentService, AssessmentStudentService assessmentStudentService, CourseStudentService courseStudentService) {
+    public IncomingFilesetStudentController(FinalIncomingFilesetSearchService finalIncomingFilesetSearchService, IncomingFilesetSearchService incomingFilesetSearchService, DemographicStudentService demographicStudentService, AssessmentStudentService assessmentStudentService, CourseStudentService courseStudentService, IncomingFilesetProgressService incomingFilesetProgressService) {
         this.finalIncomingFilesetSearchService = finalIncomingFilesetSearchService;
         this.incomingFilesetSearchService = incomingFilesetSearchService;
         this.demographicStudentService = demographicStudentService;
         this.assessmentStudentService = assessmentStudentService;
         this.courseStudentService = courseStudentService;
+        this.incomingFilesetProgressService = incomingFilesetProgressService;
     }
 
     @Override
@@ -57,11 +61,18 @@ public class IncomingFilesetStudentController implements IncomingFilesetEndpoint
                 );
         return this.incomingFilesetSearchService
                 .findAll(studentSpecs, pageNumber, pageSize, sorts)
-                .thenApplyAsync(fileset -> fileset.map(mapper::toStructure).map(file -> {
-                    long pos = incomingFilesetSearchService.getCounts(file);
-                    file.setPositionInQueue(String.valueOf(pos));
-                    return file;
-                }));
+                .thenApplyAsync(fileset -> {
+                    var queuedUpdateDates = incomingFilesetSearchService.findQueuedUpdateDates();
+                    var progressByFileset = incomingFilesetProgressService.findAllByIncomingFilesetIDs(fileset.map(IncomingFilesetEntity::getIncomingFilesetID).getContent())
+                            .stream().collect(Collectors.toMap(IncomingFilesetProgressEntity::getIncomingFilesetID, mapper::toStructure));
+                    return fileset.map(entity -> {
+                        var file = mapper.toStructure(entity);
+                        long pos = incomingFilesetSearchService.getCounts(file, queuedUpdateDates);
+                        file.setPositionInQueue(String.valueOf(pos));
+                        file.setProgress(progressByFileset.get(entity.getIncomingFilesetID()));
+                        return file;
+                    });
+                });
     }
 
     @Override
@@ -76,11 +87,14 @@ public class IncomingFilesetStudentController implements IncomingFilesetEndpoint
                 );
         return this.finalIncomingFilesetSearchService
                 .findAll(studentSpecs, pageNumber, pageSize, sorts)
-                .thenApplyAsync(fileset -> fileset.map(mapper::toStructure).map(file -> {
-                    long pos = finalIncomingFilesetSearchService.getCounts(file);
-                    file.setPositionInQueue(String.valueOf(pos));
-                    return file;
-                }));
+                .thenApplyAsync(fileset -> {
+                    var queuedUpdateDates = finalIncomingFilesetSearchService.findQueuedUpdateDates();
+                    return fileset.map(mapper::toStructure).map(file -> {
+                        long pos = finalIncomingFilesetSearchService.getCounts(file, queuedUpdateDates);
+                        file.setPositionInQueue(String.valueOf(pos));
+                        return file;
+                    });
+                });
     }
 
     @Override
@@ -1,16 +1,26 @@
 package ca.bc.gov.educ.graddatacollection.api.controller.v1;
 
+import ca.bc.gov.educ.graddatacollection.api.constants.v1.FilesetStatus;
 import ca.bc.gov.educ.graddatacollection.api.endpoint.v1.ReportGenerationEndpoint;
 import ca.bc.gov.educ.graddatacollection.api.exception.EntityNotFoundException;
+import ca.bc.gov.educ.graddatacollection.api.exception.GradDataCollectionAPIRuntimeException;
 import ca.bc.gov.educ.graddatacollection.api.model.v1.IncomingFilesetEntity;
 import ca.bc.gov.educ.graddatacollection.api.repository.v1.FinalIncomingFilesetRepository;
 import ca.bc.gov.educ.graddatacollection.api.service.v1.reports.CSVReportService;
 import ca.bc.gov.educ.graddatacollection.api.struct.v1.reports.DownloadableReportResponse;
+import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.apache.commons.lang3.StringUtils;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
 import org.springframework.web.bind.annotation.RestController;
 
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
 import java.util.UUID;
+import java.util.zip.GZIPOutputStream;
 
 @RestController
 @Slf4j
@@ -21,7 +31,7 @@ public class ReportGenerationController implements ReportGenerationEndpoint {
 
     @Override
     public DownloadableReportResponse generateErrorReport(UUID incomingFilesetID) {
-        var filesetOptional = incomingFilesetRepository.findById(incomingFilesetID);
+        var filesetOptional = incomingFilesetRepository.findByIncomingFilesetIDAndFilesetStatusCodeNot(incomingFilesetID, FilesetStatus.COPYING.getCode());
         if (filesetOptional.isPresent()) {
             var fileset = filesetOptional.get();
             return csvReportService.generateErrorReport(fileset.getIncomingFilesetID());
@@ -29,4 +39,23 @@ public class ReportGenerationController implements ReportGenerationEndpoint {
             throw new EntityNotFoundException(IncomingFilesetEntity.class, "incomingFilesetID", incomingFilesetID.toString());
         }
     }
+
+    @Override
+    public void downloadErrorReport(UUID incomingFilesetID, String acceptEncoding, HttpServletResponse response) {
+        var reportName = csvReportService.getErrorReportName(incomingFilesetID);
+        boolean gzip = StringUtils.containsIgnoreCase(acceptEncoding, "gzip");
+
+        response.setContentType("text/csv");
+        response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+        response.setHeader(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment().filename(reportName + ".csv", StandardCharsets.UTF_8).build().toString());
+        response.addHeader(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+        if (gzip) {
+            response.setHeader(HttpHeaders.CONTENT_ENCODING, "gzip");
+        }
+        try (OutputStream outputStream = gzip ? new GZIPOutputStream(response.getOutputStream(), 8192) : response.getOutputStream()) {
+            csvReportService.writeErrorReport(incomingFilesetID, outputStream);
+        } catch (IOException e) {
+            throw new GradDataCollectionAPIRuntimeException(e);
+        }
+    }
 }
@@ -2,6 +2,7 @@ package ca.bc.gov.educ.graddatacollection.api.endpoint.v1;
 
 import ca.bc.gov.educ.graddatacollection.api.constants.v1.URL;
 import ca.bc.gov.educ.graddatacollection.api.struct.v1.ErrorFilesetStudent;
+import ca.bc.gov.educ.graddatacollection.api.struct.v1.ErrorFilesetStudentKeysetPage;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import org.springframework.data.domain.Page;
@@ -25,4 +26,12 @@ public interface ErrorFilesetStudentEndpoint {
                                                                 @RequestParam(name = "sort", defaultValue = "") String sortCriteriaJson,
                                                                 @RequestParam(name = "searchCriteriaList", required = false) String searchCriteriaListJson);
 
+    @GetMapping(URL.KEYSET)
+    @PreAuthorize("hasAuthority('SCOPE_READ_FILESET_STUDENT_ERROR')")
+    @Transactional(readOnly = true)
+    @ApiResponses(value = {@ApiResponse(responseCode = "200", description = "OK"), @ApiResponse(responseCode = "400", description = "BAD REQUEST."), @ApiResponse(responseCode = "500", description = "INTERNAL SERVER ERROR.")})
+    CompletableFuture<ErrorFilesetStudentKeysetPage> findAllAfter(@RequestParam(name = "cursor", required = false) String cursor,
+                                                                  @RequestParam(name = "pageSize", defaultValue = "10") Integer pageSize,
+                                                                  @RequestParam(name = "searchCriteriaList", required = false) String searchCriteriaListJson);
+
 }
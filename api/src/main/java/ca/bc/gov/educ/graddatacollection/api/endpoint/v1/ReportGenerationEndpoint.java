@@ -4,10 +4,13 @@ import ca.bc.gov.educ.graddatacollection.api.constants.v1.URL;
 import ca.bc.gov.educ.graddatacollection.api.struct.v1.reports.DownloadableReportResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.HttpHeaders;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 
 import java.util.UUID;
@@ -19,4 +22,10 @@ public interface ReportGenerationEndpoint {
     @Transactional(readOnly = true)
     @ApiResponses(value = {@ApiResponse(responseCode = "200", description = "OK"), @ApiResponse(responseCode = "500", description = "INTERNAL SERVER ERROR.")})
     DownloadableReportResponse generateErrorReport(@PathVariable("incomingFilesetID") UUID incomingFilesetId);
+
+    @GetMapping("/errorReport/{incomingFilesetID}/download")
+    @PreAuthorize("hasAuthority('SCOPE_READ_FILESET_STUDENT_ERROR')")
+    @Transactional(readOnly = true)
+    @ApiResponses(value = {@ApiResponse(responseCode = "200", description = "OK"), @ApiResponse(responseCode = "404", description = "NOT FOUND."), @ApiResponse(responseCode = "500", description = "INTERNAL SERVER ERROR.")})
+    void downloadErrorReport(@PathVariable("incomingFilesetID") UUID incomingFilesetId, @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding, HttpServletResponse response);
 }
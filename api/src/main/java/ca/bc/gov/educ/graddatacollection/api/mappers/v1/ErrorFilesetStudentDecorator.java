@@ -221,56 +221,44 @@ public abstract class ErrorFilesetStudentDecorator implements ErrorFilesetStuden
   }
 
   private String setCourseErrorContext(CourseStudentEntity courseStudent) {
-    if(StringUtils.isEmpty(courseStudent.getCourseCode())) {
-      return MISSING_COURSE_CODE;
-    } else if(StringUtils.isEmpty(courseStudent.getCourseYear())) {
-      return MISSING_COURSE_YEAR;
-    } else if(StringUtils.isEmpty(courseStudent.getCourseMonth())) {
-      return MISSING_COURSE_MONTH;
-    } else if(StringUtils.isEmpty(courseStudent.getCourseLevel())) {
-      return courseStudent.getCourseCode() + " - " + courseStudent.getCourseYear() + "/" + courseStudent.getCourseMonth();
-    } else {
-      return courseStudent.getCourseCode() + courseStudent.getCourseLevel() + " - " + courseStudent.getCourseYear() + "/" + courseStudent.getCourseMonth();
-    }
+    return getCourseErrorContext(courseStudent.getCourseCode(), courseStudent.getCourseLevel(), courseStudent.getCourseYear(), courseStudent.getCourseMonth());
   }
 
   private String setAssessmentErrorContext(AssessmentStudentEntity assessmentStudent) {
-    if(StringUtils.isEmpty(assessmentStudent.getCourseCode())) {
-      return MISSING_COURSE_CODE;
-    } else if(StringUtils.isEmpty(assessmentStudent.getCourseYear())) {
-      return MISSING_COURSE_YEAR;
-    } else if(StringUtils.isEmpty(assessmentStudent.getCourseMonth())) {
-      return MISSING_COURSE_MONTH;
-    } else {
-      return assessmentStudent.getCourseCode() + " - " + assessmentStudent.getCourseYear() + "/" + assessmentStudent.getCourseMonth();
-    }
+    return getAssessmentErrorContext(assessmentStudent.getCourseCode(), assessmentStudent.getCourseYear(), assessmentStudent.getCourseMonth());
   }
 
   private String setCourseErrorContext(FinalCourseStudentEntity courseStudent) {
-    if(StringUtils.isEmpty(courseStudent.getCourseCode())) {
+    return getCourseErrorContext(courseStudent.getCourseCode(), courseStudent.getCourseLevel(), courseStudent.getCourseYear(), courseStudent.getCourseMonth());
+  }
+
+  private String setAssessmentErrorContext(FinalAssessmentStudentEntity assessmentStudent) {
+    return getAssessmentErrorContext(assessmentStudent.getCourseCode(), assessmentStudent.getCourseYear(), assessmentStudent.getCourseMonth());
+  }
+
+  public static String getCourseErrorContext(String courseCode, String courseLevel, String courseYear, String courseMonth) {
+    if(StringUtils.isEmpty(courseCode)) {
       return MISSING_COURSE_CODE;
-    } else if(StringUtils.isEmpty(courseStudent.getCourseYear())) {
+    } else if(StringUtils.isEmpty(courseYear)) {
       return MISSING_COURSE_YEAR;
-    } else if(StringUtils.isEmpty(courseStudent.getCourseMonth())) {
+    } else if(StringUtils.isEmpty(courseMonth)) {
       return MISSING_COURSE_MONTH;
-    } else if(StringUtils.isEmpty(courseStudent.getCourseLevel())) {
-      return courseStudent.getCourseCode() + " - " + courseStudent.getCourseYear() + "/" + courseStudent.getCourseMonth();
+    } else if(StringUtils.isEmpty(courseLevel)) {
+      return courseCode + " - " + courseYear + "/" + courseMonth;
     } else {
-      return courseStudent.getCourseCode() + courseStudent.getCourseLevel() + " - " + courseStudent.getCourseYear() + "/" + courseStudent.getCourseMonth();
+      return courseCode + courseLevel + " - " + courseYear + "/" + courseMonth;
     }
   }
 
-  private String setAssessmentErrorContext(FinalAssessmentStudentEntity assessmentStudent) {
-    if(StringUtils.isEmpty(assessmentStudent.getCourseCode())) {
+  public static String getAssessmentErrorContext(String courseCode, String courseYear, String courseMonth) {
+    if(StringUtils.isEmpty(courseCode)) {
       return MISSING_COURSE_CODE;
-    } else if(StringUtils.isEmpty(assessmentStudent.getCourseYear())) {
+    } else if(StringUtils.isEmpty(courseYear)) {
       return MISSING_COURSE_YEAR;
-    } else if(StringUtils.isEmpty(assessmentStudent.getCourseMonth())) {
+    } else if(StringUtils.isEmpty(courseMonth)) {
       return MISSING_COURSE_MONTH;
     } else {
-      return assessmentStudent.getCourseCode() + " - " + assessmentStudent.getCourseYear() + "/" + assessmentStudent.getCourseMonth();
+      return courseCode + " - " + courseYear + "/" + courseMonth;
     }
   }
-
-
 }
@@ -4,6 +4,7 @@ import ca.bc.gov.educ.graddatacollection.api.mappers.LocalDateTimeMapper;
 import ca.bc.gov.educ.graddatacollection.api.mappers.UUIDMapper;
 import ca.bc.gov.educ.graddatacollection.api.model.v1.*;
 import ca.bc.gov.educ.graddatacollection.api.struct.v1.IncomingFileset;
+import ca.bc.gov.educ.graddatacollection.api.struct.v1.IncomingFilesetProgress;
 import org.mapstruct.Mapper;
 import org.mapstruct.Mapping;
 import org.mapstruct.factory.Mappers;
@@ -16,6 +17,8 @@ public interface IncomingFilesetMapper {
 
     IncomingFileset toStructure(final FinalIncomingFilesetEntity incomingFilesetEntity);
 
+    IncomingFilesetProgress toStructure(final IncomingFilesetProgressEntity incomingFilesetProgressEntity);
+
     // Main entity mapping - ignore all child collections, we'll handle them manually
     @Mapping(target = "demographicStudentEntities", ignore = true)
     @Mapping(target = "courseStudentEntities", ignore = true)
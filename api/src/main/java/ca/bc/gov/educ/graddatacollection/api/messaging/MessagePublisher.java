@@ -1,12 +1,18 @@
 package ca.bc.gov.educ.graddatacollection.api.messaging;
 
+import ca.bc.gov.educ.graddatacollection.api.properties.ApplicationProperties;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import io.nats.client.Connection;
 import io.nats.client.Message;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Component;
 
+import java.util.Map;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
 
 /**
  * The type Message publisher.
@@ -16,11 +22,18 @@ import java.util.concurrent.CompletableFuture;
 public class MessagePublisher {
 
 
+  public static final String NATS_REQUEST = "gdc.nats.request";
+
   private final Connection connection;
+  private final MeterRegistry meterRegistry;
+  private final boolean requestTimersEnabled;
+  private final Map<String, RequestTimers> requestTimersByTopic = new ConcurrentHashMap<>();
 
   @Autowired
-  public MessagePublisher(final Connection con) {
+  public MessagePublisher(final Connection con, final MeterRegistry meterRegistry, final ApplicationProperties props) {
     this.connection = con;
+    this.meterRegistry = meterRegistry;
+    this.requestTimersEnabled = Boolean.TRUE.equals(props.getNatsRequestTimersEnabled());
   }
 
   /**
@@ -33,7 +46,35 @@ public class MessagePublisher {
     this.connection.publish(subject, message);
   }
 
+  /**
+   * Sends a request, timing it per topic until the reply arrives, the request fails, or the caller completes the
+   * returned future with a null reply on timeout.
+   */
   public CompletableFuture<Message> requestMessage(final String subject, final byte[] message) {
-    return this.connection.request(subject, message);
+    if (!this.requestTimersEnabled) {
+      return this.connection.request(subject, message);
+    }
+    final long start = System.nanoTime();
+    final RequestTimers timers = this.requestTimersByTopic.computeIfAbsent(subject, this::registerRequestTimers);
+    final CompletableFuture<Message> reply = this.connection.request(subject, message);
+    reply.whenComplete((response, ex) -> timers.forOutcome(response, ex).record(System.nanoTime() - start, TimeUnit.NANOSECONDS));
+    return reply;
+  }
+
+  private RequestTimers registerRequestTimers(final String topic) {
+    return new RequestTimers(this.registerRequestTimer(topic, "success"), this.registerRequestTimer(topic, "timeout"), this.registerRequestTimer(topic, "failure"));
+  }
+
+  private Timer registerRequestTimer(final String topic, final String outcome) {
+    return Timer.builder(NATS_REQUEST).tag("topic", topic).tag("outcome", outcome).register(this.meterRegistry);
+  }
+
+  private record RequestTimers(Timer success, Timer timeout, Timer failure) {
+    private Timer forOutcome(final Message reply, final Throwable ex) {
+      if (ex != null) {
+        return this.failure;
+      }
+      return reply == null ? this.timeout : this.success;
+    }
   }
 }
@@ -3,6 +3,7 @@ package ca.bc.gov.educ.graddatacollection.api.messaging.jetstream;
 import ca.bc.gov.educ.graddatacollection.api.constants.EventOutcome;
 import ca.bc.gov.educ.graddatacollection.api.constants.EventType;
 import ca.bc.gov.educ.graddatacollection.api.model.v1.GDCEvent;
+import ca.bc.gov.educ.graddatacollection.api.properties.ApplicationProperties;
 import ca.bc.gov.educ.graddatacollection.api.struct.v1.ChoreographedEvent;
 import ca.bc.gov.educ.graddatacollection.api.util.JsonUtil;
 import io.nats.client.Connection;
@@ -15,6 +16,7 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Component;
 
 import java.io.IOException;
+import java.time.Duration;
 
 import static ca.bc.gov.educ.graddatacollection.api.constants.TopicsEnum.GDC_EVENTS_TOPIC;
 
@@ -30,24 +32,31 @@ public class Publisher {
      * Instantiates a new Publisher.
      *
      * @param natsConnection the nats connection
+     * @param props          the application properties
      * @throws IOException           the io exception
      * @throws JetStreamApiException the jet stream api exception
      */
     @Autowired
-    public Publisher(final Connection natsConnection) throws IOException, JetStreamApiException {
+    public Publisher(final Connection natsConnection, final ApplicationProperties props) throws IOException, JetStreamApiException {
         this.jetStream = natsConnection.jetStream();
-        this.createOrUpdateGDCEventStream(natsConnection);
+        this.createOrUpdateGDCEventStream(natsConnection, props);
     }
 
     /**
-     * here only name and replicas and max messages are set, rest all are library default.
+     * here only name, replicas and the retention limits are set, rest all are library default.
+     * a max age of zero and a max bytes of -1 mean no limit.
      *
      * @param natsConnection the nats connection
+     * @param props          the application properties
      * @throws IOException           the io exception
      * @throws JetStreamApiException the jet stream api exception
      */
-    private void createOrUpdateGDCEventStream(final Connection natsConnection) throws IOException, JetStreamApiException {
-        val streamConfiguration = StreamConfiguration.builder().name(STREAM_NAME).replicas(1).maxMessages(10000).addSubjects(GDC_EVENTS_TOPIC.toString()).build();
+    private void createOrUpdateGDCEventStream(final Connection natsConnection, final ApplicationProperties props) throws IOException, JetStreamApiException {
+        val streamConfiguration = StreamConfiguration.builder().name(STREAM_NAME).replicas(1)
+                .maxMessages(props.getJetStreamMaxMessages())
+                .maxBytes(props.getJetStreamMaxBytes())
+                .maxAge(Duration.ofMinutes(props.getJetStreamMaxAgeInMinutes()))
+                .addSubjects(GDC_EVENTS_TOPIC.toString()).build();
         try {
             natsConnection.jetStreamManagement().updateStream(streamConfiguration);
         } catch (final JetStreamApiException exception) {
@@ -8,13 +8,21 @@ import ca.bc.gov.educ.graddatacollection.api.service.v1.events.JetStreamEventHan
 import ca.bc.gov.educ.graddatacollection.api.struct.v1.ChoreographedEvent;
 import ca.bc.gov.educ.graddatacollection.api.util.JsonUtil;
 import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
 import io.nats.client.Connection;
 import io.nats.client.JetStreamApiException;
+import io.nats.client.JetStreamManagement;
+import io.nats.client.JetStreamSubscription;
 import io.nats.client.Message;
+import io.nats.client.PullSubscribeOptions;
 import io.nats.client.PushSubscribeOptions;
+import io.nats.client.api.AckPolicy;
 import io.nats.client.api.ConsumerConfiguration;
+import io.nats.client.api.ConsumerInfo;
 import io.nats.client.api.DeliverPolicy;
 import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
 import lombok.extern.slf4j.Slf4j;
 import lombok.val;
 import org.jboss.threads.EnhancedQueueExecutor;
@@ -23,35 +31,61 @@ import org.springframework.context.annotation.DependsOn;
 import org.springframework.stereotype.Component;
 
 import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.time.Duration;
-import java.util.ArrayList;
-import java.util.HashMap;
-import java.util.List;
-import java.util.Map;
+import java.util.*;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
 
 /**
  * The type Subscriber.
+ * <p>
+ * In push mode (the default) the server pushes every message to a queue subscription. Pull mode is opted into with
+ * jetstream.consumer.mode=pull; in pull mode every stream has a durable pull consumer that one fetch loop drains in batches. The messages of a batch are handled on the
+ * worker pool, acknowledged together once the whole batch has been handled, and only then is the follow-up work of the
+ * acknowledged messages started. A message whose handling failed is left unacknowledged, so the server redelivers it
+ * after the ack wait, which is set explicitly and must stay above the time the slowest batch takes. A failed fetch is
+ * retried after a backoff that doubles up to a maximum. Consumer lag and the ack latency of the last batch are published
+ * per stream as gauges.
  */
 @Component
 @DependsOn("publisher")
 @Slf4j
 public class Subscriber {
-    private final Executor subscriberExecutor = new EnhancedQueueExecutor.Builder()
-            .setThreadFactory(new ThreadFactoryBuilder().setNameFormat("jet-stream-subscriber-%d").build())
-            .setCorePoolSize(2).setMaximumPoolSize(2).setKeepAliveTime(Duration.ofMillis(1000)).build();
+    public static final String PULL_CONSUMER_MODE = "pull";
+    private static final String PUSH_DURABLE = ApplicationProperties.GRAD_DATA_COLLECTION_API.concat("-DURABLE");
+    private static final String PULL_DURABLE = ApplicationProperties.GRAD_DATA_COLLECTION_API.concat("-PULL-DURABLE");
+    private static final int NOT_FOUND = 404;
+    private static final Runnable NO_FOLLOW_UP = () -> {};
+    private final Executor subscriberExecutor;
+    private final Executor fetchExecutor;
     private final Connection natsConnection;
     private final EventHandlerDelegatorService eventHandlerDelegatorService;
     private final Map<String, List<String>> streamTopicsMap = new HashMap<>();
     private final JetStreamEventHandlerService jetStreamEventHandlerService;
+    private final ApplicationProperties props;
+    private final MeterRegistry meterRegistry;
+    private final List<JetStreamSubscription> pullSubscriptions = new ArrayList<>();
+    private volatile boolean running = true;
 
 
     @Autowired
-    public Subscriber(final Connection natsConnection, EventHandlerDelegatorService eventHandlerDelegatorService, JetStreamEventHandlerService jetStreamEventHandlerService) {
+    public Subscriber(final Connection natsConnection, EventHandlerDelegatorService eventHandlerDelegatorService, JetStreamEventHandlerService jetStreamEventHandlerService, ApplicationProperties props, MeterRegistry meterRegistry) {
         this.natsConnection = natsConnection;
         this.eventHandlerDelegatorService = eventHandlerDelegatorService;
         this.jetStreamEventHandlerService = jetStreamEventHandlerService;
+        this.props = props;
+        this.meterRegistry = meterRegistry;
         initializeStreamTopicMap();
+        val workers = Math.max(1, props.getJetStreamSubscriberWorkers());
+        this.subscriberExecutor = new EnhancedQueueExecutor.Builder()
+                .setThreadFactory(new ThreadFactoryBuilder().setNameFormat("jet-stream-subscriber-%d").build())
+                .setCorePoolSize(workers).setMaximumPoolSize(workers).setKeepAliveTime(Duration.ofMillis(1000)).build();
+        this.fetchExecutor = new EnhancedQueueExecutor.Builder()
+                .setThreadFactory(new ThreadFactoryBuilder().setNameFormat("jet-stream-fetcher-%d").setDaemon(true).build())
+                .setCorePoolSize(this.streamTopicsMap.size()).setMaximumPoolSize(this.streamTopicsMap.size()).setKeepAliveTime(Duration.ofMillis(1000)).build();
     }
 
     private void initializeStreamTopicMap() {
@@ -72,12 +106,16 @@ public class Subscriber {
      */
     @PostConstruct
     public void subscribe() throws IOException, JetStreamApiException {
+        if (PULL_CONSUMER_MODE.equalsIgnoreCase(props.getJetStreamConsumerMode())) {
+            this.subscribePull();
+            return;
+        }
         val qName = ApplicationProperties.GRAD_DATA_COLLECTION_API.concat("-QUEUE");
         val autoAck = false;
         for (val entry : this.streamTopicsMap.entrySet()) {
             for (val topic : entry.getValue()) {
                 final PushSubscribeOptions options = PushSubscribeOptions.builder().stream(entry.getKey())
-                        .durable(ApplicationProperties.GRAD_DATA_COLLECTION_API.concat("-DURABLE"))
+                        .durable(PUSH_DURABLE)
                         .configuration(ConsumerConfiguration.builder().deliverPolicy(DeliverPolicy.New).build()).build();
                 this.natsConnection.jetStream().subscribe(topic, qName, this.natsConnection.createDispatcher(), this::onMessage,
                         autoAck, options);
@@ -85,6 +123,153 @@ public class Subscriber {
         }
     }
 
+    /**
+     * A pull consumer can not take over a push durable, so the pull consumers have a durable name of their own.
+     */
+    void subscribePull() throws IOException, JetStreamApiException {
+        val jetStreamManagement = this.natsConnection.jetStreamManagement();
+        for (val entry : this.streamTopicsMap.entrySet()) {
+            val consumerLag = new AtomicLong();
+            val ackLatencyMillis = new AtomicLong();
+            Gauge.builder("gdc.jetstream.consumer.lag", consumerLag, AtomicLong::get).tag("stream", entry.getKey()).register(meterRegistry);
+            Gauge.builder("gdc.jetstream.consumer.ack.latency", ackLatencyMillis, AtomicLong::get).tag("stream", entry.getKey()).baseUnit("milliseconds").register(meterRegistry);
+            for (val topic : entry.getValue()) {
+                jetStreamManagement.addOrUpdateConsumer(entry.getKey(), this.getPullConsumerConfiguration(jetStreamManagement, entry.getKey(), topic));
+                final PullSubscribeOptions options = PullSubscribeOptions.builder().stream(entry.getKey()).durable(PULL_DURABLE).build();
+                val subscription = this.natsConnection.jetStream().subscribe(topic, options);
+                this.pullSubscriptions.add(subscription);
+                this.fetchExecutor.execute(() -> this.fetchLoop(subscription, consumerLag, ackLatencyMillis));
+            }
+        }
+    }
+
+    /**
+     * An existing pull consumer keeps its position and only has its ack wait brought up to date. A new one starts after
+     * the ack floor of the push durable when there is one, so the messages still pending on the push durable at the
+     * cutover are delivered to the pull consumer instead of being skipped; the ones acknowledged out of order above the
+     * ack floor are delivered again.
+     */
+    private ConsumerConfiguration getPullConsumerConfiguration(final JetStreamManagement jetStreamManagement, final String stream, final String topic) throws IOException, JetStreamApiException {
+        val ackWait = Duration.ofMillis(props.getJetStreamPullAckWaitMs());
+        val pullConsumer = this.findConsumer(jetStreamManagement, stream, PULL_DURABLE);
+        if (pullConsumer.isPresent()) {
+            return ConsumerConfiguration.builder(pullConsumer.get().getConsumerConfiguration()).ackWait(ackWait).build();
+        }
+        val builder = ConsumerConfiguration.builder().durable(PULL_DURABLE).filterSubject(topic).ackPolicy(AckPolicy.Explicit).ackWait(ackWait);
+        val pushConsumer = this.findConsumer(jetStreamManagement, stream, PUSH_DURABLE);
+        if (pushConsumer.isPresent()) {
+            val startSequence = pushConsumer.get().getAckFloor().getStreamSequence() + 1;
+            log.info("Creating pull consumer for stream {} from sequence {}, after the ack floor of the push durable", stream, startSequence);
+            return builder.deliverPolicy(DeliverPolicy.ByStartSequence).startSequence(startSequence).build();
+        }
+        return builder.deliverPolicy(DeliverPolicy.New).build();
+    }
+
+    private Optional<ConsumerInfo> findConsumer(final JetStreamManagement jetStreamManagement, final String stream, final String durable) throws IOException, JetStreamApiException {
+        try {
+            return Optional.of(jetStreamManagement.getConsumerInfo(stream, durable));
+        } catch (final JetStreamApiException ex) {
+            if (ex.getErrorCode() == NOT_FOUND) {
+                return Optional.empty();
+            }
+            throw ex;
+        }
+    }
+
+    @PreDestroy
+    public void close() {
+        this.running = false;
+        for (val subscription : this.pullSubscriptions) {
+            try {
+                subscription.unsubscribe();
+            } catch (final Exception ex) {
+                log.debug("Exception while unsubscribing pull consumer :: {}", ex.getMessage());
+            }
+        }
+    }
+
+    void fetchLoop(final JetStreamSubscription subscription, final AtomicLong consumerLag, final AtomicLong ackLatencyMillis) {
+        val batchSize = Math.max(1, props.getJetStreamPullBatchSize());
+        val maxWait = Duration.ofMillis(Math.max(1, props.getJetStreamPullMaxWaitMs()));
+        val initialBackoffMillis = Math.max(1, props.getJetStreamPullErrorBackoffMs());
+        val maxBackoffMillis = Math.max(initialBackoffMillis, props.getJetStreamPullErrorBackoffMaxMs());
+        long backoffMillis = initialBackoffMillis;
+        while (this.running) {
+            try {
+                final List<Message> messages = subscription.fetch(batchSize, maxWait);
+                if (!messages.isEmpty()) {
+                    this.processBatch(messages, consumerLag, ackLatencyMillis);
+                }
+                backoffMillis = initialBackoffMillis;
+            } catch (final Exception ex) {
+                if (!this.running) {
+                    return;
+                }
+                log.error("Exception while fetching from JetStream, retrying in {} ms ", backoffMillis, ex);
+                try {
+                    TimeUnit.MILLISECONDS.sleep(backoffMillis);
+                } catch (final InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+                backoffMillis = Math.min(maxBackoffMillis, backoffMillis * 2);
+            }
+        }
+    }
+
+    void processBatch(final List<Message> messages, final AtomicLong consumerLag, final AtomicLong ackLatencyMillis) {
+        val fetchedAt = System.nanoTime();
+        final List<CompletableFuture<Runnable>> handled = messages.stream()
+                .map(message -> CompletableFuture.supplyAsync(() -> this.handleWithoutAck(message), this.subscriberExecutor))
+                .toList();
+        final List<Runnable> followUps = new ArrayList<>();
+        for (int i = 0; i < messages.size(); i++) {
+            try {
+                val followUp = handled.get(i).join();
+                messages.get(i).ack();
+                followUps.add(followUp);
+            } catch (final Exception ex) {
+                log.error("Exception while handling JetStream message, leaving it for redelivery ", ex);
+            }
+        }
+        ackLatencyMillis.set(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - fetchedAt));
+        val lastMessage = messages.get(messages.size() - 1);
+        if (lastMessage.isJetStream()) {
+            consumerLag.set(lastMessage.metaData().pendingCount());
+        }
+        log.debug("Acknowledged {} of {} JetStream messages", followUps.size(), messages.size());
+        followUps.stream().filter(followUp -> followUp != NO_FOLLOW_UP).forEach(this.subscriberExecutor::execute);
+    }
+
+    /**
+     * Handles the message up to the point where the push path acknowledges it.
+     *
+     * @return the work to run once the message has been acknowledged
+     */
+    private Runnable handleWithoutAck(final Message message) {
+        try {
+            val eventString = new String(message.getData());
+            LogHelper.logMessagingEventDetails(eventString);
+            final ChoreographedEvent event = JsonUtil.getJsonObjectFromString(ChoreographedEvent.class, eventString);
+            if (event.getEventPayload() == null) {
+                log.warn("payload is null, ignoring event :: {}", event);
+                return NO_FOLLOW_UP;
+            }
+            if (event.getEventType().equals(EventType.UPDATE_GRAD_SCHOOL)) {
+                val persistedEvent = eventHandlerDelegatorService.persistChoreographyEvent(event);
+                return persistedEvent == null ? NO_FOLLOW_UP : () -> eventHandlerDelegatorService.handlePersistedChoreographyEvent(persistedEvent);
+            } else if (event.getEventType().equals(EventType.REFRESH_GDC_CACHE)) {
+                jetStreamEventHandlerService.updateEventStatus(event);
+                return eventHandlerDelegatorService::refreshGradSchoolCache;
+            }
+            jetStreamEventHandlerService.updateEventStatus(event);
+            log.info("Received event :: {} ", event);
+            return NO_FOLLOW_UP;
+        } catch (final IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
     public void onMessage(final Message message) {
         if (message != null) {
             log.info("Received message Subject:: {} , SID :: {} , sequence :: {}, pending :: {} ", message.getSubject(), message.getSID(), message.metaData().consumerSequence(), message.metaData().pendingCount());
@@ -0,0 +1,42 @@
+package ca.bc.gov.educ.graddatacollection.api.model.v1;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * High-water marks of the copy of a fileset from the staging to the final tables. The row is created with the copy of
+ * the fileset itself, and each committed chunk moves the mark of its table to the last student ID it copied, so a
+ * copy that was interrupted resumes after that ID.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Entity
+@Table(name = "INCOMING_FILESET_COPY_PROGRESS")
+public class IncomingFilesetCopyProgressEntity {
+    @Id
+    @Column(name = "INCOMING_FILESET_ID", unique = true, updatable = false, columnDefinition = "BINARY(16)")
+    private UUID incomingFilesetID;
+
+    @Column(name = "DEM_COPIED_THROUGH_ID", columnDefinition = "BINARY(16)")
+    private UUID demCopiedThroughID;
+
+    @Column(name = "CRS_COPIED_THROUGH_ID", columnDefinition = "BINARY(16)")
+    private UUID crsCopiedThroughID;
+
+    @Column(name = "XAM_COPIED_THROUGH_ID", columnDefinition = "BINARY(16)")
+    private UUID xamCopiedThroughID;
+
+    @Column(name = "ERROR_COPIED_THROUGH_ID", columnDefinition = "BINARY(16)")
+    private UUID errorCopiedThroughID;
+
+    @Column(name = "UPDATE_DATE")
+    private LocalDateTime updateDate;
+}
@@ -58,4 +58,7 @@ public class IncomingFilesetLightEntity {
     @Column(name = "CREATE_DATE", updatable = false)
     private LocalDateTime createDate;
 
+    @Column(name = "UPDATE_DATE", insertable = false, updatable = false)
+    private LocalDateTime updateDate;
+
 }
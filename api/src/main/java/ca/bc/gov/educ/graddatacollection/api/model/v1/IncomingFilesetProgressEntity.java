@@ -0,0 +1,53 @@
+package ca.bc.gov.educ.graddatacollection.api.model.v1;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Number of student records per processing state and file type of an incoming fileset. Loaded records are waiting for
+ * validation, in progress course records have been validated and are waiting for their downstream update, and done
+ * records are in any other status.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Entity
+@Table(name = "INCOMING_FILESET_PROGRESS")
+@JsonIgnoreProperties(ignoreUnknown = true)
+public class IncomingFilesetProgressEntity {
+    @Id
+    @Column(name = "INCOMING_FILESET_ID", unique = true, updatable = false, columnDefinition = "BINARY(16)")
+    private UUID incomingFilesetID;
+
+    @Column(name = "DEM_LOADED_COUNT")
+    private long demLoadedCount;
+
+    @Column(name = "DEM_DONE_COUNT")
+    private long demDoneCount;
+
+    @Column(name = "XAM_LOADED_COUNT")
+    private long xamLoadedCount;
+
+    @Column(name = "XAM_DONE_COUNT")
+    private long xamDoneCount;
+
+    @Column(name = "CRS_LOADED_COUNT")
+    private long crsLoadedCount;
+
+    @Column(name = "CRS_IN_PROGRESS_COUNT")
+    private long crsInProgressCount;
+
+    @Column(name = "CRS_DONE_COUNT")
+    private long crsDoneCount;
+
+    @Column(name = "UPDATE_DATE")
+    private LocalDateTime updateDate;
+}
@@ -9,6 +9,8 @@ import ca.bc.gov.educ.graddatacollection.api.messaging.MessagePublisher;
 import ca.bc.gov.educ.graddatacollection.api.model.v1.GradSagaEntity;
 import ca.bc.gov.educ.graddatacollection.api.model.v1.SagaEventStatesEntity;
 import ca.bc.gov.educ.graddatacollection.api.orchestrator.base.BaseOrchestrator;
+import ca.bc.gov.educ.graddatacollection.api.orchestrator.base.SagaCompletionListener;
+import ca.bc.gov.educ.graddatacollection.api.orchestrator.base.SagaStepTimers;
 import ca.bc.gov.educ.graddatacollection.api.rest.RestUtils;
 import ca.bc.gov.educ.graddatacollection.api.rules.StudentValidationIssueSeverityCode;
 import ca.bc.gov.educ.graddatacollection.api.rules.assessment.AssessmentStudentValidationIssueTypeCode;
@@ -36,14 +38,19 @@ public class AssessmentStudentProcessingOrchestrator extends BaseOrchestrator<As
   private final RestUtils restUtils;
   private final GradDemFileService dem;
 
-  protected AssessmentStudentProcessingOrchestrator(final SagaService sagaService, final MessagePublisher messagePublisher, AssessmentStudentService assessmentStudentService, AssessmentRulesService assessmentRulesService, RestUtils restUtils, GradDemFileService dem) {
-    super(sagaService, messagePublisher, AssessmentStudentSagaData.class, SagaEnum.PROCESS_ASSESSMENT_STUDENTS_SAGA.toString(), TopicsEnum.PROCESS_ASSESSMENT_STUDENTS_SAGA_TOPIC.toString());
+  protected AssessmentStudentProcessingOrchestrator(final SagaService sagaService, final MessagePublisher messagePublisher, final SagaCompletionListener sagaCompletionListener, final SagaStepTimers sagaStepTimers, AssessmentStudentService assessmentStudentService, AssessmentRulesService assessmentRulesService, RestUtils restUtils, GradDemFileService dem) {
+    super(sagaService, messagePublisher, sagaCompletionListener, sagaStepTimers, AssessmentStudentSagaData.class, SagaEnum.PROCESS_ASSESSMENT_STUDENTS_SAGA.toString(), TopicsEnum.PROCESS_ASSESSMENT_STUDENTS_SAGA_TOPIC.toString());
     this.assessmentStudentService = assessmentStudentService;
     this.assessmentRulesService = assessmentRulesService;
     this.restUtils = restUtils;
     this.dem = dem;
   }
 
+  @Override
+  protected AssessmentStudentSagaData hydrateSagaData(final AssessmentStudentSagaData sagaData) {
+    return this.assessmentStudentService.hydrateSagaData(sagaData);
+  }
+
   @Override
   public void populateStepsToExecuteMap() {
     this.stepBuilder()
@@ -98,12 +105,13 @@ public class AssessmentStudentProcessingOrchestrator extends BaseOrchestrator<As
     eventBuilder.sagaId(saga.getSagaId()).eventType(PROCESS_ASSESSMENT_STUDENT_IN_ASSESSMENT_SERVICE);
 
     var assessmentID = assessmentRulesService.getAssessmentID(student.getCourseYear(), student.getCourseMonth(), student.getCourseCode());
-    restUtils.writeAssessmentStudentDetailInAssessmentService(assessmentStudentSagaData.getAssessmentStudent(), assessmentID, assessmentStudentSagaData.getSchool(), demStudent.getGrade());
-    eventBuilder.eventOutcome(ASSESSMENT_STUDENT_REGISTRATION_PROCESSED);
-    
-    val nextEvent = eventBuilder.build();
-    this.postMessageToTopic(this.getTopicToSubscribe(), nextEvent);
-    log.debug("message sent to {} for {} Event. :: {}", this.getTopicToSubscribe(), nextEvent, saga.getSagaId());
+    this.continueWhenComplete(saga, restUtils.writeAssessmentStudentDetailInAssessmentServiceAsync(assessmentStudentSagaData.getAssessmentStudent(), assessmentID, assessmentStudentSagaData.getSchool(), demStudent.getGrade()), response -> {
+      eventBuilder.eventOutcome(ASSESSMENT_STUDENT_REGISTRATION_PROCESSED);
+
+      val nextEvent = eventBuilder.build();
+      this.postMessageToTopic(this.getTopicToSubscribe(), nextEvent);
+      log.debug("message sent to {} for {} Event. :: {}", this.getTopicToSubscribe(), nextEvent, saga.getSagaId());
+    });
   }
 
   private void completeWithError(final Event event, final GradSagaEntity saga, final AssessmentStudentSagaData assessmentStudentSagaData) {
@@ -8,8 +8,12 @@ import ca.bc.gov.educ.graddatacollection.api.messaging.MessagePublisher;
 import ca.bc.gov.educ.graddatacollection.api.model.v1.GradSagaEntity;
 import ca.bc.gov.educ.graddatacollection.api.model.v1.SagaEventStatesEntity;
 import ca.bc.gov.educ.graddatacollection.api.orchestrator.base.BaseOrchestrator;
+import ca.bc.gov.educ.graddatacollection.api.orchestrator.base.SagaCompletionListener;
+import ca.bc.gov.educ.graddatacollection.api.orchestrator.base.SagaStepTimers;
 import ca.bc.gov.educ.graddatacollection.api.rest.RestUtils;
 import ca.bc.gov.educ.graddatacollection.api.service.v1.DemographicStudentService;
+import ca.bc.gov.educ.graddatacollection.api.service.v1.FilesetDuplicateIndexService;
+import ca.bc.gov.educ.graddatacollection.api.service.v1.FilesetStudentCacheService;
 import ca.bc.gov.educ.graddatacollection.api.service.v1.IncomingFilesetService;
 import ca.bc.gov.educ.graddatacollection.api.service.v1.SagaService;
 import ca.bc.gov.educ.graddatacollection.api.struct.Event;
@@ -32,12 +36,16 @@ public class CompletedFilesetProcessingOrchestrator extends BaseOrchestrator<Inc
     private final IncomingFilesetService incomingFilesetService;
     private final DemographicStudentService demographicStudentService;
     private final RestUtils restUtils;
+    private final FilesetStudentCacheService filesetStudentCacheService;
+    private final FilesetDuplicateIndexService filesetDuplicateIndexService;
 
-    protected CompletedFilesetProcessingOrchestrator(final SagaService sagaService, final MessagePublisher messagePublisher, IncomingFilesetService incomingFilesetService, DemographicStudentService demographicStudentService, RestUtils restUtils) {
-        super(sagaService, messagePublisher, IncomingFilesetSagaData.class, SagaEnum.PROCESS_COMPLETED_FILESETS_SAGA.toString(), TopicsEnum.PROCESS_COMPLETED_FILESETS_SAGA_TOPIC.toString());
+    protected CompletedFilesetProcessingOrchestrator(final SagaService sagaService, final MessagePublisher messagePublisher, final SagaCompletionListener sagaCompletionListener, final SagaStepTimers sagaStepTimers, IncomingFilesetService incomingFilesetService, DemographicStudentService demographicStudentService, RestUtils restUtils, FilesetStudentCacheService filesetStudentCacheService, FilesetDuplicateIndexService filesetDuplicateIndexService) {
+        super(sagaService, messagePublisher, sagaCompletionListener, sagaStepTimers, IncomingFilesetSagaData.class, SagaEnum.PROCESS_COMPLETED_FILESETS_SAGA.toString(), TopicsEnum.PROCESS_COMPLETED_FILESETS_SAGA_TOPIC.toString());
         this.incomingFilesetService = incomingFilesetService;
         this.demographicStudentService = demographicStudentService;
         this.restUtils = restUtils;
+        this.filesetStudentCacheService = filesetStudentCacheService;
+        this.filesetDuplicateIndexService = filesetDuplicateIndexService;
     }
 
     @Override
@@ -73,6 +81,8 @@ public class CompletedFilesetProcessingOrchestrator extends BaseOrchestrator<Inc
         this.getSagaService().updateAttachedSagaWithEvents(saga, eventStates);
 
         incomingFilesetService.deleteFromStagingTables(incomingFilesetSagaData.getIncomingFilesetID());
+        filesetStudentCacheService.purgeFileset(incomingFilesetSagaData.getIncomingFilesetID());
+        filesetDuplicateIndexService.purgeFileset(incomingFilesetSagaData.getIncomingFilesetID());
 
         final Event.EventBuilder eventBuilder = Event.builder();
         eventBuilder.sagaId(saga.getSagaId()).eventType(DELETE_FILESET_FROM_STAGING_TABLE);
@@ -8,6 +8,8 @@ import ca.bc.gov.educ.graddatacollection.api.messaging.MessagePublisher;
 import ca.bc.gov.educ.graddatacollection.api.model.v1.GradSagaEntity;
 import ca.bc.gov.educ.graddatacollection.api.model.v1.SagaEventStatesEntity;
 import ca.bc.gov.educ.graddatacollection.api.orchestrator.base.BaseOrchestrator;
+import ca.bc.gov.educ.graddatacollection.api.orchestrator.base.SagaCompletionListener;
+import ca.bc.gov.educ.graddatacollection.api.orchestrator.base.SagaStepTimers;
 import ca.bc.gov.educ.graddatacollection.api.rules.StudentValidationIssueSeverityCode;
 import ca.bc.gov.educ.graddatacollection.api.rules.course.CourseStudentValidationIssueTypeCode;
 import ca.bc.gov.educ.graddatacollection.api.service.v1.CourseRulesService;
@@ -30,12 +32,17 @@ public class CourseStudentProcessingOrchestrator extends BaseOrchestrator<Course
   private final CourseStudentService courseStudentService;
   private final CourseRulesService courseRulesService;
 
-  protected CourseStudentProcessingOrchestrator(final SagaService sagaService, final MessagePublisher messagePublisher, CourseStudentService courseStudentService, CourseRulesService courseRulesService) {
-    super(sagaService, messagePublisher, CourseStudentSagaData.class, SagaEnum.PROCESS_COURSE_STUDENTS_SAGA.toString(), TopicsEnum.PROCESS_COURSE_STUDENTS_SAGA_TOPIC.toString());
+  protected CourseStudentProcessingOrchestrator(final SagaService sagaService, final MessagePublisher messagePublisher, final SagaCompletionListener sagaCompletionListener, final SagaStepTimers sagaStepTimers, CourseStudentService courseStudentService, CourseRulesService courseRulesService) {
+    super(sagaService, messagePublisher, sagaCompletionListener, sagaStepTimers, CourseStudentSagaData.class, SagaEnum.PROCESS_COURSE_STUDENTS_SAGA.toString(), TopicsEnum.PROCESS_COURSE_STUDENTS_SAGA_TOPIC.toString());
     this.courseStudentService = courseStudentService;
     this.courseRulesService = courseRulesService;
   }
 
+  @Override
+  protected CourseStudentSagaData hydrateSagaData(final CourseStudentSagaData sagaData) {
+    return this.courseStudentService.hydrateSagaData(sagaData);
+  }
+
   @Override
   public void populateStepsToExecuteMap() {
     this.stepBuilder()
@@ -7,11 +7,13 @@ import ca.bc.gov.educ.graddatacollection.api.messaging.MessagePublisher;
 import ca.bc.gov.educ.graddatacollection.api.model.v1.GradSagaEntity;
 import ca.bc.gov.educ.graddatacollection.api.model.v1.SagaEventStatesEntity;
 import ca.bc.gov.educ.graddatacollection.api.orchestrator.base.BaseOrchestrator;
+import ca.bc.gov.educ.graddatacollection.api.orchestrator.base.SagaCompletionListener;
+import ca.bc.gov.educ.graddatacollection.api.orchestrator.base.SagaStepTimers;
 import ca.bc.gov.educ.graddatacollection.api.rest.RestUtils;
 import ca.bc.gov.educ.graddatacollection.api.service.v1.DemographicStudentService;
+import ca.bc.gov.educ.graddatacollection.api.service.v1.FilesetStudentCacheService;
 import ca.bc.gov.educ.graddatacollection.api.service.v1.SagaService;
 import ca.bc.gov.educ.graddatacollection.api.struct.Event;
-import ca.bc.gov.educ.graddatacollection.api.struct.external.studentapi.v1.Student;
 import ca.bc.gov.educ.graddatacollection.api.struct.v1.DemographicStudent;
 import ca.bc.gov.educ.graddatacollection.api.struct.v1.DemographicStudentSagaData;
 import ca.bc.gov.educ.graddatacollection.api.struct.v1.DemographicStudentValidationIssue;
@@ -23,6 +25,7 @@ import org.springframework.stereotype.Component;
 import java.util.Arrays;
 import java.util.List;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
 
 import static ca.bc.gov.educ.graddatacollection.api.constants.EventOutcome.*;
 import static ca.bc.gov.educ.graddatacollection.api.constants.EventType.*;
@@ -34,16 +37,23 @@ import static ca.bc.gov.educ.graddatacollection.api.rules.demographic.Demographi
 public class DemographicStudentProcessingOrchestrator extends BaseOrchestrator<DemographicStudentSagaData> {
   private final DemographicStudentService demographicStudentService;
   private final RestUtils restUtils;
+  private final FilesetStudentCacheService filesetStudentCacheService;
   private final List<String> CRITICAL_DEM_ERRORS = Arrays.asList(STUDENT_PEN_NOT_FOUND.getCode(),
           STUDENT_BIRTHDATE_INVALID.getCode(), STUDENT_SURNAME_MISMATCH.getCode(), STUDENT_MIDDLE_MISMATCH.getCode(), 
           STUDENT_GIVEN_MISMATCH.getCode(), STUDENT_BIRTHDATE_MISMATCH.getCode(), STUDENT_STATUS_INVALID.getCode(),
           STUDENT_STATUS_SCHOOL_OF_RECORD_MISMATCH.getCode(), STUDENT_STATUS_INCORRECT_NEW_STUDENT.getCode(), STUDENT_STATUS_MERGED.getCode(),
           STUDENT_STATUS_PEN_MISMATCH.getCode());
 
-  protected DemographicStudentProcessingOrchestrator(final SagaService sagaService, final MessagePublisher messagePublisher, DemographicStudentService demographicStudentService, RestUtils restUtils) {
-    super(sagaService, messagePublisher, DemographicStudentSagaData.class, SagaEnum.PROCESS_DEM_STUDENTS_SAGA.toString(), TopicsEnum.PROCESS_DEM_STUDENTS_SAGA_TOPIC.toString());
+  protected DemographicStudentProcessingOrchestrator(final SagaService sagaService, final MessagePublisher messagePublisher, final SagaCompletionListener sagaCompletionListener, final SagaStepTimers sagaStepTimers, DemographicStudentService demographicStudentService, RestUtils restUtils, FilesetStudentCacheService filesetStudentCacheService) {
+    super(sagaService, messagePublisher, sagaCompletionListener, sagaStepTimers, DemographicStudentSagaData.class, SagaEnum.PROCESS_DEM_STUDENTS_SAGA.toString(), TopicsEnum.PROCESS_DEM_STUDENTS_SAGA_TOPIC.toString());
       this.demographicStudentService = demographicStudentService;
       this.restUtils = restUtils;
+      this.filesetStudentCacheService = filesetStudentCacheService;
+  }
+
+  @Override
+  protected DemographicStudentSagaData hydrateSagaData(final DemographicStudentSagaData sagaData) {
+    return this.demographicStudentService.hydrateSagaData(sagaData);
   }
 
   @Override
@@ -100,14 +110,16 @@ public class DemographicStudentProcessingOrchestrator extends BaseOrchestrator<D
     saga.setStatus(IN_PROGRESS.toString());
     this.getSagaService().updateAttachedSagaWithEvents(saga, eventStates);
     
-    restUtils.writeDEMStudentSchoolOfRecordAndStatusInGrad(demographicStudentSagaData.getDemographicStudent(), demographicStudentSagaData.getSchool());
-
-    final Event.EventBuilder eventBuilder = Event.builder();
-    eventBuilder.sagaId(saga.getSagaId()).eventType(UPDATE_DEM_STUDENT_SOR_AND_STATUS_IN_GRAD);
-    eventBuilder.eventOutcome(DEM_STUDENT_SOR_UPDATED_IN_GRAD);
-    val nextEvent = eventBuilder.build();
-    this.postMessageToTopic(this.getTopicToSubscribe(), nextEvent);
-    log.debug("message sent to {} for {} Event. :: {}", this.getTopicToSubscribe(), nextEvent, saga.getSagaId());
+    this.continueWhenComplete(saga, restUtils.writeDEMStudentSchoolOfRecordAndStatusInGradAsync(demographicStudentSagaData.getDemographicStudent(), demographicStudentSagaData.getSchool()), response -> {
+      filesetStudentCacheService.evictGradData(UUID.fromString(demographicStudentSagaData.getDemographicStudent().getIncomingFilesetID()), demographicStudentSagaData.getDemographicStudent().getPen());
+
+      final Event.EventBuilder eventBuilder = Event.builder();
+      eventBuilder.sagaId(saga.getSagaId()).eventType(UPDATE_DEM_STUDENT_SOR_AND_STATUS_IN_GRAD);
+      eventBuilder.eventOutcome(DEM_STUDENT_SOR_UPDATED_IN_GRAD);
+      val nextEvent = eventBuilder.build();
+      this.postMessageToTopic(this.getTopicToSubscribe(), nextEvent);
+      log.debug("message sent to {} for {} Event. :: {}", this.getTopicToSubscribe(), nextEvent, saga.getSagaId());
+    });
   }
 
 
@@ -119,14 +131,17 @@ public class DemographicStudentProcessingOrchestrator extends BaseOrchestrator<D
 
     var demStudentEntity = demographicStudentService.findByID(UUID.fromString(demographicStudentSagaData.getDemographicStudent().getDemographicStudentID()));
     //Write DEM data downstream
-    restUtils.writeDEMStudentRecordInGrad(demographicStudentSagaData.getDemographicStudent(), demographicStudentSagaData.getSchool(), demStudentEntity.getIncomingFileset().getReportingPeriod());
-
-    final Event.EventBuilder eventBuilder = Event.builder();
-    eventBuilder.sagaId(saga.getSagaId()).eventType(CREATE_OR_UPDATE_DEM_STUDENT_IN_GRAD);
-    eventBuilder.eventOutcome(DEM_STUDENT_CREATED_IN_GRAD);
-    val nextEvent = eventBuilder.build();
-    this.postMessageToTopic(this.getTopicToSubscribe(), nextEvent);
-    log.debug("message sent to {} for {} Event. :: {}", this.getTopicToSubscribe(), nextEvent, saga.getSagaId());
+    var incomingFilesetID = demStudentEntity.getIncomingFileset().getIncomingFilesetID();
+    this.continueWhenComplete(saga, restUtils.writeDEMStudentRecordInGradAsync(demographicStudentSagaData.getDemographicStudent(), demographicStudentSagaData.getSchool(), demStudentEntity.getIncomingFileset().getReportingPeriod()), response -> {
+      filesetStudentCacheService.evictGradData(incomingFilesetID, demographicStudentSagaData.getDemographicStudent().getPen());
+
+      final Event.EventBuilder eventBuilder = Event.builder();
+      eventBuilder.sagaId(saga.getSagaId()).eventType(CREATE_OR_UPDATE_DEM_STUDENT_IN_GRAD);
+      eventBuilder.eventOutcome(DEM_STUDENT_CREATED_IN_GRAD);
+      val nextEvent = eventBuilder.build();
+      this.postMessageToTopic(this.getTopicToSubscribe(), nextEvent);
+      log.debug("message sent to {} for {} Event. :: {}", this.getTopicToSubscribe(), nextEvent, saga.getSagaId());
+    });
   }
 
   public void sendStudentAddressToScholarships(final Event event, final GradSagaEntity saga, final DemographicStudentSagaData demographicStudentSagaData) {
@@ -138,16 +153,19 @@ public class DemographicStudentProcessingOrchestrator extends BaseOrchestrator<D
     final Event.EventBuilder eventBuilder = Event.builder();
     eventBuilder.sagaId(saga.getSagaId()).eventType(SEND_STUDENT_ADDRESS_TO_SCHOLARSHIPS);
     
+    CompletableFuture<Event> addressUpdate = CompletableFuture.completedFuture(null);
     if(isValidAddress(demographicStudentSagaData.getDemographicStudent()) && isCanadianCitizen(demographicStudentSagaData.getDemographicStudent())) {
-      Student studentApiStudent = restUtils.getStudentByPEN(UUID.randomUUID(), demographicStudentSagaData.getDemographicStudent().getPen());
       updateAddressFieldsIfNeeded(demographicStudentSagaData.getDemographicStudent());
-      restUtils.writeStudentAddressToScholarships(demographicStudentSagaData.getDemographicStudent(), studentApiStudent.getStudentID());
+      addressUpdate = restUtils.getStudentByPENAsync(UUID.randomUUID(), demographicStudentSagaData.getDemographicStudent().getPen())
+              .thenCompose(studentApiStudent -> restUtils.writeStudentAddressToScholarshipsAsync(demographicStudentSagaData.getDemographicStudent(), studentApiStudent.getStudentID()));
     }
-    eventBuilder.eventOutcome(STUDENT_ADDRESS_UPDATE_COMPLETE);
+    this.continueWhenComplete(saga, addressUpdate, response -> {
+      eventBuilder.eventOutcome(STUDENT_ADDRESS_UPDATE_COMPLETE);
 
-    val nextEvent = eventBuilder.build();
-    this.postMessageToTopic(this.getTopicToSubscribe(), nextEvent);
-    log.debug("message sent to {} for {} Event. :: {}", this.getTopicToSubscribe(), nextEvent, saga.getSagaId());
+      val nextEvent = eventBuilder.build();
+      this.postMessageToTopic(this.getTopicToSubscribe(), nextEvent);
+      log.debug("message sent to {} for {} Event. :: {}", this.getTopicToSubscribe(), nextEvent, saga.getSagaId());
+    });
   }
   
   private boolean isCanadianCitizen(DemographicStudent student) {
@@ -8,9 +8,12 @@ import ca.bc.gov.educ.graddatacollection.api.model.v1.CourseStudentEntity;
 import ca.bc.gov.educ.graddatacollection.api.model.v1.GradSagaEntity;
 import ca.bc.gov.educ.graddatacollection.api.model.v1.SagaEventStatesEntity;
 import ca.bc.gov.educ.graddatacollection.api.orchestrator.base.BaseOrchestrator;
+import ca.bc.gov.educ.graddatacollection.api.orchestrator.base.SagaCompletionListener;
+import ca.bc.gov.educ.graddatacollection.api.orchestrator.base.SagaStepTimers;
 import ca.bc.gov.educ.graddatacollection.api.rest.RestUtils;
 import ca.bc.gov.educ.graddatacollection.api.service.v1.CourseRulesService;
 import ca.bc.gov.educ.graddatacollection.api.service.v1.CourseStudentService;
+import ca.bc.gov.educ.graddatacollection.api.service.v1.FilesetStudentCacheService;
 import ca.bc.gov.educ.graddatacollection.api.service.v1.SagaService;
 import ca.bc.gov.educ.graddatacollection.api.struct.Event;
 import ca.bc.gov.educ.graddatacollection.api.struct.v1.CourseStudentUpdate;
@@ -33,12 +36,14 @@ public class UpdateCourseStudentDownstreamOrchestrator extends BaseOrchestrator<
   private final CourseStudentService courseStudentService;
   private final CourseRulesService courseRulesService;
   private final RestUtils restUtils;
+  private final FilesetStudentCacheService filesetStudentCacheService;
 
-  protected UpdateCourseStudentDownstreamOrchestrator(final SagaService sagaService, final MessagePublisher messagePublisher, CourseStudentService courseStudentService, CourseRulesService courseRulesService, RestUtils restUtils) {
-    super(sagaService, messagePublisher, CourseStudentUpdate.class, SagaEnum.PROCESS_COURSE_STUDENTS_FOR_DOWNSTREAM_UPDATE_SAGA.toString(), TopicsEnum.PROCESS_COURSE_STUDENTS_SAGA_FOR_DOWNSTREAM_UPDATE_TOPIC.toString());
+  protected UpdateCourseStudentDownstreamOrchestrator(final SagaService sagaService, final MessagePublisher messagePublisher, final SagaCompletionListener sagaCompletionListener, final SagaStepTimers sagaStepTimers, CourseStudentService courseStudentService, CourseRulesService courseRulesService, RestUtils restUtils, FilesetStudentCacheService filesetStudentCacheService) {
+    super(sagaService, messagePublisher, sagaCompletionListener, sagaStepTimers, CourseStudentUpdate.class, SagaEnum.PROCESS_COURSE_STUDENTS_FOR_DOWNSTREAM_UPDATE_SAGA.toString(), TopicsEnum.PROCESS_COURSE_STUDENTS_SAGA_FOR_DOWNSTREAM_UPDATE_TOPIC.toString());
       this.courseStudentService = courseStudentService;
       this.courseRulesService = courseRulesService;
       this.restUtils = restUtils;
+      this.filesetStudentCacheService = filesetStudentCacheService;
   }
 
   @Override
@@ -60,12 +65,15 @@ public class UpdateCourseStudentDownstreamOrchestrator extends BaseOrchestrator<
 
     List<CourseStudentEntity> entities = courseRulesService.findByIncomingFilesetIDAndPenAndStudentStatusCode(UUID.fromString(courseStudentUpdate.getIncomingFilesetID()), courseStudentUpdate.getPen());
     var incomingFileset = entities.getFirst().getIncomingFileset();
-    restUtils.writeCRSStudentRecordInGrad(entities, courseStudentUpdate.getPen(), incomingFileset.getSchoolID().toString(), incomingFileset.getReportingPeriod());
-    eventBuilder.eventOutcome(COURSE_STUDENT_CREATED_IN_GRAD);
+    var incomingFilesetID = incomingFileset.getIncomingFilesetID();
+    this.continueWhenComplete(saga, restUtils.writeCRSStudentRecordInGradAsync(entities, courseStudentUpdate.getPen(), incomingFileset.getSchoolID().toString(), incomingFileset.getReportingPeriod()), response -> {
+      filesetStudentCacheService.evictGradData(incomingFilesetID, courseStudentUpdate.getPen());
+      eventBuilder.eventOutcome(COURSE_STUDENT_CREATED_IN_GRAD);
 
-    val nextEvent = eventBuilder.build();
-    this.postMessageToTopic(this.getTopicToSubscribe(), nextEvent);
-    log.debug("message sent to {} for {} Event. :: {}", this.getTopicToSubscribe(), nextEvent, saga.getSagaId());
+      val nextEvent = eventBuilder.build();
+      this.postMessageToTopic(this.getTopicToSubscribe(), nextEvent);
+      log.debug("message sent to {} for {} Event. :: {}", this.getTopicToSubscribe(), nextEvent, saga.getSagaId());
+    });
   }
 
   public void updateCourseStudentStatus(final Event event, final GradSagaEntity saga, final CourseStudentUpdate courseStudentUpdate) {
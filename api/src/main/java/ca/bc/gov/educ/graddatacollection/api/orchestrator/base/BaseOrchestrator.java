@@ -9,6 +9,7 @@ import ca.bc.gov.educ.graddatacollection.api.service.v1.SagaService;
 import ca.bc.gov.educ.graddatacollection.api.struct.Event;
 import ca.bc.gov.educ.graddatacollection.api.struct.NotificationEvent;
 import ca.bc.gov.educ.graddatacollection.api.util.JsonUtil;
+import io.micrometer.core.instrument.Timer;
 import jakarta.validation.constraints.NotNull;
 import lombok.Getter;
 import lombok.Setter;
@@ -23,7 +24,10 @@ import org.springframework.transaction.annotation.Transactional;
 import java.io.IOException;
 import java.time.LocalDateTime;
 import java.util.*;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Consumer;
 import java.util.function.Predicate;
 
 import static ca.bc.gov.educ.graddatacollection.api.constants.EventOutcome.INITIATE_SUCCESS;
@@ -67,6 +71,19 @@ public abstract class BaseOrchestrator<T> implements EventHandler, Orchestrator
    */
   @Getter(PROTECTED)
   private final MessagePublisher messagePublisher;
+  /**
+   * The listener notified once a saga is complete.
+   */
+  @Getter(PROTECTED)
+  private final SagaCompletionListener sagaCompletionListener;
+  /**
+   * The timers of the saga steps.
+   */
+  private final SagaStepTimers sagaStepTimers;
+  /**
+   * The continuation of the step being handled on this thread, set when the step defers to its remote call.
+   */
+  private final ThreadLocal<AtomicReference<CompletableFuture<?>>> stepContinuation = new ThreadLocal<>();
   /**
    * The Saga name.
    */
@@ -88,15 +105,21 @@ public abstract class BaseOrchestrator<T> implements EventHandler, Orchestrator
    *
    * @param sagaService      the saga service
    * @param messagePublisher the message publisher
+   * @param sagaCompletionListener the saga completion listener
+   * @param sagaStepTimers   the saga step timers
    * @param clazz            the clazz
    * @param sagaName         the saga name
    * @param topicToSubscribe the topic to subscribe
    */
   protected BaseOrchestrator(final SagaService sagaService, final MessagePublisher messagePublisher,
+                             final SagaCompletionListener sagaCompletionListener,
+                             final SagaStepTimers sagaStepTimers,
                              final Class<T> clazz, final String sagaName,
                              final String topicToSubscribe) {
     this.sagaService = sagaService;
     this.messagePublisher = messagePublisher;
+    this.sagaCompletionListener = sagaCompletionListener;
+    this.sagaStepTimers = sagaStepTimers;
     this.clazz = clazz;
     this.sagaName = sagaName;
     this.topicToSubscribe = topicToSubscribe;
@@ -307,13 +330,6 @@ public abstract class BaseOrchestrator<T> implements EventHandler, Orchestrator
    * @param payloadToSubscribers the event payload to subscribers
    */
   protected void markSagaComplete(final Event event, final GradSagaEntity saga, final T sagaData, final String payloadToSubscribers) {
-    //Added to slow down complete write
-    try {
-      Thread.sleep(1000);
-    }catch (InterruptedException e) {
-      Thread.currentThread().interrupt();
-    }
-    
     log.trace("payload is {}", sagaData);
     if (this.shouldSendNotificationEvent) {
       final var finalEvent = new NotificationEvent();
@@ -338,7 +354,7 @@ public abstract class BaseOrchestrator<T> implements EventHandler, Orchestrator
     saga.setStatus(COMPLETED.toString());
     saga.setUpdateDate(LocalDateTime.now());
     this.getSagaService().updateAttachedSagaWithEvents(saga, sagaEventStates);
-
+    this.sagaCompletionListener.sagaCompleted(saga);
   }
 
   /**
@@ -367,6 +383,28 @@ public abstract class BaseOrchestrator<T> implements EventHandler, Orchestrator
     }
   }
 
+  /**
+   * Runs the rest of a step once its remote call completes, without holding the subscriber thread while the call is
+   * outstanding. When the call fails the next event is not posted, the saga stays in the state the step recorded and
+   * is replayed from there like any other step that did not complete: the uncompleted saga scheduler replays
+   * IN_PROGRESS sagas that have not been updated for two minutes, which runs the step and its remote call again.
+   *
+   * @param saga       the saga the step belongs to.
+   * @param remoteCall the remote call of the step.
+   * @param nextStep   posts the next event, given the result of the call.
+   */
+  protected <R> void continueWhenComplete(final GradSagaEntity saga, final CompletableFuture<R> remoteCall, final Consumer<R> nextStep) {
+    final UUID sagaId = saga.getSagaId();
+    final CompletableFuture<Void> continuation = remoteCall.thenAccept(nextStep).exceptionally(ex -> {
+      log.error("Remote call failed for saga :: {}, leaving it to be replayed :: {}", sagaId, ex.getMessage());
+      return null;
+    });
+    final AtomicReference<CompletableFuture<?>> handledStep = this.stepContinuation.get();
+    if (handledStep != null) {
+      handledStep.set(continuation);
+    }
+  }
+
   /**
    * it finds the last event that was processed successfully for this saga.
    *
@@ -391,7 +429,7 @@ public abstract class BaseOrchestrator<T> implements EventHandler, Orchestrator
   @Async("sagaRetryTaskExecutor")
   public void replaySaga(final GradSagaEntity saga) throws IOException, InterruptedException, TimeoutException {
     final var eventStates = this.getSagaService().findAllSagaStates(saga);
-    final var t = JsonUtil.getJsonObjectFromString(this.clazz, saga.getPayload());
+    final var t = this.hydrateSagaData(JsonUtil.getJsonObjectFromString(this.clazz, saga.getPayload()));
     if (eventStates.isEmpty()) { //process did not start last time, lets start from beginning.
       this.replayFromBeginning(saga, t);
     } else {
@@ -471,9 +509,26 @@ public abstract class BaseOrchestrator<T> implements EventHandler, Orchestrator
    * @throws TimeoutException     if connection to messaging system times out.
    */
   @Override
-  @Async("subscriberExecutor")
+  @Async("sagaEventExecutor")
   @Transactional
   public void handleEvent(@NotNull final Event event) throws InterruptedException, IOException, TimeoutException {
+    final Timer.Sample sample = this.sagaStepTimers.start();
+    final AtomicReference<CompletableFuture<?>> continuation = new AtomicReference<>();
+    this.stepContinuation.set(continuation);
+    try {
+      this.executeSagaEvent(event);
+    } finally {
+      this.stepContinuation.remove();
+      final CompletableFuture<?> deferredStep = continuation.get();
+      if (deferredStep == null) {
+        this.sagaStepTimers.stop(sample, this.sagaName, event.getEventType(), event.getEventOutcome());
+      } else {
+        deferredStep.whenComplete((result, ex) -> this.sagaStepTimers.stop(sample, this.sagaName, event.getEventType(), event.getEventOutcome()));
+      }
+    }
+  }
+
+  private void executeSagaEvent(final Event event) throws InterruptedException, IOException, TimeoutException {
     log.debug("Executing saga event {}", event);
     if (this.sagaEventExecutionNotRequired(event)) {
       log.trace("Execution is not required for this message returning EVENT is :: {}", event);
@@ -486,7 +541,7 @@ public abstract class BaseOrchestrator<T> implements EventHandler, Orchestrator
     if (sagaOptional.isPresent()) {
       val saga = sagaOptional.get();
       if (!COMPLETED.toString().equalsIgnoreCase(sagaOptional.get().getStatus())) {//possible duplicate message or force stop scenario check
-        final T sagaData = JsonUtil.getJsonObjectFromString(this.clazz, saga.getPayload());
+        final T sagaData = this.hydrateSagaData(JsonUtil.getJsonObjectFromString(this.clazz, saga.getPayload()));
         final var sagaEventState = this.findNextSagaEventState(event.getEventType(), event.getEventOutcome(), sagaData);
         log.trace("found next event as {}", sagaEventState);
         if (sagaEventState.isPresent()) {
@@ -508,7 +563,7 @@ public abstract class BaseOrchestrator<T> implements EventHandler, Orchestrator
    * @param saga the saga data
    */
   @Override
-  @Async("subscriberExecutor")
+  @Async("sagaEventExecutor")
   @Transactional(propagation = Propagation.REQUIRES_NEW)
   public void startSaga(@NotNull final GradSagaEntity saga) {
     try {
@@ -567,6 +622,17 @@ public abstract class BaseOrchestrator<T> implements EventHandler, Orchestrator
     }
   }
 
+  /**
+   * Resolves whatever the saga payload only references by ID before the saga data is handed to the steps. The default
+   * implementation returns the payload as it is.
+   *
+   * @param sagaData the saga data parsed from the payload
+   * @return the saga data the steps work on
+   */
+  protected T hydrateSagaData(final T sagaData) {
+    return sagaData;
+  }
+
   /**
    * this method finds the next event that needs to be executed.
    *
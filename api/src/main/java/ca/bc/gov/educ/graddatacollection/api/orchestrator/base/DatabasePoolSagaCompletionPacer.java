@@ -0,0 +1,116 @@
+package ca.bc.gov.educ.graddatacollection.api.orchestrator.base;
+
+import ca.bc.gov.educ.graddatacollection.api.properties.ApplicationProperties;
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.HikariPoolMXBean;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+import java.sql.SQLException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Token bucket pacer whose refill rate follows Hikari connection pool saturation.
+ * <p>
+ * While pool usage stays under the configured saturation threshold pacing is a no-op: nothing waits and no tokens are
+ * taken. Above the threshold the rate drops linearly from the maximum towards the minimum rate, and it sits at the
+ * minimum rate while threads are queued waiting for a connection. The bucket holds at most one second of the current
+ * rate, and starts full each time the pool comes under stress.
+ */
+@Component
+@Slf4j
+public class DatabasePoolSagaCompletionPacer implements SagaCompletionPacer {
+  private final DataSource dataSource;
+  private final double maxRate;
+  private final double minRate;
+  private final double saturationThreshold;
+  private double availableTokens;
+  private long lastRefillNanos;
+  private volatile boolean pacing;
+  private volatile double currentRate;
+
+  public DatabasePoolSagaCompletionPacer(final DataSource dataSource, final ApplicationProperties props, final MeterRegistry meterRegistry) {
+    this.dataSource = dataSource;
+    this.maxRate = props.getSagaCompletionPacingMaxRate();
+    this.minRate = Math.min(props.getSagaCompletionPacingMinRate(), this.maxRate);
+    this.saturationThreshold = props.getSagaCompletionPacingSaturationThreshold();
+    this.currentRate = this.maxRate;
+    Gauge.builder("gdc.saga.completion.pacing.rate", this, DatabasePoolSagaCompletionPacer::getCurrentRate)
+      .description("Saga events per second currently allowed by the pacer")
+      .register(meterRegistry);
+  }
+
+  @Override
+  public void pace() {
+    final double rate = this.calculateRate();
+    this.currentRate = rate;
+    if (rate >= this.maxRate) {
+      this.pacing = false;
+      return;
+    }
+    final long waitNanos;
+    synchronized (this) {
+      final long now = System.nanoTime();
+      if (this.pacing) {
+        this.availableTokens = Math.min(rate, this.availableTokens + (now - this.lastRefillNanos) / 1_000_000_000d * rate);
+      } else {
+        this.availableTokens = rate;
+        this.pacing = true;
+      }
+      this.lastRefillNanos = now;
+      this.availableTokens -= 1;
+      waitNanos = this.availableTokens >= 0 ? 0 : (long) (-this.availableTokens / rate * 1_000_000_000d);
+    }
+    if (waitNanos > 0) {
+      log.debug("Pacing saga event for {} ms at {} events per second", TimeUnit.NANOSECONDS.toMillis(waitNanos), rate);
+      try {
+        TimeUnit.NANOSECONDS.sleep(waitNanos);
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+      }
+    }
+  }
+
+  @Override
+  public double getCurrentRate() {
+    return this.currentRate;
+  }
+
+  private double calculateRate() {
+    final double saturation = this.getPoolSaturation();
+    if (saturation <= this.saturationThreshold) {
+      return this.maxRate;
+    }
+    if (saturation >= 1) {
+      return this.minRate;
+    }
+    final double pressure = (saturation - this.saturationThreshold) / (1 - this.saturationThreshold);
+    return Math.max(this.minRate, this.maxRate - (this.maxRate - this.minRate) * pressure);
+  }
+
+  /**
+   * @return the share of the pool in use, or 1 when threads are waiting on a connection; 0 when it cannot be determined
+   */
+  private double getPoolSaturation() {
+    try {
+      if (!this.dataSource.isWrapperFor(HikariDataSource.class)) {
+        return 0;
+      }
+      final HikariDataSource hikariDataSource = this.dataSource.unwrap(HikariDataSource.class);
+      final HikariPoolMXBean pool = hikariDataSource.getHikariPoolMXBean();
+      if (pool == null || hikariDataSource.getMaximumPoolSize() <= 0) {
+        return 0;
+      }
+      if (pool.getThreadsAwaitingConnection() > 0) {
+        return 1;
+      }
+      return (double) pool.getActiveConnections() / hikariDataSource.getMaximumPoolSize();
+    } catch (SQLException e) {
+      log.debug("Unable to read connection pool state for saga completion pacing :: {}", e.getMessage());
+      return 0;
+    }
+  }
+}
@@ -0,0 +1,16 @@
+package ca.bc.gov.educ.graddatacollection.api.orchestrator.base;
+
+import ca.bc.gov.educ.graddatacollection.api.model.v1.GradSagaEntity;
+
+/**
+ * Notified by the orchestrators once a saga has been marked complete.
+ */
+public interface SagaCompletionListener {
+
+  /**
+   * Called after the completed saga has been handed to the saga service. Implementations must not block the caller.
+   *
+   * @param saga the completed saga
+   */
+  void sagaCompleted(GradSagaEntity saga);
+}
@@ -0,0 +1,36 @@
+package ca.bc.gov.educ.graddatacollection.api.orchestrator.base;
+
+import java.util.concurrent.Executor;
+
+/**
+ * Applies backpressure to saga events while the database is under stress. Called on the executor thread that handles a
+ * saga event, before the transaction that handles it is opened, so that every step of a saga, its completion included,
+ * is slowed down without holding a connection or the NATS dispatcher thread.
+ */
+public interface SagaCompletionPacer {
+
+  /**
+   * Blocks the calling thread until the saga event is allowed to proceed. Returns at once when there is no stress.
+   */
+  void pace();
+
+  /**
+   * The number of saga events per second currently allowed.
+   *
+   * @return the current pacing rate
+   */
+  double getCurrentRate();
+
+  /**
+   * Wraps an executor so that each task is paced by the thread that runs it, right before the task starts.
+   *
+   * @param executor the executor that runs the tasks
+   * @return the pacing executor
+   */
+  default Executor pacedExecutor(final Executor executor) {
+    return task -> executor.execute(() -> {
+      this.pace();
+      task.run();
+    });
+  }
+}
@@ -0,0 +1,48 @@
+package ca.bc.gov.educ.graddatacollection.api.orchestrator.base;
+
+import ca.bc.gov.educ.graddatacollection.api.constants.EventOutcome;
+import ca.bc.gov.educ.graddatacollection.api.constants.EventType;
+import ca.bc.gov.educ.graddatacollection.api.properties.ApplicationProperties;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Times the handling of saga events in a {@code gdc.saga.step} timer per saga, event type and event outcome. A step
+ * that hands its remote call to {@link BaseOrchestrator#continueWhenComplete} is timed until its continuation finishes,
+ * not just until the call is dispatched. When the timers are disabled {@link #start()} returns null and nothing is
+ * recorded.
+ */
+@Component
+public class SagaStepTimers {
+  public static final String SAGA_STEP = "gdc.saga.step";
+
+  private final MeterRegistry meterRegistry;
+  private final boolean enabled;
+  private final Map<String, Timer> timers = new ConcurrentHashMap<>();
+
+  public SagaStepTimers(final MeterRegistry meterRegistry, final ApplicationProperties props) {
+    this.meterRegistry = meterRegistry;
+    this.enabled = Boolean.TRUE.equals(props.getSagaStepTimersEnabled());
+  }
+
+  public Timer.Sample start() {
+    return this.enabled ? Timer.start(this.meterRegistry) : null;
+  }
+
+  public void stop(final Timer.Sample sample, final String sagaName, final EventType eventType, final EventOutcome eventOutcome) {
+    if (sample == null) {
+      return;
+    }
+    final String step = String.valueOf(eventType);
+    final String outcome = String.valueOf(eventOutcome);
+    sample.stop(this.timers.computeIfAbsent(sagaName + '/' + step + '/' + outcome, key -> Timer.builder(SAGA_STEP)
+      .tag("saga", sagaName)
+      .tag("step", step)
+      .tag("outcome", outcome)
+      .register(this.meterRegistry)));
+  }
+}
@@ -72,6 +72,8 @@ public class ApplicationProperties {
   private String gradCourseApiURL;
   @Value("${number.students.process.saga}")
   private String numberOfStudentsToProcessInSaga;
+  @Value("${number.filesets.process.concurrently}")
+  private Integer numberOfFilesetsToProcessConcurrently;
   @Value("${ches.endpoint.url}")
   private String chesEndpointURL;
   @Value("${ches.client.id}")
@@ -92,6 +94,76 @@ public class ApplicationProperties {
   private String gradSchoolApiURL;
   @Value("${url.api.coreg}")
   private String coregApiURL;
+  @Value("${student.pen.lookup.batch.size}")
+  private Integer studentPenLookupBatchSize;
+  @Value("${student.pen.lookup.batch.wait.ms}")
+  private Long studentPenLookupBatchWaitMs;
+  @Value("${fileset.student.cache.max.size}")
+  private Long filesetStudentCacheMaxSize;
+  @Value("${fileset.student.cache.expiry.in.minutes}")
+  private Long filesetStudentCacheExpiryInMinutes;
+  @Value("${fileset.duplicate.index.max.size}")
+  private Long filesetDuplicateIndexMaxSize;
+  @Value("${saga.completion.pacing.max.rate}")
+  private Double sagaCompletionPacingMaxRate;
+  @Value("${saga.completion.pacing.min.rate}")
+  private Double sagaCompletionPacingMinRate;
+  @Value("${saga.completion.pacing.saturation.threshold}")
+  private Double sagaCompletionPacingSaturationThreshold;
+  @Value("${rules.concurrent.lookups.enabled}")
+  private Boolean rulesConcurrentLookupsEnabled;
+  @Value("${student.batch.prefetch.enabled}")
+  private Boolean studentBatchPrefetchEnabled;
+  @Value("${student.batch.prefetch.concurrency}")
+  private Integer studentBatchPrefetchConcurrency;
+  @Value("${saga.creation.batch.enabled}")
+  private Boolean sagaCreationBatchEnabled;
+  @Value("${fileset.progress.event.driven.enabled}")
+  private Boolean filesetProgressEventDrivenEnabled;
+  @Value("${fileset.progress.debounce.ms}")
+  private Long filesetProgressDebounceMs;
+  @Value("${fileset.progress.flush.delay.ms}")
+  private Long filesetProgressFlushDelayMs;
+  @Value("${scheduled.jobs.process.loaded.grad.students.cron.lockAtMostFor}")
+  private String processLoadedStudentsLockAtMostFor;
+  @Value("${nats.request.timeout.ms}")
+  private Long natsRequestTimeoutMs;
+  @Value("${nats.request.max.attempts}")
+  private Integer natsRequestMaxAttempts;
+  @Value("${nats.request.retry.backoff.ms}")
+  private Long natsRequestRetryBackoffMs;
+  @Value("${nats.request.max.in.flight.per.topic}")
+  private Integer natsRequestMaxInFlightPerTopic;
+  @Value("${jetstream.consumer.mode}")
+  private String jetStreamConsumerMode;
+  @Value("${jetstream.subscriber.workers}")
+  private Integer jetStreamSubscriberWorkers;
+  @Value("${jetstream.pull.batch.size}")
+  private Integer jetStreamPullBatchSize;
+  @Value("${jetstream.pull.max.wait.ms}")
+  private Long jetStreamPullMaxWaitMs;
+  @Value("${jetstream.pull.ack.wait.ms}")
+  private Long jetStreamPullAckWaitMs;
+  @Value("${jetstream.pull.error.backoff.ms}")
+  private Long jetStreamPullErrorBackoffMs;
+  @Value("${jetstream.pull.error.backoff.max.ms}")
+  private Long jetStreamPullErrorBackoffMaxMs;
+  @Value("${jetstream.stream.max.messages}")
+  private Long jetStreamMaxMessages;
+  @Value("${jetstream.stream.max.bytes}")
+  private Long jetStreamMaxBytes;
+  @Value("${jetstream.stream.max.age.in.minutes}")
+  private Long jetStreamMaxAgeInMinutes;
+  @Value("${staged.student.bulk.insert.batch.size}")
+  private Integer stagedStudentBulkInsertBatchSize;
+  @Value("${fileset.copy.chunk.size}")
+  private Integer filesetCopyChunkSize;
+  @Value("${metrics.rule.timers.enabled}")
+  private Boolean ruleTimersEnabled;
+  @Value("${metrics.saga.step.timers.enabled}")
+  private Boolean sagaStepTimersEnabled;
+  @Value("${metrics.nats.request.timers.enabled}")
+  private Boolean natsRequestTimersEnabled;
 
   public String getFolderBasePath() {
     return StringUtils.isBlank(this.folderBasePath) ? "/temp" : this.folderBasePath;
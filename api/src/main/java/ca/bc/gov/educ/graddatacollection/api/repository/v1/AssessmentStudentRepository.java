@@ -33,4 +33,20 @@ public interface AssessmentStudentRepository extends JpaRepository<AssessmentStu
            "AND a.courseYear = :courseYear")
     long countNumeracyDuplicates(UUID incomingFilesetID, String pen, List<String> numeracyCodes, String courseMonth, String courseYear);
 
+    @Query("SELECT a.pen, a.courseCode, a.courseMonth, a.courseYear FROM AssessmentStudentEntity a " +
+           "WHERE a.incomingFileset.incomingFilesetID = :incomingFilesetID " +
+           "GROUP BY a.pen, a.courseCode, a.courseMonth, a.courseYear " +
+           "HAVING COUNT(a) > 1")
+    List<Object[]> findDuplicateAssessmentSessions(UUID incomingFilesetID);
+
+    @Query("SELECT a.pen, a.courseMonth, a.courseYear FROM AssessmentStudentEntity a " +
+           "WHERE a.incomingFileset.incomingFilesetID = :incomingFilesetID " +
+           "AND a.courseCode IN :numeracyCodes " +
+           "AND a.pen IS NOT NULL " +
+           "AND a.courseMonth IS NOT NULL " +
+           "AND a.courseYear IS NOT NULL " +
+           "GROUP BY a.pen, a.courseMonth, a.courseYear " +
+           "HAVING COUNT(a) > 1")
+    List<Object[]> findDuplicateNumeracySessions(UUID incomingFilesetID, List<String> numeracyCodes);
+
 }
@@ -27,4 +27,11 @@ public interface CourseStudentRepository extends JpaRepository<CourseStudentEnti
             "GROUP BY v.validationIssueSeverityCode")
     List<Object[]> countValidationIssuesBySeverity(@Param("incomingFilesetId") UUID incomingFilesetId);
 
+    @Query("SELECT c.pen, c.courseCode, c.courseMonth, c.courseYear, c.courseLevel " +
+            "FROM CourseStudentEntity c " +
+            "WHERE c.incomingFileset.incomingFilesetID = :incomingFilesetID " +
+            "GROUP BY c.pen, c.courseCode, c.courseMonth, c.courseYear, c.courseLevel " +
+            "HAVING COUNT(c) > 1")
+    List<Object[]> findDuplicateCourseSessions(UUID incomingFilesetID);
+
 }
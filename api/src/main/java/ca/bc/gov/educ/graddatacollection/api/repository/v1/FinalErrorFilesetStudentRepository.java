@@ -1,17 +1,85 @@
 package ca.bc.gov.educ.graddatacollection.api.repository.v1;
 
 import ca.bc.gov.educ.graddatacollection.api.model.v1.FinalErrorFilesetStudentEntity;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.stream.Stream;
 
 @Repository
 public interface FinalErrorFilesetStudentRepository extends JpaRepository<FinalErrorFilesetStudentEntity, UUID>, JpaSpecificationExecutor<FinalErrorFilesetStudentEntity> {
     Optional<FinalErrorFilesetStudentEntity> findByIncomingFileset_IncomingFilesetIDAndPen(UUID incomingFilesetId, String pen);
     List<FinalErrorFilesetStudentEntity> findAllByIncomingFileset_IncomingFilesetID(UUID incomingFilesetId);
     long countAllByIncomingFileset_IncomingFilesetID(UUID incomingFilesetId);
+
+    /**
+     * Reads the validation issues of the error students of the fileset as flat rows, forward only, fetching
+     * {@value #REPORT_FETCH_SIZE} rows at a time. The rows of a student follow each other, demographic issues first,
+     * then course and assessment issues. The stream must be closed and consumed in a transaction.
+     */
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "" + REPORT_FETCH_SIZE),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true"),
+            @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "false")
+    })
+    @Query(value = """
+            SELECT e.pen AS "pen", e.local_id AS "localID", e.last_name AS "lastName", e.first_name AS "firstName", e.birthdate AS "birthdate",
+                1 AS "fileOrder", s.demographic_student_id AS "studentID", 'DEMOGRAPHICS' AS "issueType",
+                i.validation_issue_severity_code AS "severityCode", i.validation_issue_field_code AS "fieldCode", i.validation_issue_description AS "description",
+                NULL AS "courseCode", NULL AS "courseLevel", NULL AS "courseYear", NULL AS "courseMonth"
+            FROM final_error_fileset_student e
+            JOIN final_demographic_student s ON s.incoming_fileset_id = e.incoming_fileset_id AND s.pen = e.pen
+            JOIN final_demographic_student_validation_issue i ON i.demographic_student_id = s.demographic_student_id
+            WHERE e.incoming_fileset_id = :incomingFilesetId
+            UNION ALL
+            SELECT e.pen, e.local_id, e.last_name, e.first_name, e.birthdate,
+                2, s.course_student_id, 'COURSE',
+                i.validation_issue_severity_code, i.validation_issue_field_code, i.validation_issue_description,
+                s.course_code, s.course_level, s.course_year, s.course_month
+            FROM final_error_fileset_student e
+            JOIN final_course_student s ON s.incoming_fileset_id = e.incoming_fileset_id AND s.pen = e.pen
+            JOIN final_course_student_validation_issue i ON i.course_student_id = s.course_student_id
+            WHERE e.incoming_fileset_id = :incomingFilesetId
+            UNION ALL
+            SELECT e.pen, e.local_id, e.last_name, e.first_name, e.birthdate,
+                3, s.assessment_student_id, 'ASSESSMENT',
+                i.validation_issue_severity_code, i.validation_issue_field_code, i.validation_issue_description,
+                s.course_code, NULL, s.course_year, s.course_month
+            FROM final_error_fileset_student e
+            JOIN final_assessment_student s ON s.incoming_fileset_id = e.incoming_fileset_id AND s.pen = e.pen
+            JOIN final_assessment_student_validation_issue i ON i.assessment_student_id = s.assessment_student_id
+            WHERE e.incoming_fileset_id = :incomingFilesetId
+            ORDER BY "pen", "fileOrder", "studentID"
+            """, nativeQuery = true)
+    Stream<ErrorReportRow> streamErrorReportRows(@Param("incomingFilesetId") UUID incomingFilesetId);
+
+    /**
+     * One validation issue of an error student, with the course or assessment it was raised on.
+     */
+    interface ErrorReportRow {
+        String getPen();
+        String getLocalID();
+        String getLastName();
+        String getFirstName();
+        String getBirthdate();
+        String getIssueType();
+        String getSeverityCode();
+        String getFieldCode();
+        String getDescription();
+        String getCourseCode();
+        String getCourseLevel();
+        String getCourseYear();
+        String getCourseMonth();
+    }
+
+    int REPORT_FETCH_SIZE = 500;
 }
@@ -0,0 +1,144 @@
+package ca.bc.gov.educ.graddatacollection.api.repository.v1;
+
+import ca.bc.gov.educ.graddatacollection.api.constants.v1.ErrorFilesetValidationIssueType;
+import ca.bc.gov.educ.graddatacollection.api.model.v1.FinalErrorFilesetStudentEntity;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.Tuple;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.stereotype.Repository;
+
+import java.util.*;
+
+/**
+ * Keyset search over the final error students that reads projections only, so the EAGER student and validation issue
+ * graph of {@link FinalErrorFilesetStudentEntity} is never loaded.
+ * <p>
+ * A page is read in two steps: the students matching the search, ordered by PEN and ID and starting after the cursor,
+ * then the validation issues of the DEM, CRS and XAM students of just those students.
+ */
+@Repository
+public class FinalErrorFilesetStudentSearchRepository {
+    private static final String PEN = "pen";
+    private static final String ERROR_FILESET_STUDENT_ID = "errorFilesetStudentId";
+
+    private final EntityManager entityManager;
+
+    /**
+     * The position of a page, the last student of the previous page.
+     */
+    public record Cursor(String pen, UUID errorFilesetStudentId) {
+    }
+
+    public record StudentRow(UUID errorFilesetStudentId, UUID incomingFilesetId, String pen, String localID, String lastName, String firstName, String birthdate) {
+    }
+
+    /**
+     * A validation issue of one of the DEM, CRS or XAM students with the PEN of an error student, and the course or
+     * assessment it was raised on.
+     */
+    public record IssueRow(UUID incomingFilesetId, String pen, ErrorFilesetValidationIssueType issueType, String validationIssueSeverityCode, String validationIssueCode, String validationIssueFieldCode,
+                           String validationIssueDescription, String courseCode, String courseLevel, String courseYear, String courseMonth) {
+    }
+
+    /**
+     * @param issueTypes the types of issues to read, all of them when empty
+     * @param severities the severities to read, all of them when empty
+     * @param fieldCode  the field code to read, case insensitive, all of them when null
+     */
+    public record IssueFilter(Set<ErrorFilesetValidationIssueType> issueTypes, Set<String> severities, String fieldCode) {
+    }
+
+    public FinalErrorFilesetStudentSearchRepository(EntityManager entityManager) {
+        this.entityManager = entityManager;
+    }
+
+    /**
+     * @return up to {@code limit} students matching the specification, following the cursor when there is one
+     */
+    public List<StudentRow> findStudentsAfter(Specification<FinalErrorFilesetStudentEntity> studentSpecs, Cursor after, int limit) {
+        var criteriaBuilder = entityManager.getCriteriaBuilder();
+        var query = criteriaBuilder.createTupleQuery();
+        Root<FinalErrorFilesetStudentEntity> root = query.from(FinalErrorFilesetStudentEntity.class);
+
+        List<Predicate> predicates = new ArrayList<>();
+        if (studentSpecs != null) {
+            var predicate = studentSpecs.toPredicate(root, query, criteriaBuilder);
+            if (predicate != null) {
+                predicates.add(predicate);
+            }
+        }
+        if (after != null) {
+            predicates.add(criteriaBuilder.or(
+                    criteriaBuilder.greaterThan(root.<String>get(PEN), after.pen()),
+                    criteriaBuilder.and(criteriaBuilder.equal(root.get(PEN), after.pen()), criteriaBuilder.greaterThan(root.<UUID>get(ERROR_FILESET_STUDENT_ID), after.errorFilesetStudentId()))));
+        }
+
+        query.multiselect(root.get(ERROR_FILESET_STUDENT_ID), root.get("incomingFileset").get("incomingFilesetID"), root.get(PEN), root.get("localID"), root.get("lastName"), root.get("firstName"), root.get("birthdate"))
+                .where(predicates.toArray(new Predicate[0]))
+                .orderBy(criteriaBuilder.asc(root.get(PEN)), criteriaBuilder.asc(root.get(ERROR_FILESET_STUDENT_ID)));
+
+        return entityManager.createQuery(query).setMaxResults(limit).getResultList().stream()
+                .map(tuple -> new StudentRow(tuple.get(0, UUID.class), tuple.get(1, UUID.class), tuple.get(2, String.class), tuple.get(3, String.class), tuple.get(4, String.class), tuple.get(5, String.class), tuple.get(6, String.class)))
+                .toList();
+    }
+
+    /**
+     * @return the issues of the students, DEM issues first, then CRS and XAM issues
+     */
+    public List<IssueRow> findIssues(Collection<StudentRow> students, IssueFilter filter) {
+        if (students.isEmpty()) {
+            return List.of();
+        }
+        Set<UUID> incomingFilesetIds = new HashSet<>();
+        Set<String> pens = new HashSet<>();
+        students.forEach(student -> {
+            incomingFilesetIds.add(student.incomingFilesetId());
+            pens.add(student.pen());
+        });
+
+        List<IssueRow> issues = new ArrayList<>();
+        if (filter.issueTypes().isEmpty() || filter.issueTypes().contains(ErrorFilesetValidationIssueType.DEMOGRAPHICS)) {
+            issues.addAll(findIssues(ErrorFilesetValidationIssueType.DEMOGRAPHICS, "FinalDemographicStudentValidationIssueEntity", "demographicStudent",
+                    "CAST(NULL AS String), CAST(NULL AS String), CAST(NULL AS String), CAST(NULL AS String)", incomingFilesetIds, pens, filter));
+        }
+        if (filter.issueTypes().isEmpty() || filter.issueTypes().contains(ErrorFilesetValidationIssueType.COURSE)) {
+            issues.addAll(findIssues(ErrorFilesetValidationIssueType.COURSE, "FinalCourseStudentValidationIssueEntity", "courseStudent",
+                    "s.courseCode, s.courseLevel, s.courseYear, s.courseMonth", incomingFilesetIds, pens, filter));
+        }
+        if (filter.issueTypes().isEmpty() || filter.issueTypes().contains(ErrorFilesetValidationIssueType.ASSESSMENT)) {
+            issues.addAll(findIssues(ErrorFilesetValidationIssueType.ASSESSMENT, "FinalAssessmentStudentValidationIssueEntity", "assessmentStudent",
+                    "s.courseCode, CAST(NULL AS String), s.courseYear, s.courseMonth", incomingFilesetIds, pens, filter));
+        }
+        return issues;
+    }
+
+    private List<IssueRow> findIssues(ErrorFilesetValidationIssueType issueType, String issueEntity, String studentAttribute, String courseColumns,
+                                      Set<UUID> incomingFilesetIds, Set<String> pens, IssueFilter filter) {
+        var jpql = new StringBuilder("SELECT s.incomingFileset.incomingFilesetID, s.pen, i.validationIssueSeverityCode, i.validationIssueCode, i.validationIssueFieldCode, i.validationIssueDescription, ")
+                .append(courseColumns)
+                .append(" FROM ").append(issueEntity).append(" i JOIN i.").append(studentAttribute).append(" s")
+                .append(" WHERE s.incomingFileset.incomingFilesetID IN :incomingFilesetIds AND s.pen IN :pens");
+        if (!filter.severities().isEmpty()) {
+            jpql.append(" AND i.validationIssueSeverityCode IN :severities");
+        }
+        if (filter.fieldCode() != null) {
+            jpql.append(" AND UPPER(i.validationIssueFieldCode) = UPPER(:fieldCode)");
+        }
+
+        var query = entityManager.createQuery(jpql.toString(), Tuple.class)
+                .setParameter("incomingFilesetIds", incomingFilesetIds)
+                .setParameter("pens", pens);
+        if (!filter.severities().isEmpty()) {
+            query.setParameter("severities", filter.severities());
+        }
+        if (filter.fieldCode() != null) {
+            query.setParameter("fieldCode", filter.fieldCode());
+        }
+        return query.getResultList().stream()
+                .map(tuple -> new IssueRow(tuple.get(0, UUID.class), tuple.get(1, String.class), issueType, tuple.get(2, String.class), tuple.get(3, String.class), tuple.get(4, String.class),
+                        tuple.get(5, String.class), tuple.get(6, String.class), tuple.get(7, String.class), tuple.get(8, String.class), tuple.get(9, String.class)))
+                .toList();
+    }
+}
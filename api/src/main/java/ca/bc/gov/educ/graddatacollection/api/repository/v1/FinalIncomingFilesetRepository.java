@@ -16,21 +16,23 @@ import java.util.UUID;
 public interface FinalIncomingFilesetRepository extends JpaRepository<FinalIncomingFilesetEntity, UUID>, JpaSpecificationExecutor<FinalIncomingFilesetEntity> {
 
     @Query(value = """
-    SELECT COUNT(*)
+    SELECT inFileset.updateDate
     FROM FinalIncomingFilesetEntity inFileset
     WHERE inFileset.filesetStatusCode != 'COMPLETED'
-    AND inFileset.updateDate <= :updateDate
     AND inFileset.demFileName is not null
     AND inFileset.crsFileName is not null
     AND inFileset.xamFileName is not null
     AND ((select count(ds2) from FinalDemographicStudentEntity ds2 where ds2.studentStatusCode = 'LOADED' and ds2.incomingFileset.incomingFilesetID = inFileset.incomingFilesetID) > 0
     OR (select count(cs2) from FinalCourseStudentEntity cs2 where cs2.studentStatusCode = 'LOADED' and cs2.incomingFileset.incomingFilesetID = inFileset.incomingFilesetID) > 0
     OR (select count(as2) from FinalAssessmentStudentEntity as2 where as2.studentStatusCode = 'LOADED' and as2.incomingFileset.incomingFilesetID = inFileset.incomingFilesetID) > 0)
+    ORDER BY inFileset.updateDate
     """)
-    long findPositionInQueueByUpdateDate(LocalDateTime updateDate);
+    List<LocalDateTime> findQueuedUpdateDates();
 
     Optional<FinalIncomingFilesetEntity> findByIncomingFilesetID(UUID incomingFilesetID);
 
+    Optional<FinalIncomingFilesetEntity> findByIncomingFilesetIDAndFilesetStatusCodeNot(UUID incomingFilesetID, String filesetStatusCode);
+
     @Query(value = """
     SELECT inFileset.school_id as schoolID,
     COUNT(inFileset.incoming_fileset_id) as submissionCount
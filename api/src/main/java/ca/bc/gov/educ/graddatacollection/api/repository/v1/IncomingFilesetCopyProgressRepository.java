@@ -0,0 +1,32 @@
+package ca.bc.gov.educ.graddatacollection.api.repository.v1;
+
+import ca.bc.gov.educ.graddatacollection.api.model.v1.IncomingFilesetCopyProgressEntity;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+@Repository
+public interface IncomingFilesetCopyProgressRepository extends JpaRepository<IncomingFilesetCopyProgressEntity, UUID> {
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT p FROM IncomingFilesetCopyProgressEntity p WHERE p.incomingFilesetID = :incomingFilesetID")
+    Optional<IncomingFilesetCopyProgressEntity> findForUpdateByIncomingFilesetID(UUID incomingFilesetID);
+
+    @Query("SELECT s.demographicStudentID FROM DemographicStudentEntity s WHERE s.incomingFileset.incomingFilesetID = :incomingFilesetID AND s.demographicStudentID > :afterID ORDER BY s.demographicStudentID")
+    List<UUID> findDemStudentIDsAfter(UUID incomingFilesetID, UUID afterID, Limit limit);
+
+    @Query("SELECT s.courseStudentID FROM CourseStudentEntity s WHERE s.incomingFileset.incomingFilesetID = :incomingFilesetID AND s.courseStudentID > :afterID ORDER BY s.courseStudentID")
+    List<UUID> findCrsStudentIDsAfter(UUID incomingFilesetID, UUID afterID, Limit limit);
+
+    @Query("SELECT s.assessmentStudentID FROM AssessmentStudentEntity s WHERE s.incomingFileset.incomingFilesetID = :incomingFilesetID AND s.assessmentStudentID > :afterID ORDER BY s.assessmentStudentID")
+    List<UUID> findXamStudentIDsAfter(UUID incomingFilesetID, UUID afterID, Limit limit);
+
+    @Query("SELECT s.errorFilesetStudentId FROM ErrorFilesetStudentEntity s WHERE s.incomingFileset.incomingFilesetID = :incomingFilesetID AND s.errorFilesetStudentId > :afterID ORDER BY s.errorFilesetStudentId")
+    List<UUID> findErrorStudentIDsAfter(UUID incomingFilesetID, UUID afterID, Limit limit);
+}
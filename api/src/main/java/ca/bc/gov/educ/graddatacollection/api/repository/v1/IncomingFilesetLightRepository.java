@@ -7,7 +7,6 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
-import java.util.Optional;
 import java.util.UUID;
 
 @Repository
@@ -25,9 +24,9 @@ public interface IncomingFilesetLightRepository extends JpaRepository<IncomingFi
         AND saga.saga_name = 'PROCESS_COMPLETED_FILESETS_SAGA'
     )
     ORDER BY inFileset.create_date ASC
-    LIMIT 1
+    LIMIT :numberOfFilesets
     """, nativeQuery=true)
-    Optional<IncomingFilesetLightEntity> findNextReadyCollectionForProcessing();
+    List<IncomingFilesetLightEntity> findNextReadyCollectionsForProcessing(int numberOfFilesets);
 
     @Query(value = """
     SELECT inFileset.incoming_fileset_id
@@ -41,23 +40,86 @@ public interface IncomingFilesetLightRepository extends JpaRepository<IncomingFi
         WHERE saga.incoming_fileset_id = inFileset.incoming_fileset_id
         AND saga.status != 'COMPLETED'
     )
-    AND NOT EXISTS (
-        SELECT 1 FROM demographic_student ds 
-        WHERE ds.incoming_fileset_id = inFileset.incoming_fileset_id
-        AND ds.student_status_code = 'LOADED'
+    AND (
+        EXISTS (
+            SELECT 1 FROM incoming_fileset_progress progress
+            WHERE progress.incoming_fileset_id = inFileset.incoming_fileset_id
+            AND progress.dem_loaded_count = 0
+            AND progress.xam_loaded_count = 0
+            AND progress.crs_loaded_count = 0
+            AND progress.crs_in_progress_count = 0
+        )
+        OR (
+            NOT EXISTS (
+                SELECT 1 FROM incoming_fileset_progress progress
+                WHERE progress.incoming_fileset_id = inFileset.incoming_fileset_id
+            )
+            AND NOT EXISTS (
+                SELECT 1 FROM demographic_student ds
+                WHERE ds.incoming_fileset_id = inFileset.incoming_fileset_id
+                AND ds.student_status_code = 'LOADED'
+            )
+            AND NOT EXISTS (
+                SELECT 1 FROM course_student cs
+                WHERE cs.incoming_fileset_id = inFileset.incoming_fileset_id
+                AND cs.student_status_code IN ('LOADED', 'UPDATE_CRS')
+            )
+            AND NOT EXISTS (
+                SELECT 1 FROM assessment_student as_
+                WHERE as_.incoming_fileset_id = inFileset.incoming_fileset_id
+                AND as_.student_status_code = 'LOADED'
+            )
+        )
     )
+    """, nativeQuery=true)    
+    List<UUID> findCompletedCollectionsForStatusUpdate();
+
+    @Query(value = """
+    SELECT COUNT(*)
+    FROM incoming_fileset inFileset
+    WHERE inFileset.incoming_fileset_id = :incomingFilesetID
+    AND inFileset.fileset_status_code != 'COMPLETED'
+    AND inFileset.dem_file_name IS NOT NULL
+    AND inFileset.crs_file_name IS NOT NULL
+    AND inFileset.xam_file_name IS NOT NULL
     AND NOT EXISTS (
-        SELECT 1 FROM course_student cs 
-        WHERE cs.incoming_fileset_id = inFileset.incoming_fileset_id
-        AND cs.student_status_code IN ('LOADED', 'UPDATE_CRS')
+        SELECT 1 FROM grad_saga saga
+        WHERE saga.incoming_fileset_id = inFileset.incoming_fileset_id
+        AND saga.status != 'COMPLETED'
     )
-    AND NOT EXISTS (
-        SELECT 1 FROM assessment_student as_ 
-        WHERE as_.incoming_fileset_id = inFileset.incoming_fileset_id
-        AND as_.student_status_code = 'LOADED'
+    AND (
+        EXISTS (
+            SELECT 1 FROM incoming_fileset_progress progress
+            WHERE progress.incoming_fileset_id = inFileset.incoming_fileset_id
+            AND progress.dem_loaded_count = 0
+            AND progress.xam_loaded_count = 0
+            AND progress.crs_loaded_count = 0
+            AND progress.crs_in_progress_count = 0
+        )
+        OR (
+            NOT EXISTS (
+                SELECT 1 FROM incoming_fileset_progress progress
+                WHERE progress.incoming_fileset_id = inFileset.incoming_fileset_id
+            )
+            AND NOT EXISTS (
+                SELECT 1 FROM demographic_student ds
+                WHERE ds.incoming_fileset_id = inFileset.incoming_fileset_id
+                AND ds.student_status_code = 'LOADED'
+            )
+            AND NOT EXISTS (
+                SELECT 1 FROM course_student cs
+                WHERE cs.incoming_fileset_id = inFileset.incoming_fileset_id
+                AND cs.student_status_code IN ('LOADED', 'UPDATE_CRS')
+            )
+            AND NOT EXISTS (
+                SELECT 1 FROM assessment_student as_
+                WHERE as_.incoming_fileset_id = inFileset.incoming_fileset_id
+                AND as_.student_status_code = 'LOADED'
+            )
+        )
     )
-    """, nativeQuery=true)    
-    List<UUID> findCompletedCollectionsForStatusUpdate();
+    """, nativeQuery=true)
+    long countCompletedCollectionForStatusUpdate(UUID incomingFilesetID);
 
 //    @Transactional
 //    @Modifying
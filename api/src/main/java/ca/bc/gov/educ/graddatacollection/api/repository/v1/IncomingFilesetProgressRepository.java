@@ -0,0 +1,45 @@
+package ca.bc.gov.educ.graddatacollection.api.repository.v1;
+
+import ca.bc.gov.educ.graddatacollection.api.model.v1.IncomingFilesetProgressEntity;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+import java.util.UUID;
+
+@Repository
+public interface IncomingFilesetProgressRepository extends JpaRepository<IncomingFilesetProgressEntity, UUID> {
+    @Modifying
+    @Query(value = """
+            INSERT INTO incoming_fileset_progress
+                (incoming_fileset_id, dem_loaded_count, dem_done_count, xam_loaded_count, xam_done_count, crs_loaded_count, crs_in_progress_count, crs_done_count, update_date)
+            VALUES
+                (:incomingFilesetID, 0, 0, 0, 0, 0, 0, 0, CURRENT_TIMESTAMP)
+            ON CONFLICT (incoming_fileset_id) DO NOTHING
+            """, nativeQuery = true)
+    void insertIgnoreConflict(@Param("incomingFilesetID") UUID incomingFilesetID);
+
+    @Modifying
+    @Query("UPDATE IncomingFilesetProgressEntity p SET p.demLoadedCount = p.demLoadedCount + :loadedDelta, p.demDoneCount = p.demDoneCount + :doneDelta, p.updateDate = CURRENT_TIMESTAMP WHERE p.incomingFilesetID = :incomingFilesetID")
+    int addDemCounts(UUID incomingFilesetID, long loadedDelta, long doneDelta);
+
+    @Modifying
+    @Query("UPDATE IncomingFilesetProgressEntity p SET p.xamLoadedCount = p.xamLoadedCount + :loadedDelta, p.xamDoneCount = p.xamDoneCount + :doneDelta, p.updateDate = CURRENT_TIMESTAMP WHERE p.incomingFilesetID = :incomingFilesetID")
+    int addXamCounts(UUID incomingFilesetID, long loadedDelta, long doneDelta);
+
+    @Modifying
+    @Query("UPDATE IncomingFilesetProgressEntity p SET p.crsLoadedCount = p.crsLoadedCount + :loadedDelta, p.crsInProgressCount = p.crsInProgressCount + :inProgressDelta, p.crsDoneCount = p.crsDoneCount + :doneDelta, p.updateDate = CURRENT_TIMESTAMP WHERE p.incomingFilesetID = :incomingFilesetID")
+    int addCrsCounts(UUID incomingFilesetID, long loadedDelta, long inProgressDelta, long doneDelta);
+
+    @Query("SELECT s.studentStatusCode, COUNT(s) FROM DemographicStudentEntity s WHERE s.incomingFileset.incomingFilesetID = :incomingFilesetID GROUP BY s.studentStatusCode")
+    List<Object[]> countDemStudentsByStatus(UUID incomingFilesetID);
+
+    @Query("SELECT s.studentStatusCode, COUNT(s) FROM AssessmentStudentEntity s WHERE s.incomingFileset.incomingFilesetID = :incomingFilesetID GROUP BY s.studentStatusCode")
+    List<Object[]> countXamStudentsByStatus(UUID incomingFilesetID);
+
+    @Query("SELECT s.studentStatusCode, COUNT(s) FROM CourseStudentEntity s WHERE s.incomingFileset.incomingFilesetID = :incomingFilesetID GROUP BY s.studentStatusCode")
+    List<Object[]> countCrsStudentsByStatus(UUID incomingFilesetID);
+}
@@ -10,6 +10,7 @@ import org.springframework.stereotype.Repository;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
@@ -25,18 +26,17 @@ public interface IncomingFilesetRepository extends JpaRepository<IncomingFileset
     void deleteByIncomingFilesetID(UUID incomingFilesetID);
 
     @Query(value = """
-    SELECT COUNT(*)
+    SELECT inFileset.updateDate
     FROM IncomingFilesetEntity inFileset
     WHERE inFileset.filesetStatusCode != 'COMPLETED'
-    AND inFileset.updateDate <= :updateDate
     AND inFileset.demFileName is not null
     AND inFileset.crsFileName is not null
     AND inFileset.xamFileName is not null
-    AND ((select count(ds2) from DemographicStudentEntity ds2 where ds2.studentStatusCode = 'LOADED' and ds2.incomingFileset.incomingFilesetID = inFileset.incomingFilesetID) > 0
-    OR (select count(cs2) from CourseStudentEntity cs2 where cs2.studentStatusCode = 'LOADED' and cs2.incomingFileset.incomingFilesetID = inFileset.incomingFilesetID) > 0
-    OR (select count(as2) from AssessmentStudentEntity as2 where as2.studentStatusCode = 'LOADED' and as2.incomingFileset.incomingFilesetID = inFileset.incomingFilesetID) > 0)
+    AND EXISTS (select 1 from IncomingFilesetProgressEntity progress where progress.incomingFilesetID = inFileset.incomingFilesetID
+        and (progress.demLoadedCount > 0 or progress.crsLoadedCount > 0 or progress.xamLoadedCount > 0))
+    ORDER BY inFileset.updateDate
     """)
-    long findPositionInQueueByUpdateDate(LocalDateTime updateDate);
+    List<LocalDateTime> findQueuedUpdateDates();
 
     @Modifying
     @Query(value = """
@@ -77,9 +77,12 @@ public interface IncomingFilesetRepository extends JpaRepository<IncomingFileset
             school_certificate_completion_date, STUDENT_STATUS, CREATE_USER, CREATE_DATE, UPDATE_USER, NOW()
         FROM DEMOGRAPHIC_STUDENT
         WHERE INCOMING_FILESET_ID = :filesetId
+        AND DEMOGRAPHIC_STUDENT_ID > :afterId AND DEMOGRAPHIC_STUDENT_ID <= :throughId
         """, nativeQuery = true)
     int copyDemographicStudents(
-            @Param("filesetId") UUID filesetId);
+            @Param("filesetId") UUID filesetId,
+            @Param("afterId") UUID afterId,
+            @Param("throughId") UUID throughId);
 
     @Modifying
     @Query(value = """
@@ -96,9 +99,12 @@ public interface IncomingFilesetRepository extends JpaRepository<IncomingFileset
         FROM DEMOGRAPHIC_STUDENT_VALIDATION_ISSUE dvi
         INNER JOIN DEMOGRAPHIC_STUDENT ds ON dvi.DEMOGRAPHIC_STUDENT_ID = ds.DEMOGRAPHIC_STUDENT_ID
         WHERE ds.INCOMING_FILESET_ID = :filesetId
+        AND ds.DEMOGRAPHIC_STUDENT_ID > :afterId AND ds.DEMOGRAPHIC_STUDENT_ID <= :throughId
         """, nativeQuery = true)
     int copyDemographicValidationIssues(
-            @Param("filesetId") UUID filesetId);
+            @Param("filesetId") UUID filesetId,
+            @Param("afterId") UUID afterId,
+            @Param("throughId") UUID throughId);
 
     @Modifying
     @Query(value = """
@@ -119,9 +125,12 @@ public interface IncomingFilesetRepository extends JpaRepository<IncomingFileset
             CREATE_USER, CREATE_DATE, UPDATE_USER, NOW()
         FROM COURSE_STUDENT
         WHERE INCOMING_FILESET_ID = :filesetId
+        AND COURSE_STUDENT_ID > :afterId AND COURSE_STUDENT_ID <= :throughId
         """, nativeQuery = true)
     int copyCourseStudents(
-            @Param("filesetId") UUID filesetId);
+            @Param("filesetId") UUID filesetId,
+            @Param("afterId") UUID afterId,
+            @Param("throughId") UUID throughId);
 
     @Modifying
     @Query(value = """
@@ -138,9 +147,12 @@ public interface IncomingFilesetRepository extends JpaRepository<IncomingFileset
         FROM COURSE_STUDENT_VALIDATION_ISSUE cvi
         INNER JOIN COURSE_STUDENT cs ON cvi.COURSE_STUDENT_ID = cs.COURSE_STUDENT_ID
         WHERE cs.INCOMING_FILESET_ID = :filesetId
+        AND cs.COURSE_STUDENT_ID > :afterId AND cs.COURSE_STUDENT_ID <= :throughId
         """, nativeQuery = true)
     int copyCourseValidationIssues(
-            @Param("filesetId") UUID filesetId);
+            @Param("filesetId") UUID filesetId,
+            @Param("afterId") UUID afterId,
+            @Param("throughId") UUID throughId);
 
     @Modifying
     @Query(value = """
@@ -163,9 +175,12 @@ public interface IncomingFilesetRepository extends JpaRepository<IncomingFileset
             CREATE_USER, CREATE_DATE, UPDATE_USER, NOW()
         FROM ASSESSMENT_STUDENT
         WHERE INCOMING_FILESET_ID = :filesetId
+        AND ASSESSMENT_STUDENT_ID > :afterId AND ASSESSMENT_STUDENT_ID <= :throughId
         """, nativeQuery = true)
     int copyAssessmentStudents(
-            @Param("filesetId") UUID filesetId);
+            @Param("filesetId") UUID filesetId,
+            @Param("afterId") UUID afterId,
+            @Param("throughId") UUID throughId);
 
     @Modifying
     @Query(value = """
@@ -182,9 +197,12 @@ public interface IncomingFilesetRepository extends JpaRepository<IncomingFileset
         FROM ASSESSMENT_STUDENT_VALIDATION_ISSUE avi
         INNER JOIN ASSESSMENT_STUDENT asst ON avi.ASSESSMENT_STUDENT_ID = asst.ASSESSMENT_STUDENT_ID
         WHERE asst.INCOMING_FILESET_ID = :filesetId
+        AND asst.ASSESSMENT_STUDENT_ID > :afterId AND asst.ASSESSMENT_STUDENT_ID <= :throughId
         """, nativeQuery = true)
     int copyAssessmentValidationIssues(
-            @Param("filesetId") UUID filesetId);
+            @Param("filesetId") UUID filesetId,
+            @Param("afterId") UUID afterId,
+            @Param("throughId") UUID throughId);
 
     @Modifying
     @Query(value = """
@@ -199,9 +217,23 @@ public interface IncomingFilesetRepository extends JpaRepository<IncomingFileset
             CREATE_USER, CREATE_DATE, UPDATE_USER, NOW()
         FROM ERROR_FILESET_STUDENT
         WHERE INCOMING_FILESET_ID = :filesetId
+        AND ERROR_FILESET_STUDENT_ID > :afterId AND ERROR_FILESET_STUDENT_ID <= :throughId
         """, nativeQuery = true)
     int copyErrorFilesetStudents(
-            @Param("filesetId") UUID filesetId);
+            @Param("filesetId") UUID filesetId,
+            @Param("afterId") UUID afterId,
+            @Param("throughId") UUID throughId);
+
+    @Modifying
+    @Query(value = """
+        UPDATE FINAL_INCOMING_FILESET
+        SET FILESET_STATUS_CODE = :filesetStatus,
+            UPDATE_DATE = NOW()
+        WHERE INCOMING_FILESET_ID = :filesetId
+        """, nativeQuery = true)
+    int markFinalFilesetComplete(
+            @Param("filesetId") UUID filesetId,
+            @Param("filesetStatus") String filesetStatus);
 
     @Modifying
     @Query(value = """
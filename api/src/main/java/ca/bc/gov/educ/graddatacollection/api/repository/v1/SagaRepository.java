@@ -8,6 +8,7 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.UUID;
 
@@ -19,6 +20,10 @@ public interface SagaRepository extends JpaRepository<GradSagaEntity, UUID>, Jpa
 
   long countAllByStatusIn(List<String> statuses);
 
+  long countAllByIncomingFilesetIDAndStatusIn(UUID incomingFilesetID, List<String> statuses);
+
+  long countAllByIncomingFilesetIDAndSagaNameAndStatusIn(UUID incomingFilesetID, String sagaName, List<String> statuses);
+
   @Transactional
   @Modifying
   @Query("delete from GradSagaEntity where status = 'COMPLETED'")
@@ -31,4 +36,10 @@ public interface SagaRepository extends JpaRepository<GradSagaEntity, UUID>, Jpa
   List<GradSagaEntity>  findByCourseStudentIDAndIncomingFilesetIDAndSagaNameAndStatusNot(UUID courseStudentID, UUID incomingFilesetID, String sagaName, String status);
   List<GradSagaEntity>  findByAssessmentStudentIDAndIncomingFilesetIDAndSagaNameAndStatusNot(UUID assessmentStudentID, UUID incomingFilesetID, String sagaName, String status);
   List<GradSagaEntity>  findByIncomingFilesetIDAndSagaNameAndStatusNot(UUID incomingFilesetID, String sagaName, String status);
+
+  List<GradSagaEntity>  findByDemographicStudentIDInAndSagaNameAndStatusNot(Collection<UUID> demographicStudentIDs, String sagaName, String status);
+
+  List<GradSagaEntity>  findByCourseStudentIDInAndSagaNameAndStatusNot(Collection<UUID> courseStudentIDs, String sagaName, String status);
+
+  List<GradSagaEntity>  findByAssessmentStudentIDInAndSagaNameAndStatusNot(Collection<UUID> assessmentStudentIDs, String sagaName, String status);
 }
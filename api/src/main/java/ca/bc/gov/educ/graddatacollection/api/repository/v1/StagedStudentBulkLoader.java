@@ -0,0 +1,202 @@
+package ca.bc.gov.educ.graddatacollection.api.repository.v1;
+
+import ca.bc.gov.educ.graddatacollection.api.properties.ApplicationProperties;
+import jakarta.persistence.*;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.commons.lang3.StringUtils;
+import org.hibernate.Hibernate;
+import org.postgresql.PGConnection;
+import org.postgresql.copy.PGCopyOutputStream;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.nio.charset.StandardCharsets;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+
+/**
+ * Inserts the staged DEM, CRS and XAM student rows of an uploaded file without going through the persistence
+ * context. On PostgreSQL the rows are streamed into the table with COPY, on any other database (H2 in the tests)
+ * they are written with JDBC batch inserts.
+ * <p>
+ * The columns are read from the JPA mapping of the entity class, so the loader follows the entities as they change.
+ * The insert runs on the connection of the surrounding transaction, which must already have flushed the parent
+ * fileset row. Entities without an ID are given a random UUID, as the {@code @UuidGenerator} of the entities would.
+ */
+@Repository
+@Slf4j
+public class StagedStudentBulkLoader {
+
+    private final JdbcTemplate jdbcTemplate;
+    private final ApplicationProperties props;
+    private final Map<Class<?>, StagingTable> stagingTables = new ConcurrentHashMap<>();
+
+    public StagedStudentBulkLoader(JdbcTemplate jdbcTemplate, ApplicationProperties props) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.props = props;
+    }
+
+    /**
+     * @return the number of rows inserted
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public <T> long load(Class<T> entityClass, Collection<T> entities) {
+        if (entities.isEmpty()) {
+            return 0;
+        }
+        var table = stagingTables.computeIfAbsent(entityClass, StagingTable::of);
+        Long inserted = jdbcTemplate.execute((ConnectionCallback<Long>) connection -> {
+            if (connection.isWrapperFor(PGConnection.class)) {
+                return copyIn(connection.unwrap(PGConnection.class), table, entities);
+            }
+            return batchInsert(connection, table, entities);
+        });
+        log.debug("Bulk loaded {} rows into {}", inserted, table.name());
+        return inserted == null ? 0 : inserted;
+    }
+
+    private long copyIn(PGConnection connection, StagingTable table, Collection<?> entities) throws SQLException {
+        var sql = "COPY " + table.name() + " (" + table.columnList() + ") FROM STDIN";
+        long rows = 0;
+        try (Writer writer = new BufferedWriter(new OutputStreamWriter(new PGCopyOutputStream(connection, sql), StandardCharsets.UTF_8), 65536)) {
+            var line = new StringBuilder(512);
+            for (Object entity : entities) {
+                line.setLength(0);
+                var values = table.values(entity);
+                for (int i = 0; i < values.length; i++) {
+                    if (i > 0) {
+                        line.append('\t');
+                    }
+                    appendCopyText(line, values[i]);
+                }
+                writer.append(line).append('\n');
+                rows++;
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return rows;
+    }
+
+    private long batchInsert(Connection connection, StagingTable table, Collection<?> entities) throws SQLException {
+        var placeholders = table.columns().stream().map(column -> "?").collect(Collectors.joining(", "));
+        var sql = "INSERT INTO " + table.name() + " (" + table.columnList() + ") VALUES (" + placeholders + ")";
+        var batchSize = Math.max(1, props.getStagedStudentBulkInsertBatchSize());
+        long rows = 0;
+        try (var statement = connection.prepareStatement(sql)) {
+            for (Object entity : entities) {
+                var values = table.values(entity);
+                for (int i = 0; i < values.length; i++) {
+                    statement.setObject(i + 1, values[i]);
+                }
+                statement.addBatch();
+                if (++rows % batchSize == 0) {
+                    statement.executeBatch();
+                }
+            }
+            if (rows % batchSize != 0) {
+                statement.executeBatch();
+            }
+        }
+        return rows;
+    }
+
+    /**
+     * Text format of COPY: tab separated, {@code \N} for null, with backslash escapes for the separators.
+     */
+    static void appendCopyText(StringBuilder line, Object value) {
+        if (value == null) {
+            line.append("\\N");
+            return;
+        }
+        var text = value.toString();
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            switch (c) {
+                case '\\' -> line.append("\\\\");
+                case '\t' -> line.append("\\t");
+                case '\n' -> line.append("\\n");
+                case '\r' -> line.append("\\r");
+                default -> line.append(c);
+            }
+        }
+    }
+
+    private record StagingTable(String name, List<String> columns, List<Field> fields, Field idField) {
+
+        static StagingTable of(Class<?> entityClass) {
+            var table = entityClass.getAnnotation(Table.class);
+            if (table == null) {
+                throw new IllegalArgumentException(entityClass.getName() + " is not mapped to a table");
+            }
+            List<String> columns = new ArrayList<>();
+            List<Field> fields = new ArrayList<>();
+            Field idField = null;
+            for (Field field : entityClass.getDeclaredFields()) {
+                if (Modifier.isStatic(field.getModifiers()) || field.isAnnotationPresent(Transient.class)) {
+                    continue;
+                }
+                var joinColumn = field.getAnnotation(JoinColumn.class);
+                var column = field.getAnnotation(Column.class);
+                if (joinColumn != null && (field.isAnnotationPresent(ManyToOne.class) || field.isAnnotationPresent(OneToOne.class))) {
+                    columns.add(joinColumn.name());
+                } else if (column != null) {
+                    columns.add(StringUtils.defaultIfBlank(column.name(), field.getName()));
+                } else {
+                    continue;
+                }
+                field.setAccessible(true);
+                fields.add(field);
+                if (field.isAnnotationPresent(Id.class)) {
+                    idField = field;
+                }
+            }
+            return new StagingTable(table.name(), List.copyOf(columns), List.copyOf(fields), idField);
+        }
+
+        String columnList() {
+            return String.join(", ", columns);
+        }
+
+        Object[] values(Object entity) {
+            try {
+                if (idField != null && idField.get(entity) == null && idField.getType() == UUID.class) {
+                    idField.set(entity, UUID.randomUUID());
+                }
+                var values = new Object[fields.size()];
+                for (int i = 0; i < values.length; i++) {
+                    var field = fields.get(i);
+                    var value = field.get(entity);
+                    values[i] = value != null && field.getType().isAnnotationPresent(Entity.class) ? idOf(value) : value;
+                }
+                return values;
+            } catch (IllegalAccessException e) {
+                throw new IllegalStateException("Unable to read " + entity.getClass().getName(), e);
+            }
+        }
+
+        private static Object idOf(Object reference) throws IllegalAccessException {
+            var entity = Hibernate.unproxy(reference);
+            for (Field field : entity.getClass().getDeclaredFields()) {
+                if (field.isAnnotationPresent(Id.class)) {
+                    field.setAccessible(true);
+                    return field.get(entity);
+                }
+            }
+            throw new IllegalStateException(entity.getClass().getName() + " has no ID");
+        }
+    }
+}
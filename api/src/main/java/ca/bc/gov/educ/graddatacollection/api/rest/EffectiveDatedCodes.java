@@ -0,0 +1,158 @@
+package ca.bc.gov.educ.graddatacollection.api.rest;
+
+import org.apache.commons.lang3.StringUtils;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+/**
+ * Effective-dated view over a code table held in a {@link ReferenceDataSnapshot}.
+ * <p>
+ * The effective and expiry dates of every code are parsed once per published snapshot. The codes valid at a given
+ * date are computed once per distinct date and then shared, so callers neither parse dates nor copy the table. The
+ * unexpired codes are reused until the next expiry date is reached. A new snapshot of the underlying table replaces
+ * the whole view on the next read.
+ *
+ * @param <T> the code type
+ */
+public class EffectiveDatedCodes<T> {
+  private static final int MAX_MEMOIZED_DATES = 512;
+  private final ReferenceDataSnapshot<String, T> snapshot;
+  private final Function<T, String> effectiveDate;
+  private final Function<T, String> expiryDate;
+  private final Function<String, LocalDateTime> dateParser;
+  private volatile View<T> view;
+
+  /**
+   * @param snapshot      the code table, keyed by code
+   * @param effectiveDate reads the effective date of a code, a getter returning null ignores the effective date
+   * @param expiryDate    reads the expiry date of a code
+   * @param dateParser    parses the date strings the source API sends
+   */
+  public EffectiveDatedCodes(final ReferenceDataSnapshot<String, T> snapshot, final Function<T, String> effectiveDate, final Function<T, String> expiryDate, final Function<String, LocalDateTime> dateParser) {
+    this.snapshot = snapshot;
+    this.effectiveDate = effectiveDate;
+    this.expiryDate = expiryDate;
+    this.dateParser = dateParser;
+  }
+
+  /**
+   * Unmodifiable set of codes, both as a list and keyed by code.
+   */
+  public record CodeSet<T>(List<T> codes, Map<String, T> byCode) {
+  }
+
+  /**
+   * Returns every code in the table.
+   */
+  public CodeSet<T> all() {
+    return this.view().all;
+  }
+
+  /**
+   * Returns the codes that are effective on or before the date and expire after it.
+   */
+  public CodeSet<T> effectiveAt(final LocalDateTime date) {
+    final View<T> current = this.view();
+    final CodeSet<T> memoized = current.effectiveAt.get(date);
+    if (memoized != null) {
+      return memoized;
+    }
+    final List<Entry<T>> matching = new ArrayList<>();
+    for (final Entry<T> entry : current.entries) {
+      if (!entry.isEffectiveAfter(date) && !entry.isExpiredAt(date)) {
+        matching.add(entry);
+      }
+    }
+    final CodeSet<T> codes = toCodeSet(matching);
+    if (current.effectiveAt.size() < MAX_MEMOIZED_DATES) {
+      current.effectiveAt.putIfAbsent(date, codes);
+    }
+    return codes;
+  }
+
+  /**
+   * Returns the codes that have not expired at the given time, regardless of their effective date.
+   */
+  public CodeSet<T> unexpiredAt(final LocalDateTime now) {
+    final View<T> current = this.view();
+    final Unexpired<T> cached = current.unexpired;
+    if (cached != null && !now.isBefore(cached.validFrom()) && now.isBefore(cached.validUntil())) {
+      return cached.codes();
+    }
+    LocalDateTime validUntil = LocalDateTime.MAX;
+    final List<Entry<T>> matching = new ArrayList<>();
+    for (final Entry<T> entry : current.entries) {
+      if (!entry.isExpiredAt(now)) {
+        matching.add(entry);
+        if (entry.expiryDate() != null && entry.expiryDate().isBefore(validUntil)) {
+          validUntil = entry.expiryDate();
+        }
+      }
+    }
+    final CodeSet<T> codes = toCodeSet(matching);
+    current.unexpired = new Unexpired<>(codes, now, validUntil);
+    return codes;
+  }
+
+  private View<T> view() {
+    final Map<String, T> table = this.snapshot.get();
+    final View<T> current = this.view;
+    if (current != null && current.table == table) {
+      return current;
+    }
+    final List<Entry<T>> entries = new ArrayList<>(table.size());
+    table.forEach((code, value) -> entries.add(new Entry<>(code, value, this.parse(this.effectiveDate.apply(value)), this.parse(this.expiryDate.apply(value)))));
+    final View<T> rebuilt = new View<>(table, List.copyOf(entries), toCodeSet(entries));
+    this.view = rebuilt;
+    return rebuilt;
+  }
+
+  private LocalDateTime parse(final String date) {
+    return StringUtils.isBlank(date) ? null : this.dateParser.apply(date);
+  }
+
+  private static <T> CodeSet<T> toCodeSet(final List<Entry<T>> entries) {
+    final List<T> codes = new ArrayList<>(entries.size());
+    final Map<String, T> byCode = new LinkedHashMap<>();
+    for (final Entry<T> entry : entries) {
+      codes.add(entry.code());
+      byCode.put(entry.key(), entry.code());
+    }
+    return new CodeSet<>(Collections.unmodifiableList(codes), Collections.unmodifiableMap(byCode));
+  }
+
+  private record Entry<T>(String key, T code, LocalDateTime effectiveDate, LocalDateTime expiryDate) {
+
+    boolean isEffectiveAfter(final LocalDateTime date) {
+      return this.effectiveDate != null && this.effectiveDate.isAfter(date);
+    }
+
+    boolean isExpiredAt(final LocalDateTime date) {
+      return this.expiryDate != null && !this.expiryDate.isAfter(date);
+    }
+  }
+
+  private record Unexpired<T>(CodeSet<T> codes, LocalDateTime validFrom, LocalDateTime validUntil) {
+  }
+
+  private static final class View<T> {
+    private final Map<String, T> table;
+    private final List<Entry<T>> entries;
+    private final CodeSet<T> all;
+    private final Map<LocalDateTime, CodeSet<T>> effectiveAt = new ConcurrentHashMap<>();
+    private volatile Unexpired<T> unexpired;
+
+    private View(final Map<String, T> table, final List<Entry<T>> entries, final CodeSet<T> all) {
+      this.table = table;
+      this.entries = entries;
+      this.all = all;
+    }
+  }
+}
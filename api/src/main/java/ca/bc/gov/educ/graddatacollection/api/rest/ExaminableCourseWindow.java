@@ -0,0 +1,57 @@
+package ca.bc.gov.educ.graddatacollection.api.rest;
+
+import ca.bc.gov.educ.graddatacollection.api.struct.external.grad.v1.GradExaminableCourse;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.commons.lang3.StringUtils;
+
+import java.time.YearMonth;
+import java.time.format.DateTimeParseException;
+import java.util.List;
+
+/**
+ * An examinable course together with its examinable start and end sessions, parsed once when the examinable course
+ * cache is loaded instead of on every CRS record.
+ *
+ * @param course          the examinable course
+ * @param examinableStart the first examinable session, null if GRAD sent a blank or malformed value
+ * @param examinableEnd   the last examinable session, null if GRAD sent a blank or malformed value
+ */
+@Slf4j
+public record ExaminableCourseWindow(GradExaminableCourse course, YearMonth examinableStart, YearMonth examinableEnd) {
+
+  public static ExaminableCourseWindow of(final GradExaminableCourse course) {
+    return new ExaminableCourseWindow(course, parseSession(course, course.getExaminableStart()), parseSession(course, course.getExaminableEnd()));
+  }
+
+  public static List<ExaminableCourseWindow> ofAll(final List<GradExaminableCourse> courses) {
+    return courses.stream().map(ExaminableCourseWindow::of).toList();
+  }
+
+  /**
+   * Builds the external ID the examinable course is indexed under, the course code padded to 5 characters followed
+   * by the course level.
+   */
+  public static String externalID(final GradExaminableCourse course) {
+    return String.format("%-5s", course.getCourseCode()) + course.getCourseLevel();
+  }
+
+  /**
+   * Returns true if the course session falls within the examinable start and end sessions, both inclusive.
+   */
+  public boolean isExaminableAt(final YearMonth courseSession) {
+    return this.examinableStart != null && this.examinableEnd != null
+        && !courseSession.isBefore(this.examinableStart) && !courseSession.isAfter(this.examinableEnd);
+  }
+
+  private static YearMonth parseSession(final GradExaminableCourse course, final String session) {
+    if (StringUtils.isBlank(session)) {
+      return null;
+    }
+    try {
+      return YearMonth.parse(session);
+    } catch (final DateTimeParseException e) {
+      log.warn("Examinable course {} has a malformed examinable session :: {}", course.getExaminableCourseID(), session);
+      return null;
+    }
+  }
+}
@@ -0,0 +1,183 @@
+package ca.bc.gov.educ.graddatacollection.api.rest;
+
+import ca.bc.gov.educ.graddatacollection.api.messaging.MessagePublisher;
+import io.nats.client.Message;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.ArrayDeque;
+import java.util.Map;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.*;
+
+/**
+ * Sends NATS request/reply calls without holding a thread while a reply is outstanding.
+ * <p>
+ * Every topic has its own limit of requests in flight. Requests over the limit are queued and sent as earlier
+ * requests on the topic complete. A request that gets no reply within the timeout is handed to the parser as a
+ * null reply. When the request or the parser fails with an exception that is not listed as final, the request is sent
+ * again after an exponential backoff with full jitter, up to the configured number of attempts. The backoff is
+ * a delayed completion, so a pending retry does not hold a thread either.
+ * <p>
+ * Only reads are retried whatever the failure. A write that timed out may still have been applied by the other
+ * service, so a write is sent again only when the request itself could not be sent; once it has gone out, its
+ * failure is returned to the caller.
+ */
+@Slf4j
+public class NatsRequestExecutor {
+  private final MessagePublisher messagePublisher;
+  private final long timeoutMillis;
+  private final int maxAttempts;
+  private final long initialBackoffMillis;
+  private final int maxInFlightPerTopic;
+  private final Map<String, TopicPermits> permitsByTopic = new ConcurrentHashMap<>();
+
+  /**
+   * Parses a reply, a null reply meaning the request timed out.
+   *
+   * @param <T> the parsed type
+   */
+  @FunctionalInterface
+  public interface ReplyParser<T> {
+    T parse(Message reply) throws Exception;
+  }
+
+  public NatsRequestExecutor(final MessagePublisher messagePublisher, final long timeoutMillis, final int maxAttempts, final long initialBackoffMillis, final int maxInFlightPerTopic) {
+    this.messagePublisher = messagePublisher;
+    this.timeoutMillis = Math.max(1, timeoutMillis);
+    this.maxAttempts = Math.max(1, maxAttempts);
+    this.initialBackoffMillis = Math.max(0, initialBackoffMillis);
+    this.maxInFlightPerTopic = Math.max(1, maxInFlightPerTopic);
+  }
+
+  /**
+   * Sends a read, which is retried on any failure that is not final.
+   *
+   * @param topic      the topic to send the request to
+   * @param payload    the request payload
+   * @param parser     parses the reply, called once per attempt
+   * @param noRetryFor the failures that complete the returned future without retrying
+   * @return the parsed reply, or a future failed with the exception of the last attempt
+   */
+  public <T> CompletableFuture<T> request(final String topic, final byte[] payload, final ReplyParser<T> parser, final Set<Class<? extends Throwable>> noRetryFor) {
+    return this.attempt(topic, payload, parser, noRetryFor, true, 1);
+  }
+
+  /**
+   * Sends a write, which is retried only while it could not be sent. A timeout or a failed reply is not retried, as
+   * the write may already have been applied.
+   *
+   * @param topic      the topic to send the request to
+   * @param payload    the request payload
+   * @param parser     parses the reply
+   * @param noRetryFor the failures that complete the returned future without retrying
+   * @return the parsed reply, or a future failed with the exception of the last attempt
+   */
+  public <T> CompletableFuture<T> requestWrite(final String topic, final byte[] payload, final ReplyParser<T> parser, final Set<Class<? extends Throwable>> noRetryFor) {
+    return this.attempt(topic, payload, parser, noRetryFor, false, 1);
+  }
+
+  private <T> CompletableFuture<T> attempt(final String topic, final byte[] payload, final ReplyParser<T> parser, final Set<Class<? extends Throwable>> noRetryFor, final boolean retryWhenSent, final int attempt) {
+    final TopicPermits permits = this.permitsByTopic.computeIfAbsent(topic, key -> new TopicPermits(this.maxInFlightPerTopic));
+    return permits.acquire()
+      .thenCompose(acquired -> this.send(topic, payload).whenComplete((reply, ex) -> permits.release()))
+      .handle((reply, sendFailure) -> {
+        final Throwable cause;
+        if (sendFailure == null) {
+          try {
+            return CompletableFuture.completedFuture(parse(parser, reply));
+          } catch (final RuntimeException ex) {
+            cause = unwrap(ex);
+          }
+        } else {
+          cause = unwrap(sendFailure);
+        }
+        if (attempt >= this.maxAttempts || isFinal(cause, noRetryFor) || (sendFailure == null && !retryWhenSent)) {
+          return CompletableFuture.<T>failedFuture(cause);
+        }
+        final long backoff = this.backoffMillis(attempt);
+        log.debug("Request on topic {} failed on attempt {}, retrying in {} ms :: {}", topic, attempt, backoff, cause.getMessage());
+        final Executor delayed = CompletableFuture.delayedExecutor(backoff, TimeUnit.MILLISECONDS);
+        return CompletableFuture.supplyAsync(() -> null, delayed).thenCompose(ignored -> this.attempt(topic, payload, parser, noRetryFor, retryWhenSent, attempt + 1));
+      })
+      .thenCompose(future -> future);
+  }
+
+  private CompletableFuture<Message> send(final String topic, final byte[] payload) {
+    try {
+      return this.messagePublisher.requestMessage(topic, payload).completeOnTimeout(null, this.timeoutMillis, TimeUnit.MILLISECONDS);
+    } catch (final Exception ex) {
+      return CompletableFuture.failedFuture(ex);
+    }
+  }
+
+  /**
+   * Full jitter: a random delay between zero and the exponential backoff of the attempt.
+   */
+  long backoffMillis(final int attempt) {
+    if (this.initialBackoffMillis == 0) {
+      return 0;
+    }
+    final long ceiling = this.initialBackoffMillis << Math.min(attempt - 1, 16);
+    return ThreadLocalRandom.current().nextLong(ceiling + 1);
+  }
+
+  private static <T> T parse(final ReplyParser<T> parser, final Message reply) {
+    try {
+      return parser.parse(reply);
+    } catch (final RuntimeException ex) {
+      throw ex;
+    } catch (final Exception ex) {
+      throw new CompletionException(ex);
+    }
+  }
+
+  private static boolean isFinal(final Throwable cause, final Set<Class<? extends Throwable>> noRetryFor) {
+    return noRetryFor.stream().anyMatch(type -> type.isInstance(cause));
+  }
+
+  static Throwable unwrap(final Throwable ex) {
+    Throwable cause = ex;
+    while ((cause instanceof CompletionException || cause instanceof ExecutionException) && cause.getCause() != null) {
+      cause = cause.getCause();
+    }
+    return cause;
+  }
+
+  /**
+   * Non blocking counting semaphore, waiters are completed in arrival order.
+   */
+  private static final class TopicPermits {
+    private final int limit;
+    private final Queue<CompletableFuture<Void>> waiters = new ArrayDeque<>();
+    private int inFlight;
+
+    private TopicPermits(final int limit) {
+      this.limit = limit;
+    }
+
+    private CompletableFuture<Void> acquire() {
+      synchronized (this) {
+        if (this.inFlight < this.limit) {
+          this.inFlight++;
+          return CompletableFuture.completedFuture(null);
+        }
+        final CompletableFuture<Void> waiter = new CompletableFuture<>();
+        this.waiters.add(waiter);
+        return waiter;
+      }
+    }
+
+    private void release() {
+      final CompletableFuture<Void> next;
+      synchronized (this) {
+        next = this.waiters.poll();
+        if (next == null) {
+          this.inFlight--;
+          return;
+        }
+      }
+      next.complete(null);
+    }
+  }
+}
@@ -0,0 +1,83 @@
+package ca.bc.gov.educ.graddatacollection.api.rest;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * Immutable, versioned view of one reference data table held in memory by {@link RestUtils}.
+ * <p>
+ * A reload builds the new table off to the side and publishes it with a single volatile write, so readers never
+ * take a lock and never see a half-loaded or empty table while a reload is running. If building the table fails the
+ * previous snapshot keeps being served. Reloads of the same table are serialized among themselves only.
+ * <p>
+ * Each table exposes {@code gdc.reference.data.version}, {@code gdc.reference.data.size} and the
+ * {@code gdc.reference.data.load} timer, tagged with the table name.
+ *
+ * @param <K> the key type
+ * @param <V> the value type
+ */
+public class ReferenceDataSnapshot<K, V> {
+  private static final String TABLE = "table";
+  private final Timer loadTimer;
+  private final AtomicLong version = new AtomicLong();
+  private volatile Map<K, V> entries = Collections.emptyMap();
+
+  public ReferenceDataSnapshot(final String table, final MeterRegistry meterRegistry) {
+    this.loadTimer = Timer.builder("gdc.reference.data.load").tag(TABLE, table).register(meterRegistry);
+    Gauge.builder("gdc.reference.data.version", this.version, AtomicLong::get).tag(TABLE, table).register(meterRegistry);
+    Gauge.builder("gdc.reference.data.size", this, snapshot -> snapshot.get().size()).tag(TABLE, table).register(meterRegistry);
+  }
+
+  /**
+   * Returns the currently published table. The map is unmodifiable and is never changed after it was published.
+   */
+  public Map<K, V> get() {
+    return this.entries;
+  }
+
+  public boolean isEmpty() {
+    return this.entries.isEmpty();
+  }
+
+  /**
+   * Returns how many times the table has been published, 0 if it was never loaded.
+   */
+  public long getVersion() {
+    return this.version.get();
+  }
+
+  /**
+   * Builds the table with the given loader and publishes it.
+   *
+   * @return the published table
+   */
+  public synchronized Map<K, V> load(final Supplier<Map<K, V>> loader) {
+    final long start = System.nanoTime();
+    final Map<K, V> loaded = Collections.unmodifiableMap(new HashMap<>(loader.get()));
+    this.entries = loaded;
+    this.version.incrementAndGet();
+    this.loadTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+    return loaded;
+  }
+
+  /**
+   * Same as {@link #load(Supplier)}, but only when no other thread has published the table in the meantime.
+   *
+   * @return true if the table was loaded by this call
+   */
+  public synchronized boolean loadIfEmpty(final Supplier<Map<K, V>> loader) {
+    if (!this.entries.isEmpty()) {
+      return false;
+    }
+    this.load(loader);
+    return true;
+  }
+}
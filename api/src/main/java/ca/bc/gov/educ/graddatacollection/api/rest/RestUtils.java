@@ -6,6 +6,7 @@ import ca.bc.gov.educ.graddatacollection.api.constants.TopicsEnum;
 import ca.bc.gov.educ.graddatacollection.api.exception.EntityNotFoundException;
 import ca.bc.gov.educ.graddatacollection.api.exception.GradDataCollectionAPIRuntimeException;
 import ca.bc.gov.educ.graddatacollection.api.exception.SagaRuntimeException;
+import ca.bc.gov.educ.graddatacollection.api.filter.FilterOperation;
 import ca.bc.gov.educ.graddatacollection.api.messaging.MessagePublisher;
 import ca.bc.gov.educ.graddatacollection.api.model.v1.CourseStudentEntity;
 import ca.bc.gov.educ.graddatacollection.api.model.v1.ReportingPeriodEntity;
@@ -22,9 +23,13 @@ import ca.bc.gov.educ.graddatacollection.api.struct.external.scholarships.v1.Stu
 import ca.bc.gov.educ.graddatacollection.api.struct.external.studentapi.v1.Student;
 import ca.bc.gov.educ.graddatacollection.api.struct.v1.AssessmentStudent;
 import ca.bc.gov.educ.graddatacollection.api.struct.v1.DemographicStudent;
+import ca.bc.gov.educ.graddatacollection.api.struct.v1.Search;
+import ca.bc.gov.educ.graddatacollection.api.struct.v1.SearchCriteria;
+import ca.bc.gov.educ.graddatacollection.api.struct.v1.ValueType;
 import ca.bc.gov.educ.graddatacollection.api.util.JsonUtil;
 import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.MeterRegistry;
 import jakarta.annotation.PostConstruct;
 import lombok.Getter;
 import lombok.extern.slf4j.Slf4j;
@@ -45,10 +50,12 @@ import java.nio.charset.StandardCharsets;
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
 import java.util.*;
-import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 import java.util.concurrent.TimeUnit;
-import java.util.concurrent.locks.ReadWriteLock;
-import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Function;
+import java.util.function.Supplier;
 
 /**
  * This class is used for REST calls
@@ -62,59 +69,68 @@ public class RestUtils {
   private static final String CONTENT_TYPE = "Content-Type";
   private static final String EXCEPTION = "exception";
   public static final String NO_RESPONSE_RECEIVED_WITHIN_TIMEOUT_FOR_CORRELATION_ID = "No response received within timeout for correlation ID ";
-  private final Map<String, SchoolTombstone> schoolMap = new ConcurrentHashMap<>();
-  private final Map<String, SchoolTombstone> schoolMincodeMap = new ConcurrentHashMap<>();
-  private final Map<String, District> districtMap = new ConcurrentHashMap<>();
-  private final Map<String, FacilityTypeCode> facilityTypeCodesMap = new ConcurrentHashMap<>();
-  private final Map<String, SchoolCategoryCode> schoolCategoryCodesMap = new ConcurrentHashMap<>();
-  private final Map<String, GradGrade> gradGradeMap = new ConcurrentHashMap<>();
-  private final Map<String, LetterGrade> letterGradeMap = new ConcurrentHashMap<>();
-  private final Map<String, CitizenshipCode> scholarshipsCitizenshipCodesMap = new ConcurrentHashMap<>();
-  private final Map<String, CareerProgramCode> careerProgramCodesMap = new ConcurrentHashMap<>();
-  private final Map<UUID, OptionalProgramCode> optionalProgramCodesMap = new ConcurrentHashMap<>();
-  private final Map<String, ProgramRequirementCode> programRequirementCodeMap = new ConcurrentHashMap<>();
-  private final Map<String, GraduationProgramCode> gradProgramCodeMap = new ConcurrentHashMap<>();
-  private final Map<String, EquivalencyChallengeCode> equivalencyChallengeCodeMap = new ConcurrentHashMap<>();
-  private final Map<String, GradCourseCode> coreg38Map = new ConcurrentHashMap<>();
-  private final Map<String, GradCourseCode> coreg39Map = new ConcurrentHashMap<>();
-  private final Map<String, GradExaminableCourse> examinableCourseMap = new ConcurrentHashMap<>();
+  private final ReferenceDataSnapshot<String, SchoolTombstone> schoolMap;
+  private final ReferenceDataSnapshot<String, SchoolTombstone> schoolMincodeMap;
+  private final ReferenceDataSnapshot<String, List<UUID>> independentAuthorityToSchoolIDMap;
+  private final ReferenceDataSnapshot<String, District> districtMap;
+  private final ReferenceDataSnapshot<String, GradSchool> gradSchoolMap;
+  private final ReferenceDataSnapshot<String, FacilityTypeCode> facilityTypeCodesMap;
+  private final ReferenceDataSnapshot<String, SchoolCategoryCode> schoolCategoryCodesMap;
+  private final ReferenceDataSnapshot<String, GradGrade> gradGradeMap;
+  private final ReferenceDataSnapshot<String, LetterGrade> letterGradeMap;
+  private final ReferenceDataSnapshot<String, CitizenshipCode> scholarshipsCitizenshipCodesMap;
+  private final ReferenceDataSnapshot<String, CareerProgramCode> careerProgramCodesMap;
+  private final ReferenceDataSnapshot<UUID, OptionalProgramCode> optionalProgramCodesMap;
+  private final ReferenceDataSnapshot<String, ProgramRequirementCode> programRequirementCodeMap;
+  private final ReferenceDataSnapshot<String, GraduationProgramCode> gradProgramCodeMap;
+  private final ReferenceDataSnapshot<String, EquivalencyChallengeCode> equivalencyChallengeCodeMap;
+  private final ReferenceDataSnapshot<String, GradCourseCode> coreg38Map;
+  private final ReferenceDataSnapshot<String, GradCourseCode> coreg39Map;
+  private final ReferenceDataSnapshot<String, List<ExaminableCourseWindow>> examinableCourseMap;
+  private final ReferenceDataSnapshot<String, Session> sessionMap;
+  private final EffectiveDatedCodes<GradGrade> gradGrades;
+  private final EffectiveDatedCodes<LetterGrade> letterGrades;
+  private final EffectiveDatedCodes<GraduationProgramCode> gradProgramCodes;
   private final WebClient webClient;
   private final WebClient chesWebClient;
   private final MessagePublisher messagePublisher;
+  private final NatsRequestExecutor natsRequestExecutor;
   private final ObjectMapper objectMapper = new ObjectMapper();
-  private final ReadWriteLock facilityTypesLock = new ReentrantReadWriteLock();
-  private final ReadWriteLock scholarshipsCitizenshipLock = new ReentrantReadWriteLock();
-  private final ReadWriteLock schoolCategoriesLock = new ReentrantReadWriteLock();
-  private final ReadWriteLock schoolLock = new ReentrantReadWriteLock();
-  private final ReadWriteLock districtLock = new ReentrantReadWriteLock();
-  private final ReadWriteLock assessmentSessionLock = new ReentrantReadWriteLock();
-  private final ReadWriteLock gradGradeLock = new ReentrantReadWriteLock();
-  private final ReadWriteLock letterGradeLock = new ReentrantReadWriteLock();
-  private final ReadWriteLock careerProgramLock = new ReentrantReadWriteLock();
-  private final ReadWriteLock optionalProgramLock = new ReentrantReadWriteLock();
-  private final ReadWriteLock programRequirementLock = new ReentrantReadWriteLock();
-  private final ReadWriteLock gradProgramLock = new ReentrantReadWriteLock();
-  private final ReadWriteLock equivalencyChallengeCodeLock = new ReentrantReadWriteLock();
-  private final ReadWriteLock coreg38Lock = new ReentrantReadWriteLock();
-  private final ReadWriteLock coreg39Lock = new ReentrantReadWriteLock();
-  private final ReadWriteLock examinableCourseLock = new ReentrantReadWriteLock();
-  private final Map<String, Session> sessionMap = new ConcurrentHashMap<>();
   @Getter
   private final ApplicationProperties props;
 
   @Value("${initialization.background.enabled}")
   private Boolean isBackgroundInitializationEnabled;
 
-  private final Map<String, List<UUID>> independentAuthorityToSchoolIDMap = new ConcurrentHashMap<>();
-  private final ReadWriteLock gradSchoolLock = new ReentrantReadWriteLock();
-  private final Map<String, GradSchool> gradSchoolMap = new ConcurrentHashMap<>();
-
   @Autowired
-  public RestUtils(@Qualifier("chesWebClient") final WebClient chesWebClient, WebClient webClient, final ApplicationProperties props, final MessagePublisher messagePublisher) {
+  public RestUtils(@Qualifier("chesWebClient") final WebClient chesWebClient, WebClient webClient, final ApplicationProperties props, final MessagePublisher messagePublisher, final MeterRegistry meterRegistry) {
     this.webClient = webClient;
     this.chesWebClient = chesWebClient;
     this.props = props;
     this.messagePublisher = messagePublisher;
+    this.natsRequestExecutor = new NatsRequestExecutor(messagePublisher, props.getNatsRequestTimeoutMs(), props.getNatsRequestMaxAttempts(), props.getNatsRequestRetryBackoffMs(), props.getNatsRequestMaxInFlightPerTopic());
+    this.schoolMap = new ReferenceDataSnapshot<>("school", meterRegistry);
+    this.schoolMincodeMap = new ReferenceDataSnapshot<>("school-mincode", meterRegistry);
+    this.independentAuthorityToSchoolIDMap = new ReferenceDataSnapshot<>("independent-authority-school", meterRegistry);
+    this.districtMap = new ReferenceDataSnapshot<>("district", meterRegistry);
+    this.gradSchoolMap = new ReferenceDataSnapshot<>("grad-school", meterRegistry);
+    this.facilityTypeCodesMap = new ReferenceDataSnapshot<>("facility-type-code", meterRegistry);
+    this.schoolCategoryCodesMap = new ReferenceDataSnapshot<>("school-category-code", meterRegistry);
+    this.gradGradeMap = new ReferenceDataSnapshot<>("grad-grade", meterRegistry);
+    this.letterGradeMap = new ReferenceDataSnapshot<>("letter-grade", meterRegistry);
+    this.scholarshipsCitizenshipCodesMap = new ReferenceDataSnapshot<>("citizenship-code", meterRegistry);
+    this.careerProgramCodesMap = new ReferenceDataSnapshot<>("career-program-code", meterRegistry);
+    this.optionalProgramCodesMap = new ReferenceDataSnapshot<>("optional-program-code", meterRegistry);
+    this.programRequirementCodeMap = new ReferenceDataSnapshot<>("program-requirement-code", meterRegistry);
+    this.gradProgramCodeMap = new ReferenceDataSnapshot<>("grad-program-code", meterRegistry);
+    this.equivalencyChallengeCodeMap = new ReferenceDataSnapshot<>("equivalency-challenge-code", meterRegistry);
+    this.coreg38Map = new ReferenceDataSnapshot<>("coreg38-course", meterRegistry);
+    this.coreg39Map = new ReferenceDataSnapshot<>("coreg39-course", meterRegistry);
+    this.examinableCourseMap = new ReferenceDataSnapshot<>("examinable-course", meterRegistry);
+    this.sessionMap = new ReferenceDataSnapshot<>("assessment-session", meterRegistry);
+    this.gradGrades = new EffectiveDatedCodes<>(this.gradGradeMap, grade -> null, GradGrade::getExpiryDate, date -> LocalDateTime.parse(date, DateTimeFormatter.ISO_LOCAL_DATE_TIME));
+    this.letterGrades = new EffectiveDatedCodes<>(this.letterGradeMap, LetterGrade::getEffectiveDate, LetterGrade::getExpiryDate, date -> LocalDateTime.parse(date, DateTimeFormatter.ISO_OFFSET_DATE_TIME));
+    this.gradProgramCodes = new EffectiveDatedCodes<>(this.gradProgramCodeMap, program -> null, GraduationProgramCode::getExpiryDate, LocalDateTime::parse);
   }
 
   @PostConstruct
@@ -162,298 +178,153 @@ public class RestUtils {
   }
 
   public void populateCitizenshipCodesMap() {
-    val writeLock = this.scholarshipsCitizenshipLock.writeLock();
-    try {
-      writeLock.lock();
-      this.scholarshipsCitizenshipCodesMap.clear();
-      for (val citizenshipCode : this.getScholarshipsCitizenshipCodes()) {
-        this.scholarshipsCitizenshipCodesMap.put(citizenshipCode.getCitizenshipCode(), citizenshipCode);
-      }
-    } catch (Exception ex) {
-      log.error("Unable to load map cache citizenship codes {}", ex);
-      throw new GradDataCollectionAPIRuntimeException("Unable to load map cache citizenship codes: " + ex.getMessage());
-    } finally {
-      writeLock.unlock();
-    }
-    log.info("Loaded  {} citizenship codes to memory", this.scholarshipsCitizenshipCodesMap.values().size());
+    this.loadSnapshot(this.scholarshipsCitizenshipCodesMap, "citizenship codes", this::getScholarshipsCitizenshipCodes, CitizenshipCode::getCitizenshipCode);
   }
 
   public void populateSchoolCategoryCodesMap() {
-    val writeLock = this.schoolCategoriesLock.writeLock();
-    try {
-      writeLock.lock();
-      this.schoolCategoryCodesMap.clear();
-      for (val categoryCode : this.getSchoolCategoryCodes()) {
-        this.schoolCategoryCodesMap.put(categoryCode.getSchoolCategoryCode(), categoryCode);
-      }
-    } catch (Exception ex) {
-      log.error("Unable to load map cache school categories {}", ex);
-      throw new GradDataCollectionAPIRuntimeException("Unable to load map cache school categories: " + ex.getMessage());
-    } finally {
-      writeLock.unlock();
-    }
-    log.info("Loaded  {} school categories to memory", this.schoolCategoryCodesMap.values().size());
+    this.loadSnapshot(this.schoolCategoryCodesMap, "school categories", this::getSchoolCategoryCodes, SchoolCategoryCode::getSchoolCategoryCode);
   }
 
   public void populateFacilityTypeCodesMap() {
-    val writeLock = this.facilityTypesLock.writeLock();
-    try {
-      writeLock.lock();
-      this.facilityTypeCodesMap.clear();
-      for (val categoryCode : this.getFacilityTypeCodes()) {
-        this.facilityTypeCodesMap.put(categoryCode.getFacilityTypeCode(), categoryCode);
-      }
-    } catch (Exception ex) {
-      log.error("Unable to load map cache facility types {}", ex);
-      throw new GradDataCollectionAPIRuntimeException("Unable to load map cache facility types: " + ex.getMessage());
-    } finally {
-      writeLock.unlock();
-    }
-    log.info("Loaded  {} facility types to memory", this.facilityTypeCodesMap.values().size());
+    this.loadSnapshot(this.facilityTypeCodesMap, "facility types", this::getFacilityTypeCodes, FacilityTypeCode::getFacilityTypeCode);
   }
 
   public void populateSchoolMap() {
-    val writeLock = this.schoolLock.writeLock();
-    try {
-      writeLock.lock();
-      this.schoolMap.clear();
-      for (val school : this.getSchools()) {
-        this.schoolMap.put(school.getSchoolId(), school);
-        if (StringUtils.isNotBlank(school.getIndependentAuthorityId())) {
-          this.independentAuthorityToSchoolIDMap.computeIfAbsent(school.getIndependentAuthorityId(), k -> new ArrayList<>()).add(UUID.fromString(school.getSchoolId()));
-        }
-      }
-    } catch (Exception ex) {
-      log.error("Unable to load map cache schools {}", ex);
-      throw new GradDataCollectionAPIRuntimeException("Unable to load map cache schools: " + ex.getMessage());
-    } finally {
-      writeLock.unlock();
-    }
-    log.info("Loaded  {} schools to memory", this.schoolMap.values().size());
+    this.loadSnapshot(this.schoolMap, "schools", this::getSchools, SchoolTombstone::getSchoolId);
   }
 
   public void populateGradSchoolMap() {
-    val writeLock = this.gradSchoolLock.writeLock();
-    try {
-      writeLock.lock();
-      this.gradSchoolMap.clear();
-      for (val school : this.getGradSchools()) {
-        this.gradSchoolMap.put(school.getSchoolID(), school);
-      }
-    } catch (Exception ex) {
-      log.error("Unable to load map cache grad-school {}", ex);
-      throw new GradDataCollectionAPIRuntimeException("Unable to load map cache grad-schools: " + ex.getMessage());
-    } finally {
-      writeLock.unlock();
-    }
-    log.info("Loaded  {} grad-schools to memory", this.gradSchoolMap.values().size());
+    this.loadSnapshot(this.gradSchoolMap, "grad-schools", this::getGradSchools, GradSchool::getSchoolID);
   }
 
   public void populateSchoolMincodeMap() {
-    val writeLock = this.schoolLock.writeLock();
     try {
-      writeLock.lock();
-      this.schoolMincodeMap.clear();
-      this.independentAuthorityToSchoolIDMap.clear();
-      for (val school : this.getSchools()) {
-        this.schoolMincodeMap.put(school.getMincode(), school);
-        if (StringUtils.isNotBlank(school.getIndependentAuthorityId())) {
-          this.independentAuthorityToSchoolIDMap.computeIfAbsent(school.getIndependentAuthorityId(), k -> new ArrayList<>()).add(UUID.fromString(school.getSchoolId()));
+      val schools = this.getSchools();
+      this.schoolMincodeMap.load(() -> {
+        Map<String, SchoolTombstone> schoolsByMincode = new HashMap<>();
+        for (val school : schools) {
+          schoolsByMincode.put(school.getMincode(), school);
         }
-      }
+        return schoolsByMincode;
+      });
+      this.independentAuthorityToSchoolIDMap.load(() -> {
+        Map<String, List<UUID>> schoolIDsByAuthority = new HashMap<>();
+        for (val school : schools) {
+          if (StringUtils.isNotBlank(school.getIndependentAuthorityId())) {
+            schoolIDsByAuthority.computeIfAbsent(school.getIndependentAuthorityId(), k -> new ArrayList<>()).add(UUID.fromString(school.getSchoolId()));
+          }
+        }
+        schoolIDsByAuthority.replaceAll((authorityID, schoolIDs) -> List.copyOf(schoolIDs));
+        return schoolIDsByAuthority;
+      });
     } catch (Exception ex) {
       log.error("Unable to load map cache school mincodes {}", ex);
       throw new GradDataCollectionAPIRuntimeException("Unable to load map cache school mincodes: " + ex.getMessage());
-    } finally {
-      writeLock.unlock();
     }
-    log.info("Loaded  {} school mincodes to memory", this.schoolMincodeMap.values().size());
+    log.info("Loaded  {} school mincodes to memory", this.schoolMincodeMap.get().size());
   }
 
   public void populateLetterGradeMap() {
-    val writeLock = this.letterGradeLock.writeLock();
-    try {
-      writeLock.lock();
-      this.letterGradeMap.clear();
-      for (val grade : this.getLetterGrades()) {
-        this.letterGradeMap.put(grade.getGrade(), grade);
-      }
-    } catch (Exception ex) {
-      log.error("Unable to load map cache letter grade {}", ex);
-      throw new GradDataCollectionAPIRuntimeException("Unable to load map cache letter grades: " + ex.getMessage());
-    } finally {
-      writeLock.unlock();
-    }
-    log.info("Loaded  {} letter grades to memory", this.letterGradeMap.values().size());
+    this.loadSnapshot(this.letterGradeMap, "letter grades", this::getLetterGrades, LetterGrade::getGrade);
   }
 
   public void populateGradGradesMap() {
-    val writeLock = this.gradGradeLock.writeLock();
-    try {
-      writeLock.lock();
-      this.gradGradeMap.clear();
-      for (val grade : this.getGradGrades()) {
-        this.gradGradeMap.put(grade.getStudentGradeCode(), grade);
-      }
-    } catch (Exception ex) {
-      log.error("Unable to load map cache GRAD grade {}", ex);
-      throw new GradDataCollectionAPIRuntimeException("Unable to load map cache GRAD grades: " + ex.getMessage());
-    } finally {
-      writeLock.unlock();
-    }
-    log.info("Loaded  {} grad grades to memory", this.gradGradeMap.values().size());
+    this.loadSnapshot(this.gradGradeMap, "GRAD grades", this::getGradGrades, GradGrade::getStudentGradeCode);
   }
 
   public void populateCareerProgramsMap() {
-    val writeLock = this.careerProgramLock.writeLock();
-    try {
-      writeLock.lock();
-      this.careerProgramCodesMap.clear();
-      for (val program : this.getCareerPrograms()) {
-        this.careerProgramCodesMap.put(program.getCode(), program);
-      }
-    } catch (Exception ex) {
-      log.error("Unable to load map cache career program {}", ex);
-      throw new GradDataCollectionAPIRuntimeException("Unable to load map cache career programs: " + ex.getMessage());
-    } finally {
-      writeLock.unlock();
-    }
-    log.info("Loaded  {} career programs to memory", this.careerProgramCodesMap.values().size());
+    this.loadSnapshot(this.careerProgramCodesMap, "career programs", this::getCareerPrograms, CareerProgramCode::getCode);
   }
 
   public void populateOptionalProgramsMap() {
-    val writeLock = this.optionalProgramLock.writeLock();
-    try {
-      writeLock.lock();
-      this.optionalProgramCodesMap.clear();
-      for (val program : this.getOptionalPrograms()) {
-        this.optionalProgramCodesMap.put(program.getOptionalProgramID(), program);
-      }
-    } catch (Exception ex) {
-      log.error("Unable to load map cache optional program {}", ex);
-      throw new GradDataCollectionAPIRuntimeException("Unable to load map cache optional programs: " + ex.getMessage());
-    } finally {
-      writeLock.unlock();
-    }
-    log.info("Loaded  {} optional programs to memory", this.optionalProgramCodesMap.values().size());
+    this.loadSnapshot(this.optionalProgramCodesMap, "optional programs", this::getOptionalPrograms, OptionalProgramCode::getOptionalProgramID);
   }
 
   public void populateProgramRequirementCodesMap() {
-    val writeLock = this.programRequirementLock.writeLock();
-    try {
-      writeLock.lock();
-      this.programRequirementCodeMap.clear();
-      for (val program : this.getProgramRequirementCodes()) {
-        this.programRequirementCodeMap.put(program.getProReqCode(), program);
-      }
-    } catch (Exception ex) {
-      log.error("Unable to load map cache program requirement codes {}", ex);
-      throw new GradDataCollectionAPIRuntimeException("Unable to load map cache program requirement codes: " + ex.getMessage());
-    } finally {
-      writeLock.unlock();
-    }
-    log.info("Loaded  {} program requirement codes to memory", this.programRequirementCodeMap.values().size());
-    log.debug(this.programRequirementCodeMap.values().toString());
+    this.loadSnapshot(this.programRequirementCodeMap, "program requirement codes", this::getProgramRequirementCodes, ProgramRequirementCode::getProReqCode);
+    log.debug(this.programRequirementCodeMap.get().values().toString());
   }
 
   public void populateGradProgramCodesMap() {
-    val writeLock = this.gradProgramLock.writeLock();
-    try {
-      writeLock.lock();
-      this.gradProgramCodeMap.clear();
-      for (val program : this.getGraduationProgramCodes()) {
+    this.loadSnapshot(this.gradProgramCodeMap, "GRAD program codes", () -> {
+      val programs = this.getGraduationProgramCodes();
+      for (val program : programs) {
         program.setEffectiveDate(!StringUtils.isBlank(program.getEffectiveDate()) ? LocalDateTime.parse(program.getEffectiveDate(), DateTimeFormatter.ISO_OFFSET_DATE_TIME).toString() : null);
         program.setExpiryDate(!StringUtils.isBlank(program.getExpiryDate()) ? LocalDateTime.parse(program.getExpiryDate(), DateTimeFormatter.ISO_OFFSET_DATE_TIME).toString() : null);
-        this.gradProgramCodeMap.put(program.getProgramCode(), program);
       }
-    } catch (Exception ex) {
-      log.error("Unable to load map cache GRAD program codes {}", ex);
-      throw new GradDataCollectionAPIRuntimeException("Unable to load map cache GRAD program codes: " + ex.getMessage());
-    } finally {
-      writeLock.unlock();
-    }
-    log.info("Loaded  {} grad program codes to memory", this.gradProgramCodeMap.values().size());
-    log.debug(this.gradProgramCodeMap.values().toString());
+      return programs;
+    }, GraduationProgramCode::getProgramCode);
+    log.debug(this.gradProgramCodeMap.get().values().toString());
   }
 
   public void populateEquivalencyChallengeCodeMap() {
-    val writeLock = this.equivalencyChallengeCodeLock.writeLock();
-    try {
-      writeLock.lock();
-      this.equivalencyChallengeCodeMap.clear();
-      for (val equivalencyCode : this.getEquivalencyChallengeCodes()) {
-        this.equivalencyChallengeCodeMap.put(equivalencyCode.getEquivalentOrChallengeCode(), equivalencyCode);
-      }
-    } catch (Exception ex) {
-      log.error("Unable to load map cache equivalent or challenge codes {}", ex);
-      throw new GradDataCollectionAPIRuntimeException("Unable to load map cache equivalent or challenge codes: " + ex.getMessage());
-    } finally {
-      writeLock.unlock();
-    }
-    log.info("Loaded  {} equivalent or challenge codes to memory", this.equivalencyChallengeCodeMap.values().size());
+    this.loadSnapshot(this.equivalencyChallengeCodeMap, "equivalent or challenge codes", this::getEquivalencyChallengeCodes, EquivalencyChallengeCode::getEquivalentOrChallengeCode);
   }
 
   public void populateCoreg38Map() {
-    val writeLock = this.coreg38Lock.writeLock();
-    try {
-      writeLock.lock();
-      if (this.coreg38Map.isEmpty()) {
-        log.info("Calling COREG API to load coreg38 courses to memory");
-        this.coreg38Map.clear();
-        var coreg38Courses = this.getCoreg38Courses();
-        for (val courseCode : coreg38Courses) {
-          this.coreg38Map.put(courseCode.getCourseID(), courseCode);
-        }
-        log.info("Loaded  {} coreg38 courses to memory", coreg38Courses.size());
-      } else {
-        log.debug("Coreg38 map already populated by another thread, skipping reload");
-      }
-    } catch (Exception ex) {
-      log.error("Unable to load coreg38 courses to map cache ", ex);
-      throw new GradDataCollectionAPIRuntimeException("Unable to load coreg38 courses to map cache: " + ex.getMessage());
-    } finally {
-      writeLock.unlock();
-    }
+    this.loadCoregSnapshot(this.coreg38Map, "coreg38", this::getCoreg38Courses);
   }
 
   public void populateCoreg39Map() {
-    val writeLock = this.coreg39Lock.writeLock();
+    this.loadCoregSnapshot(this.coreg39Map, "coreg39", this::getCoreg39Courses);
+  }
+
+  private void loadCoregSnapshot(final ReferenceDataSnapshot<String, GradCourseCode> snapshot, final String description, final Supplier<List<GradCourseCode>> source) {
     try {
-      writeLock.lock();
-      if (this.coreg39Map.isEmpty()) {
-        log.info("Calling COREG API to load coreg39 courses to memory");
-        this.coreg39Map.clear();
-        var coreg39Courses = this.getCoreg39Courses();
-        for (val courseCode : coreg39Courses) {
-          this.coreg39Map.put(courseCode.getCourseID(), courseCode);
+      val loaded = snapshot.loadIfEmpty(() -> {
+        log.info("Calling COREG API to load {} courses to memory", description);
+        Map<String, GradCourseCode> courses = new HashMap<>();
+        for (val courseCode : source.get()) {
+          courses.put(courseCode.getCourseID(), courseCode);
         }
-        log.info("Loaded  {} coreg39 courses to memory", coreg39Courses.size());
+        return courses;
+      });
+      if (loaded) {
+        log.info("Loaded  {} {} courses to memory", snapshot.get().size(), description);
       } else {
-        log.debug("Coreg39 map already populated by another thread, skipping reload");
+        log.debug("{} map already populated by another thread, skipping reload", description);
       }
     } catch (Exception ex) {
-      log.error("Unable to load coreg39 courses to map cache ", ex);
-      throw new GradDataCollectionAPIRuntimeException("Unable to load coreg39 courses to map cache: " + ex.getMessage());
-    } finally {
-      writeLock.unlock();
+      log.error("Unable to load {} courses to map cache ", description, ex);
+      throw new GradDataCollectionAPIRuntimeException("Unable to load " + description + " courses to map cache: " + ex.getMessage());
     }
   }
 
   public void populateExaminableCourseMap() {
-    val writeLock = this.examinableCourseLock.writeLock();
     try {
-      writeLock.lock();
-      this.examinableCourseMap.clear();
-      for (val examinableCourse : this.getGradExaminableCourses()) {
-        this.examinableCourseMap.put(String.valueOf(examinableCourse.getExaminableCourseID()), examinableCourse);
-      }
+      this.examinableCourseMap.load(() -> {
+        Map<String, List<ExaminableCourseWindow>> coursesByExternalID = new HashMap<>();
+        for (val examinableCourse : this.getGradExaminableCourses()) {
+          coursesByExternalID.computeIfAbsent(ExaminableCourseWindow.externalID(examinableCourse), k -> new ArrayList<>()).add(ExaminableCourseWindow.of(examinableCourse));
+        }
+        coursesByExternalID.replaceAll((externalID, courses) -> List.copyOf(courses));
+        return coursesByExternalID;
+      });
     } catch (Exception ex) {
       log.error("Unable to load map cache GRAD examinable courses ", ex);
       throw new GradDataCollectionAPIRuntimeException("Unable to load map cache GRAD examinable courses: " + ex.getMessage());
-    } finally {
-      writeLock.unlock();
     }
-    log.info("Loaded  {} grad examinable courses to memory", this.examinableCourseMap.values().size());
+    log.info("Loaded  {} grad examinable course external IDs to memory", this.examinableCourseMap.get().size());
+  }
+
+  /**
+   * Builds a code table from the given source off to the side and publishes it as the new snapshot. Readers keep
+   * seeing the previous snapshot until then, and keep it if the load fails.
+   */
+  private <K, V> void loadSnapshot(final ReferenceDataSnapshot<K, V> snapshot, final String description, final Supplier<List<V>> source, final Function<V, K> keyMapper) {
+    try {
+      snapshot.load(() -> {
+        Map<K, V> entries = new HashMap<>();
+        for (val entry : source.get()) {
+          entries.put(keyMapper.apply(entry), entry);
+        }
+        return entries;
+      });
+    } catch (Exception ex) {
+      log.error("Unable to load map cache {} {}", description, ex);
+      throw new GradDataCollectionAPIRuntimeException("Unable to load map cache " + description + ": " + ex.getMessage());
+    }
+    log.info("Loaded  {} {} to memory", snapshot.get().size(), description);
   }
 
   public List<GradExaminableCourse> getGradExaminableCourses() {
@@ -494,7 +365,7 @@ public class RestUtils {
       log.info("Equivalency Challenge map is empty reloading them");
       this.populateEquivalencyChallengeCodeMap();
     }
-    return this.equivalencyChallengeCodeMap.values().stream().toList();
+    return this.equivalencyChallengeCodeMap.get().values().stream().toList();
   }
 
   private List<EquivalencyChallengeCode> getEquivalencyChallengeCodes() {
@@ -513,7 +384,7 @@ public class RestUtils {
       log.info("Program Requirement Code map is empty reloading them");
       this.populateProgramRequirementCodesMap();
     }
-    return this.programRequirementCodeMap.values().stream().toList();
+    return this.programRequirementCodeMap.get().values().stream().toList();
   }
 
   private List<ProgramRequirementCode> getProgramRequirementCodes() {
@@ -533,10 +404,10 @@ public class RestUtils {
       this.populateGradProgramCodesMap();
     }
     if(activeOnly){
-      return this.gradProgramCodeMap.values().stream().filter(code -> StringUtils.isBlank(code.getExpiryDate()) || LocalDateTime.parse(code.getExpiryDate()).isAfter(LocalDateTime.now())).toList();
+      return this.gradProgramCodes.unexpiredAt(LocalDateTime.now()).codes();
     }
 
-    return this.gradProgramCodeMap.values().stream().toList();
+    return this.gradProgramCodes.all().codes();
   }
 
   private List<GraduationProgramCode> getGraduationProgramCodes() {
@@ -555,7 +426,7 @@ public class RestUtils {
       log.info("Citizenship Code map is empty reloading them");
       this.populateCitizenshipCodesMap();
     }
-    return this.scholarshipsCitizenshipCodesMap.values().stream().toList();
+    return this.scholarshipsCitizenshipCodesMap.get().values().stream().toList();
   }
 
   private List<CitizenshipCode> getScholarshipsCitizenshipCodes() {
@@ -574,7 +445,7 @@ public class RestUtils {
       log.info("Career Program Code map is empty reloading them");
       this.populateCareerProgramsMap();
     }
-    return this.careerProgramCodesMap.values().stream().toList();
+    return this.careerProgramCodesMap.get().values().stream().toList();
   }
 
   private List<CareerProgramCode> getCareerPrograms() {
@@ -593,7 +464,7 @@ public class RestUtils {
       log.info("Optional Program Code map is empty reloading them");
       this.populateOptionalProgramsMap();
     }
-    return this.optionalProgramCodesMap.values().stream().toList();
+    return this.optionalProgramCodesMap.get().values().stream().toList();
   }
 
   private List<OptionalProgramCode> getOptionalPrograms() {
@@ -608,19 +479,22 @@ public class RestUtils {
   }
   
   public List<GradGrade> getGradGradeList(boolean activeOnly) {
+    return this.getGradGradeCodes(activeOnly).codes();
+  }
+
+  public Map<String, GradGrade> getGradGradesByCode(boolean activeOnly) {
+    return this.getGradGradeCodes(activeOnly).byCode();
+  }
+
+  private EffectiveDatedCodes.CodeSet<GradGrade> getGradGradeCodes(boolean activeOnly) {
     if (this.gradGradeMap.isEmpty()) {
       log.info("Grad Grade map is empty, reloading them");
       this.populateGradGradesMap();
     }
     if (activeOnly) {
-      return this.gradGradeMap.values().stream()
-              .filter(code ->
-                      StringUtils.isBlank(code.getExpiryDate()) ||
-                              LocalDateTime.parse(code.getExpiryDate(), DateTimeFormatter.ISO_LOCAL_DATE_TIME)
-                                      .isAfter(LocalDateTime.now())
-              ).toList();
+      return this.gradGrades.unexpiredAt(LocalDateTime.now());
     }
-    return this.gradGradeMap.values().stream().toList();
+    return this.gradGrades.all();
   }
 
   private List<GradGrade> getGradGrades() {
@@ -635,20 +509,22 @@ public class RestUtils {
   }
 
   public List<LetterGrade> getLetterGradeList(LocalDateTime sessionDate) {
+    return this.getLetterGradeCodes(sessionDate).codes();
+  }
+
+  public Map<String, LetterGrade> getLetterGradesByCode(LocalDateTime sessionDate) {
+    return this.getLetterGradeCodes(sessionDate).byCode();
+  }
+
+  private EffectiveDatedCodes.CodeSet<LetterGrade> getLetterGradeCodes(LocalDateTime sessionDate) {
     if (this.letterGradeMap.isEmpty()) {
       log.info("Letter Grade map is empty reloading them");
       this.populateLetterGradeMap();
     }
     if (sessionDate != null) {
-      return this.letterGradeMap.values().stream()
-      .filter(code ->
-        !LocalDateTime.parse(code.getEffectiveDate(), DateTimeFormatter.ISO_OFFSET_DATE_TIME).isAfter(sessionDate)
-          && (StringUtils.isBlank(code.getExpiryDate())
-          || LocalDateTime.parse(code.getExpiryDate(), DateTimeFormatter.ISO_OFFSET_DATE_TIME).isAfter(sessionDate))
-      )
-        .toList();
+      return this.letterGrades.effectiveAt(sessionDate);
     }
-    return this.letterGradeMap.values().stream().toList();
+    return this.letterGrades.all();
   }
 
   private List<LetterGrade> getLetterGrades() {
@@ -689,7 +565,7 @@ public class RestUtils {
       log.info("School Category Code map is empty reloading them");
       this.populateSchoolCategoryCodesMap();
     }
-    return this.schoolCategoryCodesMap.values().stream().toList();
+    return this.schoolCategoryCodesMap.get().values().stream().toList();
   }
 
   private List<SchoolCategoryCode> getSchoolCategoryCodes() {
@@ -708,7 +584,7 @@ public class RestUtils {
       log.info("Facility Type Code map is empty reloading them");
       this.populateFacilityTypeCodesMap();
     }
-    return this.facilityTypeCodesMap.values().stream().toList();
+    return this.facilityTypeCodesMap.get().values().stream().toList();
   }
 
   private List<FacilityTypeCode> getFacilityTypeCodes() {
@@ -723,20 +599,7 @@ public class RestUtils {
   }
 
   public void populateDistrictMap() {
-    val writeLock = this.districtLock.writeLock();
-    try {
-      writeLock.lock();
-      this.districtMap.clear();
-      for (val district : this.getDistricts()) {
-        this.districtMap.put(district.getDistrictId(), district);
-      }
-    } catch (Exception ex) {
-      log.error("Unable to load map cache district {}", ex);
-      throw new GradDataCollectionAPIRuntimeException("Unable to load map cache district: " + ex.getMessage());
-    } finally {
-      writeLock.unlock();
-    }
-    log.info("Loaded  {} districts to memory", this.districtMap.values().size());
+    this.loadSnapshot(this.districtMap, "districts", this::getDistricts, District::getDistrictId);
   }
 
   private List<District> getDistricts() {
@@ -755,7 +618,7 @@ public class RestUtils {
       log.info("School categories map is empty reloading them");
       this.populateSchoolCategoryCodesMap();
     }
-    return Optional.ofNullable(this.schoolCategoryCodesMap.get(schoolCategoryCode));
+    return Optional.ofNullable(this.schoolCategoryCodesMap.get().get(schoolCategoryCode));
   }
 
   public Optional<FacilityTypeCode> getFacilityTypeCode(final String facilityTypeCode) {
@@ -763,7 +626,7 @@ public class RestUtils {
       log.info("Facility types map is empty reloading them");
       this.populateFacilityTypeCodesMap();
     }
-    return Optional.ofNullable(this.facilityTypeCodesMap.get(facilityTypeCode));
+    return Optional.ofNullable(this.facilityTypeCodesMap.get().get(facilityTypeCode));
   }
 
   public Optional<SchoolTombstone> getSchoolBySchoolID(final String schoolID) {
@@ -771,7 +634,7 @@ public class RestUtils {
       log.info("School map is empty reloading schools");
       this.populateSchoolMap();
     }
-    return Optional.ofNullable(this.schoolMap.get(schoolID));
+    return Optional.ofNullable(this.schoolMap.get().get(schoolID));
   }
 
   public List<SchoolTombstone> getAllSchools() {
@@ -779,7 +642,7 @@ public class RestUtils {
       log.info("School map is empty reloading schools");
       this.populateSchoolMap();
     }
-    return this.schoolMap.values().stream().toList();
+    return this.schoolMap.get().values().stream().toList();
   }
 
   public Optional<GradSchool> getGradSchoolBySchoolID(final String schoolID) {
@@ -787,7 +650,7 @@ public class RestUtils {
       log.info("Grad School map is empty reloading schools");
       this.populateGradSchoolMap();
     }
-    return Optional.ofNullable(this.gradSchoolMap.get(schoolID));
+    return Optional.ofNullable(this.gradSchoolMap.get().get(schoolID));
   }
 
   public Optional<SchoolTombstone> getSchoolByMincode(final String mincode) {
@@ -795,7 +658,7 @@ public class RestUtils {
       log.info("School mincode map is empty reloading schools");
       this.populateSchoolMincodeMap();
     }
-    return Optional.ofNullable(this.schoolMincodeMap.get(mincode));
+    return Optional.ofNullable(this.schoolMincodeMap.get().get(mincode));
   }
 
   public Optional<GradCourseCode> getCoreg38CourseByID(final String courseID) {
@@ -803,7 +666,7 @@ public class RestUtils {
       log.info("Coreg 38 course map is empty reloading courses");
       this.populateCoreg38Map();
     }
-    return Optional.ofNullable(this.coreg38Map.get(courseID));
+    return Optional.ofNullable(this.coreg38Map.get().get(courseID));
   }
 
   public Optional<GradCourseCode> getCoreg39CourseByID(final String courseID) {
@@ -811,21 +674,19 @@ public class RestUtils {
       log.info("Coreg 39 course map is empty reloading courses");
       this.populateCoreg39Map();
     }
-    return Optional.ofNullable(this.coreg39Map.get(courseID));
+    return Optional.ofNullable(this.coreg39Map.get().get(courseID));
   }
 
-  public List<GradExaminableCourse> getExaminableCourseByExternalID(final String externalID) {
+  /**
+   * Returns the examinable courses indexed under the external ID (course code padded to 5 characters followed by the
+   * course level), or an empty list. The returned list is shared and unmodifiable.
+   */
+  public List<ExaminableCourseWindow> getExaminableCourseByExternalID(final String externalID) {
     if (this.examinableCourseMap.isEmpty()) {
       log.info("Examinable course map is empty reloading courses");
       this.populateExaminableCourseMap();
     }
-    List<GradExaminableCourse> examinableCourses = new ArrayList<>();
-    this.examinableCourseMap.forEach((key, value) -> {
-        if (StringUtils.equals(String.format("%-5s", value.getCourseCode()) + value.getCourseLevel(), externalID)) {
-            examinableCourses.add(value);
-        }
-    });
-    return examinableCourses;
+    return externalID != null ? this.examinableCourseMap.get().getOrDefault(externalID, List.of()) : List.of();
   }
 
   public void sendEmail(final String fromEmail, final List<String> toEmail, final String body, final String subject) {
@@ -872,139 +733,176 @@ public class RestUtils {
       log.info("District map is empty reloading schools");
       this.populateDistrictMap();
     }
-    return Optional.ofNullable(this.districtMap.get(districtID));
+    return Optional.ofNullable(this.districtMap.get().get(districtID));
   }
 
-  @Retryable(retryFor = {Exception.class}, noRetryFor = {SagaRuntimeException.class, EntityNotFoundException.class}, backoff = @Backoff(multiplier = 2, delay = 2000))
   public Student getStudentByPEN(UUID correlationID, String assignedPEN) {
-    try {
-      final TypeReference<Event> refEvent = new TypeReference<>() {};
-      final TypeReference<Student> refPenMatchResult = new TypeReference<>() {};
-      Object event = Event.builder().sagaId(correlationID).eventType(EventType.GET_STUDENT).eventPayload(assignedPEN).build();
-      val responseMessage = this.messagePublisher.requestMessage(TopicsEnum.STUDENT_API_TOPIC.toString(), JsonUtil.getJsonBytesFromObject(event)).completeOnTimeout(null, 120, TimeUnit.SECONDS).get();
-      if (responseMessage != null) {
-        byte[] data = responseMessage.getData();
-        if (data == null || data.length == 0) {
-          log.debug("Empty response data for getStudentByPEN; treating as student not found for PEN: {}", assignedPEN);
-          throw new EntityNotFoundException(Student.class);
-        }
+    return await(this.getStudentByPENAsync(correlationID, assignedPEN));
+  }
 
-        log.debug("Response message for getStudentByPen: {}", responseMessage);
-        Event responseEvent = objectMapper.readValue(responseMessage.getData(), refEvent);
+  public CompletableFuture<Student> getStudentByPENAsync(UUID correlationID, String assignedPEN) {
+    final TypeReference<Event> refEvent = new TypeReference<>() {};
+    final TypeReference<Student> refPenMatchResult = new TypeReference<>() {};
+    return this.<Student>requestAsync(TopicsEnum.STUDENT_API_TOPIC, () -> Event.builder().sagaId(correlationID).eventType(EventType.GET_STUDENT).eventPayload(assignedPEN).build(), responseMessage -> {
+      if (responseMessage == null) {
+        throw new GradDataCollectionAPIRuntimeException(NATS_TIMEOUT + correlationID);
+      }
+      byte[] data = responseMessage.getData();
+      if (data == null || data.length == 0) {
+        log.debug("Empty response data for getStudentByPEN; treating as student not found for PEN: {}", assignedPEN);
+        throw new EntityNotFoundException(Student.class);
+      }
 
-        if (EventOutcome.STUDENT_NOT_FOUND.equals(responseEvent.getEventOutcome())) {
-          log.info("Student not found for PEN: {}", assignedPEN);
-          throw new EntityNotFoundException(Student.class);
-        }
+      log.debug("Response message for getStudentByPen: {}", responseMessage);
+      Event responseEvent = objectMapper.readValue(data, refEvent);
 
-        return objectMapper.readValue(responseMessage.getData(), refPenMatchResult);
-      } else {
-        throw new GradDataCollectionAPIRuntimeException(NATS_TIMEOUT + correlationID);
+      if (EventOutcome.STUDENT_NOT_FOUND.equals(responseEvent.getEventOutcome())) {
+        log.info("Student not found for PEN: {}", assignedPEN);
+        throw new EntityNotFoundException(Student.class);
       }
 
-    } catch (EntityNotFoundException ex) {
-      log.debug("Entity Not Found occurred calling GET STUDENT service :: {}", ex.getMessage());
-      throw ex;
-    } catch (final Exception ex) {
-      log.error("Error occurred calling GET STUDENT service :: {}", ex.getMessage());
-      Thread.currentThread().interrupt();
-      throw new GradDataCollectionAPIRuntimeException(NATS_TIMEOUT + correlationID + ex.getMessage());
-    }
+      return objectMapper.readValue(data, refPenMatchResult);
+    }, Set.of(SagaRuntimeException.class, EntityNotFoundException.class)).exceptionally(ex -> {
+      final Throwable cause = NatsRequestExecutor.unwrap(ex);
+      if (cause instanceof EntityNotFoundException entityNotFoundException) {
+        log.debug("Entity Not Found occurred calling GET STUDENT service :: {}", cause.getMessage());
+        throw entityNotFoundException;
+      }
+      log.error("Error occurred calling GET STUDENT service :: {}", cause.getMessage());
+      throw new GradDataCollectionAPIRuntimeException(NATS_TIMEOUT + correlationID + cause.getMessage());
+    });
   }
 
-  @Retryable(retryFor = {Exception.class}, noRetryFor = {SagaRuntimeException.class, EntityNotFoundException.class}, backoff = @Backoff(multiplier = 2, delay = 2000))
-  public GradStudentRecord getGradStudentRecordByStudentID(UUID correlationID, UUID studentID) {
-    try {
-      Object event = Event.builder().sagaId(correlationID).eventType(EventType.GET_GRAD_STUDENT_RECORD).eventPayload(studentID.toString()).build();
-      val responseMessage = this.messagePublisher.requestMessage(TopicsEnum.GRAD_STUDENT_API_FETCH_GRAD_STUDENT_TOPIC.toString(), JsonUtil.getJsonBytesFromObject(event)).completeOnTimeout(null, 120, TimeUnit.SECONDS).get();
-      if (responseMessage != null) {
-        String responseData = new String(responseMessage.getData(), StandardCharsets.UTF_8);
+  /**
+   * Looks up several students in a single Student API round trip using the criteria search with a PEN "in" filter.
+   * PENs that have no matching student are simply absent from the returned map.
+   */
+  public Map<String, Student> getStudentsByPENs(UUID correlationID, Collection<String> assignedPENs) {
+    return await(this.getStudentsByPENsAsync(correlationID, assignedPENs));
+  }
+
+  public CompletableFuture<Map<String, Student>> getStudentsByPENsAsync(UUID correlationID, Collection<String> assignedPENs) {
+    final TypeReference<List<Student>> refStudents = new TypeReference<>() {};
+    return this.<Map<String, Student>>requestAsync(TopicsEnum.STUDENT_API_TOPIC, () -> {
+      var criteria = SearchCriteria.builder().key("pen").operation(FilterOperation.IN).value(String.join(",", assignedPENs)).valueType(ValueType.STRING).build();
+      var searchCriteriaList = List.of(Search.builder().searchCriteriaList(List.of(criteria)).build());
+      Map<String, Object> payload = new HashMap<>();
+      payload.put("pageNumber", 0);
+      payload.put("pageSize", assignedPENs.size());
+      payload.put("searchCriteriaList", JsonUtil.getJsonStringFromObject(searchCriteriaList));
+      return Event.builder().sagaId(correlationID).eventType(EventType.GET_PAGINATED_STUDENT_BY_CRITERIA).eventPayload(JsonUtil.getJsonStringFromObject(payload)).build();
+    }, responseMessage -> {
+      if (responseMessage == null) {
+        throw new GradDataCollectionAPIRuntimeException(NATS_TIMEOUT + correlationID);
+      }
+      byte[] data = responseMessage.getData();
+      Map<String, Student> studentsByPEN = new HashMap<>();
+      if (data == null || data.length == 0) {
+        log.debug("Empty response data for getStudentsByPENs; treating all {} PENs as not found", assignedPENs.size());
+        return studentsByPEN;
+      }
+      val content = objectMapper.readTree(data).get("content");
+      if (content != null) {
+        List<Student> students = objectMapper.convertValue(content, refStudents);
+        students.forEach(student -> studentsByPEN.put(student.getPen(), student));
+      }
+      return studentsByPEN;
+    }, Set.of(SagaRuntimeException.class, EntityNotFoundException.class)).exceptionally(ex -> {
+      final Throwable cause = NatsRequestExecutor.unwrap(ex);
+      if (cause instanceof GradDataCollectionAPIRuntimeException gradDataCollectionAPIRuntimeException) {
+        throw gradDataCollectionAPIRuntimeException;
+      }
+      log.error("Error occurred calling GET STUDENTS BY PEN service :: {}", cause.getMessage());
+      throw new GradDataCollectionAPIRuntimeException(NATS_TIMEOUT + correlationID + cause.getMessage());
+    });
+  }
 
-        final TypeReference<GradStudentRecord> refGradStudentRecordResult = new TypeReference<>() {
-        };
-        GradStudentRecord response = objectMapper.readValue(responseData, refGradStudentRecordResult);
+  public GradStudentRecord getGradStudentRecordByStudentID(UUID correlationID, UUID studentID) {
+    return await(this.getGradStudentRecordByStudentIDAsync(correlationID, studentID));
+  }
 
-        log.debug("getGradStudentRecordByStudentID response{}", response.toString());
+  public CompletableFuture<GradStudentRecord> getGradStudentRecordByStudentIDAsync(UUID correlationID, UUID studentID) {
+    final TypeReference<GradStudentRecord> refGradStudentRecordResult = new TypeReference<>() {
+    };
+    return this.<GradStudentRecord>requestAsync(TopicsEnum.GRAD_STUDENT_API_FETCH_GRAD_STUDENT_TOPIC, () -> Event.builder().sagaId(correlationID).eventType(EventType.GET_GRAD_STUDENT_RECORD).eventPayload(studentID.toString()).build(), responseMessage -> {
+      if (responseMessage == null) {
+        throw new GradDataCollectionAPIRuntimeException(NO_RESPONSE_RECEIVED_WITHIN_TIMEOUT_FOR_CORRELATION_ID + correlationID);
+      }
+      String responseData = new String(responseMessage.getData(), StandardCharsets.UTF_8);
+      GradStudentRecord response = objectMapper.readValue(responseData, refGradStudentRecordResult);
 
-        if ("not found".equals(response.getException())) {
-          log.debug("A not found error occurred while fetching GradStudentRecord for Student ID {}", studentID);
-          throw new EntityNotFoundException(GradStudentRecord.class);
-        } else if ("error".equals(response.getException())) {
-          log.error("An exception error occurred while fetching GradStudentRecord for Student ID {}", studentID);
-          throw new GradDataCollectionAPIRuntimeException("Error occurred while processing the request for correlation ID " + correlationID);
-        }
+      log.debug("getGradStudentRecordByStudentID response{}", response.toString());
 
-        log.debug("Success fetching GradStudentRecord for Student ID {}", studentID);
-        return response;
-      } else {
-        throw new GradDataCollectionAPIRuntimeException(NO_RESPONSE_RECEIVED_WITHIN_TIMEOUT_FOR_CORRELATION_ID + correlationID);
+      if ("not found".equals(response.getException())) {
+        log.debug("A not found error occurred while fetching GradStudentRecord for Student ID {}", studentID);
+        throw new EntityNotFoundException(GradStudentRecord.class);
+      } else if ("error".equals(response.getException())) {
+        log.error("An exception error occurred while fetching GradStudentRecord for Student ID {}", studentID);
+        throw new GradDataCollectionAPIRuntimeException("Error occurred while processing the request for correlation ID " + correlationID);
       }
 
-    } catch (EntityNotFoundException ex) {
-      log.debug("Entity Not Found occurred calling GET GRAD STUDENT RECORD service :: {}", ex.getMessage());
-      throw ex;
-    } catch (final Exception ex) {
-      log.error("Error occurred calling GET GRAD STUDENT RECORD service :: {}", ex.getMessage());
-      Thread.currentThread().interrupt();
+      log.debug("Success fetching GradStudentRecord for Student ID {}", studentID);
+      return response;
+    }, Set.of(SagaRuntimeException.class, EntityNotFoundException.class)).exceptionally(ex -> {
+      final Throwable cause = NatsRequestExecutor.unwrap(ex);
+      if (cause instanceof EntityNotFoundException entityNotFoundException) {
+        log.debug("Entity Not Found occurred calling GET GRAD STUDENT RECORD service :: {}", cause.getMessage());
+        throw entityNotFoundException;
+      }
+      log.error("Error occurred calling GET GRAD STUDENT RECORD service :: {}", cause.getMessage());
       throw new GradDataCollectionAPIRuntimeException(NATS_TIMEOUT + correlationID);
-    }
+    });
   }
 
-  @Retryable(retryFor = {Exception.class}, noRetryFor = {EntityNotFoundException.class}, backoff = @Backoff(multiplier = 2, delay = 2000))
   public List<GradStudentCourseRecord> getGradStudentCoursesByStudentID(UUID correlationID, String studentID) {
-    try {
-      Event event = Event.builder().sagaId(correlationID).eventType(EventType.GET_GRAD_STUDENT_COURSE_RECORDS).eventPayload(studentID).build();
-      val responseMessage = this.messagePublisher.requestMessage(TopicsEnum.GRAD_STUDENT_API_FETCH_GRAD_STUDENT_COURSES_TOPIC.toString(), JsonUtil.getJsonBytesFromObject(event)).completeOnTimeout(null, 120, TimeUnit.SECONDS).get();
-
-      if (responseMessage != null) {
-        String responseData = new String(responseMessage.getData(), StandardCharsets.UTF_8);
+    return await(this.getGradStudentCoursesByStudentIDAsync(correlationID, studentID));
+  }
 
-        final TypeReference<GradStudentCourseRecordsPayload> payloadTypeRef = new TypeReference<>() {};
-        GradStudentCourseRecordsPayload responsePayload = objectMapper.readValue(responseData, payloadTypeRef);
+  public CompletableFuture<List<GradStudentCourseRecord>> getGradStudentCoursesByStudentIDAsync(UUID correlationID, String studentID) {
+    final TypeReference<GradStudentCourseRecordsPayload> payloadTypeRef = new TypeReference<>() {};
+    return this.<List<GradStudentCourseRecord>>requestAsync(TopicsEnum.GRAD_STUDENT_API_FETCH_GRAD_STUDENT_COURSES_TOPIC, () -> Event.builder().sagaId(correlationID).eventType(EventType.GET_GRAD_STUDENT_COURSE_RECORDS).eventPayload(studentID).build(), responseMessage -> {
+      if (responseMessage == null) {
+        throw new GradDataCollectionAPIRuntimeException(NO_RESPONSE_RECEIVED_WITHIN_TIMEOUT_FOR_CORRELATION_ID + correlationID);
+      }
+      String responseData = new String(responseMessage.getData(), StandardCharsets.UTF_8);
+      GradStudentCourseRecordsPayload responsePayload = objectMapper.readValue(responseData, payloadTypeRef);
 
-        log.debug("getGradStudentCourseRecordsByStudentID response{}", responsePayload.toString());
+      log.debug("getGradStudentCourseRecordsByStudentID response{}", responsePayload.toString());
 
-        if (responsePayload.getException() != null) {
-          if ("not found".equals(responsePayload.getException())) {
-            throw new EntityNotFoundException(GradStudentRecord.class);
-          } else {
-            log.error("An exception error occurred: {}", responsePayload.getException());
-            throw new GradDataCollectionAPIRuntimeException("Error occurred for correlation ID " + correlationID);
-          }
+      if (responsePayload.getException() != null) {
+        if ("not found".equals(responsePayload.getException())) {
+          throw new EntityNotFoundException(GradStudentRecord.class);
+        } else {
+          log.error("An exception error occurred: {}", responsePayload.getException());
+          throw new GradDataCollectionAPIRuntimeException("Error occurred for correlation ID " + correlationID);
         }
+      }
 
-        log.debug("Success fetching GradStudentCoursesRecord for Student ID {}", studentID);
-        return responsePayload.getCourses();
-      } else {
-        throw new GradDataCollectionAPIRuntimeException(NO_RESPONSE_RECEIVED_WITHIN_TIMEOUT_FOR_CORRELATION_ID + correlationID);
+      log.debug("Success fetching GradStudentCoursesRecord for Student ID {}", studentID);
+      return responsePayload.getCourses();
+    }, Set.of(EntityNotFoundException.class)).exceptionally(ex -> {
+      final Throwable cause = NatsRequestExecutor.unwrap(ex);
+      if (cause instanceof EntityNotFoundException) {
+        log.error("EntityNotFoundException occurred calling GET_STUDENT_COURSE service :: {}", cause.getMessage());
+        throw new EntityNotFoundException();
       }
-    } catch (EntityNotFoundException ex) {
-      log.error("EntityNotFoundException occurred calling GET_STUDENT_COURSE service :: {}", ex.getMessage());
-      throw new EntityNotFoundException();
-    } catch (final Exception ex) {
-      log.error("Error occurred calling GET_STUDENT_COURSE service :: {}", ex.getMessage());
-      Thread.currentThread().interrupt();
+      log.error("Error occurred calling GET_STUDENT_COURSE service :: {}", cause.getMessage());
       throw new GradDataCollectionAPIRuntimeException(NATS_TIMEOUT + correlationID);
-    }
+    });
   }
 
-  @Retryable(retryFor = {Exception.class}, noRetryFor = {EntityNotFoundException.class}, backoff = @Backoff(multiplier = 2, delay = 2000))
   public CoregCoursesRecord getCoursesByExternalID(UUID correlationID, String externalID) {
-    try {
-      final TypeReference<CoregCoursesRecord> refCourseInformation = new TypeReference<>() {};
-
-      Event event = Event.builder()
-              .sagaId(correlationID)
-              .eventType(EventType.GET_COURSE_FROM_EXTERNAL_ID)
-              .eventPayload(externalID)
-              .replyTo("coreg-response-topic")
-              .build();
-
-      val responseMessage = this.messagePublisher
-              .requestMessage(TopicsEnum.COREG_API_TOPIC.toString(), JsonUtil.getJsonBytesFromObject(event))
-              .completeOnTimeout(null, 120, TimeUnit.SECONDS)
-              .get();
+    return await(this.getCoursesByExternalIDAsync(correlationID, externalID));
+  }
 
+  public CompletableFuture<CoregCoursesRecord> getCoursesByExternalIDAsync(UUID correlationID, String externalID) {
+    final TypeReference<CoregCoursesRecord> refCourseInformation = new TypeReference<>() {};
+    return this.<CoregCoursesRecord>requestAsync(TopicsEnum.COREG_API_TOPIC, () -> Event.builder()
+            .sagaId(correlationID)
+            .eventType(EventType.GET_COURSE_FROM_EXTERNAL_ID)
+            .eventPayload(externalID)
+            .replyTo("coreg-response-topic")
+            .build(), responseMessage -> {
       if (responseMessage == null) {
         throw new GradDataCollectionAPIRuntimeException(NO_RESPONSE_RECEIVED_WITHIN_TIMEOUT_FOR_CORRELATION_ID + correlationID);
       }
@@ -1017,72 +915,49 @@ public class RestUtils {
 
       log.debug("Received response from NATS: {}", new String(responseData, StandardCharsets.UTF_8));
       return objectMapper.readValue(responseData, refCourseInformation);
-
-    } catch (EntityNotFoundException ex) {
-      log.debug("EntityNotFoundException occurred calling GET_COURSE_FROM_EXTERNAL_ID service :: {}", ex.getMessage());
-      throw new EntityNotFoundException();
-    } catch (final Exception ex) {
-      log.error("Error occurred calling GET_COURSE_FROM_EXTERNAL_ID service :: {}", ex.getMessage());
-      Thread.currentThread().interrupt();
+    }, Set.of(EntityNotFoundException.class)).exceptionally(ex -> {
+      final Throwable cause = NatsRequestExecutor.unwrap(ex);
+      if (cause instanceof EntityNotFoundException) {
+        log.debug("EntityNotFoundException occurred calling GET_COURSE_FROM_EXTERNAL_ID service :: {}", cause.getMessage());
+        throw new EntityNotFoundException();
+      }
+      log.error("Error occurred calling GET_COURSE_FROM_EXTERNAL_ID service :: {}", cause.getMessage());
       throw new GradDataCollectionAPIRuntimeException(NATS_TIMEOUT + correlationID);
-    }
+    });
   }
 
   public void populateAssessmentSessionMap() {
-    val writeLock = this.assessmentSessionLock.writeLock();
-    try {
-      writeLock.lock();
-      this.sessionMap.clear();
-      List<Session> sessions = this.getAssessmentSessions();
-
-      for (val session : sessions) {
-        this.sessionMap.put(session.getSessionID(), session);
-      }
-    } catch (Exception ex) {
-      log.error("Unable to load map cache for Assessment session map {}", ex);
-      throw new GradDataCollectionAPIRuntimeException("Unable to load map cache for Assessment session map: " + ex.getMessage());
-    } finally {
-      writeLock.unlock();
-    }
-    log.info("Loaded  {} Assessment session map to memory", this.sessionMap.values().size());
+    this.loadSnapshot(this.sessionMap, "Assessment sessions", this::getAssessmentSessions, Session::getSessionID);
   }
 
   public Optional<Session> getAssessmentSessionByCourseMonthAndYear(String courseMonth, String courseYear) {
-    return sessionMap.values().stream().
+    return this.sessionMap.get().values().stream().
             filter(session -> Objects.equals(session.getCourseMonth(), courseMonth) && Objects.equals(session.getCourseYear(), courseYear)).findFirst();
   }
 
-  @Retryable(retryFor = {Exception.class}, noRetryFor = {SagaRuntimeException.class}, backoff = @Backoff(multiplier = 2, delay = 2000))
   public AssessmentStudentDetailResponse getAssessmentStudentDetail(UUID studentID, UUID assessmentID) {
-    try {
-      final TypeReference<AssessmentStudentDetailResponse> refPenMatchResult = new TypeReference<>() {
-      };
+    return await(this.getAssessmentStudentDetailAsync(studentID, assessmentID));
+  }
+
+  public CompletableFuture<AssessmentStudentDetailResponse> getAssessmentStudentDetailAsync(UUID studentID, UUID assessmentID) {
+    final TypeReference<AssessmentStudentDetailResponse> refPenMatchResult = new TypeReference<>() {
+    };
+    return this.<AssessmentStudentDetailResponse>requestAsync(TopicsEnum.STUDENT_ASSESSMENT_API_TOPIC, () -> {
       var assessmentStudent = new AssessmentStudentGet();
       assessmentStudent.setAssessmentID(assessmentID.toString());
       assessmentStudent.setStudentID(studentID.toString());
-      Object event = Event.builder().eventType(EventType.GET_STUDENT_ASSESSMENT_DETAILS).eventPayload(JsonUtil.getJsonStringFromObject(assessmentStudent)).build();
-      val responseMessage = this.messagePublisher.requestMessage(TopicsEnum.STUDENT_ASSESSMENT_API_TOPIC.toString(), JsonUtil.getJsonBytesFromObject(event)).completeOnTimeout(null, 120, TimeUnit.SECONDS).get();
-      if (responseMessage != null) {
-        return objectMapper.readValue(responseMessage.getData(), refPenMatchResult);
-      } else {
-        throw new GradDataCollectionAPIRuntimeException(NATS_TIMEOUT);
-      }
-
-    } catch (final Exception ex) {
-      log.error("Error occurred calling GET GET_STUDENT_ASSESSMENT_DETAILS service :: " + ex.getMessage());
-      Thread.currentThread().interrupt();
-      throw new GradDataCollectionAPIRuntimeException(NATS_TIMEOUT + ex.getMessage());
-    }
+      return Event.builder().eventType(EventType.GET_STUDENT_ASSESSMENT_DETAILS).eventPayload(JsonUtil.getJsonStringFromObject(assessmentStudent)).build();
+    }, this.readReply(refPenMatchResult), Set.of(SagaRuntimeException.class)).exceptionally(ex -> rethrowFailure("GET GET_STUDENT_ASSESSMENT_DETAILS", ex));
   }
 
-  @Retryable(retryFor = {Exception.class}, noRetryFor = {SagaRuntimeException.class}, backoff = @Backoff(multiplier = 2, delay = 2000))
   public EasEvent writeAssessmentStudentDetailInAssessmentService(AssessmentStudent student, String assessmentID, SchoolTombstone schoolTombstone, String gradeAtRegistration) {
-    try {
-      final TypeReference<EasEvent> eventResult = new TypeReference<>() {
-      };
-
-      var studFromAPI = getStudentByPEN(UUID.randomUUID(), student.getPen());
+    return await(this.writeAssessmentStudentDetailInAssessmentServiceAsync(student, assessmentID, schoolTombstone, gradeAtRegistration));
+  }
 
+  public CompletableFuture<EasEvent> writeAssessmentStudentDetailInAssessmentServiceAsync(AssessmentStudent student, String assessmentID, SchoolTombstone schoolTombstone, String gradeAtRegistration) {
+    final TypeReference<EasEvent> eventResult = new TypeReference<>() {
+    };
+    return this.getStudentByPENAsync(UUID.randomUUID(), student.getPen()).thenCompose(studFromAPI -> this.<EasEvent>writeAsync(TopicsEnum.STUDENT_ASSESSMENT_API_TOPIC, () -> {
       var assessmentStudent = new EASAssessmentStudent();
       assessmentStudent.setAssessmentStudentID(null);
       assessmentStudent.setAssessmentID(assessmentID);
@@ -1107,19 +982,8 @@ public class RestUtils {
 
       log.debug("Assessment Student Detail: " + assessmentStudent);
 
-      Object event = Event.builder().eventType(EventType.PROCESS_STUDENT_REGISTRATION).eventPayload(JsonUtil.getJsonStringFromObject(assessmentStudent)).build();
-      val responseMessage = this.messagePublisher.requestMessage(TopicsEnum.STUDENT_ASSESSMENT_API_TOPIC.toString(), JsonUtil.getJsonBytesFromObject(event)).completeOnTimeout(null, 120, TimeUnit.SECONDS).get();
-      if (responseMessage != null) {
-        return objectMapper.readValue(responseMessage.getData(), eventResult);
-      } else {
-        throw new GradDataCollectionAPIRuntimeException(NATS_TIMEOUT);
-      }
-
-    } catch (final Exception ex) {
-      log.error("Error occurred calling PROCESS_STUDENT_REGISTRATION service :: " + ex.getMessage());
-      Thread.currentThread().interrupt();
-      throw new GradDataCollectionAPIRuntimeException(NATS_TIMEOUT + ex.getMessage());
-    }
+      return Event.builder().eventType(EventType.PROCESS_STUDENT_REGISTRATION).eventPayload(JsonUtil.getJsonStringFromObject(assessmentStudent)).build();
+    }, this.readReply(eventResult), Set.of(SagaRuntimeException.class))).exceptionally(ex -> rethrowFailure("PROCESS_STUDENT_REGISTRATION", ex));
   }
 
   private List<Session> getAssessmentSessions() {
@@ -1141,11 +1005,14 @@ public class RestUtils {
     }
   }
 
-  @Retryable(retryFor = {Exception.class}, noRetryFor = {SagaRuntimeException.class}, backoff = @Backoff(multiplier = 2, delay = 2000))
   public GradStatusEvent writeDEMStudentRecordInGrad(DemographicStudent student, SchoolTombstone schoolTombstone, ReportingPeriodEntity reportingPeriod) {
-    try {
-      final TypeReference<GradStatusEvent> eventResult = new TypeReference<>() {
-      };
+    return await(this.writeDEMStudentRecordInGradAsync(student, schoolTombstone, reportingPeriod));
+  }
+
+  public CompletableFuture<GradStatusEvent> writeDEMStudentRecordInGradAsync(DemographicStudent student, SchoolTombstone schoolTombstone, ReportingPeriodEntity reportingPeriod) {
+    final TypeReference<GradStatusEvent> eventResult = new TypeReference<>() {
+    };
+    return this.<GradStatusEvent>writeAsync(TopicsEnum.GRAD_STUDENT_API_TOPIC, () -> {
       LocalDateTime now = LocalDateTime.now();
       var isSummer =  (now.isEqual(reportingPeriod.getSummerStart()) || now.isAfter(reportingPeriod.getSummerStart()))
               && (now.isEqual(reportingPeriod.getSummerEnd()) || now.isBefore(reportingPeriod.getSummerEnd()));
@@ -1179,26 +1046,18 @@ public class RestUtils {
 
       log.debug("DEM Student Detail:: {}", demStudent);
 
-      Object event = Event.builder().eventType(EventType.PROCESS_STUDENT_DEM_DATA).eventPayload(JsonUtil.getJsonStringFromObject(demStudent)).build();
-      val responseMessage = this.messagePublisher.requestMessage(TopicsEnum.GRAD_STUDENT_API_TOPIC.toString(), JsonUtil.getJsonBytesFromObject(event)).completeOnTimeout(null, 120, TimeUnit.SECONDS).get();
-      if (responseMessage != null) {
-        return objectMapper.readValue(responseMessage.getData(), eventResult);
-      } else {
-        throw new GradDataCollectionAPIRuntimeException(NATS_TIMEOUT);
-      }
-
-    } catch (final Exception ex) {
-      log.error("Error occurred calling PROCESS_STUDENT_DEM_DATA service :: {}", ex.getMessage());
-      Thread.currentThread().interrupt();
-      throw new GradDataCollectionAPIRuntimeException(NATS_TIMEOUT + ex.getMessage());
-    }
+      return Event.builder().eventType(EventType.PROCESS_STUDENT_DEM_DATA).eventPayload(JsonUtil.getJsonStringFromObject(demStudent)).build();
+    }, this.readReply(eventResult), Set.of(SagaRuntimeException.class)).exceptionally(ex -> rethrowFailure("PROCESS_STUDENT_DEM_DATA", ex));
   }
 
-  @Retryable(retryFor = {Exception.class}, noRetryFor = {SagaRuntimeException.class}, backoff = @Backoff(multiplier = 2, delay = 2000))
   public GradStatusEvent writeDEMStudentSchoolOfRecordAndStatusInGrad(DemographicStudent student, SchoolTombstone schoolTombstone) {
-    try {
-      final TypeReference<GradStatusEvent> eventResult = new TypeReference<>() {
-      };
+    return await(this.writeDEMStudentSchoolOfRecordAndStatusInGradAsync(student, schoolTombstone));
+  }
+
+  public CompletableFuture<GradStatusEvent> writeDEMStudentSchoolOfRecordAndStatusInGradAsync(DemographicStudent student, SchoolTombstone schoolTombstone) {
+    final TypeReference<GradStatusEvent> eventResult = new TypeReference<>() {
+    };
+    return this.<GradStatusEvent>writeAsync(TopicsEnum.GRAD_STUDENT_API_TOPIC, () -> {
       var demStudent = new DemStudentSchoolOfRecordAndStatus();
       demStudent.setSchoolOfRecordID(schoolTombstone.getSchoolId());
       demStudent.setStatus(student.getStudentStatus());
@@ -1208,27 +1067,18 @@ public class RestUtils {
 
       log.debug("DEM Student SOR and status Detail:: {}", demStudent);
 
-      Object event = Event.builder().eventType(EventType.UPDATE_STUDENT_SCHOOL_OF_RECORD_AND_STATUS).eventPayload(JsonUtil.getJsonStringFromObject(demStudent)).build();
-      val responseMessage = this.messagePublisher.requestMessage(TopicsEnum.GRAD_STUDENT_API_TOPIC.toString(), JsonUtil.getJsonBytesFromObject(event)).completeOnTimeout(null, 120, TimeUnit.SECONDS).get();
-      if (responseMessage != null) {
-        return objectMapper.readValue(responseMessage.getData(), eventResult);
-      } else {
-        throw new GradDataCollectionAPIRuntimeException(NATS_TIMEOUT);
-      }
-
-    } catch (final Exception ex) {
-      log.error("Error occurred calling UPDATE_STUDENT_SCHOOL_OF_RECORD_AND_STATUS service :: {}", ex.getMessage());
-      Thread.currentThread().interrupt();
-      throw new GradDataCollectionAPIRuntimeException(NATS_TIMEOUT + ex.getMessage());
-    }
+      return Event.builder().eventType(EventType.UPDATE_STUDENT_SCHOOL_OF_RECORD_AND_STATUS).eventPayload(JsonUtil.getJsonStringFromObject(demStudent)).build();
+    }, this.readReply(eventResult), Set.of(SagaRuntimeException.class)).exceptionally(ex -> rethrowFailure("UPDATE_STUDENT_SCHOOL_OF_RECORD_AND_STATUS", ex));
   }
 
-  @Retryable(retryFor = {Exception.class}, noRetryFor = {SagaRuntimeException.class}, backoff = @Backoff(multiplier = 2, delay = 2000))
   public Event writeStudentAddressToScholarships(DemographicStudent student, String studentID) {
-    try {
-      final TypeReference<Event> eventResult = new TypeReference<>() {
-      };
+    return await(this.writeStudentAddressToScholarshipsAsync(student, studentID));
+  }
 
+  public CompletableFuture<Event> writeStudentAddressToScholarshipsAsync(DemographicStudent student, String studentID) {
+    final TypeReference<Event> eventResult = new TypeReference<>() {
+    };
+    return this.<Event>writeAsync(TopicsEnum.SCHOLARSHIPS_API_TOPIC, () -> {
       StudentAddress address = new StudentAddress();
       address.setStudentID(studentID);
       address.setAddressLine1(student.getAddressLine1());
@@ -1239,30 +1089,21 @@ public class RestUtils {
       address.setCountryCode(student.getCountryCode());
       address.setCreateUser(student.getCreateUser());
       address.setUpdateUser(student.getUpdateUser());
-      
-      log.debug("DEM address detail:: {}", address);
 
-      Object event = Event.builder().eventType(EventType.UPDATE_STUDENT_SCHOLARSHIPS_ADDRESS).eventPayload(JsonUtil.getJsonStringFromObject(address)).build();
-      val responseMessage = this.messagePublisher.requestMessage(TopicsEnum.SCHOLARSHIPS_API_TOPIC.toString(), JsonUtil.getJsonBytesFromObject(event)).completeOnTimeout(null, 120, TimeUnit.SECONDS).get();
-      if (responseMessage != null) {
-        return objectMapper.readValue(responseMessage.getData(), eventResult);
-      } else {
-        throw new GradDataCollectionAPIRuntimeException(NATS_TIMEOUT);
-      }
+      log.debug("DEM address detail:: {}", address);
 
-    } catch (final Exception ex) {
-      log.error("Error occurred calling UPDATE_STUDENT_SCHOLARSHIPS_ADDRESS service :: {}", ex.getMessage());
-      Thread.currentThread().interrupt();
-      throw new GradDataCollectionAPIRuntimeException(NATS_TIMEOUT + ex.getMessage());
-    }
+      return Event.builder().eventType(EventType.UPDATE_STUDENT_SCHOLARSHIPS_ADDRESS).eventPayload(JsonUtil.getJsonStringFromObject(address)).build();
+    }, this.readReply(eventResult), Set.of(SagaRuntimeException.class)).exceptionally(ex -> rethrowFailure("UPDATE_STUDENT_SCHOLARSHIPS_ADDRESS", ex));
   }
-  
-  @Retryable(retryFor = {Exception.class}, noRetryFor = {SagaRuntimeException.class}, backoff = @Backoff(multiplier = 2, delay = 2000))
+
   public GradStatusEvent writeCRSStudentRecordInGrad(List<CourseStudentEntity> courseStudentEntities, String pen, String schoolID, ReportingPeriodEntity reportingPeriod) {
-    try {
-      final TypeReference<GradStatusEvent> eventResult = new TypeReference<>() {
-      };
+    return await(this.writeCRSStudentRecordInGradAsync(courseStudentEntities, pen, schoolID, reportingPeriod));
+  }
 
+  public CompletableFuture<GradStatusEvent> writeCRSStudentRecordInGradAsync(List<CourseStudentEntity> courseStudentEntities, String pen, String schoolID, ReportingPeriodEntity reportingPeriod) {
+    final TypeReference<GradStatusEvent> eventResult = new TypeReference<>() {
+    };
+    return this.<GradStatusEvent>writeAsync(TopicsEnum.GRAD_STUDENT_API_TOPIC, () -> {
       List<GradCourseStudentDetail> studentList = new ArrayList<>();
       var student = new GradCourseStudent();
 
@@ -1302,19 +1143,66 @@ public class RestUtils {
       });
       student.getStudentDetails().addAll(studentList);
 
-      Object event = Event.builder().eventType(EventType.PROCESS_STUDENT_COURSE_DATA).eventPayload(
+      return Event.builder().eventType(EventType.PROCESS_STUDENT_COURSE_DATA).eventPayload(
               this.objectMapper.writeValueAsString(student)).build();
-      val responseMessage = this.messagePublisher.requestMessage(TopicsEnum.GRAD_STUDENT_API_TOPIC.toString(), JsonUtil.getJsonBytesFromObject(event)).completeOnTimeout(null, 120, TimeUnit.SECONDS).get();
-      if (responseMessage != null) {
-        return objectMapper.readValue(responseMessage.getData(), eventResult);
-      } else {
+    }, this.readReply(eventResult), Set.of(SagaRuntimeException.class)).exceptionally(ex -> rethrowFailure("PROCESS_STUDENT_COURSE_DATA", ex));
+  }
+
+  /**
+   * Sends a read event through the {@link NatsRequestExecutor}. Building the event is part of the call, so a failure
+   * there completes the returned future the same way a failed request does.
+   */
+  private <T> CompletableFuture<T> requestAsync(final TopicsEnum topic, final Callable<Object> event, final NatsRequestExecutor.ReplyParser<T> parser, final Set<Class<? extends Throwable>> noRetryFor) {
+    return this.sendAsync(topic, event, parser, noRetryFor, false);
+  }
+
+  /**
+   * Sends a write event, which is not sent again once it went out. A write that fails here leaves its saga step to
+   * the saga replay.
+   */
+  private <T> CompletableFuture<T> writeAsync(final TopicsEnum topic, final Callable<Object> event, final NatsRequestExecutor.ReplyParser<T> parser, final Set<Class<? extends Throwable>> noRetryFor) {
+    return this.sendAsync(topic, event, parser, noRetryFor, true);
+  }
+
+  private <T> CompletableFuture<T> sendAsync(final TopicsEnum topic, final Callable<Object> event, final NatsRequestExecutor.ReplyParser<T> parser, final Set<Class<? extends Throwable>> noRetryFor, final boolean write) {
+    final byte[] payload;
+    try {
+      payload = JsonUtil.getJsonBytesFromObject(event.call());
+    } catch (final Exception ex) {
+      return CompletableFuture.failedFuture(ex);
+    }
+    if (write) {
+      return this.natsRequestExecutor.requestWrite(topic.toString(), payload, parser, noRetryFor);
+    }
+    return this.natsRequestExecutor.request(topic.toString(), payload, parser, noRetryFor);
+  }
+
+  private <T> NatsRequestExecutor.ReplyParser<T> readReply(final TypeReference<T> type) {
+    return responseMessage -> {
+      if (responseMessage == null) {
         throw new GradDataCollectionAPIRuntimeException(NATS_TIMEOUT);
       }
+      return this.objectMapper.readValue(responseMessage.getData(), type);
+    };
+  }
 
-    } catch (final Exception ex) {
-      log.error("Error occurred calling PROCESS_STUDENT_COURSE_DATA service :: {}", ex.getMessage());
-      Thread.currentThread().interrupt();
-      throw new GradDataCollectionAPIRuntimeException(NATS_TIMEOUT + ex.getMessage());
+  private static <T> T rethrowFailure(final String service, final Throwable ex) {
+    final Throwable cause = NatsRequestExecutor.unwrap(ex);
+    log.error("Error occurred calling {} service :: {}", service, cause.getMessage());
+    throw new GradDataCollectionAPIRuntimeException(NATS_TIMEOUT + cause.getMessage());
+  }
+
+  /**
+   * Waits for one of the async calls, rethrowing the exception it failed with.
+   */
+  private static <T> T await(final CompletableFuture<T> future) {
+    try {
+      return future.join();
+    } catch (final CompletionException ex) {
+      if (NatsRequestExecutor.unwrap(ex) instanceof RuntimeException runtimeException) {
+        throw runtimeException;
+      }
+      throw ex;
     }
   }
 
@@ -0,0 +1,162 @@
+package ca.bc.gov.educ.graddatacollection.api.rest;
+
+import ca.bc.gov.educ.graddatacollection.api.exception.EntityNotFoundException;
+import ca.bc.gov.educ.graddatacollection.api.exception.GradDataCollectionAPIRuntimeException;
+import ca.bc.gov.educ.graddatacollection.api.properties.ApplicationProperties;
+import ca.bc.gov.educ.graddatacollection.api.struct.external.studentapi.v1.Student;
+import ca.bc.gov.educ.graddatacollection.api.util.ThreadFactoryBuilder;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.util.*;
+import java.util.concurrent.*;
+
+/**
+ * Coalesces concurrent Student API lookups by PEN.
+ * <p>
+ * Callers asking for the same PEN while a lookup is in flight share one future. Distinct PENs requested within
+ * the configured wait window are sent to the Student API as a single multi-PEN request, flushed early once the
+ * configured batch size is reached. A wait time of zero disables the window and dispatches on the calling thread.
+ * When a multi-PEN request fails its PENs are looked up one by one on virtual threads, so the flush threads stay free
+ * for the next batches. Every future of a batch is completed, exceptionally if need be, whatever the batch throws.
+ */
+@Component
+@Slf4j
+public class StudentPenLookupBatcher {
+  private final RestUtils restUtils;
+  private final int maxBatchSize;
+  private final long maxWaitMillis;
+  private final Map<String, CompletableFuture<Student>> inFlight = new ConcurrentHashMap<>();
+  private final List<String> pending = new ArrayList<>();
+  private final Object lock = new Object();
+  private final ScheduledExecutorService flushExecutor;
+  private final ExecutorService fallbackExecutor = Executors.newVirtualThreadPerTaskExecutor();
+  private ScheduledFuture<?> scheduledFlush;
+
+  public StudentPenLookupBatcher(final RestUtils restUtils, final ApplicationProperties props) {
+    this.restUtils = restUtils;
+    this.maxBatchSize = Math.max(1, props.getStudentPenLookupBatchSize());
+    this.maxWaitMillis = Math.max(0, props.getStudentPenLookupBatchWaitMs());
+    this.flushExecutor = Executors.newScheduledThreadPool(2, new ThreadFactoryBuilder().withNameFormat("pen-lookup-batch-%d").withDaemon(true).get());
+  }
+
+  /**
+   * Same contract as {@link RestUtils#getStudentByPEN(UUID, String)}: returns the student or throws
+   * {@link EntityNotFoundException} when the PEN is unknown to the Student API.
+   */
+  public Student getStudentByPEN(String pen) {
+    CompletableFuture<Student> future;
+    List<String> batchToSend = null;
+    synchronized (lock) {
+      future = inFlight.get(pen);
+      if (future == null) {
+        future = new CompletableFuture<>();
+        inFlight.put(pen, future);
+        pending.add(pen);
+        if (maxWaitMillis == 0 || pending.size() >= maxBatchSize) {
+          batchToSend = drainPending();
+        } else if (scheduledFlush == null) {
+          scheduledFlush = flushExecutor.schedule(this::flushPending, maxWaitMillis, TimeUnit.MILLISECONDS);
+        }
+      } else {
+        log.debug("Joining in-flight Student API lookup for PEN: {}", pen);
+      }
+    }
+    if (batchToSend != null) {
+      sendBatch(batchToSend);
+    }
+    return await(future);
+  }
+
+  private void flushPending() {
+    List<String> batchToSend;
+    synchronized (lock) {
+      batchToSend = drainPending();
+    }
+    if (!batchToSend.isEmpty()) {
+      sendBatch(batchToSend);
+    }
+  }
+
+  private List<String> drainPending() {
+    List<String> batch = new ArrayList<>(pending);
+    pending.clear();
+    if (scheduledFlush != null) {
+      scheduledFlush.cancel(false);
+      scheduledFlush = null;
+    }
+    return batch;
+  }
+
+  private void sendBatch(List<String> pens) {
+    try {
+      if (pens.size() == 1) {
+        sendSingle(pens.getFirst());
+        return;
+      }
+      log.debug("Sending batched Student API lookup for {} PENs", pens.size());
+      Map<String, Student> studentsByPEN;
+      try {
+        studentsByPEN = restUtils.getStudentsByPENs(UUID.randomUUID(), pens);
+      } catch (Exception e) {
+        log.warn("Batched Student API lookup for {} PENs failed, falling back to single lookups :: {}", pens.size(), e.getMessage());
+        pens.forEach(pen -> fallbackExecutor.execute(() -> sendSingle(pen)));
+        return;
+      }
+      pens.forEach(pen -> {
+        Student student = studentsByPEN.get(pen);
+        if (student != null) {
+          complete(pen, student, null);
+        } else {
+          complete(pen, null, new EntityNotFoundException(Student.class));
+        }
+      });
+    } catch (Throwable t) {
+      pens.forEach(pen -> complete(pen, null, t));
+      if (t instanceof Error error) {
+        throw error;
+      }
+    }
+  }
+
+  private void sendSingle(String pen) {
+    try {
+      complete(pen, restUtils.getStudentByPEN(UUID.randomUUID(), pen), null);
+    } catch (Throwable t) {
+      complete(pen, null, t);
+    }
+  }
+
+  private void complete(String pen, Student student, Throwable failure) {
+    CompletableFuture<Student> future = inFlight.remove(pen);
+    if (future == null) {
+      return;
+    }
+    if (failure != null) {
+      future.completeExceptionally(failure);
+    } else {
+      future.complete(student);
+    }
+  }
+
+  private Student await(CompletableFuture<Student> future) {
+    try {
+      return future.get();
+    } catch (ExecutionException e) {
+      if (e.getCause() instanceof RuntimeException runtimeException) {
+        throw runtimeException;
+      }
+      throw new GradDataCollectionAPIRuntimeException(e.getMessage());
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new GradDataCollectionAPIRuntimeException(e.getMessage());
+    }
+  }
+
+  @PreDestroy
+  public void shutdown() {
+    flushExecutor.shutdownNow();
+    fallbackExecutor.shutdownNow();
+  }
+}
@@ -0,0 +1,131 @@
+package ca.bc.gov.educ.graddatacollection.api.rules;
+
+import ca.bc.gov.educ.graddatacollection.api.struct.v1.BaseStudentValidationIssue;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Immutable, compiled form of a rules dependency matrix.
+ * <p>
+ * Every validation issue code of a rule set is given a bit, and every rule ID is compiled into a bitmask of the
+ * issue codes that block it. Checking whether a rule may run is then a bitwise AND between that mask and the codes
+ * already raised for the record, instead of a scan of the matrix plus string comparisons against every issue.
+ * <p>
+ * Rules do not declare which codes they raise, so the execution order is checked against the declared
+ * dependencies while records are validated: raising a code that blocks a rule which has already been evaluated
+ * means that rule is ordered before one of its dependencies, and is reported once per rule set and code.
+ */
+@Slf4j
+public final class RuleDependencyGraph {
+  @Getter
+  private final String name;
+  private final int wordCount;
+  private final Map<String, Integer> issueCodeBits;
+  private final Map<String, long[]> blockingMasksByRuleID;
+  private final Set<String> reportedOrderViolations = ConcurrentHashMap.newKeySet();
+
+  private RuleDependencyGraph(String name, Map<String, Integer> issueCodeBits, Map<String, long[]> blockingMasksByRuleID) {
+    this.name = name;
+    this.wordCount = Math.max(1, (issueCodeBits.size() + 63) >>> 6);
+    this.issueCodeBits = issueCodeBits;
+    this.blockingMasksByRuleID = blockingMasksByRuleID;
+  }
+
+  /**
+   * @param name                  the rule set name, used in log messages
+   * @param issueCodes            every issue code the rule set can raise
+   * @param blockingCodesByRuleID the dependency matrix, rule ID to the issue codes that prevent it from running
+   * @throws IllegalStateException if the matrix repeats a rule ID or references an unknown issue code
+   */
+  public static RuleDependencyGraph compile(String name, Collection<String> issueCodes, Map<String, String[]> blockingCodesByRuleID) {
+    Map<String, Integer> issueCodeBits = new HashMap<>();
+    for (String issueCode : issueCodes) {
+      issueCodeBits.putIfAbsent(issueCode, issueCodeBits.size());
+    }
+    int wordCount = Math.max(1, (issueCodeBits.size() + 63) >>> 6);
+
+    Map<String, long[]> blockingMasksByRuleID = new HashMap<>();
+    blockingCodesByRuleID.forEach((ruleID, blockingCodes) -> {
+      long[] mask = new long[wordCount];
+      for (String blockingCode : blockingCodes) {
+        Integer bit = issueCodeBits.get(blockingCode);
+        if (bit == null) {
+          throw new IllegalStateException("Rule " + ruleID + " in the " + name + " dependency matrix is blocked by unknown issue code " + blockingCode);
+        }
+        mask[bit >>> 6] |= 1L << bit;
+      }
+      if (blockingMasksByRuleID.put(ruleID.toUpperCase(), mask) != null) {
+        throw new IllegalStateException("Rule " + ruleID + " is declared more than once in the " + name + " dependency matrix");
+      }
+    });
+    log.info("Compiled {} rules dependency matrix :: {} rules, {} issue codes", name, blockingMasksByRuleID.size(), issueCodeBits.size());
+    return new RuleDependencyGraph(name, Map.copyOf(issueCodeBits), Map.copyOf(blockingMasksByRuleID));
+  }
+
+  public <T extends BaseStudentValidationIssue> ValidationIssueList<T> newIssueList() {
+    return new ValidationIssueList<>(this);
+  }
+
+  /**
+   * Same contract as the matrix lookups this replaces: false when the rule has no matrix entry, otherwise true when
+   * none of the issues raised so far block the rule.
+   */
+  public boolean isDependencyResolved(String ruleID, List<? extends BaseStudentValidationIssue> validationErrors) {
+    String normalizedRuleID = ruleID.toUpperCase();
+    long[] mask = blockingMasksByRuleID.get(normalizedRuleID);
+    if (mask == null) {
+      return false;
+    }
+    if (validationErrors instanceof ValidationIssueList<?> issueList && issueList.getGraph() == this) {
+      issueList.markEvaluated(normalizedRuleID, mask);
+      return !intersects(mask, issueList.getRaisedCodes());
+    }
+    long[] raisedCodes = new long[wordCount];
+    validationErrors.forEach(issue -> setBit(raisedCodes, issue.getValidationIssueCode()));
+    return !intersects(mask, raisedCodes);
+  }
+
+  /**
+   * Whether the issues raised so far block the rule. Unlike {@link #isDependencyResolved} this does not count as an
+   * evaluation of the rule, so it can be asked ahead of the rule's turn. Rules only ever add issues, so a rule blocked
+   * here stays blocked for the rest of the record.
+   */
+  public boolean isBlocked(String ruleID, ValidationIssueList<?> validationErrors) {
+    long[] mask = blockingMasksByRuleID.get(ruleID.toUpperCase());
+    return mask != null && intersects(mask, validationErrors.getRaisedCodes());
+  }
+
+  int getWordCount() {
+    return wordCount;
+  }
+
+  void setBit(long[] bits, String issueCode) {
+    Integer bit = issueCode == null ? null : issueCodeBits.get(issueCode);
+    if (bit != null) {
+      bits[bit >>> 6] |= 1L << bit;
+    }
+  }
+
+  boolean isSet(long[] bits, String issueCode) {
+    Integer bit = issueCode == null ? null : issueCodeBits.get(issueCode);
+    return bit != null && (bits[bit >>> 6] & (1L << bit)) != 0;
+  }
+
+  void reportOrderViolation(String issueCode) {
+    if (reportedOrderViolations.add(issueCode)) {
+      log.error("Issue code {} was raised after a {} rule that depends on it had already been evaluated; check the rule order against the dependency matrix", issueCode, name);
+    }
+  }
+
+  private static boolean intersects(long[] mask, long[] bits) {
+    for (int i = 0; i < mask.length; i++) {
+      if ((mask[i] & bits[i]) != 0) {
+        return true;
+      }
+    }
+    return false;
+  }
+}
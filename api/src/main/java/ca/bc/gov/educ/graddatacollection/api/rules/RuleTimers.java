@@ -0,0 +1,34 @@
+package ca.bc.gov.educ.graddatacollection.api.rules;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.util.ClassUtils;
+
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Supplier;
+
+/**
+ * One {@code gdc.rule.execution} timer per rule of a rule set, registered up front so that timing a rule is a map
+ * lookup. When the timers are disabled no meters are registered and the rules run untimed.
+ */
+public class RuleTimers<R> {
+  public static final String RULE_EXECUTION = "gdc.rule.execution";
+
+  private final Map<R, Timer> timers = new IdentityHashMap<>();
+
+  public RuleTimers(final String ruleSet, final List<R> rules, final MeterRegistry meterRegistry, final boolean enabled) {
+    if (enabled) {
+      rules.forEach(rule -> this.timers.put(rule, Timer.builder(RULE_EXECUTION)
+        .tag("ruleset", ruleSet)
+        .tag("rule", ClassUtils.getUserClass(rule).getSimpleName())
+        .register(meterRegistry)));
+    }
+  }
+
+  public <T> T record(final R rule, final Supplier<T> execution) {
+    final Timer timer = this.timers.get(rule);
+    return timer == null ? execution.get() : timer.record(execution);
+  }
+}
@@ -0,0 +1,133 @@
+package ca.bc.gov.educ.graddatacollection.api.rules;
+
+import ca.bc.gov.educ.graddatacollection.api.struct.v1.BaseStudentValidationIssue;
+import lombok.AccessLevel;
+import lombok.Getter;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.function.Predicate;
+
+/**
+ * Issue list handed to the rules of one record. Alongside the issues it keeps the bitset of raised issue codes that
+ * {@link RuleDependencyGraph} checks dependencies against, the union of the blocking masks evaluated so far and the
+ * rule ID of the last dependency check, which the rules processors use to tell when the first rule that reads remote
+ * data is about to run.
+ */
+public class ValidationIssueList<T extends BaseStudentValidationIssue> extends ArrayList<T> {
+  @Getter(AccessLevel.PACKAGE)
+  private final transient RuleDependencyGraph graph;
+  @Getter(AccessLevel.PACKAGE)
+  private final long[] raisedCodes;
+  private final long[] evaluatedMasks;
+  private String lastEvaluatedRuleID;
+
+  ValidationIssueList(RuleDependencyGraph graph) {
+    this.graph = graph;
+    this.raisedCodes = new long[graph.getWordCount()];
+    this.evaluatedMasks = new long[graph.getWordCount()];
+  }
+
+  @Override
+  public boolean add(T issue) {
+    markRaised(issue);
+    return super.add(issue);
+  }
+
+  @Override
+  public void add(int index, T issue) {
+    markRaised(issue);
+    super.add(index, issue);
+  }
+
+  @Override
+  public boolean addAll(Collection<? extends T> issues) {
+    issues.forEach(this::markRaised);
+    return super.addAll(issues);
+  }
+
+  @Override
+  public boolean addAll(int index, Collection<? extends T> issues) {
+    issues.forEach(this::markRaised);
+    return super.addAll(index, issues);
+  }
+
+  @Override
+  public T set(int index, T issue) {
+    T previous = super.set(index, issue);
+    rebuildRaisedCodes();
+    return previous;
+  }
+
+  @Override
+  public T remove(int index) {
+    T removed = super.remove(index);
+    rebuildRaisedCodes();
+    return removed;
+  }
+
+  @Override
+  public boolean remove(Object issue) {
+    boolean removed = super.remove(issue);
+    rebuildRaisedCodes();
+    return removed;
+  }
+
+  @Override
+  public boolean removeAll(Collection<?> issues) {
+    boolean removed = super.removeAll(issues);
+    rebuildRaisedCodes();
+    return removed;
+  }
+
+  @Override
+  public boolean retainAll(Collection<?> issues) {
+    boolean removed = super.retainAll(issues);
+    rebuildRaisedCodes();
+    return removed;
+  }
+
+  @Override
+  public boolean removeIf(Predicate<? super T> filter) {
+    boolean removed = super.removeIf(filter);
+    rebuildRaisedCodes();
+    return removed;
+  }
+
+  @Override
+  public void clear() {
+    super.clear();
+    rebuildRaisedCodes();
+  }
+
+  /**
+   * Returns the rule ID of the last dependency check made against this list since the previous call, or null when
+   * the rule just evaluated did not check the dependency matrix.
+   */
+  public String pollEvaluatedRuleID() {
+    String ruleID = lastEvaluatedRuleID;
+    lastEvaluatedRuleID = null;
+    return ruleID;
+  }
+
+  void markEvaluated(String ruleID, long[] blockingMask) {
+    for (int i = 0; i < blockingMask.length; i++) {
+      evaluatedMasks[i] |= blockingMask[i];
+    }
+    lastEvaluatedRuleID = ruleID;
+  }
+
+  private void markRaised(T issue) {
+    String issueCode = issue.getValidationIssueCode();
+    if (graph.isSet(evaluatedMasks, issueCode)) {
+      graph.reportOrderViolation(issueCode);
+    }
+    graph.setBit(raisedCodes, issueCode);
+  }
+
+  private void rebuildRaisedCodes() {
+    Arrays.fill(raisedCodes, 0L);
+    forEach(issue -> graph.setBit(raisedCodes, issue.getValidationIssueCode()));
+  }
+}
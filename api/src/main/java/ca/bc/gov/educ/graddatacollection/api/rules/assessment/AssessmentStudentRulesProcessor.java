@@ -1,32 +1,51 @@
 package ca.bc.gov.educ.graddatacollection.api.rules.assessment;
 
+import ca.bc.gov.educ.graddatacollection.api.properties.ApplicationProperties;
+import ca.bc.gov.educ.graddatacollection.api.rules.RuleTimers;
+import ca.bc.gov.educ.graddatacollection.api.rules.ValidationIssueList;
+import ca.bc.gov.educ.graddatacollection.api.service.v1.AssessmentRulesService;
 import ca.bc.gov.educ.graddatacollection.api.struct.v1.AssessmentStudentValidationIssue;
 import ca.bc.gov.educ.graddatacollection.api.struct.v1.StudentRuleData;
+import io.micrometer.core.instrument.MeterRegistry;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Component;
 
-import java.util.ArrayList;
 import java.util.List;
 
 @Slf4j
 @Component
 public class AssessmentStudentRulesProcessor {
   private final List<AssessmentValidationBaseRule> rules;
+  private final AssessmentRulesService assessmentRulesService;
+  private final ApplicationProperties props;
+  private final RuleTimers<AssessmentValidationBaseRule> ruleTimers;
 
   @Autowired
-  public AssessmentStudentRulesProcessor(final List<AssessmentValidationBaseRule> rules) {
+  public AssessmentStudentRulesProcessor(final List<AssessmentValidationBaseRule> rules, final AssessmentRulesService assessmentRulesService, final ApplicationProperties props, final MeterRegistry meterRegistry) {
     this.rules = rules;
+    this.assessmentRulesService = assessmentRulesService;
+    this.props = props;
+    this.ruleTimers = new RuleTimers<>("ASSESSMENT", rules, meterRegistry, Boolean.TRUE.equals(props.getRuleTimersEnabled()));
+    log.debug("Loaded {} assessment rules against the {} dependency matrix", rules.size(), AssessmentValidationRulesDependencyMatrix.getDependencyGraph().getName());
   }
 
   public List<AssessmentStudentValidationIssue> processRules(StudentRuleData ruleStudent) {
-    final List<AssessmentStudentValidationIssue> validationErrorsMap = new ArrayList<>();
+    final ValidationIssueList<AssessmentStudentValidationIssue> validationErrorsMap = AssessmentValidationRulesDependencyMatrix.getDependencyGraph().newIssueList();
     log.debug("Starting validations check for student :: {} with data :: {}", ruleStudent.getAssessmentStudentEntity().getAssessmentStudentID(), ruleStudent);
-    rules.forEach(rule -> {
-      if(rule.shouldExecute(ruleStudent, validationErrorsMap)) {
-        validationErrorsMap.addAll(rule.executeValidation(ruleStudent));
+    boolean prefetchPending = Boolean.TRUE.equals(props.getRulesConcurrentLookupsEnabled());
+    for (var rule : rules) {
+      boolean shouldExecute = rule.shouldExecute(ruleStudent, validationErrorsMap);
+      String ruleID = validationErrorsMap.pollEvaluatedRuleID();
+      if (!shouldExecute) {
+        continue;
       }
-    });
+      if (prefetchPending && AssessmentValidationRulesDependencyMatrix.readsRemoteData(ruleID)) {
+        prefetchPending = false;
+        this.assessmentRulesService.prefetchRemoteData(ruleStudent, ruleStudent.getAssessmentStudentEntity().getPen(), AssessmentValidationRulesDependencyMatrix.findUnblockedRemoteLookups(validationErrorsMap));
+      }
+      validationErrorsMap.addAll(ruleTimers.record(rule, () -> rule.executeValidation(ruleStudent)));
+    }
     return validationErrorsMap;
   }
 }
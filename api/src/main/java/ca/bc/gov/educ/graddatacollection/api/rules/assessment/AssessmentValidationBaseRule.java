@@ -6,9 +6,7 @@ import ca.bc.gov.educ.graddatacollection.api.rules.StudentValidationIssueSeverit
 import ca.bc.gov.educ.graddatacollection.api.struct.v1.AssessmentStudentValidationIssue;
 import ca.bc.gov.educ.graddatacollection.api.struct.v1.StudentRuleData;
 
-import java.util.Arrays;
 import java.util.List;
-import java.util.Optional;
 
 public interface AssessmentValidationBaseRule extends Rule<StudentRuleData, AssessmentStudentValidationIssue> {
 
@@ -22,11 +20,6 @@ public interface AssessmentValidationBaseRule extends Rule<StudentRuleData, Asse
   }
 
   default boolean isValidationDependencyResolved(String fieldName, List<AssessmentStudentValidationIssue> validationErrorsMap) {
-    Optional<AssessmentValidationRulesDependencyMatrix> errorCodesToCheck = AssessmentValidationRulesDependencyMatrix.findByValue(fieldName);
-    if(errorCodesToCheck.isPresent()) {
-      String[] errorCodes = errorCodesToCheck.get().getBaseRuleErrorCode();
-      return validationErrorsMap.stream().noneMatch(val -> Arrays.stream(errorCodes).anyMatch(val.getValidationIssueCode()::contentEquals));
-    }
-    return false;
+    return AssessmentValidationRulesDependencyMatrix.getDependencyGraph().isDependencyResolved(fieldName, validationErrorsMap);
   }
 }
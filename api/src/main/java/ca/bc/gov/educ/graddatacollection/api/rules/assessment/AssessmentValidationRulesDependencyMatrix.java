@@ -1,35 +1,76 @@
 package ca.bc.gov.educ.graddatacollection.api.rules.assessment;
 
+import ca.bc.gov.educ.graddatacollection.api.rules.RuleDependencyGraph;
+import ca.bc.gov.educ.graddatacollection.api.rules.ValidationIssueList;
+import ca.bc.gov.educ.graddatacollection.api.service.v1.BaseRulesService.RemoteLookup;
 import lombok.Getter;
 
 import java.util.Arrays;
+import java.util.EnumSet;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 @Getter
 public enum AssessmentValidationRulesDependencyMatrix {
-    ENTRY1("V02", new String[]{AssessmentStudentValidationIssueTypeCode.DEM_DATA_MISSING.getCode()}),
+    ENTRY1("V02", new String[]{AssessmentStudentValidationIssueTypeCode.DEM_DATA_MISSING.getCode()}, RemoteLookup.STUDENT_API_STUDENT),
     ENTRY2("V03", new String[]{AssessmentStudentValidationIssueTypeCode.DEM_DATA_MISSING.getCode(), AssessmentStudentValidationIssueTypeCode.DEM_ISSUE.getCode(), AssessmentStudentValidationIssueTypeCode.ERROR_IN_DEM_FILE.getCode()}),
     ENTRY13("V14", new String[]{AssessmentStudentValidationIssueTypeCode.DEM_DATA_MISSING.getCode(), AssessmentStudentValidationIssueTypeCode.DEM_ISSUE.getCode(), AssessmentStudentValidationIssueTypeCode.ERROR_IN_DEM_FILE.getCode(), AssessmentStudentValidationIssueTypeCode.COURSE_SESSION_INVALID_YEAR.getCode(), AssessmentStudentValidationIssueTypeCode.COURSE_SESSION_INVALID_MONTH.getCode(), AssessmentStudentValidationIssueTypeCode.COURSE_SESSION_INVALID.getCode(), AssessmentStudentValidationIssueTypeCode.COURSE_SESSION_DATE_NOT_UNAPPROVED_SESSION.getCode(), AssessmentStudentValidationIssueTypeCode.COURSE_STATUS_INVALID.getCode()}),
     ENTRY14("V15", new String[]{AssessmentStudentValidationIssueTypeCode.DEM_DATA_MISSING.getCode(), AssessmentStudentValidationIssueTypeCode.DEM_ISSUE.getCode(), AssessmentStudentValidationIssueTypeCode.ERROR_IN_DEM_FILE.getCode(), AssessmentStudentValidationIssueTypeCode.COURSE_SESSION_INVALID_YEAR.getCode(), AssessmentStudentValidationIssueTypeCode.COURSE_SESSION_INVALID_MONTH.getCode(), AssessmentStudentValidationIssueTypeCode.COURSE_SESSION_INVALID.getCode(), AssessmentStudentValidationIssueTypeCode.COURSE_SESSION_DATE_NOT_UNAPPROVED_SESSION.getCode(), AssessmentStudentValidationIssueTypeCode.COURSE_STATUS_INVALID.getCode()}),
     ENTRY15("V16", new String[]{AssessmentStudentValidationIssueTypeCode.DEM_DATA_MISSING.getCode(), AssessmentStudentValidationIssueTypeCode.DEM_ISSUE.getCode(), AssessmentStudentValidationIssueTypeCode.ERROR_IN_DEM_FILE.getCode(), AssessmentStudentValidationIssueTypeCode.COURSE_SESSION_INVALID_YEAR.getCode(), AssessmentStudentValidationIssueTypeCode.COURSE_SESSION_INVALID_MONTH.getCode(), AssessmentStudentValidationIssueTypeCode.COURSE_SESSION_INVALID.getCode(), AssessmentStudentValidationIssueTypeCode.COURSE_SESSION_DATE_NOT_UNAPPROVED_SESSION.getCode(), AssessmentStudentValidationIssueTypeCode.COURSE_STATUS_INVALID.getCode()}),
     ENTRY16("V17", new String[]{AssessmentStudentValidationIssueTypeCode.DEM_DATA_MISSING.getCode(), AssessmentStudentValidationIssueTypeCode.DEM_ISSUE.getCode(), AssessmentStudentValidationIssueTypeCode.ERROR_IN_DEM_FILE.getCode(), AssessmentStudentValidationIssueTypeCode.COURSE_SESSION_INVALID_YEAR.getCode(), AssessmentStudentValidationIssueTypeCode.COURSE_SESSION_INVALID_MONTH.getCode(), AssessmentStudentValidationIssueTypeCode.COURSE_SESSION_INVALID.getCode(), AssessmentStudentValidationIssueTypeCode.COURSE_SESSION_DATE_NOT_UNAPPROVED_SESSION.getCode(), AssessmentStudentValidationIssueTypeCode.COURSE_STATUS_INVALID.getCode()}),
     ENTRY17("V18", new String[]{AssessmentStudentValidationIssueTypeCode.DEM_DATA_MISSING.getCode(),AssessmentStudentValidationIssueTypeCode.DEM_ISSUE.getCode(), AssessmentStudentValidationIssueTypeCode.ERROR_IN_DEM_FILE.getCode(), AssessmentStudentValidationIssueTypeCode.COURSE_SESSION_INVALID_YEAR.getCode(), AssessmentStudentValidationIssueTypeCode.COURSE_SESSION_INVALID_MONTH.getCode(), AssessmentStudentValidationIssueTypeCode.COURSE_SESSION_INVALID.getCode(), AssessmentStudentValidationIssueTypeCode.COURSE_SESSION_DATE_NOT_UNAPPROVED_SESSION.getCode(), AssessmentStudentValidationIssueTypeCode.COURSE_STATUS_INVALID.getCode()}),
-    ENTRY18("V19", new String[]{AssessmentStudentValidationIssueTypeCode.DEM_DATA_MISSING.getCode(),AssessmentStudentValidationIssueTypeCode.DEM_ISSUE.getCode(), AssessmentStudentValidationIssueTypeCode.ERROR_IN_DEM_FILE.getCode(), AssessmentStudentValidationIssueTypeCode.COURSE_SESSION_INVALID_YEAR.getCode(), AssessmentStudentValidationIssueTypeCode.COURSE_SESSION_INVALID_MONTH.getCode(), AssessmentStudentValidationIssueTypeCode.COURSE_SESSION_INVALID.getCode(), AssessmentStudentValidationIssueTypeCode.COURSE_SESSION_DATE_NOT_UNAPPROVED_SESSION.getCode(), AssessmentStudentValidationIssueTypeCode.COURSE_STATUS_INVALID.getCode()}),
-    ENTRY19("V20", new String[]{AssessmentStudentValidationIssueTypeCode.DEM_DATA_MISSING.getCode(), AssessmentStudentValidationIssueTypeCode.DEM_ISSUE.getCode(), AssessmentStudentValidationIssueTypeCode.ERROR_IN_DEM_FILE.getCode(), AssessmentStudentValidationIssueTypeCode.COURSE_SESSION_INVALID_YEAR.getCode(), AssessmentStudentValidationIssueTypeCode.COURSE_SESSION_INVALID_MONTH.getCode(), AssessmentStudentValidationIssueTypeCode.COURSE_SESSION_INVALID.getCode(), AssessmentStudentValidationIssueTypeCode.COURSE_SESSION_DATE_NOT_UNAPPROVED_SESSION.getCode(), AssessmentStudentValidationIssueTypeCode.COURSE_STATUS_INVALID.getCode()}),
-    ENTRY20("V21", new String[]{AssessmentStudentValidationIssueTypeCode.DEM_DATA_MISSING.getCode(), AssessmentStudentValidationIssueTypeCode.DEM_ISSUE.getCode(), AssessmentStudentValidationIssueTypeCode.ERROR_IN_DEM_FILE.getCode(), AssessmentStudentValidationIssueTypeCode.COURSE_SESSION_INVALID_YEAR.getCode(), AssessmentStudentValidationIssueTypeCode.COURSE_SESSION_INVALID_MONTH.getCode(), AssessmentStudentValidationIssueTypeCode.COURSE_SESSION_INVALID.getCode(), AssessmentStudentValidationIssueTypeCode.COURSE_SESSION_DATE_NOT_UNAPPROVED_SESSION.getCode(), AssessmentStudentValidationIssueTypeCode.COURSE_STATUS_INVALID.getCode()}),
-    ENTRY21("V22", new String[]{AssessmentStudentValidationIssueTypeCode.DEM_DATA_MISSING.getCode(), AssessmentStudentValidationIssueTypeCode.DEM_ISSUE.getCode(), AssessmentStudentValidationIssueTypeCode.ERROR_IN_DEM_FILE.getCode(), AssessmentStudentValidationIssueTypeCode.COURSE_SESSION_INVALID_YEAR.getCode(), AssessmentStudentValidationIssueTypeCode.COURSE_SESSION_INVALID_MONTH.getCode(), AssessmentStudentValidationIssueTypeCode.COURSE_SESSION_INVALID.getCode(), AssessmentStudentValidationIssueTypeCode.COURSE_SESSION_DATE_NOT_UNAPPROVED_SESSION.getCode(), AssessmentStudentValidationIssueTypeCode.COURSE_STATUS_INVALID.getCode()}),
-    ENTRY22("V23", new String[]{AssessmentStudentValidationIssueTypeCode.DEM_DATA_MISSING.getCode(), AssessmentStudentValidationIssueTypeCode.DEM_ISSUE.getCode()}),
+    ENTRY18("V19", new String[]{AssessmentStudentValidationIssueTypeCode.DEM_DATA_MISSING.getCode(),AssessmentStudentValidationIssueTypeCode.DEM_ISSUE.getCode(), AssessmentStudentValidationIssueTypeCode.ERROR_IN_DEM_FILE.getCode(), AssessmentStudentValidationIssueTypeCode.COURSE_SESSION_INVALID_YEAR.getCode(), AssessmentStudentValidationIssueTypeCode.COURSE_SESSION_INVALID_MONTH.getCode(), AssessmentStudentValidationIssueTypeCode.COURSE_SESSION_INVALID.getCode(), AssessmentStudentValidationIssueTypeCode.COURSE_SESSION_DATE_NOT_UNAPPROVED_SESSION.getCode(), AssessmentStudentValidationIssueTypeCode.COURSE_STATUS_INVALID.getCode()}, RemoteLookup.STUDENT_API_STUDENT),
+    ENTRY19("V20", new String[]{AssessmentStudentValidationIssueTypeCode.DEM_DATA_MISSING.getCode(), AssessmentStudentValidationIssueTypeCode.DEM_ISSUE.getCode(), AssessmentStudentValidationIssueTypeCode.ERROR_IN_DEM_FILE.getCode(), AssessmentStudentValidationIssueTypeCode.COURSE_SESSION_INVALID_YEAR.getCode(), AssessmentStudentValidationIssueTypeCode.COURSE_SESSION_INVALID_MONTH.getCode(), AssessmentStudentValidationIssueTypeCode.COURSE_SESSION_INVALID.getCode(), AssessmentStudentValidationIssueTypeCode.COURSE_SESSION_DATE_NOT_UNAPPROVED_SESSION.getCode(), AssessmentStudentValidationIssueTypeCode.COURSE_STATUS_INVALID.getCode()}, RemoteLookup.STUDENT_API_STUDENT),
+    ENTRY20("V21", new String[]{AssessmentStudentValidationIssueTypeCode.DEM_DATA_MISSING.getCode(), AssessmentStudentValidationIssueTypeCode.DEM_ISSUE.getCode(), AssessmentStudentValidationIssueTypeCode.ERROR_IN_DEM_FILE.getCode(), AssessmentStudentValidationIssueTypeCode.COURSE_SESSION_INVALID_YEAR.getCode(), AssessmentStudentValidationIssueTypeCode.COURSE_SESSION_INVALID_MONTH.getCode(), AssessmentStudentValidationIssueTypeCode.COURSE_SESSION_INVALID.getCode(), AssessmentStudentValidationIssueTypeCode.COURSE_SESSION_DATE_NOT_UNAPPROVED_SESSION.getCode(), AssessmentStudentValidationIssueTypeCode.COURSE_STATUS_INVALID.getCode()}, RemoteLookup.STUDENT_API_STUDENT),
+    ENTRY21("V22", new String[]{AssessmentStudentValidationIssueTypeCode.DEM_DATA_MISSING.getCode(), AssessmentStudentValidationIssueTypeCode.DEM_ISSUE.getCode(), AssessmentStudentValidationIssueTypeCode.ERROR_IN_DEM_FILE.getCode(), AssessmentStudentValidationIssueTypeCode.COURSE_SESSION_INVALID_YEAR.getCode(), AssessmentStudentValidationIssueTypeCode.COURSE_SESSION_INVALID_MONTH.getCode(), AssessmentStudentValidationIssueTypeCode.COURSE_SESSION_INVALID.getCode(), AssessmentStudentValidationIssueTypeCode.COURSE_SESSION_DATE_NOT_UNAPPROVED_SESSION.getCode(), AssessmentStudentValidationIssueTypeCode.COURSE_STATUS_INVALID.getCode()}, RemoteLookup.STUDENT_API_STUDENT),
+    ENTRY22("V23", new String[]{AssessmentStudentValidationIssueTypeCode.DEM_DATA_MISSING.getCode(), AssessmentStudentValidationIssueTypeCode.DEM_ISSUE.getCode()}, RemoteLookup.STUDENT_API_STUDENT, RemoteLookup.GRAD_STUDENT_RECORD),
 
     ;
 
+    private static final RuleDependencyGraph DEPENDENCY_GRAPH = RuleDependencyGraph.compile("assessment",
+            Arrays.stream(AssessmentStudentValidationIssueTypeCode.values()).map(AssessmentStudentValidationIssueTypeCode::getCode).toList(),
+            Arrays.stream(values()).collect(Collectors.toMap(AssessmentValidationRulesDependencyMatrix::getRuleID, AssessmentValidationRulesDependencyMatrix::getBaseRuleErrorCode)));
+
+    private static final Map<String, AssessmentValidationRulesDependencyMatrix> ENTRIES_BY_RULE_ID = Arrays.stream(values())
+            .collect(Collectors.toUnmodifiableMap(entry -> entry.ruleID.toUpperCase(), Function.identity()));
+
     private final String ruleID;
     private final String[] baseRuleErrorCode;
-    AssessmentValidationRulesDependencyMatrix(String ruleID, String[] baseRuleErrorCode) {
+    private final Set<RemoteLookup> remoteLookups;
+    AssessmentValidationRulesDependencyMatrix(String ruleID, String[] baseRuleErrorCode, RemoteLookup... remoteLookups) {
         this.ruleID = ruleID;
         this.baseRuleErrorCode = baseRuleErrorCode;
+        this.remoteLookups = Set.of(remoteLookups);
     }
 
     public static Optional<AssessmentValidationRulesDependencyMatrix> findByValue(String ruleID) {
-        return Arrays.stream(values()).filter(code -> code.ruleID.equalsIgnoreCase(ruleID)).findFirst();
+        return ruleID == null ? Optional.empty() : Optional.ofNullable(ENTRIES_BY_RULE_ID.get(ruleID.toUpperCase()));
+    }
+
+    /**
+     * Whether the rule reads remote data through the rules service.
+     */
+    public static boolean readsRemoteData(String ruleID) {
+        return findByValue(ruleID).map(entry -> !entry.remoteLookups.isEmpty()).orElse(false);
+    }
+
+    /**
+     * The remote data read by the rules that the issues raised so far for the record do not block.
+     */
+    public static Set<RemoteLookup> findUnblockedRemoteLookups(ValidationIssueList<?> validationErrors) {
+        Set<RemoteLookup> lookups = EnumSet.noneOf(RemoteLookup.class);
+        for (AssessmentValidationRulesDependencyMatrix entry : values()) {
+            if (!entry.remoteLookups.isEmpty() && !DEPENDENCY_GRAPH.isBlocked(entry.ruleID, validationErrors)) {
+                lookups.addAll(entry.remoteLookups);
+            }
+        }
+        return lookups;
+    }
+
+    public static RuleDependencyGraph getDependencyGraph() {
+        return DEPENDENCY_GRAPH;
     }
 }
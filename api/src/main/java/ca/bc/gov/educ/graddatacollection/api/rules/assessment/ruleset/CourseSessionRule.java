@@ -51,7 +51,7 @@ public class CourseSessionRule implements AssessmentValidationBaseRule {
         log.debug("In executeValidation of V15 for assessmentStudentID :: {}", student.getAssessmentStudentID());
         final List<AssessmentStudentValidationIssue> errors = new ArrayList<>();
 
-        if (assessmentRulesService.checkIfStudentHasDuplicatesInFilesetWithNumeracyCheck(student.getIncomingFileset().getIncomingFilesetID(), student.getPen(), student.getCourseCode(), student.getCourseMonth(), student.getCourseYear())){
+        if (assessmentRulesService.checkIfStudentHasDuplicatesInFilesetWithNumeracyCheck(student.getIncomingFileset(), student.getPen(), student.getCourseCode(), student.getCourseMonth(), student.getCourseYear())){
             log.debug("V15: Error: {} for assessmentStudentID :: {}", AssessmentStudentValidationIssueTypeCode.DUPLICATE_XAM_RECORD.getMessage(), student.getAssessmentStudentID());
             errors.add(createValidationIssue(StudentValidationIssueSeverityCode.ERROR, ValidationFieldCode.COURSE_SESSION, AssessmentStudentValidationIssueTypeCode.DUPLICATE_XAM_RECORD, AssessmentStudentValidationIssueTypeCode.DUPLICATE_XAM_RECORD.getMessage()));
         }
@@ -1,32 +1,51 @@
 package ca.bc.gov.educ.graddatacollection.api.rules.course;
 
+import ca.bc.gov.educ.graddatacollection.api.properties.ApplicationProperties;
+import ca.bc.gov.educ.graddatacollection.api.rules.RuleTimers;
+import ca.bc.gov.educ.graddatacollection.api.rules.ValidationIssueList;
+import ca.bc.gov.educ.graddatacollection.api.service.v1.CourseRulesService;
 import ca.bc.gov.educ.graddatacollection.api.struct.v1.CourseStudentValidationIssue;
 import ca.bc.gov.educ.graddatacollection.api.struct.v1.StudentRuleData;
+import io.micrometer.core.instrument.MeterRegistry;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Component;
 
-import java.util.ArrayList;
 import java.util.List;
 
 @Slf4j
 @Component
 public class CourseStudentRulesProcessor {
   private final List<CourseValidationBaseRule> rules;
+  private final CourseRulesService courseRulesService;
+  private final ApplicationProperties props;
+  private final RuleTimers<CourseValidationBaseRule> ruleTimers;
 
   @Autowired
-  public CourseStudentRulesProcessor(final List<CourseValidationBaseRule> rules) {
+  public CourseStudentRulesProcessor(final List<CourseValidationBaseRule> rules, final CourseRulesService courseRulesService, final ApplicationProperties props, final MeterRegistry meterRegistry) {
     this.rules = rules;
+    this.courseRulesService = courseRulesService;
+    this.props = props;
+    this.ruleTimers = new RuleTimers<>("COURSE", rules, meterRegistry, Boolean.TRUE.equals(props.getRuleTimersEnabled()));
+    log.debug("Loaded {} course rules against the {} dependency matrix", rules.size(), CourseValidationRulesDependencyMatrix.getDependencyGraph().getName());
   }
 
   public List<CourseStudentValidationIssue> processRules(StudentRuleData ruleStudent) {
-    final List<CourseStudentValidationIssue> validationErrorsMap = new ArrayList<>();
+    final ValidationIssueList<CourseStudentValidationIssue> validationErrorsMap = CourseValidationRulesDependencyMatrix.getDependencyGraph().newIssueList();
     log.debug("Starting validations check for student :: {} with data :: {}", ruleStudent.getCourseStudentEntity().getCourseStudentID(), ruleStudent);
-    rules.forEach(rule -> {
-      if(rule.shouldExecute(ruleStudent, validationErrorsMap)) {
-        validationErrorsMap.addAll(rule.executeValidation(ruleStudent));
+    boolean prefetchPending = Boolean.TRUE.equals(props.getRulesConcurrentLookupsEnabled());
+    for (var rule : rules) {
+      boolean shouldExecute = rule.shouldExecute(ruleStudent, validationErrorsMap);
+      String ruleID = validationErrorsMap.pollEvaluatedRuleID();
+      if (!shouldExecute) {
+        continue;
       }
-    });
+      if (prefetchPending && CourseValidationRulesDependencyMatrix.readsRemoteData(ruleID)) {
+        prefetchPending = false;
+        this.courseRulesService.prefetchRemoteData(ruleStudent, ruleStudent.getCourseStudentEntity().getPen(), CourseValidationRulesDependencyMatrix.findUnblockedRemoteLookups(validationErrorsMap));
+      }
+      validationErrorsMap.addAll(ruleTimers.record(rule, () -> rule.executeValidation(ruleStudent)));
+    }
     return validationErrorsMap;
   }
 }
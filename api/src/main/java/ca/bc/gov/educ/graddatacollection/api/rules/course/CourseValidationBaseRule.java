@@ -6,9 +6,7 @@ import ca.bc.gov.educ.graddatacollection.api.rules.StudentValidationIssueSeverit
 import ca.bc.gov.educ.graddatacollection.api.struct.v1.CourseStudentValidationIssue;
 import ca.bc.gov.educ.graddatacollection.api.struct.v1.StudentRuleData;
 
-import java.util.Arrays;
 import java.util.List;
-import java.util.Optional;
 
 public interface CourseValidationBaseRule extends Rule<StudentRuleData, CourseStudentValidationIssue> {
   default CourseStudentValidationIssue createValidationIssue(StudentValidationIssueSeverityCode severityCode, ValidationFieldCode fieldCode, CourseStudentValidationIssueTypeCode typeCode, String description){
@@ -21,11 +19,6 @@ public interface CourseValidationBaseRule extends Rule<StudentRuleData, CourseSt
   }
 
   default boolean isValidationDependencyResolved(String fieldName, List<CourseStudentValidationIssue> validationErrorsMap) {
-    Optional<CourseValidationRulesDependencyMatrix> errorCodesToCheck = CourseValidationRulesDependencyMatrix.findByValue(fieldName);
-    if(errorCodesToCheck.isPresent()) {
-      String[] errorCodes = errorCodesToCheck.get().getBaseRuleErrorCode();
-      return validationErrorsMap.stream().noneMatch(val -> Arrays.stream(errorCodes).anyMatch(val.getValidationIssueCode()::contentEquals));
-    }
-    return false;
+    return CourseValidationRulesDependencyMatrix.getDependencyGraph().isDependencyResolved(fieldName, validationErrorsMap);
   }
 }
@@ -1,57 +1,98 @@
 package ca.bc.gov.educ.graddatacollection.api.rules.course;
 
+import ca.bc.gov.educ.graddatacollection.api.rules.RuleDependencyGraph;
+import ca.bc.gov.educ.graddatacollection.api.rules.ValidationIssueList;
+import ca.bc.gov.educ.graddatacollection.api.service.v1.BaseRulesService.RemoteLookup;
 import lombok.Getter;
 
 import java.util.Arrays;
+import java.util.EnumSet;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 @Getter
 public enum CourseValidationRulesDependencyMatrix {
-    ENTRY1("C02", new String[]{CourseStudentValidationIssueTypeCode.DEM_DATA_MISSING.getCode()}),
-    ENTRY2("C03", new String[]{CourseStudentValidationIssueTypeCode.DEM_DATA_MISSING.getCode(), CourseStudentValidationIssueTypeCode.DEM_ISSUE.getCode(), CourseStudentValidationIssueTypeCode.ERROR_IN_DEM_FILE.getCode()}),
+    ENTRY1("C02", new String[]{CourseStudentValidationIssueTypeCode.DEM_DATA_MISSING.getCode()}, RemoteLookup.STUDENT_API_STUDENT),
+    ENTRY2("C03", new String[]{CourseStudentValidationIssueTypeCode.DEM_DATA_MISSING.getCode(), CourseStudentValidationIssueTypeCode.DEM_ISSUE.getCode(), CourseStudentValidationIssueTypeCode.ERROR_IN_DEM_FILE.getCode()}, RemoteLookup.COREG_COURSES),
     ENTRY3("C04", new String[]{CourseStudentValidationIssueTypeCode.DEM_DATA_MISSING.getCode(), CourseStudentValidationIssueTypeCode.DEM_ISSUE.getCode(), CourseStudentValidationIssueTypeCode.ERROR_IN_DEM_FILE.getCode(), CourseStudentValidationIssueTypeCode.COURSE_CODE_COREG_TRAX_INVALID.getCode(), CourseStudentValidationIssueTypeCode.COURSE_CODE_COREG_MYEDBC_INVALID.getCode(), CourseStudentValidationIssueTypeCode.COURSE_CODE_COREG_TRAX_INVALID.getCode()}),
-    ENTRY4("C05", new String[]{CourseStudentValidationIssueTypeCode.DEM_DATA_MISSING.getCode(), CourseStudentValidationIssueTypeCode.DEM_ISSUE.getCode(), CourseStudentValidationIssueTypeCode.ERROR_IN_DEM_FILE.getCode(), CourseStudentValidationIssueTypeCode.COURSE_CODE_COREG_TRAX_INVALID.getCode(), CourseStudentValidationIssueTypeCode.COURSE_CODE_COREG_MYEDBC_INVALID.getCode(), CourseStudentValidationIssueTypeCode.COURSE_CODE_COREG_TRAX_INVALID.getCode()}),
+    ENTRY4("C05", new String[]{CourseStudentValidationIssueTypeCode.DEM_DATA_MISSING.getCode(), CourseStudentValidationIssueTypeCode.DEM_ISSUE.getCode(), CourseStudentValidationIssueTypeCode.ERROR_IN_DEM_FILE.getCode(), CourseStudentValidationIssueTypeCode.COURSE_CODE_COREG_TRAX_INVALID.getCode(), CourseStudentValidationIssueTypeCode.COURSE_CODE_COREG_MYEDBC_INVALID.getCode(), CourseStudentValidationIssueTypeCode.COURSE_CODE_COREG_TRAX_INVALID.getCode()}, RemoteLookup.STUDENT_API_STUDENT, RemoteLookup.GRAD_STUDENT_COURSES),
     ENTRY5("C06", new String[]{CourseStudentValidationIssueTypeCode.DEM_DATA_MISSING.getCode(), CourseStudentValidationIssueTypeCode.DEM_ISSUE.getCode(), CourseStudentValidationIssueTypeCode.ERROR_IN_DEM_FILE.getCode(), CourseStudentValidationIssueTypeCode.COURSE_CODE_COREG_TRAX_INVALID.getCode(), CourseStudentValidationIssueTypeCode.COURSE_CODE_COREG_MYEDBC_INVALID.getCode(), CourseStudentValidationIssueTypeCode.COURSE_CODE_COREG_TRAX_INVALID.getCode()}),
     ENTRY6("C07", new String[]{CourseStudentValidationIssueTypeCode.DEM_DATA_MISSING.getCode(), CourseStudentValidationIssueTypeCode.DEM_ISSUE.getCode(), CourseStudentValidationIssueTypeCode.ERROR_IN_DEM_FILE.getCode(), CourseStudentValidationIssueTypeCode.COURSE_CODE_COREG_TRAX_INVALID.getCode(), CourseStudentValidationIssueTypeCode.COURSE_CODE_COREG_MYEDBC_INVALID.getCode(), CourseStudentValidationIssueTypeCode.COURSE_CODE_COREG_TRAX_INVALID.getCode()}),
     ENTRY7("C08", new String[]{CourseStudentValidationIssueTypeCode.DEM_DATA_MISSING.getCode(), CourseStudentValidationIssueTypeCode.DEM_ISSUE.getCode(), CourseStudentValidationIssueTypeCode.ERROR_IN_DEM_FILE.getCode(), CourseStudentValidationIssueTypeCode.COURSE_CODE_COREG_TRAX_INVALID.getCode(), CourseStudentValidationIssueTypeCode.COURSE_CODE_COREG_MYEDBC_INVALID.getCode(), CourseStudentValidationIssueTypeCode.COURSE_CODE_COREG_TRAX_INVALID.getCode()}),
     ENTRY8("C09", new String[]{CourseStudentValidationIssueTypeCode.DEM_DATA_MISSING.getCode(), CourseStudentValidationIssueTypeCode.DEM_ISSUE.getCode(), CourseStudentValidationIssueTypeCode.ERROR_IN_DEM_FILE.getCode(), CourseStudentValidationIssueTypeCode.COURSE_CODE_COREG_TRAX_INVALID.getCode(), CourseStudentValidationIssueTypeCode.COURSE_CODE_COREG_MYEDBC_INVALID.getCode(), CourseStudentValidationIssueTypeCode.COURSE_CODE_COREG_TRAX_INVALID.getCode()}),
     ENTRY9("C10", new String[]{CourseStudentValidationIssueTypeCode.DEM_DATA_MISSING.getCode(), CourseStudentValidationIssueTypeCode.DEM_ISSUE.getCode(), CourseStudentValidationIssueTypeCode.ERROR_IN_DEM_FILE.getCode(), CourseStudentValidationIssueTypeCode.COURSE_CODE_COREG_TRAX_INVALID.getCode(), CourseStudentValidationIssueTypeCode.COURSE_CODE_COREG_MYEDBC_INVALID.getCode(), CourseStudentValidationIssueTypeCode.COURSE_CODE_COREG_TRAX_INVALID.getCode()}),
-    ENTRY10("C11", new String[]{CourseStudentValidationIssueTypeCode.DEM_DATA_MISSING.getCode(), CourseStudentValidationIssueTypeCode.DEM_ISSUE.getCode(), CourseStudentValidationIssueTypeCode.ERROR_IN_DEM_FILE.getCode(), CourseStudentValidationIssueTypeCode.COURSE_CODE_COREG_TRAX_INVALID.getCode(), CourseStudentValidationIssueTypeCode.COURSE_CODE_COREG_MYEDBC_INVALID.getCode(), CourseStudentValidationIssueTypeCode.COURSE_CODE_COREG_TRAX_INVALID.getCode(), CourseStudentValidationIssueTypeCode.COURSE_STATUS_INVALID.getCode()}),
-    ENTRY11("C12", new String[]{CourseStudentValidationIssueTypeCode.DEM_DATA_MISSING.getCode(), CourseStudentValidationIssueTypeCode.DEM_ISSUE.getCode(), CourseStudentValidationIssueTypeCode.ERROR_IN_DEM_FILE.getCode(), CourseStudentValidationIssueTypeCode.COURSE_CODE_COREG_TRAX_INVALID.getCode(), CourseStudentValidationIssueTypeCode.COURSE_CODE_COREG_MYEDBC_INVALID.getCode(), CourseStudentValidationIssueTypeCode.COURSE_CODE_COREG_TRAX_INVALID.getCode(), CourseStudentValidationIssueTypeCode.FINAL_LETTER_GRADE_INVALID.getCode()}),
-    ENTRY12("C13", new String[]{CourseStudentValidationIssueTypeCode.DEM_DATA_MISSING.getCode(), CourseStudentValidationIssueTypeCode.DEM_ISSUE.getCode(), CourseStudentValidationIssueTypeCode.ERROR_IN_DEM_FILE.getCode(), CourseStudentValidationIssueTypeCode.COURSE_MONTH_INVALID.getCode(), CourseStudentValidationIssueTypeCode.COURSE_YEAR_INVALID.getCode(), CourseStudentValidationIssueTypeCode.COURSE_CODE_COREG_TRAX_INVALID.getCode(), CourseStudentValidationIssueTypeCode.COURSE_CODE_COREG_MYEDBC_INVALID.getCode(), CourseStudentValidationIssueTypeCode.COURSE_CODE_COREG_TRAX_INVALID.getCode()}),
-    ENTRY13("C14", new String[]{CourseStudentValidationIssueTypeCode.DEM_DATA_MISSING.getCode(), CourseStudentValidationIssueTypeCode.DEM_ISSUE.getCode(), CourseStudentValidationIssueTypeCode.ERROR_IN_DEM_FILE.getCode(), CourseStudentValidationIssueTypeCode.COURSE_MONTH_INVALID.getCode(), CourseStudentValidationIssueTypeCode.COURSE_YEAR_INVALID.getCode(), CourseStudentValidationIssueTypeCode.COURSE_CODE_COREG_TRAX_INVALID.getCode(), CourseStudentValidationIssueTypeCode.COURSE_CODE_COREG_MYEDBC_INVALID.getCode(), CourseStudentValidationIssueTypeCode.COURSE_CODE_COREG_TRAX_INVALID.getCode()}),
-    ENTRY14("C15", new String[]{CourseStudentValidationIssueTypeCode.DEM_DATA_MISSING.getCode(), CourseStudentValidationIssueTypeCode.DEM_ISSUE.getCode(), CourseStudentValidationIssueTypeCode.ERROR_IN_DEM_FILE.getCode(), CourseStudentValidationIssueTypeCode.COURSE_MONTH_INVALID.getCode(), CourseStudentValidationIssueTypeCode.COURSE_YEAR_INVALID.getCode(), CourseStudentValidationIssueTypeCode.COURSE_CODE_COREG_TRAX_INVALID.getCode(), CourseStudentValidationIssueTypeCode.COURSE_CODE_COREG_MYEDBC_INVALID.getCode(), CourseStudentValidationIssueTypeCode.COURSE_CODE_COREG_TRAX_INVALID.getCode()}),
+    ENTRY10("C11", new String[]{CourseStudentValidationIssueTypeCode.DEM_DATA_MISSING.getCode(), CourseStudentValidationIssueTypeCode.DEM_ISSUE.getCode(), CourseStudentValidationIssueTypeCode.ERROR_IN_DEM_FILE.getCode(), CourseStudentValidationIssueTypeCode.COURSE_CODE_COREG_TRAX_INVALID.getCode(), CourseStudentValidationIssueTypeCode.COURSE_CODE_COREG_MYEDBC_INVALID.getCode(), CourseStudentValidationIssueTypeCode.COURSE_CODE_COREG_TRAX_INVALID.getCode(), CourseStudentValidationIssueTypeCode.COURSE_STATUS_INVALID.getCode()}, RemoteLookup.STUDENT_API_STUDENT, RemoteLookup.GRAD_STUDENT_COURSES),
+    ENTRY11("C12", new String[]{CourseStudentValidationIssueTypeCode.DEM_DATA_MISSING.getCode(), CourseStudentValidationIssueTypeCode.DEM_ISSUE.getCode(), CourseStudentValidationIssueTypeCode.ERROR_IN_DEM_FILE.getCode(), CourseStudentValidationIssueTypeCode.COURSE_CODE_COREG_TRAX_INVALID.getCode(), CourseStudentValidationIssueTypeCode.COURSE_CODE_COREG_MYEDBC_INVALID.getCode(), CourseStudentValidationIssueTypeCode.COURSE_CODE_COREG_TRAX_INVALID.getCode(), CourseStudentValidationIssueTypeCode.FINAL_LETTER_GRADE_INVALID.getCode()}, RemoteLookup.GRAD_STUDENT_RECORD),
+    ENTRY12("C13", new String[]{CourseStudentValidationIssueTypeCode.DEM_DATA_MISSING.getCode(), CourseStudentValidationIssueTypeCode.DEM_ISSUE.getCode(), CourseStudentValidationIssueTypeCode.ERROR_IN_DEM_FILE.getCode(), CourseStudentValidationIssueTypeCode.COURSE_MONTH_INVALID.getCode(), CourseStudentValidationIssueTypeCode.COURSE_YEAR_INVALID.getCode(), CourseStudentValidationIssueTypeCode.COURSE_CODE_COREG_TRAX_INVALID.getCode(), CourseStudentValidationIssueTypeCode.COURSE_CODE_COREG_MYEDBC_INVALID.getCode(), CourseStudentValidationIssueTypeCode.COURSE_CODE_COREG_TRAX_INVALID.getCode()}, RemoteLookup.COREG_COURSES),
+    ENTRY13("C14", new String[]{CourseStudentValidationIssueTypeCode.DEM_DATA_MISSING.getCode(), CourseStudentValidationIssueTypeCode.DEM_ISSUE.getCode(), CourseStudentValidationIssueTypeCode.ERROR_IN_DEM_FILE.getCode(), CourseStudentValidationIssueTypeCode.COURSE_MONTH_INVALID.getCode(), CourseStudentValidationIssueTypeCode.COURSE_YEAR_INVALID.getCode(), CourseStudentValidationIssueTypeCode.COURSE_CODE_COREG_TRAX_INVALID.getCode(), CourseStudentValidationIssueTypeCode.COURSE_CODE_COREG_MYEDBC_INVALID.getCode(), CourseStudentValidationIssueTypeCode.COURSE_CODE_COREG_TRAX_INVALID.getCode()}, RemoteLookup.COREG_COURSES),
+    ENTRY14("C15", new String[]{CourseStudentValidationIssueTypeCode.DEM_DATA_MISSING.getCode(), CourseStudentValidationIssueTypeCode.DEM_ISSUE.getCode(), CourseStudentValidationIssueTypeCode.ERROR_IN_DEM_FILE.getCode(), CourseStudentValidationIssueTypeCode.COURSE_MONTH_INVALID.getCode(), CourseStudentValidationIssueTypeCode.COURSE_YEAR_INVALID.getCode(), CourseStudentValidationIssueTypeCode.COURSE_CODE_COREG_TRAX_INVALID.getCode(), CourseStudentValidationIssueTypeCode.COURSE_CODE_COREG_MYEDBC_INVALID.getCode(), CourseStudentValidationIssueTypeCode.COURSE_CODE_COREG_TRAX_INVALID.getCode()}, RemoteLookup.STUDENT_API_STUDENT, RemoteLookup.GRAD_STUDENT_COURSES),
     ENTRY15("C16", new String[]{CourseStudentValidationIssueTypeCode.DEM_DATA_MISSING.getCode(), CourseStudentValidationIssueTypeCode.DEM_ISSUE.getCode(), CourseStudentValidationIssueTypeCode.ERROR_IN_DEM_FILE.getCode(), CourseStudentValidationIssueTypeCode.COURSE_MONTH_INVALID.getCode(), CourseStudentValidationIssueTypeCode.COURSE_YEAR_INVALID.getCode(), CourseStudentValidationIssueTypeCode.COURSE_CODE_COREG_TRAX_INVALID.getCode(), CourseStudentValidationIssueTypeCode.COURSE_CODE_COREG_MYEDBC_INVALID.getCode(), CourseStudentValidationIssueTypeCode.COURSE_CODE_COREG_TRAX_INVALID.getCode()}),
-    ENTRY17("C18", new String[]{CourseStudentValidationIssueTypeCode.DEM_DATA_MISSING.getCode(), CourseStudentValidationIssueTypeCode.DEM_ISSUE.getCode(), CourseStudentValidationIssueTypeCode.ERROR_IN_DEM_FILE.getCode(), CourseStudentValidationIssueTypeCode.COURSE_MONTH_INVALID.getCode(), CourseStudentValidationIssueTypeCode.COURSE_YEAR_INVALID.getCode(), CourseStudentValidationIssueTypeCode.COURSE_CODE_COREG_TRAX_INVALID.getCode(), CourseStudentValidationIssueTypeCode.COURSE_CODE_COREG_MYEDBC_INVALID.getCode(), CourseStudentValidationIssueTypeCode.COURSE_CODE_COREG_TRAX_INVALID.getCode(), CourseStudentValidationIssueTypeCode.COURSE_SESSION_INVALID.getCode()}),
-    ENTRY18("C19", new String[]{CourseStudentValidationIssueTypeCode.DEM_DATA_MISSING.getCode(), CourseStudentValidationIssueTypeCode.DEM_ISSUE.getCode(), CourseStudentValidationIssueTypeCode.ERROR_IN_DEM_FILE.getCode(), CourseStudentValidationIssueTypeCode.COURSE_MONTH_INVALID.getCode(), CourseStudentValidationIssueTypeCode.COURSE_YEAR_INVALID.getCode(), CourseStudentValidationIssueTypeCode.COURSE_CODE_COREG_TRAX_INVALID.getCode(), CourseStudentValidationIssueTypeCode.COURSE_CODE_COREG_MYEDBC_INVALID.getCode(), CourseStudentValidationIssueTypeCode.COURSE_CODE_COREG_TRAX_INVALID.getCode(), CourseStudentValidationIssueTypeCode.COURSE_SESSION_INVALID.getCode()}),
-    ENTRY19("C20", new String[]{CourseStudentValidationIssueTypeCode.DEM_DATA_MISSING.getCode(), CourseStudentValidationIssueTypeCode.DEM_ISSUE.getCode(), CourseStudentValidationIssueTypeCode.ERROR_IN_DEM_FILE.getCode(), CourseStudentValidationIssueTypeCode.COURSE_MONTH_INVALID.getCode(), CourseStudentValidationIssueTypeCode.COURSE_YEAR_INVALID.getCode(), CourseStudentValidationIssueTypeCode.COURSE_CODE_COREG_TRAX_INVALID.getCode(), CourseStudentValidationIssueTypeCode.COURSE_CODE_COREG_MYEDBC_INVALID.getCode(), CourseStudentValidationIssueTypeCode.COURSE_CODE_COREG_TRAX_INVALID.getCode(), CourseStudentValidationIssueTypeCode.COURSE_SESSION_INVALID.getCode()}),
+    ENTRY17("C18", new String[]{CourseStudentValidationIssueTypeCode.DEM_DATA_MISSING.getCode(), CourseStudentValidationIssueTypeCode.DEM_ISSUE.getCode(), CourseStudentValidationIssueTypeCode.ERROR_IN_DEM_FILE.getCode(), CourseStudentValidationIssueTypeCode.COURSE_MONTH_INVALID.getCode(), CourseStudentValidationIssueTypeCode.COURSE_YEAR_INVALID.getCode(), CourseStudentValidationIssueTypeCode.COURSE_CODE_COREG_TRAX_INVALID.getCode(), CourseStudentValidationIssueTypeCode.COURSE_CODE_COREG_MYEDBC_INVALID.getCode(), CourseStudentValidationIssueTypeCode.COURSE_CODE_COREG_TRAX_INVALID.getCode(), CourseStudentValidationIssueTypeCode.COURSE_SESSION_INVALID.getCode()}, RemoteLookup.COREG_COURSES),
+    ENTRY18("C19", new String[]{CourseStudentValidationIssueTypeCode.DEM_DATA_MISSING.getCode(), CourseStudentValidationIssueTypeCode.DEM_ISSUE.getCode(), CourseStudentValidationIssueTypeCode.ERROR_IN_DEM_FILE.getCode(), CourseStudentValidationIssueTypeCode.COURSE_MONTH_INVALID.getCode(), CourseStudentValidationIssueTypeCode.COURSE_YEAR_INVALID.getCode(), CourseStudentValidationIssueTypeCode.COURSE_CODE_COREG_TRAX_INVALID.getCode(), CourseStudentValidationIssueTypeCode.COURSE_CODE_COREG_MYEDBC_INVALID.getCode(), CourseStudentValidationIssueTypeCode.COURSE_CODE_COREG_TRAX_INVALID.getCode(), CourseStudentValidationIssueTypeCode.COURSE_SESSION_INVALID.getCode()}, RemoteLookup.COREG_COURSES),
+    ENTRY19("C20", new String[]{CourseStudentValidationIssueTypeCode.DEM_DATA_MISSING.getCode(), CourseStudentValidationIssueTypeCode.DEM_ISSUE.getCode(), CourseStudentValidationIssueTypeCode.ERROR_IN_DEM_FILE.getCode(), CourseStudentValidationIssueTypeCode.COURSE_MONTH_INVALID.getCode(), CourseStudentValidationIssueTypeCode.COURSE_YEAR_INVALID.getCode(), CourseStudentValidationIssueTypeCode.COURSE_CODE_COREG_TRAX_INVALID.getCode(), CourseStudentValidationIssueTypeCode.COURSE_CODE_COREG_MYEDBC_INVALID.getCode(), CourseStudentValidationIssueTypeCode.COURSE_CODE_COREG_TRAX_INVALID.getCode(), CourseStudentValidationIssueTypeCode.COURSE_SESSION_INVALID.getCode()}, RemoteLookup.COREG_COURSES),
     ENTRY21("C22", new String[]{CourseStudentValidationIssueTypeCode.DEM_DATA_MISSING.getCode(), CourseStudentValidationIssueTypeCode.DEM_ISSUE.getCode(), CourseStudentValidationIssueTypeCode.ERROR_IN_DEM_FILE.getCode(), CourseStudentValidationIssueTypeCode.COURSE_MONTH_INVALID.getCode(), CourseStudentValidationIssueTypeCode.COURSE_YEAR_INVALID.getCode(), CourseStudentValidationIssueTypeCode.COURSE_CODE_COREG_TRAX_INVALID.getCode(), CourseStudentValidationIssueTypeCode.COURSE_CODE_COREG_MYEDBC_INVALID.getCode(), CourseStudentValidationIssueTypeCode.COURSE_CODE_COREG_TRAX_INVALID.getCode(), CourseStudentValidationIssueTypeCode.COURSE_SESSION_INVALID.getCode()}),
     ENTRY22("C23", new String[]{CourseStudentValidationIssueTypeCode.DEM_DATA_MISSING.getCode(), CourseStudentValidationIssueTypeCode.DEM_ISSUE.getCode(), CourseStudentValidationIssueTypeCode.ERROR_IN_DEM_FILE.getCode(), CourseStudentValidationIssueTypeCode.COURSE_MONTH_INVALID.getCode(), CourseStudentValidationIssueTypeCode.COURSE_YEAR_INVALID.getCode(), CourseStudentValidationIssueTypeCode.COURSE_CODE_COREG_TRAX_INVALID.getCode(), CourseStudentValidationIssueTypeCode.COURSE_CODE_COREG_MYEDBC_INVALID.getCode(), CourseStudentValidationIssueTypeCode.COURSE_CODE_COREG_TRAX_INVALID.getCode(), CourseStudentValidationIssueTypeCode.COURSE_SESSION_INVALID.getCode()}),
     ENTRY23("C24", new String[]{CourseStudentValidationIssueTypeCode.DEM_DATA_MISSING.getCode(), CourseStudentValidationIssueTypeCode.DEM_ISSUE.getCode(), CourseStudentValidationIssueTypeCode.ERROR_IN_DEM_FILE.getCode(), CourseStudentValidationIssueTypeCode.COURSE_MONTH_INVALID.getCode(), CourseStudentValidationIssueTypeCode.COURSE_YEAR_INVALID.getCode(), CourseStudentValidationIssueTypeCode.COURSE_CODE_COREG_TRAX_INVALID.getCode(), CourseStudentValidationIssueTypeCode.COURSE_CODE_COREG_MYEDBC_INVALID.getCode(), CourseStudentValidationIssueTypeCode.COURSE_CODE_COREG_TRAX_INVALID.getCode(), CourseStudentValidationIssueTypeCode.COURSE_SESSION_INVALID.getCode()}),
     ENTRY24("C25", new String[]{CourseStudentValidationIssueTypeCode.DEM_DATA_MISSING.getCode(), CourseStudentValidationIssueTypeCode.DEM_ISSUE.getCode(), CourseStudentValidationIssueTypeCode.ERROR_IN_DEM_FILE.getCode(), CourseStudentValidationIssueTypeCode.COURSE_MONTH_INVALID.getCode(), CourseStudentValidationIssueTypeCode.COURSE_YEAR_INVALID.getCode(), CourseStudentValidationIssueTypeCode.COURSE_CODE_COREG_TRAX_INVALID.getCode(), CourseStudentValidationIssueTypeCode.COURSE_CODE_COREG_MYEDBC_INVALID.getCode(), CourseStudentValidationIssueTypeCode.COURSE_CODE_COREG_TRAX_INVALID.getCode(), CourseStudentValidationIssueTypeCode.COURSE_SESSION_INVALID.getCode(), CourseStudentValidationIssueTypeCode.FINAL_PCT_NOT_BLANK.getCode()}),
-    ENTRY27("C28", new String[]{CourseStudentValidationIssueTypeCode.DEM_DATA_MISSING.getCode(), CourseStudentValidationIssueTypeCode.DEM_ISSUE.getCode(), CourseStudentValidationIssueTypeCode.ERROR_IN_DEM_FILE.getCode(), CourseStudentValidationIssueTypeCode.COURSE_NOT_INDEPENDENT_DIRECTED_STUDIES.getCode(), CourseStudentValidationIssueTypeCode.COURSE_CODE_COREG_TRAX_INVALID.getCode(), CourseStudentValidationIssueTypeCode.COURSE_CODE_COREG_MYEDBC_INVALID.getCode(), CourseStudentValidationIssueTypeCode.COURSE_CODE_COREG_TRAX_INVALID.getCode()}),
+    ENTRY27("C28", new String[]{CourseStudentValidationIssueTypeCode.DEM_DATA_MISSING.getCode(), CourseStudentValidationIssueTypeCode.DEM_ISSUE.getCode(), CourseStudentValidationIssueTypeCode.ERROR_IN_DEM_FILE.getCode(), CourseStudentValidationIssueTypeCode.COURSE_NOT_INDEPENDENT_DIRECTED_STUDIES.getCode(), CourseStudentValidationIssueTypeCode.COURSE_CODE_COREG_TRAX_INVALID.getCode(), CourseStudentValidationIssueTypeCode.COURSE_CODE_COREG_MYEDBC_INVALID.getCode(), CourseStudentValidationIssueTypeCode.COURSE_CODE_COREG_TRAX_INVALID.getCode()}, RemoteLookup.COREG_RELATED_COURSES),
     ENTRY28("C29", new String[]{CourseStudentValidationIssueTypeCode.DEM_DATA_MISSING.getCode(), CourseStudentValidationIssueTypeCode.DEM_ISSUE.getCode(), CourseStudentValidationIssueTypeCode.ERROR_IN_DEM_FILE.getCode(), CourseStudentValidationIssueTypeCode.INTERIM_PCT_INVALID.getCode(), CourseStudentValidationIssueTypeCode.INTERIM_LETTER_GRADE_INVALID.getCode(), CourseStudentValidationIssueTypeCode.COURSE_CODE_COREG_TRAX_INVALID.getCode(), CourseStudentValidationIssueTypeCode.COURSE_CODE_COREG_MYEDBC_INVALID.getCode(), CourseStudentValidationIssueTypeCode.COURSE_CODE_COREG_TRAX_INVALID.getCode(), CourseStudentValidationIssueTypeCode.COURSE_MONTH_INVALID.getCode(), CourseStudentValidationIssueTypeCode.COURSE_YEAR_INVALID.getCode(), CourseStudentValidationIssueTypeCode.COURSE_SESSION_INVALID.getCode()}),
     ENTRY29("C30", new String[]{CourseStudentValidationIssueTypeCode.DEM_DATA_MISSING.getCode(), CourseStudentValidationIssueTypeCode.DEM_ISSUE.getCode(), CourseStudentValidationIssueTypeCode.ERROR_IN_DEM_FILE.getCode(), CourseStudentValidationIssueTypeCode.FINAL_LETTER_GRADE_OR_PERCENT_NOT_BLANK.getCode(), CourseStudentValidationIssueTypeCode.COURSE_CODE_COREG_TRAX_INVALID.getCode(), CourseStudentValidationIssueTypeCode.COURSE_CODE_COREG_MYEDBC_INVALID.getCode(), CourseStudentValidationIssueTypeCode.COURSE_CODE_COREG_TRAX_INVALID.getCode(), CourseStudentValidationIssueTypeCode.COURSE_MONTH_INVALID.getCode(), CourseStudentValidationIssueTypeCode.COURSE_YEAR_INVALID.getCode(), CourseStudentValidationIssueTypeCode.COURSE_SESSION_INVALID.getCode()}),
     ENTRY30("C31", new String[]{CourseStudentValidationIssueTypeCode.DEM_DATA_MISSING.getCode(), CourseStudentValidationIssueTypeCode.DEM_ISSUE.getCode(), CourseStudentValidationIssueTypeCode.ERROR_IN_DEM_FILE.getCode(), CourseStudentValidationIssueTypeCode.FINAL_LETTER_GRADE_OR_PERCENT_NOT_BLANK.getCode(), CourseStudentValidationIssueTypeCode.COURSE_CODE_COREG_TRAX_INVALID.getCode(), CourseStudentValidationIssueTypeCode.COURSE_CODE_COREG_MYEDBC_INVALID.getCode(), CourseStudentValidationIssueTypeCode.COURSE_CODE_COREG_TRAX_INVALID.getCode(), CourseStudentValidationIssueTypeCode.COURSE_MONTH_INVALID.getCode(), CourseStudentValidationIssueTypeCode.COURSE_YEAR_INVALID.getCode(), CourseStudentValidationIssueTypeCode.COURSE_SESSION_INVALID.getCode()}),
     ENTRY31("C32", new String[]{CourseStudentValidationIssueTypeCode.DEM_DATA_MISSING.getCode(), CourseStudentValidationIssueTypeCode.DEM_ISSUE.getCode(), CourseStudentValidationIssueTypeCode.ERROR_IN_DEM_FILE.getCode(), CourseStudentValidationIssueTypeCode.FINAL_LETTER_GRADE_OR_PERCENT_NOT_BLANK.getCode(), CourseStudentValidationIssueTypeCode.COURSE_CODE_COREG_TRAX_INVALID.getCode(), CourseStudentValidationIssueTypeCode.COURSE_CODE_COREG_MYEDBC_INVALID.getCode(), CourseStudentValidationIssueTypeCode.COURSE_CODE_COREG_TRAX_INVALID.getCode(), CourseStudentValidationIssueTypeCode.COURSE_MONTH_INVALID.getCode(), CourseStudentValidationIssueTypeCode.COURSE_YEAR_INVALID.getCode(), CourseStudentValidationIssueTypeCode.COURSE_SESSION_INVALID.getCode()}),
-    ENTRY32("C33", new String[]{CourseStudentValidationIssueTypeCode.DEM_DATA_MISSING.getCode(), CourseStudentValidationIssueTypeCode.DEM_ISSUE.getCode(), CourseStudentValidationIssueTypeCode.ERROR_IN_DEM_FILE.getCode(), CourseStudentValidationIssueTypeCode.INVALID_FINE_ARTS_APPLIED_SKILLS_CODE.getCode(), CourseStudentValidationIssueTypeCode.COURSE_SESSION_INVALID.getCode(), CourseStudentValidationIssueTypeCode.COURSE_CODE_COREG_TRAX_INVALID.getCode(),CourseStudentValidationIssueTypeCode.COURSE_MONTH_INVALID.getCode(), CourseStudentValidationIssueTypeCode.COURSE_YEAR_INVALID.getCode(), CourseStudentValidationIssueTypeCode.COURSE_CODE_COREG_MYEDBC_INVALID.getCode(), CourseStudentValidationIssueTypeCode.COURSE_CODE_COREG_TRAX_INVALID.getCode()}),
-    ENTRY34("C35", new String[]{CourseStudentValidationIssueTypeCode.DEM_DATA_MISSING.getCode(), CourseStudentValidationIssueTypeCode.DEM_ISSUE.getCode(), CourseStudentValidationIssueTypeCode.ERROR_IN_DEM_FILE.getCode(), CourseStudentValidationIssueTypeCode.FINAL_LETTER_GRADE_INVALID.getCode(), CourseStudentValidationIssueTypeCode.FINAL_LETTER_GRADE_OR_PERCENT_NOT_BLANK.getCode(), CourseStudentValidationIssueTypeCode.COURSE_CODE_COREG_TRAX_INVALID.getCode(), CourseStudentValidationIssueTypeCode.COURSE_CODE_COREG_MYEDBC_INVALID.getCode(), CourseStudentValidationIssueTypeCode.COURSE_CODE_COREG_TRAX_INVALID.getCode(), CourseStudentValidationIssueTypeCode.COURSE_MONTH_INVALID.getCode(), CourseStudentValidationIssueTypeCode.COURSE_YEAR_INVALID.getCode(), CourseStudentValidationIssueTypeCode.COURSE_SESSION_INVALID.getCode()}),
+    ENTRY32("C33", new String[]{CourseStudentValidationIssueTypeCode.DEM_DATA_MISSING.getCode(), CourseStudentValidationIssueTypeCode.DEM_ISSUE.getCode(), CourseStudentValidationIssueTypeCode.ERROR_IN_DEM_FILE.getCode(), CourseStudentValidationIssueTypeCode.INVALID_FINE_ARTS_APPLIED_SKILLS_CODE.getCode(), CourseStudentValidationIssueTypeCode.COURSE_SESSION_INVALID.getCode(), CourseStudentValidationIssueTypeCode.COURSE_CODE_COREG_TRAX_INVALID.getCode(),CourseStudentValidationIssueTypeCode.COURSE_MONTH_INVALID.getCode(), CourseStudentValidationIssueTypeCode.COURSE_YEAR_INVALID.getCode(), CourseStudentValidationIssueTypeCode.COURSE_CODE_COREG_MYEDBC_INVALID.getCode(), CourseStudentValidationIssueTypeCode.COURSE_CODE_COREG_TRAX_INVALID.getCode()}, RemoteLookup.COREG_COURSES),
+    ENTRY34("C35", new String[]{CourseStudentValidationIssueTypeCode.DEM_DATA_MISSING.getCode(), CourseStudentValidationIssueTypeCode.DEM_ISSUE.getCode(), CourseStudentValidationIssueTypeCode.ERROR_IN_DEM_FILE.getCode(), CourseStudentValidationIssueTypeCode.FINAL_LETTER_GRADE_INVALID.getCode(), CourseStudentValidationIssueTypeCode.FINAL_LETTER_GRADE_OR_PERCENT_NOT_BLANK.getCode(), CourseStudentValidationIssueTypeCode.COURSE_CODE_COREG_TRAX_INVALID.getCode(), CourseStudentValidationIssueTypeCode.COURSE_CODE_COREG_MYEDBC_INVALID.getCode(), CourseStudentValidationIssueTypeCode.COURSE_CODE_COREG_TRAX_INVALID.getCode(), CourseStudentValidationIssueTypeCode.COURSE_MONTH_INVALID.getCode(), CourseStudentValidationIssueTypeCode.COURSE_YEAR_INVALID.getCode(), CourseStudentValidationIssueTypeCode.COURSE_SESSION_INVALID.getCode()}, RemoteLookup.STUDENT_API_STUDENT, RemoteLookup.GRAD_STUDENT_RECORD, RemoteLookup.GRAD_STUDENT_COURSES),
     ENTRY36("C37", new String[]{CourseStudentValidationIssueTypeCode.DEM_DATA_MISSING.getCode(), CourseStudentValidationIssueTypeCode.DEM_ISSUE.getCode(), CourseStudentValidationIssueTypeCode.ERROR_IN_DEM_FILE.getCode(), CourseStudentValidationIssueTypeCode.FINAL_LETTER_GRADE_INVALID.getCode(), CourseStudentValidationIssueTypeCode.FINAL_PCT_NOT_BLANK.getCode(), CourseStudentValidationIssueTypeCode.FINAL_PCT_INVALID.getCode(), CourseStudentValidationIssueTypeCode.FINAL_LETTER_GRADE_OR_PERCENT_NOT_BLANK.getCode(), CourseStudentValidationIssueTypeCode.COURSE_CODE_COREG_TRAX_INVALID.getCode(), CourseStudentValidationIssueTypeCode.COURSE_CODE_COREG_MYEDBC_INVALID.getCode(), CourseStudentValidationIssueTypeCode.COURSE_CODE_COREG_TRAX_INVALID.getCode(), CourseStudentValidationIssueTypeCode.COURSE_MONTH_INVALID.getCode(), CourseStudentValidationIssueTypeCode.COURSE_YEAR_INVALID.getCode(), CourseStudentValidationIssueTypeCode.COURSE_SESSION_INVALID.getCode()}),
     ENTRY37("C38", new String[]{CourseStudentValidationIssueTypeCode.DEM_DATA_MISSING.getCode(), CourseStudentValidationIssueTypeCode.DEM_ISSUE.getCode(), CourseStudentValidationIssueTypeCode.ERROR_IN_DEM_FILE.getCode(), CourseStudentValidationIssueTypeCode.FINAL_LETTER_GRADE_INVALID.getCode(), CourseStudentValidationIssueTypeCode.FINAL_LETTER_GRADE_OR_PERCENT_NOT_BLANK.getCode(), CourseStudentValidationIssueTypeCode.COURSE_CODE_COREG_TRAX_INVALID.getCode(), CourseStudentValidationIssueTypeCode.COURSE_CODE_COREG_MYEDBC_INVALID.getCode(), CourseStudentValidationIssueTypeCode.COURSE_CODE_COREG_TRAX_INVALID.getCode(), CourseStudentValidationIssueTypeCode.COURSE_MONTH_INVALID.getCode(), CourseStudentValidationIssueTypeCode.COURSE_YEAR_INVALID.getCode(), CourseStudentValidationIssueTypeCode.COURSE_SESSION_INVALID.getCode()}),
     ENTRY38("C39", new String[]{CourseStudentValidationIssueTypeCode.DEM_DATA_MISSING.getCode(), CourseStudentValidationIssueTypeCode.DEM_ISSUE.getCode(), CourseStudentValidationIssueTypeCode.ERROR_IN_DEM_FILE.getCode(), CourseStudentValidationIssueTypeCode.FINAL_LETTER_GRADE_INVALID.getCode(), CourseStudentValidationIssueTypeCode.FINAL_LETTER_GRADE_OR_PERCENT_NOT_BLANK.getCode(), CourseStudentValidationIssueTypeCode.COURSE_CODE_COREG_TRAX_INVALID.getCode(), CourseStudentValidationIssueTypeCode.COURSE_CODE_COREG_MYEDBC_INVALID.getCode(), CourseStudentValidationIssueTypeCode.COURSE_CODE_COREG_TRAX_INVALID.getCode(), CourseStudentValidationIssueTypeCode.COURSE_MONTH_INVALID.getCode(), CourseStudentValidationIssueTypeCode.COURSE_YEAR_INVALID.getCode(), CourseStudentValidationIssueTypeCode.COURSE_SESSION_INVALID.getCode()}),
     ENTRY39("C40", new String[]{CourseStudentValidationIssueTypeCode.DEM_DATA_MISSING.getCode(), CourseStudentValidationIssueTypeCode.DEM_ISSUE.getCode(), CourseStudentValidationIssueTypeCode.ERROR_IN_DEM_FILE.getCode(), CourseStudentValidationIssueTypeCode.FINAL_LETTER_GRADE_INVALID.getCode(), CourseStudentValidationIssueTypeCode.FINAL_LETTER_GRADE_OR_PERCENT_NOT_BLANK.getCode(), CourseStudentValidationIssueTypeCode.COURSE_CODE_COREG_TRAX_INVALID.getCode(), CourseStudentValidationIssueTypeCode.COURSE_CODE_COREG_MYEDBC_INVALID.getCode(), CourseStudentValidationIssueTypeCode.COURSE_CODE_COREG_TRAX_INVALID.getCode(), CourseStudentValidationIssueTypeCode.COURSE_MONTH_INVALID.getCode(), CourseStudentValidationIssueTypeCode.COURSE_YEAR_INVALID.getCode(), CourseStudentValidationIssueTypeCode.COURSE_SESSION_INVALID.getCode()}),
-    ENTRY40("C41", new String[]{CourseStudentValidationIssueTypeCode.DEM_DATA_MISSING.getCode(), CourseStudentValidationIssueTypeCode.DEM_ISSUE.getCode()}),
+    ENTRY40("C41", new String[]{CourseStudentValidationIssueTypeCode.DEM_DATA_MISSING.getCode(), CourseStudentValidationIssueTypeCode.DEM_ISSUE.getCode()}, RemoteLookup.STUDENT_API_STUDENT, RemoteLookup.GRAD_STUDENT_RECORD),
 
     ;
 
+    private static final RuleDependencyGraph DEPENDENCY_GRAPH = RuleDependencyGraph.compile("course",
+            Arrays.stream(CourseStudentValidationIssueTypeCode.values()).map(CourseStudentValidationIssueTypeCode::getCode).toList(),
+            Arrays.stream(values()).collect(Collectors.toMap(CourseValidationRulesDependencyMatrix::getRuleID, CourseValidationRulesDependencyMatrix::getBaseRuleErrorCode)));
+
+    private static final Map<String, CourseValidationRulesDependencyMatrix> ENTRIES_BY_RULE_ID = Arrays.stream(values())
+            .collect(Collectors.toUnmodifiableMap(entry -> entry.ruleID.toUpperCase(), Function.identity()));
+
     private final String ruleID;
     private final String[] baseRuleErrorCode;
-    CourseValidationRulesDependencyMatrix(String ruleID, String[] baseRuleErrorCode) {
+    private final Set<RemoteLookup> remoteLookups;
+    CourseValidationRulesDependencyMatrix(String ruleID, String[] baseRuleErrorCode, RemoteLookup... remoteLookups) {
         this.ruleID = ruleID;
         this.baseRuleErrorCode = baseRuleErrorCode;
+        this.remoteLookups = Set.of(remoteLookups);
     }
 
     public static Optional<CourseValidationRulesDependencyMatrix> findByValue(String ruleID) {
-        return Arrays.stream(values()).filter(code -> code.ruleID.equalsIgnoreCase(ruleID)).findFirst();
+        return ruleID == null ? Optional.empty() : Optional.ofNullable(ENTRIES_BY_RULE_ID.get(ruleID.toUpperCase()));
+    }
+
+    /**
+     * Whether the rule reads remote data through the rules service.
+     */
+    public static boolean readsRemoteData(String ruleID) {
+        return findByValue(ruleID).map(entry -> !entry.remoteLookups.isEmpty()).orElse(false);
+    }
+
+    /**
+     * The remote data read by the rules that the issues raised so far for the record do not block.
+     */
+    public static Set<RemoteLookup> findUnblockedRemoteLookups(ValidationIssueList<?> validationErrors) {
+        Set<RemoteLookup> lookups = EnumSet.noneOf(RemoteLookup.class);
+        for (CourseValidationRulesDependencyMatrix entry : values()) {
+            if (!entry.remoteLookups.isEmpty() && !DEPENDENCY_GRAPH.isBlocked(entry.ruleID, validationErrors)) {
+                lookups.addAll(entry.remoteLookups);
+            }
+        }
+        return lookups;
+    }
+
+    public static RuleDependencyGraph getDependencyGraph() {
+        return DEPENDENCY_GRAPH;
     }
 }
@@ -18,6 +18,7 @@ import java.time.LocalDate;
 import java.time.YearMonth;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 /**
@@ -72,7 +73,7 @@ public class FinalPercentageGradeMismatch implements CourseValidationBaseRule {
 
                 if (courseSession.isAfter(cutoffDate)) {
                     LocalDate sessionStartDate = LocalDate.of(Integer.parseInt(student.getCourseYear()), Integer.parseInt(student.getCourseMonth()), 1);
-                    List<LetterGrade> letterGradeList = restUtils.getLetterGradeList(sessionStartDate.atStartOfDay());
+                    Map<String, LetterGrade> letterGrades = restUtils.getLetterGradesByCode(sessionStartDate.atStartOfDay());
 
                     String finalLetterGrade = student.getFinalLetterGrade();
                     String finalPercentStr = student.getFinalPercentage();
@@ -81,9 +82,7 @@ public class FinalPercentageGradeMismatch implements CourseValidationBaseRule {
                     boolean hasFinalPercentValue = StringUtils.isNotBlank(finalPercentStr);
 
                     if (hasFinalLetterGrade) {
-                        Optional<LetterGrade> optionalStudentLetterGrade = letterGradeList.stream()
-                                .filter(letterGrade -> letterGrade.getGrade().equalsIgnoreCase(finalLetterGrade))
-                                .findFirst();
+                        Optional<LetterGrade> optionalStudentLetterGrade = Optional.ofNullable(letterGrades.get(finalLetterGrade.toUpperCase()));
 
                         if (optionalStudentLetterGrade.isPresent()) {
                             LetterGrade studentLetterGrade = optionalStudentLetterGrade.get();
@@ -16,6 +16,7 @@ import org.springframework.stereotype.Component;
 import java.time.LocalDate;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 /**
@@ -65,7 +66,7 @@ public class InterimPercentageGradeMismatchRule implements CourseValidationBaseR
         final List<CourseStudentValidationIssue> errors = new ArrayList<>();
 
         LocalDate sessionStartDate = LocalDate.of(Integer.parseInt(student.getCourseYear()), Integer.parseInt(student.getCourseMonth()), 1);
-        List<LetterGrade> letterGradeList = restUtils.getLetterGradeList(sessionStartDate.atStartOfDay());
+        Map<String, LetterGrade> letterGrades = restUtils.getLetterGradesByCode(sessionStartDate.atStartOfDay());
 
         String interimLetterGrade = student.getInterimLetterGrade();
         String interimPercentStr = student.getInterimPercentage();
@@ -74,9 +75,7 @@ public class InterimPercentageGradeMismatchRule implements CourseValidationBaseR
         boolean hasInterimPercentValue = StringUtils.isNotBlank(interimPercentStr);
 
         if (hasInterimLetterGrade) {
-            Optional<LetterGrade> optionalStudentLetterGrade = letterGradeList.stream()
-                .filter(letterGrade -> letterGrade.getGrade().equalsIgnoreCase(interimLetterGrade))
-                .findFirst();
+            Optional<LetterGrade> optionalStudentLetterGrade = Optional.ofNullable(letterGrades.get(interimLetterGrade.toUpperCase()));
 
             if (optionalStudentLetterGrade.isPresent()) {
                 LetterGrade studentLetterGrade = optionalStudentLetterGrade.get();
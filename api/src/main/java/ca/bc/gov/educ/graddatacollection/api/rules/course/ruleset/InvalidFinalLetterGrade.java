@@ -17,6 +17,7 @@ import org.springframework.stereotype.Component;
 import java.time.LocalDate;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 
 /**
  *  | ID   | Severity | Rule                                                                  | Dependent On |
@@ -56,9 +57,9 @@ public class InvalidFinalLetterGrade implements CourseValidationBaseRule {
         final List<CourseStudentValidationIssue> errors = new ArrayList<>();
 
         LocalDate sessionStartDate = LocalDate.of(Integer.parseInt(student.getCourseYear()), Integer.parseInt(student.getCourseMonth()), 1);
-        List<LetterGrade> letterGradeList = restUtils.getLetterGradeList(sessionStartDate.atStartOfDay());
+        Map<String, LetterGrade> letterGrades = restUtils.getLetterGradesByCode(sessionStartDate.atStartOfDay());
 
-        if (StringUtils.isNotBlank(student.getFinalLetterGrade()) && letterGradeList.stream().noneMatch(letterGrade -> letterGrade.getGrade().equals(student.getFinalLetterGrade()))) {
+        if (StringUtils.isNotBlank(student.getFinalLetterGrade()) && !letterGrades.containsKey(student.getFinalLetterGrade())) {
             String errorMessage = CourseStudentValidationIssueTypeCode.FINAL_LETTER_GRADE_INVALID.getMessage().formatted(StringEscapeUtils.escapeHtml4(student.getFinalLetterGrade()));
             log.debug("C32: Error: {} for courseStudentID :: {}", errorMessage, student.getCourseStudentID());
             errors.add(createValidationIssue(StudentValidationIssueSeverityCode.ERROR, ValidationFieldCode.FINAL_LETTER_GRADE, CourseStudentValidationIssueTypeCode.FINAL_LETTER_GRADE_INVALID, errorMessage));
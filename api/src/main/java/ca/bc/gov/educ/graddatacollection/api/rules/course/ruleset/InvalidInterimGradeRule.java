@@ -17,6 +17,7 @@ import org.springframework.stereotype.Component;
 import java.time.LocalDate;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 
 /**
  *  | ID   | Severity | Rule                                                                  | Dependent On  |
@@ -57,9 +58,9 @@ public class InvalidInterimGradeRule implements CourseValidationBaseRule {
         final List<CourseStudentValidationIssue> errors = new ArrayList<>();
 
         LocalDate sessionStartDate = LocalDate.of(Integer.parseInt(student.getCourseYear()), Integer.parseInt(student.getCourseMonth()), 1);
-        List<LetterGrade> letterGradeList = restUtils.getLetterGradeList(sessionStartDate.atStartOfDay());
+        Map<String, LetterGrade> letterGrades = restUtils.getLetterGradesByCode(sessionStartDate.atStartOfDay());
 
-        if (StringUtils.isNotBlank(student.getInterimLetterGrade()) && letterGradeList.stream().noneMatch(letterGrade -> letterGrade.getGrade().equals(student.getInterimLetterGrade()))) {
+        if (StringUtils.isNotBlank(student.getInterimLetterGrade()) && !letterGrades.containsKey(student.getInterimLetterGrade())) {
             String errorMessage = CourseStudentValidationIssueTypeCode.INTERIM_LETTER_GRADE_INVALID.getMessage().formatted(StringEscapeUtils.escapeHtml4(student.getInterimLetterGrade()));
             log.debug("C23: Error: {} for courseStudentID :: {}", errorMessage, student.getCourseStudentID());
             errors.add(createValidationIssue(StudentValidationIssueSeverityCode.ERROR, ValidationFieldCode.INTERIM_GRADE, CourseStudentValidationIssueTypeCode.INTERIM_LETTER_GRADE_INVALID, errorMessage));
@@ -1,32 +1,51 @@
 package ca.bc.gov.educ.graddatacollection.api.rules.demographic;
 
+import ca.bc.gov.educ.graddatacollection.api.properties.ApplicationProperties;
+import ca.bc.gov.educ.graddatacollection.api.rules.RuleTimers;
+import ca.bc.gov.educ.graddatacollection.api.rules.ValidationIssueList;
+import ca.bc.gov.educ.graddatacollection.api.service.v1.DemographicRulesService;
 import ca.bc.gov.educ.graddatacollection.api.struct.v1.DemographicStudentValidationIssue;
 import ca.bc.gov.educ.graddatacollection.api.struct.v1.StudentRuleData;
+import io.micrometer.core.instrument.MeterRegistry;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Component;
 
-import java.util.ArrayList;
 import java.util.List;
 
 @Slf4j
 @Component
 public class DemographicStudentRulesProcessor {
   private final List<DemographicValidationBaseRule> rules;
+  private final DemographicRulesService demographicRulesService;
+  private final ApplicationProperties props;
+  private final RuleTimers<DemographicValidationBaseRule> ruleTimers;
 
   @Autowired
-  public DemographicStudentRulesProcessor(final List<DemographicValidationBaseRule> rules) {
+  public DemographicStudentRulesProcessor(final List<DemographicValidationBaseRule> rules, final DemographicRulesService demographicRulesService, final ApplicationProperties props, final MeterRegistry meterRegistry) {
     this.rules = rules;
+    this.demographicRulesService = demographicRulesService;
+    this.props = props;
+    this.ruleTimers = new RuleTimers<>("DEMOGRAPHIC", rules, meterRegistry, Boolean.TRUE.equals(props.getRuleTimersEnabled()));
+    log.debug("Loaded {} demographic rules against the {} dependency matrix", rules.size(), DemographicValidationRulesDependencyMatrix.getDependencyGraph().getName());
   }
 
   public List<DemographicStudentValidationIssue> processRules(StudentRuleData ruleStudent) {
-    final List<DemographicStudentValidationIssue> validationErrorsMap = new ArrayList<>();
+    final ValidationIssueList<DemographicStudentValidationIssue> validationErrorsMap = DemographicValidationRulesDependencyMatrix.getDependencyGraph().newIssueList();
     log.debug("Starting validations check for student :: {} with data :: {}", ruleStudent.getDemographicStudentEntity().getDemographicStudentID(), ruleStudent);
-    rules.forEach(rule -> {
-      if(rule.shouldExecute(ruleStudent, validationErrorsMap)) {
-        validationErrorsMap.addAll(rule.executeValidation(ruleStudent));
+    boolean prefetchPending = Boolean.TRUE.equals(props.getRulesConcurrentLookupsEnabled());
+    for (var rule : rules) {
+      boolean shouldExecute = rule.shouldExecute(ruleStudent, validationErrorsMap);
+      String ruleID = validationErrorsMap.pollEvaluatedRuleID();
+      if (!shouldExecute) {
+        continue;
       }
-    });
+      if (prefetchPending && DemographicValidationRulesDependencyMatrix.readsRemoteData(ruleID)) {
+        prefetchPending = false;
+        this.demographicRulesService.prefetchRemoteData(ruleStudent, ruleStudent.getDemographicStudentEntity().getPen(), DemographicValidationRulesDependencyMatrix.findUnblockedRemoteLookups(validationErrorsMap));
+      }
+      validationErrorsMap.addAll(ruleTimers.record(rule, () -> rule.executeValidation(ruleStudent)));
+    }
     return validationErrorsMap;
   }
 }
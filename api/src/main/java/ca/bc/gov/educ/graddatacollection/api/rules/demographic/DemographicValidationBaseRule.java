@@ -6,9 +6,7 @@ import ca.bc.gov.educ.graddatacollection.api.rules.StudentValidationIssueSeverit
 import ca.bc.gov.educ.graddatacollection.api.struct.v1.DemographicStudentValidationIssue;
 import ca.bc.gov.educ.graddatacollection.api.struct.v1.StudentRuleData;
 
-import java.util.Arrays;
 import java.util.List;
-import java.util.Optional;
 
 public interface DemographicValidationBaseRule extends Rule<StudentRuleData, DemographicStudentValidationIssue> {
   default DemographicStudentValidationIssue createValidationIssue(StudentValidationIssueSeverityCode severityCode, ValidationFieldCode fieldCode, DemographicStudentValidationIssueTypeCode typeCode, String description, String... messageArgs){
@@ -28,11 +26,6 @@ public interface DemographicValidationBaseRule extends Rule<StudentRuleData, Dem
   }
 
   default boolean isValidationDependencyResolved(String fieldName, List<DemographicStudentValidationIssue> validationErrorsMap) {
-    Optional<DemographicValidationRulesDependencyMatrix> errorCodesToCheck = DemographicValidationRulesDependencyMatrix.findByValue(fieldName);
-    if(errorCodesToCheck.isPresent()) {
-      String[] errorCodes = errorCodesToCheck.get().getBaseRuleErrorCode();
-      return validationErrorsMap.stream().noneMatch(val -> Arrays.stream(errorCodes).anyMatch(val.getValidationIssueCode()::contentEquals));
-    }
-    return false;
+    return DemographicValidationRulesDependencyMatrix.getDependencyGraph().isDependencyResolved(fieldName, validationErrorsMap);
   }
 }
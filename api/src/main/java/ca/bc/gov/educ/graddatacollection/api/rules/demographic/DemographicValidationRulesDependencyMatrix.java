@@ -1,41 +1,83 @@
 package ca.bc.gov.educ.graddatacollection.api.rules.demographic;
 
+import ca.bc.gov.educ.graddatacollection.api.rules.RuleDependencyGraph;
+import ca.bc.gov.educ.graddatacollection.api.rules.ValidationIssueList;
+import ca.bc.gov.educ.graddatacollection.api.service.v1.BaseRulesService.RemoteLookup;
 import lombok.Getter;
 
 import java.util.Arrays;
+import java.util.EnumSet;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 import static ca.bc.gov.educ.graddatacollection.api.rules.demographic.DemographicStudentValidationIssueTypeCode.*;
 
 public enum DemographicValidationRulesDependencyMatrix {
-    ENTRY2("D10", new String[]{STUDENT_PEN_NOT_FOUND.getCode()}),
+    ENTRY2("D10", new String[]{STUDENT_PEN_NOT_FOUND.getCode()}, RemoteLookup.STUDENT_API_STUDENT),
     ENTRY3("D11", new String[]{STUDENT_PEN_NOT_FOUND.getCode()}),
-    ENTRY4("D12", new String[]{STUDENT_PEN_NOT_FOUND.getCode()}),
+    ENTRY4("D12", new String[]{STUDENT_PEN_NOT_FOUND.getCode()}, RemoteLookup.GRAD_STUDENT_RECORD),
     ENTRY5("D13", new String[]{STUDENT_PROGRAM_GRAD_REQUIREMENT_YEAR_INVALID.getCode()}),
     ENTRY6("D14", new String[]{STUDENT_PROGRAM_GRAD_REQUIREMENT_YEAR_INVALID.getCode()}),
     ENTRY7("D15", new String[]{GRADE_INVALID.getCode()}),
-    ENTRY8("D16", new String[]{STUDENT_PEN_NOT_FOUND.getCode(), STUDENT_BIRTHDATE_INVALID.getCode()}),
-    ENTRY10("D18", new String[]{STUDENT_PEN_NOT_FOUND.getCode(), STUDENT_PROGRAM_GRAD_REQUIREMENT_YEAR_INVALID.getCode()}),
-    ENTRY11("D19", new String[]{STUDENT_PEN_NOT_FOUND.getCode(), STUDENT_STATUS_INVALID.getCode()}),
-    ENTRY12("D20", new String[]{STUDENT_PEN_NOT_FOUND.getCode(), STUDENT_STATUS_INVALID.getCode()}),
-    ENTRY13("D21", new String[]{STUDENT_PEN_NOT_FOUND.getCode(), STUDENT_STATUS_INVALID.getCode()}),
-    ENTRY15("D23", new String[]{STUDENT_BIRTHDATE_INVALID.getCode(), STUDENT_PROGRAM_GRAD_REQUIREMENT_YEAR_INVALID.getCode()}),
+    ENTRY8("D16", new String[]{STUDENT_PEN_NOT_FOUND.getCode(), STUDENT_BIRTHDATE_INVALID.getCode()}, RemoteLookup.STUDENT_API_STUDENT),
+    ENTRY10("D18", new String[]{STUDENT_PEN_NOT_FOUND.getCode(), STUDENT_PROGRAM_GRAD_REQUIREMENT_YEAR_INVALID.getCode()}, RemoteLookup.GRAD_STUDENT_RECORD),
+    ENTRY11("D19", new String[]{STUDENT_PEN_NOT_FOUND.getCode(), STUDENT_STATUS_INVALID.getCode()}, RemoteLookup.GRAD_STUDENT_RECORD),
+    ENTRY12("D20", new String[]{STUDENT_PEN_NOT_FOUND.getCode(), STUDENT_STATUS_INVALID.getCode()}, RemoteLookup.GRAD_STUDENT_RECORD),
+    ENTRY13("D21", new String[]{STUDENT_PEN_NOT_FOUND.getCode(), STUDENT_STATUS_INVALID.getCode()}, RemoteLookup.STUDENT_API_STUDENT),
+    ENTRY15("D23", new String[]{STUDENT_BIRTHDATE_INVALID.getCode(), STUDENT_PROGRAM_GRAD_REQUIREMENT_YEAR_INVALID.getCode()}, RemoteLookup.GRAD_STUDENT_RECORD),
     ENTRY16("D24", new String[]{STUDENT_PROGRAM_GRAD_REQUIREMENT_YEAR_INVALID.getCode(), GRADE_INVALID.getCode()}),
     ENTRY17("D25", new String[]{STUDENT_PROGRAM_GRAD_REQUIREMENT_YEAR_INVALID.getCode(), SCCP_INVALID_DATE.getCode(), SCCP_DATE_TOO_EARLY.getCode()}),
     ENTRY18("D26", new String[]{GRADE_INVALID.getCode(), SCCP_INVALID_STUDENT_PROGRAM.getCode()}),
-    ENTRY19("D27", new String[]{STUDENT_PEN_NOT_FOUND.getCode(), STUDENT_PROGRAM_GRAD_REQUIREMENT_YEAR_INVALID.getCode(), SCCP_INVALID_DATE.getCode(), SCCP_INVALID_STUDENT_PROGRAM.getCode()}),
+    ENTRY19("D27", new String[]{STUDENT_PEN_NOT_FOUND.getCode(), STUDENT_PROGRAM_GRAD_REQUIREMENT_YEAR_INVALID.getCode(), SCCP_INVALID_DATE.getCode(), SCCP_INVALID_STUDENT_PROGRAM.getCode()}, RemoteLookup.GRAD_STUDENT_RECORD),
     ;
 
+    private static final RuleDependencyGraph DEPENDENCY_GRAPH = RuleDependencyGraph.compile("demographic",
+            Arrays.stream(DemographicStudentValidationIssueTypeCode.values()).map(DemographicStudentValidationIssueTypeCode::getCode).toList(),
+            Arrays.stream(values()).collect(Collectors.toMap(DemographicValidationRulesDependencyMatrix::getRuleID, DemographicValidationRulesDependencyMatrix::getBaseRuleErrorCode)));
+
+    private static final Map<String, DemographicValidationRulesDependencyMatrix> ENTRIES_BY_RULE_ID = Arrays.stream(values())
+            .collect(Collectors.toUnmodifiableMap(entry -> entry.ruleID.toUpperCase(), Function.identity()));
+
     @Getter
     private final String ruleID;
     @Getter
     private final String[] baseRuleErrorCode;
-    DemographicValidationRulesDependencyMatrix(String ruleID, String[] baseRuleErrorCode) {
+    @Getter
+    private final Set<RemoteLookup> remoteLookups;
+    DemographicValidationRulesDependencyMatrix(String ruleID, String[] baseRuleErrorCode, RemoteLookup... remoteLookups) {
         this.ruleID = ruleID;
         this.baseRuleErrorCode = baseRuleErrorCode;
+        this.remoteLookups = Set.of(remoteLookups);
     }
 
     public static Optional<DemographicValidationRulesDependencyMatrix> findByValue(String ruleID) {
-        return Arrays.stream(values()).filter(code -> code.ruleID.equalsIgnoreCase(ruleID)).findFirst();
+        return ruleID == null ? Optional.empty() : Optional.ofNullable(ENTRIES_BY_RULE_ID.get(ruleID.toUpperCase()));
+    }
+
+    /**
+     * Whether the rule reads remote data through the rules service.
+     */
+    public static boolean readsRemoteData(String ruleID) {
+        return findByValue(ruleID).map(entry -> !entry.remoteLookups.isEmpty()).orElse(false);
+    }
+
+    /**
+     * The remote data read by the rules that the issues raised so far for the record do not block.
+     */
+    public static Set<RemoteLookup> findUnblockedRemoteLookups(ValidationIssueList<?> validationErrors) {
+        Set<RemoteLookup> lookups = EnumSet.noneOf(RemoteLookup.class);
+        for (DemographicValidationRulesDependencyMatrix entry : values()) {
+            if (!entry.remoteLookups.isEmpty() && !DEPENDENCY_GRAPH.isBlocked(entry.ruleID, validationErrors)) {
+                lookups.addAll(entry.remoteLookups);
+            }
+        }
+        return lookups;
+    }
+
+    public static RuleDependencyGraph getDependencyGraph() {
+        return DEPENDENCY_GRAPH;
     }
 }
@@ -15,6 +15,7 @@ import org.springframework.stereotype.Component;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Optional;
 
 /**
  *  | ID   | Severity | Rule                                                                  | Dependent On |
@@ -54,11 +55,11 @@ public class EffectiveGradeInGradRule implements DemographicValidationBaseRule {
         final List<DemographicStudentValidationIssue> errors = new ArrayList<>();
 
         if(StringUtils.isNotBlank(student.getGrade())) {
-            var activeGradGrades = restUtils.getGradGradeList(true);
+            var activeGradGrades = restUtils.getGradGradesByCode(true);
             var incomingGrade = StringUtils.isNumeric(student.getGrade())  && student.getGrade().length() == 1
                     ? "0" + student.getGrade()
                     : student.getGrade();
-            var matchedGradGrade = activeGradGrades.stream().filter(grade -> grade.getStudentGradeCode().equalsIgnoreCase(incomingGrade)).findFirst();
+            var matchedGradGrade = Optional.ofNullable(activeGradGrades.get(incomingGrade.toUpperCase()));
 
             if (matchedGradGrade.isPresent() && matchedGradGrade.get().getExpected().equalsIgnoreCase("N")) {
                 String errorMessage = DemographicStudentValidationIssueTypeCode.GRADE_NOT_EXPECTED.getMessage().formatted(StringEscapeUtils.escapeHtml4(student.getGrade()));
@@ -56,10 +56,10 @@ public class InvalidGradeRule implements DemographicValidationBaseRule {
         log.debug("In executeValidation of StudentGrade-D07 for demographicStudentID :: {}", student.getDemographicStudentID());
         final List<DemographicStudentValidationIssue> errors = new ArrayList<>();
 
-        var activeGradGrades = restUtils.getGradGradeList(true);
+        var activeGradGrades = restUtils.getGradGradesByCode(true);
         boolean isSummer = demographicRulesService.isSummerCollection(student.getIncomingFileset());
 
-        if ((!isSummer && StringUtils.isBlank(student.getGrade())) || (StringUtils.isNotBlank(student.getGrade()) && activeGradGrades.stream().noneMatch(grade -> grade.getStudentGradeCode().equalsIgnoreCase(StringUtils.leftPad(student.getGrade(),2,"0"))))) {
+        if ((!isSummer && StringUtils.isBlank(student.getGrade())) || (StringUtils.isNotBlank(student.getGrade()) && !activeGradGrades.containsKey(StringUtils.leftPad(student.getGrade(),2,"0").toUpperCase()))) {
             String errorMessage = DemographicStudentValidationIssueTypeCode.GRADE_INVALID.getMessage().formatted(StringEscapeUtils.escapeHtml4(student.getGrade()));
             log.debug("StudentGrade-D07: {} for demographicStudentID :: {}", errorMessage, student.getDemographicStudentID());
             errors.add(createValidationIssue(StudentValidationIssueSeverityCode.ERROR, ValidationFieldCode.GRADE, DemographicStudentValidationIssueTypeCode.GRADE_INVALID, errorMessage));
@@ -44,7 +44,7 @@ public class EventTaskScheduler {
   }
 
   @Scheduled(cron = "${scheduled.jobs.process.loaded.grad.students.cron}")
-  @SchedulerLock(name = "PROCESS_LOADED_STUDENTS", lockAtLeastFor = "${scheduled.jobs.process.loaded.grad.students.cron.lockAtLeastFor}", lockAtMostFor = "${scheduled.jobs.process.loaded.grad.students.cron.lockAtMostFor}")
+  @SchedulerLock(name = EventTaskSchedulerAsyncService.PROCESS_LOADED_STUDENTS_LOCK, lockAtLeastFor = "${scheduled.jobs.process.loaded.grad.students.cron.lockAtLeastFor}", lockAtMostFor = "${scheduled.jobs.process.loaded.grad.students.cron.lockAtMostFor}")
   public void processLoadedStudents() {
     LockAssert.assertLocked();
     log.debug("Started processLoadedStudents scheduler");
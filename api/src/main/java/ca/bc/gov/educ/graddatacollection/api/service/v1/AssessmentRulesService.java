@@ -3,10 +3,12 @@ package ca.bc.gov.educ.graddatacollection.api.service.v1;
 import ca.bc.gov.educ.graddatacollection.api.constants.v1.AssessmentSessionMonths;
 import ca.bc.gov.educ.graddatacollection.api.constants.v1.NumeracyAssessmentCodes;
 import ca.bc.gov.educ.graddatacollection.api.model.v1.DemographicStudentEntity;
+import ca.bc.gov.educ.graddatacollection.api.model.v1.IncomingFilesetEntity;
 import ca.bc.gov.educ.graddatacollection.api.model.v1.ReportingPeriodEntity;
 import ca.bc.gov.educ.graddatacollection.api.repository.v1.AssessmentStudentRepository;
 import ca.bc.gov.educ.graddatacollection.api.repository.v1.DemographicStudentRepository;
 import ca.bc.gov.educ.graddatacollection.api.rest.RestUtils;
+import ca.bc.gov.educ.graddatacollection.api.rest.StudentPenLookupBatcher;
 import ca.bc.gov.educ.graddatacollection.api.struct.external.easapi.v1.AssessmentStudentDetailResponse;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.commons.lang3.StringUtils;
@@ -25,11 +27,13 @@ public class AssessmentRulesService extends BaseRulesService {
 
     private final DemographicStudentRepository demographicStudentRepository;
     private final AssessmentStudentRepository assessmentStudentRepository;
+    private final FilesetDuplicateIndexService filesetDuplicateIndexService;
 
-    public AssessmentRulesService(RestUtils restUtils, DemographicStudentRepository demographicStudentRepository, AssessmentStudentRepository assessmentStudentRepository) {
-        super(restUtils);
+    public AssessmentRulesService(RestUtils restUtils, StudentPenLookupBatcher studentPenLookupBatcher, FilesetStudentCacheService filesetStudentCacheService, DemographicStudentRepository demographicStudentRepository, AssessmentStudentRepository assessmentStudentRepository, FilesetDuplicateIndexService filesetDuplicateIndexService) {
+        super(restUtils, studentPenLookupBatcher, filesetStudentCacheService);
         this.demographicStudentRepository = demographicStudentRepository;
         this.assessmentStudentRepository = assessmentStudentRepository;
+        this.filesetDuplicateIndexService = filesetDuplicateIndexService;
     }
 
     public boolean containsDemographicDataForStudent(UUID incomingFilesetID, String pen, String surname , String localID) {
@@ -130,18 +134,24 @@ public class AssessmentRulesService extends BaseRulesService {
         return stud;
     }
 
-    public boolean checkIfStudentHasDuplicatesInFileset(UUID incomingFilesetID, String pen, String courseCode, String courseMonth, String courseYear){
-        return assessmentStudentRepository.countByIncomingFileset_IncomingFilesetIDAndPenEqualsAndCourseCodeEqualsAndCourseMonthEqualsAndCourseYearEquals(incomingFilesetID, pen, courseCode, courseMonth, courseYear) > 1;
+    public boolean checkIfStudentHasDuplicatesInFileset(IncomingFilesetEntity incomingFileset, String pen, String courseCode, String courseMonth, String courseYear){
+        if (filesetDuplicateIndexService.isEnabled()) {
+            return filesetDuplicateIndexService.hasDuplicateAssessmentSession(incomingFileset, pen, courseCode, courseMonth, courseYear);
+        }
+        return assessmentStudentRepository.countByIncomingFileset_IncomingFilesetIDAndPenEqualsAndCourseCodeEqualsAndCourseMonthEqualsAndCourseYearEquals(incomingFileset.getIncomingFilesetID(), pen, courseCode, courseMonth, courseYear) > 1;
     }
 
-    public boolean checkIfStudentHasDuplicatesInFilesetWithNumeracyCheck(UUID incomingFilesetID, String pen, String courseCode, String courseMonth, String courseYear) {
+    public boolean checkIfStudentHasDuplicatesInFilesetWithNumeracyCheck(IncomingFilesetEntity incomingFileset, String pen, String courseCode, String courseMonth, String courseYear) {
         final List<String> numeracyCodes = NumeracyAssessmentCodes.getAllCodes();
         boolean isNumeracy = numeracyCodes.stream().anyMatch(code -> code.equalsIgnoreCase(courseCode));
         if (isNumeracy) {
-            long count = assessmentStudentRepository.countNumeracyDuplicates(incomingFilesetID, pen, numeracyCodes, courseMonth, courseYear);
+            if (filesetDuplicateIndexService.isEnabled()) {
+                return filesetDuplicateIndexService.hasDuplicateNumeracySession(incomingFileset, pen, courseMonth, courseYear);
+            }
+            long count = assessmentStudentRepository.countNumeracyDuplicates(incomingFileset.getIncomingFilesetID(), pen, numeracyCodes, courseMonth, courseYear);
             return count > 1;
         } else {
-            return checkIfStudentHasDuplicatesInFileset(incomingFilesetID, pen, courseCode, courseMonth, courseYear);
+            return checkIfStudentHasDuplicatesInFileset(incomingFileset, pen, courseCode, courseMonth, courseYear);
         }
     }
 }
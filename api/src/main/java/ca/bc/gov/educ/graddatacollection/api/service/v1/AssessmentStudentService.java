@@ -1,5 +1,6 @@
 package ca.bc.gov.educ.graddatacollection.api.service.v1;
 
+import ca.bc.gov.educ.graddatacollection.api.batch.constants.FileType;
 import ca.bc.gov.educ.graddatacollection.api.constants.EventOutcome;
 import ca.bc.gov.educ.graddatacollection.api.constants.EventType;
 import ca.bc.gov.educ.graddatacollection.api.constants.TopicsEnum;
@@ -12,6 +13,7 @@ import ca.bc.gov.educ.graddatacollection.api.messaging.MessagePublisher;
 import ca.bc.gov.educ.graddatacollection.api.model.v1.*;
 import ca.bc.gov.educ.graddatacollection.api.properties.ApplicationProperties;
 import ca.bc.gov.educ.graddatacollection.api.repository.v1.AssessmentStudentRepository;
+import ca.bc.gov.educ.graddatacollection.api.repository.v1.AssessmentStudentLightRepository;
 import ca.bc.gov.educ.graddatacollection.api.repository.v1.FinalAssessmentStudentRepository;
 import ca.bc.gov.educ.graddatacollection.api.rest.RestUtils;
 import ca.bc.gov.educ.graddatacollection.api.rules.StudentValidationIssueSeverityCode;
@@ -44,9 +46,12 @@ public class AssessmentStudentService {
     private final MessagePublisher messagePublisher;
     private final RestUtils restUtils;
     private final AssessmentStudentRepository assessmentStudentRepository;
+    private final AssessmentStudentLightRepository assessmentStudentLightRepository;
     private final FinalAssessmentStudentRepository finalAssessmentStudentRepository;
     private final AssessmentStudentRulesProcessor assessmentStudentRulesProcessor;
     private final ErrorFilesetStudentService errorFilesetStudentService;
+    private final ApplicationProperties applicationProperties;
+    private final IncomingFilesetProgressService incomingFilesetProgressService;
     private static final String ASSESSMENT_STUDENT_ID = "assessmentStudentID";
     private static final String EVENT_EMPTY_MSG = "Event String is empty, skipping the publish to topic :: {}";
 
@@ -87,8 +92,10 @@ public class AssessmentStudentService {
             if(flagError) {
                 errorFilesetStudentService.flagErrorOnStudent(currentStudentEntity.get().getIncomingFileset().getIncomingFilesetID(), currentStudentEntity.get().getPen(), demographicStudentEntity, currentStudentEntity.get().getCreateUser(), currentStudentEntity.get().getCreateDate(), currentStudentEntity.get().getUpdateUser(), currentStudentEntity.get().getUpdateDate());
             }
+            var previousStatus = currentStudentEntity.get().getStudentStatusCode();
             currentStudentEntity.get().setStudentStatusCode(status.getCode());
             saveAssessmentStudent(currentStudentEntity.get());
+            incomingFilesetProgressService.recordStatusChange(currentStudentEntity.get().getIncomingFileset().getIncomingFilesetID(), FileType.XAM, previousStatus, status.getCode(), 1);
         } else {
             throw new EntityNotFoundException(AssessmentStudentEntity.class, ASSESSMENT_STUDENT_ID, assessmentStudentID.toString());
         }
@@ -99,9 +106,11 @@ public class AssessmentStudentService {
         var currentStudentEntity = this.assessmentStudentRepository.findById(assessmentStudentID);
         if(currentStudentEntity.isPresent()) {
             errorFilesetStudentService.flagErrorOnStudent(currentStudentEntity.get().getIncomingFileset().getIncomingFilesetID(), currentStudentEntity.get().getPen(), demographicStudentEntity, currentStudentEntity.get().getCreateUser(), currentStudentEntity.get().getCreateDate(), currentStudentEntity.get().getUpdateUser(), currentStudentEntity.get().getUpdateDate());
+            var previousStatus = currentStudentEntity.get().getStudentStatusCode();
             currentStudentEntity.get().setStudentStatusCode(status.getCode());
             currentStudentEntity.get().getAssessmentStudentValidationIssueEntities().add(createValidationIssue(currentStudentEntity.get(), severityCode, fieldCode, typeCode, description, updateUser));
             saveAssessmentStudent(currentStudentEntity.get());
+            incomingFilesetProgressService.recordStatusChange(currentStudentEntity.get().getIncomingFileset().getIncomingFilesetID(), FileType.XAM, previousStatus, status.getCode(), 1);
         } else {
             throw new EntityNotFoundException(AssessmentStudentEntity.class, ASSESSMENT_STUDENT_ID, assessmentStudentID.toString());
         }
@@ -156,22 +165,61 @@ public class AssessmentStudentService {
         final List<AssessmentStudentSagaData> assessmentStudentSagaData = assessmentStudentEntity.stream()
                 .map(el -> {
                     val gradAssessmentStudentSagaData = new AssessmentStudentSagaData();
-                    var school = this.restUtils.getSchoolBySchoolID(incomingFileset.getSchoolID().toString());
-                    gradAssessmentStudentSagaData.setSchool(school.get());
-                    gradAssessmentStudentSagaData.setAssessmentStudent(AssessmentStudentMapper.mapper.toAssessmentStudent(el));
+                    gradAssessmentStudentSagaData.setAssessmentStudentID(el.getAssessmentStudentID().toString());
+                    gradAssessmentStudentSagaData.setIncomingFilesetID(el.getIncomingFilesetID().toString());
+                    gradAssessmentStudentSagaData.setSchoolID(incomingFileset.getSchoolID().toString());
                     return gradAssessmentStudentSagaData;
                 }).toList();
         this.publishUnprocessedStudentRecordsForProcessing(assessmentStudentSagaData);
     }
 
     public void publishUnprocessedStudentRecordsForProcessing(final List<AssessmentStudentSagaData> assessmentStudentSagaData) {
-        assessmentStudentSagaData.forEach(this::sendIndividualStudentAsMessageToTopic);
+        if (Boolean.TRUE.equals(this.applicationProperties.getSagaCreationBatchEnabled())) {
+            this.sendStudentBatchAsMessageToTopic(assessmentStudentSagaData);
+        } else {
+            assessmentStudentSagaData.forEach(this::sendIndividualStudentAsMessageToTopic);
+        }
+    }
+
+    private void sendStudentBatchAsMessageToTopic(final List<AssessmentStudentSagaData> assessmentStudentSagaData) {
+        if (assessmentStudentSagaData.isEmpty()) {
+            return;
+        }
+        final var eventPayload = JsonUtil.getJsonString(assessmentStudentSagaData);
+        if (eventPayload.isPresent()) {
+            final Event event = Event.builder().eventType(EventType.READ_ASSESSMENT_STUDENT_BATCH_FOR_PROCESSING).eventOutcome(EventOutcome.READ_ASSESSMENT_STUDENT_BATCH_FOR_PROCESSING_SUCCESS).eventPayload(eventPayload.get()).build();
+            final var eventString = JsonUtil.getJsonString(event);
+            if (eventString.isPresent()) {
+                this.messagePublisher.dispatchMessage(TopicsEnum.READ_ASSESSMENT_STUDENTS_FROM_TOPIC.toString(), eventString.get().getBytes());
+            } else {
+                log.error(EVENT_EMPTY_MSG, assessmentStudentSagaData);
+            }
+        } else {
+            log.error(EVENT_EMPTY_MSG, assessmentStudentSagaData);
+        }
+    }
+
+    /**
+     * Loads the student row and school a saga step works on. The saga payload only carries their IDs; payloads of sagas
+     * created before that already embed both and are returned as they are.
+     */
+    public AssessmentStudentSagaData hydrateSagaData(final AssessmentStudentSagaData assessmentStudentSagaData) {
+        if (assessmentStudentSagaData.getAssessmentStudent() == null) {
+            var studentID = UUID.fromString(assessmentStudentSagaData.getAssessmentStudentID());
+            var student = this.assessmentStudentLightRepository.findById(studentID).orElseThrow(() -> new EntityNotFoundException(AssessmentStudentEntity.class, ASSESSMENT_STUDENT_ID, studentID.toString()));
+            assessmentStudentSagaData.setAssessmentStudent(AssessmentStudentMapper.mapper.toAssessmentStudent(student));
+        }
+        if (assessmentStudentSagaData.getSchool() == null) {
+            var schoolID = assessmentStudentSagaData.getSchoolID();
+            assessmentStudentSagaData.setSchool(this.restUtils.getSchoolBySchoolID(schoolID).orElseThrow(() -> new EntityNotFoundException(SchoolTombstone.class, "schoolID", schoolID)));
+        }
+        return assessmentStudentSagaData;
     }
 
     private void sendIndividualStudentAsMessageToTopic(final AssessmentStudentSagaData assessmentStudentSagaData) {
         final var eventPayload = JsonUtil.getJsonString(assessmentStudentSagaData);
         if (eventPayload.isPresent()) {
-            final Event event = Event.builder().eventType(EventType.READ_ASSESSMENT_STUDENTS_FOR_PROCESSING).eventOutcome(EventOutcome.READ_ASSESSMENT_STUDENTS_FOR_PROCESSING_SUCCESS).eventPayload(eventPayload.get()).assessmentStudentID(String.valueOf(assessmentStudentSagaData.getAssessmentStudent().getAssessmentStudentID())).build();
+            final Event event = Event.builder().eventType(EventType.READ_ASSESSMENT_STUDENTS_FOR_PROCESSING).eventOutcome(EventOutcome.READ_ASSESSMENT_STUDENTS_FOR_PROCESSING_SUCCESS).eventPayload(eventPayload.get()).assessmentStudentID(assessmentStudentSagaData.getAssessmentStudentID()).build();
             final var eventString = JsonUtil.getJsonString(event);
             if (eventString.isPresent()) {
                 this.messagePublisher.dispatchMessage(TopicsEnum.READ_ASSESSMENT_STUDENTS_FROM_TOPIC.toString(), eventString.get().getBytes());
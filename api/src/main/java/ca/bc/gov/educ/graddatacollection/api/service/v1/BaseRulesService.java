@@ -3,13 +3,17 @@ package ca.bc.gov.educ.graddatacollection.api.service.v1;
 import ca.bc.gov.educ.graddatacollection.api.exception.EntityNotFoundException;
 import ca.bc.gov.educ.graddatacollection.api.model.v1.IncomingFilesetEntity;
 import ca.bc.gov.educ.graddatacollection.api.model.v1.ReportingPeriodEntity;
+import ca.bc.gov.educ.graddatacollection.api.rest.ExaminableCourseWindow;
 import ca.bc.gov.educ.graddatacollection.api.rest.RestUtils;
+import ca.bc.gov.educ.graddatacollection.api.rest.StudentPenLookupBatcher;
+import ca.bc.gov.educ.graddatacollection.api.service.v1.FilesetStudentCacheService.CachedStudentData;
+import ca.bc.gov.educ.graddatacollection.api.service.v1.FilesetStudentCacheService.Stage;
 import ca.bc.gov.educ.graddatacollection.api.struct.external.coreg.v1.CoregCoursesRecord;
-import ca.bc.gov.educ.graddatacollection.api.struct.external.grad.v1.GradExaminableCourse;
 import ca.bc.gov.educ.graddatacollection.api.struct.external.grad.v1.GradStudentCourseRecord;
 import ca.bc.gov.educ.graddatacollection.api.struct.external.grad.v1.GradStudentRecord;
 import ca.bc.gov.educ.graddatacollection.api.struct.external.studentapi.v1.Student;
 import ca.bc.gov.educ.graddatacollection.api.struct.v1.StudentRuleData;
+import jakarta.annotation.PreDestroy;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.commons.lang3.StringUtils;
@@ -17,8 +21,14 @@ import org.springframework.stereotype.Service;
 
 import java.time.LocalDateTime;
 import java.time.YearMonth;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Set;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
 import java.util.concurrent.atomic.AtomicBoolean;
 
 @Service
@@ -27,20 +37,94 @@ import java.util.concurrent.atomic.AtomicBoolean;
 public class BaseRulesService {
 
     protected final RestUtils restUtils;
+    protected final StudentPenLookupBatcher studentPenLookupBatcher;
+    protected final FilesetStudentCacheService filesetStudentCacheService;
+    private final ExecutorService remoteLookupExecutor = Executors.newVirtualThreadPerTaskExecutor();
+
+    /**
+     * The remote data a rule reads through this service, as declared in the rules dependency matrices.
+     */
+    public enum RemoteLookup {
+        STUDENT_API_STUDENT,
+        GRAD_STUDENT_RECORD,
+        GRAD_STUDENT_COURSES,
+        COREG_COURSES,
+        COREG_RELATED_COURSES
+    }
+
+    /**
+     * Loads the given remote data of one record before the rules that read it run, overlapping the independent
+     * lookups on virtual threads. The rules processors pass only the lookups of the rules that the issues raised so
+     * far do not block. The Student API record and the CoReg course records go first, then the GRAD record and GRAD
+     * course list, which need the student ID. Results land in the same StudentRuleData fields the lazy getters below
+     * fill, so the rules still run serially and produce the same issues. A lookup that fails here is left unfetched
+     * and is retried by the rule that needs it.
+     */
+    public void prefetchRemoteData(StudentRuleData studentRuleData, String pen, Set<RemoteLookup> lookups) {
+        var courseStudent = studentRuleData.getCourseStudentEntity();
+        boolean needsStudentApiStudent = lookups.contains(RemoteLookup.STUDENT_API_STUDENT) || lookups.contains(RemoteLookup.GRAD_STUDENT_RECORD) || lookups.contains(RemoteLookup.GRAD_STUDENT_COURSES);
+        List<Runnable> independentLookups = new ArrayList<>();
+        if (needsStudentApiStudent && StringUtils.isNotBlank(pen)) {
+            independentLookups.add(() -> getStudentApiStudent(studentRuleData, pen));
+        }
+        if (courseStudent != null && lookups.contains(RemoteLookup.COREG_COURSES)) {
+            independentLookups.add(() -> getCoregCoursesRecord(studentRuleData, courseStudent.getCourseCode(), courseStudent.getCourseLevel()));
+        }
+        if (courseStudent != null && lookups.contains(RemoteLookup.COREG_RELATED_COURSES)) {
+            independentLookups.add(() -> getCoregRelatedCoursesRecord(studentRuleData, courseStudent.getRelatedCourse(), courseStudent.getRelatedLevel()));
+        }
+        runConcurrently(independentLookups);
+
+        var studentApiStudent = studentRuleData.getStudentApiStudent();
+        if (studentApiStudent == null) {
+            return;
+        }
+        List<Runnable> studentLookups = new ArrayList<>();
+        if (lookups.contains(RemoteLookup.GRAD_STUDENT_RECORD)) {
+            studentLookups.add(() -> getGradStudentRecord(studentRuleData, pen));
+        }
+        if (courseStudent != null && lookups.contains(RemoteLookup.GRAD_STUDENT_COURSES)) {
+            studentLookups.add(() -> getStudentCourseRecord(studentRuleData, studentApiStudent.getStudentID()));
+        }
+        runConcurrently(studentLookups);
+    }
+
+    private void runConcurrently(List<Runnable> lookups) {
+        List<CompletableFuture<Void>> futures = new ArrayList<>();
+        try {
+            lookups.forEach(lookup -> futures.add(CompletableFuture.runAsync(lookup, remoteLookupExecutor)));
+        } catch (RejectedExecutionException e) {
+            log.debug("Remote lookup prefetch rejected while shutting down, leaving it to the rules");
+        }
+        for (var future : futures) {
+            try {
+                future.join();
+            } catch (Exception e) {
+                log.debug("Remote lookup prefetch failed, leaving it to the rules :: {}", e.getMessage());
+            }
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        remoteLookupExecutor.shutdownNow();
+    }
 
     public Student getStudentApiStudent(StudentRuleData studentRuleData, String pen) {
         if (Boolean.TRUE.equals(studentRuleData.getStudentApiStudentFetched())) {
             return studentRuleData.getStudentApiStudent();
         }
 
-        log.debug("BaseRulesService:getStudentApiStudent: Fetching student data using PEN: {}", pen);
-        try {
-            Student studentApiStudent = restUtils.getStudentByPEN(UUID.randomUUID(), pen);
-            studentRuleData.setStudentApiStudent(studentApiStudent);
-        } catch (EntityNotFoundException e) {
-            log.debug("No StudentApiStudent found for PEN: {}", pen);
-            studentRuleData.setStudentApiStudent(null);
-        }
+        Student studentApiStudent = filesetStudentCacheService.getOrLoad(getIncomingFilesetID(studentRuleData), getStage(studentRuleData), pen, CachedStudentData.STUDENT_API_STUDENT, () -> {
+            log.debug("BaseRulesService:getStudentApiStudent: Fetching student data using PEN: {}", pen);
+            try {
+                return studentPenLookupBatcher.getStudentByPEN(pen);
+            } catch (EntityNotFoundException e) {
+                log.debug("No StudentApiStudent found for PEN: {}", pen);
+                return null;
+            }
+        });
+        studentRuleData.setStudentApiStudent(studentApiStudent);
         studentRuleData.setStudentApiStudentFetched(true);
         return studentRuleData.getStudentApiStudent();
     }
@@ -61,16 +145,9 @@ public class BaseRulesService {
             return null;
         }
 
-        log.debug("BaseRulesService:getGradStudentRecord: Fetching GradStudentRecord for student ID: {}", studentRuleData.getStudentApiStudent().getStudentID());
         UUID studentUUID = UUID.fromString(studentRuleData.getStudentApiStudent().getStudentID());
-
-        try {
-            GradStudentRecord gradStudent = restUtils.getGradStudentRecordByStudentID(UUID.randomUUID(), studentUUID);
-            studentRuleData.setGradStudentRecord(gradStudent);
-        } catch (EntityNotFoundException e) {
-            log.debug("No GradStudentRecord found for student ID: {}", studentUUID);
-            studentRuleData.setGradStudentRecord(null);
-        }
+        GradStudentRecord gradStudent = filesetStudentCacheService.getOrLoad(getIncomingFilesetID(studentRuleData), getStage(studentRuleData), pen, CachedStudentData.GRAD_STUDENT_RECORD, () -> fetchGradStudentRecord(restUtils, studentUUID));
+        studentRuleData.setGradStudentRecord(gradStudent);
         studentRuleData.setGradStudentRecordFetched(true);
         return studentRuleData.getGradStudentRecord();
     }
@@ -123,6 +200,25 @@ public class BaseRulesService {
             return studentRuleData.getGradStudentCourseRecordList();
         }
 
+        String pen = studentRuleData.getStudentApiStudent() != null ? studentRuleData.getStudentApiStudent().getPen() : null;
+        List<GradStudentCourseRecord> gradStudentCourses = filesetStudentCacheService.getOrLoad(getIncomingFilesetID(studentRuleData), getStage(studentRuleData), pen, CachedStudentData.GRAD_STUDENT_COURSES, () -> fetchStudentCourseRecord(restUtils, studentID));
+        if (gradStudentCourses != null) {
+            studentRuleData.setGradStudentCourseRecordList(gradStudentCourses);
+        }
+        return gradStudentCourses;
+    }
+
+    static GradStudentRecord fetchGradStudentRecord(RestUtils restUtils, UUID studentUUID) {
+        log.debug("BaseRulesService:getGradStudentRecord: Fetching GradStudentRecord for student ID: {}", studentUUID);
+        try {
+            return restUtils.getGradStudentRecordByStudentID(UUID.randomUUID(), studentUUID);
+        } catch (EntityNotFoundException e) {
+            log.debug("No GradStudentRecord found for student ID: {}", studentUUID);
+            return null;
+        }
+    }
+
+    static List<GradStudentCourseRecord> fetchStudentCourseRecord(RestUtils restUtils, String studentID) {
         try {
             List<GradStudentCourseRecord> gradStudentCourses = restUtils.getGradStudentCoursesByStudentID(UUID.randomUUID(), studentID);
 
@@ -138,8 +234,6 @@ public class BaseRulesService {
                 log.debug("Grad Course Code for course ID: {} 39 is: {}", sc.getCourseID(), sc.getGradCourseCode39());
             });
 
-            studentRuleData.setGradStudentCourseRecordList(gradStudentCourses);
-
             return gradStudentCourses;
         } catch (EntityNotFoundException e) {
             log.debug("No gradStudentCourses found for studentID: {}", studentID);
@@ -147,6 +241,29 @@ public class BaseRulesService {
         }
     }
 
+    private UUID getIncomingFilesetID(StudentRuleData studentRuleData) {
+        IncomingFilesetEntity incomingFileset = null;
+        if (studentRuleData.getCourseStudentEntity() != null) {
+            incomingFileset = studentRuleData.getCourseStudentEntity().getIncomingFileset();
+        } else if (studentRuleData.getAssessmentStudentEntity() != null) {
+            incomingFileset = studentRuleData.getAssessmentStudentEntity().getIncomingFileset();
+        } else if (studentRuleData.getDemographicStudentEntity() != null) {
+            incomingFileset = studentRuleData.getDemographicStudentEntity().getIncomingFileset();
+        }
+        return incomingFileset != null ? incomingFileset.getIncomingFilesetID() : null;
+    }
+
+    private Stage getStage(StudentRuleData studentRuleData) {
+        if (studentRuleData.getCourseStudentEntity() != null) {
+            return Stage.CRS;
+        } else if (studentRuleData.getAssessmentStudentEntity() != null) {
+            return Stage.XAM;
+        } else if (studentRuleData.getDemographicStudentEntity() != null) {
+            return Stage.DEM;
+        }
+        return null;
+    }
+
     public boolean isSummerCollection(IncomingFilesetEntity incomingFilesetEntity) {
         ReportingPeriodEntity reportingPeriod = incomingFilesetEntity.getReportingPeriod();
         LocalDateTime now = LocalDateTime.now();
@@ -167,7 +284,7 @@ public class BaseRulesService {
         var demographicStudentEntity = studentRuleData.getDemographicStudentEntity();
         var gradStudentRecord = getGradStudentRecord(studentRuleData, courseStudentEntity.getPen());
         String externalID = formatExternalID(courseStudentEntity.getCourseCode(), courseStudentEntity.getCourseLevel());
-        List<GradExaminableCourse> examinableCourse = restUtils.getExaminableCourseByExternalID(externalID);
+        List<ExaminableCourseWindow> examinableCourse = restUtils.getExaminableCourseByExternalID(externalID);
         log.debug("ExaminableCourse found for externalID: {}, examinable course: {}", externalID, examinableCourse);
 
         final String studentGraduationProgram;
@@ -182,16 +299,14 @@ public class BaseRulesService {
         }
 
         if (!examinableCourse.isEmpty()) {
-            examinableCourse.forEach(sc -> {
-                YearMonth courseSession = YearMonth.of(Integer.parseInt(courseStudentEntity.getCourseYear()), Integer.parseInt(courseStudentEntity.getCourseMonth()));
-                YearMonth examinableCourseStart = YearMonth.parse(sc.getExaminableStart());
-                YearMonth examinableCourseEnd = YearMonth.parse(sc.getExaminableEnd());
-                log.debug("ExaminableCourseStart :: {}", examinableCourseStart);
-                log.debug("ExaminableCourseEnd :: {}", examinableCourseEnd);
-                log.debug("CourseSession :: {}", courseSession);
-
-                boolean dateRangeValid = (courseSession.equals(examinableCourseStart) || courseSession.isAfter(examinableCourseStart))
-                    && (courseSession.equals(examinableCourseEnd) || courseSession.isBefore(examinableCourseEnd));
+            YearMonth courseSession = YearMonth.of(Integer.parseInt(courseStudentEntity.getCourseYear()), Integer.parseInt(courseStudentEntity.getCourseMonth()));
+            log.debug("CourseSession :: {}", courseSession);
+            examinableCourse.forEach(window -> {
+                var sc = window.course();
+                log.debug("ExaminableCourseStart :: {}", window.examinableStart());
+                log.debug("ExaminableCourseEnd :: {}", window.examinableEnd());
+
+                boolean dateRangeValid = window.isExaminableAt(courseSession);
                 log.debug("Date range valid :: {}", dateRangeValid);
 
                 boolean programMatches = false;
@@ -15,11 +15,30 @@ import org.apache.commons.lang3.StringUtils;
 import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Service;
 
+import java.time.LocalDateTime;
 import java.util.List;
 
 @Service
 @Slf4j
 public class BaseSearchService {
+  /**
+   * Returns the number of queued filesets updated at or before the given date, the queued update dates being sorted
+   * in ascending order.
+   */
+  public static long getPositionInQueue(List<LocalDateTime> queuedUpdateDates, LocalDateTime updateDate) {
+    int low = 0;
+    int high = queuedUpdateDates.size();
+    while (low < high) {
+      int mid = (low + high) >>> 1;
+      if (queuedUpdateDates.get(mid).isAfter(updateDate)) {
+        high = mid;
+      } else {
+        low = mid + 1;
+      }
+    }
+    return low;
+  }
+
   public <T> Specification<T> getSpecifications(Specification<T> specs, int i, Search search, BaseFilterSpecs<T> filterSpecs) {
     if (i == 0) {
       specs = getEntitySpecification(search.getSearchCriteriaList(), filterSpecs);
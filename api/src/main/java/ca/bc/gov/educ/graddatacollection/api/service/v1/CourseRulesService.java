@@ -3,9 +3,11 @@ package ca.bc.gov.educ.graddatacollection.api.service.v1;
 import ca.bc.gov.educ.graddatacollection.api.constants.v1.SchoolStudentStatus;
 import ca.bc.gov.educ.graddatacollection.api.model.v1.CourseStudentEntity;
 import ca.bc.gov.educ.graddatacollection.api.model.v1.DemographicStudentEntity;
+import ca.bc.gov.educ.graddatacollection.api.model.v1.IncomingFilesetEntity;
 import ca.bc.gov.educ.graddatacollection.api.repository.v1.CourseStudentRepository;
 import ca.bc.gov.educ.graddatacollection.api.repository.v1.DemographicStudentRepository;
 import ca.bc.gov.educ.graddatacollection.api.rest.RestUtils;
+import ca.bc.gov.educ.graddatacollection.api.rest.StudentPenLookupBatcher;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 
@@ -18,11 +20,13 @@ public class CourseRulesService extends BaseRulesService {
     
     private final DemographicStudentRepository demographicStudentRepository;
     private final CourseStudentRepository courseStudentRepository;
+    private final FilesetDuplicateIndexService filesetDuplicateIndexService;
 
-    public CourseRulesService(DemographicStudentRepository demographicStudentRepository, RestUtils restUtils, CourseStudentRepository courseStudentRepository) {
-        super(restUtils);
+    public CourseRulesService(DemographicStudentRepository demographicStudentRepository, RestUtils restUtils, StudentPenLookupBatcher studentPenLookupBatcher, FilesetStudentCacheService filesetStudentCacheService, CourseStudentRepository courseStudentRepository, FilesetDuplicateIndexService filesetDuplicateIndexService) {
+        super(restUtils, studentPenLookupBatcher, filesetStudentCacheService);
         this.demographicStudentRepository = demographicStudentRepository;
         this.courseStudentRepository = courseStudentRepository;
+        this.filesetDuplicateIndexService = filesetDuplicateIndexService;
     }
 
     public DemographicStudentEntity getDemographicDataForStudent(UUID incomingFilesetID, String pen, String surname, String localID) {
@@ -41,8 +45,11 @@ public class CourseRulesService extends BaseRulesService {
         return null;
     }
 
-    public boolean checkIfStudentHasDuplicateInFileset(UUID incomingFilesetID, String pen, String courseCode, String courseMonth, String courseYear, String courseLevel) {
-        return courseStudentRepository.countByIncomingFileset_IncomingFilesetIDAndPenEqualsAndCourseCodeEqualsAndCourseMonthEqualsAndCourseYearEqualsAndCourseLevelEquals(incomingFilesetID, pen, courseCode, courseMonth, courseYear, courseLevel) > 1;
+    public boolean checkIfStudentHasDuplicateInFileset(IncomingFilesetEntity incomingFileset, String pen, String courseCode, String courseMonth, String courseYear, String courseLevel) {
+        if (filesetDuplicateIndexService.isEnabled()) {
+            return filesetDuplicateIndexService.hasDuplicateCourseSession(incomingFileset, pen, courseCode, courseMonth, courseYear, courseLevel);
+        }
+        return courseStudentRepository.countByIncomingFileset_IncomingFilesetIDAndPenEqualsAndCourseCodeEqualsAndCourseMonthEqualsAndCourseYearEqualsAndCourseLevelEquals(incomingFileset.getIncomingFilesetID(), pen, courseCode, courseMonth, courseYear, courseLevel) > 1;
     }
     
     public List<CourseStudentEntity> findByIncomingFilesetIDAndPenAndStudentStatusCode(final UUID incomingFilesetID, final String pen) {
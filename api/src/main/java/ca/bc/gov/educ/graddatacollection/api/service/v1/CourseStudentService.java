@@ -1,5 +1,6 @@
 package ca.bc.gov.educ.graddatacollection.api.service.v1;
 
+import ca.bc.gov.educ.graddatacollection.api.batch.constants.FileType;
 import ca.bc.gov.educ.graddatacollection.api.constants.EventOutcome;
 import ca.bc.gov.educ.graddatacollection.api.constants.EventType;
 import ca.bc.gov.educ.graddatacollection.api.constants.TopicsEnum;
@@ -12,6 +13,7 @@ import ca.bc.gov.educ.graddatacollection.api.messaging.MessagePublisher;
 import ca.bc.gov.educ.graddatacollection.api.model.v1.*;
 import ca.bc.gov.educ.graddatacollection.api.properties.ApplicationProperties;
 import ca.bc.gov.educ.graddatacollection.api.repository.v1.CourseStudentRepository;
+import ca.bc.gov.educ.graddatacollection.api.repository.v1.CourseStudentLightRepository;
 import ca.bc.gov.educ.graddatacollection.api.repository.v1.FinalCourseStudentRepository;
 import ca.bc.gov.educ.graddatacollection.api.rest.RestUtils;
 import ca.bc.gov.educ.graddatacollection.api.rules.StudentValidationIssueSeverityCode;
@@ -44,11 +46,14 @@ import java.util.UUID;
 public class CourseStudentService {
     private final MessagePublisher messagePublisher;
     private final CourseStudentRepository courseStudentRepository;
+    private final CourseStudentLightRepository courseStudentLightRepository;
     private final FinalCourseStudentRepository finalCourseStudentRepository;
     private final CourseRulesService courseRulesService;
     private final RestUtils restUtils;
     private final CourseStudentRulesProcessor courseStudentRulesProcessor;
     private final ErrorFilesetStudentService errorFilesetStudentService;
+    private final ApplicationProperties applicationProperties;
+    private final IncomingFilesetProgressService incomingFilesetProgressService;
     private static final String COURSE_STUDENT_ID = "courseStudentID";
     private static final String EVENT_EMPTY_MSG = "Event String is empty, skipping the publish to topic :: {}";
 
@@ -89,8 +94,10 @@ public class CourseStudentService {
             if(flagError) {
                 errorFilesetStudentService.flagErrorOnStudent(currentStudentEntity.get().getIncomingFileset().getIncomingFilesetID(), currentStudentEntity.get().getPen(), demographicStudentEntity, currentStudentEntity.get().getCreateUser(), currentStudentEntity.get().getCreateDate(), currentStudentEntity.get().getUpdateUser(), currentStudentEntity.get().getUpdateDate());
             }
+            var previousStatus = currentStudentEntity.get().getStudentStatusCode();
             currentStudentEntity.get().setStudentStatusCode(status.getCode());
             saveCourseStudent(currentStudentEntity.get());
+            incomingFilesetProgressService.recordStatusChange(currentStudentEntity.get().getIncomingFileset().getIncomingFilesetID(), FileType.CRS, previousStatus, status.getCode(), 1);
         } else {
             throw new EntityNotFoundException(CourseStudentEntity.class, COURSE_STUDENT_ID, courseStudentID.toString());
         }
@@ -101,9 +108,11 @@ public class CourseStudentService {
         var currentStudentEntity = this.courseStudentRepository.findById(courseStudentID);
         if(currentStudentEntity.isPresent()) {
             errorFilesetStudentService.flagErrorOnStudent(currentStudentEntity.get().getIncomingFileset().getIncomingFilesetID(), currentStudentEntity.get().getPen(), demographicStudentEntity, currentStudentEntity.get().getCreateUser(), currentStudentEntity.get().getCreateDate(), currentStudentEntity.get().getUpdateUser(), currentStudentEntity.get().getUpdateDate());
+            var previousStatus = currentStudentEntity.get().getStudentStatusCode();
             currentStudentEntity.get().setStudentStatusCode(status.getCode());
             currentStudentEntity.get().getCourseStudentValidationIssueEntities().add(createValidationIssue(currentStudentEntity.get(), severityCode, fieldCode, typeCode, description, updateUser));
             saveCourseStudent(currentStudentEntity.get());
+            incomingFilesetProgressService.recordStatusChange(currentStudentEntity.get().getIncomingFileset().getIncomingFilesetID(), FileType.CRS, previousStatus, status.getCode(), 1);
         } else {
             throw new EntityNotFoundException(CourseStudentEntity.class, COURSE_STUDENT_ID, courseStudentID.toString());
         }
@@ -158,22 +167,61 @@ public class CourseStudentService {
         final List<CourseStudentSagaData> courseStudentSagaData = courseStudentEntities.stream()
                 .map(el -> {
                     val gradCourseStudentSagaData = new CourseStudentSagaData();
-                    var school = this.restUtils.getSchoolBySchoolID(incomingFileset.getSchoolID().toString());
-                    gradCourseStudentSagaData.setSchool(school.get());
-                    gradCourseStudentSagaData.setCourseStudent(CourseStudentMapper.mapper.toCourseStudent(el));
+                    gradCourseStudentSagaData.setCourseStudentID(el.getCourseStudentID().toString());
+                    gradCourseStudentSagaData.setIncomingFilesetID(el.getIncomingFilesetID().toString());
+                    gradCourseStudentSagaData.setSchoolID(incomingFileset.getSchoolID().toString());
                     return gradCourseStudentSagaData;
                 }).toList();
         this.publishUnprocessedStudentRecordsForProcessing(courseStudentSagaData);
     }
 
     public void publishUnprocessedStudentRecordsForProcessing(final List<CourseStudentSagaData> courseStudentSagaData) {
-        courseStudentSagaData.forEach(this::sendIndividualStudentAsMessageToTopic);
+        if (Boolean.TRUE.equals(this.applicationProperties.getSagaCreationBatchEnabled())) {
+            this.sendStudentBatchAsMessageToTopic(courseStudentSagaData);
+        } else {
+            courseStudentSagaData.forEach(this::sendIndividualStudentAsMessageToTopic);
+        }
+    }
+
+    private void sendStudentBatchAsMessageToTopic(final List<CourseStudentSagaData> courseStudentSagaData) {
+        if (courseStudentSagaData.isEmpty()) {
+            return;
+        }
+        final var eventPayload = JsonUtil.getJsonString(courseStudentSagaData);
+        if (eventPayload.isPresent()) {
+            final Event event = Event.builder().eventType(EventType.READ_COURSE_STUDENT_BATCH_FOR_PROCESSING).eventOutcome(EventOutcome.READ_COURSE_STUDENT_BATCH_FOR_PROCESSING_SUCCESS).eventPayload(eventPayload.get()).build();
+            final var eventString = JsonUtil.getJsonString(event);
+            if (eventString.isPresent()) {
+                this.messagePublisher.dispatchMessage(TopicsEnum.READ_COURSE_STUDENTS_FROM_TOPIC.toString(), eventString.get().getBytes());
+            } else {
+                log.error(EVENT_EMPTY_MSG, courseStudentSagaData);
+            }
+        } else {
+            log.error(EVENT_EMPTY_MSG, courseStudentSagaData);
+        }
+    }
+
+    /**
+     * Loads the student row and school a saga step works on. The saga payload only carries their IDs; payloads of sagas
+     * created before that already embed both and are returned as they are.
+     */
+    public CourseStudentSagaData hydrateSagaData(final CourseStudentSagaData courseStudentSagaData) {
+        if (courseStudentSagaData.getCourseStudent() == null) {
+            var studentID = UUID.fromString(courseStudentSagaData.getCourseStudentID());
+            var student = this.courseStudentLightRepository.findById(studentID).orElseThrow(() -> new EntityNotFoundException(CourseStudentEntity.class, COURSE_STUDENT_ID, studentID.toString()));
+            courseStudentSagaData.setCourseStudent(CourseStudentMapper.mapper.toCourseStudent(student));
+        }
+        if (courseStudentSagaData.getSchool() == null) {
+            var schoolID = courseStudentSagaData.getSchoolID();
+            courseStudentSagaData.setSchool(this.restUtils.getSchoolBySchoolID(schoolID).orElseThrow(() -> new EntityNotFoundException(SchoolTombstone.class, "schoolID", schoolID)));
+        }
+        return courseStudentSagaData;
     }
 
     private void sendIndividualStudentAsMessageToTopic(final CourseStudentSagaData courseStudentSagaData) {
         final var eventPayload = JsonUtil.getJsonString(courseStudentSagaData);
         if (eventPayload.isPresent()) {
-            final Event event = Event.builder().eventType(EventType.READ_COURSE_STUDENTS_FOR_PROCESSING).eventOutcome(EventOutcome.READ_COURSE_STUDENTS_FOR_PROCESSING_SUCCESS).eventPayload(eventPayload.get()).courseStudentID(String.valueOf(courseStudentSagaData.getCourseStudent().getCourseStudentID())).build();
+            final Event event = Event.builder().eventType(EventType.READ_COURSE_STUDENTS_FOR_PROCESSING).eventOutcome(EventOutcome.READ_COURSE_STUDENTS_FOR_PROCESSING_SUCCESS).eventPayload(eventPayload.get()).courseStudentID(courseStudentSagaData.getCourseStudentID()).build();
             final var eventString = JsonUtil.getJsonString(event);
             if (eventString.isPresent()) {
                 this.messagePublisher.dispatchMessage(TopicsEnum.READ_COURSE_STUDENTS_FROM_TOPIC.toString(), eventString.get().getBytes());
@@ -218,6 +266,7 @@ public class CourseStudentService {
         List<CourseStudentEntity> currentStudentEntity = this.courseRulesService.findByIncomingFilesetIDAndPenAndStudentStatusCode(UUID.fromString(courseStudentUpdate.getIncomingFilesetID()), courseStudentUpdate.getPen());
         currentStudentEntity.forEach(courseStudentEntity -> courseStudentEntity.setStudentStatusCode(status.getCode()));
         courseStudentRepository.saveAll(currentStudentEntity);
+        incomingFilesetProgressService.recordStatusChange(UUID.fromString(courseStudentUpdate.getIncomingFilesetID()), FileType.CRS, SchoolStudentStatus.UPDATE_CRS.getCode(), status.getCode(), currentStudentEntity.size());
     }
 
 }
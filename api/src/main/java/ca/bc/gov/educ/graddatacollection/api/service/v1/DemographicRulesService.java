@@ -3,6 +3,7 @@ import ca.bc.gov.educ.graddatacollection.api.model.v1.DemographicStudentEntity;
 import ca.bc.gov.educ.graddatacollection.api.repository.v1.CourseStudentRepository;
 import ca.bc.gov.educ.graddatacollection.api.repository.v1.DemographicStudentRepository;
 import ca.bc.gov.educ.graddatacollection.api.rest.RestUtils;
+import ca.bc.gov.educ.graddatacollection.api.rest.StudentPenLookupBatcher;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 
@@ -15,8 +16,8 @@ public class DemographicRulesService extends BaseRulesService {
     private final CourseStudentRepository courseStudentRepository;
     private final DemographicStudentRepository demographicStudentRepository;
 
-    public DemographicRulesService(RestUtils restUtils, CourseStudentRepository courseStudentRepository, DemographicStudentRepository demographicStudentRepository) {
-        super(restUtils);
+    public DemographicRulesService(RestUtils restUtils, StudentPenLookupBatcher studentPenLookupBatcher, FilesetStudentCacheService filesetStudentCacheService, CourseStudentRepository courseStudentRepository, DemographicStudentRepository demographicStudentRepository) {
+        super(restUtils, studentPenLookupBatcher, filesetStudentCacheService);
         this.courseStudentRepository = courseStudentRepository;
         this.demographicStudentRepository = demographicStudentRepository;
     }
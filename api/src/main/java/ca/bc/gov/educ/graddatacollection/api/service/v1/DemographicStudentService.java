@@ -1,5 +1,6 @@
 package ca.bc.gov.educ.graddatacollection.api.service.v1;
 
+import ca.bc.gov.educ.graddatacollection.api.batch.constants.FileType;
 import ca.bc.gov.educ.graddatacollection.api.constants.EventOutcome;
 import ca.bc.gov.educ.graddatacollection.api.constants.EventType;
 import ca.bc.gov.educ.graddatacollection.api.constants.TopicsEnum;
@@ -11,6 +12,7 @@ import ca.bc.gov.educ.graddatacollection.api.messaging.MessagePublisher;
 import ca.bc.gov.educ.graddatacollection.api.model.v1.*;
 import ca.bc.gov.educ.graddatacollection.api.properties.ApplicationProperties;
 import ca.bc.gov.educ.graddatacollection.api.repository.v1.DemographicStudentRepository;
+import ca.bc.gov.educ.graddatacollection.api.repository.v1.DemographicStudentLightRepository;
 import ca.bc.gov.educ.graddatacollection.api.repository.v1.FinalDemographicStudentRepository;
 import ca.bc.gov.educ.graddatacollection.api.rest.RestUtils;
 import ca.bc.gov.educ.graddatacollection.api.rules.demographic.DemographicStudentRulesProcessor;
@@ -39,9 +41,12 @@ public class DemographicStudentService {
     private final MessagePublisher messagePublisher;
     private final RestUtils restUtils;
     private final DemographicStudentRepository demographicStudentRepository;
+    private final DemographicStudentLightRepository demographicStudentLightRepository;
     private final FinalDemographicStudentRepository finalDemographicStudentRepository;
     private final DemographicStudentRulesProcessor demographicStudentRulesProcessor;
     private final ErrorFilesetStudentService errorFilesetStudentService;
+    private final ApplicationProperties applicationProperties;
+    private final IncomingFilesetProgressService incomingFilesetProgressService;
     private static final String EVENT_EMPTY_MSG = "Event String is empty, skipping the publish to topic :: {}";
 
     public FinalDemographicStudentEntity getDemStudent(String pen, UUID incomingFilesetId, UUID schoolID) {
@@ -99,8 +104,10 @@ public class DemographicStudentService {
             if(flagError){
                 errorFilesetStudentService.flagErrorOnStudent(currentStudentEntity.get().getIncomingFileset().getIncomingFilesetID(), currentStudentEntity.get().getPen(), currentStudentEntity.get(), currentStudentEntity.get().getCreateUser(), currentStudentEntity.get().getCreateDate(), currentStudentEntity.get().getUpdateUser(), currentStudentEntity.get().getUpdateDate());
             }
+            var previousStatus = currentStudentEntity.get().getStudentStatusCode();
             currentStudentEntity.get().setStudentStatusCode(status.getCode());
             saveDemographicStudent(currentStudentEntity.get());
+            incomingFilesetProgressService.recordStatusChange(currentStudentEntity.get().getIncomingFileset().getIncomingFilesetID(), FileType.DEM, previousStatus, status.getCode(), 1);
         } else {
             throw new EntityNotFoundException(DemographicStudentEntity.class, DEMOGRAPHIC_STUDENT_ID, demographicStudentID.toString());
         }
@@ -146,22 +153,61 @@ public class DemographicStudentService {
         final List<DemographicStudentSagaData> demographicStudentSagaData = demographicStudentEntities.stream()
                 .map(el -> {
                     val gradDemographicStudentSagaData = new DemographicStudentSagaData();
-                    var school = this.restUtils.getSchoolBySchoolID(incomingFileset.getSchoolID().toString());
-                    gradDemographicStudentSagaData.setSchool(school.get());
-                    gradDemographicStudentSagaData.setDemographicStudent(DemographicStudentMapper.mapper.toDemographicStudent(el));
+                    gradDemographicStudentSagaData.setDemographicStudentID(el.getDemographicStudentID().toString());
+                    gradDemographicStudentSagaData.setIncomingFilesetID(el.getIncomingFilesetID().toString());
+                    gradDemographicStudentSagaData.setSchoolID(incomingFileset.getSchoolID().toString());
                     return gradDemographicStudentSagaData;
                 }).toList();
         this.publishUnprocessedStudentRecordsForProcessing(demographicStudentSagaData);
     }
 
     public void publishUnprocessedStudentRecordsForProcessing(final List<DemographicStudentSagaData> demographicStudentSagaData) {
-        demographicStudentSagaData.forEach(this::sendIndividualStudentAsMessageToTopic);
+        if (Boolean.TRUE.equals(this.applicationProperties.getSagaCreationBatchEnabled())) {
+            this.sendStudentBatchAsMessageToTopic(demographicStudentSagaData);
+        } else {
+            demographicStudentSagaData.forEach(this::sendIndividualStudentAsMessageToTopic);
+        }
+    }
+
+    private void sendStudentBatchAsMessageToTopic(final List<DemographicStudentSagaData> demographicStudentSagaData) {
+        if (demographicStudentSagaData.isEmpty()) {
+            return;
+        }
+        final var eventPayload = JsonUtil.getJsonString(demographicStudentSagaData);
+        if (eventPayload.isPresent()) {
+            final Event event = Event.builder().eventType(EventType.READ_DEM_STUDENT_BATCH_FOR_PROCESSING).eventOutcome(EventOutcome.READ_DEM_STUDENT_BATCH_FOR_PROCESSING_SUCCESS).eventPayload(eventPayload.get()).build();
+            final var eventString = JsonUtil.getJsonString(event);
+            if (eventString.isPresent()) {
+                this.messagePublisher.dispatchMessage(TopicsEnum.READ_DEM_STUDENTS_FROM_TOPIC.toString(), eventString.get().getBytes());
+            } else {
+                log.error(EVENT_EMPTY_MSG, demographicStudentSagaData);
+            }
+        } else {
+            log.error(EVENT_EMPTY_MSG, demographicStudentSagaData);
+        }
+    }
+
+    /**
+     * Loads the student row and school a saga step works on. The saga payload only carries their IDs; payloads of sagas
+     * created before that already embed both and are returned as they are.
+     */
+    public DemographicStudentSagaData hydrateSagaData(final DemographicStudentSagaData demographicStudentSagaData) {
+        if (demographicStudentSagaData.getDemographicStudent() == null) {
+            var studentID = UUID.fromString(demographicStudentSagaData.getDemographicStudentID());
+            var student = this.demographicStudentLightRepository.findById(studentID).orElseThrow(() -> new EntityNotFoundException(DemographicStudentEntity.class, DEMOGRAPHIC_STUDENT_ID, studentID.toString()));
+            demographicStudentSagaData.setDemographicStudent(DemographicStudentMapper.mapper.toDemographicStudent(student));
+        }
+        if (demographicStudentSagaData.getSchool() == null) {
+            var schoolID = demographicStudentSagaData.getSchoolID();
+            demographicStudentSagaData.setSchool(this.restUtils.getSchoolBySchoolID(schoolID).orElseThrow(() -> new EntityNotFoundException(SchoolTombstone.class, "schoolID", schoolID)));
+        }
+        return demographicStudentSagaData;
     }
 
     private void sendIndividualStudentAsMessageToTopic(final DemographicStudentSagaData demographicStudentSagaData) {
         final var eventPayload = JsonUtil.getJsonString(demographicStudentSagaData);
         if (eventPayload.isPresent()) {
-            final Event event = Event.builder().eventType(EventType.READ_DEM_STUDENTS_FOR_PROCESSING).eventOutcome(EventOutcome.READ_DEM_STUDENTS_FOR_PROCESSING_SUCCESS).eventPayload(eventPayload.get()).demographicStudentID(String.valueOf(demographicStudentSagaData.getDemographicStudent().getDemographicStudentID())).build();
+            final Event event = Event.builder().eventType(EventType.READ_DEM_STUDENTS_FOR_PROCESSING).eventOutcome(EventOutcome.READ_DEM_STUDENTS_FOR_PROCESSING_SUCCESS).eventPayload(eventPayload.get()).demographicStudentID(demographicStudentSagaData.getDemographicStudentID()).build();
             final var eventString = JsonUtil.getJsonString(event);
             if (eventString.isPresent()) {
                 this.messagePublisher.dispatchMessage(TopicsEnum.READ_DEM_STUDENTS_FROM_TOPIC.toString(), eventString.get().getBytes());
@@ -0,0 +1,123 @@
+package ca.bc.gov.educ.graddatacollection.api.service.v1;
+
+import ca.bc.gov.educ.graddatacollection.api.constants.v1.NumeracyAssessmentCodes;
+import ca.bc.gov.educ.graddatacollection.api.exception.GradDataCollectionAPIRuntimeException;
+import ca.bc.gov.educ.graddatacollection.api.model.v1.IncomingFilesetEntity;
+import ca.bc.gov.educ.graddatacollection.api.properties.ApplicationProperties;
+import ca.bc.gov.educ.graddatacollection.api.repository.v1.AssessmentStudentRepository;
+import ca.bc.gov.educ.graddatacollection.api.repository.v1.CourseStudentRepository;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.stream.Collectors;
+
+/**
+ * Answers the in-fileset duplicate checks of the CRS and XAM rules from a per-fileset index instead of one count
+ * query per record.
+ * <p>
+ * The first lookup for a fileset runs a single grouped query that returns every duplicated key, and later lookups
+ * are set membership checks. Indexes are keyed by the upload date of the CRS or XAM file, so replacing the file makes
+ * the old index unreachable on every pod; the uploading pod also drops it right away, and everything for a fileset
+ * is purged once the fileset has been completed. A max size of 0 disables the index and falls back to the per-record
+ * count queries.
+ */
+@Service
+@Slf4j
+public class FilesetDuplicateIndexService {
+
+    private record IndexKey(UUID incomingFilesetID, LocalDateTime fileUploadDate) {}
+
+    private record CourseSessionKey(String pen, String courseCode, String courseMonth, String courseYear, String courseLevel) {}
+
+    private record AssessmentSessionKey(String pen, String courseCode, String courseMonth, String courseYear) {}
+
+    private record NumeracySessionKey(String pen, String courseMonth, String courseYear) {}
+
+    private record AssessmentDuplicates(Set<AssessmentSessionKey> assessmentSessions, Set<NumeracySessionKey> numeracySessions) {}
+
+    private final boolean enabled;
+    private final CourseStudentRepository courseStudentRepository;
+    private final AssessmentStudentRepository assessmentStudentRepository;
+    private final Cache<IndexKey, Set<CourseSessionKey>> courseDuplicates;
+    private final Cache<IndexKey, AssessmentDuplicates> assessmentDuplicates;
+
+    public FilesetDuplicateIndexService(ApplicationProperties props, CourseStudentRepository courseStudentRepository, AssessmentStudentRepository assessmentStudentRepository) {
+        this.enabled = props.getFilesetDuplicateIndexMaxSize() > 0;
+        this.courseStudentRepository = courseStudentRepository;
+        this.assessmentStudentRepository = assessmentStudentRepository;
+        this.courseDuplicates = buildCache(props);
+        this.assessmentDuplicates = buildCache(props);
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public boolean hasDuplicateCourseSession(IncomingFilesetEntity incomingFileset, String pen, String courseCode, String courseMonth, String courseYear, String courseLevel) {
+        var duplicates = load(courseDuplicates, new IndexKey(incomingFileset.getIncomingFilesetID(), incomingFileset.getCrsFileUploadDate()), () -> {
+            var rows = courseStudentRepository.findDuplicateCourseSessions(incomingFileset.getIncomingFilesetID());
+            log.debug("Indexed {} duplicate course sessions for incoming fileset :: {}", rows.size(), incomingFileset.getIncomingFilesetID());
+            return rows.stream().map(row -> new CourseSessionKey((String) row[0], (String) row[1], (String) row[2], (String) row[3], (String) row[4])).collect(Collectors.toUnmodifiableSet());
+        });
+        return duplicates.contains(new CourseSessionKey(pen, courseCode, courseMonth, courseYear, courseLevel));
+    }
+
+    public boolean hasDuplicateAssessmentSession(IncomingFilesetEntity incomingFileset, String pen, String courseCode, String courseMonth, String courseYear) {
+        return loadAssessmentDuplicates(incomingFileset).assessmentSessions().contains(new AssessmentSessionKey(pen, courseCode, courseMonth, courseYear));
+    }
+
+    public boolean hasDuplicateNumeracySession(IncomingFilesetEntity incomingFileset, String pen, String courseMonth, String courseYear) {
+        return loadAssessmentDuplicates(incomingFileset).numeracySessions().contains(new NumeracySessionKey(pen, courseMonth, courseYear));
+    }
+
+    public void invalidateCourseDuplicates(UUID incomingFilesetID) {
+        courseDuplicates.asMap().keySet().removeIf(key -> key.incomingFilesetID().equals(incomingFilesetID));
+    }
+
+    public void invalidateAssessmentDuplicates(UUID incomingFilesetID) {
+        assessmentDuplicates.asMap().keySet().removeIf(key -> key.incomingFilesetID().equals(incomingFilesetID));
+    }
+
+    public void purgeFileset(UUID incomingFilesetID) {
+        invalidateCourseDuplicates(incomingFilesetID);
+        invalidateAssessmentDuplicates(incomingFilesetID);
+    }
+
+    private AssessmentDuplicates loadAssessmentDuplicates(IncomingFilesetEntity incomingFileset) {
+        return load(assessmentDuplicates, new IndexKey(incomingFileset.getIncomingFilesetID(), incomingFileset.getXamFileUploadDate()), () -> {
+            var incomingFilesetID = incomingFileset.getIncomingFilesetID();
+            var assessmentSessions = assessmentStudentRepository.findDuplicateAssessmentSessions(incomingFilesetID).stream()
+                    .map(row -> new AssessmentSessionKey((String) row[0], (String) row[1], (String) row[2], (String) row[3]))
+                    .collect(Collectors.toUnmodifiableSet());
+            var numeracySessions = assessmentStudentRepository.findDuplicateNumeracySessions(incomingFilesetID, NumeracyAssessmentCodes.getAllCodes()).stream()
+                    .map(row -> new NumeracySessionKey((String) row[0], (String) row[1], (String) row[2]))
+                    .collect(Collectors.toUnmodifiableSet());
+            log.debug("Indexed {} duplicate assessment sessions and {} duplicate numeracy sessions for incoming fileset :: {}", assessmentSessions.size(), numeracySessions.size(), incomingFilesetID);
+            return new AssessmentDuplicates(assessmentSessions, numeracySessions);
+        });
+    }
+
+    private static <V> V load(Cache<IndexKey, V> cache, IndexKey key, Callable<V> loader) {
+        try {
+            return cache.get(key, loader);
+        } catch (ExecutionException e) {
+            throw new GradDataCollectionAPIRuntimeException("Unable to index duplicates for incoming fileset :: " + key.incomingFilesetID() + " :: " + e.getCause().getMessage());
+        }
+    }
+
+    private static <V> Cache<IndexKey, V> buildCache(ApplicationProperties props) {
+        return CacheBuilder.newBuilder()
+                .maximumSize(Math.max(0, props.getFilesetDuplicateIndexMaxSize()))
+                .expireAfterAccess(Duration.ofMinutes(props.getFilesetStudentCacheExpiryInMinutes()))
+                .build();
+    }
+}
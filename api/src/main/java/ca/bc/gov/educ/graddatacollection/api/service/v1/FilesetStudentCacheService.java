@@ -0,0 +1,158 @@
+package ca.bc.gov.educ.graddatacollection.api.service.v1;
+
+import ca.bc.gov.educ.graddatacollection.api.properties.ApplicationProperties;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.commons.lang3.StringUtils;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+/**
+ * Caches remote student data (Student API record, GRAD student record and GRAD course list) per
+ * (incomingFilesetID, pen) for as long as the fileset is being processed, so that every DEM, XAM and CRS
+ * record of the same student in a fileset shares one set of remote lookups.
+ * <p>
+ * The Student API record is shared by all stages of the fileset. The GRAD record and course list are cached per
+ * {@link Stage}: the DEM and CRS sagas write the student to GRAD on whichever pod picks them up, and an eviction on that
+ * pod cannot reach the others, so a later stage never reads GRAD data an earlier stage cached. Concurrent misses for the
+ * same entry share a single load. "Not found" results are cached as well. Entries are bounded by size and idle time,
+ * GRAD data is evicted whenever this pod writes the student back to GRAD, and everything for a fileset is purged once
+ * the fileset has been completed.
+ */
+@Service
+@Slf4j
+public class FilesetStudentCacheService {
+
+    public enum CachedStudentData {
+        STUDENT_API_STUDENT(false),
+        GRAD_STUDENT_RECORD(true),
+        GRAD_STUDENT_COURSES(true);
+
+        private final boolean gradData;
+
+        CachedStudentData(boolean gradData) {
+            this.gradData = gradData;
+        }
+    }
+
+    /**
+     * The saga stage a record of the fileset is validated in.
+     */
+    public enum Stage {
+        DEM,
+        XAM,
+        CRS
+    }
+
+    private record FilesetStudentKey(UUID incomingFilesetID, String pen) {}
+
+    private record EntryKey(CachedStudentData type, Stage stage) {
+        static EntryKey of(CachedStudentData type, Stage stage) {
+            return new EntryKey(type, type.gradData ? stage : null);
+        }
+    }
+
+    private final boolean enabled;
+    private final Cache<FilesetStudentKey, Map<EntryKey, CompletableFuture<Optional<Object>>>> cache;
+    private final Map<CachedStudentData, Counter> hitCounters = new EnumMap<>(CachedStudentData.class);
+    private final Map<CachedStudentData, Counter> missCounters = new EnumMap<>(CachedStudentData.class);
+
+    public FilesetStudentCacheService(ApplicationProperties props, MeterRegistry meterRegistry) {
+        this.enabled = props.getFilesetStudentCacheMaxSize() > 0;
+        this.cache = CacheBuilder.newBuilder()
+                .maximumSize(Math.max(0, props.getFilesetStudentCacheMaxSize()))
+                .expireAfterAccess(Duration.ofMinutes(props.getFilesetStudentCacheExpiryInMinutes()))
+                .build();
+        for (CachedStudentData type : CachedStudentData.values()) {
+            hitCounters.put(type, Counter.builder("gdc.fileset.student.cache.requests").tag("type", type.name()).tag("result", "hit").register(meterRegistry));
+            missCounters.put(type, Counter.builder("gdc.fileset.student.cache.requests").tag("type", type.name()).tag("result", "miss").register(meterRegistry));
+        }
+        Gauge.builder("gdc.fileset.student.cache.size", cache, Cache::size).register(meterRegistry);
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Returns true if a value, including a cached "not found" or a load in progress, is held for the student in the
+     * stage. Does not count as a request.
+     */
+    public boolean contains(UUID incomingFilesetID, Stage stage, String pen, CachedStudentData type) {
+        if (!enabled || incomingFilesetID == null || StringUtils.isBlank(pen)) {
+            return false;
+        }
+        var studentEntries = cache.getIfPresent(new FilesetStudentKey(incomingFilesetID, pen));
+        return studentEntries != null && studentEntries.containsKey(EntryKey.of(type, stage));
+    }
+
+    /**
+     * Returns the cached value for the student in the stage, or invokes the loader and caches its result (including
+     * null). A caller that misses while another caller is loading the same entry waits for that load instead of
+     * starting its own. Exceptions thrown by the loader are not cached; callers waiting on a failed load invoke the
+     * loader themselves.
+     */
+    @SuppressWarnings("unchecked")
+    public <T> T getOrLoad(UUID incomingFilesetID, Stage stage, String pen, CachedStudentData type, Supplier<T> loader) {
+        if (!enabled || incomingFilesetID == null || StringUtils.isBlank(pen) || (type.gradData && stage == null)) {
+            return loader.get();
+        }
+        var entryKey = EntryKey.of(type, stage);
+        var studentEntries = cache.asMap().computeIfAbsent(new FilesetStudentKey(incomingFilesetID, pen), key -> new ConcurrentHashMap<>());
+        var loading = new CompletableFuture<Optional<Object>>();
+        var cached = studentEntries.putIfAbsent(entryKey, loading);
+        if (cached != null) {
+            hitCounters.get(type).increment();
+            try {
+                return (T) cached.join().orElse(null);
+            } catch (CompletionException e) {
+                return loader.get();
+            }
+        }
+        missCounters.get(type).increment();
+        try {
+            T value = loader.get();
+            loading.complete(Optional.ofNullable(value));
+            return value;
+        } catch (RuntimeException | Error e) {
+            studentEntries.remove(entryKey, loading);
+            loading.completeExceptionally(e);
+            throw e;
+        }
+    }
+
+    /**
+     * Drops the GRAD record and course list of a student in every stage after they have been written to GRAD, so
+     * later reads on this pod load the updated data.
+     */
+    public void evictGradData(UUID incomingFilesetID, String pen) {
+        if (!enabled || incomingFilesetID == null || StringUtils.isBlank(pen)) {
+            return;
+        }
+        var studentEntries = cache.getIfPresent(new FilesetStudentKey(incomingFilesetID, pen));
+        if (studentEntries != null) {
+            studentEntries.keySet().removeIf(entryKey -> entryKey.type().gradData);
+        }
+    }
+
+    public void purgeFileset(UUID incomingFilesetID) {
+        if (!enabled || incomingFilesetID == null) {
+            return;
+        }
+        cache.asMap().keySet().removeIf(key -> key.incomingFilesetID().equals(incomingFilesetID));
+        log.debug("Purged fileset student cache for incoming fileset :: {}", incomingFilesetID);
+    }
+}
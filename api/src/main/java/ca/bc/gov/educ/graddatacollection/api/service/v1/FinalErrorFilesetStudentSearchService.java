@@ -1,9 +1,23 @@
 package ca.bc.gov.educ.graddatacollection.api.service.v1;
 
+import ca.bc.gov.educ.graddatacollection.api.constants.v1.CustomSearchType;
+import ca.bc.gov.educ.graddatacollection.api.constants.v1.ErrorFilesetValidationIssueType;
+import ca.bc.gov.educ.graddatacollection.api.constants.v1.FilesetStatus;
+import ca.bc.gov.educ.graddatacollection.api.constants.v1.ValidationFieldCode;
 import ca.bc.gov.educ.graddatacollection.api.exception.GradDataCollectionAPIRuntimeException;
+import ca.bc.gov.educ.graddatacollection.api.exception.InvalidParameterException;
 import ca.bc.gov.educ.graddatacollection.api.filter.FinalErrorFilesetStudentFilterSpecs;
+import ca.bc.gov.educ.graddatacollection.api.mappers.v1.ErrorFilesetStudentDecorator;
 import ca.bc.gov.educ.graddatacollection.api.model.v1.FinalErrorFilesetStudentEntity;
 import ca.bc.gov.educ.graddatacollection.api.repository.v1.FinalErrorFilesetStudentPaginationRepository;
+import ca.bc.gov.educ.graddatacollection.api.repository.v1.FinalErrorFilesetStudentSearchRepository;
+import ca.bc.gov.educ.graddatacollection.api.repository.v1.FinalErrorFilesetStudentSearchRepository.Cursor;
+import ca.bc.gov.educ.graddatacollection.api.repository.v1.FinalErrorFilesetStudentSearchRepository.IssueFilter;
+import ca.bc.gov.educ.graddatacollection.api.repository.v1.FinalErrorFilesetStudentSearchRepository.IssueRow;
+import ca.bc.gov.educ.graddatacollection.api.repository.v1.FinalErrorFilesetStudentSearchRepository.StudentRow;
+import ca.bc.gov.educ.graddatacollection.api.struct.v1.ErrorFilesetStudent;
+import ca.bc.gov.educ.graddatacollection.api.struct.v1.ErrorFilesetStudentKeysetPage;
+import ca.bc.gov.educ.graddatacollection.api.struct.v1.ErrorFilesetStudentValidationIssue;
 import ca.bc.gov.educ.graddatacollection.api.struct.v1.Search;
 import ca.bc.gov.educ.graddatacollection.api.util.RequestUtil;
 import com.fasterxml.jackson.core.JsonProcessingException;
@@ -24,21 +38,27 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.nio.charset.StandardCharsets;
 import java.time.Duration;
-import java.util.List;
+import java.util.*;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionException;
 import java.util.concurrent.Executor;
+import java.util.stream.Collectors;
 
 @Service
 @Slf4j
 @RequiredArgsConstructor
 public class FinalErrorFilesetStudentSearchService extends BaseSearchService {
+  private static final int UUID_LENGTH = 36;
+
   @Getter
   private final FinalErrorFilesetStudentFilterSpecs finalErrorFilesetStudentFilterSpecs;
 
   private final FinalErrorFilesetStudentPaginationRepository finalErrorFilesetStudentPaginationRepository;
 
+  private final FinalErrorFilesetStudentSearchRepository finalErrorFilesetStudentSearchRepository;
+
   private final Executor paginatedQueryExecutor = new EnhancedQueueExecutor.Builder()
     .setThreadFactory(new ThreadFactoryBuilder().setNameFormat("async-pagination-query-executor-%d").build())
     .setCorePoolSize(2).setMaximumPoolSize(10).setKeepAliveTime(Duration.ofSeconds(60)).build();
@@ -61,6 +81,110 @@ public class FinalErrorFilesetStudentSearchService extends BaseSearchService {
 
   }
 
+  /**
+   * Reads the page of error students following the cursor, ordered by PEN, without counting the matching students.
+   * Only the columns returned are read, and only the validation issues kept by the validation filter.
+   *
+   * @param cursor the next cursor of the previous page, blank for the first page
+   */
+  @Transactional(propagation = Propagation.SUPPORTS)
+  public CompletableFuture<ErrorFilesetStudentKeysetPage> findAllAfter(Specification<FinalErrorFilesetStudentEntity> studentSpecs, final String cursor, final Integer pageSize, final List<String> validationFilter) {
+    final Cursor after = decodeCursor(cursor);
+    final int size = Math.max(1, pageSize);
+    final IssueFilter issueFilter = getIssueFilter(validationFilter);
+    return CompletableFuture.supplyAsync(() -> {
+      try {
+        var students = this.finalErrorFilesetStudentSearchRepository.findStudentsAfter(studentSpecs, after, size + 1);
+        boolean last = students.size() <= size;
+        var page = last ? students : students.subList(0, size);
+        Map<String, List<IssueRow>> issuesByStudent = this.finalErrorFilesetStudentSearchRepository.findIssues(page, issueFilter).stream()
+          .collect(Collectors.groupingBy(issue -> getStudentKey(issue.incomingFilesetId(), issue.pen())));
+
+        return ErrorFilesetStudentKeysetPage.builder()
+          .content(page.stream().map(student -> toStructure(student, issuesByStudent.getOrDefault(getStudentKey(student.incomingFilesetId(), student.pen()), List.of()))).toList())
+          .nextCursor(last ? null : encodeCursor(page.get(page.size() - 1)))
+          .last(last)
+          .build();
+      } catch (final Throwable ex) {
+        log.error("Failure querying for keyset paginated error fileset students: {}", ex.getMessage());
+        throw new CompletionException(ex);
+      }
+    }, paginatedQueryExecutor);
+  }
+
+  static String encodeCursor(StudentRow student) {
+    return Base64.getUrlEncoder().withoutPadding().encodeToString((student.errorFilesetStudentId() + student.pen()).getBytes(StandardCharsets.UTF_8));
+  }
+
+  static Cursor decodeCursor(String cursor) {
+    if (StringUtils.isBlank(cursor)) {
+      return null;
+    }
+    try {
+      var decoded = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+      return new Cursor(decoded.substring(UUID_LENGTH), UUID.fromString(decoded.substring(0, UUID_LENGTH)));
+    } catch (IllegalArgumentException | IndexOutOfBoundsException e) {
+      throw new InvalidParameterException("cursor");
+    }
+  }
+
+  private static IssueFilter getIssueFilter(List<String> validationFilter) {
+    Set<ErrorFilesetValidationIssueType> issueTypes = EnumSet.noneOf(ErrorFilesetValidationIssueType.class);
+    if (validationFilter.contains(CustomSearchType.DEMERROR.getCode())) {
+      issueTypes.add(ErrorFilesetValidationIssueType.DEMOGRAPHICS);
+    }
+    if (validationFilter.contains(CustomSearchType.CRSERROR.getCode())) {
+      issueTypes.add(ErrorFilesetValidationIssueType.COURSE);
+    }
+    if (validationFilter.contains(CustomSearchType.XAMERROR.getCode())) {
+      issueTypes.add(ErrorFilesetValidationIssueType.ASSESSMENT);
+    }
+    Set<String> severities = new HashSet<>();
+    if (validationFilter.contains(CustomSearchType.ERROR.getCode())) {
+      severities.add(CustomSearchType.ERROR.getCode());
+    }
+    if (validationFilter.contains(CustomSearchType.WARNING.getCode())) {
+      severities.add(CustomSearchType.WARNING.getCode());
+    }
+    String fieldCode = validationFilter.stream().filter(type -> ValidationFieldCode.findByCode(type).isPresent()).findFirst().orElse(null);
+    return new IssueFilter(issueTypes, severities, fieldCode);
+  }
+
+  private static ErrorFilesetStudent toStructure(StudentRow student, List<IssueRow> issues) {
+    return ErrorFilesetStudent.builder()
+      .errorFilesetStudentId(student.errorFilesetStudentId().toString())
+      .incomingFilesetId(student.incomingFilesetId().toString())
+      .pen(student.pen())
+      .localID(student.localID())
+      .lastName(student.lastName())
+      .firstName(student.firstName())
+      .birthdate(student.birthdate())
+      .errorFilesetStudentValidationIssues(issues.stream().map(FinalErrorFilesetStudentSearchService::toStructure).toList())
+      .build();
+  }
+
+  private static ErrorFilesetStudentValidationIssue toStructure(IssueRow issueRow) {
+    ErrorFilesetStudentValidationIssue issue = new ErrorFilesetStudentValidationIssue();
+    issue.setErrorFilesetValidationIssueTypeCode(issueRow.issueType().getCode());
+    issue.setValidationIssueDescription(issueRow.validationIssueDescription());
+    issue.setValidationIssueCode(issueRow.validationIssueCode());
+    issue.setValidationIssueFieldCode(issueRow.validationIssueFieldCode());
+    issue.setValidationIssueSeverityCode(issueRow.validationIssueSeverityCode());
+    issue.setErrorContext(switch (issueRow.issueType()) {
+      case DEMOGRAPHICS -> null;
+      case COURSE -> ErrorFilesetStudentDecorator.getCourseErrorContext(issueRow.courseCode(), issueRow.courseLevel(), issueRow.courseYear(), issueRow.courseMonth());
+      case ASSESSMENT -> ErrorFilesetStudentDecorator.getAssessmentErrorContext(issueRow.courseCode(), issueRow.courseYear(), issueRow.courseMonth());
+    });
+    return issue;
+  }
+
+  private static String getStudentKey(UUID incomingFilesetId, String pen) {
+    return incomingFilesetId + pen;
+  }
+
+  /**
+   * @return the specification of the search, without the students of filesets still being copied to the final tables
+   */
   public Specification<FinalErrorFilesetStudentEntity> setSpecificationAndSortCriteria(String sortCriteriaJson, String searchCriteriaListJson, ObjectMapper objectMapper, List<Sort.Order> sorts) {
     Specification<FinalErrorFilesetStudentEntity> schoolSpecs = null;
     try {
@@ -77,6 +201,7 @@ public class FinalErrorFilesetStudentSearchService extends BaseSearchService {
     } catch (JsonProcessingException e) {
       throw new GradDataCollectionAPIRuntimeException(e.getMessage());
     }
-    return schoolSpecs;
+    Specification<FinalErrorFilesetStudentEntity> copiedSpecs = (root, query, criteriaBuilder) -> criteriaBuilder.notEqual(root.get("incomingFileset").get("filesetStatusCode"), FilesetStatus.COPYING.getCode());
+    return schoolSpecs == null ? copiedSpecs : copiedSpecs.and(schoolSpecs);
   }
 }
@@ -1,5 +1,6 @@
 package ca.bc.gov.educ.graddatacollection.api.service.v1;
 
+import ca.bc.gov.educ.graddatacollection.api.constants.v1.FilesetStatus;
 import ca.bc.gov.educ.graddatacollection.api.exception.GradDataCollectionAPIRuntimeException;
 import ca.bc.gov.educ.graddatacollection.api.filter.FinalIncomingFilesetFilterSpecs;
 import ca.bc.gov.educ.graddatacollection.api.model.v1.FinalIncomingFilesetEntity;
@@ -65,6 +66,9 @@ public class FinalIncomingFilesetSearchService extends BaseSearchService {
 
   }
 
+  /**
+   * @return the specification of the search, without the filesets still being copied to the final tables
+   */
   public Specification<FinalIncomingFilesetEntity> setSpecificationAndSortCriteria(String sortCriteriaJson, String searchCriteriaListJson, ObjectMapper objectMapper, List<Sort.Order> sorts) {
     Specification<FinalIncomingFilesetEntity> schoolSpecs = null;
     try {
@@ -81,16 +85,24 @@ public class FinalIncomingFilesetSearchService extends BaseSearchService {
     } catch (JsonProcessingException e) {
       throw new GradDataCollectionAPIRuntimeException(e.getMessage());
     }
-    return schoolSpecs;
+    Specification<FinalIncomingFilesetEntity> copiedSpecs = (root, query, criteriaBuilder) -> criteriaBuilder.notEqual(root.get("filesetStatusCode"), FilesetStatus.COPYING.getCode());
+    return schoolSpecs == null ? copiedSpecs : copiedSpecs.and(schoolSpecs);
   }
 
   @Transactional(propagation = Propagation.SUPPORTS)
-  public long getCounts(IncomingFileset fileset) {
+  public List<LocalDateTime> findQueuedUpdateDates() {
+    return finalIncomingFilesetRepository.findQueuedUpdateDates();
+  }
+
+  /**
+   * @param queuedUpdateDates the update dates of the queued filesets, as returned by {@link #findQueuedUpdateDates()}
+   */
+  public long getCounts(IncomingFileset fileset, List<LocalDateTime> queuedUpdateDates) {
     long positionInQueue = 0;
     var condition = !fileset.getFilesetStatusCode().equalsIgnoreCase("COMPLETED")
             && fileset.getDemFileName() != null && fileset.getCrsFileName() != null && fileset.getXamFileName() != null;
     if(condition) {
-      positionInQueue = finalIncomingFilesetRepository.findPositionInQueueByUpdateDate(LocalDateTime.parse(fileset.getUpdateDate()));
+      positionInQueue = getPositionInQueue(queuedUpdateDates, LocalDateTime.parse(fileset.getUpdateDate()));
     }
     return positionInQueue;
   }
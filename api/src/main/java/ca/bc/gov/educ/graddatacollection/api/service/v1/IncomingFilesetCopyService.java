@@ -0,0 +1,169 @@
+package ca.bc.gov.educ.graddatacollection.api.service.v1;
+
+import ca.bc.gov.educ.graddatacollection.api.constants.v1.FilesetStatus;
+import ca.bc.gov.educ.graddatacollection.api.exception.EntityNotFoundException;
+import ca.bc.gov.educ.graddatacollection.api.model.v1.IncomingFilesetCopyProgressEntity;
+import ca.bc.gov.educ.graddatacollection.api.properties.ApplicationProperties;
+import ca.bc.gov.educ.graddatacollection.api.repository.v1.IncomingFilesetCopyProgressRepository;
+import ca.bc.gov.educ.graddatacollection.api.repository.v1.IncomingFilesetRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Objects;
+import java.util.UUID;
+
+/**
+ * Copies a fileset from the staging to the final tables in chunks of students, each chunk in a transaction of its own.
+ * <p>
+ * The students of every table are copied in ID order, together with their validation issues. The last ID of a chunk is
+ * recorded in {@link IncomingFilesetCopyProgressEntity} in the transaction of the chunk, so a copy that was
+ * interrupted resumes with the next chunk instead of starting over. The final fileset row is written as COPYING and only
+ * marked COMPLETED once every chunk has been copied; readers of the final tables skip COPYING filesets. The
+ * progress row is read for update, so a replayed saga step that overlaps a running copy waits for its chunk instead of
+ * copying the same students again.
+ */
+@Service
+@Slf4j
+public class IncomingFilesetCopyService {
+    private static final UUID BEFORE_FIRST_ID = new UUID(0, 0);
+    private static final String COPIED_ROWS = "gdc.fileset.copy.rows";
+    private static final String TABLE_TAG = "table";
+
+    private final IncomingFilesetRepository incomingFilesetRepository;
+    private final IncomingFilesetCopyProgressRepository incomingFilesetCopyProgressRepository;
+    private final ApplicationProperties props;
+    private final MeterRegistry meterRegistry;
+
+    public enum StagedTable {
+        DEMOGRAPHIC_STUDENT("DEMOGRAPHIC_STUDENT_VALIDATION_ISSUE"),
+        COURSE_STUDENT("COURSE_STUDENT_VALIDATION_ISSUE"),
+        ASSESSMENT_STUDENT("ASSESSMENT_STUDENT_VALIDATION_ISSUE"),
+        ERROR_FILESET_STUDENT(null);
+
+        private final String validationIssueTable;
+
+        StagedTable(String validationIssueTable) {
+            this.validationIssueTable = validationIssueTable;
+        }
+    }
+
+    public IncomingFilesetCopyService(IncomingFilesetRepository incomingFilesetRepository, IncomingFilesetCopyProgressRepository incomingFilesetCopyProgressRepository, ApplicationProperties props, MeterRegistry meterRegistry) {
+        this.incomingFilesetRepository = incomingFilesetRepository;
+        this.incomingFilesetCopyProgressRepository = incomingFilesetCopyProgressRepository;
+        this.props = props;
+        this.meterRegistry = meterRegistry;
+    }
+
+    public int getChunkSize() {
+        return Math.max(1, props.getFilesetCopyChunkSize());
+    }
+
+    /**
+     * Copies the fileset row as COPYING, unless an earlier attempt already did.
+     */
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public void startCopy(UUID incomingFilesetID) {
+        if (incomingFilesetCopyProgressRepository.existsById(incomingFilesetID)) {
+            log.info("Resuming the copy of fileset {} from staging to final", incomingFilesetID);
+            return;
+        }
+        int parentsCopied = incomingFilesetRepository.copyFilesetParent(incomingFilesetID, FilesetStatus.COPYING.getCode());
+        log.info("Filesets copied: {}", parentsCopied);
+        incomingFilesetCopyProgressRepository.save(IncomingFilesetCopyProgressEntity.builder().incomingFilesetID(incomingFilesetID).updateDate(LocalDateTime.now()).build());
+    }
+
+    /**
+     * Copies the next chunk of students of the table and moves the high-water mark of the table past it.
+     *
+     * @return the number of students copied, less than the chunk size once the table has been copied
+     */
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public int copyNextChunk(UUID incomingFilesetID, StagedTable table) {
+        var progress = incomingFilesetCopyProgressRepository.findForUpdateByIncomingFilesetID(incomingFilesetID)
+                .orElseThrow(() -> new EntityNotFoundException(IncomingFilesetCopyProgressEntity.class, "incomingFilesetID", incomingFilesetID.toString()));
+        var afterID = Objects.requireNonNullElse(getCopiedThroughID(progress, table), BEFORE_FIRST_ID);
+        var studentIDs = findStudentIDsAfter(incomingFilesetID, table, afterID);
+        if (studentIDs.isEmpty()) {
+            return 0;
+        }
+        var throughID = studentIDs.get(studentIDs.size() - 1);
+        var sample = Timer.start(meterRegistry);
+
+        int studentsCopied = copyStudents(incomingFilesetID, table, afterID, throughID);
+        meterRegistry.counter(COPIED_ROWS, TABLE_TAG, table.name()).increment(studentsCopied);
+        if (table.validationIssueTable != null) {
+            int issuesCopied = copyValidationIssues(incomingFilesetID, table, afterID, throughID);
+            meterRegistry.counter(COPIED_ROWS, TABLE_TAG, table.validationIssueTable).increment(issuesCopied);
+        }
+
+        setCopiedThroughID(progress, table, throughID);
+        progress.setUpdateDate(LocalDateTime.now());
+        incomingFilesetCopyProgressRepository.save(progress);
+        sample.stop(meterRegistry.timer("gdc.fileset.copy.chunk", TABLE_TAG, table.name()));
+        log.debug("Copied {} rows of {} for fileset {}", studentsCopied, table, incomingFilesetID);
+        return studentIDs.size();
+    }
+
+    /**
+     * Marks the final fileset COMPLETED, which makes it visible to the readers of the final tables, together with the
+     * staged fileset.
+     */
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public void finishCopy(UUID incomingFilesetID) {
+        incomingFilesetRepository.markFinalFilesetComplete(incomingFilesetID, FilesetStatus.COMPLETED.getCode());
+        incomingFilesetRepository.markStagedFilesetComplete(incomingFilesetID, FilesetStatus.COMPLETED.getCode());
+    }
+
+    private List<UUID> findStudentIDsAfter(UUID incomingFilesetID, StagedTable table, UUID afterID) {
+        var limit = Limit.of(getChunkSize());
+        return switch (table) {
+            case DEMOGRAPHIC_STUDENT -> incomingFilesetCopyProgressRepository.findDemStudentIDsAfter(incomingFilesetID, afterID, limit);
+            case COURSE_STUDENT -> incomingFilesetCopyProgressRepository.findCrsStudentIDsAfter(incomingFilesetID, afterID, limit);
+            case ASSESSMENT_STUDENT -> incomingFilesetCopyProgressRepository.findXamStudentIDsAfter(incomingFilesetID, afterID, limit);
+            case ERROR_FILESET_STUDENT -> incomingFilesetCopyProgressRepository.findErrorStudentIDsAfter(incomingFilesetID, afterID, limit);
+        };
+    }
+
+    private int copyStudents(UUID incomingFilesetID, StagedTable table, UUID afterID, UUID throughID) {
+        return switch (table) {
+            case DEMOGRAPHIC_STUDENT -> incomingFilesetRepository.copyDemographicStudents(incomingFilesetID, afterID, throughID);
+            case COURSE_STUDENT -> incomingFilesetRepository.copyCourseStudents(incomingFilesetID, afterID, throughID);
+            case ASSESSMENT_STUDENT -> incomingFilesetRepository.copyAssessmentStudents(incomingFilesetID, afterID, throughID);
+            case ERROR_FILESET_STUDENT -> incomingFilesetRepository.copyErrorFilesetStudents(incomingFilesetID, afterID, throughID);
+        };
+    }
+
+    private int copyValidationIssues(UUID incomingFilesetID, StagedTable table, UUID afterID, UUID throughID) {
+        return switch (table) {
+            case DEMOGRAPHIC_STUDENT -> incomingFilesetRepository.copyDemographicValidationIssues(incomingFilesetID, afterID, throughID);
+            case COURSE_STUDENT -> incomingFilesetRepository.copyCourseValidationIssues(incomingFilesetID, afterID, throughID);
+            case ASSESSMENT_STUDENT -> incomingFilesetRepository.copyAssessmentValidationIssues(incomingFilesetID, afterID, throughID);
+            case ERROR_FILESET_STUDENT -> 0;
+        };
+    }
+
+    private static UUID getCopiedThroughID(IncomingFilesetCopyProgressEntity progress, StagedTable table) {
+        return switch (table) {
+            case DEMOGRAPHIC_STUDENT -> progress.getDemCopiedThroughID();
+            case COURSE_STUDENT -> progress.getCrsCopiedThroughID();
+            case ASSESSMENT_STUDENT -> progress.getXamCopiedThroughID();
+            case ERROR_FILESET_STUDENT -> progress.getErrorCopiedThroughID();
+        };
+    }
+
+    private static void setCopiedThroughID(IncomingFilesetCopyProgressEntity progress, StagedTable table, UUID throughID) {
+        switch (table) {
+            case DEMOGRAPHIC_STUDENT -> progress.setDemCopiedThroughID(throughID);
+            case COURSE_STUDENT -> progress.setCrsCopiedThroughID(throughID);
+            case ASSESSMENT_STUDENT -> progress.setXamCopiedThroughID(throughID);
+            case ERROR_FILESET_STUDENT -> progress.setErrorCopiedThroughID(throughID);
+        }
+    }
+}
@@ -0,0 +1,220 @@
+package ca.bc.gov.educ.graddatacollection.api.service.v1;
+
+import ca.bc.gov.educ.graddatacollection.api.batch.constants.FileType;
+import ca.bc.gov.educ.graddatacollection.api.constants.v1.SchoolStudentStatus;
+import ca.bc.gov.educ.graddatacollection.api.model.v1.IncomingFilesetProgressEntity;
+import ca.bc.gov.educ.graddatacollection.api.properties.ApplicationProperties;
+import ca.bc.gov.educ.graddatacollection.api.repository.v1.IncomingFilesetProgressRepository;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Maintains the per-fileset progress counters read by the completion check, the queue position and the fileset
+ * search. The counters row is seeded and recounted whenever a file is loaded into the fileset.
+ * <p>
+ * Student status changes are not written in the transaction that makes them, as every student of a fileset would then
+ * queue on the same row. Each change is held in memory once its transaction commits, and the pending changes of all
+ * filesets are applied together in one short transaction after the flush delay. Until then the counters can only show
+ * more students left to process than there are, so a fileset is never completed early; a recount drops the pending
+ * changes of its fileset and rebuilds the counters from the student tables.
+ */
+@Service
+@Slf4j
+public class IncomingFilesetProgressService {
+    private final IncomingFilesetProgressRepository incomingFilesetProgressRepository;
+    private final TransactionTemplate flushTransactionTemplate;
+    private final long flushDelayMs;
+    private final Map<PendingKey, long[]> pendingChanges = new ConcurrentHashMap<>();
+    private final AtomicBoolean flushScheduled = new AtomicBoolean();
+    private final ScheduledExecutorService flushScheduler = Executors.newSingleThreadScheduledExecutor(Thread.ofPlatform().name("fileset-progress-flush").daemon().factory());
+
+    private enum Bucket {
+        LOADED,
+        IN_PROGRESS,
+        DONE
+    }
+
+    private record PendingKey(UUID incomingFilesetID, FileType fileType) {
+    }
+
+    public IncomingFilesetProgressService(IncomingFilesetProgressRepository incomingFilesetProgressRepository, PlatformTransactionManager transactionManager, ApplicationProperties props) {
+        this.incomingFilesetProgressRepository = incomingFilesetProgressRepository;
+        this.flushTransactionTemplate = new TransactionTemplate(transactionManager);
+        this.flushTransactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.flushDelayMs = Math.max(0, props.getFilesetProgressFlushDelayMs());
+    }
+
+    @Transactional(propagation = Propagation.MANDATORY)
+    public IncomingFilesetProgressEntity recount(UUID incomingFilesetID) {
+        var dropped = this.drainPendingChanges(incomingFilesetID);
+        if (!dropped.isEmpty() && TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    if (status != STATUS_COMMITTED) {
+                        dropped.forEach(IncomingFilesetProgressService.this::addPendingChange);
+                        IncomingFilesetProgressService.this.scheduleFlush();
+                    }
+                }
+            });
+        }
+        this.incomingFilesetProgressRepository.insertIgnoreConflict(incomingFilesetID);
+        var progress = this.incomingFilesetProgressRepository.findById(incomingFilesetID).orElseThrow();
+        long[] dem = countByBucket(this.incomingFilesetProgressRepository.countDemStudentsByStatus(incomingFilesetID));
+        long[] xam = countByBucket(this.incomingFilesetProgressRepository.countXamStudentsByStatus(incomingFilesetID));
+        long[] crs = countByBucket(this.incomingFilesetProgressRepository.countCrsStudentsByStatus(incomingFilesetID));
+        progress.setDemLoadedCount(dem[Bucket.LOADED.ordinal()]);
+        progress.setDemDoneCount(dem[Bucket.IN_PROGRESS.ordinal()] + dem[Bucket.DONE.ordinal()]);
+        progress.setXamLoadedCount(xam[Bucket.LOADED.ordinal()]);
+        progress.setXamDoneCount(xam[Bucket.IN_PROGRESS.ordinal()] + xam[Bucket.DONE.ordinal()]);
+        progress.setCrsLoadedCount(crs[Bucket.LOADED.ordinal()]);
+        progress.setCrsInProgressCount(crs[Bucket.IN_PROGRESS.ordinal()]);
+        progress.setCrsDoneCount(crs[Bucket.DONE.ordinal()]);
+        progress.setUpdateDate(LocalDateTime.now());
+        log.debug("Recounted progress for incoming fileset :: {}", progress);
+        return this.incomingFilesetProgressRepository.save(progress);
+    }
+
+    /**
+     * Moves the given number of records of a file type from the counter of their previous status to the counter of
+     * their new status, once the current transaction commits.
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void recordStatusChange(UUID incomingFilesetID, FileType fileType, String previousStatus, String newStatus, long numberOfRecords) {
+        var from = toBucket(fileType, previousStatus);
+        var to = toBucket(fileType, newStatus);
+        if (from == to || numberOfRecords == 0) {
+            return;
+        }
+        long[] delta = new long[Bucket.values().length];
+        delta[from.ordinal()] -= numberOfRecords;
+        delta[to.ordinal()] += numberOfRecords;
+        var key = new PendingKey(incomingFilesetID, fileType);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    IncomingFilesetProgressService.this.addPendingChange(key, delta);
+                    IncomingFilesetProgressService.this.scheduleFlush();
+                }
+            });
+        } else {
+            this.addPendingChange(key, delta);
+            this.scheduleFlush();
+        }
+    }
+
+    /**
+     * Applies the pending status changes of every fileset in one transaction. Changes that could not be applied are
+     * kept for the next flush.
+     */
+    public void flushPendingChanges() {
+        this.flushScheduled.set(false);
+        var changes = this.drainPendingChanges(null);
+        if (changes.isEmpty()) {
+            return;
+        }
+        try {
+            this.flushTransactionTemplate.executeWithoutResult(status -> changes.forEach(this::applyChange));
+            log.debug("Applied progress changes for {} incoming fileset files", changes.size());
+        } catch (Exception e) {
+            log.warn("Could not apply progress changes, retrying after {} ms :: {}", this.flushDelayMs, e.getMessage());
+            changes.forEach(this::addPendingChange);
+            this.scheduleFlush();
+        }
+    }
+
+    public List<IncomingFilesetProgressEntity> findAllByIncomingFilesetIDs(Collection<UUID> incomingFilesetIDs) {
+        return this.incomingFilesetProgressRepository.findAllById(incomingFilesetIDs);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        this.flushScheduler.shutdownNow();
+        this.flushPendingChanges();
+    }
+
+    private void applyChange(PendingKey key, long[] delta) {
+        var incomingFilesetID = key.incomingFilesetID();
+        int updated = switch (key.fileType()) {
+            case DEM -> this.incomingFilesetProgressRepository.addDemCounts(incomingFilesetID, delta[Bucket.LOADED.ordinal()], delta[Bucket.DONE.ordinal()]);
+            case XAM -> this.incomingFilesetProgressRepository.addXamCounts(incomingFilesetID, delta[Bucket.LOADED.ordinal()], delta[Bucket.DONE.ordinal()]);
+            case CRS -> this.incomingFilesetProgressRepository.addCrsCounts(incomingFilesetID, delta[Bucket.LOADED.ordinal()], delta[Bucket.IN_PROGRESS.ordinal()], delta[Bucket.DONE.ordinal()]);
+        };
+        if (updated == 0) {
+            log.debug("No progress counters found for incoming fileset {}, dropping its changes", incomingFilesetID);
+        }
+    }
+
+    private void addPendingChange(PendingKey key, long[] delta) {
+        this.pendingChanges.merge(key, delta.clone(), (pending, added) -> {
+            for (int i = 0; i < pending.length; i++) {
+                pending[i] += added[i];
+            }
+            return pending;
+        });
+    }
+
+    /**
+     * Removes and returns the pending changes of a fileset, or of every fileset when no ID is given, ordered by fileset
+     * so that concurrent flushes lock the counters rows in the same order.
+     */
+    private SortedMap<PendingKey, long[]> drainPendingChanges(UUID incomingFilesetID) {
+        SortedMap<PendingKey, long[]> drained = new TreeMap<>(Comparator.comparing(PendingKey::incomingFilesetID).thenComparing(PendingKey::fileType));
+        for (var key : this.pendingChanges.keySet()) {
+            if (incomingFilesetID == null || incomingFilesetID.equals(key.incomingFilesetID())) {
+                var delta = this.pendingChanges.remove(key);
+                if (delta != null) {
+                    drained.put(key, delta);
+                }
+            }
+        }
+        return drained;
+    }
+
+    private void scheduleFlush() {
+        if (this.flushScheduled.compareAndSet(false, true)) {
+            try {
+                this.flushScheduler.schedule(this::flushPendingChanges, this.flushDelayMs, TimeUnit.MILLISECONDS);
+            } catch (RejectedExecutionException e) {
+                this.flushScheduled.set(false);
+                log.debug("Not scheduling a progress flush while shutting down");
+            }
+        }
+    }
+
+    private static long[] countByBucket(List<Object[]> countsByStatus) {
+        long[] counts = new long[Bucket.values().length];
+        for (Object[] row : countsByStatus) {
+            counts[toBucket(FileType.CRS, (String) row[0]).ordinal()] += ((Number) row[1]).longValue();
+        }
+        return counts;
+    }
+
+    private static Bucket toBucket(FileType fileType, String status) {
+        if (SchoolStudentStatus.LOADED.getCode().equals(status)) {
+            return Bucket.LOADED;
+        }
+        if (fileType == FileType.CRS && SchoolStudentStatus.UPDATE_CRS.getCode().equals(status)) {
+            return Bucket.IN_PROGRESS;
+        }
+        return Bucket.DONE;
+    }
+}
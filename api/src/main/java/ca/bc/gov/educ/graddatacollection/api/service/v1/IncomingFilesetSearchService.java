@@ -85,12 +85,19 @@ public class IncomingFilesetSearchService extends BaseSearchService {
   }
 
   @Transactional(propagation = Propagation.SUPPORTS)
-  public long getCounts(IncomingFileset fileset) {
+  public List<LocalDateTime> findQueuedUpdateDates() {
+    return incomingFilesetRepository.findQueuedUpdateDates();
+  }
+
+  /**
+   * @param queuedUpdateDates the update dates of the queued filesets, as returned by {@link #findQueuedUpdateDates()}
+   */
+  public long getCounts(IncomingFileset fileset, List<LocalDateTime> queuedUpdateDates) {
     long positionInQueue = 0;
     var condition = !fileset.getFilesetStatusCode().equalsIgnoreCase("COMPLETED")
             && fileset.getDemFileName() != null && fileset.getCrsFileName() != null && fileset.getXamFileName() != null;
     if(condition) {
-      positionInQueue = incomingFilesetRepository.findPositionInQueueByUpdateDate(LocalDateTime.parse(fileset.getUpdateDate()));
+      positionInQueue = getPositionInQueue(queuedUpdateDates, LocalDateTime.parse(fileset.getUpdateDate()));
     }
     return positionInQueue;
   }
@@ -3,7 +3,6 @@ package ca.bc.gov.educ.graddatacollection.api.service.v1;
 import ca.bc.gov.educ.graddatacollection.api.constants.EventOutcome;
 import ca.bc.gov.educ.graddatacollection.api.constants.EventType;
 import ca.bc.gov.educ.graddatacollection.api.constants.TopicsEnum;
-import ca.bc.gov.educ.graddatacollection.api.constants.v1.FilesetStatus;
 import ca.bc.gov.educ.graddatacollection.api.exception.EntityNotFoundException;
 import ca.bc.gov.educ.graddatacollection.api.messaging.MessagePublisher;
 import ca.bc.gov.educ.graddatacollection.api.model.v1.IncomingFilesetEntity;
@@ -11,6 +10,8 @@ import ca.bc.gov.educ.graddatacollection.api.properties.ApplicationProperties;
 import ca.bc.gov.educ.graddatacollection.api.repository.v1.FinalIncomingFilesetRepository;
 import ca.bc.gov.educ.graddatacollection.api.repository.v1.IncomingFilesetPurgeRepository;
 import ca.bc.gov.educ.graddatacollection.api.repository.v1.IncomingFilesetRepository;
+import ca.bc.gov.educ.graddatacollection.api.repository.v1.StagedStudentBulkLoader;
+import ca.bc.gov.educ.graddatacollection.api.service.v1.IncomingFilesetCopyService.StagedTable;
 import ca.bc.gov.educ.graddatacollection.api.struct.Event;
 import ca.bc.gov.educ.graddatacollection.api.struct.v1.IncomingFilesetSagaData;
 import ca.bc.gov.educ.graddatacollection.api.util.JsonUtil;
@@ -22,6 +23,8 @@ import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.EnumMap;
 import java.util.List;
 import java.util.UUID;
 
@@ -34,12 +37,30 @@ public class IncomingFilesetService {
     private final FinalIncomingFilesetRepository finalIncomingFilesetRepository;
     private final IncomingFilesetPurgeRepository incomingFilesetPurgeRepository;
     private final MessagePublisher messagePublisher;
+    private final IncomingFilesetProgressService incomingFilesetProgressService;
+    private final StagedStudentBulkLoader stagedStudentBulkLoader;
+    private final IncomingFilesetCopyService incomingFilesetCopyService;
     private static final String EVENT_EMPTY_MSG = "Event String is empty, skipping the publish to topic :: {}";
 
     @Transactional(propagation = Propagation.MANDATORY)
     public IncomingFilesetEntity saveIncomingFilesetRecord(IncomingFilesetEntity currentFileset) {
         log.debug("About to save school file data for fileset: {}", currentFileset.getIncomingFilesetID());
-        return this.incomingFilesetRepository.save(currentFileset);
+        var savedFileset = this.incomingFilesetRepository.save(currentFileset);
+        this.incomingFilesetProgressService.recount(savedFileset.getIncomingFilesetID());
+        return savedFileset;
+    }
+
+    /**
+     * Saves the fileset and bulk loads the students of an uploaded file into their staging table. The students must
+     * not be in a collection of the fileset, the cascade would insert them a second time.
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public <T> IncomingFilesetEntity saveIncomingFilesetRecord(IncomingFilesetEntity currentFileset, Class<T> studentType, Collection<T> students) {
+        log.debug("About to save school file data for fileset: {} with {} students", currentFileset.getIncomingFilesetID(), students.size());
+        var savedFileset = this.incomingFilesetRepository.saveAndFlush(currentFileset);
+        this.stagedStudentBulkLoader.load(studentType, students);
+        this.incomingFilesetProgressService.recount(savedFileset.getIncomingFilesetID());
+        return savedFileset;
     }
 
     @Transactional(propagation = Propagation.REQUIRES_NEW)
@@ -88,45 +109,28 @@ public class IncomingFilesetService {
         }
     }
 
-    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    /**
+     * Copies the fileset in chunks, each committed on its own, see {@link IncomingFilesetCopyService}. Calling this
+     * again after a failure resumes the copy after the last committed chunk.
+     */
     public void copyFilesetFromStagingToFinalAndMarkComplete(final UUID incomingFilesetID) {
         log.debug("Copying fileset from staging to final {}", incomingFilesetID);
+        this.incomingFilesetCopyService.startCopy(incomingFilesetID);
+
+        var chunkSize = this.incomingFilesetCopyService.getChunkSize();
+        var copiedByTable = new EnumMap<StagedTable, Long>(StagedTable.class);
+        for (var table : StagedTable.values()) {
+            long copied = 0;
+            int chunkCopied;
+            do {
+                chunkCopied = this.incomingFilesetCopyService.copyNextChunk(incomingFilesetID, table);
+                copied += chunkCopied;
+            } while (chunkCopied == chunkSize);
+            copiedByTable.put(table, copied);
+        }
 
-        // 1. Copy parent fileset
-        int parentsCopied = incomingFilesetRepository.copyFilesetParent(incomingFilesetID, FilesetStatus.COMPLETED.getCode());
-        log.info("Filesets copied: {}", parentsCopied);
-
-        // 2. Copy demographic students and validation issues
-        int demStudentsCopied = incomingFilesetRepository.copyDemographicStudents(incomingFilesetID);
-        log.info("Demographic students copied: {}", demStudentsCopied);
-
-        int demIssuesCopied = incomingFilesetRepository.copyDemographicValidationIssues(incomingFilesetID);
-        log.info("Demographic validation issues copied: {}", demIssuesCopied);
-
-        // 3. Copy course students and validation issues
-        int courseStudentsCopied = incomingFilesetRepository.copyCourseStudents(incomingFilesetID);
-        log.info("Course students copied: {}", courseStudentsCopied);
-
-        int courseIssuesCopied = incomingFilesetRepository.copyCourseValidationIssues(incomingFilesetID);
-        log.info("Course validation issues copied: {}", courseIssuesCopied);
-
-        // 4. Copy assessment students and validation issues
-        int assessmentStudentsCopied = incomingFilesetRepository.copyAssessmentStudents(incomingFilesetID);
-        log.info("Assessment students copied: {}", assessmentStudentsCopied);
-
-        int assessmentIssuesCopied = incomingFilesetRepository.copyAssessmentValidationIssues(incomingFilesetID);
-        log.info("Assessment validation issues copied: {}", assessmentIssuesCopied);
-
-        // 5. Copy error fileset students
-        int errorStudentsCopied = incomingFilesetRepository.copyErrorFilesetStudents(incomingFilesetID);
-        log.info("Error fileset students copied: {}", errorStudentsCopied);
-
-        // 6. Mark fileset as complete
-        incomingFilesetRepository.markStagedFilesetComplete(incomingFilesetID, FilesetStatus.COMPLETED.getCode());
-
-        log.info("Fileset copy completed successfully for {} - Total: {} demographic, {} course, {} assessment, {} errors",
-                incomingFilesetID, demStudentsCopied, courseStudentsCopied, assessmentStudentsCopied, errorStudentsCopied);
-
+        this.incomingFilesetCopyService.finishCopy(incomingFilesetID);
+        log.info("Fileset copy completed successfully for {} - Copied in this attempt: {}", incomingFilesetID, copiedByTable);
     }
 
     @Transactional(propagation = Propagation.REQUIRES_NEW)
@@ -1,5 +1,6 @@
 package ca.bc.gov.educ.graddatacollection.api.service.v1;
 
+import ca.bc.gov.educ.graddatacollection.api.constants.v1.FilesetStatus;
 import ca.bc.gov.educ.graddatacollection.api.exception.EntityNotFoundException;
 import ca.bc.gov.educ.graddatacollection.api.model.v1.FinalIncomingFilesetEntity;
 import ca.bc.gov.educ.graddatacollection.api.repository.v1.*;
@@ -26,12 +27,12 @@ public class MetricsService {
     private final FinalCourseStudentRepository courseStudentRepository;
 
     public FinalIncomingFilesetEntity getFilesetData(UUID incomingFilesetID) {
-        return incomingFilesetRepository.findByIncomingFilesetID(incomingFilesetID)
+        return incomingFilesetRepository.findByIncomingFilesetIDAndFilesetStatusCodeNot(incomingFilesetID, FilesetStatus.COPYING.getCode())
                 .orElseThrow(() -> new EntityNotFoundException(IncomingFileset.class, "incomingFilesetID", incomingFilesetID.toString()));
     }
 
     public ErrorAndWarningSummary getErrorAndWarningSummary(UUID incomingFilesetID) {
-        FinalIncomingFilesetEntity filesetEntity = incomingFilesetRepository.findByIncomingFilesetID(incomingFilesetID)
+        FinalIncomingFilesetEntity filesetEntity = incomingFilesetRepository.findByIncomingFilesetIDAndFilesetStatusCodeNot(incomingFilesetID, FilesetStatus.COPYING.getCode())
                 .orElseThrow(() -> new EntityNotFoundException(IncomingFileset.class, "incomingFilesetID", incomingFilesetID.toString()));
 
         ErrorAndWarningSummary summary = ErrorAndWarningSummary.builder()
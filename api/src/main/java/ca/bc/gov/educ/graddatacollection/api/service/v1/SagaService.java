@@ -21,6 +21,7 @@ import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
@@ -145,7 +146,20 @@ public class SagaService {
   @Transactional(propagation = Propagation.REQUIRES_NEW)
   public GradSagaEntity createSagaRecordInDB(final String sagaName, final String userName, final String payload,
                                              final UUID incomingFilesetID, final UUID demographicStudentID, final UUID assessmentStudentID, final UUID courseStudentID) {
-    final var saga = GradSagaEntity
+    return this.createSagaRecord(this.buildSagaRecord(sagaName, userName, payload, incomingFilesetID, demographicStudentID, assessmentStudentID, courseStudentID));
+  }
+
+  /**
+   * Builds a new saga record in its initiated state, without saving it.
+   *
+   * @param sagaName             the saga name
+   * @param userName             the username
+   * @param payload              the payload
+   * @return the saga
+   */
+  public GradSagaEntity buildSagaRecord(final String sagaName, final String userName, final String payload,
+                                        final UUID incomingFilesetID, final UUID demographicStudentID, final UUID assessmentStudentID, final UUID courseStudentID) {
+    return GradSagaEntity
       .builder()
       .payload(payload)
       .incomingFilesetID(incomingFilesetID)
@@ -160,7 +174,6 @@ public class SagaService {
       .updateUser(userName)
       .updateDate(LocalDateTime.now())
       .build();
-    return this.createSagaRecord(saga);
   }
 
   @Transactional(propagation = Propagation.REQUIRES_NEW)
@@ -180,6 +193,18 @@ public class SagaService {
     return this.getSagaRepository().findByAssessmentStudentIDAndIncomingFilesetIDAndSagaNameAndStatusNot(assessmentStudentID, incomingFilesetID, sagaName, status);
   }
 
+  public List<GradSagaEntity> findByDemographicStudentIDInAndSagaNameAndStatusNot(final Collection<UUID> demographicStudentIDs, final String sagaName, final String status) {
+    return this.getSagaRepository().findByDemographicStudentIDInAndSagaNameAndStatusNot(demographicStudentIDs, sagaName, status);
+  }
+
+  public List<GradSagaEntity> findByCourseStudentIDInAndSagaNameAndStatusNot(final Collection<UUID> courseStudentIDs, final String sagaName, final String status) {
+    return this.getSagaRepository().findByCourseStudentIDInAndSagaNameAndStatusNot(courseStudentIDs, sagaName, status);
+  }
+
+  public List<GradSagaEntity> findByAssessmentStudentIDInAndSagaNameAndStatusNot(final Collection<UUID> assessmentStudentIDs, final String sagaName, final String status) {
+    return this.getSagaRepository().findByAssessmentStudentIDInAndSagaNameAndStatusNot(assessmentStudentIDs, sagaName, status);
+  }
+
   public List<GradSagaEntity> findByIncomingFilesetIDAndSagaNameAndStatusNot(final UUID incomingFilesetID, final String sagaName, final String status) {
     return this.getSagaRepository().findByIncomingFilesetIDAndSagaNameAndStatusNot(incomingFilesetID, sagaName, status);
   }
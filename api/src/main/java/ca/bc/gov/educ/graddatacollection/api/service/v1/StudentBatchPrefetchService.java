@@ -0,0 +1,175 @@
+package ca.bc.gov.educ.graddatacollection.api.service.v1;
+
+import ca.bc.gov.educ.graddatacollection.api.constants.SagaEnum;
+import ca.bc.gov.educ.graddatacollection.api.constants.SagaStatusEnum;
+import ca.bc.gov.educ.graddatacollection.api.model.v1.AssessmentStudentLightEntity;
+import ca.bc.gov.educ.graddatacollection.api.model.v1.CourseStudentLightEntity;
+import ca.bc.gov.educ.graddatacollection.api.model.v1.DemographicStudentLightEntity;
+import ca.bc.gov.educ.graddatacollection.api.properties.ApplicationProperties;
+import ca.bc.gov.educ.graddatacollection.api.repository.v1.AssessmentStudentLightRepository;
+import ca.bc.gov.educ.graddatacollection.api.repository.v1.CourseStudentLightRepository;
+import ca.bc.gov.educ.graddatacollection.api.repository.v1.DemographicStudentLightRepository;
+import ca.bc.gov.educ.graddatacollection.api.repository.v1.SagaRepository;
+import ca.bc.gov.educ.graddatacollection.api.rest.RestUtils;
+import ca.bc.gov.educ.graddatacollection.api.service.v1.FilesetStudentCacheService.CachedStudentData;
+import ca.bc.gov.educ.graddatacollection.api.service.v1.FilesetStudentCacheService.Stage;
+import ca.bc.gov.educ.graddatacollection.api.struct.external.studentapi.v1.Student;
+import com.google.common.collect.Lists;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.commons.lang3.StringUtils;
+import org.springframework.stereotype.Service;
+
+import java.util.*;
+import java.util.concurrent.*;
+
+/**
+ * Warms the {@link FilesetStudentCacheService} for a batch of student records while their sagas start.
+ * <p>
+ * The prefetch runs on the pod that starts the sagas of the batch, on a virtual thread, so neither the caller nor the
+ * sagas wait for it; a rule that misses while a prefetched lookup is in flight joins it. The distinct PENs of the batch
+ * are resolved against the Student API with multi-PEN requests, then the GRAD student record (and for CRS batches the
+ * GRAD course list) of every student found is fetched, bounded by the configured concurrency. GRAD data is only
+ * prefetched for XAM and CRS batches once no DEM saga of the fileset is still running, since the DEM sagas write the
+ * students to GRAD. The results are staged with the same "not found" semantics as the rules in
+ * {@link BaseRulesService}, which read the cache first. A lookup that fails here is left uncached and is retried by
+ * the rule that needs it.
+ */
+@Service
+@Slf4j
+public class StudentBatchPrefetchService {
+
+    private final RestUtils restUtils;
+    private final FilesetStudentCacheService filesetStudentCacheService;
+    private final DemographicStudentLightRepository demographicStudentLightRepository;
+    private final AssessmentStudentLightRepository assessmentStudentLightRepository;
+    private final CourseStudentLightRepository courseStudentLightRepository;
+    private final SagaRepository sagaRepository;
+    private final ApplicationProperties props;
+    private final ExecutorService prefetchExecutor = Executors.newVirtualThreadPerTaskExecutor();
+
+    public StudentBatchPrefetchService(RestUtils restUtils, FilesetStudentCacheService filesetStudentCacheService, DemographicStudentLightRepository demographicStudentLightRepository,
+                                       AssessmentStudentLightRepository assessmentStudentLightRepository, CourseStudentLightRepository courseStudentLightRepository,
+                                       SagaRepository sagaRepository, ApplicationProperties props) {
+        this.restUtils = restUtils;
+        this.filesetStudentCacheService = filesetStudentCacheService;
+        this.demographicStudentLightRepository = demographicStudentLightRepository;
+        this.assessmentStudentLightRepository = assessmentStudentLightRepository;
+        this.courseStudentLightRepository = courseStudentLightRepository;
+        this.sagaRepository = sagaRepository;
+        this.props = props;
+    }
+
+    /**
+     * Starts the prefetch for the student records of a saga batch and returns without waiting for it.
+     *
+     * @param studentIDs the IDs of the DEM, XAM or CRS student records, as given by the stage
+     * @return completes when the prefetch has finished, successfully or not
+     */
+    public CompletableFuture<Void> prefetchAsync(UUID incomingFilesetID, Stage stage, Collection<UUID> studentIDs) {
+        if (!isEnabled() || incomingFilesetID == null || studentIDs.isEmpty()) {
+            return CompletableFuture.completedFuture(null);
+        }
+        try {
+            return CompletableFuture.runAsync(() -> prefetch(incomingFilesetID, stage, findPens(stage, studentIDs)), prefetchExecutor)
+                    .exceptionally(ex -> {
+                        log.debug("Student data prefetch failed for incoming fileset {}, leaving it to the rules :: {}", incomingFilesetID, ex.getMessage());
+                        return null;
+                    });
+        } catch (RejectedExecutionException e) {
+            log.debug("Student data prefetch rejected for incoming fileset {} while shutting down", incomingFilesetID);
+            return CompletableFuture.completedFuture(null);
+        }
+    }
+
+    public void prefetch(UUID incomingFilesetID, Stage stage, Collection<String> pens) {
+        if (!isEnabled() || incomingFilesetID == null) {
+            return;
+        }
+        List<String> distinctPens = pens.stream().filter(StringUtils::isNotBlank).distinct().toList();
+        if (distinctPens.isEmpty()) {
+            return;
+        }
+        Map<String, Student> students = resolveStudents(incomingFilesetID, distinctPens);
+        if (stage == Stage.DEM || isDemographicStageInProgress(incomingFilesetID)) {
+            log.debug("Prefetched Student API data only for {} PENs in incoming fileset :: {}", distinctPens.size(), incomingFilesetID);
+            return;
+        }
+
+        var permits = new Semaphore(Math.max(1, props.getStudentBatchPrefetchConcurrency()));
+        List<CompletableFuture<Void>> futures = new ArrayList<>();
+        students.forEach((pen, student) -> futures.add(CompletableFuture.runAsync(() -> {
+            permits.acquireUninterruptibly();
+            try {
+                filesetStudentCacheService.getOrLoad(incomingFilesetID, stage, pen, CachedStudentData.GRAD_STUDENT_RECORD, () -> BaseRulesService.fetchGradStudentRecord(restUtils, UUID.fromString(student.getStudentID())));
+                if (stage == Stage.CRS) {
+                    filesetStudentCacheService.getOrLoad(incomingFilesetID, stage, pen, CachedStudentData.GRAD_STUDENT_COURSES, () -> BaseRulesService.fetchStudentCourseRecord(restUtils, student.getStudentID()));
+                }
+            } finally {
+                permits.release();
+            }
+        }, prefetchExecutor)));
+        for (var future : futures) {
+            try {
+                future.join();
+            } catch (Exception e) {
+                log.debug("GRAD data prefetch failed, leaving it to the rules :: {}", e.getMessage());
+            }
+        }
+        log.debug("Prefetched student data for {} PENs in incoming fileset :: {}", distinctPens.size(), incomingFilesetID);
+    }
+
+    private boolean isEnabled() {
+        return Boolean.TRUE.equals(props.getStudentBatchPrefetchEnabled()) && filesetStudentCacheService.isEnabled();
+    }
+
+    private List<String> findPens(Stage stage, Collection<UUID> studentIDs) {
+        return switch (stage) {
+            case DEM -> demographicStudentLightRepository.findAllById(studentIDs).stream().map(DemographicStudentLightEntity::getPen).toList();
+            case XAM -> assessmentStudentLightRepository.findAllById(studentIDs).stream().map(AssessmentStudentLightEntity::getPen).toList();
+            case CRS -> courseStudentLightRepository.findAllById(studentIDs).stream().map(CourseStudentLightEntity::getPen).toList();
+        };
+    }
+
+    private boolean isDemographicStageInProgress(UUID incomingFilesetID) {
+        return sagaRepository.countAllByIncomingFilesetIDAndSagaNameAndStatusIn(incomingFilesetID, SagaEnum.PROCESS_DEM_STUDENTS_SAGA.toString(),
+                List.of(SagaStatusEnum.STARTED.toString(), SagaStatusEnum.IN_PROGRESS.toString())) > 0;
+    }
+
+    /**
+     * Looks up the PENs not cached yet with multi-PEN Student API requests and stages every result, null for the
+     * PENs the Student API does not know.
+     *
+     * @return the students found, keyed by PEN, including the ones that were already cached
+     */
+    private Map<String, Student> resolveStudents(UUID incomingFilesetID, List<String> pens) {
+        List<String> uncachedPens = pens.stream().filter(pen -> !filesetStudentCacheService.contains(incomingFilesetID, null, pen, CachedStudentData.STUDENT_API_STUDENT)).toList();
+        Map<String, Student> fetched = new HashMap<>();
+        Set<String> resolvedPens = new HashSet<>(pens);
+        for (var chunk : Lists.partition(uncachedPens, Math.max(1, props.getStudentPenLookupBatchSize()))) {
+            try {
+                fetched.putAll(restUtils.getStudentsByPENs(UUID.randomUUID(), chunk));
+            } catch (Exception e) {
+                log.debug("Student API prefetch failed for {} PENs, leaving them to the rules :: {}", chunk.size(), e.getMessage());
+                chunk.forEach(resolvedPens::remove);
+            }
+        }
+
+        Map<String, Student> students = new HashMap<>();
+        for (String pen : pens) {
+            if (!resolvedPens.contains(pen)) {
+                continue;
+            }
+            Student student = filesetStudentCacheService.getOrLoad(incomingFilesetID, null, pen, CachedStudentData.STUDENT_API_STUDENT, () -> fetched.get(pen));
+            if (student != null) {
+                students.put(pen, student);
+            }
+        }
+        return students;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        prefetchExecutor.shutdownNow();
+    }
+}
@@ -2,6 +2,7 @@ package ca.bc.gov.educ.graddatacollection.api.service.v1.events;
 
 import ca.bc.gov.educ.graddatacollection.api.choreographer.ChoreographEventHandler;
 import ca.bc.gov.educ.graddatacollection.api.exception.BusinessException;
+import ca.bc.gov.educ.graddatacollection.api.model.v1.GDCEvent;
 import ca.bc.gov.educ.graddatacollection.api.rest.RestUtils;
 import ca.bc.gov.educ.graddatacollection.api.service.v1.ChoreographedEventPersistenceService;
 import ca.bc.gov.educ.graddatacollection.api.struct.v1.ChoreographedEvent;
@@ -42,20 +43,38 @@ public class EventHandlerDelegatorService {
     }
 
     public void handleChoreographyEvent(@NonNull final ChoreographedEvent choreographedEvent, final Message message) throws IOException {
+        final var persistedEvent = this.persistChoreographyEvent(choreographedEvent);
+        message.ack(); // acknowledge to Jet Stream that api got the message and it is now in DB.
+        log.info("acknowledged to Jet Stream...");
+        if (persistedEvent != null) {
+            this.handlePersistedChoreographyEvent(persistedEvent);
+        }
+    }
+
+    /**
+     * Persists the event without acknowledging it, for the pull consumer which acknowledges a fetched batch at once.
+     *
+     * @return the persisted event, or null if it was already persisted
+     */
+    public GDCEvent persistChoreographyEvent(@NonNull final ChoreographedEvent choreographedEvent) {
         try {
-            final var persistedEvent = this.choreographedEventPersistenceService.persistEventToDB(choreographedEvent);
-            message.ack(); // acknowledge to Jet Stream that api got the message and it is now in DB.
-            log.info("acknowledged to Jet Stream...");
-            this.choreographer.handleEvent(persistedEvent);
+            return this.choreographedEventPersistenceService.persistEventToDB(choreographedEvent);
         } catch (final BusinessException businessException) {
-            message.ack(); // acknowledge to Jet Stream that api got the message already...
-            log.info("acknowledged to Jet Stream...");
+            return null;
         }
     }
 
+    public void handlePersistedChoreographyEvent(@NonNull final GDCEvent persistedEvent) {
+        this.choreographer.handleEvent(persistedEvent);
+    }
+
     public void handleRefreshChoreographyEvent(final Message message) throws IOException {
         message.ack(); // acknowledge to Jet Stream that api got the message and it is now in DB.
         log.info("acknowledged to Jet Stream...");
+        this.refreshGradSchoolCache();
+    }
+
+    public void refreshGradSchoolCache() {
         restUtils.populateGradSchoolMap();
     }
 }
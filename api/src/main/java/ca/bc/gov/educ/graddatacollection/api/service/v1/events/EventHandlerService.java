@@ -3,9 +3,13 @@ package ca.bc.gov.educ.graddatacollection.api.service.v1.events;
 import ca.bc.gov.educ.graddatacollection.api.constants.EventOutcome;
 import ca.bc.gov.educ.graddatacollection.api.constants.SagaEnum;
 import ca.bc.gov.educ.graddatacollection.api.constants.SagaStatusEnum;
+import ca.bc.gov.educ.graddatacollection.api.model.v1.GradSagaEntity;
 import ca.bc.gov.educ.graddatacollection.api.orchestrator.*;
+import ca.bc.gov.educ.graddatacollection.api.orchestrator.base.BaseOrchestrator;
 import ca.bc.gov.educ.graddatacollection.api.properties.ApplicationProperties;
+import ca.bc.gov.educ.graddatacollection.api.service.v1.FilesetStudentCacheService.Stage;
 import ca.bc.gov.educ.graddatacollection.api.service.v1.SagaService;
+import ca.bc.gov.educ.graddatacollection.api.service.v1.StudentBatchPrefetchService;
 import ca.bc.gov.educ.graddatacollection.api.struct.Event;
 import ca.bc.gov.educ.graddatacollection.api.struct.v1.*;
 import ca.bc.gov.educ.graddatacollection.api.util.JsonUtil;
@@ -17,7 +21,12 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
 import java.util.UUID;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 import static lombok.AccessLevel.PRIVATE;
 import static org.springframework.transaction.annotation.Propagation.REQUIRES_NEW;
@@ -37,16 +46,18 @@ public class EventHandlerService {
   private final CourseStudentProcessingOrchestrator courseStudentProcessingOrchestrator;
   private final AssessmentStudentProcessingOrchestrator assessmentStudentProcessingOrchestrator;
   private final UpdateCourseStudentDownstreamOrchestrator updateCourseStudentDownstreamOrchestrator;
+  private final StudentBatchPrefetchService studentBatchPrefetchService;
   public static final String NO_EXECUTION_MSG = "Execution is not required for this message returning EVENT is :: {}";
 
   @Autowired
-  public EventHandlerService(final SagaService sagaService, CompletedFilesetProcessingOrchestrator completedFilesetProcessingOrchestrator, final DemographicStudentProcessingOrchestrator demographicStudentProcessingOrchestrator, CourseStudentProcessingOrchestrator courseStudentProcessingOrchestrator, AssessmentStudentProcessingOrchestrator assessmentStudentProcessingOrchestrator, UpdateCourseStudentDownstreamOrchestrator updateCourseStudentDownstreamOrchestrator) {
+  public EventHandlerService(final SagaService sagaService, CompletedFilesetProcessingOrchestrator completedFilesetProcessingOrchestrator, final DemographicStudentProcessingOrchestrator demographicStudentProcessingOrchestrator, CourseStudentProcessingOrchestrator courseStudentProcessingOrchestrator, AssessmentStudentProcessingOrchestrator assessmentStudentProcessingOrchestrator, UpdateCourseStudentDownstreamOrchestrator updateCourseStudentDownstreamOrchestrator, StudentBatchPrefetchService studentBatchPrefetchService) {
     this.sagaService = sagaService;
     this.completedFilesetProcessingOrchestrator = completedFilesetProcessingOrchestrator;
     this.demographicStudentProcessingOrchestrator = demographicStudentProcessingOrchestrator;
     this.courseStudentProcessingOrchestrator = courseStudentProcessingOrchestrator;
     this.assessmentStudentProcessingOrchestrator = assessmentStudentProcessingOrchestrator;
     this.updateCourseStudentDownstreamOrchestrator = updateCourseStudentDownstreamOrchestrator;
+    this.studentBatchPrefetchService = studentBatchPrefetchService;
   }
 
   @Transactional(propagation = REQUIRES_NEW)
@@ -78,7 +89,7 @@ public class EventHandlerService {
   public void handleProcessDemStudentsEvent(final Event event) throws JsonProcessingException {
     if (event.getEventOutcome() == EventOutcome.READ_DEM_STUDENTS_FOR_PROCESSING_SUCCESS) {
       final DemographicStudentSagaData sagaData = JsonUtil.getJsonObjectFromString(DemographicStudentSagaData.class, event.getEventPayload());
-      final var sagaList = this.getSagaService().findByDemographicStudentIDAndIncomingFilesetIDAndSagaNameAndStatusNot(UUID.fromString(sagaData.getDemographicStudent().getDemographicStudentID()), UUID.fromString(sagaData.getDemographicStudent().getIncomingFilesetID()), SagaEnum.PROCESS_DEM_STUDENTS_SAGA.toString(), SagaStatusEnum.COMPLETED.toString());
+      final var sagaList = this.getSagaService().findByDemographicStudentIDAndIncomingFilesetIDAndSagaNameAndStatusNot(UUID.fromString(sagaData.getDemographicStudentID()), UUID.fromString(sagaData.getIncomingFilesetID()), SagaEnum.PROCESS_DEM_STUDENTS_SAGA.toString(), SagaStatusEnum.COMPLETED.toString());
       if (!sagaList.isEmpty()) { // possible duplicate message.
         log.trace(NO_EXECUTION_MSG, event);
         return;
@@ -86,8 +97,8 @@ public class EventHandlerService {
       val saga = this.demographicStudentProcessingOrchestrator
               .createSaga(event.getEventPayload(),
                       ApplicationProperties.GRAD_DATA_COLLECTION_API,
-                      UUID.fromString(sagaData.getDemographicStudent().getIncomingFilesetID()),
-                      UUID.fromString(sagaData.getDemographicStudent().getDemographicStudentID()),
+                      UUID.fromString(sagaData.getIncomingFilesetID()),
+                      UUID.fromString(sagaData.getDemographicStudentID()),
                       null,
                       null);
       log.debug("Starting dem student processing orchestrator :: {}", saga);
@@ -99,7 +110,7 @@ public class EventHandlerService {
   public void handleProcessCourseStudentsEvent(final Event event) throws JsonProcessingException {
     if (event.getEventOutcome() == EventOutcome.READ_COURSE_STUDENTS_FOR_PROCESSING_SUCCESS) {
       final CourseStudentSagaData sagaData = JsonUtil.getJsonObjectFromString(CourseStudentSagaData.class, event.getEventPayload());
-      final var sagaList = this.getSagaService().findByCourseStudentIDAndIncomingFilesetIDAndSagaNameAndStatusNot(UUID.fromString(sagaData.getCourseStudent().getCourseStudentID()), UUID.fromString(sagaData.getCourseStudent().getIncomingFilesetID()), SagaEnum.PROCESS_COURSE_STUDENTS_SAGA.toString(), SagaStatusEnum.COMPLETED.toString());
+      final var sagaList = this.getSagaService().findByCourseStudentIDAndIncomingFilesetIDAndSagaNameAndStatusNot(UUID.fromString(sagaData.getCourseStudentID()), UUID.fromString(sagaData.getIncomingFilesetID()), SagaEnum.PROCESS_COURSE_STUDENTS_SAGA.toString(), SagaStatusEnum.COMPLETED.toString());
       if (!sagaList.isEmpty()) { // possible duplicate message.
         log.trace(NO_EXECUTION_MSG, event);
         return;
@@ -107,10 +118,10 @@ public class EventHandlerService {
       val saga = this.courseStudentProcessingOrchestrator
               .createSaga(event.getEventPayload(),
                       ApplicationProperties.GRAD_DATA_COLLECTION_API,
-                      UUID.fromString(sagaData.getCourseStudent().getIncomingFilesetID()),
+                      UUID.fromString(sagaData.getIncomingFilesetID()),
                       null,
                       null,
-                      UUID.fromString(sagaData.getCourseStudent().getCourseStudentID()));
+                      UUID.fromString(sagaData.getCourseStudentID()));
       log.debug("Starting course student processing orchestrator :: {}", saga);
       this.courseStudentProcessingOrchestrator.startSaga(saga);
     }
@@ -120,7 +131,7 @@ public class EventHandlerService {
   public void handleProcessAssessmentStudentsEvent(final Event event) throws JsonProcessingException {
     if (event.getEventOutcome() == EventOutcome.READ_ASSESSMENT_STUDENTS_FOR_PROCESSING_SUCCESS) {
       final AssessmentStudentSagaData sagaData = JsonUtil.getJsonObjectFromString(AssessmentStudentSagaData.class, event.getEventPayload());
-      final var sagaList = this.getSagaService().findByAssessmentStudentIDAndIncomingFilesetIDAndSagaNameAndStatusNot(UUID.fromString(sagaData.getAssessmentStudent().getAssessmentStudentID()), UUID.fromString(sagaData.getAssessmentStudent().getIncomingFilesetID()), SagaEnum.PROCESS_ASSESSMENT_STUDENTS_SAGA.toString(), SagaStatusEnum.COMPLETED.toString());
+      final var sagaList = this.getSagaService().findByAssessmentStudentIDAndIncomingFilesetIDAndSagaNameAndStatusNot(UUID.fromString(sagaData.getAssessmentStudentID()), UUID.fromString(sagaData.getIncomingFilesetID()), SagaEnum.PROCESS_ASSESSMENT_STUDENTS_SAGA.toString(), SagaStatusEnum.COMPLETED.toString());
       if (!sagaList.isEmpty()) { // possible duplicate message.
         log.trace(NO_EXECUTION_MSG, event);
         return;
@@ -128,15 +139,101 @@ public class EventHandlerService {
       val saga = this.assessmentStudentProcessingOrchestrator
               .createSaga(event.getEventPayload(),
                       ApplicationProperties.GRAD_DATA_COLLECTION_API,
-                      UUID.fromString(sagaData.getAssessmentStudent().getIncomingFilesetID()),
+                      UUID.fromString(sagaData.getIncomingFilesetID()),
                       null,
-                      UUID.fromString(sagaData.getAssessmentStudent().getAssessmentStudentID()),
+                      UUID.fromString(sagaData.getAssessmentStudentID()),
                       null);
       log.debug("Starting assessment student processing orchestrator :: {}", saga);
       this.assessmentStudentProcessingOrchestrator.startSaga(saga);
     }
   }
 
+  @Transactional(propagation = REQUIRES_NEW)
+  public void handleProcessDemStudentBatchEvent(final Event event) throws JsonProcessingException {
+    if (event.getEventOutcome() == EventOutcome.READ_DEM_STUDENT_BATCH_FOR_PROCESSING_SUCCESS) {
+      this.createAndStartStudentSagas(event, DemographicStudentSagaData.class, Stage.DEM, SagaEnum.PROCESS_DEM_STUDENTS_SAGA, DemographicStudentSagaData::getDemographicStudentID, DemographicStudentSagaData::getIncomingFilesetID, this.demographicStudentProcessingOrchestrator);
+    }
+  }
+
+  @Transactional(propagation = REQUIRES_NEW)
+  public void handleProcessCourseStudentBatchEvent(final Event event) throws JsonProcessingException {
+    if (event.getEventOutcome() == EventOutcome.READ_COURSE_STUDENT_BATCH_FOR_PROCESSING_SUCCESS) {
+      this.createAndStartStudentSagas(event, CourseStudentSagaData.class, Stage.CRS, SagaEnum.PROCESS_COURSE_STUDENTS_SAGA, CourseStudentSagaData::getCourseStudentID, CourseStudentSagaData::getIncomingFilesetID, this.courseStudentProcessingOrchestrator);
+    }
+  }
+
+  @Transactional(propagation = REQUIRES_NEW)
+  public void handleProcessAssessmentStudentBatchEvent(final Event event) throws JsonProcessingException {
+    if (event.getEventOutcome() == EventOutcome.READ_ASSESSMENT_STUDENT_BATCH_FOR_PROCESSING_SUCCESS) {
+      this.createAndStartStudentSagas(event, AssessmentStudentSagaData.class, Stage.XAM, SagaEnum.PROCESS_ASSESSMENT_STUDENTS_SAGA, AssessmentStudentSagaData::getAssessmentStudentID, AssessmentStudentSagaData::getIncomingFilesetID, this.assessmentStudentProcessingOrchestrator);
+    }
+  }
+
+  /**
+   * Creates one saga per student of a batch and starts them, skipping the students that already have a saga in
+   * flight. The stage decides which student ID of the saga record is set and looked up.
+   */
+  private <T> void createAndStartStudentSagas(final Event event, final Class<T> sagaDataClass, final Stage stage, final SagaEnum sagaEnum, final Function<T, String> studentIDOf, final Function<T, String> incomingFilesetIDOf, final BaseOrchestrator<T> orchestrator) throws JsonProcessingException {
+    final List<T> batch = JsonUtil.getJsonObjectListFromString(sagaDataClass, event.getEventPayload());
+    if (batch.isEmpty()) {
+      return;
+    }
+    final var sagaName = sagaEnum.toString();
+    final var studentIDs = batch.stream().map(sagaData -> UUID.fromString(studentIDOf.apply(sagaData))).toList();
+    final Set<UUID> studentIDsWithSaga = this.findSagasInFlight(stage, studentIDs, sagaName)
+            .stream().map(sagaStudentID(stage)).collect(Collectors.toSet());
+    final List<GradSagaEntity> sagas = new ArrayList<>();
+    for (val sagaData : batch) {
+      val studentID = UUID.fromString(studentIDOf.apply(sagaData));
+      if (studentIDsWithSaga.add(studentID)) { // skips possible duplicate messages and repeated IDs within the batch.
+        sagas.add(this.getSagaService().buildSagaRecord(sagaName, ApplicationProperties.GRAD_DATA_COLLECTION_API, JsonUtil.getJsonStringFromObject(sagaData), UUID.fromString(incomingFilesetIDOf.apply(sagaData)),
+                stage == Stage.DEM ? studentID : null, stage == Stage.XAM ? studentID : null, stage == Stage.CRS ? studentID : null));
+      }
+    }
+    this.prefetchStudentData(sagas, stage, sagaStudentID(stage));
+    this.createAndStartSagas(orchestrator, sagas, event);
+  }
+
+  private List<GradSagaEntity> findSagasInFlight(final Stage stage, final List<UUID> studentIDs, final String sagaName) {
+    final var completed = SagaStatusEnum.COMPLETED.toString();
+    return switch (stage) {
+      case DEM -> this.getSagaService().findByDemographicStudentIDInAndSagaNameAndStatusNot(studentIDs, sagaName, completed);
+      case XAM -> this.getSagaService().findByAssessmentStudentIDInAndSagaNameAndStatusNot(studentIDs, sagaName, completed);
+      case CRS -> this.getSagaService().findByCourseStudentIDInAndSagaNameAndStatusNot(studentIDs, sagaName, completed);
+    };
+  }
+
+  private static Function<GradSagaEntity, UUID> sagaStudentID(final Stage stage) {
+    return switch (stage) {
+      case DEM -> GradSagaEntity::getDemographicStudentID;
+      case XAM -> GradSagaEntity::getAssessmentStudentID;
+      case CRS -> GradSagaEntity::getCourseStudentID;
+    };
+  }
+
+  /**
+   * Starts warming the student cache for the sagas of a batch, which are started on this pod.
+   */
+  private void prefetchStudentData(final List<GradSagaEntity> sagas, final Stage stage, final Function<GradSagaEntity, UUID> studentID) {
+    sagas.stream().collect(Collectors.groupingBy(GradSagaEntity::getIncomingFilesetID, Collectors.mapping(studentID, Collectors.toList())))
+      .forEach((incomingFilesetID, studentIDs) -> this.studentBatchPrefetchService.prefetchAsync(incomingFilesetID, stage, studentIDs));
+  }
+
+  /**
+   * Saves the sagas of a batch in one insert, then starts each of them. Starting is asynchronous, so the sagas of a
+   * batch run in parallel.
+   */
+  private <T> void createAndStartSagas(final BaseOrchestrator<T> orchestrator, final List<GradSagaEntity> sagas, final Event event) {
+    if (sagas.isEmpty()) { // possible duplicate message.
+      log.trace(NO_EXECUTION_MSG, event);
+      return;
+    }
+    for (val saga : orchestrator.createSagas(sagas)) {
+      log.debug("Starting {} orchestrator :: {}", orchestrator.getSagaName(), saga);
+      orchestrator.startSaga(saga);
+    }
+  }
+
   @Transactional(propagation = REQUIRES_NEW)
   public void handleProcessCourseStudentsForDownstreamUpdateEvent(final Event event) throws JsonProcessingException {
     if (event.getEventOutcome() == EventOutcome.READ_COURSE_STUDENTS_FOR_DOWNSTREAM_UPDATE_SUCCESS) {
@@ -61,6 +61,11 @@ public class ProcessAssessmentStudentsEventDelegatorService implements EventHand
         log.trace(PAYLOAD_LOG, event.getEventPayload());
         this.getEventHandlerService().handleProcessAssessmentStudentsEvent(event); // no response in this event.
       }
+      else if(event.getEventType() == EventType.READ_ASSESSMENT_STUDENT_BATCH_FOR_PROCESSING) {
+        log.debug("Received read batch from topic event :: ");
+        log.trace(PAYLOAD_LOG, event.getEventPayload());
+        this.getEventHandlerService().handleProcessAssessmentStudentBatchEvent(event); // no response in this event.
+      }
       else {
         log.debug("Silently ignoring other event :: {}", event);
       }
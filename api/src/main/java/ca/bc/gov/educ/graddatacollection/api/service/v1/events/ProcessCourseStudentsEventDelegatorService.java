@@ -61,6 +61,11 @@ public class ProcessCourseStudentsEventDelegatorService implements EventHandler
         log.trace(PAYLOAD_LOG, event.getEventPayload());
         this.getEventHandlerService().handleProcessCourseStudentsEvent(event); // no response in this event.
       }
+      else if(event.getEventType() == EventType.READ_COURSE_STUDENT_BATCH_FOR_PROCESSING) {
+        log.debug("Received read batch from topic event :: ");
+        log.trace(PAYLOAD_LOG, event.getEventPayload());
+        this.getEventHandlerService().handleProcessCourseStudentBatchEvent(event); // no response in this event.
+      }
       else {
         log.debug("Silently ignoring other event :: {}", event);
       }
@@ -61,6 +61,11 @@ public class ProcessDemographicStudentsEventDelegatorService implements EventHan
         log.trace(PAYLOAD_LOG, event.getEventPayload());
         this.getEventHandlerService().handleProcessDemStudentsEvent(event); // no response in this event.
       }
+      else if(event.getEventType() == EventType.READ_DEM_STUDENT_BATCH_FOR_PROCESSING) {
+        log.debug("Received read batch from topic event :: ");
+        log.trace(PAYLOAD_LOG, event.getEventPayload());
+        this.getEventHandlerService().handleProcessDemStudentBatchEvent(event); // no response in this event.
+      }
       else {
         log.debug("Silently ignoring other event :: {}", event);
       }
@@ -3,8 +3,9 @@ package ca.bc.gov.educ.graddatacollection.api.service.v1.events.schedulers;
 
 import ca.bc.gov.educ.graddatacollection.api.constants.SagaStatusEnum;
 import ca.bc.gov.educ.graddatacollection.api.helpers.LogHelper;
-import ca.bc.gov.educ.graddatacollection.api.model.v1.GradSagaEntity;
+import ca.bc.gov.educ.graddatacollection.api.model.v1.*;
 import ca.bc.gov.educ.graddatacollection.api.orchestrator.base.Orchestrator;
+import ca.bc.gov.educ.graddatacollection.api.properties.ApplicationProperties;
 import ca.bc.gov.educ.graddatacollection.api.repository.v1.*;
 import ca.bc.gov.educ.graddatacollection.api.service.v1.*;
 import lombok.Setter;
@@ -19,15 +20,17 @@ import org.springframework.transaction.annotation.Transactional;
 import java.io.IOException;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
-import java.util.ArrayList;
-import java.util.HashMap;
-import java.util.List;
-import java.util.Map;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.TimeoutException;
 
 @Service
 @Slf4j
 public class EventTaskSchedulerAsyncService {
+  /**
+   * The ShedLock shared by the loaded students scheduler and the event driven advance of a fileset.
+   */
+  public static final String PROCESS_LOADED_STUDENTS_LOCK = "PROCESS_LOADED_STUDENTS";
   private final SagaRepository sagaRepository;
   private final Map<String, Orchestrator> sagaOrchestrators = new HashMap<>();
   private final IncomingFilesetLightRepository incomingFilesetLightRepository;
@@ -44,8 +47,15 @@ public class EventTaskSchedulerAsyncService {
   private final CourseStudentService courseStudentService;
   private final ReportingPeriodService reportingPeriodService;
   private final IncomingFilesetService incomingFilesetService;
+  private final IncomingFilesetRepository incomingFilesetRepository;
+  private final IncomingFilesetProgressService incomingFilesetProgressService;
+  private final ApplicationProperties applicationProperties;
+  /**
+   * The batch size of each fileset in the processing window, as allocated by the last run of the scheduler.
+   */
+  private final Map<UUID, Integer> allocatedBatchSizes = new ConcurrentHashMap<>();
 
-  public EventTaskSchedulerAsyncService(final List<Orchestrator> orchestrators, final SagaRepository sagaRepository, IncomingFilesetLightRepository incomingFilesetLightRepository, DemographicStudentLightRepository demographicStudentLightRepository, AssessmentStudentLightRepository assessmentStudentLightRepository, CourseStudentLightRepository courseStudentLightRepository, ReportingPeriodRepository reportingPeriodRepository, DemographicStudentService demographicStudentService, AssessmentStudentService assessmentStudentService, CourseStudentService courseStudentService, ReportingPeriodService reportingPeriodService, IncomingFilesetService incomingFilesetService) {
+  public EventTaskSchedulerAsyncService(final List<Orchestrator> orchestrators, final SagaRepository sagaRepository, IncomingFilesetLightRepository incomingFilesetLightRepository, DemographicStudentLightRepository demographicStudentLightRepository, AssessmentStudentLightRepository assessmentStudentLightRepository, CourseStudentLightRepository courseStudentLightRepository, ReportingPeriodRepository reportingPeriodRepository, DemographicStudentService demographicStudentService, AssessmentStudentService assessmentStudentService, CourseStudentService courseStudentService, ReportingPeriodService reportingPeriodService, IncomingFilesetService incomingFilesetService, IncomingFilesetRepository incomingFilesetRepository, IncomingFilesetProgressService incomingFilesetProgressService, ApplicationProperties applicationProperties) {
       this.sagaRepository = sagaRepository;
       this.incomingFilesetLightRepository = incomingFilesetLightRepository;
       this.demographicStudentLightRepository = demographicStudentLightRepository;
@@ -57,6 +67,9 @@ public class EventTaskSchedulerAsyncService {
       this.courseStudentService = courseStudentService;
       this.reportingPeriodService = reportingPeriodService;
       this.incomingFilesetService = incomingFilesetService;
+      this.incomingFilesetRepository = incomingFilesetRepository;
+      this.incomingFilesetProgressService = incomingFilesetProgressService;
+      this.applicationProperties = applicationProperties;
       orchestrators.forEach(orchestrator -> this.sagaOrchestrators.put(orchestrator.getSagaName(), orchestrator));
   }
 
@@ -92,8 +105,8 @@ public class EventTaskSchedulerAsyncService {
   @Transactional(propagation = Propagation.REQUIRES_NEW)
   public void findAndPublishLoadedStudentRecordsForProcessing() {
     log.info("Querying for loaded students to process");
-    if (this.sagaRepository.countAllByStatusIn(this.getStatusFilters()) > 150) { // at max there will be 100 parallel sagas.
-      log.debug("Saga count is greater than 150, so not processing student records");
+    if (this.hasTooManySagasInFlight()) {
+      log.debug("Saga count is greater than {}, so not processing student records", this.applicationProperties.getMaxPendingSagas());
       return;
     }
 
@@ -101,51 +114,138 @@ public class EventTaskSchedulerAsyncService {
     var completedFilesets = this.incomingFilesetLightRepository.findCompletedCollectionsForStatusUpdate();
     log.debug("Query for completed records complete, found {} records", completedFilesets.size());
     if (!completedFilesets.isEmpty()) {
+      completedFilesets.forEach(this.allocatedBatchSizes::remove);
       this.incomingFilesetService.prepareAndSendCompletedFilesetsForFurtherProcessing(completedFilesets);
       return;
     }
 
-    log.debug("Query for fileset to process start");
-    var nextIncomingFilesetToProcess = this.incomingFilesetLightRepository.findNextReadyCollectionForProcessing();
-    log.debug("Query for fileset to process, found record? {}", nextIncomingFilesetToProcess.isPresent());
-    
-    if(nextIncomingFilesetToProcess.isPresent()) {
-      var filesetID = nextIncomingFilesetToProcess.get().getIncomingFilesetID();
+    log.debug("Query for filesets to process start");
+    var filesetsToProcess = this.incomingFilesetLightRepository.findNextReadyCollectionsForProcessing(this.applicationProperties.getNumberOfFilesetsToProcessConcurrently());
+    log.debug("Query for filesets to process, found {} records", filesetsToProcess.size());
 
-      log.debug("Query for demog students in fileset {} start", filesetID);
-      final var demographicStudentEntities = this.demographicStudentLightRepository.findTopLoadedDEMStudentForProcessing(filesetID, Integer.parseInt(numberOfStudentsToProcess));
-      log.debug("Found :: {} demographic records in loaded status", demographicStudentEntities.size());
-      if (!demographicStudentEntities.isEmpty()) {
-        this.demographicStudentService.prepareAndSendDemStudentsForFurtherProcessing(demographicStudentEntities, nextIncomingFilesetToProcess.get());
-        return;
+    var batchSizes = this.allocateStudentBatchSizes(filesetsToProcess, Integer.parseInt(numberOfStudentsToProcess));
+    this.allocatedBatchSizes.keySet().retainAll(batchSizes.keySet());
+    this.allocatedBatchSizes.putAll(batchSizes);
+    for (var incomingFileset : filesetsToProcess) {
+      var filesetID = incomingFileset.getIncomingFilesetID();
+      long sagasInFlight = this.sagaRepository.countAllByIncomingFilesetIDAndStatusIn(filesetID, this.getStatusFilters());
+      int batchSize = (int) (batchSizes.get(filesetID) - sagasInFlight);
+      if (batchSize <= 0) {
+        log.debug("Fileset {} already has {} sagas in flight, skipping this round", filesetID, sagasInFlight);
+        continue;
       }
-
-      log.debug("Query for assessment students in fileset {} start", filesetID);
-      final var assessmentStudentEntities = this.assessmentStudentLightRepository.findTopLoadedAssessmentStudentForProcessing(filesetID, Integer.parseInt(numberOfStudentsToProcess));
-      log.debug("Found :: {} assessment records in loaded status", assessmentStudentEntities.size());
-      if (!assessmentStudentEntities.isEmpty()) {
-        this.assessmentStudentService.prepareAndSendAssessmentStudentsForFurtherProcessing(assessmentStudentEntities, nextIncomingFilesetToProcess.get());
-        return;
+      if (!this.publishNextStudentBatch(incomingFileset, batchSize) && sagasInFlight == 0) {
+        // nothing left to publish, bring the counters up to date for the completion check of the next run
+        this.incomingFilesetProgressService.recount(filesetID);
       }
+    }
+  }
 
-      log.debug("Query for course students in fileset {} start", filesetID);
-      final var courseStudentEntities = this.courseStudentLightRepository.findTopLoadedCRSStudentForProcessing(filesetID, Integer.parseInt(numberOfStudentsToProcess));
-      log.debug("Found :: {} course records in loaded status", courseStudentEntities.size());
-      if (!courseStudentEntities.isEmpty()) {
-        this.courseStudentService.prepareAndSendCourseStudentsForFurtherProcessing(courseStudentEntities, nextIncomingFilesetToProcess.get());
-        return;
-      }
+  /**
+   * Publishes the next batch of a single fileset, or sends it for completion once all its students are processed.
+   * Called as soon as the last in-flight saga of the fileset completes. The fileset keeps the batch size the scheduler
+   * last allocated to it; only a fileset the scheduler has not allocated a batch size to yet, for instance when the
+   * scheduler last ran on another pod, has the processing window queried again. Filesets outside the window are left
+   * to the scheduler. The progress counters of a fileset with nothing left to publish are recounted first,
+   * so that the completion check never waits on status changes not yet applied to them.
+   */
+  @Transactional(propagation = Propagation.REQUIRES_NEW)
+  public void advanceFileset(UUID incomingFilesetID) {
+    if (this.hasTooManySagasInFlight()) {
+      log.debug("Saga count is greater than {}, leaving fileset {} to the scheduler", this.applicationProperties.getMaxPendingSagas(), incomingFilesetID);
+      return;
+    }
 
-      log.debug("Query for course student packages in fileset {} start", filesetID);
-      final var courseStudentEntitiesToUpdate = this.courseStudentLightRepository.findTopLoadedCRSStudentForDownstreamUpdate(filesetID, Integer.parseInt(numberOfStudentsToProcess));
-      log.debug("Found :: {} course student packages in loaded status", courseStudentEntitiesToUpdate.size());
-      if (!courseStudentEntitiesToUpdate.isEmpty()) {
-        this.courseStudentService.prepareAndSendCourseStudentsForDownstreamProcessing(courseStudentEntitiesToUpdate, filesetID);
+    Optional<IncomingFilesetLightEntity> incomingFileset;
+    Integer batchSize = this.allocatedBatchSizes.get(incomingFilesetID);
+    if (batchSize != null) {
+      incomingFileset = this.incomingFilesetLightRepository.findById(incomingFilesetID);
+    } else {
+      var filesetsToProcess = this.incomingFilesetLightRepository.findNextReadyCollectionsForProcessing(this.applicationProperties.getNumberOfFilesetsToProcessConcurrently());
+      incomingFileset = filesetsToProcess.stream().filter(fileset -> incomingFilesetID.equals(fileset.getIncomingFilesetID())).findFirst();
+      if (incomingFileset.isPresent()) {
+        var batchSizes = this.allocateStudentBatchSizes(filesetsToProcess, Integer.parseInt(numberOfStudentsToProcess));
+        this.allocatedBatchSizes.putAll(batchSizes);
+        batchSize = batchSizes.get(incomingFilesetID);
       }
-      
-      //If we get here the fileset is ready to be completed
-//      this.incomingFilesetLightRepository.updateFilesetToFinalizing(nextIncomingFilesetToProcess.get().getIncomingFilesetID());
     }
+    if (incomingFileset.isEmpty()) {
+      log.debug("Fileset {} is not ready for processing, leaving it to the scheduler", incomingFilesetID);
+      return;
+    }
+    if (this.publishNextStudentBatch(incomingFileset.get(), batchSize)) {
+      return;
+    }
+
+    this.incomingFilesetProgressService.recount(incomingFilesetID);
+    if (this.incomingFilesetLightRepository.countCompletedCollectionForStatusUpdate(incomingFilesetID) > 0) {
+      log.debug("Fileset {} has no students left to process, sending it for completion", incomingFilesetID);
+      this.allocatedBatchSizes.remove(incomingFilesetID);
+      this.incomingFilesetService.prepareAndSendCompletedFilesetsForFurtherProcessing(List.of(incomingFilesetID));
+    }
+  }
+
+  private boolean hasTooManySagasInFlight() {
+    return this.sagaRepository.countAllByStatusIn(this.getStatusFilters()) > this.applicationProperties.getMaxPendingSagas();
+  }
+
+  /**
+   * Splits the per-run student budget across the ready filesets. Each fileset is weighted by the inverse of its
+   * queue position, so the oldest fileset gets the largest share while every other fileset still progresses on
+   * every run.
+   */
+  private Map<UUID, Integer> allocateStudentBatchSizes(List<IncomingFilesetLightEntity> filesets, int numberOfStudents) {
+    Map<UUID, Double> weights = new LinkedHashMap<>();
+    var queuedUpdateDates = filesets.isEmpty() ? List.<LocalDateTime>of() : this.incomingFilesetRepository.findQueuedUpdateDates();
+    for (int i = 0; i < filesets.size(); i++) {
+      var fileset = filesets.get(i);
+      long position = fileset.getUpdateDate() != null ? BaseSearchService.getPositionInQueue(queuedUpdateDates, fileset.getUpdateDate()) : 0;
+      weights.put(fileset.getIncomingFilesetID(), 1d / (position > 0 ? position : i + 1));
+    }
+    double totalWeight = weights.values().stream().mapToDouble(Double::doubleValue).sum();
+    Map<UUID, Integer> batchSizes = new HashMap<>();
+    weights.forEach((filesetID, weight) -> batchSizes.put(filesetID, Math.max(1, (int) Math.round(numberOfStudents * weight / totalWeight))));
+    return batchSizes;
+  }
+
+  /**
+   * @return true if a batch was published for the fileset
+   */
+  private boolean publishNextStudentBatch(IncomingFilesetLightEntity incomingFileset, int batchSize) {
+    var filesetID = incomingFileset.getIncomingFilesetID();
+
+    log.debug("Query for demog students in fileset {} start", filesetID);
+    final var demographicStudentEntities = this.demographicStudentLightRepository.findTopLoadedDEMStudentForProcessing(filesetID, batchSize);
+    log.debug("Found :: {} demographic records in loaded status", demographicStudentEntities.size());
+    if (!demographicStudentEntities.isEmpty()) {
+      this.demographicStudentService.prepareAndSendDemStudentsForFurtherProcessing(demographicStudentEntities, incomingFileset);
+      return true;
+    }
+
+    log.debug("Query for assessment students in fileset {} start", filesetID);
+    final var assessmentStudentEntities = this.assessmentStudentLightRepository.findTopLoadedAssessmentStudentForProcessing(filesetID, batchSize);
+    log.debug("Found :: {} assessment records in loaded status", assessmentStudentEntities.size());
+    if (!assessmentStudentEntities.isEmpty()) {
+      this.assessmentStudentService.prepareAndSendAssessmentStudentsForFurtherProcessing(assessmentStudentEntities, incomingFileset);
+      return true;
+    }
+
+    log.debug("Query for course students in fileset {} start", filesetID);
+    final var courseStudentEntities = this.courseStudentLightRepository.findTopLoadedCRSStudentForProcessing(filesetID, batchSize);
+    log.debug("Found :: {} course records in loaded status", courseStudentEntities.size());
+    if (!courseStudentEntities.isEmpty()) {
+      this.courseStudentService.prepareAndSendCourseStudentsForFurtherProcessing(courseStudentEntities, incomingFileset);
+      return true;
+    }
+
+    log.debug("Query for course student packages in fileset {} start", filesetID);
+    final var courseStudentEntitiesToUpdate = this.courseStudentLightRepository.findTopLoadedCRSStudentForDownstreamUpdate(filesetID, batchSize);
+    log.debug("Found :: {} course student packages in loaded status", courseStudentEntitiesToUpdate.size());
+    if (!courseStudentEntitiesToUpdate.isEmpty()) {
+      this.courseStudentService.prepareAndSendCourseStudentsForDownstreamProcessing(courseStudentEntitiesToUpdate, filesetID);
+      return true;
+    }
+    return false;
   }
 
   @Transactional(propagation = Propagation.REQUIRES_NEW)
@@ -0,0 +1,126 @@
+package ca.bc.gov.educ.graddatacollection.api.service.v1.events.schedulers;
+
+import ca.bc.gov.educ.graddatacollection.api.constants.SagaEnum;
+import ca.bc.gov.educ.graddatacollection.api.model.v1.GradSagaEntity;
+import ca.bc.gov.educ.graddatacollection.api.orchestrator.base.SagaCompletionListener;
+import ca.bc.gov.educ.graddatacollection.api.properties.ApplicationProperties;
+import ca.bc.gov.educ.graddatacollection.api.repository.v1.SagaRepository;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import net.javacrumbs.shedlock.core.DefaultLockingTaskExecutor;
+import net.javacrumbs.shedlock.core.LockConfiguration;
+import net.javacrumbs.shedlock.core.LockProvider;
+import net.javacrumbs.shedlock.core.LockingTaskExecutor;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.convert.DurationStyle;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Advances a fileset as soon as its last in-flight saga completes, instead of waiting for the next run of the
+ * loaded students scheduler.
+ * <p>
+ * Completions are coalesced per fileset: the first completion after the transaction commits schedules one check after
+ * the debounce delay, and later completions are absorbed until that check runs. The check publishes the next batch,
+ * moving on from DEM to XAM, CRS and the downstream updates, or sends the fileset for completion, once the fileset has
+ * no saga left in flight. The check takes the ShedLock of the loaded students scheduler, so it never runs alongside
+ * the scheduler or a check on another pod; a check that finds the lock taken is retried a few times after the debounce
+ * delay. The scheduler keeps running as a safety net for any signal lost to a restart or raised on another pod.
+ */
+@Component
+@Slf4j
+public class FilesetProgressTracker implements SagaCompletionListener {
+  private static final int MAX_LOCK_ATTEMPTS = 3;
+  private final SagaRepository sagaRepository;
+  private final ObjectProvider<EventTaskSchedulerAsyncService> taskSchedulerAsyncService;
+  private final LockingTaskExecutor lockingTaskExecutor;
+  private final boolean enabled;
+  private final long debounceMs;
+  private final Duration lockAtMostFor;
+  private final Set<UUID> pendingFilesets = ConcurrentHashMap.newKeySet();
+  private final ScheduledExecutorService debounceScheduler = Executors.newSingleThreadScheduledExecutor(Thread.ofPlatform().name("fileset-progress").daemon().factory());
+  private final ExecutorService advanceExecutor = Executors.newVirtualThreadPerTaskExecutor();
+
+  public FilesetProgressTracker(final SagaRepository sagaRepository, final ObjectProvider<EventTaskSchedulerAsyncService> taskSchedulerAsyncService, final LockProvider lockProvider, final ApplicationProperties props) {
+    this.sagaRepository = sagaRepository;
+    this.taskSchedulerAsyncService = taskSchedulerAsyncService;
+    this.lockingTaskExecutor = new DefaultLockingTaskExecutor(lockProvider);
+    this.enabled = Boolean.TRUE.equals(props.getFilesetProgressEventDrivenEnabled());
+    this.debounceMs = Math.max(0, props.getFilesetProgressDebounceMs());
+    this.lockAtMostFor = DurationStyle.detectAndParse(props.getProcessLoadedStudentsLockAtMostFor());
+  }
+
+  @Override
+  public void sagaCompleted(final GradSagaEntity saga) {
+    final UUID incomingFilesetID = saga.getIncomingFilesetID();
+    if (!this.enabled || incomingFilesetID == null || SagaEnum.PROCESS_COMPLETED_FILESETS_SAGA.toString().equals(saga.getSagaName())) {
+      return;
+    }
+    if (TransactionSynchronizationManager.isSynchronizationActive()) {
+      TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+        @Override
+        public void afterCommit() {
+          FilesetProgressTracker.this.scheduleCheck(incomingFilesetID);
+        }
+      });
+    } else {
+      this.scheduleCheck(incomingFilesetID);
+    }
+  }
+
+  private void scheduleCheck(final UUID incomingFilesetID) {
+    this.scheduleCheck(incomingFilesetID, 1);
+  }
+
+  private void scheduleCheck(final UUID incomingFilesetID, final int attempt) {
+    if (this.pendingFilesets.add(incomingFilesetID)) {
+      try {
+        this.debounceScheduler.schedule(() -> this.advanceExecutor.execute(() -> this.checkFileset(incomingFilesetID, attempt)), this.debounceMs, TimeUnit.MILLISECONDS);
+      } catch (final RejectedExecutionException e) {
+        this.pendingFilesets.remove(incomingFilesetID);
+        log.debug("Not checking incoming fileset {} while shutting down", incomingFilesetID);
+      }
+    }
+  }
+
+  private void checkFileset(final UUID incomingFilesetID, final int attempt) {
+    this.pendingFilesets.remove(incomingFilesetID);
+    try {
+      final var asyncService = this.taskSchedulerAsyncService.getObject();
+      if (this.sagaRepository.countAllByIncomingFilesetIDAndStatusIn(incomingFilesetID, asyncService.getStatusFilters()) > 0) {
+        return;
+      }
+      final var lockConfiguration = new LockConfiguration(Instant.now(), EventTaskSchedulerAsyncService.PROCESS_LOADED_STUDENTS_LOCK, this.lockAtMostFor, Duration.ofMillis(this.debounceMs));
+      final var advanced = new AtomicBoolean();
+      this.lockingTaskExecutor.executeWithLock((Runnable) () -> {
+        advanced.set(true);
+        asyncService.advanceFileset(incomingFilesetID);
+      }, lockConfiguration);
+      if (!advanced.get() && attempt < MAX_LOCK_ATTEMPTS) {
+        log.debug("Loaded students lock is taken, checking incoming fileset {} again", incomingFilesetID);
+        this.scheduleCheck(incomingFilesetID, attempt + 1);
+      }
+    } catch (final Exception e) {
+      log.warn("Could not advance incoming fileset {}, leaving it to the scheduler :: {}", incomingFilesetID, e.getMessage());
+    }
+  }
+
+  @PreDestroy
+  public void shutdown() {
+    this.debounceScheduler.shutdownNow();
+    this.advanceExecutor.shutdownNow();
+  }
+}
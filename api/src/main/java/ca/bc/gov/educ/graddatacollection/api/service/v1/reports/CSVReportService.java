@@ -1,10 +1,13 @@
 package ca.bc.gov.educ.graddatacollection.api.service.v1.reports;
 
+import ca.bc.gov.educ.graddatacollection.api.constants.v1.ErrorFilesetValidationIssueType;
+import ca.bc.gov.educ.graddatacollection.api.constants.v1.FilesetStatus;
 import ca.bc.gov.educ.graddatacollection.api.exception.EntityNotFoundException;
 import ca.bc.gov.educ.graddatacollection.api.exception.GradDataCollectionAPIRuntimeException;
-import ca.bc.gov.educ.graddatacollection.api.mappers.v1.ErrorFilesetStudentMapper;
+import ca.bc.gov.educ.graddatacollection.api.mappers.v1.ErrorFilesetStudentDecorator;
 import ca.bc.gov.educ.graddatacollection.api.model.v1.FinalIncomingFilesetEntity;
 import ca.bc.gov.educ.graddatacollection.api.repository.v1.FinalErrorFilesetStudentRepository;
+import ca.bc.gov.educ.graddatacollection.api.repository.v1.FinalErrorFilesetStudentRepository.ErrorReportRow;
 import ca.bc.gov.educ.graddatacollection.api.repository.v1.FinalIncomingFilesetRepository;
 import ca.bc.gov.educ.graddatacollection.api.rest.RestUtils;
 import ca.bc.gov.educ.graddatacollection.api.struct.external.institute.v1.SchoolTombstone;
@@ -16,12 +19,16 @@ import org.apache.commons.csv.CSVPrinter;
 import org.apache.commons.io.output.ByteArrayOutputStream;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.io.BufferedWriter;
 import java.io.IOException;
+import java.io.OutputStream;
 import java.io.OutputStreamWriter;
+import java.nio.charset.StandardCharsets;
 import java.time.format.DateTimeFormatter;
 import java.util.*;
+import java.util.stream.Stream;
 
 import static ca.bc.gov.educ.graddatacollection.api.constants.v1.reports.ErrorReportHeaders.*;
 import static ca.bc.gov.educ.graddatacollection.api.constants.v1.reports.ReportTypeCodes.STUDENT_ERROR_REPORT;
@@ -31,7 +38,6 @@ import static ca.bc.gov.educ.graddatacollection.api.constants.v1.reports.ReportT
 public class CSVReportService {
     private final FinalErrorFilesetStudentRepository errorFilesetStudentRepository;
     private final FinalIncomingFilesetRepository incomingFilesetRepository;
-    private static final ErrorFilesetStudentMapper errorFilesetStudentMapper = ErrorFilesetStudentMapper.mapper;
     private final RestUtils restUtils;
 
     @Autowired
@@ -42,43 +48,73 @@ public class CSVReportService {
     }
 
     public DownloadableReportResponse generateErrorReport(UUID incomingFilesetId) {
-        Optional<FinalIncomingFilesetEntity> optionalIncomingFilesetEntity =  incomingFilesetRepository.findById(incomingFilesetId);
+        String reportName = getErrorReportName(incomingFilesetId);
+        ByteArrayOutputStream byteArrayOutputStream = new ByteArrayOutputStream();
+        writeErrorReport(incomingFilesetId, byteArrayOutputStream);
+
+        var downloadableReport = new DownloadableReportResponse();
+        downloadableReport.setReportType(STUDENT_ERROR_REPORT.getCode());
+        downloadableReport.setReportName(reportName);
+        downloadableReport.setDocumentData(Base64.getEncoder().encodeToString(byteArrayOutputStream.toByteArray()));
+        return downloadableReport;
+    }
+
+    public String getErrorReportName(UUID incomingFilesetId) {
+        Optional<FinalIncomingFilesetEntity> optionalIncomingFilesetEntity =  incomingFilesetRepository.findByIncomingFilesetIDAndFilesetStatusCodeNot(incomingFilesetId, FilesetStatus.COPYING.getCode());
         FinalIncomingFilesetEntity incomingFileset = optionalIncomingFilesetEntity.orElseThrow(() -> new EntityNotFoundException(FinalIncomingFilesetEntity.class, "incomingFilesetID", incomingFilesetId.toString()));
         Optional<SchoolTombstone> optionalSchoolTombstones = restUtils.getSchoolBySchoolID(incomingFileset.getSchoolID().toString());
         SchoolTombstone schoolTombstone = optionalSchoolTombstones.orElseThrow(() -> new EntityNotFoundException(SchoolTombstone.class,"incomingFilesetSchoolId", incomingFileset.getSchoolID().toString()));
-        List<ErrorFilesetStudent> results = errorFilesetStudentRepository.findAllByIncomingFileset_IncomingFilesetID(incomingFilesetId)
-                .stream()
-                .map(errorFilesetStudentMapper::toStructure)
-                .toList();
+        return String.format("%s - Graduation Data Error Report - %s", schoolTombstone.getMincode(), incomingFileset.getCreateDate().format(DateTimeFormatter.ofPattern("yyyyMMdd")));
+    }
 
+    /**
+     * Writes the error report of the fileset as CSV, one validation issue at a time as it is read from the database.
+     * The issues are read as flat rows, so the memory used does not grow with the fileset.
+     */
+    @Transactional(readOnly = true)
+    public void writeErrorReport(UUID incomingFilesetId, OutputStream outputStream) {
         CSVFormat csvFormat = CSVFormat.DEFAULT.builder()
                 .setHeader(PEN.getCode(),LOCAL_ID.getCode(), LAST_NAME.getCode(), FIRST_NAME.getCode(), DATE_OF_BIRTH.getCode(), FILE_TYPE.getCode(), SEVERITY_CODE.getCode(), ERROR_CONTEXT.getCode(), FIELD.getCode(), DESCRIPTION.getCode())
                 .build();
-        try {
-            ByteArrayOutputStream byteArrayOutputStream = new ByteArrayOutputStream();
-            BufferedWriter writer = new BufferedWriter(new OutputStreamWriter(byteArrayOutputStream));
+        try (Stream<ErrorReportRow> rows = errorFilesetStudentRepository.streamErrorReportRows(incomingFilesetId)) {
+            BufferedWriter writer = new BufferedWriter(new OutputStreamWriter(outputStream, StandardCharsets.UTF_8));
             CSVPrinter csvPrinter = new CSVPrinter(writer, csvFormat);
 
-            for (ErrorFilesetStudent student : results) {
-                List<List<String>> rows = prepareErrorDataForCsv(student);
-                for (List<String> row : rows) {
-                    csvPrinter.printRecord(row);
-                }
+            for (Iterator<ErrorReportRow> iterator = rows.iterator(); iterator.hasNext(); ) {
+                csvPrinter.printRecord(prepareErrorRowForCsv(iterator.next()));
             }
 
             csvPrinter.flush();
-
-            var downloadableReport = new DownloadableReportResponse();
-            downloadableReport.setReportType(STUDENT_ERROR_REPORT.getCode());
-            downloadableReport.setReportName(String.format("%s - Graduation Data Error Report - %s", schoolTombstone.getMincode(), incomingFileset.getCreateDate().format(DateTimeFormatter.ofPattern("yyyyMMdd"))));
-            downloadableReport.setDocumentData(Base64.getEncoder().encodeToString(byteArrayOutputStream.toByteArray()));
-            return downloadableReport;
-
         } catch (IOException e) {
             throw new GradDataCollectionAPIRuntimeException(e);
         }
     }
 
+    private static List<String> prepareErrorRowForCsv(ErrorReportRow row) {
+        return Arrays.asList(
+                row.getPen(),
+                row.getLocalID(),
+                row.getLastName(),
+                row.getFirstName(),
+                row.getBirthdate(),
+                row.getIssueType(),
+                row.getSeverityCode(),
+                getErrorContext(row),
+                row.getFieldCode(),
+                row.getDescription()
+        );
+    }
+
+    private static String getErrorContext(ErrorReportRow row) {
+        if (ErrorFilesetValidationIssueType.COURSE.getCode().equals(row.getIssueType())) {
+            return ErrorFilesetStudentDecorator.getCourseErrorContext(row.getCourseCode(), row.getCourseLevel(), row.getCourseYear(), row.getCourseMonth());
+        }
+        if (ErrorFilesetValidationIssueType.ASSESSMENT.getCode().equals(row.getIssueType())) {
+            return ErrorFilesetStudentDecorator.getAssessmentErrorContext(row.getCourseCode(), row.getCourseYear(), row.getCourseMonth());
+        }
+        return null;
+    }
+
     public List<List<String>> prepareErrorDataForCsv(ErrorFilesetStudent result) {
         return result.getErrorFilesetStudentValidationIssues().stream()
                 .map(issue -> Arrays.asList(
@@ -2,6 +2,7 @@ package ca.bc.gov.educ.graddatacollection.api.struct.v1;
 
 import ca.bc.gov.educ.graddatacollection.api.struct.external.institute.v1.SchoolTombstone;
 import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.annotation.JsonInclude;
 import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.NoArgsConstructor;
@@ -14,8 +15,31 @@ import java.io.Serializable;
 @NoArgsConstructor
 @AllArgsConstructor
 @JsonIgnoreProperties(ignoreUnknown = true)
+@JsonInclude(JsonInclude.Include.NON_NULL)
 public class AssessmentStudentSagaData implements Serializable {
   private static final long serialVersionUID = -2329245910142215178L;
+  private String assessmentStudentID;
+  private String incomingFilesetID;
+  private String schoolID;
+  /**
+   * Not sent by this service any more; the row is loaded from the staging table inside each saga step. Still read from
+   * payloads of sagas created before the payload was reduced to IDs.
+   */
   private AssessmentStudent assessmentStudent;
+  /**
+   * Not sent by this service any more; resolved from the school cache inside each saga step.
+   */
   private SchoolTombstone school;
+
+  public String getAssessmentStudentID() {
+    return assessmentStudentID != null || assessmentStudent == null ? assessmentStudentID : assessmentStudent.getAssessmentStudentID();
+  }
+
+  public String getIncomingFilesetID() {
+    return incomingFilesetID != null || assessmentStudent == null ? incomingFilesetID : assessmentStudent.getIncomingFilesetID();
+  }
+
+  public String getSchoolID() {
+    return schoolID != null || school == null ? schoolID : school.getSchoolId();
+  }
 }
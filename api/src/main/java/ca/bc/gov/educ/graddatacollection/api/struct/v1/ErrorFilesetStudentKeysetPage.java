@@ -0,0 +1,18 @@
+package ca.bc.gov.educ.graddatacollection.api.struct.v1;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+@Data
+public class ErrorFilesetStudentKeysetPage {
+    private List<ErrorFilesetStudent> content;
+    private String nextCursor;
+    private boolean last;
+}
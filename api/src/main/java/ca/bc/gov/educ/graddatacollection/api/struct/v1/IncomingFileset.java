@@ -39,6 +39,7 @@ public class IncomingFileset extends BaseRequest implements Serializable {
     String districtID;
     String reportingPeriodID;
     String positionInQueue;
+    IncomingFilesetProgress progress;
     Integer numberOfMissingPENs;
 
 }
@@ -0,0 +1,24 @@
+package ca.bc.gov.educ.graddatacollection.api.struct.v1;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.io.Serializable;
+
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+@Data
+public class IncomingFilesetProgress implements Serializable {
+    private static final long serialVersionUID = 1L;
+
+    private long demLoadedCount;
+    private long demDoneCount;
+    private long xamLoadedCount;
+    private long xamDoneCount;
+    private long crsLoadedCount;
+    private long crsInProgressCount;
+    private long crsDoneCount;
+}
@@ -5,6 +5,7 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.extern.slf4j.Slf4j;
 
 import java.io.IOException;
+import java.util.List;
 import java.util.Optional;
 
 /**
@@ -45,6 +46,19 @@ public class JsonUtil {
     return mapper.readValue(payload, clazz);
   }
 
+  /**
+   * Gets a list of json objects from a json array string.
+   *
+   * @param <T>     the type parameter
+   * @param clazz   the element clazz
+   * @param payload the payload
+   * @return the list of json objects
+   * @throws JsonProcessingException the json processing exception
+   */
+  public static <T> List<T> getJsonObjectListFromString(Class<T> clazz, String payload) throws JsonProcessingException {
+    return mapper.readValue(payload, mapper.getTypeFactory().constructCollectionType(List.class, clazz));
+  }
+
   /**
    * Gets json object from string.
    *
@@ -0,0 +1,25 @@
+CREATE TABLE INCOMING_FILESET_PROGRESS
+(
+    INCOMING_FILESET_ID         UUID                                NOT NULL,
+    DEM_LOADED_COUNT            BIGINT    DEFAULT 0                 NOT NULL,
+    DEM_DONE_COUNT              BIGINT    DEFAULT 0                 NOT NULL,
+    XAM_LOADED_COUNT            BIGINT    DEFAULT 0                 NOT NULL,
+    XAM_DONE_COUNT              BIGINT    DEFAULT 0                 NOT NULL,
+    CRS_LOADED_COUNT            BIGINT    DEFAULT 0                 NOT NULL,
+    CRS_IN_PROGRESS_COUNT       BIGINT    DEFAULT 0                 NOT NULL,
+    CRS_DONE_COUNT              BIGINT    DEFAULT 0                 NOT NULL,
+    UPDATE_DATE                 TIMESTAMP DEFAULT CURRENT_TIMESTAMP NOT NULL,
+    CONSTRAINT INCOMING_FILESET_PROGRESS_ID_PK PRIMARY KEY (INCOMING_FILESET_ID),
+    CONSTRAINT FK_INCOMING_FILESET_PROGRESS_FILESET_ID FOREIGN KEY (INCOMING_FILESET_ID) REFERENCES INCOMING_FILESET (INCOMING_FILESET_ID) ON DELETE CASCADE
+);
+
+INSERT INTO INCOMING_FILESET_PROGRESS (INCOMING_FILESET_ID, DEM_LOADED_COUNT, DEM_DONE_COUNT, XAM_LOADED_COUNT, XAM_DONE_COUNT, CRS_LOADED_COUNT, CRS_IN_PROGRESS_COUNT, CRS_DONE_COUNT)
+SELECT inFileset.INCOMING_FILESET_ID,
+       (SELECT COUNT(*) FROM DEMOGRAPHIC_STUDENT ds WHERE ds.INCOMING_FILESET_ID = inFileset.INCOMING_FILESET_ID AND ds.STUDENT_STATUS_CODE = 'LOADED'),
+       (SELECT COUNT(*) FROM DEMOGRAPHIC_STUDENT ds WHERE ds.INCOMING_FILESET_ID = inFileset.INCOMING_FILESET_ID AND ds.STUDENT_STATUS_CODE != 'LOADED'),
+       (SELECT COUNT(*) FROM ASSESSMENT_STUDENT as_ WHERE as_.INCOMING_FILESET_ID = inFileset.INCOMING_FILESET_ID AND as_.STUDENT_STATUS_CODE = 'LOADED'),
+       (SELECT COUNT(*) FROM ASSESSMENT_STUDENT as_ WHERE as_.INCOMING_FILESET_ID = inFileset.INCOMING_FILESET_ID AND as_.STUDENT_STATUS_CODE != 'LOADED'),
+       (SELECT COUNT(*) FROM COURSE_STUDENT cs WHERE cs.INCOMING_FILESET_ID = inFileset.INCOMING_FILESET_ID AND cs.STUDENT_STATUS_CODE = 'LOADED'),
+       (SELECT COUNT(*) FROM COURSE_STUDENT cs WHERE cs.INCOMING_FILESET_ID = inFileset.INCOMING_FILESET_ID AND cs.STUDENT_STATUS_CODE = 'UPDATE_CRS'),
+       (SELECT COUNT(*) FROM COURSE_STUDENT cs WHERE cs.INCOMING_FILESET_ID = inFileset.INCOMING_FILESET_ID AND cs.STUDENT_STATUS_CODE NOT IN ('LOADED', 'UPDATE_CRS'))
+FROM INCOMING_FILESET inFileset;
@@ -0,0 +1,11 @@
+CREATE TABLE INCOMING_FILESET_COPY_PROGRESS
+(
+    INCOMING_FILESET_ID         UUID                                NOT NULL,
+    DEM_COPIED_THROUGH_ID       UUID,
+    CRS_COPIED_THROUGH_ID       UUID,
+    XAM_COPIED_THROUGH_ID       UUID,
+    ERROR_COPIED_THROUGH_ID     UUID,
+    UPDATE_DATE                 TIMESTAMP DEFAULT CURRENT_TIMESTAMP NOT NULL,
+    CONSTRAINT INCOMING_FILESET_COPY_PROGRESS_ID_PK PRIMARY KEY (INCOMING_FILESET_ID),
+    CONSTRAINT FK_INCOMING_FILESET_COPY_PROGRESS_FILESET_ID FOREIGN KEY (INCOMING_FILESET_ID) REFERENCES INCOMING_FILESET (INCOMING_FILESET_ID) ON DELETE CASCADE
+);
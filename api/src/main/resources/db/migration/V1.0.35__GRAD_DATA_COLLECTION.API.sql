@@ -0,0 +1,5 @@
+INSERT INTO FILE_STATUS_CODE (FILE_STATUS_CODE, LABEL, DESCRIPTION,
+                              DISPLAY_ORDER, CREATE_USER, CREATE_DATE,
+                              UPDATE_USER, UPDATE_DATE)
+VALUES ('COPYING', 'Copying', 'Files are being copied to the final tables', '10', 'API_GRAD_DATA_COLLECTION',
+        TO_DATE('20261018', 'YYYYMMDD'), 'API_GRAD_DATA_COLLECTION', TO_DATE('20261018', 'YYYYMMDD'));
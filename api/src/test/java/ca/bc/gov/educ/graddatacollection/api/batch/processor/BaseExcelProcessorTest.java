@@ -1,6 +1,8 @@
 package ca.bc.gov.educ.graddatacollection.api.batch.processor;
 
+import ca.bc.gov.educ.graddatacollection.api.batch.exception.FileError;
 import ca.bc.gov.educ.graddatacollection.api.batch.exception.FileUnProcessableException;
+import ca.bc.gov.educ.graddatacollection.api.batch.struct.SpreadsheetRowReader;
 import ca.bc.gov.educ.graddatacollection.api.batch.validation.GradFileValidator;
 import ca.bc.gov.educ.graddatacollection.api.model.v1.ReportingPeriodEntity;
 import ca.bc.gov.educ.graddatacollection.api.properties.ApplicationProperties;
@@ -16,10 +18,12 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import java.nio.charset.StandardCharsets;
 import java.time.LocalDateTime;
 import java.util.UUID;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.Mockito.when;
 
 @ExtendWith(MockitoExtension.class)
@@ -60,6 +64,26 @@ class BaseExcelProcessorTest {
         }
     }
 
+    @Test
+    void processRows_withCsvRows_shouldParseHeadersWithoutBuildingWorkbook() throws Exception {
+        String csv = "\uFEFF" + String.join(",", HEADERS) + "\n";
+        try (CsvRowReader rows = new CsvRowReader(csv.getBytes(StandardCharsets.UTF_8))) {
+            SummerStudentDataResponse response = processor.callProcessRows(rows, UUID.randomUUID().toString(), null, UUID.randomUUID().toString());
+            assertThat(response.getHeaders()).hasSize(HEADERS.length);
+            assertThat(response.getSummerStudents()).isEmpty();
+        }
+    }
+
+    @Test
+    void processRows_withNoRows_shouldRejectEmptyFile() throws Exception {
+        try (CsvRowReader rows = new CsvRowReader(new byte[0])) {
+            String guid = UUID.randomUUID().toString();
+            assertThatThrownBy(() -> processor.callProcessRows(rows, UUID.randomUUID().toString(), null, guid))
+                    .isInstanceOf(FileUnProcessableException.class)
+                    .extracting("fileError").isEqualTo(FileError.EMPTY_EXCEL_NOT_ALLOWED);
+        }
+    }
+
     private Workbook buildWorkbook(String firstHeaderValue) {
         Workbook wb = new XSSFWorkbook();
         Sheet sheet = wb.createSheet("Data");
@@ -99,6 +123,11 @@ class BaseExcelProcessorTest {
             return processSheet(sheet, schoolID, districtID, guid);
         }
 
+        SummerStudentDataResponse callProcessRows(SpreadsheetRowReader rows, String schoolID, String districtID, String guid)
+                throws FileUnProcessableException {
+            return processRows(rows, schoolID, districtID, guid);
+        }
+
         @Override
         public SummerStudentDataResponse extractData(String guid, byte[] fileContents, String schoolID, String districtID)
                 throws FileUnProcessableException {
@@ -0,0 +1,72 @@
+package ca.bc.gov.educ.graddatacollection.api.batch.processor;
+
+import ca.bc.gov.educ.graddatacollection.api.batch.constants.FileType;
+import ca.bc.gov.educ.graddatacollection.api.batch.exception.FileError;
+import ca.bc.gov.educ.graddatacollection.api.batch.exception.FileUnProcessableException;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.Charset;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class FixedWidthRecordReaderTest {
+
+    private static final FixedWidthLayout CRS_LAYOUT = FixedWidthLayout.fromMapperResource(FileType.CRS.getMapperFileName());
+    private static final int CRS_LENGTH = FileType.CRS.getActualFileSize();
+
+    @Test
+    void testOpen_WhenLinesAreShortOrBlank_ShouldPadAndSkipThem() throws Exception {
+        var contents = encode("CRS       1234567\r\n" + "   \n" + "CRS       7654321\n");
+
+        try (var records = FixedWidthRecordReader.open(contents, CRS_LAYOUT, CRS_LENGTH)) {
+            assertFalse(records.isEmpty());
+            assertEquals("1234567", records.getFirstRecordString("mincode"));
+
+            List<String> mincodes = new ArrayList<>();
+            while (records.next()) {
+                assertEquals("CRS", records.getString("transactionCode"));
+                assertNull(records.getString("pen"));
+                mincodes.add(records.getString("MINCODE"));
+            }
+            assertEquals(List.of("1234567", "7654321"), mincodes);
+        }
+    }
+
+    @Test
+    void testOpen_WhenFileIsEmpty_ShouldHaveNoRecords() throws Exception {
+        try (var records = FixedWidthRecordReader.open(encode(""), CRS_LAYOUT, CRS_LENGTH)) {
+            assertTrue(records.isEmpty());
+            assertNull(records.getFirstRecordString("mincode"));
+            assertFalse(records.next());
+        }
+    }
+
+    @Test
+    void testValidateLineLengths_WhenLineHasTooManyCharacters_ShouldFail() {
+        var contents = encode("CRS\n" + " ".repeat(CRS_LENGTH) + "X\n");
+
+        var exception = assertThrows(FileUnProcessableException.class, () -> FixedWidthRecordReader.validateLineLengths(contents, CRS_LENGTH, "guid", false));
+        assertEquals(FileError.INVALID_ROW_LENGTH, exception.getFileError());
+        assertTrue(exception.getReason().contains("Line 2 has too many characters."));
+    }
+
+    @Test
+    void testValidateLineLengths_WhenOverflowIsBlank_ShouldPass() {
+        var contents = encode("CRS" + " ".repeat(CRS_LENGTH + 5) + "\n");
+        assertDoesNotThrow(() -> FixedWidthRecordReader.validateLineLengths(contents, CRS_LENGTH, "guid", false));
+    }
+
+    @Test
+    void testValidateLineLengths_WhenEmptyFileRejected_ShouldFail() {
+        var exception = assertThrows(FileUnProcessableException.class, () -> FixedWidthRecordReader.validateLineLengths(encode("\n\n"), CRS_LENGTH, "guid", true));
+        assertEquals(FileError.EMPTY_FILE, exception.getFileError());
+        assertDoesNotThrow(() -> FixedWidthRecordReader.validateLineLengths(encode(""), CRS_LENGTH, "guid", false));
+    }
+
+    private static String encode(String contents) {
+        return Base64.getEncoder().encodeToString(contents.getBytes(Charset.defaultCharset()));
+    }
+}
@@ -11,6 +11,7 @@ import ca.bc.gov.educ.graddatacollection.api.struct.v1.Search;
 import ca.bc.gov.educ.graddatacollection.api.struct.v1.SearchCriteria;
 import ca.bc.gov.educ.graddatacollection.api.struct.v1.ValueType;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.jayway.jsonpath.JsonPath;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.MockitoAnnotations;
@@ -26,6 +27,7 @@ import java.util.*;
 import static ca.bc.gov.educ.graddatacollection.api.struct.v1.Condition.AND;
 import static ca.bc.gov.educ.graddatacollection.api.struct.v1.Condition.OR;
 import static org.hamcrest.Matchers.hasSize;
+import static org.hamcrest.Matchers.nullValue;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.Mockito.when;
 import static org.springframework.http.MediaType.APPLICATION_JSON;
@@ -339,4 +341,79 @@ class ErrorFilesetStudentControllerTest extends BaseGradDataCollectionAPITest {
                 .andExpect(MockMvcResultMatchers.jsonPath("$.content[0].errorFilesetStudentValidationIssues[0].errorContext").value("LTE10 - %s/01".formatted(LocalDate.now().plusYears(1).format(DateTimeFormatter.ofPattern("yyyy")))));
     }
 
+    @Test
+    void testReadErrorFilesetStudentsKeyset_withCursor_ShouldReturnTheNextPageWithErrorContext() throws Exception {
+        var reportingPeriod = reportingPeriodRepository.save(createMockReportingPeriodEntity());
+        var incomingFileSet = finalIncomingFilesetRepository.save(createMockFinalIncomingFilesetEntityWithAllFilesLoaded(reportingPeriod));
+        var errorFileset1 = createMockFinalErrorFilesetStudentEntity(incomingFileSet);
+        errorFileset1.setPen("122342342");
+        errorFilesetStudentRepository.save(errorFileset1);
+        var errorFileset2 = createMockFinalErrorFilesetStudentEntity(incomingFileSet);
+        errorFileset2.setLastName("PETERS");
+        errorFileset2.setPen("422342342");
+        errorFilesetStudentRepository.save(errorFileset2);
+
+        var mockAssessment = createMockFinalAssessmentStudent();
+        mockAssessment.setIncomingFileset(incomingFileSet);
+        mockAssessment.setPen("422342342");
+        mockAssessment.setLastName("PETERS");
+        var assessmentValidation = FinalAssessmentStudentValidationIssueEntity.builder()
+                .assessmentStudent(mockAssessment)
+                .assessmentStudentValidationIssueID(UUID.randomUUID())
+                .validationIssueCode("TEST")
+                .validationIssueDescription("TEST")
+                .validationIssueFieldCode("TEST")
+                .validationIssueSeverityCode("ERROR")
+                .build();
+        mockAssessment.getAssessmentStudentValidationIssueEntities().add(assessmentValidation);
+        assessmentStudentRepository.save(mockAssessment);
+        final SearchCriteria criteria = SearchCriteria.builder().condition(AND).key("incomingFileset.incomingFilesetID")
+                .operation(FilterOperation.EQUAL).value(String.valueOf(incomingFileSet.getIncomingFilesetID())).valueType(ValueType.UUID).build();
+
+        final List<Search> searches = new LinkedList<>();
+        searches.add(Search.builder().searchCriteriaList(List.of(criteria)).build());
+
+        final var objectMapper = new ObjectMapper();
+        final String criteriaJSON = objectMapper.writeValueAsString(searches);
+        final MvcResult firstResult = this.mockMvc
+                .perform(get(URL.BASE_URL_ERROR_FILESET + URL.KEYSET)
+                        .with(jwt().jwt(jwt -> jwt.claim("scope", "READ_FILESET_STUDENT_ERROR")))
+                        .param("pageSize", "1")
+                        .param("searchCriteriaList", criteriaJSON)
+                        .contentType(APPLICATION_JSON))
+                .andReturn();
+        final MvcResult firstPage = this.mockMvc.perform(asyncDispatch(firstResult)).andDo(print()).andExpect(status().isOk())
+                .andExpect(jsonPath("$.content", hasSize(1)))
+                .andExpect(jsonPath("$.content[0].pen").value("122342342"))
+                .andExpect(jsonPath("$.last").value(false))
+                .andReturn();
+        final String nextCursor = JsonPath.read(firstPage.getResponse().getContentAsString(), "$.nextCursor");
+
+        final MvcResult secondResult = this.mockMvc
+                .perform(get(URL.BASE_URL_ERROR_FILESET + URL.KEYSET)
+                        .with(jwt().jwt(jwt -> jwt.claim("scope", "READ_FILESET_STUDENT_ERROR")))
+                        .param("pageSize", "1")
+                        .param("cursor", nextCursor)
+                        .param("searchCriteriaList", criteriaJSON)
+                        .contentType(APPLICATION_JSON))
+                .andReturn();
+        this.mockMvc.perform(asyncDispatch(secondResult)).andDo(print()).andExpect(status().isOk())
+                .andExpect(jsonPath("$.content", hasSize(1)))
+                .andExpect(jsonPath("$.content[0].pen").value("422342342"))
+                .andExpect(jsonPath("$.content[0].errorFilesetStudentValidationIssues", hasSize(1)))
+                .andExpect(jsonPath("$.content[0].errorFilesetStudentValidationIssues[0].errorContext").value("LTE10 - %s/01".formatted(LocalDate.now().plusYears(1).format(DateTimeFormatter.ofPattern("yyyy")))))
+                .andExpect(jsonPath("$.last").value(true))
+                .andExpect(jsonPath("$.nextCursor").value(nullValue()));
+    }
+
+    @Test
+    void testReadErrorFilesetStudentsKeyset_withInvalidCursor_ShouldReturnBadRequest() throws Exception {
+        this.mockMvc
+                .perform(get(URL.BASE_URL_ERROR_FILESET + URL.KEYSET)
+                        .with(jwt().jwt(jwt -> jwt.claim("scope", "READ_FILESET_STUDENT_ERROR")))
+                        .param("cursor", "not-a-cursor")
+                        .contentType(APPLICATION_JSON))
+                .andDo(print())
+                .andExpect(status().isBadRequest());
+    }
 }
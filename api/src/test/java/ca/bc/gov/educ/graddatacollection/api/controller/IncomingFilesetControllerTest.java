@@ -26,6 +26,7 @@ import java.time.LocalDateTime;
 import java.util.*;
 
 import static ca.bc.gov.educ.graddatacollection.api.struct.v1.Condition.AND;
+import static org.hamcrest.Matchers.contains;
 import static org.hamcrest.Matchers.hasSize;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.Mockito.when;
@@ -67,6 +68,8 @@ class IncomingFilesetControllerTest extends BaseGradDataCollectionAPITest {
     CourseStudentRepository courseStudentRepository;
     @Autowired
     AssessmentStudentRepository assessmentStudentRepository;
+    @Autowired
+    IncomingFilesetProgressRepository incomingFilesetProgressRepository;
 
     @BeforeEach
     public void setUp() {
@@ -203,6 +206,7 @@ class IncomingFilesetControllerTest extends BaseGradDataCollectionAPITest {
         demographicStudentEntity.setUpdateUser(ApplicationProperties.GRAD_DATA_COLLECTION_API);
 
         demographicStudentRepository.save(demographicStudentEntity);
+        incomingFilesetProgressRepository.save(IncomingFilesetProgressEntity.builder().incomingFilesetID(incomingFileset1.getIncomingFilesetID()).demLoadedCount(1).xamLoadedCount(1).crsLoadedCount(1).updateDate(LocalDateTime.now()).build());
 
         final SearchCriteria criteria = SearchCriteria.builder().condition(AND).key("schoolID").operation(FilterOperation.EQUAL).value(school.getSchoolId()).valueType(ValueType.UUID).build();
 
@@ -220,7 +224,59 @@ class IncomingFilesetControllerTest extends BaseGradDataCollectionAPITest {
                         .param("searchCriteriaList", criteriaJSON)
                         .contentType(APPLICATION_JSON))
                 .andReturn();
-        this.mockMvc.perform(asyncDispatch(result)).andDo(print()).andExpect(status().isOk()).andExpect(jsonPath("$.content[0].positionInQueue").value("1"));
+        this.mockMvc.perform(asyncDispatch(result)).andDo(print()).andExpect(status().isOk()).andExpect(jsonPath("$.content[0].positionInQueue").value("1")).andExpect(jsonPath("$.content[0].progress.demLoadedCount").value(1));
+    }
+
+    @Test
+    void testReadIncomingFilesetPaginated_WithSeveralQueuedFilesets_ShouldReportEachPositionInQueue() throws Exception {
+        var reportingPeriod = reportingPeriodRepository.save(createMockReportingPeriodEntity());
+        when(this.restUtils.getSchoolBySchoolID(anyString())).thenReturn(Optional.of(this.createMockSchoolTombstone()));
+        var first = createMockIncomingFilesetEntityWithAllFilesLoaded(reportingPeriod);
+        first.setUpdateDate(LocalDateTime.now().minusMinutes(10));
+        incomingFilesetRepository.save(first);
+        var second = createMockIncomingFilesetEntityWithAllFilesLoaded(reportingPeriod);
+        second.setUpdateDate(LocalDateTime.now().minusMinutes(5));
+        incomingFilesetRepository.save(second);
+        var completed = createMockIncomingFilesetEntityWithAllFilesLoaded(reportingPeriod);
+        completed.setFilesetStatusCode("COMPLETED");
+        incomingFilesetRepository.save(completed);
+        incomingFilesetProgressRepository.save(IncomingFilesetProgressEntity.builder().incomingFilesetID(first.getIncomingFilesetID()).demLoadedCount(1).updateDate(LocalDateTime.now()).build());
+        incomingFilesetProgressRepository.save(IncomingFilesetProgressEntity.builder().incomingFilesetID(second.getIncomingFilesetID()).crsLoadedCount(1).updateDate(LocalDateTime.now()).build());
+        incomingFilesetProgressRepository.save(IncomingFilesetProgressEntity.builder().incomingFilesetID(completed.getIncomingFilesetID()).updateDate(LocalDateTime.now()).build());
+
+        final MvcResult result = this.mockMvc
+                .perform(get(URL.BASE_URL_FILESET + URL.PAGINATED + "?pageSize=10")
+                        .with(jwt().jwt(jwt -> jwt.claim("scope", "READ_INCOMING_FILESET")))
+                        .contentType(APPLICATION_JSON))
+                .andReturn();
+        this.mockMvc.perform(asyncDispatch(result)).andDo(print()).andExpect(status().isOk())
+                .andExpect(jsonPath("$.content", hasSize(3)))
+                .andExpect(jsonPath("$.content[?(@.incomingFilesetID == '%s')].positionInQueue", first.getIncomingFilesetID()).value(contains("1")))
+                .andExpect(jsonPath("$.content[?(@.incomingFilesetID == '%s')].positionInQueue", second.getIncomingFilesetID()).value(contains("2")))
+                .andExpect(jsonPath("$.content[?(@.incomingFilesetID == '%s')].positionInQueue", completed.getIncomingFilesetID()).value(contains("0")));
+    }
+
+    @Test
+    void testReadIncomingFilesetFinalPaginated_WithQueuedFileset_ShouldReportItsPositionInQueue() throws Exception {
+        var reportingPeriod = reportingPeriodRepository.save(createMockReportingPeriodEntity());
+        when(this.restUtils.getSchoolBySchoolID(anyString())).thenReturn(Optional.of(this.createMockSchoolTombstone()));
+        var queued = finalIncomingFilesetRepository.save(createMockFinalIncomingFilesetEntityWithAllFilesLoaded(reportingPeriod));
+        var demographicStudent = createMockFinalDemographicStudent(queued);
+        demographicStudent.setDemographicStudentID(null);
+        finalDemographicStudentRepository.save(demographicStudent);
+        var completed = createMockFinalIncomingFilesetEntityWithAllFilesLoaded(reportingPeriod);
+        completed.setFilesetStatusCode("COMPLETED");
+        finalIncomingFilesetRepository.save(completed);
+
+        final MvcResult result = this.mockMvc
+                .perform(get(URL.BASE_URL_FILESET + URL.PAGINATED + "/final" + "?pageSize=10")
+                        .with(jwt().jwt(jwt -> jwt.claim("scope", "READ_INCOMING_FILESET")))
+                        .contentType(APPLICATION_JSON))
+                .andReturn();
+        this.mockMvc.perform(asyncDispatch(result)).andDo(print()).andExpect(status().isOk())
+                .andExpect(jsonPath("$.content", hasSize(2)))
+                .andExpect(jsonPath("$.content[?(@.incomingFilesetID == '%s')].positionInQueue", queued.getIncomingFilesetID()).value(contains("1")))
+                .andExpect(jsonPath("$.content[?(@.incomingFilesetID == '%s')].positionInQueue", completed.getIncomingFilesetID()).value(contains("0")));
     }
 
     @Test
@@ -2,27 +2,34 @@ package ca.bc.gov.educ.graddatacollection.api.controller;
 
 import ca.bc.gov.educ.graddatacollection.api.BaseGradDataCollectionAPITest;
 import ca.bc.gov.educ.graddatacollection.api.constants.v1.URL;
-import ca.bc.gov.educ.graddatacollection.api.repository.v1.FinalErrorFilesetStudentRepository;
-import ca.bc.gov.educ.graddatacollection.api.repository.v1.FinalIncomingFilesetRepository;
-import ca.bc.gov.educ.graddatacollection.api.repository.v1.IncomingFilesetRepository;
-import ca.bc.gov.educ.graddatacollection.api.repository.v1.ReportingPeriodRepository;
+import ca.bc.gov.educ.graddatacollection.api.model.v1.FinalCourseStudentValidationIssueEntity;
+import ca.bc.gov.educ.graddatacollection.api.model.v1.FinalDemographicStudentValidationIssueEntity;
+import ca.bc.gov.educ.graddatacollection.api.model.v1.FinalIncomingFilesetEntity;
+import ca.bc.gov.educ.graddatacollection.api.repository.v1.*;
 import ca.bc.gov.educ.graddatacollection.api.rest.RestUtils;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.MockitoAnnotations;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpHeaders;
 import org.springframework.security.core.GrantedAuthority;
 import org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors;
 import org.springframework.test.web.servlet.MockMvc;
 
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.zip.GZIPInputStream;
 
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.Matchers.containsString;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.Mockito.when;
 import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.oidcLogin;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.result.MockMvcResultHandlers.print;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 class ReportGenerationControllerTest extends BaseGradDataCollectionAPITest {
@@ -39,6 +46,10 @@ class ReportGenerationControllerTest extends BaseGradDataCollectionAPITest {
     FinalErrorFilesetStudentRepository errorFilesetStudentRepository;
     @Autowired
     ReportingPeriodRepository reportingPeriodRepository;
+    @Autowired
+    FinalDemographicStudentRepository demographicStudentRepository;
+    @Autowired
+    FinalCourseStudentRepository courseStudentRepository;
 
     @BeforeEach
     public void setUp() {
@@ -81,4 +92,101 @@ class ReportGenerationControllerTest extends BaseGradDataCollectionAPITest {
         final SecurityMockMvcRequestPostProcessors.OidcLoginRequestPostProcessor mockAuthority = oidcLogin().authorities(grantedAuthority);
         this.mockMvc.perform(get(URL.BASE_URL_REPORT_GENERATION + "/" + "errorReport" + "/" + UUID.randomUUID()).with(mockAuthority)).andDo(print()).andExpect(status().is4xxClientError());
     }
+
+    @Test
+    void testDownloadStudentErrorReport_validUUID_ShouldStreamCsv() throws Exception {
+        final GrantedAuthority grantedAuthority = () -> "SCOPE_READ_FILESET_STUDENT_ERROR";
+        final SecurityMockMvcRequestPostProcessors.OidcLoginRequestPostProcessor mockAuthority = oidcLogin().authorities(grantedAuthority);
+        var incomingFileSet = setupFinalFilesetWithErrorStudents();
+
+        var result = this.mockMvc.perform(get(URL.BASE_URL_REPORT_GENERATION + "/" + "errorReport" + "/" + incomingFileSet.getIncomingFilesetID() + "/download").with(mockAuthority))
+                .andDo(print())
+                .andExpect(status().isOk())
+                .andExpect(header().doesNotExist(HttpHeaders.CONTENT_ENCODING))
+                .andExpect(header().string(HttpHeaders.CONTENT_DISPOSITION, containsString("Graduation Data Error Report")))
+                .andReturn();
+
+        assertThat(result.getResponse().getContentAsString(StandardCharsets.UTF_8)).startsWith("PEN,");
+    }
+
+    @Test
+    void testDownloadStudentErrorReport_acceptsGzip_ShouldStreamGzippedCsv() throws Exception {
+        final GrantedAuthority grantedAuthority = () -> "SCOPE_READ_FILESET_STUDENT_ERROR";
+        final SecurityMockMvcRequestPostProcessors.OidcLoginRequestPostProcessor mockAuthority = oidcLogin().authorities(grantedAuthority);
+        var incomingFileSet = setupFinalFilesetWithErrorStudents();
+
+        var result = this.mockMvc.perform(get(URL.BASE_URL_REPORT_GENERATION + "/" + "errorReport" + "/" + incomingFileSet.getIncomingFilesetID() + "/download")
+                        .header(HttpHeaders.ACCEPT_ENCODING, "gzip, deflate").with(mockAuthority))
+                .andDo(print())
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.CONTENT_ENCODING, "gzip"))
+                .andReturn();
+
+        try (var inputStream = new GZIPInputStream(new ByteArrayInputStream(result.getResponse().getContentAsByteArray()))) {
+            assertThat(new String(inputStream.readAllBytes(), StandardCharsets.UTF_8)).startsWith("PEN,");
+        }
+    }
+
+    @Test
+    void testDownloadStudentErrorReport_withIssues_ShouldWriteOneRowPerIssue() throws Exception {
+        final GrantedAuthority grantedAuthority = () -> "SCOPE_READ_FILESET_STUDENT_ERROR";
+        final SecurityMockMvcRequestPostProcessors.OidcLoginRequestPostProcessor mockAuthority = oidcLogin().authorities(grantedAuthority);
+        var incomingFileSet = setupFinalFilesetWithErrorStudents();
+
+        var mockCourse = createMockFinalCourseStudent(incomingFileSet);
+        mockCourse.setPen("123459987");
+        var courseValidation = new FinalCourseStudentValidationIssueEntity();
+        courseValidation.setCourseStudent(mockCourse);
+        courseValidation.setValidationIssueCode("COURSE_TEST");
+        courseValidation.setValidationIssueDescription("Course issue");
+        courseValidation.setValidationIssueFieldCode("COURSE_CODE");
+        courseValidation.setValidationIssueSeverityCode("WARNING");
+        mockCourse.getCourseStudentValidationIssueEntities().add(courseValidation);
+        courseStudentRepository.save(mockCourse);
+
+        var mockDem = createMockFinalDemographicStudent(incomingFileSet);
+        mockDem.setPen("123459987");
+        var demValidation = FinalDemographicStudentValidationIssueEntity.builder()
+                .demographicStudent(mockDem)
+                .validationIssueCode("DEM_TEST")
+                .validationIssueDescription("Demographic issue")
+                .validationIssueFieldCode("BIRTHDATE")
+                .validationIssueSeverityCode("ERROR")
+                .build();
+        mockDem.getDemographicStudentValidationIssueEntities().add(demValidation);
+        demographicStudentRepository.save(mockDem);
+
+        var result = this.mockMvc.perform(get(URL.BASE_URL_REPORT_GENERATION + "/" + "errorReport" + "/" + incomingFileSet.getIncomingFilesetID() + "/download").with(mockAuthority))
+                .andDo(print())
+                .andExpect(status().isOk())
+                .andReturn();
+
+        var lines = result.getResponse().getContentAsString(StandardCharsets.UTF_8).lines().toList();
+        assertThat(lines.get(0)).startsWith("PEN,");
+        assertThat(lines.subList(1, lines.size())).containsExactly(
+                "123459987,123456789,Smith,Jane,19000101,DEMOGRAPHICS,ERROR,,BIRTHDATE,Demographic issue",
+                "123459987,123456789,Smith,Jane,19000101,COURSE,WARNING,PH12 - 2024/01,COURSE_CODE,Course issue");
+    }
+
+    @Test
+    void testDownloadStudentErrorReport_noMatchUUID_ShouldReturn404() throws Exception {
+        final GrantedAuthority grantedAuthority = () -> "SCOPE_READ_FILESET_STUDENT_ERROR";
+        final SecurityMockMvcRequestPostProcessors.OidcLoginRequestPostProcessor mockAuthority = oidcLogin().authorities(grantedAuthority);
+        this.mockMvc.perform(get(URL.BASE_URL_REPORT_GENERATION + "/" + "errorReport" + "/" + UUID.randomUUID() + "/download").with(mockAuthority)).andDo(print()).andExpect(status().isNotFound());
+    }
+
+    private FinalIncomingFilesetEntity setupFinalFilesetWithErrorStudents() {
+        var school = this.createMockSchoolTombstone();
+        when(this.restUtils.getSchoolBySchoolID(anyString())).thenReturn(Optional.of(school));
+
+        var reportingPeriod = reportingPeriodRepository.save(createMockReportingPeriodEntity());
+        var fileSet = createMockFinalIncomingFilesetEntityWithAllFilesLoaded(reportingPeriod);
+        fileSet.setSchoolID(UUID.fromString(school.getSchoolId()));
+        var incomingFileSet = finalIncomingFilesetRepository.save(fileSet);
+        errorFilesetStudentRepository.save(createMockFinalErrorFilesetStudentEntity(incomingFileSet));
+        var errorFileset2 = createMockFinalErrorFilesetStudentEntity(incomingFileSet);
+        errorFileset2.setPen("422342342");
+        errorFilesetStudentRepository.save(errorFileset2);
+        return incomingFileSet;
+    }
 }
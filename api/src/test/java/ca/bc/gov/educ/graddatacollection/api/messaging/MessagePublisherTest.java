@@ -0,0 +1,57 @@
+package ca.bc.gov.educ.graddatacollection.api.messaging;
+
+import ca.bc.gov.educ.graddatacollection.api.properties.ApplicationProperties;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.nats.client.Connection;
+import io.nats.client.Message;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class MessagePublisherTest {
+
+    private Connection connection;
+    private ApplicationProperties props;
+    private SimpleMeterRegistry meterRegistry;
+
+    @BeforeEach
+    void setUp() {
+        connection = mock(Connection.class);
+        props = mock(ApplicationProperties.class);
+        meterRegistry = new SimpleMeterRegistry();
+    }
+
+    @Test
+    void testRequestMessage_WhenTimersEnabled_ShouldTimeEachTopicByOutcome() {
+        when(props.getNatsRequestTimersEnabled()).thenReturn(true);
+        var reply = mock(Message.class);
+        when(connection.request(anyString(), any(byte[].class))).thenReturn(CompletableFuture.completedFuture(reply), new CompletableFuture<>());
+        var messagePublisher = new MessagePublisher(connection, meterRegistry, props);
+
+        assertSame(reply, messagePublisher.requestMessage("STUDENT_API_TOPIC", new byte[0]).join());
+        assertNull(messagePublisher.requestMessage("STUDENT_API_TOPIC", new byte[0]).completeOnTimeout(null, 1, TimeUnit.MILLISECONDS).join());
+
+        assertEquals(1, meterRegistry.get(MessagePublisher.NATS_REQUEST).tag("topic", "STUDENT_API_TOPIC").tag("outcome", "success").timer().count());
+        assertEquals(1, meterRegistry.get(MessagePublisher.NATS_REQUEST).tag("topic", "STUDENT_API_TOPIC").tag("outcome", "timeout").timer().count());
+        assertEquals(0, meterRegistry.get(MessagePublisher.NATS_REQUEST).tag("topic", "STUDENT_API_TOPIC").tag("outcome", "failure").timer().count());
+    }
+
+    @Test
+    void testRequestMessage_WhenTimersDisabled_ShouldNotRegisterTimers() {
+        when(props.getNatsRequestTimersEnabled()).thenReturn(false);
+        when(connection.request(anyString(), any(byte[].class))).thenReturn(CompletableFuture.completedFuture(mock(Message.class)));
+        var messagePublisher = new MessagePublisher(connection, meterRegistry, props);
+
+        messagePublisher.requestMessage("STUDENT_API_TOPIC", new byte[0]).join();
+
+        assertNull(meterRegistry.find(MessagePublisher.NATS_REQUEST).timer());
+    }
+}
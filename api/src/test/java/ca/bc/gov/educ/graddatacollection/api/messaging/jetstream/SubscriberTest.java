@@ -0,0 +1,242 @@
+package ca.bc.gov.educ.graddatacollection.api.messaging.jetstream;
+
+import ca.bc.gov.educ.graddatacollection.api.constants.EventType;
+import ca.bc.gov.educ.graddatacollection.api.model.v1.GDCEvent;
+import ca.bc.gov.educ.graddatacollection.api.properties.ApplicationProperties;
+import ca.bc.gov.educ.graddatacollection.api.service.v1.events.EventHandlerDelegatorService;
+import ca.bc.gov.educ.graddatacollection.api.service.v1.events.JetStreamEventHandlerService;
+import ca.bc.gov.educ.graddatacollection.api.struct.v1.ChoreographedEvent;
+import ca.bc.gov.educ.graddatacollection.api.util.JsonUtil;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.nats.client.Connection;
+import io.nats.client.Dispatcher;
+import io.nats.client.JetStream;
+import io.nats.client.JetStreamApiException;
+import io.nats.client.JetStreamManagement;
+import io.nats.client.JetStreamSubscription;
+import io.nats.client.Message;
+import io.nats.client.MessageHandler;
+import io.nats.client.PullSubscribeOptions;
+import io.nats.client.PushSubscribeOptions;
+import io.nats.client.api.ConsumerConfiguration;
+import io.nats.client.api.ConsumerInfo;
+import io.nats.client.api.DeliverPolicy;
+import io.nats.client.impl.NatsJetStreamMetaData;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import org.mockito.ArgumentCaptor;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+class SubscriberTest {
+
+    private EventHandlerDelegatorService eventHandlerDelegatorService;
+    private JetStreamEventHandlerService jetStreamEventHandlerService;
+    private Connection connection;
+    private ApplicationProperties props;
+    private Subscriber subscriber;
+
+    @BeforeEach
+    void setUp() {
+        eventHandlerDelegatorService = mock(EventHandlerDelegatorService.class);
+        jetStreamEventHandlerService = mock(JetStreamEventHandlerService.class);
+        connection = mock(Connection.class);
+        props = mock(ApplicationProperties.class);
+        when(props.getJetStreamSubscriberWorkers()).thenReturn(2);
+        when(props.getJetStreamPullBatchSize()).thenReturn(10);
+        when(props.getJetStreamPullMaxWaitMs()).thenReturn(10L);
+        when(props.getJetStreamPullAckWaitMs()).thenReturn(300000L);
+        when(props.getJetStreamPullErrorBackoffMs()).thenReturn(50L);
+        when(props.getJetStreamPullErrorBackoffMaxMs()).thenReturn(1000L);
+        subscriber = new Subscriber(connection, eventHandlerDelegatorService, jetStreamEventHandlerService, props, new SimpleMeterRegistry());
+    }
+
+    @Test
+    void testSubscribe_WhenConsumerModeIsPush_ShouldSubscribeAQueueToEveryTopic() throws Exception {
+        JetStream jetStream = mock(JetStream.class);
+        Dispatcher dispatcher = mock(Dispatcher.class);
+        when(props.getJetStreamConsumerMode()).thenReturn("push");
+        when(connection.jetStream()).thenReturn(jetStream);
+        when(connection.createDispatcher()).thenReturn(dispatcher);
+
+        subscriber.subscribe();
+
+        verify(jetStream).subscribe(eq("GRAD_SCHOOL_EVENTS_TOPIC"), eq("GRAD_DATA_COLLECTION_API-QUEUE"), eq(dispatcher), any(MessageHandler.class), eq(false), any(PushSubscribeOptions.class));
+        verify(jetStream).subscribe(eq("GDC_EVENTS_TOPIC"), eq("GRAD_DATA_COLLECTION_API-QUEUE"), eq(dispatcher), any(MessageHandler.class), eq(false), any(PushSubscribeOptions.class));
+        verify(jetStream, never()).subscribe(anyString(), any(PullSubscribeOptions.class));
+        verify(connection, never()).jetStreamManagement();
+    }
+
+    @Test
+    void testSubscribe_WhenConsumerModeIsPull_ShouldFetchAndAckEveryStream() throws Exception {
+        JetStreamManagement jetStreamManagement = mock(JetStreamManagement.class);
+        JetStream jetStream = mock(JetStream.class);
+        when(props.getJetStreamConsumerMode()).thenReturn("PULL");
+        when(connection.jetStreamManagement()).thenReturn(jetStreamManagement);
+        when(connection.jetStream()).thenReturn(jetStream);
+        JetStreamApiException notFound = mock(JetStreamApiException.class);
+        when(notFound.getErrorCode()).thenReturn(404);
+        when(jetStreamManagement.getConsumerInfo(anyString(), anyString())).thenThrow(notFound);
+        Message schoolMessage = message(JsonUtil.getJsonBytesFromObject(event(EventType.GET_STUDENT)), 0);
+        Message gdcMessage = message(JsonUtil.getJsonBytesFromObject(event(EventType.GET_STUDENT)), 0);
+        JetStreamSubscription schoolSubscription = idleSubscription();
+        JetStreamSubscription gdcSubscription = idleSubscription();
+        doReturn(List.of(schoolMessage)).doAnswer(invocation -> idle()).when(schoolSubscription).fetch(anyInt(), any(Duration.class));
+        doReturn(List.of(gdcMessage)).doAnswer(invocation -> idle()).when(gdcSubscription).fetch(anyInt(), any(Duration.class));
+        when(jetStream.subscribe(eq("GRAD_SCHOOL_EVENTS_TOPIC"), any(PullSubscribeOptions.class))).thenReturn(schoolSubscription);
+        when(jetStream.subscribe(eq("GDC_EVENTS_TOPIC"), any(PullSubscribeOptions.class))).thenReturn(gdcSubscription);
+
+        try {
+            subscriber.subscribe();
+            verify(schoolMessage, timeout(5000)).ack();
+            verify(gdcMessage, timeout(5000)).ack();
+        } finally {
+            subscriber.close();
+        }
+
+        ArgumentCaptor<ConsumerConfiguration> configurations = ArgumentCaptor.forClass(ConsumerConfiguration.class);
+        verify(jetStreamManagement, times(2)).addOrUpdateConsumer(anyString(), configurations.capture());
+        configurations.getAllValues().forEach(configuration -> assertEquals(DeliverPolicy.New, configuration.getDeliverPolicy()));
+        verify(schoolSubscription).unsubscribe();
+        verify(gdcSubscription).unsubscribe();
+        verify(connection, never()).createDispatcher();
+    }
+
+    @Test
+    void testSubscribePull_WhenOnlyThePushDurableExists_ShouldStartAfterItsAckFloorWithTheConfiguredAckWait() throws Exception {
+        JetStreamManagement jetStreamManagement = mock(JetStreamManagement.class);
+        JetStream jetStream = mock(JetStream.class);
+        when(connection.jetStreamManagement()).thenReturn(jetStreamManagement);
+        when(connection.jetStream()).thenReturn(jetStream);
+        when(jetStream.subscribe(anyString(), any(PullSubscribeOptions.class))).thenReturn(idleSubscription());
+        JetStreamApiException notFound = mock(JetStreamApiException.class);
+        when(notFound.getErrorCode()).thenReturn(404);
+        ConsumerInfo pushConsumer = mock(ConsumerInfo.class, RETURNS_DEEP_STUBS);
+        when(pushConsumer.getAckFloor().getStreamSequence()).thenReturn(41L);
+        when(jetStreamManagement.getConsumerInfo(anyString(), eq("GRAD_DATA_COLLECTION_API-PULL-DURABLE"))).thenThrow(notFound);
+        when(jetStreamManagement.getConsumerInfo(anyString(), eq("GRAD_DATA_COLLECTION_API-DURABLE"))).thenReturn(pushConsumer);
+
+        try {
+            subscriber.subscribePull();
+        } finally {
+            subscriber.close();
+        }
+
+        ArgumentCaptor<ConsumerConfiguration> configurations = ArgumentCaptor.forClass(ConsumerConfiguration.class);
+        verify(jetStreamManagement, times(2)).addOrUpdateConsumer(anyString(), configurations.capture());
+        for (ConsumerConfiguration configuration : configurations.getAllValues()) {
+            assertEquals("GRAD_DATA_COLLECTION_API-PULL-DURABLE", configuration.getDurable());
+            assertEquals(DeliverPolicy.ByStartSequence, configuration.getDeliverPolicy());
+            assertEquals(42L, configuration.getStartSequence());
+            assertEquals(Duration.ofMinutes(5), configuration.getAckWait());
+        }
+        verify(jetStream, times(2)).subscribe(anyString(), any(PullSubscribeOptions.class));
+    }
+
+    @Test
+    void testFetchLoop_WhenFetchKeepsFailing_ShouldBackOffBetweenAttempts() throws Exception {
+        JetStreamSubscription subscription = mock(JetStreamSubscription.class);
+        AtomicInteger fetches = new AtomicInteger();
+        when(subscription.fetch(anyInt(), any(Duration.class))).thenAnswer(invocation -> {
+            fetches.incrementAndGet();
+            throw new IllegalStateException("connection lost");
+        });
+
+        var loop = CompletableFuture.runAsync(() -> subscriber.fetchLoop(subscription, new AtomicLong(), new AtomicLong()));
+        TimeUnit.MILLISECONDS.sleep(400);
+        subscriber.close();
+        loop.get(5, TimeUnit.SECONDS);
+
+        assertTrue(fetches.get() >= 2 && fetches.get() <= 5, "fetched " + fetches.get() + " times in 400 ms with a 50 ms initial backoff");
+    }
+
+    @Test
+    void testFetchLoop_WhenFetchRecovers_ShouldProcessTheBatch() throws Exception {
+        JetStreamSubscription subscription = mock(JetStreamSubscription.class);
+        Message message = message(JsonUtil.getJsonBytesFromObject(event(EventType.GET_STUDENT)), 0);
+        when(subscription.fetch(anyInt(), any(Duration.class)))
+                .thenThrow(new IllegalStateException("connection lost"))
+                .thenReturn(List.of(message))
+                .thenReturn(List.of());
+
+        var loop = CompletableFuture.runAsync(() -> subscriber.fetchLoop(subscription, new AtomicLong(), new AtomicLong()));
+        verify(message, timeout(5000)).ack();
+        subscriber.close();
+        loop.get(5, TimeUnit.SECONDS);
+
+        verify(jetStreamEventHandlerService, times(1)).updateEventStatus(any());
+    }
+
+    @Test
+    void testProcessBatch_WhenOneMessageFails_ShouldAckTheOthersAndRecordLag() throws Exception {
+        Message bad = message("not json".getBytes(StandardCharsets.UTF_8), 0);
+        Message good = message(JsonUtil.getJsonBytesFromObject(event(EventType.GET_STUDENT)), 7);
+        var consumerLag = new AtomicLong();
+
+        subscriber.processBatch(List.of(bad, good), consumerLag, new AtomicLong());
+
+        verify(bad, never()).ack();
+        verify(good, times(1)).ack();
+        verify(jetStreamEventHandlerService, times(1)).updateEventStatus(any());
+        assertEquals(7, consumerLag.get());
+    }
+
+    @Test
+    void testProcessBatch_WhenSchoolUpdated_ShouldHandleTheEventAfterTheAck() throws Exception {
+        Message message = message(JsonUtil.getJsonBytesFromObject(event(EventType.UPDATE_GRAD_SCHOOL)), 0);
+        GDCEvent persistedEvent = GDCEvent.builder().eventId(UUID.randomUUID()).build();
+        when(eventHandlerDelegatorService.persistChoreographyEvent(any())).thenReturn(persistedEvent);
+
+        subscriber.processBatch(List.of(message), new AtomicLong(), new AtomicLong());
+
+        verify(eventHandlerDelegatorService, timeout(5000)).handlePersistedChoreographyEvent(persistedEvent);
+        var inOrder = inOrder(message, eventHandlerDelegatorService);
+        inOrder.verify(eventHandlerDelegatorService).persistChoreographyEvent(any());
+        inOrder.verify(message).ack();
+        inOrder.verify(eventHandlerDelegatorService).handlePersistedChoreographyEvent(persistedEvent);
+    }
+
+    private static ChoreographedEvent event(EventType eventType) {
+        ChoreographedEvent event = new ChoreographedEvent();
+        event.setEventID(UUID.randomUUID().toString());
+        event.setEventType(eventType);
+        event.setEventPayload("{}");
+        return event;
+    }
+
+    private static JetStreamSubscription idleSubscription() {
+        JetStreamSubscription subscription = mock(JetStreamSubscription.class);
+        when(subscription.fetch(anyInt(), any(Duration.class))).thenAnswer(invocation -> idle());
+        return subscription;
+    }
+
+    private static List<Message> idle() throws InterruptedException {
+        TimeUnit.MILLISECONDS.sleep(10);
+        return List.of();
+    }
+
+    private static Message message(byte[] data, long pending) {
+        Message message = mock(Message.class);
+        NatsJetStreamMetaData metaData = mock(NatsJetStreamMetaData.class);
+        when(metaData.pendingCount()).thenReturn(pending);
+        when(message.getData()).thenReturn(data);
+        when(message.isJetStream()).thenReturn(true);
+        when(message.metaData()).thenReturn(metaData);
+        return message;
+    }
+}
@@ -26,10 +26,13 @@ import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
 import org.springframework.test.context.ActiveProfiles;
 
+import java.util.ArrayList;
 import java.util.UUID;
+import java.util.concurrent.TimeUnit;
 
 import static ca.bc.gov.educ.graddatacollection.api.constants.EventOutcome.*;
 import static ca.bc.gov.educ.graddatacollection.api.constants.EventType.*;
+import static ca.bc.gov.educ.graddatacollection.api.constants.SagaStatusEnum.COMPLETED;
 import static ca.bc.gov.educ.graddatacollection.api.constants.SagaStatusEnum.IN_PROGRESS;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertThrows;
@@ -124,6 +127,39 @@ class CompletedFilesetProcessingOrchestratorTest extends BaseGradDataCollectionA
         assertThat(allSets.size()).isZero();
     }
     
+    @SneakyThrows
+    @Test
+    void testHandleEvent_givenDeleteFromStagingComplete_completesSagasWithoutFixedDelay() {
+        var mockReportingPeriod = reportingPeriodRepository.save(createMockReportingPeriodEntity());
+        var mockFileset = createMockIncomingFilesetEntityWithAllFilesLoaded(mockReportingPeriod);
+        incomingFilesetRepository.save(mockFileset);
+        val fileset = IncomingFilesetMapper.mapper.toStructure(mockFileset);
+        val demographicStudent = DemographicStudentMapper.mapper.toDemographicStudent(createMockDemographicStudent(mockFileset));
+
+        int numberOfSagas = 5;
+        var sagaIDs = new ArrayList<UUID>();
+        for (int i = 0; i < numberOfSagas; i++) {
+            val saga = createCompletedFilesetMockSaga(fileset, demographicStudent);
+            saga.setSagaId(null);
+            saga.setSagaState(DELETE_FILESET_FROM_STAGING_TABLE.toString());
+            sagaRepository.save(saga);
+            sagaIDs.add(saga.getSagaId());
+        }
+
+        long start = System.nanoTime();
+        for (UUID sagaID : sagaIDs) {
+            completedFilesetProcessingOrchestrator.handleEvent(Event.builder()
+                    .sagaId(sagaID)
+                    .eventType(DELETE_FILESET_FROM_STAGING_TABLE)
+                    .eventOutcome(DELETE_FILESET_FROM_STAGING_COMPLETE)
+                    .build());
+        }
+        long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+
+        sagaIDs.forEach(sagaID -> assertThat(sagaRepository.findById(sagaID).orElseThrow().getStatus()).isEqualTo(COMPLETED.toString()));
+        assertThat(elapsedMillis).isLessThan(numberOfSagas * 1000L);
+    }
+
     @SneakyThrows
     @Test
     void testHandleEvent_givenEventTypeUpdateVendorCode_updateRequired() {
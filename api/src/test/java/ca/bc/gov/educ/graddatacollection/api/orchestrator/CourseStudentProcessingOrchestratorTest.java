@@ -34,6 +34,8 @@ import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
 import java.util.*;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 import static ca.bc.gov.educ.graddatacollection.api.constants.EventType.VALIDATE_COURSE_STUDENT;
 import static ca.bc.gov.educ.graddatacollection.api.constants.SagaStatusEnum.IN_PROGRESS;
@@ -87,16 +89,16 @@ class CourseStudentProcessingOrchestratorTest extends BaseGradDataCollectionAPIT
         JsonMapper.builder()
                 .findAndAddModules()
                 .build();
-        when(restUtils.getLetterGradeList(any())).thenReturn(
-                List.of(
-                        new LetterGrade("A", "4", "Y", "The student demonstrates excellent or outstanding performance in relation to expected learning outcomes for the course or subject and grade.", "A", 100, 86, null, "1940-01-01T08:00:00.000+00:00", "unitTests", LocalDateTime.now().toString(), "unitTests", LocalDateTime.now().toString()),
-                        new LetterGrade("B", "3", "Y", "", "B", 85, 73, null, "1940-01-01T08:00:00.000+00:00", "unitTests", LocalDateTime.now().toString(), "unitTests", LocalDateTime.now().toString()),
-                        new LetterGrade("C+", "2.5", "Y", "", "C+", 72, 67, null, "1940-01-01T08:00:00.000+00:00", "unitTests", LocalDateTime.now().toString(), "unitTests", LocalDateTime.now().toString()),
-                        new LetterGrade("F", "0", "N", "", "F", 49, 0, null, "1940-01-01T08:00:00.000+00:00", "unitTests", LocalDateTime.now().toString(), "unitTests", LocalDateTime.now().toString()),
-                        new LetterGrade("IE", "0", "N", "", "Insufficient Evidence", 0, 0, null, "1940-01-01T08:00:00.000+00:00", "unitTests", LocalDateTime.now().toString(), "unitTests", LocalDateTime.now().toString()),
-                        new LetterGrade("RM", "0", "Y", "", "Requirement Met", 0, 0, null, "1940-01-01T08:00:00.000+00:00", "unitTests", LocalDateTime.now().toString(), "unitTests", LocalDateTime.now().toString())
-                )
+        var letterGrades = List.of(
+                new LetterGrade("A", "4", "Y", "The student demonstrates excellent or outstanding performance in relation to expected learning outcomes for the course or subject and grade.", "A", 100, 86, null, "1940-01-01T08:00:00.000+00:00", "unitTests", LocalDateTime.now().toString(), "unitTests", LocalDateTime.now().toString()),
+                new LetterGrade("B", "3", "Y", "", "B", 85, 73, null, "1940-01-01T08:00:00.000+00:00", "unitTests", LocalDateTime.now().toString(), "unitTests", LocalDateTime.now().toString()),
+                new LetterGrade("C+", "2.5", "Y", "", "C+", 72, 67, null, "1940-01-01T08:00:00.000+00:00", "unitTests", LocalDateTime.now().toString(), "unitTests", LocalDateTime.now().toString()),
+                new LetterGrade("F", "0", "N", "", "F", 49, 0, null, "1940-01-01T08:00:00.000+00:00", "unitTests", LocalDateTime.now().toString(), "unitTests", LocalDateTime.now().toString()),
+                new LetterGrade("IE", "0", "N", "", "Insufficient Evidence", 0, 0, null, "1940-01-01T08:00:00.000+00:00", "unitTests", LocalDateTime.now().toString(), "unitTests", LocalDateTime.now().toString()),
+                new LetterGrade("RM", "0", "Y", "", "Requirement Met", 0, 0, null, "1940-01-01T08:00:00.000+00:00", "unitTests", LocalDateTime.now().toString(), "unitTests", LocalDateTime.now().toString())
         );
+        when(restUtils.getLetterGradeList(any())).thenReturn(letterGrades);
+        when(restUtils.getLetterGradesByCode(any())).thenReturn(letterGrades.stream().collect(Collectors.toMap(LetterGrade::getGrade, Function.identity())));
         when(restUtils.getEquivalencyChallengeCodeList()).thenReturn(
                 List.of(
                         new EquivalencyChallengeCode("E", "Equivalency", "Indicates that the course credit was earned through an equivalency review.", "1", "1984-01-01 00:00:00.000", null, "unitTests", LocalDateTime.now().toString(), "unitTests", LocalDateTime.now().toString()),
@@ -377,4 +379,61 @@ class CourseStudentProcessingOrchestratorTest extends BaseGradDataCollectionAPIT
         assertThat(savedSagaInDB.get().getStatus()).isEqualTo(IN_PROGRESS.toString());
         assertThat(savedSagaInDB.get().getSagaState()).isEqualTo(VALIDATE_COURSE_STUDENT.toString());
     }
+
+    @SneakyThrows
+    @Test
+    void testHandleEvent_givenSlimPayload_shouldLoadCourseStudentAndSchoolInsideStep() {
+        var school = this.createMockSchoolTombstone();
+        school.setMincode("07965039");
+        when(this.restUtils.getSchoolBySchoolID(anyString())).thenReturn(Optional.of(school));
+        var reportingPeriod = reportingPeriodRepository.save(createMockReportingPeriodEntity());
+        var mockFileset = createMockIncomingFilesetEntityWithCRSFile(UUID.fromString(school.getSchoolId()), reportingPeriod);
+        var savedFileSet = incomingFilesetRepository.save(mockFileset);
+
+        var demStudent = createMockDemographicStudent(savedFileSet);
+        demographicStudentRepository.save(demStudent);
+
+        var courseStudentEntity = createMockCourseStudent(savedFileSet);
+        courseStudentEntity.setPen(demStudent.getPen());
+        courseStudentEntity.setLocalID(demStudent.getLocalID());
+        courseStudentEntity.setLastName(demStudent.getLastName());
+        courseStudentEntity.setIncomingFileset(demStudent.getIncomingFileset());
+        courseStudentEntity.setCourseStudentID(null);
+        courseStudentEntity.setStudentStatusCode("LOADED");
+        courseStudentEntity.setCreateUser(ApplicationProperties.GRAD_DATA_COLLECTION_API);
+        courseStudentEntity.setUpdateUser(ApplicationProperties.GRAD_DATA_COLLECTION_API);
+        courseStudentRepository.save(courseStudentEntity);
+
+        Student stud1 = new Student();
+        stud1.setStudentID(UUID.randomUUID().toString());
+        stud1.setDob("1990-01-01");
+        stud1.setLegalLastName(demStudent.getLastName());
+        stud1.setLegalFirstName(demStudent.getFirstName());
+        stud1.setPen(demStudent.getPen());
+        when(this.restUtils.getStudentByPEN(any(),any())).thenReturn(stud1);
+
+        val sagaData = CourseStudentSagaData.builder()
+                .courseStudentID(courseStudentEntity.getCourseStudentID().toString())
+                .incomingFilesetID(savedFileSet.getIncomingFilesetID().toString())
+                .schoolID(school.getSchoolId())
+                .build();
+        val saga = this.createCourseMockSaga(CourseStudentMapper.mapper.toCourseStudent(courseStudentEntity));
+        saga.setSagaId(null);
+        saga.setPayload(JsonUtil.getJsonStringFromObject(sagaData));
+        this.sagaRepository.save(saga);
+        assertThat(saga.getPayload()).doesNotContain("courseStudent\"").doesNotContain("school\"");
+
+        val event = Event.builder()
+                .sagaId(saga.getSagaId())
+                .eventType(EventType.INITIATED)
+                .eventOutcome(EventOutcome.INITIATE_SUCCESS)
+                .eventPayload(saga.getPayload()).build();
+        this.courseStudentProcessingOrchestrator.handleEvent(event);
+
+        verify(this.restUtils, atLeastOnce()).getSchoolBySchoolID(school.getSchoolId());
+        verify(this.messagePublisher, atMost(2)).dispatchMessage(eq(this.courseStudentProcessingOrchestrator.getTopicToSubscribe()), this.eventCaptor.capture());
+        final var newEvent = JsonUtil.getJsonObjectFromString(Event.class, new String(this.eventCaptor.getValue()));
+        assertThat(newEvent.getEventType()).isEqualTo(VALIDATE_COURSE_STUDENT);
+        assertThat(newEvent.getEventOutcome()).isEqualTo(EventOutcome.VALIDATE_COURSE_STUDENT_SUCCESS);
+    }
 }
@@ -0,0 +1,95 @@
+package ca.bc.gov.educ.graddatacollection.api.orchestrator;
+
+import ca.bc.gov.educ.graddatacollection.api.orchestrator.base.DatabasePoolSagaCompletionPacer;
+import ca.bc.gov.educ.graddatacollection.api.properties.ApplicationProperties;
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.HikariPoolMXBean;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import lombok.SneakyThrows;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class DatabasePoolSagaCompletionPacerTest {
+
+    private ApplicationProperties props;
+    private HikariDataSource dataSource;
+    private HikariPoolMXBean pool;
+    private SimpleMeterRegistry meterRegistry;
+
+    @SneakyThrows
+    @BeforeEach
+    void setUp() {
+        props = mock(ApplicationProperties.class);
+        when(props.getSagaCompletionPacingMaxRate()).thenReturn(100d);
+        when(props.getSagaCompletionPacingMinRate()).thenReturn(5d);
+        when(props.getSagaCompletionPacingSaturationThreshold()).thenReturn(0.8d);
+        pool = mock(HikariPoolMXBean.class);
+        dataSource = mock(HikariDataSource.class);
+        when(dataSource.isWrapperFor(HikariDataSource.class)).thenReturn(true);
+        when(dataSource.unwrap(HikariDataSource.class)).thenReturn(dataSource);
+        when(dataSource.getHikariPoolMXBean()).thenReturn(pool);
+        when(dataSource.getMaximumPoolSize()).thenReturn(20);
+        meterRegistry = new SimpleMeterRegistry();
+    }
+
+    @Test
+    void testPace_WhenPoolIsIdle_ShouldNotCapCompletionsAtOnePerSecond() {
+        when(pool.getActiveConnections()).thenReturn(2);
+        var pacer = new DatabasePoolSagaCompletionPacer(dataSource, props, meterRegistry);
+
+        long start = System.nanoTime();
+        for (int i = 0; i < 1000; i++) {
+            pacer.pace();
+        }
+        long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+
+        assertTrue(elapsedMillis < 1000, "1000 events at a maximum rate of 100 per second took " + elapsedMillis + " ms");
+        assertEquals(100d, meterRegistry.get("gdc.saga.completion.pacing.rate").gauge().value());
+    }
+
+    @Test
+    void testPace_WhenPoolComesUnderStressAfterIdling_ShouldOnlyAllowOneSecondOfBurst() {
+        when(pool.getActiveConnections()).thenReturn(2);
+        var pacer = new DatabasePoolSagaCompletionPacer(dataSource, props, meterRegistry);
+        for (int i = 0; i < 1000; i++) {
+            pacer.pace();
+        }
+        when(pool.getActiveConnections()).thenReturn(20);
+        when(pool.getThreadsAwaitingConnection()).thenReturn(3);
+
+        long start = System.nanoTime();
+        for (int i = 0; i < 7; i++) {
+            pacer.pace();
+        }
+        long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+
+        assertTrue(elapsedMillis >= 300, "7 events at a minimum rate of 5 per second took only " + elapsedMillis + " ms");
+    }
+
+    @Test
+    void testPace_WhenThreadsAreWaitingForConnections_ShouldDropToMinimumRate() {
+        when(pool.getActiveConnections()).thenReturn(20);
+        when(pool.getThreadsAwaitingConnection()).thenReturn(3);
+        var pacer = new DatabasePoolSagaCompletionPacer(dataSource, props, meterRegistry);
+
+        pacer.pace();
+
+        assertEquals(5d, pacer.getCurrentRate());
+        assertEquals(5d, meterRegistry.get("gdc.saga.completion.pacing.rate").gauge().value());
+    }
+
+    @Test
+    void testPace_WhenPoolIsAboveThreshold_ShouldScaleRateDown() {
+        when(pool.getActiveConnections()).thenReturn(18);
+        var pacer = new DatabasePoolSagaCompletionPacer(dataSource, props, meterRegistry);
+
+        pacer.pace();
+
+        assertTrue(pacer.getCurrentRate() < 100d && pacer.getCurrentRate() > 5d);
+    }
+}
@@ -4,8 +4,10 @@ import ca.bc.gov.educ.graddatacollection.api.BaseGradDataCollectionAPITest;
 import ca.bc.gov.educ.graddatacollection.api.constants.EventOutcome;
 import ca.bc.gov.educ.graddatacollection.api.constants.EventType;
 import ca.bc.gov.educ.graddatacollection.api.constants.v1.StudentStatusCodes;
+import ca.bc.gov.educ.graddatacollection.api.exception.GradDataCollectionAPIRuntimeException;
 import ca.bc.gov.educ.graddatacollection.api.mappers.v1.DemographicStudentMapper;
 import ca.bc.gov.educ.graddatacollection.api.messaging.MessagePublisher;
+import ca.bc.gov.educ.graddatacollection.api.orchestrator.base.SagaStepTimers;
 import ca.bc.gov.educ.graddatacollection.api.properties.ApplicationProperties;
 import ca.bc.gov.educ.graddatacollection.api.repository.v1.*;
 import ca.bc.gov.educ.graddatacollection.api.rest.RestUtils;
@@ -17,6 +19,7 @@ import ca.bc.gov.educ.graddatacollection.api.struct.external.studentapi.v1.Stude
 import ca.bc.gov.educ.graddatacollection.api.struct.v1.DemographicStudentSagaData;
 import ca.bc.gov.educ.graddatacollection.api.util.JsonUtil;
 import com.fasterxml.jackson.databind.json.JsonMapper;
+import io.micrometer.core.instrument.MeterRegistry;
 import lombok.SneakyThrows;
 import lombok.val;
 import org.junit.jupiter.api.BeforeEach;
@@ -35,6 +38,9 @@ import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 import static ca.bc.gov.educ.graddatacollection.api.constants.EventType.*;
 import static ca.bc.gov.educ.graddatacollection.api.constants.SagaStatusEnum.COMPLETED;
@@ -66,6 +72,8 @@ class DemographicStudentProcessingOrchestratorTest extends BaseGradDataCollectio
     DemographicStudentProcessingOrchestrator demographicStudentProcessingOrchestrator;
     @Autowired
     ErrorFilesetStudentService errorFilesetStudentService;
+    @Autowired
+    MeterRegistry meterRegistry;
     @Captor
     ArgumentCaptor<byte[]> eventCaptor;
 
@@ -91,20 +99,20 @@ class DemographicStudentProcessingOrchestratorTest extends BaseGradDataCollectio
                         new CitizenshipCode("", "Blank", "Valid for Blank Citizenship", 3, "2020-01-01", "2099-12-31")
                 )
         );
-        when(restUtils.getGradGradeList(true)).thenReturn(
-                List.of(
-                        new GradGrade("08", "Grade 8", "", 1, "2020-01-01T00:00:00", "2099-12-31T23:59:59", "8", "unitTests", LocalDateTime.now().toString(), "unitTests", LocalDateTime.now().toString()),
-                        new GradGrade("09", "Grade 9", "", 2, "2020-01-01T00:00:00", "2099-12-31T23:59:59", "9", "unitTests", LocalDateTime.now().toString(), "unitTests", LocalDateTime.now().toString()),
-                        new GradGrade("10", "Grade 10", "", 3, "2020-01-01T00:00:00", "2099-12-31T23:59:59", "10", "unitTests", LocalDateTime.now().toString(), "unitTests", LocalDateTime.now().toString()),
-                        new GradGrade("11", "Grade 11", "", 4, "2020-01-01T00:00:00", "2099-12-31T23:59:59", "11", "unitTests", LocalDateTime.now().toString(), "unitTests", LocalDateTime.now().toString()),
-                        new GradGrade("12", "Grade 12", "", 5, "2020-01-01T00:00:00", "2099-12-31T23:59:59", "12", "unitTests", LocalDateTime.now().toString(), "unitTests", LocalDateTime.now().toString()),
-                        new GradGrade("AD", "Adult", "", 6, "2020-01-01T00:00:00", "2099-12-31T23:59:59", "AD", "unitTests", LocalDateTime.now().toString(), "unitTests", LocalDateTime.now().toString()),
-                        new GradGrade("AN", "Adult Non-Graduate", "", 7, "2020-01-01T00:00:00","2099-12-31T23:59:59", "AN", "unitTests", LocalDateTime.now().toString(), "unitTests", LocalDateTime.now().toString()),
-                        new GradGrade("HS", "Home School", "", 8, "2020-01-01T00:00:00", "2099-12-31T23:59:59", "HS", "unitTests", LocalDateTime.now().toString(), "unitTests", LocalDateTime.now().toString()),
-                        new GradGrade("SU", "Secondary Ungraded", "", 9, "2020-01-01T00:00:00", "2099-12-31T23:59:59", "SU", "unitTests", LocalDateTime.now().toString(), "unitTests", LocalDateTime.now().toString()),
-                        new GradGrade("GA", "Graduated Adult", "", 10, "2020-01-01T00:00:00", "2099-12-31T23:59:59", "GA", "unitTests", LocalDateTime.now().toString(), "unitTests", LocalDateTime.now().toString())
-                )
+        var gradGrades = List.of(
+                new GradGrade("08", "Grade 8", "", 1, "2020-01-01T00:00:00", "2099-12-31T23:59:59", "8", "unitTests", LocalDateTime.now().toString(), "unitTests", LocalDateTime.now().toString()),
+                new GradGrade("09", "Grade 9", "", 2, "2020-01-01T00:00:00", "2099-12-31T23:59:59", "9", "unitTests", LocalDateTime.now().toString(), "unitTests", LocalDateTime.now().toString()),
+                new GradGrade("10", "Grade 10", "", 3, "2020-01-01T00:00:00", "2099-12-31T23:59:59", "10", "unitTests", LocalDateTime.now().toString(), "unitTests", LocalDateTime.now().toString()),
+                new GradGrade("11", "Grade 11", "", 4, "2020-01-01T00:00:00", "2099-12-31T23:59:59", "11", "unitTests", LocalDateTime.now().toString(), "unitTests", LocalDateTime.now().toString()),
+                new GradGrade("12", "Grade 12", "", 5, "2020-01-01T00:00:00", "2099-12-31T23:59:59", "12", "unitTests", LocalDateTime.now().toString(), "unitTests", LocalDateTime.now().toString()),
+                new GradGrade("AD", "Adult", "", 6, "2020-01-01T00:00:00", "2099-12-31T23:59:59", "AD", "unitTests", LocalDateTime.now().toString(), "unitTests", LocalDateTime.now().toString()),
+                new GradGrade("AN", "Adult Non-Graduate", "", 7, "2020-01-01T00:00:00","2099-12-31T23:59:59", "AN", "unitTests", LocalDateTime.now().toString(), "unitTests", LocalDateTime.now().toString()),
+                new GradGrade("HS", "Home School", "", 8, "2020-01-01T00:00:00", "2099-12-31T23:59:59", "HS", "unitTests", LocalDateTime.now().toString(), "unitTests", LocalDateTime.now().toString()),
+                new GradGrade("SU", "Secondary Ungraded", "", 9, "2020-01-01T00:00:00", "2099-12-31T23:59:59", "SU", "unitTests", LocalDateTime.now().toString(), "unitTests", LocalDateTime.now().toString()),
+                new GradGrade("GA", "Graduated Adult", "", 10, "2020-01-01T00:00:00", "2099-12-31T23:59:59", "GA", "unitTests", LocalDateTime.now().toString(), "unitTests", LocalDateTime.now().toString())
         );
+        when(restUtils.getGradGradeList(true)).thenReturn(gradGrades);
+        when(restUtils.getGradGradesByCode(true)).thenReturn(gradGrades.stream().collect(Collectors.toMap(GradGrade::getStudentGradeCode, Function.identity())));
         when(restUtils.getCareerProgramCodeList()).thenReturn(
                 List.of(
                         new CareerProgramCode("AA", "Art Careers", "", 1, "20200101", "20990101"),
@@ -158,6 +166,10 @@ class DemographicStudentProcessingOrchestratorTest extends BaseGradDataCollectio
         studentApiStudent.setDob("1990-01-01");
         studentApiStudent.setStatusCode(StudentStatusCodes.A.getCode());
         when(restUtils.getStudentByPEN(any(), any())).thenReturn(studentApiStudent);
+        when(restUtils.getStudentByPENAsync(any(), any())).thenReturn(CompletableFuture.completedFuture(studentApiStudent));
+        when(restUtils.writeDEMStudentRecordInGradAsync(any(), any(), any())).thenReturn(CompletableFuture.completedFuture(null));
+        when(restUtils.writeDEMStudentSchoolOfRecordAndStatusInGradAsync(any(), any())).thenReturn(CompletableFuture.completedFuture(null));
+        when(restUtils.writeStudentAddressToScholarshipsAsync(any(), any())).thenReturn(CompletableFuture.completedFuture(null));
         GradStudentRecord gradStudentRecord = new GradStudentRecord();
         gradStudentRecord.setSchoolOfRecordId("03636018");
         gradStudentRecord.setStudentStatusCode("CUR");
@@ -419,6 +431,102 @@ class DemographicStudentProcessingOrchestratorTest extends BaseGradDataCollectio
         assertThat(savedSagaInDB.get().getStatus()).isEqualTo(IN_PROGRESS.toString());
         assertThat(savedSagaInDB.get().getSagaState()).isEqualTo(UPDATE_DEM_STUDENT_SOR_AND_STATUS_IN_GRAD.toString());
     }
+
+    @SneakyThrows
+    @Test
+    void testHandleEvent_givenRemoteStepStillRunning_shouldStopSagaStepTimerOnceTheStepCompletes() {
+        var school = this.createMockSchoolTombstone();
+        when(this.restUtils.getSchoolBySchoolID(anyString())).thenReturn(Optional.of(school));
+        CompletableFuture<GradStatusEvent> pendingWrite = new CompletableFuture<>();
+        when(restUtils.writeDEMStudentSchoolOfRecordAndStatusInGradAsync(any(), any())).thenReturn(pendingWrite);
+        var reportingPeriod = reportingPeriodRepository.save(createMockReportingPeriodEntity());
+        var mockFileset = createMockIncomingFilesetEntityWithCRSFile(UUID.fromString(school.getSchoolId()), reportingPeriod);
+        incomingFilesetRepository.save(mockFileset);
+
+        var demographicStudentEntity = createMockDemographicStudent(mockFileset);
+        demographicStudentEntity.setDemographicStudentID(null);
+        demographicStudentEntity.setCreateDate(LocalDateTime.now().minusMinutes(14));
+        demographicStudentEntity.setUpdateDate(LocalDateTime.now());
+        demographicStudentEntity.setCreateUser(ApplicationProperties.GRAD_DATA_COLLECTION_API);
+        demographicStudentEntity.setUpdateUser(ApplicationProperties.GRAD_DATA_COLLECTION_API);
+        demographicStudentRepository.save(demographicStudentEntity);
+
+        val demographicStudent = DemographicStudentMapper.mapper.toDemographicStudent(demographicStudentEntity);
+        val saga = this.createDemMockSaga(demographicStudent);
+        saga.setSagaId(null);
+        this.sagaRepository.save(saga);
+
+        val sagaData = DemographicStudentSagaData.builder().demographicStudent(demographicStudent).school(school).build();
+        val event = Event.builder()
+                .sagaId(saga.getSagaId())
+                .eventType(VALIDATE_DEM_STUDENT)
+                .eventOutcome(EventOutcome.VALIDATE_DEM_STUDENT_SUCCESS_WITH_NON_CRITICAL_ERROR)
+                .eventPayload(JsonUtil.getJsonStringFromObject(sagaData)).build();
+        long stepsTimed = this.sagaStepCount(event);
+        this.demographicStudentProcessingOrchestrator.handleEvent(event);
+
+        assertThat(this.sagaStepCount(event)).isEqualTo(stepsTimed);
+        pendingWrite.complete(null);
+        assertThat(this.sagaStepCount(event)).isEqualTo(stepsTimed + 1);
+    }
+
+    @SneakyThrows
+    @Test
+    void testHandleEvent_givenGradWriteFails_shouldLeaveTheStepToTheSagaReplay() {
+        var school = this.createMockSchoolTombstone();
+        when(this.restUtils.getSchoolBySchoolID(anyString())).thenReturn(Optional.of(school));
+        when(restUtils.writeDEMStudentSchoolOfRecordAndStatusInGradAsync(any(), any()))
+                .thenReturn(CompletableFuture.failedFuture(new GradDataCollectionAPIRuntimeException("NATS timeout")), CompletableFuture.completedFuture(null));
+        var reportingPeriod = reportingPeriodRepository.save(createMockReportingPeriodEntity());
+        var mockFileset = createMockIncomingFilesetEntityWithCRSFile(UUID.fromString(school.getSchoolId()), reportingPeriod);
+        incomingFilesetRepository.save(mockFileset);
+
+        var demographicStudentEntity = createMockDemographicStudent(mockFileset);
+        demographicStudentEntity.setDemographicStudentID(null);
+        demographicStudentEntity.setCreateDate(LocalDateTime.now().minusMinutes(14));
+        demographicStudentEntity.setUpdateDate(LocalDateTime.now());
+        demographicStudentEntity.setCreateUser(ApplicationProperties.GRAD_DATA_COLLECTION_API);
+        demographicStudentEntity.setUpdateUser(ApplicationProperties.GRAD_DATA_COLLECTION_API);
+        demographicStudentRepository.save(demographicStudentEntity);
+
+        val demographicStudent = DemographicStudentMapper.mapper.toDemographicStudent(demographicStudentEntity);
+        val saga = this.createDemMockSaga(demographicStudent);
+        saga.setSagaId(null);
+        this.sagaRepository.save(saga);
+
+        val sagaData = DemographicStudentSagaData.builder().demographicStudent(demographicStudent).school(school).build();
+        val event = Event.builder()
+                .sagaId(saga.getSagaId())
+                .eventType(VALIDATE_DEM_STUDENT)
+                .eventOutcome(EventOutcome.VALIDATE_DEM_STUDENT_SUCCESS_WITH_NON_CRITICAL_ERROR)
+                .eventPayload(JsonUtil.getJsonStringFromObject(sagaData)).build();
+        this.demographicStudentProcessingOrchestrator.handleEvent(event);
+
+        verify(this.messagePublisher, atLeast(0)).dispatchMessage(eq(this.demographicStudentProcessingOrchestrator.getTopicToSubscribe()), this.eventCaptor.capture());
+        assertThat(this.eventCaptor.getAllValues()).noneMatch(payload -> new String(payload).contains(EventOutcome.DEM_STUDENT_SOR_UPDATED_IN_GRAD.toString()));
+        var failedSaga = this.sagaRepository.findById(saga.getSagaId()).orElseThrow();
+        assertThat(failedSaga.getStatus()).isEqualTo(IN_PROGRESS.toString());
+        assertThat(failedSaga.getSagaState()).isEqualTo(UPDATE_DEM_STUDENT_SOR_AND_STATUS_IN_GRAD.toString());
+
+        // the replay scheduler picks up IN_PROGRESS sagas that have not been updated for two minutes.
+        failedSaga.setUpdateDate(LocalDateTime.now().minusMinutes(3));
+        this.sagaRepository.save(failedSaga);
+        DemographicStudentProcessingOrchestrator orchestrator = AopTestUtils.getTargetObject(this.demographicStudentProcessingOrchestrator);
+        orchestrator.replaySaga(this.sagaRepository.findById(saga.getSagaId()).orElseThrow());
+
+        verify(restUtils, times(2)).writeDEMStudentSchoolOfRecordAndStatusInGradAsync(any(), any());
+        verify(this.messagePublisher, atLeastOnce()).dispatchMessage(eq(this.demographicStudentProcessingOrchestrator.getTopicToSubscribe()), this.eventCaptor.capture());
+        final var newEvent = JsonUtil.getJsonObjectFromString(Event.class, new String(this.eventCaptor.getValue()));
+        assertThat(newEvent.getEventType()).isEqualTo(UPDATE_DEM_STUDENT_SOR_AND_STATUS_IN_GRAD);
+        assertThat(newEvent.getEventOutcome()).isEqualTo(EventOutcome.DEM_STUDENT_SOR_UPDATED_IN_GRAD);
+    }
+
+    private long sagaStepCount(Event event) {
+        var timer = this.meterRegistry.find(SagaStepTimers.SAGA_STEP)
+                .tags("saga", this.demographicStudentProcessingOrchestrator.getSagaName(), "step", event.getEventType().toString(), "outcome", event.getEventOutcome().toString())
+                .timer();
+        return timer == null ? 0 : timer.count();
+    }
     
     @SneakyThrows
     @Test
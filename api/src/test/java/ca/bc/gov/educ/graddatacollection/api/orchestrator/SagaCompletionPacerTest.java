@@ -0,0 +1,39 @@
+package ca.bc.gov.educ.graddatacollection.api.orchestrator;
+
+import ca.bc.gov.educ.graddatacollection.api.orchestrator.base.SagaCompletionPacer;
+import org.junit.jupiter.api.Test;
+import org.mockito.InOrder;
+
+import java.util.ArrayDeque;
+import java.util.Queue;
+import java.util.concurrent.Executor;
+
+import static org.mockito.Mockito.*;
+
+class SagaCompletionPacerTest {
+
+    @Test
+    void testPacedExecutor_WhenTaskIsSubmitted_ShouldNotPaceTheSubmittingThread() {
+        var pacer = mock(SagaCompletionPacer.class, CALLS_REAL_METHODS);
+        Queue<Runnable> queued = new ArrayDeque<>();
+
+        pacer.pacedExecutor(queued::add).execute(mock(Runnable.class));
+
+        verify(pacer, never()).pace();
+    }
+
+    @Test
+    void testPacedExecutor_WhenTaskRuns_ShouldPaceBeforeRunningIt() {
+        var pacer = mock(SagaCompletionPacer.class, CALLS_REAL_METHODS);
+        Queue<Runnable> queued = new ArrayDeque<>();
+        Executor executor = pacer.pacedExecutor(queued::add);
+        var task = mock(Runnable.class);
+
+        executor.execute(task);
+        queued.remove().run();
+
+        InOrder inOrder = inOrder(pacer, task);
+        inOrder.verify(pacer).pace();
+        inOrder.verify(task).run();
+    }
+}
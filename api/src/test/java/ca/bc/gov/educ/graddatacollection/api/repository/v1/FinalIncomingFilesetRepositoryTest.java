@@ -0,0 +1,60 @@
+package ca.bc.gov.educ.graddatacollection.api.repository.v1;
+
+import ca.bc.gov.educ.graddatacollection.api.BaseGradDataCollectionAPITest;
+import ca.bc.gov.educ.graddatacollection.api.model.v1.FinalIncomingFilesetEntity;
+import ca.bc.gov.educ.graddatacollection.api.model.v1.ReportingPeriodEntity;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class FinalIncomingFilesetRepositoryTest extends BaseGradDataCollectionAPITest {
+
+    @Autowired
+    FinalIncomingFilesetRepository finalIncomingFilesetRepository;
+    @Autowired
+    FinalDemographicStudentRepository finalDemographicStudentRepository;
+    @Autowired
+    ReportingPeriodRepository reportingPeriodRepository;
+
+    @BeforeEach
+    public void setUp() {
+        this.finalDemographicStudentRepository.deleteAll();
+        this.finalIncomingFilesetRepository.deleteAll();
+    }
+
+    @Test
+    void testFindQueuedUpdateDates_WhenNothingIsQueued_ShouldReturnEmptyList() {
+        assertThat(finalIncomingFilesetRepository.findQueuedUpdateDates()).isEmpty();
+    }
+
+    @Test
+    void testFindQueuedUpdateDates_ShouldReturnTheFilesetsWithLoadedStudentsOrderedByUpdateDate() {
+        var reportingPeriod = reportingPeriodRepository.save(createMockReportingPeriodEntity());
+        var now = LocalDateTime.now().truncatedTo(ChronoUnit.SECONDS);
+        var newest = saveFileset(reportingPeriod, "LOADED", now.minusMinutes(1), "LOADED");
+        var oldest = saveFileset(reportingPeriod, "LOADED", now.minusMinutes(10), "LOADED");
+        var duplicate = saveFileset(reportingPeriod, "LOADED", now.minusMinutes(10), "LOADED");
+        saveFileset(reportingPeriod, "LOADED", now.minusMinutes(5), "VERIFIED");
+        saveFileset(reportingPeriod, "COMPLETED", now.minusMinutes(5), "LOADED");
+
+        assertThat(finalIncomingFilesetRepository.findQueuedUpdateDates())
+                .containsExactly(oldest.getUpdateDate(), duplicate.getUpdateDate(), newest.getUpdateDate());
+    }
+
+    private FinalIncomingFilesetEntity saveFileset(ReportingPeriodEntity reportingPeriod, String filesetStatusCode, LocalDateTime updateDate, String studentStatusCode) {
+        var fileset = createMockFinalIncomingFilesetEntityWithAllFilesLoaded(reportingPeriod);
+        fileset.setFilesetStatusCode(filesetStatusCode);
+        fileset.setUpdateDate(updateDate);
+        var savedFileset = finalIncomingFilesetRepository.save(fileset);
+        var demographicStudent = createMockFinalDemographicStudent(savedFileset);
+        demographicStudent.setDemographicStudentID(null);
+        demographicStudent.setStudentStatusCode(studentStatusCode);
+        finalDemographicStudentRepository.save(demographicStudent);
+        return savedFileset;
+    }
+}
@@ -0,0 +1,75 @@
+package ca.bc.gov.educ.graddatacollection.api.repository.v1;
+
+import ca.bc.gov.educ.graddatacollection.api.BaseGradDataCollectionAPITest;
+import ca.bc.gov.educ.graddatacollection.api.model.v1.IncomingFilesetEntity;
+import ca.bc.gov.educ.graddatacollection.api.model.v1.IncomingFilesetProgressEntity;
+import ca.bc.gov.educ.graddatacollection.api.model.v1.ReportingPeriodEntity;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class IncomingFilesetRepositoryTest extends BaseGradDataCollectionAPITest {
+
+    @Autowired
+    IncomingFilesetRepository incomingFilesetRepository;
+    @Autowired
+    IncomingFilesetProgressRepository incomingFilesetProgressRepository;
+    @Autowired
+    ReportingPeriodRepository reportingPeriodRepository;
+
+    @BeforeEach
+    public void setUp() {
+        this.incomingFilesetProgressRepository.deleteAll();
+        this.incomingFilesetRepository.deleteAll();
+    }
+
+    @Test
+    void testFindQueuedUpdateDates_WhenNothingIsQueued_ShouldReturnEmptyList() {
+        assertThat(incomingFilesetRepository.findQueuedUpdateDates()).isEmpty();
+    }
+
+    @Test
+    void testFindQueuedUpdateDates_ShouldReturnTheFilesetsWithLoadedStudentsOrderedByUpdateDate() {
+        var reportingPeriod = reportingPeriodRepository.save(createMockReportingPeriodEntity());
+        var now = LocalDateTime.now().truncatedTo(ChronoUnit.SECONDS);
+        var newest = saveFileset(reportingPeriod, "LOADED", now.minusMinutes(1), 0, 0, 1);
+        var oldest = saveFileset(reportingPeriod, "LOADED", now.minusMinutes(10), 1, 0, 0);
+        var duplicate = saveFileset(reportingPeriod, "LOADED", now.minusMinutes(10), 0, 1, 0);
+        saveFileset(reportingPeriod, "LOADED", now.minusMinutes(5), 0, 0, 0);
+        saveFileset(reportingPeriod, "COMPLETED", now.minusMinutes(5), 1, 1, 1);
+        var withoutProgress = createMockIncomingFilesetEntityWithAllFilesLoaded(reportingPeriod);
+        withoutProgress.setUpdateDate(now.minusMinutes(5));
+        incomingFilesetRepository.save(withoutProgress);
+        var withoutXamFile = createMockIncomingFilesetEntityWithAllFilesLoaded(reportingPeriod);
+        withoutXamFile.setXamFileName(null);
+        withoutXamFile.setUpdateDate(now.minusMinutes(5));
+        saveProgress(incomingFilesetRepository.save(withoutXamFile), 1, 1, 1);
+
+        assertThat(incomingFilesetRepository.findQueuedUpdateDates())
+                .containsExactly(oldest.getUpdateDate(), duplicate.getUpdateDate(), newest.getUpdateDate());
+    }
+
+    private IncomingFilesetEntity saveFileset(ReportingPeriodEntity reportingPeriod, String filesetStatusCode, LocalDateTime updateDate, long demLoadedCount, long xamLoadedCount, long crsLoadedCount) {
+        var fileset = createMockIncomingFilesetEntityWithAllFilesLoaded(reportingPeriod);
+        fileset.setFilesetStatusCode(filesetStatusCode);
+        fileset.setUpdateDate(updateDate);
+        var savedFileset = incomingFilesetRepository.save(fileset);
+        saveProgress(savedFileset, demLoadedCount, xamLoadedCount, crsLoadedCount);
+        return savedFileset;
+    }
+
+    private void saveProgress(IncomingFilesetEntity fileset, long demLoadedCount, long xamLoadedCount, long crsLoadedCount) {
+        incomingFilesetProgressRepository.save(IncomingFilesetProgressEntity.builder()
+                .incomingFilesetID(fileset.getIncomingFilesetID())
+                .demLoadedCount(demLoadedCount)
+                .xamLoadedCount(xamLoadedCount)
+                .crsLoadedCount(crsLoadedCount)
+                .updateDate(LocalDateTime.now())
+                .build());
+    }
+}
@@ -0,0 +1,36 @@
+package ca.bc.gov.educ.graddatacollection.api.repository.v1;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class StagedStudentBulkLoaderTest {
+
+    @Test
+    void testAppendCopyText_WhenValueIsNull_ShouldWriteNullMarker() {
+        assertEquals("\\N", copyText(null));
+        assertEquals("", copyText(""));
+    }
+
+    @Test
+    void testAppendCopyText_WhenValueHasControlCharacters_ShouldEscapeThem() {
+        assertEquals("A\\tB", copyText("A\tB"));
+        assertEquals("line1\\nline2\\r", copyText("line1\nline2\r"));
+        assertEquals("C:\\\\temp\\\\N", copyText("C:\\temp\\N"));
+    }
+
+    @Test
+    void testAppendCopyText_WhenValueIsNotText_ShouldWriteItsStringForm() {
+        var id = UUID.randomUUID();
+        assertEquals(id.toString(), copyText(id));
+        assertEquals("42", copyText(42));
+    }
+
+    private static String copyText(Object value) {
+        var line = new StringBuilder();
+        StagedStudentBulkLoader.appendCopyText(line, value);
+        return line.toString();
+    }
+}
@@ -0,0 +1,67 @@
+package ca.bc.gov.educ.graddatacollection.api.rest;
+
+import ca.bc.gov.educ.graddatacollection.api.struct.external.grad.v1.LetterGrade;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.Map;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class EffectiveDatedCodesTest {
+
+    private ReferenceDataSnapshot<String, LetterGrade> snapshot;
+    private EffectiveDatedCodes<LetterGrade> letterGrades;
+
+    @BeforeEach
+    void setUp() {
+        snapshot = new ReferenceDataSnapshot<>("letter-grade", new SimpleMeterRegistry());
+        letterGrades = new EffectiveDatedCodes<>(snapshot, LetterGrade::getEffectiveDate, LetterGrade::getExpiryDate, date -> LocalDateTime.parse(date, DateTimeFormatter.ISO_OFFSET_DATE_TIME));
+        snapshot.load(() -> Map.of(
+                "A", letterGrade("A", "1940-01-01T08:00:00.000+00:00", null),
+                "RM", letterGrade("RM", "2007-09-01T07:00:00.000+00:00", "2021-07-01T07:00:00.000+00:00"),
+                "IE", letterGrade("IE", "2022-09-01T07:00:00.000+00:00", null)));
+    }
+
+    @Test
+    void testEffectiveAt_ShouldApplyEffectiveAndExpiryDates() {
+        var codes = letterGrades.effectiveAt(LocalDateTime.of(2020, 6, 1, 0, 0));
+
+        assertEquals(2, codes.codes().size());
+        assertTrue(codes.byCode().containsKey("RM"));
+        assertFalse(codes.byCode().containsKey("IE"));
+        assertEquals(Set.of("A", "IE"), letterGrades.effectiveAt(LocalDateTime.of(2024, 1, 1, 0, 0)).byCode().keySet());
+    }
+
+    @Test
+    void testEffectiveAt_WhenSameDate_ShouldReuseCodeSet() {
+        var sessionDate = LocalDateTime.of(2024, 1, 1, 0, 0);
+
+        assertSame(letterGrades.effectiveAt(sessionDate), letterGrades.effectiveAt(sessionDate));
+        assertThrows(UnsupportedOperationException.class, () -> letterGrades.effectiveAt(sessionDate).codes().clear());
+    }
+
+    @Test
+    void testUnexpiredAt_ShouldRecomputeOnceExpiryIsReached() {
+        assertEquals(3, letterGrades.unexpiredAt(LocalDateTime.of(2021, 6, 30, 0, 0)).codes().size());
+        assertEquals(2, letterGrades.unexpiredAt(LocalDateTime.of(2021, 7, 1, 7, 0)).codes().size());
+    }
+
+    @Test
+    void testAll_WhenSnapshotReloaded_ShouldRebuildView() {
+        assertEquals(3, letterGrades.all().codes().size());
+
+        snapshot.load(() -> Map.of("A", letterGrade("A", "1940-01-01T08:00:00.000+00:00", null)));
+
+        assertEquals(1, letterGrades.all().codes().size());
+        assertEquals(1, letterGrades.effectiveAt(LocalDateTime.of(2020, 6, 1, 0, 0)).codes().size());
+    }
+
+    private static LetterGrade letterGrade(String grade, String effectiveDate, String expiryDate) {
+        return new LetterGrade(grade, "4", "Y", "", grade, null, null, expiryDate, effectiveDate, "unitTests", LocalDateTime.now().toString(), "unitTests", LocalDateTime.now().toString());
+    }
+}
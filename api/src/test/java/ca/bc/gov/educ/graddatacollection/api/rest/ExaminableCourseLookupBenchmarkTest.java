@@ -0,0 +1,109 @@
+package ca.bc.gov.educ.graddatacollection.api.rest;
+
+import ca.bc.gov.educ.graddatacollection.api.messaging.MessagePublisher;
+import ca.bc.gov.educ.graddatacollection.api.properties.ApplicationProperties;
+import ca.bc.gov.educ.graddatacollection.api.struct.external.grad.v1.GradExaminableCourse;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.commons.lang3.StringUtils;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.web.reactive.function.client.WebClient;
+
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.spy;
+
+/**
+ * Compares the external ID index of the examinable course cache against the previous full scan of the cache, at the
+ * size of the production examinable course table. Run with {@code -Dbenchmark=true}.
+ */
+@Slf4j
+@EnabledIfSystemProperty(named = "benchmark", matches = "true")
+class ExaminableCourseLookupBenchmarkTest {
+
+    private static final int COURSE_CODES = 300;
+    private static final String[] PROGRAM_YEARS = {"1996", "2004", "2018", "2023"};
+    private static final int WARMUP_ROUNDS = 3;
+    private static final int MEASURED_ROUNDS = 5;
+    private static final int LOOKUPS_PER_ROUND = 2_000;
+
+    @Test
+    void benchmarkExaminableCourseLookup() {
+        List<GradExaminableCourse> courses = new ArrayList<>();
+        for (int i = 0; i < COURSE_CODES; i++) {
+            for (String programYear : PROGRAM_YEARS) {
+                courses.add(new GradExaminableCourse(UUID.randomUUID(), programYear, "C" + i, "12", "Course " + i, 50, 50, null, null, "2004-09", "2099-06"));
+            }
+        }
+        Map<String, GradExaminableCourse> scanMap = new ConcurrentHashMap<>();
+        courses.forEach(course -> scanMap.put(String.valueOf(course.getExaminableCourseID()), course));
+
+        RestUtils restUtils = spy(new RestUtils(mock(WebClient.class), mock(WebClient.class), mock(ApplicationProperties.class), mock(MessagePublisher.class), new SimpleMeterRegistry()));
+        doReturn(courses).when(restUtils).getGradExaminableCourses();
+        restUtils.populateExaminableCourseMap();
+
+        String[] externalIDs = new String[LOOKUPS_PER_ROUND];
+        for (int i = 0; i < LOOKUPS_PER_ROUND; i++) {
+            externalIDs[i] = String.format("%-5s", "C" + (i % COURSE_CODES)) + "12";
+        }
+        YearMonth courseSession = YearMonth.of(2024, 6);
+
+        for (int round = 0; round < WARMUP_ROUNDS; round++) {
+            assertEquals(scanRound(scanMap, externalIDs, courseSession), indexRound(restUtils, externalIDs, courseSession));
+        }
+        long scanNanos = 0;
+        long indexNanos = 0;
+        for (int round = 0; round < MEASURED_ROUNDS; round++) {
+            long start = System.nanoTime();
+            int scanMatches = scanRound(scanMap, externalIDs, courseSession);
+            scanNanos += System.nanoTime() - start;
+            start = System.nanoTime();
+            int indexMatches = indexRound(restUtils, externalIDs, courseSession);
+            indexNanos += System.nanoTime() - start;
+            assertEquals(scanMatches, indexMatches);
+        }
+        long lookups = (long) MEASURED_ROUNDS * LOOKUPS_PER_ROUND;
+        log.info("Examinable course lookup over {} courses :: scan {} ns/op, index {} ns/op", courses.size(), scanNanos / lookups, indexNanos / lookups);
+    }
+
+    private static int scanRound(Map<String, GradExaminableCourse> scanMap, String[] externalIDs, YearMonth courseSession) {
+        int matches = 0;
+        for (String externalID : externalIDs) {
+            List<GradExaminableCourse> examinableCourses = new ArrayList<>();
+            scanMap.forEach((key, value) -> {
+                if (StringUtils.equals(String.format("%-5s", value.getCourseCode()) + value.getCourseLevel(), externalID)) {
+                    examinableCourses.add(value);
+                }
+            });
+            for (GradExaminableCourse course : examinableCourses) {
+                YearMonth start = YearMonth.parse(course.getExaminableStart());
+                YearMonth end = YearMonth.parse(course.getExaminableEnd());
+                if (!courseSession.isBefore(start) && !courseSession.isAfter(end)) {
+                    matches++;
+                }
+            }
+        }
+        return matches;
+    }
+
+    private static int indexRound(RestUtils restUtils, String[] externalIDs, YearMonth courseSession) {
+        int matches = 0;
+        for (String externalID : externalIDs) {
+            for (ExaminableCourseWindow window : restUtils.getExaminableCourseByExternalID(externalID)) {
+                if (window.isExaminableAt(courseSession)) {
+                    matches++;
+                }
+            }
+        }
+        return matches;
+    }
+}
@@ -0,0 +1,128 @@
+package ca.bc.gov.educ.graddatacollection.api.rest;
+
+import ca.bc.gov.educ.graddatacollection.api.exception.EntityNotFoundException;
+import ca.bc.gov.educ.graddatacollection.api.exception.GradDataCollectionAPIRuntimeException;
+import ca.bc.gov.educ.graddatacollection.api.messaging.MessagePublisher;
+import io.nats.client.Message;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+class NatsRequestExecutorTest {
+
+    @Mock
+    private MessagePublisher messagePublisher;
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+    }
+
+    @Test
+    void testRequest_WhenTopicIsAtItsLimit_ShouldQueueUntilARequestCompletes() {
+        var executor = new NatsRequestExecutor(messagePublisher, 60_000, 1, 0, 1);
+        var firstReply = new CompletableFuture<Message>();
+        var secondReply = new CompletableFuture<Message>();
+        var firstMessage = reply("first");
+        var secondMessage = reply("second");
+        when(messagePublisher.requestMessage(anyString(), any(byte[].class))).thenReturn(firstReply, secondReply);
+
+        var first = executor.request("TOPIC", new byte[0], NatsRequestExecutorTest::readData, Set.of());
+        var second = executor.request("TOPIC", new byte[0], NatsRequestExecutorTest::readData, Set.of());
+        verify(messagePublisher, times(1)).requestMessage(anyString(), any(byte[].class));
+
+        firstReply.complete(firstMessage);
+        verify(messagePublisher, times(2)).requestMessage(anyString(), any(byte[].class));
+        secondReply.complete(secondMessage);
+
+        assertEquals("first", first.join());
+        assertEquals("second", second.join());
+    }
+
+    @Test
+    void testRequest_WhenAttemptFails_ShouldRetryUntilItSucceeds() {
+        var executor = new NatsRequestExecutor(messagePublisher, 60_000, 3, 0, 10);
+        var done = reply("done");
+        when(messagePublisher.requestMessage(anyString(), any(byte[].class)))
+                .thenReturn(CompletableFuture.failedFuture(new IllegalStateException("connection lost")), CompletableFuture.completedFuture(null), CompletableFuture.completedFuture(done));
+
+        var result = executor.request("TOPIC", new byte[0], NatsRequestExecutorTest::readData, Set.of());
+
+        assertEquals("done", result.join());
+        verify(messagePublisher, times(3)).requestMessage(anyString(), any(byte[].class));
+    }
+
+    @Test
+    void testRequest_WhenFailureIsFinal_ShouldNotRetry() {
+        var executor = new NatsRequestExecutor(messagePublisher, 60_000, 3, 0, 10);
+        var empty = reply("");
+        when(messagePublisher.requestMessage(anyString(), any(byte[].class))).thenReturn(CompletableFuture.completedFuture(empty));
+
+        var result = executor.request("TOPIC", new byte[0], reply -> {
+            throw new EntityNotFoundException();
+        }, Set.of(EntityNotFoundException.class));
+
+        var exception = assertThrows(CompletionException.class, result::join);
+        assertInstanceOf(EntityNotFoundException.class, exception.getCause());
+        verify(messagePublisher, times(1)).requestMessage(anyString(), any(byte[].class));
+    }
+
+    @Test
+    void testRequestWrite_WhenRequestTimesOut_ShouldNotSendItAgain() {
+        var executor = new NatsRequestExecutor(messagePublisher, 60_000, 3, 0, 10);
+        when(messagePublisher.requestMessage(anyString(), any(byte[].class))).thenReturn(CompletableFuture.completedFuture(null));
+
+        var result = executor.requestWrite("TOPIC", new byte[0], NatsRequestExecutorTest::readData, Set.of());
+
+        var exception = assertThrows(CompletionException.class, result::join);
+        assertInstanceOf(GradDataCollectionAPIRuntimeException.class, exception.getCause());
+        verify(messagePublisher, times(1)).requestMessage(anyString(), any(byte[].class));
+    }
+
+    @Test
+    void testRequestWrite_WhenRequestCouldNotBeSent_ShouldRetryIt() {
+        var executor = new NatsRequestExecutor(messagePublisher, 60_000, 3, 0, 10);
+        var done = reply("done");
+        when(messagePublisher.requestMessage(anyString(), any(byte[].class)))
+                .thenReturn(CompletableFuture.failedFuture(new IllegalStateException("connection lost")), CompletableFuture.completedFuture(done));
+
+        var result = executor.requestWrite("TOPIC", new byte[0], NatsRequestExecutorTest::readData, Set.of());
+
+        assertEquals("done", result.join());
+        verify(messagePublisher, times(2)).requestMessage(anyString(), any(byte[].class));
+    }
+
+    @Test
+    void testBackoffMillis_ShouldStayWithinTheExponentialCeiling() {
+        var executor = new NatsRequestExecutor(messagePublisher, 60_000, 3, 100, 10);
+
+        for (int i = 0; i < 50; i++) {
+            assertTrue(executor.backoffMillis(1) <= 100);
+            assertTrue(executor.backoffMillis(3) <= 400);
+        }
+    }
+
+    private static String readData(Message reply) {
+        if (reply == null) {
+            throw new GradDataCollectionAPIRuntimeException("timed out");
+        }
+        return new String(reply.getData(), StandardCharsets.UTF_8);
+    }
+
+    private static Message reply(String data) {
+        Message message = mock(Message.class);
+        when(message.getData()).thenReturn(data.getBytes(StandardCharsets.UTF_8));
+        return message;
+    }
+}
@@ -0,0 +1,59 @@
+package ca.bc.gov.educ.graddatacollection.api.rest;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ReferenceDataSnapshotTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private ReferenceDataSnapshot<String, String> snapshot;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        snapshot = new ReferenceDataSnapshot<>("letter-grade", meterRegistry);
+    }
+
+    @Test
+    void testLoad_WhenReloaded_ShouldPublishNewTableAndBumpVersion() {
+        assertTrue(snapshot.isEmpty());
+        assertEquals(0, snapshot.getVersion());
+
+        var first = snapshot.load(() -> Map.of("A", "Excellent", "B", "Good"));
+        snapshot.load(() -> Map.of("A", "Excellent"));
+
+        assertEquals(2, first.size());
+        assertEquals(Map.of("A", "Excellent"), snapshot.get());
+        assertEquals(2, snapshot.getVersion());
+        assertThrows(UnsupportedOperationException.class, () -> snapshot.get().put("C", "Satisfactory"));
+        assertEquals(2.0, meterRegistry.get("gdc.reference.data.version").tag("table", "letter-grade").gauge().value());
+        assertEquals(1.0, meterRegistry.get("gdc.reference.data.size").tag("table", "letter-grade").gauge().value());
+        assertEquals(2, meterRegistry.get("gdc.reference.data.load").tag("table", "letter-grade").timer().count());
+    }
+
+    @Test
+    void testLoad_WhenLoaderFails_ShouldKeepPreviousTable() {
+        snapshot.load(() -> Map.of("A", "Excellent"));
+
+        assertThrows(IllegalStateException.class, () -> snapshot.load(() -> {
+            throw new IllegalStateException("API error");
+        }));
+
+        assertEquals(Map.of("A", "Excellent"), snapshot.get());
+        assertEquals(1, snapshot.getVersion());
+    }
+
+    @Test
+    void testLoadIfEmpty_WhenAlreadyLoaded_ShouldSkipLoader() {
+        assertTrue(snapshot.loadIfEmpty(() -> Map.of("A", "Excellent")));
+        assertFalse(snapshot.loadIfEmpty(() -> {
+            throw new IllegalStateException("should not reload");
+        }));
+        assertEquals(1, snapshot.getVersion());
+    }
+}
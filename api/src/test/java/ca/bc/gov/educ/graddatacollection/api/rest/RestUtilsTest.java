@@ -16,11 +16,11 @@ import ca.bc.gov.educ.graddatacollection.api.struct.external.institute.v1.School
 import ca.bc.gov.educ.graddatacollection.api.struct.external.institute.v1.SchoolCategoryCode;
 import ca.bc.gov.educ.graddatacollection.api.struct.external.institute.v1.SchoolTombstone;
 import ca.bc.gov.educ.graddatacollection.api.struct.external.scholarships.v1.CitizenshipCode;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import io.nats.client.Message;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.ArgumentCaptor;
-import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
 import org.springframework.web.reactive.function.client.WebClient;
@@ -29,6 +29,7 @@ import java.nio.charset.StandardCharsets;
 import java.sql.Date;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.time.YearMonth;
 import java.util.*;
 import java.util.concurrent.CompletableFuture;
 
@@ -48,7 +49,6 @@ class RestUtilsTest {
     @Mock
     private MessagePublisher messagePublisher;
 
-    @InjectMocks
     private RestUtils restUtils;
 
     @Mock
@@ -57,7 +57,7 @@ class RestUtilsTest {
     @BeforeEach
     void setUp() {
         MockitoAnnotations.openMocks(this);
-        restUtils = spy(new RestUtils(chesWebClient, webClient, props, messagePublisher));
+        restUtils = spy(new RestUtils(chesWebClient, webClient, props, messagePublisher, new SimpleMeterRegistry()));
     }
 
     @Test
@@ -873,4 +873,24 @@ class RestUtilsTest {
         Optional<GradCourseCode> result = restUtils.getCoreg39CourseByID("anyID");
         assertFalse(result.isPresent());
     }
+
+    @Test
+    void testGetExaminableCourseByExternalID_WhenMapIsEmpty_ShouldIndexByPaddedExternalID() {
+        List<GradExaminableCourse> mockCourses = List.of(
+                new GradExaminableCourse(UUID.randomUUID(), "2018", "CLE", "12", "Creative Writing 12", 50, 50, null, null, "2020-01", "2024-12"),
+                new GradExaminableCourse(UUID.randomUUID(), "2023", "CLE", "12", "Creative Writing 12", 50, 50, null, null, "2025-01", "2099-12"),
+                new GradExaminableCourse(UUID.randomUUID(), "2018", "MATH", "10", "Mathematics 10", 50, 50, null, null, "bad", null)
+        );
+
+        doReturn(mockCourses).when(restUtils).getGradExaminableCourses();
+
+        var creativeWriting = restUtils.getExaminableCourseByExternalID("CLE  12");
+        assertEquals(2, creativeWriting.size());
+        assertTrue(creativeWriting.stream().anyMatch(window -> window.isExaminableAt(YearMonth.of(2024, 12))));
+        assertFalse(creativeWriting.stream().anyMatch(window -> window.isExaminableAt(YearMonth.of(2019, 12))));
+        assertFalse(restUtils.getExaminableCourseByExternalID("MATH 10").getFirst().isExaminableAt(YearMonth.of(2024, 1)));
+        assertTrue(restUtils.getExaminableCourseByExternalID("CLE12").isEmpty());
+        assertTrue(restUtils.getExaminableCourseByExternalID(null).isEmpty());
+        verify(restUtils, times(1)).getGradExaminableCourses();
+    }
 }
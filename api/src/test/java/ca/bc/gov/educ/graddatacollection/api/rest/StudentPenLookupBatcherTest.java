@@ -0,0 +1,125 @@
+package ca.bc.gov.educ.graddatacollection.api.rest;
+
+import ca.bc.gov.educ.graddatacollection.api.exception.EntityNotFoundException;
+import ca.bc.gov.educ.graddatacollection.api.exception.GradDataCollectionAPIRuntimeException;
+import ca.bc.gov.educ.graddatacollection.api.properties.ApplicationProperties;
+import ca.bc.gov.educ.graddatacollection.api.struct.external.studentapi.v1.Student;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+
+import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.Mockito.*;
+
+class StudentPenLookupBatcherTest {
+
+    @Mock
+    private RestUtils restUtils;
+
+    @Mock
+    private ApplicationProperties props;
+
+    private StudentPenLookupBatcher batcher;
+
+    private final ExecutorService callers = Executors.newFixedThreadPool(6);
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+        when(props.getStudentPenLookupBatchSize()).thenReturn(3);
+        when(props.getStudentPenLookupBatchWaitMs()).thenReturn(200L);
+        batcher = new StudentPenLookupBatcher(restUtils, props);
+    }
+
+    @AfterEach
+    void tearDown() {
+        batcher.shutdown();
+        callers.shutdownNow();
+    }
+
+    @Test
+    void testGetStudentByPEN_WhenDistinctPENsArriveTogether_ShouldSendOneBatchRequest() {
+        when(restUtils.getStudentsByPENs(any(UUID.class), anyCollection())).thenReturn(Map.of(
+                "123456789", Student.builder().pen("123456789").studentID(UUID.randomUUID().toString()).build(),
+                "987654321", Student.builder().pen("987654321").studentID(UUID.randomUUID().toString()).build()));
+
+        var first = CompletableFuture.supplyAsync(() -> batcher.getStudentByPEN("123456789"), callers);
+        var second = CompletableFuture.supplyAsync(() -> batcher.getStudentByPEN("987654321"), callers);
+        var missing = CompletableFuture.supplyAsync(() -> batcher.getStudentByPEN("111111111"), callers);
+
+        assertEquals("123456789", first.join().getPen());
+        assertEquals("987654321", second.join().getPen());
+        var exception = assertThrows(Exception.class, missing::join);
+        assertInstanceOf(EntityNotFoundException.class, exception.getCause());
+        verify(restUtils, times(1)).getStudentsByPENs(any(UUID.class), anyCollection());
+        verify(restUtils, never()).getStudentByPEN(any(UUID.class), any());
+    }
+
+    @Test
+    void testGetStudentByPEN_WhenSamePENRequestedConcurrently_ShouldShareOneLookup() {
+        when(restUtils.getStudentByPEN(any(UUID.class), any())).thenReturn(Student.builder().pen("123456789").build());
+
+        List<CompletableFuture<Student>> lookups = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            lookups.add(CompletableFuture.supplyAsync(() -> batcher.getStudentByPEN("123456789"), callers));
+        }
+
+        lookups.forEach(lookup -> assertEquals("123456789", lookup.join().getPen()));
+        verify(restUtils, times(1)).getStudentByPEN(any(UUID.class), any());
+        verify(restUtils, never()).getStudentsByPENs(any(UUID.class), anyCollection());
+    }
+
+    @Test
+    void testGetStudentByPEN_WhenBatchRequestFails_ShouldFallBackToSingleLookups() {
+        when(restUtils.getStudentsByPENs(any(UUID.class), anyCollection())).thenThrow(new GradDataCollectionAPIRuntimeException("timeout"));
+        when(restUtils.getStudentByPEN(any(UUID.class), any())).thenAnswer(invocation -> Student.builder().pen(invocation.getArgument(1)).build());
+
+        var first = CompletableFuture.supplyAsync(() -> batcher.getStudentByPEN("123456789"), callers);
+        var second = CompletableFuture.supplyAsync(() -> batcher.getStudentByPEN("987654321"), callers);
+
+        assertEquals("123456789", first.join().getPen());
+        assertEquals("987654321", second.join().getPen());
+        verify(restUtils, times(2)).getStudentByPEN(any(UUID.class), any());
+    }
+
+    @Test
+    void testGetStudentByPEN_WhenBatchRequestFails_ShouldRunSingleLookupsOffTheFlushThreads() {
+        when(restUtils.getStudentsByPENs(any(UUID.class), anyCollection())).thenThrow(new GradDataCollectionAPIRuntimeException("timeout"));
+        Set<String> lookupThreads = ConcurrentHashMap.newKeySet();
+        when(restUtils.getStudentByPEN(any(UUID.class), any())).thenAnswer(invocation -> {
+            lookupThreads.add(Thread.currentThread().getName());
+            return Student.builder().pen(invocation.getArgument(1)).build();
+        });
+
+        var first = CompletableFuture.supplyAsync(() -> batcher.getStudentByPEN("123456789"), callers);
+        var second = CompletableFuture.supplyAsync(() -> batcher.getStudentByPEN("987654321"), callers);
+
+        assertEquals("123456789", first.join().getPen());
+        assertEquals("987654321", second.join().getPen());
+        assertFalse(lookupThreads.isEmpty());
+        assertTrue(lookupThreads.stream().noneMatch(name -> name.startsWith("pen-lookup-batch")), lookupThreads.toString());
+    }
+
+    @Test
+    void testGetStudentByPEN_WhenBatchRequestThrowsError_ShouldFailEveryPendingLookup() {
+        when(restUtils.getStudentsByPENs(any(UUID.class), anyCollection())).thenThrow(new StackOverflowError());
+
+        var first = CompletableFuture.supplyAsync(() -> batcher.getStudentByPEN("123456789"), callers).orTimeout(5, TimeUnit.SECONDS);
+        var second = CompletableFuture.supplyAsync(() -> batcher.getStudentByPEN("987654321"), callers).orTimeout(5, TimeUnit.SECONDS);
+
+        assertInstanceOf(GradDataCollectionAPIRuntimeException.class, assertThrows(Exception.class, first::join).getCause());
+        assertInstanceOf(GradDataCollectionAPIRuntimeException.class, assertThrows(Exception.class, second::join).getCause());
+        verify(restUtils, never()).getStudentByPEN(any(UUID.class), any());
+    }
+}
@@ -12,6 +12,7 @@ import ca.bc.gov.educ.graddatacollection.api.rules.assessment.AssessmentStudentR
 import ca.bc.gov.educ.graddatacollection.api.rules.assessment.AssessmentStudentValidationIssueTypeCode;
 import ca.bc.gov.educ.graddatacollection.api.rules.assessment.ruleset.CourseCodeNumeracyRule;
 import ca.bc.gov.educ.graddatacollection.api.service.v1.AssessmentRulesService;
+import ca.bc.gov.educ.graddatacollection.api.service.v1.FilesetDuplicateIndexService;
 import ca.bc.gov.educ.graddatacollection.api.struct.external.easapi.v1.Assessment;
 import ca.bc.gov.educ.graddatacollection.api.struct.external.easapi.v1.AssessmentStudentDetailResponse;
 import ca.bc.gov.educ.graddatacollection.api.struct.external.easapi.v1.Session;
@@ -24,6 +25,7 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.MockitoAnnotations;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.test.context.TestPropertySource;
 
 import java.time.LocalDate;
 import java.time.format.DateTimeFormatter;
@@ -41,6 +43,7 @@ import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
 
 @Slf4j
+@TestPropertySource(properties = "fileset.duplicate.index.max.size=50")
 class AssessmentRulesProcessorTest extends BaseGradDataCollectionAPITest {
 
     @Autowired
@@ -64,6 +67,9 @@ class AssessmentRulesProcessorTest extends BaseGradDataCollectionAPITest {
     @Autowired
     private ReportingPeriodRepository reportingPeriodRepository;
 
+    @Autowired
+    private FilesetDuplicateIndexService filesetDuplicateIndexService;
+
     @BeforeEach
     public void setUp() {
         MockitoAnnotations.openMocks(this);
@@ -481,12 +487,15 @@ class AssessmentRulesProcessorTest extends BaseGradDataCollectionAPITest {
 
         assessmentStudent.setAssessmentStudentID(null);
         assessmentStudentRepository.save(assessmentStudent);
+        filesetDuplicateIndexService.invalidateAssessmentDuplicates(savedFileSet.getIncomingFilesetID());
 
         val validationError2 = rulesProcessor.processRules(createMockStudentRuleData(demStudent, createMockCourseStudent(savedFileSet), assessmentStudent, createMockSchoolTombstone()));
         assertThat(validationError2.size()).isNotZero();
         assertThat(validationError2.getFirst().getValidationIssueFieldCode()).isEqualTo(ValidationFieldCode.COURSE_SESSION.getCode());
         assertThat(validationError2.getFirst().getValidationIssueCode()).isEqualTo(AssessmentStudentValidationIssueTypeCode.DUPLICATE_XAM_RECORD.getCode());
         assertThat(validationError2.getFirst().getValidationIssueDescription()).isEqualTo(AssessmentStudentValidationIssueTypeCode.DUPLICATE_XAM_RECORD.getMessage());
+        assertThat(filesetDuplicateIndexService.isEnabled()).isTrue();
+        assertThat(filesetDuplicateIndexService.hasDuplicateAssessmentSession(savedFileSet, assessmentStudent.getPen(), assessmentStudent.getCourseCode(), assessmentStudent.getCourseMonth(), assessmentStudent.getCourseYear())).isTrue();
 
         Session numeracySession = new Session();
         var numeracyAssessments = NumeracyAssessmentCodes.getAllCodes().stream().map(code -> {
@@ -518,6 +527,7 @@ class AssessmentRulesProcessorTest extends BaseGradDataCollectionAPITest {
         numeracyStudent2.setCourseYear(futureSessionYear);
         numeracyStudent2.setAssessmentStudentID(null);
         assessmentStudentRepository.save(numeracyStudent2);
+        filesetDuplicateIndexService.invalidateAssessmentDuplicates(savedFileSet.getIncomingFilesetID());
 
         numeracyStudent2.setAssessmentStudentID(null);
         val numeracyValidationError = rulesProcessor.processRules(
@@ -527,6 +537,7 @@ class AssessmentRulesProcessorTest extends BaseGradDataCollectionAPITest {
         assertThat(numeracyValidationError.getFirst().getValidationIssueFieldCode()).isEqualTo(ValidationFieldCode.COURSE_SESSION.getCode());
         assertThat(numeracyValidationError.getFirst().getValidationIssueCode()).isEqualTo(AssessmentStudentValidationIssueTypeCode.DUPLICATE_XAM_RECORD.getCode());
         assertThat(numeracyValidationError.getFirst().getValidationIssueDescription()).isEqualTo(AssessmentStudentValidationIssueTypeCode.DUPLICATE_XAM_RECORD.getMessage());
+        assertThat(filesetDuplicateIndexService.hasDuplicateNumeracySession(savedFileSet, demStudent.getPen(), "06", futureSessionYear)).isTrue();
 
         var nonNumeracyStudent = createMockAssessmentStudent();
         nonNumeracyStudent.setPen(demStudent.getPen());
@@ -538,6 +549,7 @@ class AssessmentRulesProcessorTest extends BaseGradDataCollectionAPITest {
         nonNumeracyStudent.setCourseYear(futureSessionYear);
         nonNumeracyStudent.setAssessmentStudentID(null);
         assessmentStudentRepository.save(nonNumeracyStudent);
+        filesetDuplicateIndexService.invalidateAssessmentDuplicates(savedFileSet.getIncomingFilesetID());
 
         val nonNumeracyValidationError = rulesProcessor.processRules(
             createMockStudentRuleData(demStudent, createMockCourseStudent(savedFileSet), nonNumeracyStudent, createMockSchoolTombstone())
@@ -546,6 +558,7 @@ class AssessmentRulesProcessorTest extends BaseGradDataCollectionAPITest {
             err.getValidationIssueFieldCode().equals(ValidationFieldCode.COURSE_SESSION.getCode()) &&
             err.getValidationIssueCode().equals(AssessmentStudentValidationIssueTypeCode.DUPLICATE_XAM_RECORD.getCode())
         )).isFalse();
+        assertThat(filesetDuplicateIndexService.hasDuplicateAssessmentSession(savedFileSet, demStudent.getPen(), "LTE10", "06", futureSessionYear)).isFalse();
     }
 
     @Test
@@ -5,10 +5,13 @@ import ca.bc.gov.educ.graddatacollection.api.BaseGradDataCollectionAPITest;
 import ca.bc.gov.educ.graddatacollection.api.constants.v1.GradRequirementYearCodes;
 import ca.bc.gov.educ.graddatacollection.api.constants.v1.StudentStatusCodes;
 import ca.bc.gov.educ.graddatacollection.api.constants.v1.ValidationFieldCode;
+import ca.bc.gov.educ.graddatacollection.api.properties.ApplicationProperties;
 import ca.bc.gov.educ.graddatacollection.api.repository.v1.*;
+import ca.bc.gov.educ.graddatacollection.api.rest.ExaminableCourseWindow;
 import ca.bc.gov.educ.graddatacollection.api.rest.RestUtils;
 import ca.bc.gov.educ.graddatacollection.api.rules.course.CourseStudentRulesProcessor;
 import ca.bc.gov.educ.graddatacollection.api.rules.course.CourseStudentValidationIssueTypeCode;
+import ca.bc.gov.educ.graddatacollection.api.service.v1.FilesetDuplicateIndexService;
 import ca.bc.gov.educ.graddatacollection.api.struct.external.coreg.v1.CoregCoursesRecord;
 import ca.bc.gov.educ.graddatacollection.api.struct.external.coreg.v1.CourseAllowableCreditRecord;
 import ca.bc.gov.educ.graddatacollection.api.struct.external.coreg.v1.CourseCharacteristicsRecord;
@@ -16,6 +19,7 @@ import ca.bc.gov.educ.graddatacollection.api.struct.external.coreg.v1.CourseCode
 import ca.bc.gov.educ.graddatacollection.api.struct.external.grad.v1.*;
 import ca.bc.gov.educ.graddatacollection.api.struct.external.institute.v1.SchoolTombstone;
 import ca.bc.gov.educ.graddatacollection.api.struct.external.studentapi.v1.Student;
+import ca.bc.gov.educ.graddatacollection.api.struct.v1.CourseStudentValidationIssue;
 import ca.bc.gov.educ.graddatacollection.api.struct.v1.StudentRuleData;
 import lombok.extern.slf4j.Slf4j;
 import lombok.val;
@@ -23,19 +27,23 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.MockitoAnnotations;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.test.context.TestPropertySource;
 
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.YearMonth;
 import java.time.format.DateTimeFormatter;
 import java.util.*;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
-import static org.mockito.Mockito.when;
+import static org.mockito.Mockito.*;
 
 @Slf4j
+@TestPropertySource(properties = "fileset.duplicate.index.max.size=50")
 class CourseRulesProcessorTest extends BaseGradDataCollectionAPITest {
 
     @Autowired
@@ -59,6 +67,12 @@ class CourseRulesProcessorTest extends BaseGradDataCollectionAPITest {
     @Autowired
     private ReportingPeriodRepository reportingPeriodRepository;
 
+    @Autowired
+    private ApplicationProperties props;
+
+    @Autowired
+    private FilesetDuplicateIndexService filesetDuplicateIndexService;
+
     @BeforeEach
     public void setUp() {
         MockitoAnnotations.openMocks(this);
@@ -68,18 +82,18 @@ class CourseRulesProcessorTest extends BaseGradDataCollectionAPITest {
         this.finalIncomingFilesetRepository.deleteAll();
         this.reportingPeriodRepository.deleteAll();
 
-        when(restUtils.getLetterGradeList(any())).thenReturn(
-                List.of(
-                        new LetterGrade("A", "4", "Y", "The student demonstrates excellent or outstanding performance in relation to expected learning outcomes for the course or subject and grade.", "A", 100, 86, null, "1940-01-01T08:00:00.000+00:00", "unitTests", LocalDateTime.now().toString(), "unitTests", LocalDateTime.now().toString()),
-                        new LetterGrade("B", "3", "Y", "", "B", 85, 73, null, "1940-01-01T08:00:00.000+00:00", "unitTests", LocalDateTime.now().toString(), "unitTests", LocalDateTime.now().toString()),
-                        new LetterGrade("C+", "2.5", "Y", "", "C+", 72, 67, null, "1940-01-01T08:00:00.000+00:00", "unitTests", LocalDateTime.now().toString(), "unitTests", LocalDateTime.now().toString()),
-                        new LetterGrade("F", "0", "N", "", "F", 49, 0, null, "1940-01-01T08:00:00.000+00:00", "unitTests", LocalDateTime.now().toString(), "unitTests", LocalDateTime.now().toString()),
-                        new LetterGrade("IE", "0", "N", "", "Insufficient Evidence", null, null, null, "1940-01-01T08:00:00.000+00:00", "unitTests", LocalDateTime.now().toString(), "unitTests", LocalDateTime.now().toString()),
-                        new LetterGrade("RM", "0", "Y", "", "Requirement Met", null, null, null, "1940-01-01T08:00:00.000+00:00", "unitTests", LocalDateTime.now().toString(), "unitTests", LocalDateTime.now().toString()),
-                        new LetterGrade("W", "0", "N", "", "Withdraw", null, null, null, "1940-01-01T08:00:00.000+00:00", "unitTests", LocalDateTime.now().toString(), "unitTests", LocalDateTime.now().toString()),
-                        new LetterGrade("FG1", "0", "Y", "", "Fake Grade 1", null, null, null, "1940-01-01T08:00:00.000+00:00", "unitTests", LocalDateTime.now().toString(), "unitTests", LocalDateTime.now().toString())
-                )
-        );
+        var letterGrades = List.of(
+                new LetterGrade("A", "4", "Y", "The student demonstrates excellent or outstanding performance in relation to expected learning outcomes for the course or subject and grade.", "A", 100, 86, null, "1940-01-01T08:00:00.000+00:00", "unitTests", LocalDateTime.now().toString(), "unitTests", LocalDateTime.now().toString()),
+                new LetterGrade("B", "3", "Y", "", "B", 85, 73, null, "1940-01-01T08:00:00.000+00:00", "unitTests", LocalDateTime.now().toString(), "unitTests", LocalDateTime.now().toString()),
+                new LetterGrade("C+", "2.5", "Y", "", "C+", 72, 67, null, "1940-01-01T08:00:00.000+00:00", "unitTests", LocalDateTime.now().toString(), "unitTests", LocalDateTime.now().toString()),
+                new LetterGrade("F", "0", "N", "", "F", 49, 0, null, "1940-01-01T08:00:00.000+00:00", "unitTests", LocalDateTime.now().toString(), "unitTests", LocalDateTime.now().toString()),
+                new LetterGrade("IE", "0", "N", "", "Insufficient Evidence", null, null, null, "1940-01-01T08:00:00.000+00:00", "unitTests", LocalDateTime.now().toString(), "unitTests", LocalDateTime.now().toString()),
+                new LetterGrade("RM", "0", "Y", "", "Requirement Met", null, null, null, "1940-01-01T08:00:00.000+00:00", "unitTests", LocalDateTime.now().toString(), "unitTests", LocalDateTime.now().toString()),
+                new LetterGrade("W", "0", "N", "", "Withdraw", null, null, null, "1940-01-01T08:00:00.000+00:00", "unitTests", LocalDateTime.now().toString(), "unitTests", LocalDateTime.now().toString()),
+                new LetterGrade("FG1", "0", "Y", "", "Fake Grade 1", null, null, null, "1940-01-01T08:00:00.000+00:00", "unitTests", LocalDateTime.now().toString(), "unitTests", LocalDateTime.now().toString())
+        );
+        when(restUtils.getLetterGradeList(any())).thenReturn(letterGrades);
+        when(restUtils.getLetterGradesByCode(any())).thenReturn(letterGrades.stream().collect(Collectors.toMap(LetterGrade::getGrade, Function.identity())));
         when(restUtils.getEquivalencyChallengeCodeList()).thenReturn(
                 List.of(
                         new EquivalencyChallengeCode("E", "Equivalency", "Indicates that the course credit was earned through an equivalency review.", "1", "1984-01-01 00:00:00.000", null, "unitTests", LocalDateTime.now().toString(), "unitTests", LocalDateTime.now().toString()),
@@ -232,6 +246,54 @@ class CourseRulesProcessorTest extends BaseGradDataCollectionAPITest {
         assertThat(validationError2.getFirst().getValidationIssueDescription()).isEqualTo(CourseStudentValidationIssueTypeCode.DEM_DATA_MISSING.getMessage());
     }
 
+    @Test
+    void testProcessRules_WhenConcurrentLookupsEnabledAndDemDataMissing_ShouldNotPrefetchForBlockedRules() {
+        var reportingPeriod = reportingPeriodRepository.save(createMockReportingPeriodEntity());
+        var incomingFileset = createMockIncomingFilesetEntityWithAllFilesLoaded(reportingPeriod);
+        var savedFileSet = incomingFilesetRepository.save(incomingFileset);
+        var courseStudent = createMockCourseStudent(savedFileSet);
+        courseStudent.setTransactionID("123");
+        clearInvocations(restUtils);
+
+        props.setRulesConcurrentLookupsEnabled(true);
+        try {
+            val validationError = rulesProcessor.processRules(createMockStudentRuleData(createMockDemographicStudent(incomingFileset), courseStudent, createMockAssessmentStudent(), createMockSchoolTombstone()));
+            assertThat(validationError.getFirst().getValidationIssueCode()).isEqualTo(CourseStudentValidationIssueTypeCode.DEM_DATA_MISSING.getCode());
+        } finally {
+            props.setRulesConcurrentLookupsEnabled(false);
+        }
+        verify(restUtils, never()).getCoursesByExternalID(any(), any());
+        verify(restUtils, never()).getStudentByPEN(any(), any());
+        verify(restUtils, never()).getStudentsByPENs(any(), any());
+        verify(restUtils, never()).getGradStudentRecordByStudentID(any(), any());
+    }
+
+    @Test
+    void testProcessRules_WhenConcurrentLookupsEnabled_ShouldMatchTheSerialResult() {
+        var reportingPeriod = reportingPeriodRepository.save(createMockReportingPeriodEntity());
+        var incomingFileset = createMockIncomingFilesetEntityWithAllFilesLoaded(reportingPeriod);
+        var savedFileSet = incomingFilesetRepository.save(incomingFileset);
+        var demStudent = createMockDemographicStudent(savedFileSet);
+        demographicStudentRepository.save(demStudent);
+        var courseStudent = createMockCourseStudent(savedFileSet);
+        courseStudent.setPen(demStudent.getPen());
+        courseStudent.setLocalID(demStudent.getLocalID());
+        courseStudent.setLastName(demStudent.getLastName());
+        courseStudent.setIncomingFileset(demStudent.getIncomingFileset());
+        val serialErrors = rulesProcessor.processRules(createMockStudentRuleData(demStudent, courseStudent, createMockAssessmentStudent(), createMockSchoolTombstone()));
+        clearInvocations(restUtils);
+
+        props.setRulesConcurrentLookupsEnabled(true);
+        try {
+            val concurrentErrors = rulesProcessor.processRules(createMockStudentRuleData(demStudent, courseStudent, createMockAssessmentStudent(), createMockSchoolTombstone()));
+            assertThat(concurrentErrors.stream().map(CourseStudentValidationIssue::getValidationIssueCode).toList())
+                    .isEqualTo(serialErrors.stream().map(CourseStudentValidationIssue::getValidationIssueCode).toList());
+        } finally {
+            props.setRulesConcurrentLookupsEnabled(false);
+        }
+        verify(restUtils, atLeastOnce()).getCoursesByExternalID(any(), any());
+    }
+
     @Test
     void testC01StudentLastNameRule() {
         var reportingPeriod = reportingPeriodRepository.save(createMockReportingPeriodEntity());
@@ -1164,12 +1226,16 @@ class CourseRulesProcessorTest extends BaseGradDataCollectionAPITest {
         courseStudentRepository.save(courseStudent);
         courseStudent.setCourseStudentID(null);
         courseStudentRepository.save(courseStudent);
+        filesetDuplicateIndexService.invalidateCourseDuplicates(savedFileSet.getIncomingFilesetID());
 
         val validationError2 = rulesProcessor.processRules(createMockStudentRuleData(demStudent, courseStudent, createMockAssessmentStudent(), createMockSchoolTombstone()));
         assertThat(validationError2.size()).isNotZero();
         assertThat(validationError2.getFirst().getValidationIssueFieldCode()).isEqualTo(ValidationFieldCode.PEN.getCode());
         assertThat(validationError2.getFirst().getValidationIssueCode()).isEqualTo(CourseStudentValidationIssueTypeCode.COURSE_SESSION_DUPLICATE.getCode());
         assertThat(validationError2.getFirst().getValidationIssueDescription()).isEqualTo(CourseStudentValidationIssueTypeCode.COURSE_SESSION_DUPLICATE.getMessage());
+        assertThat(filesetDuplicateIndexService.isEnabled()).isTrue();
+        assertThat(filesetDuplicateIndexService.hasDuplicateCourseSession(savedFileSet, courseStudent.getPen(), courseStudent.getCourseCode(), courseStudent.getCourseMonth(), courseStudent.getCourseYear(), courseStudent.getCourseLevel())).isTrue();
+        assertThat(filesetDuplicateIndexService.hasDuplicateCourseSession(savedFileSet, courseStudent.getPen(), courseStudent.getCourseCode(), courseStudent.getCourseMonth(), courseStudent.getCourseYear(), "99")).isFalse();
     }
 
     @Test
@@ -1191,12 +1257,16 @@ class CourseRulesProcessorTest extends BaseGradDataCollectionAPITest {
         courseStudentRepository.save(courseStudent);
         courseStudent.setCourseStudentID(null);
         courseStudentRepository.save(courseStudent);
+        filesetDuplicateIndexService.invalidateCourseDuplicates(savedFileSet.getIncomingFilesetID());
 
         val validationError2 = rulesProcessor.processRules(createMockStudentRuleData(demStudent, courseStudent, createMockAssessmentStudent(), createMockSchoolTombstone()));
         assertThat(validationError2.size()).isNotZero();
         assertThat(validationError2.getFirst().getValidationIssueFieldCode()).isEqualTo(ValidationFieldCode.PEN.getCode());
         assertThat(validationError2.getFirst().getValidationIssueCode()).isEqualTo(CourseStudentValidationIssueTypeCode.COURSE_SESSION_DUPLICATE.getCode());
         assertThat(validationError2.getFirst().getValidationIssueDescription()).isEqualTo(CourseStudentValidationIssueTypeCode.COURSE_SESSION_DUPLICATE.getMessage());
+        assertThat(filesetDuplicateIndexService.isEnabled()).isTrue();
+        assertThat(filesetDuplicateIndexService.hasDuplicateCourseSession(savedFileSet, courseStudent.getPen(), courseStudent.getCourseCode(), courseStudent.getCourseMonth(), courseStudent.getCourseYear(), courseStudent.getCourseLevel())).isTrue();
+        assertThat(filesetDuplicateIndexService.hasDuplicateCourseSession(savedFileSet, courseStudent.getPen(), courseStudent.getCourseCode(), courseStudent.getCourseMonth(), courseStudent.getCourseYear(), "99")).isFalse();
     }
 
     @Test
@@ -1455,10 +1525,10 @@ class CourseRulesProcessorTest extends BaseGradDataCollectionAPITest {
                 Optional.of(new GradCourseCode("3201860", "CLE  12", "39"))
         );
 
-        when(restUtils.getExaminableCourseByExternalID(any())).thenReturn(
+        when(restUtils.getExaminableCourseByExternalID(any())).thenReturn(ExaminableCourseWindow.ofAll(
                 List.of(new GradExaminableCourse(UUID.randomUUID(), "2018", "CLE", "12", "Creative Writing 12",
                         50, 50, null, null, "2020-01", "2024-12"))
-        );
+        ));
 
         // Course exists but no exam attached - should proceed to examinable check
         when(restUtils.getGradStudentCoursesByStudentID(any(), any())).thenReturn(
@@ -1491,10 +1561,10 @@ class CourseRulesProcessorTest extends BaseGradDataCollectionAPITest {
                 Optional.of(new GradCourseCode("3201860", "CLE  12", "39"))
         );
 
-        when(restUtils.getExaminableCourseByExternalID(any())).thenReturn(
+        when(restUtils.getExaminableCourseByExternalID(any())).thenReturn(ExaminableCourseWindow.ofAll(
                 List.of(new GradExaminableCourse(UUID.randomUUID(), "2018", "CLE", "12", "Creative Writing 12",
                         50, 50, null, null, "2020-01", "2024-12"))
-        );
+        ));
 
         when(restUtils.getGradStudentRecordByStudentID(any(), any())).thenReturn(
                 new GradStudentRecord(UUID.randomUUID().toString(), null, "2018", null, null, null, null, "N", Collections.emptyList())
@@ -1526,10 +1596,10 @@ class CourseRulesProcessorTest extends BaseGradDataCollectionAPITest {
         courseStudent.setFinalPercentage("95");
         courseStudent.setFinalLetterGrade("A");
 
-        when(restUtils.getExaminableCourseByExternalID(any())).thenReturn(
+        when(restUtils.getExaminableCourseByExternalID(any())).thenReturn(ExaminableCourseWindow.ofAll(
                 List.of(new GradExaminableCourse(UUID.randomUUID(), "2018", "CLE", "12", "Creative Writing 12",
                         50, 50, null, null, "2020-01", "2024-12"))
-        );
+        ));
 
         when(restUtils.getCoreg39CourseByID(any())).thenReturn(
                 Optional.of(new GradCourseCode("3201860", "CLE  12", "39"))
@@ -1561,10 +1631,10 @@ class CourseRulesProcessorTest extends BaseGradDataCollectionAPITest {
         courseStudent.setFinalPercentage("95");
         courseStudent.setFinalLetterGrade(null); // null grade
 
-        when(restUtils.getExaminableCourseByExternalID(any())).thenReturn(
+        when(restUtils.getExaminableCourseByExternalID(any())).thenReturn(ExaminableCourseWindow.ofAll(
                 List.of(new GradExaminableCourse(UUID.randomUUID(), "2018", "CLE", "12", "Creative Writing 12",
                         50, 50, null, null, "2020-01", "2024-12"))
-        );
+        ));
 
         when(restUtils.getCoreg39CourseByID(any())).thenReturn(
                 Optional.of(new GradCourseCode("3201860", "CLE  12", "39"))
@@ -1604,10 +1674,10 @@ class CourseRulesProcessorTest extends BaseGradDataCollectionAPITest {
                 Optional.of(new GradCourseCode("3201860", "CLE  12", "39"))
         );
 
-        when(restUtils.getExaminableCourseByExternalID(any())).thenReturn(
+        when(restUtils.getExaminableCourseByExternalID(any())).thenReturn(ExaminableCourseWindow.ofAll(
                 List.of(new GradExaminableCourse(UUID.randomUUID(), "2018", "CLE", "12", "Creative Writing 12",
                         50, 50, null, null, "2020-01", "2024-12"))
-        );
+        ));
 
         when(restUtils.getGradStudentRecordByStudentID(any(), any())).thenReturn(
                 new GradStudentRecord(UUID.randomUUID().toString(), null, "2018", null, null, null, null, "N", Collections.emptyList())
@@ -1643,10 +1713,10 @@ class CourseRulesProcessorTest extends BaseGradDataCollectionAPITest {
                 Optional.of(new GradCourseCode("3201860", "CLE  12", "39"))
         );
 
-        when(restUtils.getExaminableCourseByExternalID(any())).thenReturn(
+        when(restUtils.getExaminableCourseByExternalID(any())).thenReturn(ExaminableCourseWindow.ofAll(
                 List.of(new GradExaminableCourse(UUID.randomUUID(), "2018", "CLE", "12", "Creative Writing 12",
                         50, 50, null, null, "2020-01", "2024-12"))
-        );
+        ));
 
         when(restUtils.getGradStudentRecordByStudentID(any(), any())).thenReturn(
                 new GradStudentRecord(UUID.randomUUID().toString(), null, "2018", null, null, null, null, "N", Collections.emptyList())
@@ -1685,7 +1755,7 @@ class CourseRulesProcessorTest extends BaseGradDataCollectionAPITest {
                         "38" // originatingSystem
                 ))
         );
-        when(restUtils.getExaminableCourseByExternalID(any())).thenReturn(
+        when(restUtils.getExaminableCourseByExternalID(any())).thenReturn(ExaminableCourseWindow.ofAll(
                 List.of(new GradExaminableCourse(UUID.randomUUID(), "2018", "CLE", "12", "Creative Writing 12",
                         50, 50, null, null, "2020-01", "2024-12"),
                         new GradExaminableCourse(UUID.randomUUID(), "2019", "CLE", "12", "Creative Writing 12",
@@ -1694,7 +1764,7 @@ class CourseRulesProcessorTest extends BaseGradDataCollectionAPITest {
                                 50, 50, null, null, "2020-01", "2024-12"),
                         new GradExaminableCourse(UUID.randomUUID(), "2018", "CLE", "11", "Creative Writing 12",
                                 50, 50, null, null, "2020-01", "2024-12"))
-        );
+        ));
         when(restUtils.getGradStudentCoursesByStudentID(any(), any())).thenReturn(
                 List.of(new GradStudentCourseRecord("12345", "3201860", "2023/06", 100, "", 95, "A", 4, "", "", "", null, null, new GradCourseCode("3201860", "CLE  12", "38"), null))
         );
@@ -1736,10 +1806,10 @@ class CourseRulesProcessorTest extends BaseGradDataCollectionAPITest {
         courseStudent.setCourseYear("2023");
         courseStudent.setFinalPercentage("90");
 
-        when(restUtils.getExaminableCourseByExternalID(any())).thenReturn(
+        when(restUtils.getExaminableCourseByExternalID(any())).thenReturn(ExaminableCourseWindow.ofAll(
                 List.of(new GradExaminableCourse(UUID.randomUUID(), "2018", "CLE", "12", "Creative Writing 12",
                         50, 50, null, null, "2020-01", "2024-12"))
-        );
+        ));
         when(restUtils.getGradStudentCoursesByStudentID(any(), any())).thenReturn(
                 List.of(new GradStudentCourseRecord(null, "3201860", "2023/06", 100, "", 85, "A", 4, "", "", "", null, null, new GradCourseCode("3201860", "CLE  12", "38"), null))
         );
@@ -1770,10 +1840,10 @@ class CourseRulesProcessorTest extends BaseGradDataCollectionAPITest {
                 Optional.of(new GradCourseCode("3201860", "CLE  12", "39"))
         );
 
-        when(restUtils.getExaminableCourseByExternalID(any())).thenReturn(
+        when(restUtils.getExaminableCourseByExternalID(any())).thenReturn(ExaminableCourseWindow.ofAll(
                 List.of(new GradExaminableCourse(UUID.randomUUID(), "2018", "CLE", "12", "Creative Writing 12",
                         50, 50, null, null, "2020-01", "2024-12"))
-        );
+        ));
 
         when(restUtils.getGradStudentRecordByStudentID(any(), any())).thenReturn(
                 new GradStudentRecord(UUID.randomUUID().toString(), null, "2018", null, null, null, null, "N", Collections.emptyList())
@@ -1803,10 +1873,10 @@ class CourseRulesProcessorTest extends BaseGradDataCollectionAPITest {
         courseStudent.setCourseMonth("06");
         courseStudent.setCourseYear("2023");
 
-        when(restUtils.getExaminableCourseByExternalID(any())).thenReturn(
+        when(restUtils.getExaminableCourseByExternalID(any())).thenReturn(ExaminableCourseWindow.ofAll(
                 List.of(new GradExaminableCourse(UUID.randomUUID(), "2018", "CLE", "12", "Creative Writing 12",
                         50, 50, null, null, "2020-01", "2024-12"))
-        );
+        ));
         when(restUtils.getGradStudentCoursesByStudentID(any(), any())).thenReturn(Collections.emptyList());
 
         var validationErrors = rulesProcessor.processRules(createMockStudentRuleData(demStudent, courseStudent, createMockAssessmentStudent(), createMockSchoolTombstone()));
@@ -1844,10 +1914,10 @@ class CourseRulesProcessorTest extends BaseGradDataCollectionAPITest {
                 new GradStudentRecord(studentID, null, "2018", null, null, null, null, null, Collections.emptyList())
         );
 
-        when(restUtils.getExaminableCourseByExternalID(any())).thenReturn(
+        when(restUtils.getExaminableCourseByExternalID(any())).thenReturn(ExaminableCourseWindow.ofAll(
                 List.of(new GradExaminableCourse(UUID.randomUUID(), "2018", "CLE", "12", "Creative Writing 12",
                         50, 50, null, null, "2020-01", "2024-12"))
-        );
+        ));
         when(restUtils.getGradStudentCoursesByStudentID(any(), any())).thenReturn(Collections.emptyList());
 
         var validationErrors = rulesProcessor.processRules(createMockStudentRuleData(demStudent, courseStudent, createMockAssessmentStudent(), createMockSchoolTombstone()));
@@ -1871,10 +1941,10 @@ class CourseRulesProcessorTest extends BaseGradDataCollectionAPITest {
         courseStudent.setCourseYear("2023");
         courseStudent.setFinalPercentage("ninety");
 
-        when(restUtils.getExaminableCourseByExternalID(any())).thenReturn(
+        when(restUtils.getExaminableCourseByExternalID(any())).thenReturn(ExaminableCourseWindow.ofAll(
                 List.of(new GradExaminableCourse(UUID.randomUUID(), "2018", "CLE", "12", "Creative Writing 12",
                         50, 50, null, null, "2020-01", "2024-12"))
-        );
+        ));
         when(restUtils.getGradStudentCoursesByStudentID(any(), any())).thenReturn(
                 List.of(new GradStudentCourseRecord(null, "3201860", "2023/06", 100, "", 90, "A", 4, "", "", "", null, null, new GradCourseCode("3201860", "CLE  12", "38"), null))
         );
@@ -1898,10 +1968,10 @@ class CourseRulesProcessorTest extends BaseGradDataCollectionAPITest {
         courseStudent.setCourseMonth("06");
         courseStudent.setCourseYear("2023");
 
-        when(restUtils.getExaminableCourseByExternalID(any())).thenReturn(
+        when(restUtils.getExaminableCourseByExternalID(any())).thenReturn(ExaminableCourseWindow.ofAll(
                 List.of(new GradExaminableCourse(UUID.randomUUID(), "2018", "CLE", "12", "Creative Writing 12",
                         50, 50, null, null, "2020-01", "2024-12"))
-        );
+        ));
         var studentRuleData = createMockStudentRuleData(demStudent, courseStudent, createMockAssessmentStudent(), createMockSchoolTombstone());
 
         courseStudent.setFinalPercentage("90");
@@ -0,0 +1,107 @@
+package ca.bc.gov.educ.graddatacollection.api.rules;
+
+import ca.bc.gov.educ.graddatacollection.api.rules.course.CourseStudentValidationIssueTypeCode;
+import ca.bc.gov.educ.graddatacollection.api.rules.course.CourseValidationRulesDependencyMatrix;
+import ca.bc.gov.educ.graddatacollection.api.rules.demographic.DemographicStudentValidationIssueTypeCode;
+import ca.bc.gov.educ.graddatacollection.api.rules.demographic.DemographicValidationRulesDependencyMatrix;
+import ca.bc.gov.educ.graddatacollection.api.service.v1.BaseRulesService.RemoteLookup;
+import ca.bc.gov.educ.graddatacollection.api.struct.v1.CourseStudentValidationIssue;
+import ca.bc.gov.educ.graddatacollection.api.struct.v1.DemographicStudentValidationIssue;
+import org.junit.jupiter.api.Test;
+
+import java.util.*;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RuleDependencyGraphTest {
+
+    @Test
+    void testIsDependencyResolved_WhenCompiled_ShouldMatchMatrixLookupForEveryCourseRule() {
+        var graph = CourseValidationRulesDependencyMatrix.getDependencyGraph();
+        var random = new Random(42);
+        var issueCodes = Arrays.stream(CourseStudentValidationIssueTypeCode.values()).map(CourseStudentValidationIssueTypeCode::getCode).toList();
+
+        for (int i = 0; i < 500; i++) {
+            ValidationIssueList<CourseStudentValidationIssue> issueList = graph.newIssueList();
+            List<CourseStudentValidationIssue> plainList = new ArrayList<>();
+            for (int j = random.nextInt(4); j > 0; j--) {
+                var issue = new CourseStudentValidationIssue();
+                issue.setValidationIssueCode(issueCodes.get(random.nextInt(issueCodes.size())));
+                issueList.add(issue);
+                plainList.add(issue);
+            }
+            for (var entry : CourseValidationRulesDependencyMatrix.values()) {
+                boolean expected = plainList.stream().noneMatch(issue -> Arrays.asList(entry.getBaseRuleErrorCode()).contains(issue.getValidationIssueCode()));
+                assertEquals(expected, graph.isDependencyResolved(entry.getRuleID(), issueList), entry.getRuleID());
+                assertEquals(expected, graph.isDependencyResolved(entry.getRuleID(), plainList), entry.getRuleID());
+            }
+        }
+    }
+
+    @Test
+    void testIsDependencyResolved_WhenRuleNotInMatrix_ShouldReturnFalse() {
+        var graph = DemographicValidationRulesDependencyMatrix.getDependencyGraph();
+        assertFalse(graph.isDependencyResolved("D01", graph.newIssueList()));
+        assertTrue(graph.isDependencyResolved("d10", graph.newIssueList()));
+    }
+
+    @Test
+    void testIsDependencyResolved_WhenIssueRemoved_ShouldUnblockRule() {
+        var graph = DemographicValidationRulesDependencyMatrix.getDependencyGraph();
+        ValidationIssueList<DemographicStudentValidationIssue> issueList = graph.newIssueList();
+        var issue = new DemographicStudentValidationIssue();
+        issue.setValidationIssueCode(DemographicStudentValidationIssueTypeCode.STUDENT_PEN_NOT_FOUND.getCode());
+        issueList.add(issue);
+
+        assertFalse(graph.isDependencyResolved("D10", issueList));
+        issueList.remove(issue);
+        assertTrue(graph.isDependencyResolved("D10", issueList));
+    }
+
+    @Test
+    void testFindUnblockedRemoteLookups_WhenDemDataMissing_ShouldDropTheLookupsOfEveryBlockedRule() {
+        ValidationIssueList<CourseStudentValidationIssue> issueList = CourseValidationRulesDependencyMatrix.getDependencyGraph().newIssueList();
+        assertEquals(EnumSet.allOf(RemoteLookup.class), CourseValidationRulesDependencyMatrix.findUnblockedRemoteLookups(issueList));
+
+        var issue = new CourseStudentValidationIssue();
+        issue.setValidationIssueCode(CourseStudentValidationIssueTypeCode.COURSE_CODE_COREG_TRAX_INVALID.getCode());
+        issueList.add(issue);
+        assertEquals(EnumSet.of(RemoteLookup.STUDENT_API_STUDENT, RemoteLookup.COREG_COURSES, RemoteLookup.GRAD_STUDENT_RECORD), CourseValidationRulesDependencyMatrix.findUnblockedRemoteLookups(issueList));
+
+        var demIssue = new CourseStudentValidationIssue();
+        demIssue.setValidationIssueCode(CourseStudentValidationIssueTypeCode.DEM_DATA_MISSING.getCode());
+        issueList.add(demIssue);
+        assertTrue(CourseValidationRulesDependencyMatrix.findUnblockedRemoteLookups(issueList).isEmpty());
+    }
+
+    @Test
+    void testPollEvaluatedRuleID_WhenRuleChecked_ShouldReturnItOnce() {
+        var graph = DemographicValidationRulesDependencyMatrix.getDependencyGraph();
+        ValidationIssueList<DemographicStudentValidationIssue> issueList = graph.newIssueList();
+
+        assertFalse(graph.isBlocked("D12", issueList));
+        assertNull(issueList.pollEvaluatedRuleID());
+        graph.isDependencyResolved("d12", issueList);
+        assertEquals("D12", issueList.pollEvaluatedRuleID());
+        assertNull(issueList.pollEvaluatedRuleID());
+        assertTrue(DemographicValidationRulesDependencyMatrix.readsRemoteData("D12"));
+        assertFalse(DemographicValidationRulesDependencyMatrix.readsRemoteData("D13"));
+    }
+
+    @Test
+    void testFindByValue_WhenRuleIDInAnyCase_ShouldReturnMatrixEntry() {
+        for (var entry : CourseValidationRulesDependencyMatrix.values()) {
+            assertEquals(Optional.of(entry), CourseValidationRulesDependencyMatrix.findByValue(entry.getRuleID().toLowerCase()));
+        }
+        assertTrue(CourseValidationRulesDependencyMatrix.findByValue("C01").isEmpty());
+        assertTrue(CourseValidationRulesDependencyMatrix.findByValue(null).isEmpty());
+        assertFalse(CourseValidationRulesDependencyMatrix.readsRemoteData(null));
+    }
+
+    @Test
+    void testCompile_WhenMatrixReferencesUnknownCode_ShouldFail() {
+        var issueCodes = List.of("CODE_A");
+        var matrix = Map.of("X01", new String[]{"CODE_B"});
+        assertThrows(IllegalStateException.class, () -> RuleDependencyGraph.compile("test", issueCodes, matrix));
+    }
+}
@@ -5,6 +5,7 @@ import ca.bc.gov.educ.graddatacollection.api.constants.EventType;
 import ca.bc.gov.educ.graddatacollection.api.constants.TopicsEnum;
 import ca.bc.gov.educ.graddatacollection.api.messaging.MessagePublisher;
 import ca.bc.gov.educ.graddatacollection.api.model.v1.FinalIncomingFilesetPurgeEntity;
+import ca.bc.gov.educ.graddatacollection.api.model.v1.IncomingFilesetProgressEntity;
 import ca.bc.gov.educ.graddatacollection.api.model.v1.ReportingPeriodEntity;
 import ca.bc.gov.educ.graddatacollection.api.properties.ApplicationProperties;
 import ca.bc.gov.educ.graddatacollection.api.repository.v1.*;
@@ -25,6 +26,7 @@ import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.Month;
 import java.time.temporal.TemporalAdjusters;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
@@ -58,6 +60,10 @@ class EventTaskSchedulerTest extends BaseGradDataCollectionAPITest {
     AssessmentStudentRepository assessmentStudentRepository;
     @Autowired
     ReportingPeriodRepository reportingPeriodRepository;
+    @Autowired
+    IncomingFilesetProgressRepository incomingFilesetProgressRepository;
+    @Autowired
+    IncomingFilesetLightRepository incomingFilesetLightRepository;
     @Captor
     ArgumentCaptor<byte[]> eventCaptor;
 
@@ -70,6 +76,55 @@ class EventTaskSchedulerTest extends BaseGradDataCollectionAPITest {
         this.incomingFilesetPurgeRepository.deleteAll();
         this.finalIncomingFilesetPurgeRepository.deleteAll();
         this.reportingPeriodRepository.deleteAll();
+        this.incomingFilesetProgressRepository.deleteAll();
+    }
+
+    @Test
+    void testAdvanceFileset_WhenFilesetHasNoStudentsLeft_ShouldSendOnlyThatFilesetForCompletion() throws JsonProcessingException {
+        var reportingPeriod = reportingPeriodRepository.save(createMockReportingPeriodEntity());
+        List<UUID> filesetIDs = new ArrayList<>();
+        for (int i = 0; i < 2; i++) {
+            var filesetID = incomingFilesetRepository.save(createMockIncomingFilesetEntityWithAllFilesLoaded(reportingPeriod)).getIncomingFilesetID();
+            incomingFilesetProgressRepository.save(IncomingFilesetProgressEntity.builder().incomingFilesetID(filesetID).updateDate(LocalDateTime.now()).build());
+            filesetIDs.add(filesetID);
+        }
+
+        eventTaskSchedulerAsyncService.advanceFileset(filesetIDs.get(0));
+
+        verify(this.messagePublisher, timeout(5000).atLeastOnce()).dispatchMessage(eq(TopicsEnum.READ_COMPLETED_FILESETS_FROM_TOPIC.toString()), this.eventCaptor.capture());
+        List<String> completedFilesetIDs = new ArrayList<>();
+        for (byte[] message : this.eventCaptor.getAllValues()) {
+            completedFilesetIDs.add(JsonUtil.getJsonObjectFromString(Event.class, new String(message)).getIncomingFilesetID());
+        }
+        assertThat(completedFilesetIDs).contains(filesetIDs.get(0).toString()).doesNotContain(filesetIDs.get(1).toString());
+    }
+
+    @Test
+    void testAdvanceFileset_WhenCountersAreStale_ShouldRecountAndSendFilesetForCompletion() throws JsonProcessingException {
+        var reportingPeriod = reportingPeriodRepository.save(createMockReportingPeriodEntity());
+        var filesetID = incomingFilesetRepository.save(createMockIncomingFilesetEntityWithAllFilesLoaded(reportingPeriod)).getIncomingFilesetID();
+        incomingFilesetProgressRepository.save(IncomingFilesetProgressEntity.builder().incomingFilesetID(filesetID).demLoadedCount(1).updateDate(LocalDateTime.now()).build());
+
+        eventTaskSchedulerAsyncService.advanceFileset(filesetID);
+
+        verify(this.messagePublisher, timeout(5000).atLeastOnce()).dispatchMessage(eq(TopicsEnum.READ_COMPLETED_FILESETS_FROM_TOPIC.toString()), this.eventCaptor.capture());
+        assertThat(JsonUtil.getJsonObjectFromString(Event.class, new String(this.eventCaptor.getValue())).getIncomingFilesetID()).isEqualTo(filesetID.toString());
+        assertThat(incomingFilesetProgressRepository.findById(filesetID)).hasValueSatisfying(progress -> assertThat(progress.getDemLoadedCount()).isZero());
+    }
+
+    @Test
+    void testFindCompletedCollectionsForStatusUpdate_WhenProgressRowMissing_ShouldCheckStudentStatuses() {
+        var reportingPeriod = reportingPeriodRepository.save(createMockReportingPeriodEntity());
+        var completedFileset = incomingFilesetRepository.save(createMockIncomingFilesetEntityWithAllFilesLoaded(reportingPeriod));
+        var loadedFileset = incomingFilesetRepository.save(createMockIncomingFilesetEntityWithAllFilesLoaded(reportingPeriod));
+        var demographicStudentEntity = createMockDemographicStudent(loadedFileset);
+        demographicStudentEntity.setDemographicStudentID(null);
+        demographicStudentEntity.setStudentStatusCode("LOADED");
+        demographicStudentRepository.save(demographicStudentEntity);
+
+        assertThat(incomingFilesetLightRepository.findCompletedCollectionsForStatusUpdate()).contains(completedFileset.getIncomingFilesetID()).doesNotContain(loadedFileset.getIncomingFilesetID());
+        assertThat(incomingFilesetLightRepository.countCompletedCollectionForStatusUpdate(completedFileset.getIncomingFilesetID())).isEqualTo(1);
+        assertThat(incomingFilesetLightRepository.countCompletedCollectionForStatusUpdate(loadedFileset.getIncomingFilesetID())).isZero();
     }
 
     @Test
@@ -99,6 +154,40 @@ class EventTaskSchedulerTest extends BaseGradDataCollectionAPITest {
         assertThat(newEvent.getEventType()).isEqualTo(EventType.READ_DEM_STUDENTS_FOR_PROCESSING);
     }
 
+    @Test
+    void testFindAndPublishLoadedStudentRecordsForProcessing_MultipleFilesets_ShouldPublishStudentsFromEachFileset() throws JsonProcessingException {
+        var school = this.createMockSchoolTombstone();
+        school.setMincode("07965039");
+        when(this.restUtils.getSchoolBySchoolID(anyString())).thenReturn(Optional.of(school));
+        var reportingPeriod = reportingPeriodRepository.save(createMockReportingPeriodEntity());
+
+        List<String> demographicStudentIDs = new ArrayList<>();
+        for (int i = 0; i < 2; i++) {
+            var mockFileset = createMockIncomingFilesetEntityWithAllFilesLoaded(reportingPeriod);
+            mockFileset.setSchoolID(UUID.fromString(school.getSchoolId()));
+            mockFileset.setUpdateDate(LocalDateTime.now().minusMinutes(10L - i));
+            incomingFilesetRepository.save(mockFileset);
+
+            var demographicStudentEntity = createMockDemographicStudent(mockFileset);
+            demographicStudentEntity.setDemographicStudentID(null);
+            demographicStudentEntity.setStudentStatusCode("LOADED");
+            demographicStudentEntity.setCreateDate(LocalDateTime.now().minusMinutes(14));
+            demographicStudentEntity.setUpdateDate(LocalDateTime.now());
+            demographicStudentEntity.setCreateUser(ApplicationProperties.GRAD_DATA_COLLECTION_API);
+            demographicStudentEntity.setUpdateUser(ApplicationProperties.GRAD_DATA_COLLECTION_API);
+            demographicStudentIDs.add(demographicStudentRepository.save(demographicStudentEntity).getDemographicStudentID().toString());
+        }
+
+        eventTaskSchedulerAsyncService.findAndPublishLoadedStudentRecordsForProcessing();
+
+        verify(this.messagePublisher, atLeast(2)).dispatchMessage(eq(TopicsEnum.READ_DEM_STUDENTS_FROM_TOPIC.toString()), this.eventCaptor.capture());
+        List<String> publishedStudentIDs = new ArrayList<>();
+        for (byte[] message : this.eventCaptor.getAllValues()) {
+            publishedStudentIDs.add(JsonUtil.getJsonObjectFromString(Event.class, new String(message)).getDemographicStudentID());
+        }
+        assertThat(publishedStudentIDs).containsAll(demographicStudentIDs);
+    }
+
     @Test
     void testFindAndPublishLoadedStudentRecordsForProcessing_CourseStudents() throws JsonProcessingException {
         var school = this.createMockSchoolTombstone();
@@ -0,0 +1,114 @@
+package ca.bc.gov.educ.graddatacollection.api.schedulers;
+
+import ca.bc.gov.educ.graddatacollection.api.constants.SagaEnum;
+import ca.bc.gov.educ.graddatacollection.api.model.v1.GradSagaEntity;
+import ca.bc.gov.educ.graddatacollection.api.properties.ApplicationProperties;
+import ca.bc.gov.educ.graddatacollection.api.repository.v1.SagaRepository;
+import ca.bc.gov.educ.graddatacollection.api.service.v1.events.schedulers.EventTaskSchedulerAsyncService;
+import ca.bc.gov.educ.graddatacollection.api.service.v1.events.schedulers.FilesetProgressTracker;
+import net.javacrumbs.shedlock.core.LockProvider;
+import net.javacrumbs.shedlock.core.SimpleLock;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.ObjectProvider;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+class FilesetProgressTrackerTest {
+
+    private SagaRepository sagaRepository;
+    private EventTaskSchedulerAsyncService asyncService;
+    private LockProvider lockProvider;
+    private ApplicationProperties props;
+    private ObjectProvider<EventTaskSchedulerAsyncService> asyncServiceProvider;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        sagaRepository = mock(SagaRepository.class);
+        asyncService = mock(EventTaskSchedulerAsyncService.class);
+        when(asyncService.getStatusFilters()).thenReturn(List.of("IN_PROGRESS", "STARTED"));
+        asyncServiceProvider = mock(ObjectProvider.class);
+        when(asyncServiceProvider.getObject()).thenReturn(asyncService);
+        lockProvider = mock(LockProvider.class);
+        when(lockProvider.lock(any())).thenReturn(Optional.of(mock(SimpleLock.class)));
+        props = mock(ApplicationProperties.class);
+        when(props.getFilesetProgressEventDrivenEnabled()).thenReturn(true);
+        when(props.getFilesetProgressDebounceMs()).thenReturn(100L);
+        when(props.getProcessLoadedStudentsLockAtMostFor()).thenReturn("1900ms");
+    }
+
+    @Test
+    void testSagaCompleted_WhenLastSagaOfBatchCompletes_ShouldAdvanceFilesetOnce() {
+        UUID filesetID = UUID.randomUUID();
+        when(sagaRepository.countAllByIncomingFilesetIDAndStatusIn(eq(filesetID), anyList())).thenReturn(0L);
+        var tracker = new FilesetProgressTracker(sagaRepository, asyncServiceProvider, lockProvider, props);
+
+        tracker.sagaCompleted(saga(filesetID, SagaEnum.PROCESS_DEM_STUDENTS_SAGA));
+        tracker.sagaCompleted(saga(filesetID, SagaEnum.PROCESS_DEM_STUDENTS_SAGA));
+        tracker.sagaCompleted(saga(filesetID, SagaEnum.PROCESS_DEM_STUDENTS_SAGA));
+
+        verify(asyncService, after(1000).times(1)).advanceFileset(filesetID);
+        verify(lockProvider, times(1)).lock(argThat(lockConfiguration -> EventTaskSchedulerAsyncService.PROCESS_LOADED_STUDENTS_LOCK.equals(lockConfiguration.getName())));
+    }
+
+    @Test
+    void testSagaCompleted_WhenSchedulerHoldsTheLock_ShouldRetryTheCheck() {
+        UUID filesetID = UUID.randomUUID();
+        when(sagaRepository.countAllByIncomingFilesetIDAndStatusIn(eq(filesetID), anyList())).thenReturn(0L);
+        when(lockProvider.lock(any())).thenReturn(Optional.empty(), Optional.of(mock(SimpleLock.class)));
+        var tracker = new FilesetProgressTracker(sagaRepository, asyncServiceProvider, lockProvider, props);
+
+        tracker.sagaCompleted(saga(filesetID, SagaEnum.PROCESS_ASSESSMENT_STUDENTS_SAGA));
+
+        verify(asyncService, timeout(1000).times(1)).advanceFileset(filesetID);
+        verify(lockProvider, times(2)).lock(any());
+    }
+
+    @Test
+    void testShutdown_ShouldStopCheckingFilesets() {
+        var tracker = new FilesetProgressTracker(sagaRepository, asyncServiceProvider, lockProvider, props);
+
+        tracker.shutdown();
+        tracker.sagaCompleted(saga(UUID.randomUUID(), SagaEnum.PROCESS_DEM_STUDENTS_SAGA));
+
+        verify(sagaRepository, after(300).never()).countAllByIncomingFilesetIDAndStatusIn(any(), anyList());
+    }
+
+    @Test
+    void testSagaCompleted_WhenSagasStillInFlight_ShouldLeaveFilesetAlone() {
+        UUID filesetID = UUID.randomUUID();
+        when(sagaRepository.countAllByIncomingFilesetIDAndStatusIn(eq(filesetID), anyList())).thenReturn(3L);
+        var tracker = new FilesetProgressTracker(sagaRepository, asyncServiceProvider, lockProvider, props);
+
+        tracker.sagaCompleted(saga(filesetID, SagaEnum.PROCESS_COURSE_STUDENTS_SAGA));
+
+        verify(sagaRepository, timeout(1000).times(1)).countAllByIncomingFilesetIDAndStatusIn(eq(filesetID), anyList());
+        verify(asyncService, after(300).never()).advanceFileset(any());
+    }
+
+    @Test
+    void testSagaCompleted_WhenCompletedFilesetSagaOrDisabled_ShouldNotCheckFileset() {
+        var tracker = new FilesetProgressTracker(sagaRepository, asyncServiceProvider, lockProvider, props);
+        tracker.sagaCompleted(saga(UUID.randomUUID(), SagaEnum.PROCESS_COMPLETED_FILESETS_SAGA));
+
+        when(props.getFilesetProgressEventDrivenEnabled()).thenReturn(false);
+        var disabledTracker = new FilesetProgressTracker(sagaRepository, asyncServiceProvider, lockProvider, props);
+        disabledTracker.sagaCompleted(saga(UUID.randomUUID(), SagaEnum.PROCESS_DEM_STUDENTS_SAGA));
+
+        verify(sagaRepository, after(300).never()).countAllByIncomingFilesetIDAndStatusIn(any(), anyList());
+        verifyNoInteractions(asyncService);
+    }
+
+    private static GradSagaEntity saga(UUID incomingFilesetID, SagaEnum sagaName) {
+        return GradSagaEntity.builder().incomingFilesetID(incomingFilesetID).sagaName(sagaName.toString()).build();
+    }
+}
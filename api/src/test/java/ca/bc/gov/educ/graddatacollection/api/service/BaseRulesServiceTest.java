@@ -0,0 +1,128 @@
+package ca.bc.gov.educ.graddatacollection.api.service;
+
+import ca.bc.gov.educ.graddatacollection.api.exception.EntityNotFoundException;
+import ca.bc.gov.educ.graddatacollection.api.exception.GradDataCollectionAPIRuntimeException;
+import ca.bc.gov.educ.graddatacollection.api.model.v1.CourseStudentEntity;
+import ca.bc.gov.educ.graddatacollection.api.model.v1.DemographicStudentEntity;
+import ca.bc.gov.educ.graddatacollection.api.model.v1.IncomingFilesetEntity;
+import ca.bc.gov.educ.graddatacollection.api.properties.ApplicationProperties;
+import ca.bc.gov.educ.graddatacollection.api.rest.RestUtils;
+import ca.bc.gov.educ.graddatacollection.api.rest.StudentPenLookupBatcher;
+import ca.bc.gov.educ.graddatacollection.api.service.v1.BaseRulesService;
+import ca.bc.gov.educ.graddatacollection.api.service.v1.BaseRulesService.RemoteLookup;
+import ca.bc.gov.educ.graddatacollection.api.service.v1.FilesetStudentCacheService;
+import ca.bc.gov.educ.graddatacollection.api.struct.external.coreg.v1.CoregCoursesRecord;
+import ca.bc.gov.educ.graddatacollection.api.struct.external.grad.v1.GradStudentRecord;
+import ca.bc.gov.educ.graddatacollection.api.struct.external.studentapi.v1.Student;
+import ca.bc.gov.educ.graddatacollection.api.struct.v1.StudentRuleData;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+class BaseRulesServiceTest {
+
+    private RestUtils restUtils;
+    private StudentPenLookupBatcher studentPenLookupBatcher;
+    private BaseRulesService baseRulesService;
+
+    @BeforeEach
+    void setUp() {
+        restUtils = mock(RestUtils.class);
+        studentPenLookupBatcher = mock(StudentPenLookupBatcher.class);
+        ApplicationProperties props = mock(ApplicationProperties.class);
+        when(props.getFilesetStudentCacheMaxSize()).thenReturn(0L);
+        when(props.getFilesetStudentCacheExpiryInMinutes()).thenReturn(60L);
+        baseRulesService = new BaseRulesService(restUtils, studentPenLookupBatcher, new FilesetStudentCacheService(props, new SimpleMeterRegistry()));
+    }
+
+    @Test
+    void testPrefetchRemoteData_WhenCourseStudent_ShouldLoadEveryLookupOnce() {
+        var studentID = UUID.randomUUID().toString();
+        when(studentPenLookupBatcher.getStudentByPEN("123456789")).thenReturn(Student.builder().pen("123456789").studentID(studentID).build());
+        when(restUtils.getCoursesByExternalID(any(UUID.class), anyString())).thenReturn(new CoregCoursesRecord());
+        when(restUtils.getGradStudentRecordByStudentID(any(UUID.class), any(UUID.class))).thenReturn(new GradStudentRecord());
+        when(restUtils.getGradStudentCoursesByStudentID(any(UUID.class), anyString())).thenReturn(new ArrayList<>());
+
+        var courseStudent = CourseStudentEntity.builder().pen("123456789").courseCode("MATH").courseLevel("12").relatedCourse("ENG").relatedLevel("12").build();
+        var studentRuleData = new StudentRuleData();
+        studentRuleData.setCourseStudentEntity(courseStudent);
+
+        baseRulesService.prefetchRemoteData(studentRuleData, "123456789", EnumSet.allOf(RemoteLookup.class));
+
+        assertNotNull(baseRulesService.getStudentApiStudent(studentRuleData, "123456789"));
+        assertNotNull(baseRulesService.getGradStudentRecord(studentRuleData, "123456789"));
+        assertNotNull(baseRulesService.getCoregCoursesRecord(studentRuleData, "MATH", "12"));
+        assertNotNull(baseRulesService.getCoregRelatedCoursesRecord(studentRuleData, "ENG", "12"));
+        assertNotNull(baseRulesService.getStudentCourseRecord(studentRuleData, studentID));
+        verify(studentPenLookupBatcher, times(1)).getStudentByPEN("123456789");
+        verify(restUtils, times(2)).getCoursesByExternalID(any(UUID.class), anyString());
+        verify(restUtils, times(1)).getGradStudentRecordByStudentID(any(UUID.class), any(UUID.class));
+        verify(restUtils, times(1)).getGradStudentCoursesByStudentID(any(UUID.class), anyString());
+    }
+
+    @Test
+    void testPrefetchRemoteData_WhenOnlyCoregLookupsRequested_ShouldSkipStudentLookups() {
+        when(restUtils.getCoursesByExternalID(any(UUID.class), anyString())).thenReturn(new CoregCoursesRecord());
+
+        var courseStudent = CourseStudentEntity.builder().pen("123456789").courseCode("MATH").courseLevel("12").relatedCourse("ENG").relatedLevel("12").build();
+        var studentRuleData = new StudentRuleData();
+        studentRuleData.setCourseStudentEntity(courseStudent);
+
+        baseRulesService.prefetchRemoteData(studentRuleData, "123456789", EnumSet.of(RemoteLookup.COREG_COURSES));
+
+        assertNotNull(studentRuleData.getCoregCoursesRecord());
+        assertNull(studentRuleData.getCoregRelatedCoursesRecord());
+        verify(restUtils, times(1)).getCoursesByExternalID(any(UUID.class), anyString());
+        verify(studentPenLookupBatcher, never()).getStudentByPEN(anyString());
+        verify(restUtils, never()).getGradStudentRecordByStudentID(any(UUID.class), any(UUID.class));
+        verify(restUtils, never()).getGradStudentCoursesByStudentID(any(UUID.class), anyString());
+    }
+
+    @Test
+    void testGetGradStudentRecord_WhenCacheEnabled_ShouldNotServeTheDemStageRecordToTheCourseStage() {
+        ApplicationProperties props = mock(ApplicationProperties.class);
+        when(props.getFilesetStudentCacheMaxSize()).thenReturn(100L);
+        when(props.getFilesetStudentCacheExpiryInMinutes()).thenReturn(60L);
+        var cachingRulesService = new BaseRulesService(restUtils, studentPenLookupBatcher, new FilesetStudentCacheService(props, new SimpleMeterRegistry()));
+        var incomingFileset = IncomingFilesetEntity.builder().incomingFilesetID(UUID.randomUUID()).build();
+        when(studentPenLookupBatcher.getStudentByPEN("123456789")).thenReturn(Student.builder().pen("123456789").studentID(UUID.randomUUID().toString()).build());
+        when(restUtils.getGradStudentRecordByStudentID(any(UUID.class), any(UUID.class)))
+                .thenThrow(new EntityNotFoundException(GradStudentRecord.class))
+                .thenReturn(new GradStudentRecord());
+
+        var demStudentRuleData = new StudentRuleData();
+        demStudentRuleData.setDemographicStudentEntity(DemographicStudentEntity.builder().pen("123456789").incomingFileset(incomingFileset).build());
+        assertNull(cachingRulesService.getGradStudentRecord(demStudentRuleData, "123456789"));
+        var otherDemStudentRuleData = new StudentRuleData();
+        otherDemStudentRuleData.setDemographicStudentEntity(DemographicStudentEntity.builder().pen("123456789").incomingFileset(incomingFileset).build());
+        assertNull(cachingRulesService.getGradStudentRecord(otherDemStudentRuleData, "123456789"));
+
+        var courseStudentRuleData = new StudentRuleData();
+        courseStudentRuleData.setCourseStudentEntity(CourseStudentEntity.builder().pen("123456789").incomingFileset(incomingFileset).build());
+        assertNotNull(cachingRulesService.getGradStudentRecord(courseStudentRuleData, "123456789"));
+
+        verify(studentPenLookupBatcher, times(1)).getStudentByPEN("123456789");
+        verify(restUtils, times(2)).getGradStudentRecordByStudentID(any(UUID.class), any(UUID.class));
+    }
+
+    @Test
+    void testPrefetchRemoteData_WhenStudentLookupFails_ShouldLeaveLookupToRules() {
+        when(studentPenLookupBatcher.getStudentByPEN("123456789")).thenThrow(new GradDataCollectionAPIRuntimeException("timeout"));
+
+        var studentRuleData = new StudentRuleData();
+        baseRulesService.prefetchRemoteData(studentRuleData, "123456789", EnumSet.allOf(RemoteLookup.class));
+
+        assertNotEquals(Boolean.TRUE, studentRuleData.getStudentApiStudentFetched());
+        assertNull(studentRuleData.getGradStudentRecord());
+        verify(restUtils, never()).getGradStudentRecordByStudentID(any(UUID.class), any(UUID.class));
+    }
+}
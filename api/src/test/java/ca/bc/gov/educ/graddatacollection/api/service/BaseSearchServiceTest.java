@@ -0,0 +1,52 @@
+package ca.bc.gov.educ.graddatacollection.api.service;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static ca.bc.gov.educ.graddatacollection.api.service.v1.BaseSearchService.getPositionInQueue;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class BaseSearchServiceTest {
+
+    private static final LocalDateTime FIRST = LocalDateTime.of(2025, 1, 10, 9, 0);
+    private static final LocalDateTime SECOND = FIRST.plusMinutes(5);
+    private static final LocalDateTime THIRD = FIRST.plusMinutes(10);
+
+    @Test
+    void testGetPositionInQueue_WhenQueueIsEmpty_ShouldReturnZero() {
+        assertEquals(0, getPositionInQueue(List.of(), FIRST));
+    }
+
+    @Test
+    void testGetPositionInQueue_WhenDateIsBeforeTheFirstEntry_ShouldReturnZero() {
+        assertEquals(0, getPositionInQueue(List.of(FIRST, SECOND, THIRD), FIRST.minusNanos(1000)));
+    }
+
+    @Test
+    void testGetPositionInQueue_WhenDateIsAfterTheLastEntry_ShouldReturnQueueSize() {
+        assertEquals(3, getPositionInQueue(List.of(FIRST, SECOND, THIRD), THIRD.plusSeconds(1)));
+    }
+
+    @Test
+    void testGetPositionInQueue_WhenDateIsQueued_ShouldReturnItsOneBasedPosition() {
+        var queue = List.of(FIRST, SECOND, THIRD);
+        assertEquals(1, getPositionInQueue(queue, FIRST));
+        assertEquals(2, getPositionInQueue(queue, SECOND));
+        assertEquals(3, getPositionInQueue(queue, THIRD));
+    }
+
+    @Test
+    void testGetPositionInQueue_WhenDateIsBetweenEntries_ShouldCountTheEarlierEntries() {
+        assertEquals(1, getPositionInQueue(List.of(FIRST, SECOND, THIRD), FIRST.plusMinutes(1)));
+    }
+
+    @Test
+    void testGetPositionInQueue_WhenTimestampsAreDuplicated_ShouldPlaceEveryDuplicateAfterAllOfThem() {
+        var queue = List.of(FIRST, SECOND, SECOND, SECOND, THIRD);
+        assertEquals(4, getPositionInQueue(queue, SECOND));
+        assertEquals(5, getPositionInQueue(queue, THIRD));
+        assertEquals(2, getPositionInQueue(List.of(FIRST, FIRST), FIRST));
+    }
+}
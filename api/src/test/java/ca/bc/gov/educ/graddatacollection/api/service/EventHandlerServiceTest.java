@@ -30,6 +30,8 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.mock.mockito.MockBean;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
@@ -158,6 +160,49 @@ class EventHandlerServiceTest extends BaseGradDataCollectionAPITest {
         assertThat(sagaEntity).hasSize(1);
     }
 
+    @Test
+    void testHandleProcessCourseStudentBatchEvent_WhenRepeated_ShouldCreateOneSagaPerStudent() throws JsonProcessingException {
+        var school = this.createMockSchoolTombstone();
+        school.setMincode("07965039");
+        when(this.restUtils.getSchoolBySchoolID(anyString())).thenReturn(Optional.of(school));
+        var reportingPeriod = reportingPeriodRepository.save(createMockReportingPeriodEntity());
+        var mockFileset = createMockIncomingFilesetEntityWithAllFilesLoaded(reportingPeriod);
+        mockFileset.setSchoolID(UUID.fromString(school.getSchoolId()));
+        var savedFileset = incomingFilesetRepository.save(mockFileset);
+
+        List<CourseStudentSagaData> batch = new ArrayList<>();
+        List<UUID> courseStudentIDs = new ArrayList<>();
+        for (int i = 0; i < 2; i++) {
+            var courseStudentEntity = createMockCourseStudent(savedFileset);
+            courseStudentEntity.setCourseStudentID(null);
+            courseStudentEntity.setStudentStatusCode("LOADED");
+            courseStudentEntity.setCreateUser(ApplicationProperties.GRAD_DATA_COLLECTION_API);
+            courseStudentEntity.setUpdateUser(ApplicationProperties.GRAD_DATA_COLLECTION_API);
+            courseStudentRepository.save(courseStudentEntity);
+            courseStudentIDs.add(courseStudentEntity.getCourseStudentID());
+            batch.add(CourseStudentSagaData.builder()
+                    .courseStudentID(courseStudentEntity.getCourseStudentID().toString())
+                    .incomingFilesetID(savedFileset.getIncomingFilesetID().toString())
+                    .schoolID(school.getSchoolId())
+                    .build());
+        }
+        batch.add(batch.get(0));
+
+        val event = Event.builder()
+                .eventType(EventType.READ_COURSE_STUDENT_BATCH_FOR_PROCESSING)
+                .eventOutcome(EventOutcome.READ_COURSE_STUDENT_BATCH_FOR_PROCESSING_SUCCESS)
+                .eventPayload(JsonUtil.getJsonStringFromObject(batch)).build();
+
+        eventHandlerService.handleProcessCourseStudentBatchEvent(event);
+        eventHandlerService.handleProcessCourseStudentBatchEvent(event);
+
+        for (UUID courseStudentID : courseStudentIDs) {
+            var sagaEntity = sagaRepository.findByCourseStudentIDAndIncomingFilesetIDAndSagaNameAndStatusNot(courseStudentID, savedFileset.getIncomingFilesetID(), "PROCESS_COURSE_STUDENTS_SAGA", "COMPLETED");
+            assertThat(sagaEntity).hasSize(1);
+            assertThat(sagaEntity.get(0).getPayload()).contains(courseStudentID.toString()).doesNotContain("courseStudent\"");
+        }
+    }
+
     @Test
     void testHandleProcessAssessmentStudentsEvent() throws JsonProcessingException {
         var school = this.createMockSchoolTombstone();
@@ -0,0 +1,88 @@
+package ca.bc.gov.educ.graddatacollection.api.service;
+
+import ca.bc.gov.educ.graddatacollection.api.model.v1.IncomingFilesetEntity;
+import ca.bc.gov.educ.graddatacollection.api.properties.ApplicationProperties;
+import ca.bc.gov.educ.graddatacollection.api.repository.v1.AssessmentStudentRepository;
+import ca.bc.gov.educ.graddatacollection.api.repository.v1.CourseStudentRepository;
+import ca.bc.gov.educ.graddatacollection.api.service.v1.FilesetDuplicateIndexService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.*;
+
+class FilesetDuplicateIndexServiceTest {
+
+    private CourseStudentRepository courseStudentRepository;
+    private AssessmentStudentRepository assessmentStudentRepository;
+    private FilesetDuplicateIndexService indexService;
+
+    @BeforeEach
+    void setUp() {
+        courseStudentRepository = mock(CourseStudentRepository.class);
+        assessmentStudentRepository = mock(AssessmentStudentRepository.class);
+        ApplicationProperties props = mock(ApplicationProperties.class);
+        when(props.getFilesetDuplicateIndexMaxSize()).thenReturn(10L);
+        when(props.getFilesetStudentCacheExpiryInMinutes()).thenReturn(60L);
+        indexService = new FilesetDuplicateIndexService(props, courseStudentRepository, assessmentStudentRepository);
+    }
+
+    @Test
+    void testHasDuplicateCourseSession_WhenCalledPerRecord_ShouldQueryFilesetOnce() {
+        var fileset = createFileset();
+        when(courseStudentRepository.findDuplicateCourseSessions(fileset.getIncomingFilesetID())).thenReturn(rows(new Object[]{"123456789", "MATH", "01", "2024", "12"}));
+
+        assertTrue(indexService.hasDuplicateCourseSession(fileset, "123456789", "MATH", "01", "2024", "12"));
+        assertFalse(indexService.hasDuplicateCourseSession(fileset, "123456789", "MATH", "01", "2024", "11"));
+        assertFalse(indexService.hasDuplicateCourseSession(fileset, "987654321", "MATH", "01", "2024", "12"));
+        verify(courseStudentRepository, times(1)).findDuplicateCourseSessions(any());
+    }
+
+    @Test
+    void testHasDuplicateCourseSession_WhenCrsFileReplaced_ShouldRebuildIndex() {
+        var fileset = createFileset();
+        when(courseStudentRepository.findDuplicateCourseSessions(fileset.getIncomingFilesetID()))
+                .thenReturn(rows(new Object[]{"123456789", "MATH", "01", "2024", "12"}))
+                .thenReturn(new ArrayList<>());
+
+        assertTrue(indexService.hasDuplicateCourseSession(fileset, "123456789", "MATH", "01", "2024", "12"));
+        fileset.setCrsFileUploadDate(fileset.getCrsFileUploadDate().plusMinutes(5));
+        assertFalse(indexService.hasDuplicateCourseSession(fileset, "123456789", "MATH", "01", "2024", "12"));
+        verify(courseStudentRepository, times(2)).findDuplicateCourseSessions(any());
+    }
+
+    @Test
+    void testHasDuplicateAssessmentSession_WhenInvalidated_ShouldRebuildIndex() {
+        var fileset = createFileset();
+        when(assessmentStudentRepository.findDuplicateAssessmentSessions(fileset.getIncomingFilesetID())).thenReturn(rows(new Object[]{"123456789", "LTE10", "01", "2024"}));
+        when(assessmentStudentRepository.findDuplicateNumeracySessions(any(), anyList())).thenReturn(rows(new Object[]{"123456789", "11", "2024"}));
+
+        assertTrue(indexService.hasDuplicateAssessmentSession(fileset, "123456789", "LTE10", "01", "2024"));
+        assertTrue(indexService.hasDuplicateNumeracySession(fileset, "123456789", "11", "2024"));
+        assertFalse(indexService.hasDuplicateNumeracySession(fileset, "123456789", "01", "2024"));
+
+        indexService.invalidateAssessmentDuplicates(fileset.getIncomingFilesetID());
+        assertTrue(indexService.hasDuplicateAssessmentSession(fileset, "123456789", "LTE10", "01", "2024"));
+        verify(assessmentStudentRepository, times(2)).findDuplicateAssessmentSessions(any());
+        verify(assessmentStudentRepository, times(2)).findDuplicateNumeracySessions(any(), anyList());
+    }
+
+    private IncomingFilesetEntity createFileset() {
+        var fileset = new IncomingFilesetEntity();
+        fileset.setIncomingFilesetID(UUID.randomUUID());
+        fileset.setCrsFileUploadDate(LocalDateTime.now());
+        fileset.setXamFileUploadDate(LocalDateTime.now());
+        return fileset;
+    }
+
+    private static List<Object[]> rows(Object[]... rows) {
+        return new ArrayList<>(List.of(rows));
+    }
+}
@@ -0,0 +1,163 @@
+package ca.bc.gov.educ.graddatacollection.api.service;
+
+import ca.bc.gov.educ.graddatacollection.api.properties.ApplicationProperties;
+import ca.bc.gov.educ.graddatacollection.api.service.v1.FilesetStudentCacheService;
+import ca.bc.gov.educ.graddatacollection.api.service.v1.FilesetStudentCacheService.CachedStudentData;
+import ca.bc.gov.educ.graddatacollection.api.service.v1.FilesetStudentCacheService.Stage;
+import ca.bc.gov.educ.graddatacollection.api.struct.external.grad.v1.GradStudentRecord;
+import ca.bc.gov.educ.graddatacollection.api.struct.external.studentapi.v1.Student;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class FilesetStudentCacheServiceTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private FilesetStudentCacheService cacheService;
+
+    @BeforeEach
+    void setUp() {
+        ApplicationProperties props = mock(ApplicationProperties.class);
+        when(props.getFilesetStudentCacheMaxSize()).thenReturn(100L);
+        when(props.getFilesetStudentCacheExpiryInMinutes()).thenReturn(60L);
+        meterRegistry = new SimpleMeterRegistry();
+        cacheService = new FilesetStudentCacheService(props, meterRegistry);
+    }
+
+    @Test
+    void testGetOrLoad_WhenSameStudentInFileset_ShouldLoadOnceAndRecordHits() {
+        UUID filesetID = UUID.randomUUID();
+        AtomicInteger loads = new AtomicInteger();
+
+        for (int i = 0; i < 3; i++) {
+            Student student = cacheService.getOrLoad(filesetID, Stage.DEM, "123456789", CachedStudentData.STUDENT_API_STUDENT, () -> {
+                loads.incrementAndGet();
+                return Student.builder().pen("123456789").build();
+            });
+            assertEquals("123456789", student.getPen());
+        }
+
+        assertEquals(1, loads.get());
+        assertEquals(2.0, meterRegistry.get("gdc.fileset.student.cache.requests").tag("type", "STUDENT_API_STUDENT").tag("result", "hit").counter().count());
+        assertEquals(1.0, meterRegistry.get("gdc.fileset.student.cache.requests").tag("type", "STUDENT_API_STUDENT").tag("result", "miss").counter().count());
+    }
+
+    @Test
+    void testGetOrLoad_WhenStudentNotFound_ShouldCacheNullResult() {
+        UUID filesetID = UUID.randomUUID();
+        AtomicInteger loads = new AtomicInteger();
+
+        for (int i = 0; i < 2; i++) {
+            Student student = cacheService.getOrLoad(filesetID, Stage.DEM, "123456789", CachedStudentData.STUDENT_API_STUDENT, () -> {
+                loads.incrementAndGet();
+                return null;
+            });
+            assertNull(student);
+        }
+
+        assertEquals(1, loads.get());
+    }
+
+    @Test
+    void testEvictGradData_ShouldReloadGradRecordButKeepStudent() {
+        UUID filesetID = UUID.randomUUID();
+        AtomicInteger studentLoads = new AtomicInteger();
+        AtomicInteger gradLoads = new AtomicInteger();
+
+        cacheService.getOrLoad(filesetID, Stage.DEM, "123456789", CachedStudentData.STUDENT_API_STUDENT, () -> Student.builder().pen(String.valueOf(studentLoads.incrementAndGet())).build());
+        cacheService.getOrLoad(filesetID, Stage.DEM, "123456789", CachedStudentData.GRAD_STUDENT_RECORD, () -> { gradLoads.incrementAndGet(); return new GradStudentRecord(); });
+
+        cacheService.evictGradData(filesetID, "123456789");
+
+        cacheService.getOrLoad(filesetID, Stage.DEM, "123456789", CachedStudentData.STUDENT_API_STUDENT, () -> Student.builder().pen(String.valueOf(studentLoads.incrementAndGet())).build());
+        cacheService.getOrLoad(filesetID, Stage.DEM, "123456789", CachedStudentData.GRAD_STUDENT_RECORD, () -> { gradLoads.incrementAndGet(); return new GradStudentRecord(); });
+
+        assertEquals(1, studentLoads.get());
+        assertEquals(2, gradLoads.get());
+    }
+
+    @Test
+    void testGetOrLoad_WhenGradDataCachedInAnEarlierStage_ShouldLoadItAgainInTheNextStage() {
+        UUID filesetID = UUID.randomUUID();
+        AtomicInteger studentLoads = new AtomicInteger();
+
+        cacheService.getOrLoad(filesetID, Stage.DEM, "123456789", CachedStudentData.STUDENT_API_STUDENT, () -> Student.builder().pen(String.valueOf(studentLoads.incrementAndGet())).build());
+        GradStudentRecord demStageRecord = cacheService.getOrLoad(filesetID, Stage.DEM, "123456789", CachedStudentData.GRAD_STUDENT_RECORD, () -> null);
+
+        cacheService.getOrLoad(filesetID, Stage.CRS, "123456789", CachedStudentData.STUDENT_API_STUDENT, () -> Student.builder().pen(String.valueOf(studentLoads.incrementAndGet())).build());
+        GradStudentRecord crsStageRecord = cacheService.getOrLoad(filesetID, Stage.CRS, "123456789", CachedStudentData.GRAD_STUDENT_RECORD, GradStudentRecord::new);
+
+        assertNull(demStageRecord);
+        assertNotNull(crsStageRecord);
+        assertEquals(1, studentLoads.get());
+        assertTrue(cacheService.contains(filesetID, Stage.DEM, "123456789", CachedStudentData.GRAD_STUDENT_RECORD));
+        assertFalse(cacheService.contains(filesetID, Stage.XAM, "123456789", CachedStudentData.GRAD_STUDENT_RECORD));
+    }
+
+    @Test
+    void testGetOrLoad_WhenConcurrentMisses_ShouldLoadOnce() throws Exception {
+        UUID filesetID = UUID.randomUUID();
+        AtomicInteger loads = new AtomicInteger();
+        CountDownLatch loading = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+
+        var first = CompletableFuture.supplyAsync(() -> cacheService.getOrLoad(filesetID, Stage.XAM, "123456789", CachedStudentData.GRAD_STUDENT_RECORD, () -> {
+            loads.incrementAndGet();
+            loading.countDown();
+            try {
+                release.await(5, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return new GradStudentRecord();
+        }));
+        assertTrue(loading.await(5, TimeUnit.SECONDS));
+        var second = CompletableFuture.supplyAsync(() -> cacheService.getOrLoad(filesetID, Stage.XAM, "123456789", CachedStudentData.GRAD_STUDENT_RECORD, () -> {
+            loads.incrementAndGet();
+            return new GradStudentRecord();
+        }));
+        release.countDown();
+
+        assertSame(first.get(5, TimeUnit.SECONDS), second.get(5, TimeUnit.SECONDS));
+        assertEquals(1, loads.get());
+    }
+
+    @Test
+    void testGetOrLoad_WhenLoaderFails_ShouldNotCacheTheFailure() {
+        UUID filesetID = UUID.randomUUID();
+
+        assertThrows(IllegalStateException.class, () -> cacheService.getOrLoad(filesetID, Stage.XAM, "123456789", CachedStudentData.GRAD_STUDENT_RECORD, () -> {
+            throw new IllegalStateException("timeout");
+        }));
+
+        assertFalse(cacheService.contains(filesetID, Stage.XAM, "123456789", CachedStudentData.GRAD_STUDENT_RECORD));
+        assertNotNull(cacheService.getOrLoad(filesetID, Stage.XAM, "123456789", CachedStudentData.GRAD_STUDENT_RECORD, GradStudentRecord::new));
+    }
+
+    @Test
+    void testPurgeFileset_ShouldOnlyDropEntriesOfThatFileset() {
+        UUID filesetID = UUID.randomUUID();
+        UUID otherFilesetID = UUID.randomUUID();
+        AtomicInteger loads = new AtomicInteger();
+
+        cacheService.getOrLoad(filesetID, Stage.DEM, "123456789", CachedStudentData.STUDENT_API_STUDENT, () -> Student.builder().pen(String.valueOf(loads.incrementAndGet())).build());
+        cacheService.getOrLoad(otherFilesetID, Stage.DEM, "123456789", CachedStudentData.STUDENT_API_STUDENT, () -> Student.builder().pen(String.valueOf(loads.incrementAndGet())).build());
+
+        cacheService.purgeFileset(filesetID);
+
+        cacheService.getOrLoad(filesetID, Stage.DEM, "123456789", CachedStudentData.STUDENT_API_STUDENT, () -> Student.builder().pen(String.valueOf(loads.incrementAndGet())).build());
+        cacheService.getOrLoad(otherFilesetID, Stage.DEM, "123456789", CachedStudentData.STUDENT_API_STUDENT, () -> Student.builder().pen(String.valueOf(loads.incrementAndGet())).build());
+
+        assertEquals(3, loads.get());
+    }
+}
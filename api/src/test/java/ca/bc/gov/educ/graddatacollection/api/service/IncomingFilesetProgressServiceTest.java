@@ -0,0 +1,129 @@
+package ca.bc.gov.educ.graddatacollection.api.service;
+
+import ca.bc.gov.educ.graddatacollection.api.batch.constants.FileType;
+import ca.bc.gov.educ.graddatacollection.api.model.v1.IncomingFilesetProgressEntity;
+import ca.bc.gov.educ.graddatacollection.api.properties.ApplicationProperties;
+import ca.bc.gov.educ.graddatacollection.api.repository.v1.IncomingFilesetProgressRepository;
+import ca.bc.gov.educ.graddatacollection.api.service.v1.IncomingFilesetProgressService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.*;
+
+class IncomingFilesetProgressServiceTest {
+
+    private IncomingFilesetProgressRepository repository;
+    private PlatformTransactionManager transactionManager;
+    private IncomingFilesetProgressService progressService;
+
+    @BeforeEach
+    void setUp() {
+        repository = mock(IncomingFilesetProgressRepository.class);
+        transactionManager = mock(PlatformTransactionManager.class);
+        var props = mock(ApplicationProperties.class);
+        when(props.getFilesetProgressFlushDelayMs()).thenReturn(60_000L);
+        when(repository.save(any(IncomingFilesetProgressEntity.class))).thenAnswer(invocation -> invocation.getArgument(0));
+        progressService = new IncomingFilesetProgressService(repository, transactionManager, props);
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+        progressService.shutdown();
+    }
+
+    @Test
+    void testRecount_ShouldGroupStatusesIntoLoadedInProgressAndDone() {
+        UUID filesetID = UUID.randomUUID();
+        when(repository.findById(filesetID)).thenReturn(Optional.of(IncomingFilesetProgressEntity.builder().incomingFilesetID(filesetID).build()));
+        when(repository.countDemStudentsByStatus(filesetID)).thenReturn(List.of(new Object[]{"LOADED", 3L}, new Object[]{"VERIFIED", 2L}, new Object[]{"ERROR", 1L}));
+        when(repository.countXamStudentsByStatus(filesetID)).thenReturn(List.<Object[]>of(new Object[]{"WARNING", 4L}));
+        when(repository.countCrsStudentsByStatus(filesetID)).thenReturn(List.of(new Object[]{"LOADED", 5L}, new Object[]{"UPDATE_CRS", 6L}, new Object[]{"VERIFIED", 7L}));
+
+        var progress = progressService.recount(filesetID);
+
+        verify(repository).insertIgnoreConflict(filesetID);
+        assertEquals(filesetID, progress.getIncomingFilesetID());
+        assertEquals(3, progress.getDemLoadedCount());
+        assertEquals(3, progress.getDemDoneCount());
+        assertEquals(0, progress.getXamLoadedCount());
+        assertEquals(4, progress.getXamDoneCount());
+        assertEquals(5, progress.getCrsLoadedCount());
+        assertEquals(6, progress.getCrsInProgressCount());
+        assertEquals(7, progress.getCrsDoneCount());
+    }
+
+    @Test
+    void testRecordStatusChange_ShouldMoveRecordsBetweenCounters() {
+        UUID filesetID = UUID.randomUUID();
+        when(repository.addDemCounts(any(), anyLong(), anyLong())).thenReturn(1);
+        when(repository.addCrsCounts(any(), anyLong(), anyLong(), anyLong())).thenReturn(1);
+
+        progressService.recordStatusChange(filesetID, FileType.DEM, "LOADED", "ERROR", 1);
+        progressService.recordStatusChange(filesetID, FileType.CRS, "LOADED", "UPDATE_CRS", 1);
+        progressService.recordStatusChange(filesetID, FileType.CRS, "UPDATE_CRS", "VERIFIED", 4);
+        progressService.recordStatusChange(filesetID, FileType.XAM, "VERIFIED", "WARNING", 1);
+        verifyNoInteractions(transactionManager);
+
+        progressService.flushPendingChanges();
+
+        verify(repository).addDemCounts(filesetID, -1, 1);
+        verify(repository).addCrsCounts(filesetID, -1, -3, 4);
+        verify(repository, never()).addXamCounts(any(), anyLong(), anyLong());
+        verify(transactionManager).commit(any());
+    }
+
+    @Test
+    void testRecordStatusChange_WhenTransactionActive_ShouldApplyOnlyAfterCommit() {
+        UUID filesetID = UUID.randomUUID();
+        TransactionSynchronizationManager.initSynchronization();
+
+        progressService.recordStatusChange(filesetID, FileType.XAM, "LOADED", "VERIFIED", 1);
+        progressService.flushPendingChanges();
+        verify(repository, never()).addXamCounts(any(), anyLong(), anyLong());
+
+        TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+        progressService.flushPendingChanges();
+        verify(repository).addXamCounts(filesetID, -1, 1);
+    }
+
+    @Test
+    void testRecount_ShouldDropPendingChangesOfTheFileset() {
+        UUID filesetID = UUID.randomUUID();
+        UUID otherFilesetID = UUID.randomUUID();
+        when(repository.findById(filesetID)).thenReturn(Optional.of(IncomingFilesetProgressEntity.builder().incomingFilesetID(filesetID).build()));
+        progressService.recordStatusChange(filesetID, FileType.DEM, "LOADED", "VERIFIED", 1);
+        progressService.recordStatusChange(otherFilesetID, FileType.DEM, "LOADED", "VERIFIED", 1);
+
+        progressService.recount(filesetID);
+        progressService.flushPendingChanges();
+
+        verify(repository, never()).addDemCounts(eq(filesetID), anyLong(), anyLong());
+        verify(repository).addDemCounts(otherFilesetID, -1, 1);
+    }
+
+    @Test
+    void testFlushPendingChanges_WhenUpdateFails_ShouldKeepChangesForNextFlush() {
+        UUID filesetID = UUID.randomUUID();
+        when(repository.addDemCounts(any(), anyLong(), anyLong())).thenThrow(new IllegalStateException("lock timeout")).thenReturn(1);
+        progressService.recordStatusChange(filesetID, FileType.DEM, "LOADED", "ERROR", 2);
+
+        progressService.flushPendingChanges();
+        progressService.flushPendingChanges();
+
+        verify(repository, times(2)).addDemCounts(filesetID, -2, 2);
+    }
+}
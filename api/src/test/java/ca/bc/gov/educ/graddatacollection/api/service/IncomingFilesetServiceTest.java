@@ -2,18 +2,27 @@ package ca.bc.gov.educ.graddatacollection.api.service;
 
 import ca.bc.gov.educ.graddatacollection.api.BaseGradDataCollectionAPITest;
 import ca.bc.gov.educ.graddatacollection.api.messaging.MessagePublisher;
+import ca.bc.gov.educ.graddatacollection.api.model.v1.DemographicStudentEntity;
+import ca.bc.gov.educ.graddatacollection.api.model.v1.FinalIncomingFilesetEntity;
 import ca.bc.gov.educ.graddatacollection.api.model.v1.IncomingFilesetEntity;
 import ca.bc.gov.educ.graddatacollection.api.model.v1.IncomingFilesetPurgeEntity;
 import ca.bc.gov.educ.graddatacollection.api.properties.ApplicationProperties;
+import ca.bc.gov.educ.graddatacollection.api.repository.v1.DemographicStudentRepository;
+import ca.bc.gov.educ.graddatacollection.api.repository.v1.FinalDemographicStudentRepository;
+import ca.bc.gov.educ.graddatacollection.api.repository.v1.FinalIncomingFilesetRepository;
 import ca.bc.gov.educ.graddatacollection.api.repository.v1.IncomingFilesetPurgeRepository;
 import ca.bc.gov.educ.graddatacollection.api.repository.v1.IncomingFilesetRepository;
 import ca.bc.gov.educ.graddatacollection.api.repository.v1.ReportingPeriodRepository;
 import ca.bc.gov.educ.graddatacollection.api.rest.RestUtils;
+import ca.bc.gov.educ.graddatacollection.api.service.v1.IncomingFilesetCopyService;
+import ca.bc.gov.educ.graddatacollection.api.service.v1.IncomingFilesetCopyService.StagedTable;
 import ca.bc.gov.educ.graddatacollection.api.service.v1.IncomingFilesetService;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import java.time.LocalDateTime;
 import java.util.List;
@@ -39,11 +48,23 @@ class IncomingFilesetServiceTest extends BaseGradDataCollectionAPITest {
     IncomingFilesetPurgeRepository incomingFilesetPurgeRepository;
     @Autowired
     ReportingPeriodRepository reportingPeriodRepository;
+    @Autowired
+    DemographicStudentRepository demographicStudentRepository;
+    @Autowired
+    PlatformTransactionManager transactionManager;
+    @Autowired
+    IncomingFilesetCopyService incomingFilesetCopyService;
+    @Autowired
+    FinalDemographicStudentRepository finalDemographicStudentRepository;
+    @Autowired
+    FinalIncomingFilesetRepository finalIncomingFilesetRepository;
 
     @BeforeEach
     public void setUp() {
         this.incomingFilesetRepository.deleteAll();
         this.incomingFilesetPurgeRepository.deleteAll();
+        this.finalDemographicStudentRepository.deleteAll();
+        this.finalIncomingFilesetRepository.deleteAll();
         this.reportingPeriodRepository.deleteAll();
     }
 
@@ -102,6 +123,54 @@ class IncomingFilesetServiceTest extends BaseGradDataCollectionAPITest {
         verify(messagePublisher, times(1)).dispatchMessage(any(String.class), any(byte[].class));
     }
 
+    @Test
+    void testSaveIncomingFilesetRecord_WithStudents_ShouldBulkLoadThemIntoTheStagingTable() {
+        var reportingPeriod = reportingPeriodRepository.save(createMockReportingPeriodEntity());
+        var mockFileset = this.createMockIncomingFilesetEntityWithDEMFile(UUID.randomUUID(), reportingPeriod);
+        var firstStudent = createMockDemographicStudent(mockFileset);
+        var secondStudent = createMockDemographicStudent(mockFileset);
+        secondStudent.setDemographicStudentID(null);
+        secondStudent.setPen("987654321");
+        secondStudent.setLastName("TAB\tAND\\SLASH");
+
+        var savedFileset = new TransactionTemplate(transactionManager).execute(status ->
+                incomingFilesetService.saveIncomingFilesetRecord(mockFileset, DemographicStudentEntity.class, List.of(firstStudent, secondStudent)));
+
+        assertThat(savedFileset).isNotNull();
+        assertThat(secondStudent.getDemographicStudentID()).isNotNull();
+        var loadedStudents = demographicStudentRepository.findAll();
+        assertThat(loadedStudents).hasSize(2);
+        assertThat(loadedStudents).extracting(student -> student.getIncomingFileset().getIncomingFilesetID()).containsOnly(savedFileset.getIncomingFilesetID());
+        assertThat(loadedStudents).extracting(DemographicStudentEntity::getLastName).containsExactlyInAnyOrder("JACKSON", "TAB\tAND\\SLASH");
+    }
+
+    @Test
+    void testCopyFilesetFromStagingToFinal_WhenInterruptedAfterAChunk_ShouldResumeAfterIt() {
+        var reportingPeriod = reportingPeriodRepository.save(createMockReportingPeriodEntity());
+        var mockFileset = incomingFilesetRepository.save(this.createMockIncomingFilesetEntityWithAllFilesLoaded(reportingPeriod));
+        for (int i = 0; i < 3; i++) {
+            mockFileset.getDemographicStudentEntities().add(createMockDemographicStudent(mockFileset));
+        }
+        var incomingFilesetID = incomingFilesetRepository.save(mockFileset).getIncomingFilesetID();
+
+        var chunkSize = applicationProperties.getFilesetCopyChunkSize();
+        applicationProperties.setFilesetCopyChunkSize(2);
+        try {
+            incomingFilesetCopyService.startCopy(incomingFilesetID);
+            assertThat(incomingFilesetCopyService.copyNextChunk(incomingFilesetID, StagedTable.DEMOGRAPHIC_STUDENT)).isEqualTo(2);
+            assertThat(finalIncomingFilesetRepository.findById(incomingFilesetID)).get().extracting(FinalIncomingFilesetEntity::getFilesetStatusCode).isEqualTo("COPYING");
+            assertThat(finalIncomingFilesetRepository.findByIncomingFilesetIDAndFilesetStatusCodeNot(incomingFilesetID, "COPYING")).isEmpty();
+
+            incomingFilesetService.copyFilesetFromStagingToFinalAndMarkComplete(incomingFilesetID);
+        } finally {
+            applicationProperties.setFilesetCopyChunkSize(chunkSize);
+        }
+
+        assertThat(finalIncomingFilesetRepository.findById(incomingFilesetID)).get().extracting(FinalIncomingFilesetEntity::getFilesetStatusCode).isEqualTo("COMPLETED");
+        assertThat(finalDemographicStudentRepository.findAll()).hasSize(3);
+        assertThat(incomingFilesetRepository.findById(incomingFilesetID)).get().extracting(IncomingFilesetEntity::getFilesetStatusCode).isEqualTo("COMPLETED");
+    }
+
     private IncomingFilesetEntity setupMockIncomingFileset(boolean allFilesUploaded, LocalDateTime timestamp) {
         var school = this.createMockSchoolTombstone();
         school.setMincode("07965039");
@@ -0,0 +1,166 @@
+package ca.bc.gov.educ.graddatacollection.api.service;
+
+import ca.bc.gov.educ.graddatacollection.api.exception.EntityNotFoundException;
+import ca.bc.gov.educ.graddatacollection.api.model.v1.CourseStudentLightEntity;
+import ca.bc.gov.educ.graddatacollection.api.properties.ApplicationProperties;
+import ca.bc.gov.educ.graddatacollection.api.repository.v1.AssessmentStudentLightRepository;
+import ca.bc.gov.educ.graddatacollection.api.repository.v1.CourseStudentLightRepository;
+import ca.bc.gov.educ.graddatacollection.api.repository.v1.DemographicStudentLightRepository;
+import ca.bc.gov.educ.graddatacollection.api.repository.v1.SagaRepository;
+import ca.bc.gov.educ.graddatacollection.api.rest.RestUtils;
+import ca.bc.gov.educ.graddatacollection.api.service.v1.FilesetStudentCacheService;
+import ca.bc.gov.educ.graddatacollection.api.service.v1.FilesetStudentCacheService.CachedStudentData;
+import ca.bc.gov.educ.graddatacollection.api.service.v1.FilesetStudentCacheService.Stage;
+import ca.bc.gov.educ.graddatacollection.api.service.v1.StudentBatchPrefetchService;
+import ca.bc.gov.educ.graddatacollection.api.struct.external.grad.v1.GradStudentRecord;
+import ca.bc.gov.educ.graddatacollection.api.struct.external.studentapi.v1.Student;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+class StudentBatchPrefetchServiceTest {
+
+    private RestUtils restUtils;
+    private ApplicationProperties props;
+    private CourseStudentLightRepository courseStudentLightRepository;
+    private SagaRepository sagaRepository;
+    private FilesetStudentCacheService cacheService;
+    private StudentBatchPrefetchService prefetchService;
+
+    @BeforeEach
+    void setUp() {
+        restUtils = mock(RestUtils.class);
+        props = mock(ApplicationProperties.class);
+        when(props.getFilesetStudentCacheMaxSize()).thenReturn(100L);
+        when(props.getFilesetStudentCacheExpiryInMinutes()).thenReturn(60L);
+        when(props.getStudentPenLookupBatchSize()).thenReturn(50);
+        when(props.getStudentBatchPrefetchEnabled()).thenReturn(true);
+        when(props.getStudentBatchPrefetchConcurrency()).thenReturn(4);
+        cacheService = new FilesetStudentCacheService(props, new SimpleMeterRegistry());
+        courseStudentLightRepository = mock(CourseStudentLightRepository.class);
+        sagaRepository = mock(SagaRepository.class);
+        prefetchService = new StudentBatchPrefetchService(restUtils, cacheService, mock(DemographicStudentLightRepository.class), mock(AssessmentStudentLightRepository.class), courseStudentLightRepository, sagaRepository, props);
+    }
+
+    @Test
+    void testPrefetch_WhenCourseBatch_ShouldResolvePensInOneRequestAndStageResults() {
+        UUID filesetID = UUID.randomUUID();
+        String studentID = UUID.randomUUID().toString();
+        when(restUtils.getStudentsByPENs(any(UUID.class), anyCollection())).thenReturn(Map.of("123456789", Student.builder().pen("123456789").studentID(studentID).build()));
+        when(restUtils.getGradStudentRecordByStudentID(any(UUID.class), any(UUID.class))).thenReturn(new GradStudentRecord());
+        when(restUtils.getGradStudentCoursesByStudentID(any(UUID.class), anyString())).thenReturn(new ArrayList<>());
+
+        prefetchService.prefetch(filesetID, Stage.CRS, List.of("123456789", "123456789", "987654321", ""));
+
+        verify(restUtils, times(1)).getStudentsByPENs(any(UUID.class), eq(List.of("123456789", "987654321")));
+        verify(restUtils, times(1)).getGradStudentRecordByStudentID(any(UUID.class), eq(UUID.fromString(studentID)));
+        verify(restUtils, times(1)).getGradStudentCoursesByStudentID(any(UUID.class), eq(studentID));
+        assertTrue(cacheService.contains(filesetID, Stage.CRS, "123456789", CachedStudentData.GRAD_STUDENT_RECORD));
+        assertTrue(cacheService.contains(filesetID, Stage.CRS, "123456789", CachedStudentData.GRAD_STUDENT_COURSES));
+        assertTrue(cacheService.contains(filesetID, null, "987654321", CachedStudentData.STUDENT_API_STUDENT));
+        assertFalse(cacheService.contains(filesetID, Stage.CRS, "987654321", CachedStudentData.GRAD_STUDENT_RECORD));
+        assertNull(cacheService.getOrLoad(filesetID, null, "987654321", CachedStudentData.STUDENT_API_STUDENT, () -> fail("should be served from the cache")));
+    }
+
+    @Test
+    void testPrefetch_WhenGradRecordNotFound_ShouldCacheNotFound() {
+        UUID filesetID = UUID.randomUUID();
+        when(restUtils.getStudentsByPENs(any(UUID.class), anyCollection())).thenReturn(Map.of("123456789", Student.builder().pen("123456789").studentID(UUID.randomUUID().toString()).build()));
+        when(restUtils.getGradStudentRecordByStudentID(any(UUID.class), any(UUID.class))).thenThrow(new EntityNotFoundException(GradStudentRecord.class));
+
+        prefetchService.prefetch(filesetID, Stage.XAM, List.of("123456789"));
+
+        assertTrue(cacheService.contains(filesetID, Stage.XAM, "123456789", CachedStudentData.GRAD_STUDENT_RECORD));
+        assertFalse(cacheService.contains(filesetID, Stage.XAM, "123456789", CachedStudentData.GRAD_STUDENT_COURSES));
+        verify(restUtils, never()).getGradStudentCoursesByStudentID(any(UUID.class), anyString());
+    }
+
+    @Test
+    void testPrefetch_WhenStudentApiFails_ShouldLeaveLookupsToTheRules() {
+        UUID filesetID = UUID.randomUUID();
+        when(restUtils.getStudentsByPENs(any(UUID.class), anyCollection())).thenThrow(new RuntimeException("NATS timeout"));
+
+        prefetchService.prefetch(filesetID, Stage.CRS, List.of("123456789"));
+
+        assertFalse(cacheService.contains(filesetID, null, "123456789", CachedStudentData.STUDENT_API_STUDENT));
+        verify(restUtils, never()).getGradStudentRecordByStudentID(any(UUID.class), any(UUID.class));
+    }
+
+    @Test
+    void testPrefetch_WhenDemBatch_ShouldOnlyResolveStudents() {
+        UUID filesetID = UUID.randomUUID();
+        when(restUtils.getStudentsByPENs(any(UUID.class), anyCollection())).thenReturn(Map.of("123456789", Student.builder().pen("123456789").studentID(UUID.randomUUID().toString()).build()));
+
+        prefetchService.prefetch(filesetID, Stage.DEM, List.of("123456789"));
+
+        assertTrue(cacheService.contains(filesetID, null, "123456789", CachedStudentData.STUDENT_API_STUDENT));
+        assertFalse(cacheService.contains(filesetID, Stage.DEM, "123456789", CachedStudentData.GRAD_STUDENT_RECORD));
+        verify(restUtils, never()).getGradStudentRecordByStudentID(any(UUID.class), any(UUID.class));
+    }
+
+    @Test
+    void testPrefetch_WhenDemSagasStillRunning_ShouldNotPrefetchGradData() {
+        UUID filesetID = UUID.randomUUID();
+        when(restUtils.getStudentsByPENs(any(UUID.class), anyCollection())).thenReturn(Map.of("123456789", Student.builder().pen("123456789").studentID(UUID.randomUUID().toString()).build()));
+        when(sagaRepository.countAllByIncomingFilesetIDAndSagaNameAndStatusIn(eq(filesetID), eq("PROCESS_DEM_STUDENTS_SAGA"), anyList())).thenReturn(1L);
+
+        prefetchService.prefetch(filesetID, Stage.XAM, List.of("123456789"));
+
+        assertTrue(cacheService.contains(filesetID, null, "123456789", CachedStudentData.STUDENT_API_STUDENT));
+        assertFalse(cacheService.contains(filesetID, Stage.XAM, "123456789", CachedStudentData.GRAD_STUDENT_RECORD));
+        verify(restUtils, never()).getGradStudentRecordByStudentID(any(UUID.class), any(UUID.class));
+    }
+
+    @Test
+    void testPrefetchAsync_WhenCourseBatch_ShouldReadPensAndPrefetchOffTheCallingThread() throws Exception {
+        UUID filesetID = UUID.randomUUID();
+        UUID courseStudentID = UUID.randomUUID();
+        String studentID = UUID.randomUUID().toString();
+        Thread caller = Thread.currentThread();
+        CourseStudentLightEntity courseStudent = new CourseStudentLightEntity();
+        courseStudent.setPen("123456789");
+        when(courseStudentLightRepository.findAllById(List.of(courseStudentID))).thenReturn(List.of(courseStudent));
+        when(restUtils.getStudentsByPENs(any(UUID.class), anyCollection())).thenAnswer(invocation -> {
+            assertNotSame(caller, Thread.currentThread());
+            return Map.of("123456789", Student.builder().pen("123456789").studentID(studentID).build());
+        });
+        when(restUtils.getGradStudentRecordByStudentID(any(UUID.class), any(UUID.class))).thenReturn(new GradStudentRecord());
+        when(restUtils.getGradStudentCoursesByStudentID(any(UUID.class), anyString())).thenReturn(new ArrayList<>());
+
+        prefetchService.prefetchAsync(filesetID, Stage.CRS, List.of(courseStudentID)).get(5, TimeUnit.SECONDS);
+
+        assertTrue(cacheService.contains(filesetID, Stage.CRS, "123456789", CachedStudentData.GRAD_STUDENT_RECORD));
+        assertTrue(cacheService.contains(filesetID, Stage.CRS, "123456789", CachedStudentData.GRAD_STUDENT_COURSES));
+    }
+
+    @Test
+    void testPrefetchAsync_WhenShutDown_ShouldNotCallOut() throws Exception {
+        prefetchService.shutdown();
+
+        prefetchService.prefetchAsync(UUID.randomUUID(), Stage.CRS, List.of(UUID.randomUUID())).get(5, TimeUnit.SECONDS);
+
+        verifyNoInteractions(restUtils, courseStudentLightRepository);
+    }
+
+    @Test
+    void testPrefetch_WhenDisabled_ShouldNotCallOut() {
+        when(props.getStudentBatchPrefetchEnabled()).thenReturn(false);
+
+        prefetchService.prefetch(UUID.randomUUID(), Stage.CRS, List.of("123456789"));
+
+        verifyNoInteractions(restUtils);
+    }
+}
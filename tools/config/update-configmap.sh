@@ -191,10 +191,51 @@ SCHEDULED_JOBS_SETUP_REPORTING_PERIOD_CRON_LOCK_AT_MOST_FOR="1900ms"
 MAXIMUM_DB_POOL_SIZE=25
 MINIMUM_IDLE_DB_POOL_SIZE=15
 NUMBER_OF_STUDENTS_TO_PROCESS_SAGA=300
+FILESET_PROGRESS_FLUSH_DELAY_MS=500
+JETSTREAM_CONSUMER_MODE="push"
+STUDENT_PEN_LOOKUP_BATCH_SIZE=50
+STUDENT_PEN_LOOKUP_BATCH_WAIT_MS=25
+FILESET_STUDENT_CACHE_MAX_SIZE=20000
+FILESET_STUDENT_CACHE_EXPIRY_IN_MINUTES=120
+SAGA_COMPLETION_PACING_MAX_RATE=50
+SAGA_COMPLETION_PACING_MIN_RATE=2
+SAGA_COMPLETION_PACING_SATURATION_THRESHOLD=0.8
+NUMBER_OF_FILESETS_TO_PROCESS_CONCURRENTLY=5
+RULES_CONCURRENT_LOOKUPS_ENABLED="true"
+FILESET_DUPLICATE_INDEX_MAX_SIZE=50
+STUDENT_BATCH_PREFETCH_ENABLED="true"
+STUDENT_BATCH_PREFETCH_CONCURRENCY=10
+SAGA_CREATION_BATCH_ENABLED="true"
+FILESET_PROGRESS_EVENT_DRIVEN_ENABLED="true"
+FILESET_PROGRESS_DEBOUNCE_MS=2000
+NATS_REQUEST_TIMEOUT_MS=30000
+NATS_REQUEST_MAX_ATTEMPTS=3
+NATS_REQUEST_RETRY_BACKOFF_MS=2000
+NATS_REQUEST_MAX_IN_FLIGHT_PER_TOPIC=100
+JETSTREAM_SUBSCRIBER_WORKERS=8
+JETSTREAM_PULL_BATCH_SIZE=50
+JETSTREAM_PULL_MAX_WAIT_MS=1000
+JETSTREAM_PULL_ACK_WAIT_MS=300000
+JETSTREAM_PULL_ERROR_BACKOFF_MS=1000
+JETSTREAM_PULL_ERROR_BACKOFF_MAX_MS=30000
+JETSTREAM_STREAM_MAX_MESSAGES=10000
+JETSTREAM_STREAM_MAX_BYTES=-1
+JETSTREAM_STREAM_MAX_AGE_IN_MINUTES=0
+STAGED_STUDENT_BULK_INSERT_BATCH_SIZE=1000
+FILESET_COPY_CHUNK_SIZE=5000
+METRICS_RULE_TIMERS_ENABLED="true"
+METRICS_SAGA_STEP_TIMERS_ENABLED="true"
+METRICS_NATS_REQUEST_TIMERS_ENABLED="true"
+METRICS_RULE_EXECUTION_HISTOGRAM_ENABLED="true"
+METRICS_SAGA_STEP_HISTOGRAM_ENABLED="true"
+METRICS_NATS_REQUEST_HISTOGRAM_ENABLED="true"
+METRICS_RULE_EXECUTION_MAX_EXPECTED_VALUE="5s"
+METRICS_SAGA_STEP_MAX_EXPECTED_VALUE="60s"
+METRICS_NATS_REQUEST_MAX_EXPECTED_VALUE="60s"
 
 echo
 echo Creating config map "$APP_NAME"-config-map
-oc create -n "$OPENSHIFT_NAMESPACE"-"$envValue" configmap "$APP_NAME"-config-map --from-literal=TZ=$TZVALUE --from-literal=EDX_URL="$EDX_URL" --from-literal=GRAD_COURSE_API_URL="http://educ-grad-course-api.$GRAD_NAMESPACE-$envValue.svc.cluster.local:8080/api/v1/course" --from-literal=GRAD_PROGRAM_API_URL="http://educ-grad-program-api.$GRAD_NAMESPACE-$envValue.svc.cluster.local:8080/api/v1/program" --from-literal=GRAD_STUDENT_API_URL="http://educ-grad-student-api.$GRAD_NAMESPACE-$envValue.svc.cluster.local:8080/api/v1/student" --from-literal=GRAD_STUDENT_GRADUATION_API_URL="http://educ-grad-student-graduation-api.$GRAD_NAMESPACE-$envValue.svc.cluster.local:8080/api/v1/studentgraduation/lgSc" --from-literal=SCHOLARSHIPS_API_URL="http://scholarships-api-master.$OPENSHIFT_NAMESPACE-$envValue.svc.cluster.local:8080/api/v1/scholarships" --from-literal=STUDENT_API_URL="http://student-api-master.$COMMON_NAMESPACE-$envValue.svc.cluster.local:8080/api/v1/student" --from-literal=COREG_API_URL="http://coreg-api-master.$COREG_NAMESPACE-$envValue.svc.cluster.local:8080/api/v1/course/information" --from-literal=CHES_CLIENT_ID="$CHES_CLIENT_ID" --from-literal=CHES_CLIENT_SECRET="$CHES_CLIENT_SECRET" --from-literal=CHES_TOKEN_URL="$CHES_TOKEN_URL" --from-literal=CHES_ENDPOINT_URL="$CHES_ENDPOINT_URL" --from-literal=JDBC_URL="$DB_JDBC_CONNECT_STRING" --from-literal=PURGE_RECORDS_SAGA_AFTER_DAYS=2 --from-literal=SCHEDULED_JOBS_PURGE_OLD_SAGA_RECORDS_CRON="0 */7 * * * *" --from-literal=DB_USERNAME="$DB_USER" --from-literal=DB_PASSWORD="$DB_PWD" --from-literal=KEYCLOAK_PUBLIC_KEY="$soamFullPublicKey" --from-literal=SPRING_SECURITY_LOG_LEVEL=INFO --from-literal=SPRING_WEB_LOG_LEVEL=INFO --from-literal=APP_LOG_LEVEL=INFO --from-literal=SPRING_BOOT_AUTOCONFIG_LOG_LEVEL=INFO --from-literal=SPRING_SHOW_REQUEST_DETAILS=false --from-literal=SPRING_JPA_SHOW_SQL="false" --from-literal=TOKEN_ISSUER_URL="https://$SOAM_KC/auth/realms/$SOAM_KC_REALM_ID" --from-literal=NATS_MAX_RECONNECT=60 --from-literal=NATS_URL=$NATS_URL --from-literal=CLIENT_ID="grad-data-collection-api-service" --from-literal=CLIENT_SECRET="$GRAD_APIServiceClientSecret" --from-literal=THREADS_MIN_SUBSCRIBER="$THREADS_MIN_SUBSCRIBER" --from-literal=THREADS_MAX_SUBSCRIBER="$THREADS_MAX_SUBSCRIBER" --from-literal=SAGAS_MAX_PENDING="$SAGAS_MAX_PENDING" --from-literal=SAGAS_MAX_PARALLEL="$SAGAS_MAX_PARALLEL" --from-literal=TOKEN_URL="https://$SOAM_KC/auth/realms/$SOAM_KC_REALM_ID/protocol/openid-connect/token" --from-literal=SCHEDULED_JOBS_EXTRACT_UNCOMPLETED_SAGAS_CRON="$SCHEDULED_JOBS_EXTRACT_UNCOMPLETED_SAGAS_CRON" --from-literal=SCHEDULED_JOBS_EXTRACT_UNCOMPLETED_SAGAS_CRON_LOCK_AT_LEAST_FOR="$SCHEDULED_JOBS_EXTRACT_UNCOMPLETED_SAGAS_CRON_LOCK_AT_LEAST_FOR" --from-literal=SCHEDULED_JOBS_EXTRACT_UNCOMPLETED_SAGAS_CRON_LOCK_AT_MOST_FOR="$SCHEDULED_JOBS_EXTRACT_UNCOMPLETED_SAGAS_CRON_LOCK_AT_MOST_FOR" --from-literal=SCHEDULED_JOBS_PROCESS_LOADED_GRAD_STUDENTS_CRON="$SCHEDULED_JOBS_PROCESS_LOADED_GRAD_STUDENTS_CRON" --from-literal=SCHEDULED_JOBS_PROCESS_LOADED_GRAD_STUDENTS_CRON_LOCK_AT_LEAST_FOR="$SCHEDULED_JOBS_PROCESS_LOADED_GRAD_STUDENTS_CRON_LOCK_AT_LEAST_FOR" --from-literal=SCHEDULED_JOBS_PROCESS_LOADED_GRAD_STUDENTS_CRON_LOCK_AT_MOST_FOR="$SCHEDULED_JOBS_PROCESS_LOADED_GRAD_STUDENTS_CRON_LOCK_AT_MOST_FOR" --from-literal=INCOMING_FILESET_STALE_IN_MINUTES="$INCOMING_FILESET_STALE_IN_MINUTES" --from-literal=CRON_SCHEDULED_PROCESS_EVENTS_STAN="0 0/5 * * * *" --from-literal=CRON_SCHEDULED_PROCESS_EVENTS_STAN_LOCK_AT_LEAST_FOR="PT4M" --from-literal=CRON_SCHEDULED_PROCESS_EVENTS_STAN_LOCK_AT_MOST_FOR="PT4M" --from-literal=SCHEDULED_JOBS_PURGE_STALE_INCOMING_FILESETS_CRON="$SCHEDULED_JOBS_PURGE_STALE_INCOMING_FILESETS_CRON" --from-literal=SCHEDULED_JOBS_PURGE_STALE_INCOMING_FILESETS_CRON_LOCK_AT_LEAST_FOR="$SCHEDULED_JOBS_PURGE_STALE_INCOMING_FILESETS_CRON_LOCK_AT_LEAST_FOR" --from-literal=SCHEDULED_JOBS_PURGE_STALE_INCOMING_FILESETS_CRON_LOCK_AT_MOST_FOR="$SCHEDULED_JOBS_PURGE_STALE_INCOMING_FILESETS_CRON_LOCK_AT_MOST_FOR" --from-literal=INSTITUTE_API_URL="http://institute-api-master.$COMMON_NAMESPACE-$envValue.svc.cluster.local:8080/api/v1/institute" --from-literal=GRAD_SCHOOL_API_URL="http://grad-school-api-master.$OPENSHIFT_NAMESPACE-$envValue.svc.cluster.local:8080/api/v1/grad-school" --from-literal=NUMBER_OF_STUDENTS_TO_PROCESS_SAGA="$NUMBER_OF_STUDENTS_TO_PROCESS_SAGA" --from-literal=MAXIMUM_DB_POOL_SIZE="$MAXIMUM_DB_POOL_SIZE" --from-literal=MINIMUM_IDLE_DB_POOL_SIZE="$MINIMUM_IDLE_DB_POOL_SIZE" --from-literal=SCHEDULED_JOBS_SETUP_REPORTING_PERIOD_CRON="$SCHEDULED_JOBS_SETUP_REPORTING_PERIOD_CRON" --from-literal=SCHEDULED_JOBS_SETUP_REPORTING_PERIOD_CRON_LOCK_AT_LEAST_FOR="$SCHEDULED_JOBS_SETUP_REPORTING_PERIOD_CRON_LOCK_AT_LEAST_FOR" --from-literal=SCHEDULED_JOBS_SETUP_REPORTING_PERIOD_CRON_LOCK_AT_MOST_FOR="$SCHEDULED_JOBS_SETUP_REPORTING_PERIOD_CRON_LOCK_AT_MOST_FOR" --dry-run -o yaml | oc apply -f -
+oc create -n "$OPENSHIFT_NAMESPACE"-"$envValue" configmap "$APP_NAME"-config-map --from-literal=TZ=$TZVALUE --from-literal=EDX_URL="$EDX_URL" --from-literal=GRAD_COURSE_API_URL="http://educ-grad-course-api.$GRAD_NAMESPACE-$envValue.svc.cluster.local:8080/api/v1/course" --from-literal=GRAD_PROGRAM_API_URL="http://educ-grad-program-api.$GRAD_NAMESPACE-$envValue.svc.cluster.local:8080/api/v1/program" --from-literal=GRAD_STUDENT_API_URL="http://educ-grad-student-api.$GRAD_NAMESPACE-$envValue.svc.cluster.local:8080/api/v1/student" --from-literal=GRAD_STUDENT_GRADUATION_API_URL="http://educ-grad-student-graduation-api.$GRAD_NAMESPACE-$envValue.svc.cluster.local:8080/api/v1/studentgraduation/lgSc" --from-literal=SCHOLARSHIPS_API_URL="http://scholarships-api-master.$OPENSHIFT_NAMESPACE-$envValue.svc.cluster.local:8080/api/v1/scholarships" --from-literal=STUDENT_API_URL="http://student-api-master.$COMMON_NAMESPACE-$envValue.svc.cluster.local:8080/api/v1/student" --from-literal=COREG_API_URL="http://coreg-api-master.$COREG_NAMESPACE-$envValue.svc.cluster.local:8080/api/v1/course/information" --from-literal=CHES_CLIENT_ID="$CHES_CLIENT_ID" --from-literal=CHES_CLIENT_SECRET="$CHES_CLIENT_SECRET" --from-literal=CHES_TOKEN_URL="$CHES_TOKEN_URL" --from-literal=CHES_ENDPOINT_URL="$CHES_ENDPOINT_URL" --from-literal=JDBC_URL="$DB_JDBC_CONNECT_STRING" --from-literal=PURGE_RECORDS_SAGA_AFTER_DAYS=2 --from-literal=SCHEDULED_JOBS_PURGE_OLD_SAGA_RECORDS_CRON="0 */7 * * * *" --from-literal=DB_USERNAME="$DB_USER" --from-literal=DB_PASSWORD="$DB_PWD" --from-literal=KEYCLOAK_PUBLIC_KEY="$soamFullPublicKey" --from-literal=SPRING_SECURITY_LOG_LEVEL=INFO --from-literal=SPRING_WEB_LOG_LEVEL=INFO --from-literal=APP_LOG_LEVEL=INFO --from-literal=SPRING_BOOT_AUTOCONFIG_LOG_LEVEL=INFO --from-literal=SPRING_SHOW_REQUEST_DETAILS=false --from-literal=SPRING_JPA_SHOW_SQL="false" --from-literal=TOKEN_ISSUER_URL="https://$SOAM_KC/auth/realms/$SOAM_KC_REALM_ID" --from-literal=NATS_MAX_RECONNECT=60 --from-literal=NATS_URL=$NATS_URL --from-literal=CLIENT_ID="grad-data-collection-api-service" --from-literal=CLIENT_SECRET="$GRAD_APIServiceClientSecret" --from-literal=THREADS_MIN_SUBSCRIBER="$THREADS_MIN_SUBSCRIBER" --from-literal=THREADS_MAX_SUBSCRIBER="$THREADS_MAX_SUBSCRIBER" --from-literal=SAGAS_MAX_PENDING="$SAGAS_MAX_PENDING" --from-literal=SAGAS_MAX_PARALLEL="$SAGAS_MAX_PARALLEL" --from-literal=TOKEN_URL="https://$SOAM_KC/auth/realms/$SOAM_KC_REALM_ID/protocol/openid-connect/token" --from-literal=SCHEDULED_JOBS_EXTRACT_UNCOMPLETED_SAGAS_CRON="$SCHEDULED_JOBS_EXTRACT_UNCOMPLETED_SAGAS_CRON" --from-literal=SCHEDULED_JOBS_EXTRACT_UNCOMPLETED_SAGAS_CRON_LOCK_AT_LEAST_FOR="$SCHEDULED_JOBS_EXTRACT_UNCOMPLETED_SAGAS_CRON_LOCK_AT_LEAST_FOR" --from-literal=SCHEDULED_JOBS_EXTRACT_UNCOMPLETED_SAGAS_CRON_LOCK_AT_MOST_FOR="$SCHEDULED_JOBS_EXTRACT_UNCOMPLETED_SAGAS_CRON_LOCK_AT_MOST_FOR" --from-literal=SCHEDULED_JOBS_PROCESS_LOADED_GRAD_STUDENTS_CRON="$SCHEDULED_JOBS_PROCESS_LOADED_GRAD_STUDENTS_CRON" --from-literal=SCHEDULED_JOBS_PROCESS_LOADED_GRAD_STUDENTS_CRON_LOCK_AT_LEAST_FOR="$SCHEDULED_JOBS_PROCESS_LOADED_GRAD_STUDENTS_CRON_LOCK_AT_LEAST_FOR" --from-literal=SCHEDULED_JOBS_PROCESS_LOADED_GRAD_STUDENTS_CRON_LOCK_AT_MOST_FOR="$SCHEDULED_JOBS_PROCESS_LOADED_GRAD_STUDENTS_CRON_LOCK_AT_MOST_FOR" --from-literal=INCOMING_FILESET_STALE_IN_MINUTES="$INCOMING_FILESET_STALE_IN_MINUTES" --from-literal=CRON_SCHEDULED_PROCESS_EVENTS_STAN="0 0/5 * * * *" --from-literal=CRON_SCHEDULED_PROCESS_EVENTS_STAN_LOCK_AT_LEAST_FOR="PT4M" --from-literal=CRON_SCHEDULED_PROCESS_EVENTS_STAN_LOCK_AT_MOST_FOR="PT4M" --from-literal=SCHEDULED_JOBS_PURGE_STALE_INCOMING_FILESETS_CRON="$SCHEDULED_JOBS_PURGE_STALE_INCOMING_FILESETS_CRON" --from-literal=SCHEDULED_JOBS_PURGE_STALE_INCOMING_FILESETS_CRON_LOCK_AT_LEAST_FOR="$SCHEDULED_JOBS_PURGE_STALE_INCOMING_FILESETS_CRON_LOCK_AT_LEAST_FOR" --from-literal=SCHEDULED_JOBS_PURGE_STALE_INCOMING_FILESETS_CRON_LOCK_AT_MOST_FOR="$SCHEDULED_JOBS_PURGE_STALE_INCOMING_FILESETS_CRON_LOCK_AT_MOST_FOR" --from-literal=INSTITUTE_API_URL="http://institute-api-master.$COMMON_NAMESPACE-$envValue.svc.cluster.local:8080/api/v1/institute" --from-literal=GRAD_SCHOOL_API_URL="http://grad-school-api-master.$OPENSHIFT_NAMESPACE-$envValue.svc.cluster.local:8080/api/v1/grad-school" --from-literal=NUMBER_OF_STUDENTS_TO_PROCESS_SAGA="$NUMBER_OF_STUDENTS_TO_PROCESS_SAGA" --from-literal=MAXIMUM_DB_POOL_SIZE="$MAXIMUM_DB_POOL_SIZE" --from-literal=MINIMUM_IDLE_DB_POOL_SIZE="$MINIMUM_IDLE_DB_POOL_SIZE" --from-literal=SCHEDULED_JOBS_SETUP_REPORTING_PERIOD_CRON="$SCHEDULED_JOBS_SETUP_REPORTING_PERIOD_CRON" --from-literal=SCHEDULED_JOBS_SETUP_REPORTING_PERIOD_CRON_LOCK_AT_LEAST_FOR="$SCHEDULED_JOBS_SETUP_REPORTING_PERIOD_CRON_LOCK_AT_LEAST_FOR" --from-literal=SCHEDULED_JOBS_SETUP_REPORTING_PERIOD_CRON_LOCK_AT_MOST_FOR="$SCHEDULED_JOBS_SETUP_REPORTING_PERIOD_CRON_LOCK_AT_MOST_FOR" --from-literal=FILESET_PROGRESS_FLUSH_DELAY_MS="$FILESET_PROGRESS_FLUSH_DELAY_MS" --from-literal=JETSTREAM_CONSUMER_MODE="$JETSTREAM_CONSUMER_MODE" --from-literal=STUDENT_PEN_LOOKUP_BATCH_SIZE="$STUDENT_PEN_LOOKUP_BATCH_SIZE" --from-literal=STUDENT_PEN_LOOKUP_BATCH_WAIT_MS="$STUDENT_PEN_LOOKUP_BATCH_WAIT_MS" --from-literal=FILESET_STUDENT_CACHE_MAX_SIZE="$FILESET_STUDENT_CACHE_MAX_SIZE" --from-literal=FILESET_STUDENT_CACHE_EXPIRY_IN_MINUTES="$FILESET_STUDENT_CACHE_EXPIRY_IN_MINUTES" --from-literal=SAGA_COMPLETION_PACING_MAX_RATE="$SAGA_COMPLETION_PACING_MAX_RATE" --from-literal=SAGA_COMPLETION_PACING_MIN_RATE="$SAGA_COMPLETION_PACING_MIN_RATE" --from-literal=SAGA_COMPLETION_PACING_SATURATION_THRESHOLD="$SAGA_COMPLETION_PACING_SATURATION_THRESHOLD" --from-literal=NUMBER_OF_FILESETS_TO_PROCESS_CONCURRENTLY="$NUMBER_OF_FILESETS_TO_PROCESS_CONCURRENTLY" --from-literal=RULES_CONCURRENT_LOOKUPS_ENABLED="$RULES_CONCURRENT_LOOKUPS_ENABLED" --from-literal=FILESET_DUPLICATE_INDEX_MAX_SIZE="$FILESET_DUPLICATE_INDEX_MAX_SIZE" --from-literal=STUDENT_BATCH_PREFETCH_ENABLED="$STUDENT_BATCH_PREFETCH_ENABLED" --from-literal=STUDENT_BATCH_PREFETCH_CONCURRENCY="$STUDENT_BATCH_PREFETCH_CONCURRENCY" --from-literal=SAGA_CREATION_BATCH_ENABLED="$SAGA_CREATION_BATCH_ENABLED" --from-literal=FILESET_PROGRESS_EVENT_DRIVEN_ENABLED="$FILESET_PROGRESS_EVENT_DRIVEN_ENABLED" --from-literal=FILESET_PROGRESS_DEBOUNCE_MS="$FILESET_PROGRESS_DEBOUNCE_MS" --from-literal=NATS_REQUEST_TIMEOUT_MS="$NATS_REQUEST_TIMEOUT_MS" --from-literal=NATS_REQUEST_MAX_ATTEMPTS="$NATS_REQUEST_MAX_ATTEMPTS" --from-literal=NATS_REQUEST_RETRY_BACKOFF_MS="$NATS_REQUEST_RETRY_BACKOFF_MS" --from-literal=NATS_REQUEST_MAX_IN_FLIGHT_PER_TOPIC="$NATS_REQUEST_MAX_IN_FLIGHT_PER_TOPIC" --from-literal=JETSTREAM_SUBSCRIBER_WORKERS="$JETSTREAM_SUBSCRIBER_WORKERS" --from-literal=JETSTREAM_PULL_BATCH_SIZE="$JETSTREAM_PULL_BATCH_SIZE" --from-literal=JETSTREAM_PULL_MAX_WAIT_MS="$JETSTREAM_PULL_MAX_WAIT_MS" --from-literal=JETSTREAM_PULL_ACK_WAIT_MS="$JETSTREAM_PULL_ACK_WAIT_MS" --from-literal=JETSTREAM_PULL_ERROR_BACKOFF_MS="$JETSTREAM_PULL_ERROR_BACKOFF_MS" --from-literal=JETSTREAM_PULL_ERROR_BACKOFF_MAX_MS="$JETSTREAM_PULL_ERROR_BACKOFF_MAX_MS" --from-literal=JETSTREAM_STREAM_MAX_MESSAGES="$JETSTREAM_STREAM_MAX_MESSAGES" --from-literal=JETSTREAM_STREAM_MAX_BYTES="$JETSTREAM_STREAM_MAX_BYTES" --from-literal=JETSTREAM_STREAM_MAX_AGE_IN_MINUTES="$JETSTREAM_STREAM_MAX_AGE_IN_MINUTES" --from-literal=STAGED_STUDENT_BULK_INSERT_BATCH_SIZE="$STAGED_STUDENT_BULK_INSERT_BATCH_SIZE" --from-literal=FILESET_COPY_CHUNK_SIZE="$FILESET_COPY_CHUNK_SIZE" --from-literal=METRICS_RULE_TIMERS_ENABLED="$METRICS_RULE_TIMERS_ENABLED" --from-literal=METRICS_SAGA_STEP_TIMERS_ENABLED="$METRICS_SAGA_STEP_TIMERS_ENABLED" --from-literal=METRICS_NATS_REQUEST_TIMERS_ENABLED="$METRICS_NATS_REQUEST_TIMERS_ENABLED" --from-literal=METRICS_RULE_EXECUTION_HISTOGRAM_ENABLED="$METRICS_RULE_EXECUTION_HISTOGRAM_ENABLED" --from-literal=METRICS_SAGA_STEP_HISTOGRAM_ENABLED="$METRICS_SAGA_STEP_HISTOGRAM_ENABLED" --from-literal=METRICS_NATS_REQUEST_HISTOGRAM_ENABLED="$METRICS_NATS_REQUEST_HISTOGRAM_ENABLED" --from-literal=METRICS_RULE_EXECUTION_MAX_EXPECTED_VALUE="$METRICS_RULE_EXECUTION_MAX_EXPECTED_VALUE" --from-literal=METRICS_SAGA_STEP_MAX_EXPECTED_VALUE="$METRICS_SAGA_STEP_MAX_EXPECTED_VALUE" --from-literal=METRICS_NATS_REQUEST_MAX_EXPECTED_VALUE="$METRICS_NATS_REQUEST_MAX_EXPECTED_VALUE" --dry-run -o yaml | oc apply -f -
 
 echo
 echo Setting environment variables for $APP_NAME-$SOAM_KC_REALM_ID application